@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+
+/**
+ * JMH benchmark for {@link Address} and {@link Hash} construction and lookup,
+ * the operations log and receipt parsing performs per field.
+ *
+ * <ul>
+ *   <li>{@code addressFromString} / {@code hashFromString} - parse mixed-case hex</li>
+ *   <li>{@code addressFromBytes} / {@code hashFromBytes} - build from raw bytes</li>
+ *   <li>{@code addressToBytes} - raw bytes of an existing address</li>
+ *   <li>{@code addressMapLookup} - {@link HashMap} lookup with a freshly parsed key</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressHashBenchmark {
+
+    private static final String ADDRESS = "0xA0b86991c6218b36c1d19D4a2e9Eb0cE3606eB48";
+    private static final String HASH = "0xDDF252AD1BE2C89B69C2B068FC378DAA952BA7F163C4A11628F55A4DF523B3EF";
+
+    private byte[] addressBytes;
+    private byte[] hashBytes;
+    private Address address;
+    private Map<Address, Integer> tokens;
+
+    @Setup
+    public void setup() {
+        address = new Address(ADDRESS);
+        addressBytes = address.toBytes();
+        hashBytes = new Hash(HASH).toBytes();
+        tokens = new HashMap<>();
+        for (int i = 0; i < 64; i++) {
+            tokens.put(Address.fromBytes(new byte[] {
+                0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) i}), i);
+        }
+        tokens.put(address.intern(), 64);
+    }
+
+    @Benchmark
+    public Address addressFromString() {
+        return new Address(ADDRESS);
+    }
+
+    @Benchmark
+    public Address addressFromBytes() {
+        return Address.fromBytes(addressBytes);
+    }
+
+    @Benchmark
+    public byte[] addressToBytes() {
+        return address.toBytes();
+    }
+
+    @Benchmark
+    public Hash hashFromString() {
+        return new Hash(HASH);
+    }
+
+    @Benchmark
+    public Hash hashFromBytes() {
+        return Hash.fromBytes(hashBytes);
+    }
+
+    @Benchmark
+    public Integer addressMapLookup() {
+        return tokens.get(Address.fromBytes(addressBytes));
+    }
+}
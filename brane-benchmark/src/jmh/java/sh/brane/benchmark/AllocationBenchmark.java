@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.benchmark;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.*;
@@ -38,6 +40,24 @@ public class AllocationBenchmark {
     /** Pre-allocated byte array for allocation-free hex decoding (32 bytes). */
     public byte[] destBytes;
 
+    /** EIP-4844 blob-sized payload (131072 bytes). */
+    public byte[] blobBytes;
+
+    /** Hex encoding of {@link #blobBytes} with 0x prefix (262146 chars). */
+    public String blobHex;
+
+    /** ASCII bytes of {@link #blobHex}, as read from a JSON or network buffer. */
+    public byte[] blobHexAscii;
+
+    /** Pre-allocated char buffer for blob encoding. */
+    public char[] blobDestChars;
+
+    /** Pre-allocated ASCII buffer for blob encoding. */
+    public byte[] blobDestAscii;
+
+    /** Pre-allocated byte buffer for blob decoding. */
+    public byte[] blobDestBytes;
+
     @Setup(Level.Trial)
     public void setup() {
         // 64-char hex with 0x prefix = 66 chars total, representing 32 bytes
@@ -54,6 +74,15 @@ public class AllocationBenchmark {
 
         // Pre-allocated byte buffer for allocation-free decoding
         destBytes = new byte[32];
+
+        // Blob-sized inputs (128 KiB) to measure bulk throughput
+        blobBytes = new byte[131072];
+        new Random(4844).nextBytes(blobBytes);
+        blobHex = Hex.encode(blobBytes);
+        blobHexAscii = blobHex.getBytes(StandardCharsets.US_ASCII);
+        blobDestChars = new char[blobHex.length()];
+        blobDestAscii = new byte[blobHex.length()];
+        blobDestBytes = new byte[blobBytes.length];
     }
 
     /**
@@ -111,4 +140,85 @@ public class AllocationBenchmark {
     public int hexDecodeTo() {
         return Hex.decodeTo(hexString, 0, hexString.length(), destBytes, 0);
     }
+
+    // ==================== Blob-sized (128 KiB) throughput ====================
+
+    /**
+     * Benchmarks encoding a 128 KiB blob to a hex string with 0x prefix.
+     * Uses the SWAR path, which writes ASCII bytes directly instead of a char[].
+     *
+     * @return the encoded hex string
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public String hexEncodeBlob() {
+        return Hex.encode(blobBytes);
+    }
+
+    /**
+     * Benchmarks encoding a 128 KiB blob into a pre-allocated char[] buffer.
+     *
+     * @return the number of characters written
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int hexEncodeToBlob() {
+        return Hex.encodeTo(blobBytes, blobDestChars, 0, true);
+    }
+
+    /**
+     * Benchmarks encoding a 128 KiB blob into a pre-allocated ASCII byte[] buffer (SWAR).
+     *
+     * <p><b>Expected:</b> 0 B/op.
+     *
+     * @return the number of bytes written
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int hexEncodeAsciiToBlob() {
+        return Hex.encodeAsciiTo(blobBytes, 0, blobBytes.length, blobDestAscii, 0, true);
+    }
+
+    /**
+     * Benchmarks decoding a 262146-character hex string into a new 128 KiB array.
+     *
+     * @return the decoded bytes
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] hexDecodeBlob() {
+        return Hex.decode(blobHex);
+    }
+
+    /**
+     * Benchmarks decoding a blob hex string into a pre-allocated buffer.
+     *
+     * <p><b>Expected:</b> 0 B/op.
+     *
+     * @return the number of bytes written
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int hexDecodeToBlob() {
+        return Hex.decodeTo(blobHex, 0, blobHex.length(), blobDestBytes, 0);
+    }
+
+    /**
+     * Benchmarks decoding blob hex held as ASCII bytes into a pre-allocated buffer (SWAR).
+     *
+     * <p><b>Expected:</b> 0 B/op.
+     *
+     * @return the number of bytes written
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int hexDecodeAsciiToBlob() {
+        return Hex.decodeAsciiTo(blobHexAscii, 0, blobHexAscii.length, blobDestBytes, 0);
+    }
 }
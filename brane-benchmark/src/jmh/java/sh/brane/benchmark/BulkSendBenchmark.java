@@ -0,0 +1,114 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.*;
+
+import sh.brane.core.builder.TxBuilder;
+import sh.brane.core.crypto.PrivateKeySigner;
+import sh.brane.core.model.TransactionRequest;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.Wei;
+import sh.brane.rpc.Brane;
+import sh.brane.rpc.BraneProvider;
+import sh.brane.rpc.JsonRpcRequest;
+import sh.brane.rpc.JsonRpcResponse;
+import sh.brane.rpc.TransactionSubmission;
+
+/**
+ * Benchmarks submitting a batch of transfers against a provider that charges a fixed latency
+ * per round trip, as a remote node would.
+ *
+ * <ul>
+ *   <li>{@code sequential} - one {@code sendTransaction} per transfer, each paying its own fee,
+ *       nonce, estimate and broadcast round trips</li>
+ *   <li>{@code batched} - one {@code sendTransactions} call, sharing the fee and nonce lookups,
+ *       estimating and broadcasting in one batch each, and signing in parallel</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BulkSendBenchmark {
+
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final Address RECIPIENT = new Address("0x70997970C51812dc3A010C7d01b50e0d17dc79C8");
+
+    @Param({"1", "16", "64"})
+    public int transactions;
+
+    private Brane.Signer client;
+    private List<TransactionRequest> requests;
+
+    @Setup
+    public void setup() {
+        client = Brane.builder()
+                .provider(new LatencyProvider())
+                .signer(new PrivateKeySigner("0xac0974bec39a17e36ba4a6b4d238ff944bacb478cbed5efcae784d7bf4f2ff80"))
+                .buildSigner();
+        requests = new ArrayList<>(transactions);
+        for (int i = 0; i < transactions; i++) {
+            requests.add(TxBuilder.eip1559().to(RECIPIENT).value(Wei.of(i + 1)).build());
+        }
+        // Resolve and cache the chain ID outside the measurement
+        client.sendTransaction(requests.get(0));
+    }
+
+    @Benchmark
+    public Hash sequential() {
+        Hash last = null;
+        for (final TransactionRequest request : requests) {
+            last = client.sendTransaction(request);
+        }
+        return last;
+    }
+
+    @Benchmark
+    public List<TransactionSubmission> batched() {
+        return client.sendTransactions(requests);
+    }
+
+    private static final class LatencyProvider implements BraneProvider {
+
+        private static final Map<String, Object> BLOCK = Map.of(
+                "hash", "0x" + "11".repeat(32),
+                "parentHash", "0x" + "22".repeat(32),
+                "number", "0x100",
+                "timestamp", "0x64a7b8c0",
+                "baseFeePerGas", "0x3b9aca00");
+
+        @Override
+        public JsonRpcResponse send(final String method, final List<?> params) {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+            return answer(method);
+        }
+
+        @Override
+        public List<JsonRpcResponse> sendBatch(final List<JsonRpcRequest> requests) {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+            final List<JsonRpcResponse> responses = new ArrayList<>(requests.size());
+            for (final JsonRpcRequest request : requests) {
+                responses.add(answer(request.method()));
+            }
+            return responses;
+        }
+
+        private static JsonRpcResponse answer(final String method) {
+            final Object result = switch (method) {
+                case "eth_chainId" -> "0x1";
+                case "eth_getBlockByNumber" -> BLOCK;
+                case "eth_getTransactionCount" -> "0x0";
+                case "eth_estimateGas" -> "0x5208";
+                case "eth_sendRawTransaction" -> "0x" + "ab".repeat(32);
+                default -> throw new IllegalArgumentException(method);
+            };
+            return new JsonRpcResponse("2.0", result, null, "1");
+        }
+    }
+}
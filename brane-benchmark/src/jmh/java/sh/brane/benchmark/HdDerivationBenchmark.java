@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sh.brane.core.crypto.hd.MnemonicWallet;
+import sh.brane.core.types.Address;
+
+/**
+ * JMH benchmark for HD wallet address derivation throughput (addresses/sec).
+ *
+ * <ul>
+ *   <li>{@code deriveEach} - one {@code derive(i).address()} call per index</li>
+ *   <li>{@code deriveRange} - {@code deriveAddresses} over the same range
+ *       (cached account key, public derivation, parallel chunks)</li>
+ * </ul>
+ *
+ * <p>Scores are per address thanks to {@link OperationsPerInvocation}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HdDerivationBenchmark {
+
+    private static final int RANGE = 4096;
+
+    private MnemonicWallet wallet;
+    private int start;
+
+    @Setup
+    public void setup() {
+        wallet = MnemonicWallet.fromPhrase("test test test test test test test test test test test junk");
+    }
+
+    @TearDown
+    public void tearDown() {
+        wallet.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RANGE)
+    public void deriveEach(Blackhole bh) {
+        int from = nextStart();
+        for (int i = 0; i < RANGE; i++) {
+            bh.consume(wallet.derive(from + i).address());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RANGE)
+    public Address[] deriveRange() {
+        return wallet.deriveAddresses(0, nextStart(), RANGE);
+    }
+
+    private int nextStart() {
+        start += RANGE;
+        return start;
+    }
+}
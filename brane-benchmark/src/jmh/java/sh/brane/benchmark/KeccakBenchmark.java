@@ -0,0 +1,61 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.bouncycastle.jcajce.provider.digest.Keccak;
+import org.openjdk.jmh.annotations.*;
+
+import sh.brane.core.crypto.Keccak256;
+
+/**
+ * JMH benchmark comparing {@link Keccak256} with BouncyCastle's {@code Keccak.Digest256}.
+ *
+ * <ul>
+ *   <li>{@code brane} - {@link Keccak256#hash(byte[])}, allocating the result</li>
+ *   <li>{@code braneInto} - offset API writing into a reused buffer</li>
+ *   <li>{@code bouncyCastle} - a reused BouncyCastle digest, as the previous
+ *       ThreadLocal-backed implementation did</li>
+ * </ul>
+ *
+ * <p>Sizes cover a selector signature (32), a public key (64), a typical
+ * transaction (256) and a multi-block payload (4096).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KeccakBenchmark {
+
+    @Param({"32", "64", "256", "4096"})
+    private int size;
+
+    private byte[] input;
+    private byte[] out;
+    private Keccak.Digest256 digest;
+
+    @Setup
+    public void setup() {
+        input = new byte[size];
+        new Random(1).nextBytes(input);
+        out = new byte[32];
+        digest = new Keccak.Digest256();
+    }
+
+    @Benchmark
+    public byte[] brane() {
+        return Keccak256.hash(input);
+    }
+
+    @Benchmark
+    public byte[] braneInto() {
+        Keccak256.hash(input, 0, input.length, out, 0);
+        return out;
+    }
+
+    @Benchmark
+    public byte[] bouncyCastle() {
+        digest.reset();
+        return digest.digest(input);
+    }
+}
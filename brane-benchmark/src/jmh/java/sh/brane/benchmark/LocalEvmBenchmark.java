@@ -0,0 +1,131 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.evm.BlockContext;
+import sh.brane.evm.LocalEvm;
+import sh.brane.evm.StateSource;
+import sh.brane.rpc.CallRequest;
+
+/**
+ * Benchmarks local {@code eth_call} execution over an in-memory state source.
+ *
+ * <ul>
+ *   <li>{@code balanceOfWarm} - mapping lookup ({@code keccak256} + {@code SLOAD}) with the
+ *       fork cache already filled, the steady state when simulating many calls per block</li>
+ *   <li>{@code balanceOfCold} - the same call on a fresh {@code LocalEvm}, so every account
+ *       field and slot goes through the state source</li>
+ *   <li>{@code countdownLoop} - a 1,000-iteration arithmetic loop, measuring raw interpreter
+ *       dispatch</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LocalEvmBenchmark {
+
+    private static final int HOLDERS = 1024;
+    private static final Address TOKEN = new Address("0x" + "70".repeat(20));
+    private static final Address LOOP = new Address("0x" + "10".repeat(20));
+    private static final BlockContext BLOCK = BlockContext.of(20_000_000, 1_700_000_000L, 1);
+
+    /** balanceOf(address): SLOAD(keccak256(holder . 0)). */
+    private static final String BALANCE_OF = "600435 600052 6000602052 6040600020 54 600052 60206000f3";
+
+    /** Counts down from 1000 to zero. */
+    private static final String COUNTDOWN = "6103e8 5b 6001 90 03 80 6003 57 600052 60206000f3";
+
+    private StateSource source;
+    private LocalEvm evm;
+    private CallRequest[] calls;
+    private CallRequest loopCall;
+    private int next;
+
+    @Setup
+    public void setup() {
+        final Map<BigInteger, BigInteger> balances = new HashMap<>();
+        final Random random = new Random(1);
+        calls = new CallRequest[HOLDERS];
+        for (int i = 0; i < HOLDERS; i++) {
+            final byte[] holder = new byte[20];
+            random.nextBytes(holder);
+            final byte[] calldata = new byte[36];
+            System.arraycopy(new byte[] {0x70, (byte) 0xa0, (byte) 0x82, 0x31}, 0, calldata, 0, 4);
+            System.arraycopy(holder, 0, calldata, 16, 20);
+            calls[i] = CallRequest.of(TOKEN, HexData.fromBytes(calldata));
+
+            final byte[] key = new byte[64];
+            System.arraycopy(holder, 0, key, 12, 20);
+            balances.put(new BigInteger(1, Keccak256.hash(key)), BigInteger.valueOf(i + 1));
+        }
+        source = new MapSource(balances);
+        evm = LocalEvm.of(source, BLOCK);
+        for (final CallRequest call : calls) {
+            evm.call(call);
+        }
+        loopCall = CallRequest.of(LOOP, HexData.EMPTY);
+    }
+
+    @Benchmark
+    public HexData balanceOfWarm() {
+        return evm.call(calls[next++ & (HOLDERS - 1)]);
+    }
+
+    @Benchmark
+    public HexData balanceOfCold() {
+        return LocalEvm.of(source, BLOCK).call(calls[next++ & (HOLDERS - 1)]);
+    }
+
+    @Benchmark
+    public HexData countdownLoop() {
+        return evm.call(loopCall);
+    }
+
+    private static final class MapSource implements StateSource {
+
+        private final Map<BigInteger, BigInteger> balances;
+
+        MapSource(final Map<BigInteger, BigInteger> balances) {
+            this.balances = balances;
+        }
+
+        @Override
+        public BigInteger balance(final Address address) {
+            return BigInteger.ZERO;
+        }
+
+        @Override
+        public long nonce(final Address address) {
+            return 0;
+        }
+
+        @Override
+        public HexData code(final Address address) {
+            if (address.equals(TOKEN)) {
+                return new HexData("0x" + BALANCE_OF.replace(" ", ""));
+            }
+            return address.equals(LOOP) ? new HexData("0x" + COUNTDOWN.replace(" ", "")) : HexData.EMPTY;
+        }
+
+        @Override
+        public BigInteger storage(final Address address, final BigInteger slot) {
+            return balances.getOrDefault(slot, BigInteger.ZERO);
+        }
+
+        @Override
+        public Hash blockHash(final long number) {
+            return Hash.fromBytes(new byte[32]);
+        }
+    }
+}
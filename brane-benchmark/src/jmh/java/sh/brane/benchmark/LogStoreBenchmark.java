@@ -0,0 +1,161 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.*;
+
+import sh.brane.core.model.LogEntry;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.rpc.Brane;
+import sh.brane.rpc.BraneProvider;
+import sh.brane.rpc.JsonRpcResponse;
+import sh.brane.rpc.LogFilter;
+import sh.brane.rpc.LogStore;
+
+/**
+ * Benchmarks re-running a historical log query against a provider that charges a fixed latency
+ * per round trip plus a per-log transfer cost, as a remote node would.
+ *
+ * <ul>
+ *   <li>{@code remote} - {@code Brane.getLogs} in 2,000-block chunks, as a backtest does today</li>
+ *   <li>{@code local} - the same query answered by an already-synced {@link LogStore}</li>
+ *   <li>{@code localRareTopic} - a topic that occurs in one segment, so the blooms skip the rest</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LogStoreBenchmark {
+
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(500);
+    private static final long PER_LOG_NANOS = 500;
+    private static final int BLOCKS = 100_000;
+    private static final int CHUNK = 2_000;
+    private static final Address TOKEN = new Address("0x" + "aa".repeat(20));
+    private static final String TRANSFER = "0x" + "01".repeat(32);
+    private static final String RARE = "0x" + "02".repeat(32);
+
+    @Param({"1", "10"})
+    public int logsPerBlock;
+
+    private Path directory;
+    private Brane client;
+    private LogStore store;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("brane-logstore");
+        client = Brane.builder().provider(new LatencyProvider(logsPerBlock)).buildReader();
+        store = LogStore.builder(client, directory).addresses(List.of(TOKEN)).chunkSize(CHUNK).open();
+        store.sync(BLOCKS - 1);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        store.close();
+        client.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public int remote() {
+        int count = 0;
+        for (long from = 0; from < BLOCKS; from += CHUNK) {
+            count += client.getLogs(filter(from, from + CHUNK - 1, TRANSFER)).size();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public List<LogEntry> local() {
+        return store.getLogs(filter(0, BLOCKS - 1, TRANSFER));
+    }
+
+    @Benchmark
+    public List<LogEntry> localRareTopic() {
+        return store.getLogs(filter(0, BLOCKS - 1, RARE));
+    }
+
+    private static LogFilter filter(final long from, final long to, final String topic) {
+        return new LogFilter(Optional.of(from), Optional.of(to), Optional.of(List.of(TOKEN)),
+                Optional.of(List.of(new Hash(topic))));
+    }
+
+    private static final class LatencyProvider implements BraneProvider {
+
+        private final int logsPerBlock;
+
+        LatencyProvider(final int logsPerBlock) {
+            this.logsPerBlock = logsPerBlock;
+        }
+
+        @Override
+        public JsonRpcResponse send(final String method, final List<?> params) {
+            final Object result = switch (method) {
+                case "eth_getBlockByNumber" -> block((String) params.get(0));
+                case "eth_getLogs" -> logs((Map<?, ?>) params.get(0));
+                default -> throw new IllegalArgumentException(method);
+            };
+            return new JsonRpcResponse("2.0", result, null, "1");
+        }
+
+        private static Map<String, Object> block(final String tag) {
+            LockSupport.parkNanos(ROUND_TRIP_NANOS);
+            final long number = "latest".equals(tag) ? BLOCKS - 1 : Long.decode(tag);
+            return Map.of(
+                    "hash", hash(number),
+                    "parentHash", hash(number - 1),
+                    "number", "0x" + Long.toHexString(number),
+                    "timestamp", "0x64a7b8c0");
+        }
+
+        private List<Map<String, Object>> logs(final Map<?, ?> filter) {
+            final long from = Long.decode((String) filter.get("fromBlock"));
+            final long to = Long.decode((String) filter.get("toBlock"));
+            final Object topics = filter.get("topics");
+            final String wanted = topics instanceof List<?> list && !list.isEmpty() ? (String) list.get(0) : null;
+            final List<Map<String, Object>> logs = new ArrayList<>();
+            for (long number = from; number <= to; number++) {
+                for (int i = 0; i < logsPerBlock; i++) {
+                    final String topic = number == 50_000 && i == 0 ? RARE : TRANSFER;
+                    if (wanted != null && !wanted.equals(topic)) {
+                        continue;
+                    }
+                    final Map<String, Object> log = new HashMap<>();
+                    log.put("address", TOKEN.value());
+                    log.put("data", "0x" + "00".repeat(31) + "64");
+                    log.put("topics", List.of(topic, "0x" + "0a".repeat(32), "0x" + "0b".repeat(32)));
+                    log.put("blockNumber", "0x" + Long.toHexString(number));
+                    log.put("blockHash", hash(number));
+                    log.put("transactionHash", hash(number));
+                    log.put("logIndex", "0x" + Integer.toHexString(i));
+                    log.put("removed", false);
+                    logs.add(log);
+                }
+            }
+            LockSupport.parkNanos(ROUND_TRIP_NANOS + PER_LOG_NANOS * logs.size());
+            return logs;
+        }
+
+        private static String hash(final long number) {
+            return String.format("0x%064x", number + 1);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import sh.brane.core.abi.Abi;
+import sh.brane.core.types.Address;
+
+/**
+ * Benchmarks repeated {@code balanceOf(address)} encoding, the shape of a multicall
+ * balance sweep where only the holder changes between calls.
+ *
+ * <ul>
+ *   <li>{@code encodeFunction} - name lookup and a fresh calldata array per call</li>
+ *   <li>{@code preparedEncode} - prepared template, fresh calldata array per call</li>
+ *   <li>{@code preparedEncodeTo} - prepared template writing into a reused array</li>
+ *   <li>{@code preparedEncodeArgument} - rewriting only the address word of existing calldata</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PreparedAbiBenchmark {
+
+    private static final int HOLDERS = 1024;
+
+    private Abi abi;
+    private Abi.PreparedFunction balanceOf;
+    private Address[] holders;
+    private byte[] calldata;
+    private int next;
+
+    @Setup
+    public void setup() {
+        abi = Abi.fromJson("""
+            [
+              {
+                "inputs": [{"internalType": "address", "name": "owner", "type": "address"}],
+                "name": "balanceOf",
+                "outputs": [{"internalType": "uint256", "name": "", "type": "uint256"}],
+                "stateMutability": "view",
+                "type": "function"
+              }
+            ]
+            """);
+        balanceOf = abi.prepare("balanceOf");
+        holders = new Address[HOLDERS];
+        for (int i = 0; i < HOLDERS; i++) {
+            holders[i] = new Address(String.format("0x%040x", i + 1));
+        }
+        calldata = new byte[balanceOf.encodedLength(holders[0])];
+        balanceOf.encodeTo(calldata, 0, holders[0]);
+    }
+
+    private Address nextHolder() {
+        next = (next + 1) & (HOLDERS - 1);
+        return holders[next];
+    }
+
+    @Benchmark
+    public String encodeFunction() {
+        return abi.encodeFunction("balanceOf", nextHolder()).data();
+    }
+
+    @Benchmark
+    public String preparedEncode() {
+        return balanceOf.encode(nextHolder()).data();
+    }
+
+    @Benchmark
+    public byte[] preparedEncodeTo() {
+        balanceOf.encodeTo(calldata, 0, nextHolder());
+        return calldata;
+    }
+
+    @Benchmark
+    public byte[] preparedEncodeArgument() {
+        balanceOf.encodeArgument(calldata, 0, 0, nextHolder());
+        return calldata;
+    }
+}
@@ -8,11 +8,13 @@ import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.*;
 
 import sh.brane.primitives.rlp.Rlp;
+import sh.brane.primitives.rlp.RlpItem;
 import sh.brane.primitives.rlp.RlpList;
+import sh.brane.primitives.rlp.RlpReader;
 import sh.brane.primitives.rlp.RlpString;
 
 /**
- * JMH benchmark for Brane SDK's RLP encoding performance.
+ * JMH benchmark for Brane SDK's RLP encoding and decoding performance.
  *
  * <p>Measures throughput (ops/sec) for RLP encoding:
  * <ul>
@@ -20,7 +22,17 @@ import sh.brane.primitives.rlp.RlpString;
  *   <li>{@code encodeComplex} - nested list with 100+ items</li>
  * </ul>
  *
- * <p>RLP encoding is used for transaction serialization before signing.
+ * <p>And for decoding the same payloads plus a blob-sized one
+ * ({@code [[11 small fields], [2 x 128 KiB], [2 x 48 B], [2 x 48 B]]}, shaped like an
+ * EIP-4844 network wrapper):
+ * <ul>
+ *   <li>{@code decode*} - {@link Rlp#decode(byte[])}, materializing every item</li>
+ *   <li>{@code read*} - {@link RlpReader}, walking the same tree in place and touching
+ *       every leaf's offset and length</li>
+ * </ul>
+ *
+ * <p>RLP encoding is used for transaction serialization before signing; decoding for raw
+ * transactions, block bodies and proofs.
  */
 @State(Scope.Thread)
 @BenchmarkMode(Mode.Throughput)
@@ -29,6 +41,9 @@ public class RlpBenchmark {
 
     private RlpList simpleList;
     private RlpList complexList;
+    private byte[] simpleEncoded;
+    private byte[] complexEncoded;
+    private byte[] blobWrapperEncoded;
 
     @Setup
     public void setup() {
@@ -39,7 +54,7 @@ public class RlpBenchmark {
         );
 
         // Complex List: Nested lists with many items
-        List<sh.brane.primitives.rlp.RlpItem> items = new ArrayList<>();
+        List<RlpItem> items = new ArrayList<>();
         for (int i = 0; i < 100; i++) {
             items.add(RlpString.of(("item" + i).getBytes()));
         }
@@ -47,6 +62,21 @@ public class RlpBenchmark {
             RlpList.of(items),
             RlpString.of("suffix".getBytes())
         );
+
+        List<RlpItem> fields = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            fields.add(RlpString.of(1_000_000_000L + i));
+        }
+        RlpList blobWrapper = RlpList.of(
+            RlpList.of(fields),
+            RlpList.of(RlpString.of(new byte[131072]), RlpString.of(new byte[131072])),
+            RlpList.of(RlpString.of(new byte[48]), RlpString.of(new byte[48])),
+            RlpList.of(RlpString.of(new byte[48]), RlpString.of(new byte[48]))
+        );
+
+        simpleEncoded = Rlp.encode(simpleList);
+        complexEncoded = Rlp.encode(complexList);
+        blobWrapperEncoded = Rlp.encode(blobWrapper);
     }
 
     @Benchmark
@@ -58,4 +88,54 @@ public class RlpBenchmark {
     public byte[] encodeComplex() {
         return Rlp.encode(complexList);
     }
+
+    // ==================== Decoding ====================
+
+    @Benchmark
+    public RlpItem decodeSimple() {
+        return Rlp.decode(simpleEncoded);
+    }
+
+    @Benchmark
+    public RlpItem decodeComplex() {
+        return Rlp.decode(complexEncoded);
+    }
+
+    @Benchmark
+    public RlpItem decodeBlobWrapper() {
+        return Rlp.decode(blobWrapperEncoded);
+    }
+
+    @Benchmark
+    public long readSimple() {
+        return walk(RlpReader.of(simpleEncoded));
+    }
+
+    @Benchmark
+    public long readComplex() {
+        return walk(RlpReader.of(complexEncoded));
+    }
+
+    @Benchmark
+    public long readBlobWrapper() {
+        return walk(RlpReader.of(blobWrapperEncoded));
+    }
+
+    /**
+     * Visits every item depth-first, folding leaf offsets and lengths into a checksum
+     * so the walk cannot be eliminated.
+     */
+    private static long walk(RlpReader reader) {
+        long checksum = 0;
+        while (reader.hasNext()) {
+            if (reader.isNextList()) {
+                reader.enterList();
+                checksum += walk(reader);
+                reader.exitList();
+            } else {
+                checksum += reader.readString() + reader.payloadOffset();
+            }
+        }
+        return checksum;
+    }
 }
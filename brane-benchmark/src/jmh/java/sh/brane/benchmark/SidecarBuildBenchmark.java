@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import sh.brane.core.crypto.Kzg;
+import sh.brane.core.tx.SidecarBuilder;
+import sh.brane.core.types.Blob;
+import sh.brane.core.types.BlobSidecar;
+import sh.brane.core.types.KzgCommitment;
+import sh.brane.core.types.KzgProof;
+import sh.brane.kzg.CKzg;
+
+/**
+ * Benchmarks EIP-4844 sidecar construction time against the number of blobs.
+ *
+ * <ul>
+ *   <li>{@code perBlobCalls} - {@code blobToCommitment} then {@code computeProof} per blob</li>
+ *   <li>{@code build} - {@link SidecarBuilder#build(Kzg)}, one blob after another</li>
+ *   <li>{@code buildParallel} - {@link SidecarBuilder#buildParallel(Kzg)}, one task per blob</li>
+ * </ul>
+ *
+ * <p>The parallel speedup is bounded by the number of available cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SidecarBuildBenchmark {
+
+    @Param({"1", "2", "4", "6"})
+    private int blobCount;
+
+    private Kzg kzg;
+    private Blob[] blobs;
+    private SidecarBuilder builder;
+
+    @Setup
+    public void setup() {
+        kzg = CKzg.loadFromClasspath();
+        final Random random = new Random(42);
+        blobs = new Blob[blobCount];
+        for (int i = 0; i < blobCount; i++) {
+            final byte[] data = new byte[Blob.SIZE];
+            random.nextBytes(data);
+            // Keep every field element below the BLS modulus
+            for (int fe = 0; fe < Blob.FIELD_ELEMENTS; fe++) {
+                data[fe * Blob.BYTES_PER_FIELD_ELEMENT] = 0;
+            }
+            blobs[i] = new Blob(data);
+        }
+        builder = SidecarBuilder.fromBlobs(blobs);
+    }
+
+    @Benchmark
+    public KzgProof[] perBlobCalls() {
+        final KzgProof[] proofs = new KzgProof[blobs.length];
+        for (int i = 0; i < blobs.length; i++) {
+            final KzgCommitment commitment = kzg.blobToCommitment(blobs[i]);
+            proofs[i] = kzg.computeProof(blobs[i], commitment);
+        }
+        return proofs;
+    }
+
+    @Benchmark
+    public BlobSidecar build() {
+        return builder.build(kzg);
+    }
+
+    @Benchmark
+    public BlobSidecar buildParallel() {
+        return builder.buildParallel(kzg);
+    }
+}
@@ -0,0 +1,235 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.rpc.BraneProvider;
+import sh.brane.rpc.HttpBraneProvider;
+import sh.brane.rpc.JsonRpcResponse;
+import sh.brane.rpc.WebSocketConfig;
+import sh.brane.rpc.WebSocketProvider;
+
+/**
+ * Hermetic provider benchmark running HTTP and WebSocket providers against an
+ * in-process {@link StubRpcServer}.
+ *
+ * <p>
+ * Unlike {@link ProviderComparisonBenchmark} this needs no Anvil or Infura and
+ * isolates client overhead from node latency, so it is suitable for tracking
+ * regressions on every build.
+ *
+ * <p>
+ * In addition to JMH's own score, each trial prints a summary line with:
+ * <ul>
+ * <li>HdrHistogram latency percentiles (p50, p90, p99, p99.9, max) over all
+ * measurement iterations</li>
+ * <li>Client-side bytes allocated per request, excluding the stub server's
+ * threads (see {@link AllocationMeter})</li>
+ * <li>Observed error count, to confirm injected failures were exercised</li>
+ * </ul>
+ *
+ * <p>
+ * Parameters:
+ * <ul>
+ * <li>{@code transport}: {@code HTTP}, {@code WS_ASYNC} ({@code sendAsync}) or
+ * {@code WS_BATCH} ({@code sendAsyncBatch})</li>
+ * <li>{@code responseBytes}: decoded size of the canned {@code result}</li>
+ * <li>{@code latency}: stub latency spec, see
+ * {@link StubRpcServer.Latency#parse(String)}</li>
+ * <li>{@code errorRate}: probability of a JSON-RPC error response</li>
+ * </ul>
+ *
+ * <p>
+ * Execute: ./gradlew :brane-benchmark:jmh -Pjmh.includes="StubProviderBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g", "-XX:+UseG1GC"})
+public class StubProviderBenchmark {
+
+    private static final int PIPELINE_DEPTH = 100;
+    private static final List<Object> BALANCE_PARAMS =
+            List.of("0xf39Fd6e51aad88F6F4ce6aB8827279cffFb92266", "latest");
+
+    public enum Transport {
+        HTTP, WS_ASYNC, WS_BATCH
+    }
+
+    @Param({"HTTP", "WS_ASYNC", "WS_BATCH"})
+    public Transport transport;
+
+    @Param({"32", "16384"})
+    public int responseBytes;
+
+    @Param({"none", "exp:200us"})
+    public String latency;
+
+    @Param({"0", "0.01"})
+    public double errorRate;
+
+    private StubRpcServer server;
+    private BraneProvider httpProvider;
+    private WebSocketProvider wsProvider;
+    private ExecutorService pipelineExecutor;
+
+    private final Recorder recorder = new Recorder(TimeUnit.SECONDS.toNanos(10), 3);
+    private final Histogram measured = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private AllocationMeter allocationMeter;
+    private long iterationStartBytes;
+    private long iterationStartRequests;
+    private long measuredBytes;
+    private long measuredRequests;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        server = StubRpcServer.builder()
+                .responseBytes(responseBytes)
+                .latency(StubRpcServer.Latency.parse(latency))
+                .errorRate(errorRate)
+                .start();
+        switch (transport) {
+            case HTTP -> {
+                httpProvider = HttpBraneProvider.builder(server.httpUrl()).build();
+                // Platform threads: AllocationMeter cannot see virtual threads
+                pipelineExecutor = Executors.newFixedThreadPool(PIPELINE_DEPTH, Thread.ofPlatform()
+                        .name("bench-pipeline-", 0)
+                        .daemon(true)
+                        .factory());
+            }
+            case WS_ASYNC, WS_BATCH -> wsProvider = WebSocketProvider.create(
+                    WebSocketConfig.builder(server.wsUrl())
+                            .maxFrameSize(16 * 1024 * 1024)
+                            .build());
+        }
+        allocationMeter = AllocationMeter.excluding(StubRpcServer.THREAD_PREFIX);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try {
+            if (measuredRequests > 0) {
+                System.out.printf(
+                        "%n[stub] transport=%s responseBytes=%d latency=%s errorRate=%s | "
+                                + "p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus | "
+                                + "alloc=%d B/req | requests=%d errors=%d%n",
+                        transport, responseBytes, latency, errorRate,
+                        micros(measured.getValueAtPercentile(50)),
+                        micros(measured.getValueAtPercentile(90)),
+                        micros(measured.getValueAtPercentile(99)),
+                        micros(measured.getValueAtPercentile(99.9)),
+                        micros(measured.getMaxValue()),
+                        measuredBytes / measuredRequests,
+                        measuredRequests, failures.sum());
+            }
+        } finally {
+            if (wsProvider != null) {
+                wsProvider.close();
+            }
+            if (httpProvider != null) {
+                httpProvider.close();
+            }
+            if (pipelineExecutor != null) {
+                pipelineExecutor.close();
+            }
+            server.close();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void startIteration() {
+        recorder.reset();
+        iterationStartRequests = requests.sum();
+        iterationStartBytes = allocationMeter.allocatedBytes();
+    }
+
+    @TearDown(Level.Iteration)
+    public void endIteration(IterationParams params) {
+        long bytes = allocationMeter.allocatedBytes() - iterationStartBytes;
+        long count = requests.sum() - iterationStartRequests;
+        Histogram interval = recorder.getIntervalHistogram();
+        if (params.getType() == IterationType.MEASUREMENT) {
+            measured.add(interval);
+            measuredBytes += bytes;
+            measuredRequests += count;
+        }
+    }
+
+    /**
+     * One blocking request/response round trip per invocation.
+     */
+    @Benchmark
+    public Object roundTrip() throws Exception {
+        long start = System.nanoTime();
+        try {
+            JsonRpcResponse response = switch (transport) {
+                case HTTP -> httpProvider.send("eth_getBalance", BALANCE_PARAMS);
+                case WS_ASYNC -> wsProvider.sendAsync("eth_getBalance", BALANCE_PARAMS).get();
+                case WS_BATCH -> wsProvider.sendAsyncBatch("eth_getBalance", BALANCE_PARAMS).get();
+            };
+            if (response.hasError()) {
+                failures.increment();
+            }
+            return response;
+        } catch (RpcException e) {
+            failures.increment();
+            return e;
+        } finally {
+            recorder.recordValue(System.nanoTime() - start);
+            requests.increment();
+        }
+    }
+
+    /**
+     * {@value #PIPELINE_DEPTH} concurrent requests per invocation, measuring
+     * throughput under pipelining. HTTP uses one pooled platform thread per
+     * request so that {@link AllocationMeter} accounts for the caller side.
+     */
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE_DEPTH)
+    public void pipelined() {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<?>[] futures = new CompletableFuture[PIPELINE_DEPTH];
+        for (int i = 0; i < PIPELINE_DEPTH; i++) {
+            final long start = System.nanoTime();
+            CompletableFuture<JsonRpcResponse> future = switch (transport) {
+                case HTTP -> CompletableFuture.supplyAsync(
+                        () -> httpProvider.send("eth_getBalance", BALANCE_PARAMS), pipelineExecutor);
+                case WS_ASYNC -> wsProvider.sendAsync("eth_getBalance", BALANCE_PARAMS);
+                case WS_BATCH -> wsProvider.sendAsyncBatch("eth_getBalance", BALANCE_PARAMS);
+            };
+            futures[i] = future.whenComplete((response, error) -> {
+                recorder.recordValue(System.nanoTime() - start);
+                requests.increment();
+                if (error != null || response.hasError()) {
+                    failures.increment();
+                }
+            });
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (RuntimeException ignored) {
+            // Injected errors surface as exceptional completions over HTTP; already counted
+        }
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
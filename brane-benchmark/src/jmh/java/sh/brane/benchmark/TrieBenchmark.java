@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.types.Hash;
+import sh.brane.trie.MerklePatriciaTrie;
+import sh.brane.trie.MerkleProof;
+
+/**
+ * JMH benchmark for Merkle-Patricia root computation and proof verification.
+ *
+ * <ul>
+ *   <li>{@code transactionsRoot} - ordered root over a 1,000-transaction block</li>
+ *   <li>{@code rebuildStateRoot} - root of a 10,000-account trie built from scratch</li>
+ *   <li>{@code incrementalStateRoot} - root of the same trie after updating one account</li>
+ *   <li>{@code verifyProof} - verification of one account proof against the root</li>
+ * </ul>
+ *
+ * <p>Transactions are 150-byte payloads, about the size of a signed EIP-1559 transfer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrieBenchmark {
+
+    private static final int TRANSACTIONS = 1_000;
+    private static final int ACCOUNTS = 10_000;
+
+    private List<byte[]> transactions;
+    private byte[][] accountKeys;
+    private byte[][] accountValues;
+    private MerklePatriciaTrie state;
+    private Hash stateRoot;
+    private List<byte[]> proof;
+    private int next;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(1);
+        transactions = new ArrayList<>(TRANSACTIONS);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            final byte[] tx = new byte[150];
+            random.nextBytes(tx);
+            transactions.add(tx);
+        }
+
+        accountKeys = new byte[ACCOUNTS][];
+        accountValues = new byte[ACCOUNTS][];
+        state = new MerklePatriciaTrie();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            final byte[] address = new byte[20];
+            random.nextBytes(address);
+            accountKeys[i] = Keccak256.hash(address);
+            accountValues[i] = new byte[70];
+            random.nextBytes(accountValues[i]);
+            state.put(accountKeys[i], accountValues[i]);
+        }
+        stateRoot = state.rootHash();
+        proof = state.prove(accountKeys[0]);
+    }
+
+    @Benchmark
+    public Hash transactionsRoot() {
+        return MerklePatriciaTrie.orderedRoot(transactions);
+    }
+
+    @Benchmark
+    public Hash rebuildStateRoot() {
+        final MerklePatriciaTrie trie = new MerklePatriciaTrie();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            trie.put(accountKeys[i], accountValues[i]);
+        }
+        return trie.rootHash();
+    }
+
+    @Benchmark
+    public Hash incrementalStateRoot() {
+        final int index = next++ % ACCOUNTS;
+        accountValues[index][0]++;
+        state.put(accountKeys[index], accountValues[index]);
+        return state.rootHash();
+    }
+
+    @Benchmark
+    public byte[] verifyProof() {
+        return MerkleProof.verify(stateRoot, accountKeys[0], proof);
+    }
+}
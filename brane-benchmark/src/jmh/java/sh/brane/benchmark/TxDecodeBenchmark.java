@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.crypto.PrivateKey;
+import sh.brane.core.tx.Eip1559Transaction;
+import sh.brane.core.tx.SignedTransaction;
+import sh.brane.core.tx.TransactionDecoder;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.Wei;
+
+/**
+ * JMH benchmark for decoding raw signed transactions and recovering their senders,
+ * reported in transactions per second.
+ *
+ * <p>The batch is a block-sized set of ERC-20 transfers signed by distinct keys.
+ * {@code decode} measures envelope parsing and hashing alone; the {@code recover*}
+ * benchmarks compare one-by-one sender recovery with
+ * {@link TransactionDecoder#recoverSenders(List)}, whose speedup scales with the
+ * number of available cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class TxDecodeBenchmark {
+
+    private static final int BATCH = 256;
+
+    private byte[][] raw;
+    private List<SignedTransaction> decoded;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Address to = new Address("0x70997970C51812dc3A010C7d01b50e0d17dc79C8");
+        HexData calldata = new HexData("0xa9059cbb"
+                + "00000000000000000000000070997970c51812dc3a010c7d01b50e0d17dc79c8"
+                + "0000000000000000000000000000000000000000000000000de0b6b3a7640000");
+
+        raw = new byte[BATCH][];
+        decoded = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            PrivateKey key = PrivateKey.fromBytes(ByteBuffer.allocate(32).putInt(28, i + 1).array());
+            Eip1559Transaction tx = new Eip1559Transaction(
+                    1, i, Wei.gwei(1), Wei.gwei(30), 60000, to, Wei.ZERO, calldata, List.of());
+            raw[i] = tx.encodeAsEnvelope(key.sign(Keccak256.hash(tx.encodeForSigning(1))));
+            decoded.add(TransactionDecoder.decode(raw[i]));
+        }
+    }
+
+    /**
+     * Parses and hashes each envelope without sender recovery.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void decode(Blackhole bh) {
+        for (byte[] tx : raw) {
+            bh.consume(TransactionDecoder.decode(tx));
+        }
+    }
+
+    /**
+     * Recovers each sender on the calling thread.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void recoverSequential(Blackhole bh) {
+        for (SignedTransaction tx : decoded) {
+            bh.consume(tx.recoverSender());
+        }
+    }
+
+    /**
+     * Recovers all senders with the parallel bulk API.
+     *
+     * @return the recovered senders
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<Address> recoverParallel() {
+        return TransactionDecoder.recoverSenders(decoded);
+    }
+}
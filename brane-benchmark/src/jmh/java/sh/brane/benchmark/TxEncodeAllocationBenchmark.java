@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.benchmark;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
@@ -19,6 +20,10 @@ import sh.brane.core.types.Wei;
  * <p>Isolates the RLP encoding cost from signing by using a pre-computed signature.
  * This allows measuring the allocation impact of stream operations, array copies,
  * and BigInteger conversions in the encoding path alone.
+ *
+ * <p>The {@code *Into} variants use the size-first sink API
+ * ({@link sh.brane.core.tx.UnsignedTransaction#encodeAsEnvelope(Signature, ByteBuffer)})
+ * with a reused buffer and should report ~0 B/op under {@code -prof gc}.
  */
 @State(Scope.Thread)
 @BenchmarkMode(Mode.AverageTime)
@@ -30,7 +35,10 @@ public class TxEncodeAllocationBenchmark {
 
     private LegacyTransaction legacyTx;
     private Eip1559Transaction eip1559Tx;
+    private Eip1559Transaction erc20Tx;
     private Signature signature;
+    private Signature legacySignature;
+    private final ByteBuffer buffer = ByteBuffer.allocate(1024);
 
     @Setup(Level.Trial)
     public void setup() {
@@ -55,6 +63,20 @@ public class TxEncodeAllocationBenchmark {
                 HexData.EMPTY,
                 List.of());
 
+        // ERC-20 transfer(address,uint256) calldata, string-backed as when parsed from JSON
+        erc20Tx = new Eip1559Transaction(
+                11155111,
+                0,
+                Wei.of(1000000000),
+                Wei.of(2000000000),
+                60000,
+                to,
+                Wei.of(0),
+                new HexData("0xa9059cbb"
+                        + "00000000000000000000000070997970c51812dc3a010c7d01b50e0d17dc79c8"
+                        + "0000000000000000000000000000000000000000000000000de0b6b3a7640000"),
+                List.of());
+
         // Pre-computed signature (valid structure, used only for encoding measurement)
         byte[] r = new byte[32];
         byte[] s = new byte[32];
@@ -63,6 +85,7 @@ public class TxEncodeAllocationBenchmark {
         s[0] = 0x3f;
         s[31] = 0x02;
         signature = new Signature(r, s, 1);
+        legacySignature = new Signature(r, s, 31337 * 2 + 35 + 1);
     }
 
     /**
@@ -95,7 +118,7 @@ public class TxEncodeAllocationBenchmark {
      */
     @Benchmark
     public byte[] encodeLegacyEnvelope() {
-        return legacyTx.encodeAsEnvelope(signature);
+        return legacyTx.encodeAsEnvelope(legacySignature);
     }
 
     /**
@@ -108,4 +131,70 @@ public class TxEncodeAllocationBenchmark {
     public byte[] encodeEip1559Envelope() {
         return eip1559Tx.encodeAsEnvelope(signature);
     }
+
+    /**
+     * Benchmarks the legacy signing preimage written into a reused buffer.
+     *
+     * @return the number of bytes written
+     */
+    @Benchmark
+    public int encodeLegacyForSigningInto() {
+        buffer.clear();
+        return legacyTx.encodeForSigning(31337, buffer);
+    }
+
+    /**
+     * Benchmarks the EIP-1559 signing preimage written into a reused buffer.
+     *
+     * @return the number of bytes written
+     */
+    @Benchmark
+    public int encodeEip1559ForSigningInto() {
+        buffer.clear();
+        return eip1559Tx.encodeForSigning(11155111, buffer);
+    }
+
+    /**
+     * Benchmarks a signed legacy envelope written into a reused buffer.
+     *
+     * @return the number of bytes written
+     */
+    @Benchmark
+    public int encodeLegacyEnvelopeInto() {
+        buffer.clear();
+        return legacyTx.encodeAsEnvelope(legacySignature, buffer);
+    }
+
+    /**
+     * Benchmarks a signed EIP-1559 envelope written into a reused buffer.
+     *
+     * @return the number of bytes written
+     */
+    @Benchmark
+    public int encodeEip1559EnvelopeInto() {
+        buffer.clear();
+        return eip1559Tx.encodeAsEnvelope(signature, buffer);
+    }
+
+    /**
+     * Benchmarks an ERC-20 transfer envelope (string-backed calldata) as a fresh array.
+     *
+     * @return the RLP-encoded envelope bytes (for blackhole consumption)
+     */
+    @Benchmark
+    public byte[] encodeErc20Envelope() {
+        return erc20Tx.encodeAsEnvelope(signature);
+    }
+
+    /**
+     * Benchmarks an ERC-20 transfer envelope (string-backed calldata) into a reused buffer.
+     * Calldata hex is decoded straight into the buffer.
+     *
+     * @return the number of bytes written
+     */
+    @Benchmark
+    public int encodeErc20EnvelopeInto() {
+        buffer.clear();
+        return erc20Tx.encodeAsEnvelope(signature, buffer);
+    }
 }
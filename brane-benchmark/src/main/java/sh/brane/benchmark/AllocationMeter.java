@@ -0,0 +1,77 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.util.Objects;
+
+/**
+ * Measures heap allocation of client-side threads.
+ *
+ * <p>
+ * JMH's {@code -prof gc} reports allocation for the whole JVM, which for an
+ * in-process {@link StubRpcServer} also includes the server's own allocations.
+ * This meter sums {@code ThreadMXBean#getThreadAllocatedBytes} over all live
+ * threads except those whose name starts with a given prefix, so provider
+ * benchmarks can report bytes allocated per request by the client alone
+ * (caller threads, Netty client event loops, the Disruptor consumer and
+ * HttpClient carrier threads).
+ *
+ * <p>
+ * {@code ThreadMXBean#getAllThreadIds} does not enumerate virtual threads, so
+ * work measured with this meter must run on platform threads; benchmarks that
+ * fan out requests should use a platform-thread pool rather than
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}. For a whole-JVM figure
+ * that includes virtual threads, run with JMH's {@code -prof gc} instead.
+ *
+ * <p>
+ * Allocation by threads that terminate between two samples is lost, so
+ * results are a lower bound. Long-lived pools dominate in practice.
+ *
+ * @since 0.3.0
+ */
+public final class AllocationMeter {
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final String excludedPrefix;
+
+    private AllocationMeter(String excludedPrefix) {
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.excludedPrefix = excludedPrefix;
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            throw new UnsupportedOperationException("Thread allocation accounting is not supported by this JVM");
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * Creates a meter ignoring threads whose name starts with the given prefix.
+     *
+     * @param excludedPrefix thread name prefix to ignore, e.g.
+     *                       {@link StubRpcServer#THREAD_PREFIX}
+     * @return a new meter
+     */
+    public static AllocationMeter excluding(String excludedPrefix) {
+        return new AllocationMeter(Objects.requireNonNull(excludedPrefix, "excludedPrefix"));
+    }
+
+    /**
+     * Returns the total bytes allocated so far by all non-excluded live threads.
+     *
+     * @return allocated bytes
+     */
+    public long allocatedBytes() {
+        long[] ids = threads.getAllThreadIds();
+        long[] allocated = threads.getThreadAllocatedBytes(ids);
+        ThreadInfo[] infos = threads.getThreadInfo(ids);
+        long total = 0;
+        for (int i = 0; i < ids.length; i++) {
+            ThreadInfo info = infos[i];
+            if (info == null || allocated[i] < 0 || info.getThreadName().startsWith(excludedPrefix)) {
+                continue;
+            }
+            total += allocated[i];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,603 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.benchmark;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.websocketx.CloseWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.PingWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.PongWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.handler.codec.http.websocketx.WebSocketServerHandshaker;
+import io.netty.handler.codec.http.websocketx.WebSocketServerHandshakerFactory;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * Hermetic, in-process JSON-RPC server for provider benchmarks.
+ *
+ * <p>
+ * Serves canned JSON-RPC responses over both HTTP ({@code POST /}) and
+ * WebSocket ({@code GET /} with upgrade) on a single loopback port, the same
+ * way Anvil does. Every request is answered with either a hex-string result of
+ * a configurable size or, with a configurable probability, a JSON-RPC error.
+ * Responses can be delayed according to a {@link Latency} distribution to
+ * model node-side processing time without ever blocking the event loop.
+ *
+ * <p>
+ * Because nothing leaves the process, benchmarks built on this server measure
+ * client overhead only and can run in CI without Anvil or Infura.
+ *
+ * <p>
+ * <strong>Usage:</strong>
+ *
+ * <pre>{@code
+ * try (StubRpcServer server = StubRpcServer.builder()
+ *         .responseBytes(1024)
+ *         .latency(StubRpcServer.Latency.exponential(Duration.ofMicros(200)))
+ *         .errorRate(0.01)
+ *         .start()) {
+ *     BraneProvider http = HttpBraneProvider.builder(server.httpUrl()).build();
+ *     WebSocketProvider ws = WebSocketProvider.create(server.wsUrl());
+ *     // ...
+ * }
+ * }</pre>
+ *
+ * <p>
+ * <strong>Request parsing:</strong> the server does not deserialize request
+ * bodies. It only locates the {@code "id"} member and echoes its raw JSON token
+ * back, so server-side cost stays flat regardless of request shape.
+ *
+ * <p>
+ * All server threads are named with the {@value #THREAD_PREFIX} prefix so that
+ * allocation accounting can exclude them (see
+ * {@link AllocationMeter#excluding(String)}).
+ *
+ * @since 0.3.0
+ */
+public final class StubRpcServer implements AutoCloseable {
+
+    /** Thread name prefix used for all server event loop threads. */
+    public static final String THREAD_PREFIX = "brane-stub";
+
+    /** JSON-RPC error code returned for injected failures. */
+    public static final int STUB_ERROR_CODE = -32000;
+
+    private static final byte[] RESPONSE_PREFIX = "{\"jsonrpc\":\"2.0\",\"id\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RESULT_PREFIX = ",\"result\":\"0x".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RESULT_SUFFIX = "\"}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ERROR_BODY = (",\"error\":{\"code\":" + STUB_ERROR_CODE
+            + ",\"message\":\"stub error\"}}").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL_ID = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_CONTENT_LENGTH = 16 * 1024 * 1024;
+
+    private final Config config;
+    private final byte[] resultHex;
+    private final EventLoopGroup bossGroup;
+    private final EventLoopGroup workerGroup;
+    private final Channel serverChannel;
+    private final int port;
+    private final AtomicLong connections = new AtomicLong();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    private StubRpcServer(Config config) throws InterruptedException {
+        this.config = config;
+        this.resultHex = cannedResult(config.responseBytes());
+        this.bossGroup = new NioEventLoopGroup(1, new DefaultThreadFactory(THREAD_PREFIX + "-boss", true));
+        this.workerGroup = new NioEventLoopGroup(config.ioThreads(),
+                new DefaultThreadFactory(THREAD_PREFIX + "-io", true));
+        try {
+            ServerBootstrap bootstrap = new ServerBootstrap()
+                    .group(bossGroup, workerGroup)
+                    .channel(NioServerSocketChannel.class)
+                    .childOption(ChannelOption.TCP_NODELAY, true)
+                    .childHandler(new ChannelInitializer<SocketChannel>() {
+                        @Override
+                        protected void initChannel(SocketChannel ch) {
+                            long seed = config.seed() ^ (connections.incrementAndGet() * 0x9E3779B97F4A7C15L);
+                            ch.pipeline()
+                                    .addLast(new HttpServerCodec())
+                                    .addLast(new HttpObjectAggregator(MAX_CONTENT_LENGTH))
+                                    .addLast(new StubHandler(new SplittableRandom(seed)));
+                        }
+                    });
+            this.serverChannel = bootstrap.bind(new InetSocketAddress("127.0.0.1", config.port())).sync().channel();
+            this.port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+        } catch (InterruptedException | RuntimeException e) {
+            shutdownGroups();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a new builder with default settings: 32-byte results, no latency,
+     * no errors and an ephemeral port.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the configuration this server was started with.
+     *
+     * @return the server configuration
+     */
+    public Config config() {
+        return config;
+    }
+
+    /**
+     * Returns the bound loopback port.
+     *
+     * @return the port number
+     */
+    public int port() {
+        return port;
+    }
+
+    /**
+     * Returns the HTTP endpoint URL, suitable for {@code HttpBraneProvider}.
+     *
+     * @return the HTTP URL
+     */
+    public String httpUrl() {
+        return "http://127.0.0.1:" + port;
+    }
+
+    /**
+     * Returns the WebSocket endpoint URL, suitable for {@code WebSocketProvider}.
+     *
+     * @return the WebSocket URL
+     */
+    public String wsUrl() {
+        return "ws://127.0.0.1:" + port;
+    }
+
+    /**
+     * Returns the number of JSON-RPC requests answered so far.
+     *
+     * @return the request count
+     */
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of injected error responses sent so far.
+     *
+     * @return the error count
+     */
+    public long errorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public void close() {
+        serverChannel.close().syncUninterruptibly();
+        shutdownGroups();
+    }
+
+    private void shutdownGroups() {
+        bossGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+        workerGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+
+    private static byte[] cannedResult(int responseBytes) {
+        byte[] hex = new byte[responseBytes * 2];
+        final byte[] digits = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < responseBytes; i++) {
+            int b = (i * 31 + 7) & 0xFF;
+            hex[2 * i] = digits[b >>> 4];
+            hex[2 * i + 1] = digits[b & 0x0F];
+        }
+        return hex;
+    }
+
+    /**
+     * Locates the raw JSON token of the top-level {@code "id"} member.
+     *
+     * @return {@code (start << 32) | end}, or {@code -1} if no id is present
+     */
+    static long findId(ByteBuf body) {
+        int from = body.readerIndex();
+        int to = body.writerIndex();
+        for (int i = from; i + 4 < to; i++) {
+            if (body.getByte(i) == '"' && body.getByte(i + 1) == 'i' && body.getByte(i + 2) == 'd'
+                    && body.getByte(i + 3) == '"') {
+                int p = i + 4;
+                while (p < to && (body.getByte(p) == ' ' || body.getByte(p) == ':')) {
+                    p++;
+                }
+                int start = p;
+                if (p < to && body.getByte(p) == '"') {
+                    p++;
+                    while (p < to && body.getByte(p) != '"') {
+                        p++;
+                    }
+                    p++;
+                } else {
+                    while (p < to) {
+                        byte c = body.getByte(p);
+                        if (c == ',' || c == '}' || c == ' ') {
+                            break;
+                        }
+                        p++;
+                    }
+                }
+                return ((long) start << 32) | Math.min(p, to);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Per-connection handler answering HTTP POSTs and WebSocket text frames.
+     */
+    private final class StubHandler extends SimpleChannelInboundHandler<Object> {
+
+        private final SplittableRandom random;
+        private WebSocketServerHandshaker handshaker;
+
+        StubHandler(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof FullHttpRequest request) {
+                handleHttp(ctx, request);
+            } else if (msg instanceof TextWebSocketFrame frame) {
+                ByteBuf response = respond(ctx, frame.content());
+                schedule(ctx, new TextWebSocketFrame(response));
+            } else if (msg instanceof PingWebSocketFrame ping) {
+                ctx.writeAndFlush(new PongWebSocketFrame(ping.content().retain()));
+            } else if (msg instanceof CloseWebSocketFrame close) {
+                handshaker.close(ctx.channel(), close.retain());
+            }
+        }
+
+        private void handleHttp(ChannelHandlerContext ctx, FullHttpRequest request) {
+            String upgrade = request.headers().get(HttpHeaderNames.UPGRADE);
+            if (upgrade != null && HttpHeaderValues.WEBSOCKET.contentEqualsIgnoreCase(upgrade)) {
+                WebSocketServerHandshakerFactory factory = new WebSocketServerHandshakerFactory(
+                        "ws://127.0.0.1:" + port + request.uri(), null, true, MAX_CONTENT_LENGTH);
+                handshaker = factory.newHandshaker(request);
+                if (handshaker == null) {
+                    WebSocketServerHandshakerFactory.sendUnsupportedVersionResponse(ctx.channel());
+                } else {
+                    handshaker.handshake(ctx.channel(), request);
+                }
+                return;
+            }
+
+            ByteBuf body = respond(ctx, request.content());
+            DefaultFullHttpResponse response = new DefaultFullHttpResponse(
+                    HttpVersion.HTTP_1_1, HttpResponseStatus.OK, body);
+            response.headers()
+                    .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                    .setInt(HttpHeaderNames.CONTENT_LENGTH, body.readableBytes());
+            HttpUtil.setKeepAlive(response, HttpUtil.isKeepAlive(request));
+            schedule(ctx, response);
+        }
+
+        private ByteBuf respond(ChannelHandlerContext ctx, ByteBuf request) {
+            requests.increment();
+            long idRange = findId(request);
+            boolean fail = config.errorRate() > 0 && random.nextDouble() < config.errorRate();
+
+            int idLength = idRange < 0 ? NULL_ID.length : (int) idRange - (int) (idRange >>> 32);
+            int size = RESPONSE_PREFIX.length + idLength
+                    + (fail ? ERROR_BODY.length : RESULT_PREFIX.length + resultHex.length + RESULT_SUFFIX.length);
+            ByteBuf out = ctx.alloc().ioBuffer(size);
+            out.writeBytes(RESPONSE_PREFIX);
+            if (idRange < 0) {
+                out.writeBytes(NULL_ID);
+            } else {
+                out.writeBytes(request, (int) (idRange >>> 32), idLength);
+            }
+            if (fail) {
+                errors.increment();
+                out.writeBytes(ERROR_BODY);
+            } else {
+                out.writeBytes(RESULT_PREFIX).writeBytes(resultHex).writeBytes(RESULT_SUFFIX);
+            }
+            return out;
+        }
+
+        private void schedule(ChannelHandlerContext ctx, Object response) {
+            long delayNanos = config.latency().nextNanos(random);
+            if (delayNanos <= 0) {
+                ctx.writeAndFlush(response);
+            } else {
+                ctx.executor().schedule(() -> ctx.writeAndFlush(response), delayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            ctx.close();
+        }
+    }
+
+    /**
+     * Distribution of artificial server-side response latency.
+     *
+     * <p>
+     * Implementations draw from the per-connection random source supplied by
+     * the server, so a fixed {@link Builder#seed(long) seed} yields a
+     * reproducible latency sequence per connection.
+     */
+    @FunctionalInterface
+    public interface Latency {
+
+        /**
+         * Samples the next delay.
+         *
+         * @param random the per-connection random source
+         * @return the delay in nanoseconds; zero or negative means respond immediately
+         */
+        long nextNanos(SplittableRandom random);
+
+        /**
+         * Returns a distribution that never delays responses.
+         *
+         * @return the zero-latency distribution
+         */
+        static Latency none() {
+            return random -> 0L;
+        }
+
+        /**
+         * Returns a distribution with a constant delay.
+         *
+         * @param delay the delay applied to every response
+         * @return the fixed distribution
+         */
+        static Latency fixed(Duration delay) {
+            long nanos = requirePositive(delay).toNanos();
+            return random -> nanos;
+        }
+
+        /**
+         * Returns a distribution drawing uniformly from {@code [min, max)}.
+         *
+         * @param min the minimum delay (inclusive)
+         * @param max the maximum delay (exclusive)
+         * @return the uniform distribution
+         */
+        static Latency uniform(Duration min, Duration max) {
+            long lo = requirePositive(min).toNanos();
+            long hi = requirePositive(max).toNanos();
+            if (hi <= lo) {
+                throw new IllegalArgumentException("max must be greater than min");
+            }
+            return random -> random.nextLong(lo, hi);
+        }
+
+        /**
+         * Returns an exponential distribution with the given mean, which produces
+         * the long tail typical of real node response times.
+         *
+         * @param mean the mean delay
+         * @return the exponential distribution
+         */
+        static Latency exponential(Duration mean) {
+            double meanNanos = requirePositive(mean).toNanos();
+            return random -> (long) (-meanNanos * Math.log(1.0 - random.nextDouble()));
+        }
+
+        /**
+         * Parses a compact latency specification, convenient for JMH
+         * {@code @Param} values.
+         *
+         * <p>
+         * Accepted forms: {@code none}, {@code fixed:<d>}, {@code uniform:<d>-<d>}
+         * and {@code exp:<d>}, where {@code <d>} is a number followed by
+         * {@code ns}, {@code us}, {@code ms} or {@code s} (e.g. {@code exp:200us}).
+         *
+         * @param spec the specification
+         * @return the parsed distribution
+         * @throws IllegalArgumentException if the specification is malformed
+         */
+        static Latency parse(String spec) {
+            Objects.requireNonNull(spec, "spec");
+            String s = spec.trim().toLowerCase(Locale.ROOT);
+            if (s.equals("none") || s.isEmpty()) {
+                return none();
+            }
+            int colon = s.indexOf(':');
+            if (colon < 0) {
+                throw new IllegalArgumentException("Invalid latency spec: " + spec);
+            }
+            String kind = s.substring(0, colon);
+            String arg = s.substring(colon + 1);
+            return switch (kind) {
+                case "fixed" -> fixed(parseDuration(arg));
+                case "exp" -> exponential(parseDuration(arg));
+                case "uniform" -> {
+                    int dash = arg.indexOf('-');
+                    if (dash < 0) {
+                        throw new IllegalArgumentException("Invalid uniform latency spec: " + spec);
+                    }
+                    yield uniform(parseDuration(arg.substring(0, dash)), parseDuration(arg.substring(dash + 1)));
+                }
+                default -> throw new IllegalArgumentException("Unknown latency distribution: " + kind);
+            };
+        }
+
+        private static Duration parseDuration(String value) {
+            int unitStart = 0;
+            while (unitStart < value.length() && Character.isDigit(value.charAt(unitStart))) {
+                unitStart++;
+            }
+            if (unitStart == 0) {
+                throw new IllegalArgumentException("Invalid duration: " + value);
+            }
+            long amount = Long.parseLong(value.substring(0, unitStart));
+            return switch (value.substring(unitStart)) {
+                case "ns" -> Duration.ofNanos(amount);
+                case "us" -> Duration.ofNanos(amount * 1_000L);
+                case "ms" -> Duration.ofMillis(amount);
+                case "s" -> Duration.ofSeconds(amount);
+                default -> throw new IllegalArgumentException("Invalid duration unit: " + value);
+            };
+        }
+
+        private static Duration requirePositive(Duration d) {
+            Objects.requireNonNull(d, "duration");
+            if (d.isNegative() || d.isZero()) {
+                throw new IllegalArgumentException("duration must be positive: " + d);
+            }
+            return d;
+        }
+    }
+
+    /**
+     * Immutable stub server configuration.
+     *
+     * @param port          the port to bind on 127.0.0.1, or 0 for an ephemeral port
+     * @param responseBytes size of the decoded {@code result} payload in bytes
+     * @param latency       the server-side latency distribution
+     * @param errorRate     probability in {@code [0, 1]} of answering with a JSON-RPC error
+     * @param seed          seed for per-connection random sources
+     * @param ioThreads     number of server I/O threads
+     */
+    public record Config(int port, int responseBytes, Latency latency, double errorRate, long seed, int ioThreads) {
+
+        public Config {
+            Objects.requireNonNull(latency, "latency");
+            if (port < 0 || port > 65535) {
+                throw new IllegalArgumentException("port must be in [0, 65535]: " + port);
+            }
+            if (responseBytes < 0) {
+                throw new IllegalArgumentException("responseBytes must be non-negative: " + responseBytes);
+            }
+            if (!(errorRate >= 0.0 && errorRate <= 1.0)) {
+                throw new IllegalArgumentException("errorRate must be in [0, 1]: " + errorRate);
+            }
+            if (ioThreads <= 0) {
+                throw new IllegalArgumentException("ioThreads must be positive: " + ioThreads);
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link StubRpcServer}.
+     */
+    public static final class Builder {
+        private int port = 0;
+        private int responseBytes = 32;
+        private Latency latency = Latency.none();
+        private double errorRate = 0.0;
+        private long seed = 0x5EEDL;
+        private int ioThreads = 1;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the port to bind. Defaults to 0 (ephemeral).
+         *
+         * @param port the port
+         * @return this builder
+         */
+        public Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * Sets the decoded size of the {@code result} hex string. Defaults to 32.
+         *
+         * @param responseBytes result size in bytes
+         * @return this builder
+         */
+        public Builder responseBytes(int responseBytes) {
+            this.responseBytes = responseBytes;
+            return this;
+        }
+
+        /**
+         * Sets the latency distribution. Defaults to {@link Latency#none()}.
+         *
+         * @param latency the distribution
+         * @return this builder
+         */
+        public Builder latency(Latency latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        /**
+         * Sets the probability of answering with a JSON-RPC error. Defaults to 0.
+         *
+         * @param errorRate probability in {@code [0, 1]}
+         * @return this builder
+         */
+        public Builder errorRate(double errorRate) {
+            this.errorRate = errorRate;
+            return this;
+        }
+
+        /**
+         * Sets the seed for latency and error sampling.
+         *
+         * @param seed the seed
+         * @return this builder
+         */
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the number of server I/O threads. Defaults to 1.
+         *
+         * @param ioThreads thread count
+         * @return this builder
+         */
+        public Builder ioThreads(int ioThreads) {
+            this.ioThreads = ioThreads;
+            return this;
+        }
+
+        /**
+         * Builds the configuration and starts the server.
+         *
+         * @return the started server
+         * @throws InterruptedException if interrupted while binding
+         */
+        public StubRpcServer start() throws InterruptedException {
+            return new StubRpcServer(new Config(port, responseBytes, latency, errorRate, seed, ioThreads));
+        }
+    }
+}
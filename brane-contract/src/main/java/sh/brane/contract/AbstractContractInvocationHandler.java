@@ -85,6 +85,19 @@ abstract class AbstractContractInvocationHandler<C extends Brane> implements Inv
         };
     }
 
+    /**
+     * Executes an eth_call against the latest block.
+     *
+     * <p>Subclasses override this to route calls through a different path,
+     * such as a {@link sh.brane.rpc.CallBatcher}.
+     *
+     * @param request the call request
+     * @return the raw return data
+     */
+    protected HexData executeCall(final CallRequest request) {
+        return client.call(request, BlockTag.LATEST);
+    }
+
     /**
      * Invokes a view/pure function via eth_call.
      *
@@ -95,11 +108,11 @@ abstract class AbstractContractInvocationHandler<C extends Brane> implements Inv
     protected Object invokeView(final Method method, final Abi.FunctionCall call) {
         final CallRequest request = CallRequest.builder()
                 .to(address)
-                .data(new HexData(call.data()))
+                .data(call.calldata())
                 .build();
 
         try {
-            final HexData output = client.call(request, BlockTag.LATEST);
+            final HexData output = executeCall(request);
             final String outputValue = output != null ? output.value() : null;
             if (outputValue == null || outputValue.isBlank() || "0x".equals(outputValue)) {
                 throw new AbiDecodingException(
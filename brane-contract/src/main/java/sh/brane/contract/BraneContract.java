@@ -16,6 +16,7 @@ import sh.brane.core.model.TransactionReceipt;
 import sh.brane.core.types.Address;
 import sh.brane.core.types.HexData;
 import sh.brane.rpc.Brane;
+import sh.brane.rpc.CallBatcher;
 
 /**
  * Dynamic proxy-based contract binding system that maps Java interfaces to
@@ -222,6 +223,62 @@ public final class BraneContract {
         return contractInterface.cast(proxy);
     }
 
+    /**
+     * Binds a Java interface to a deployed smart contract for read-only operations,
+     * merging its calls with other concurrent calls through a {@link CallBatcher}.
+     *
+     * <p>
+     * The proxy behaves exactly like one returned by
+     * {@link #bindReadOnly(Address, String, Brane, Class)}: each method blocks and
+     * returns its own result or throws its own revert. Calls made from different
+     * threads within the batcher's window, on this or any other proxy sharing the
+     * batcher, are sent as a single Multicall3 {@code aggregate3} request.
+     *
+     * <p>
+     * <strong>Example:</strong>
+     * <pre>{@code
+     * CallBatcher batcher = CallBatcher.create(client);
+     * Erc20View token = BraneContract.bindReadOnly(tokenAddress, abiJson, batcher, Erc20View.class);
+     *
+     * // Existing per-request code, e.g. one virtual thread per request, is unchanged
+     * BigInteger balance = token.balanceOf(user);
+     * }</pre>
+     *
+     * @param <T>               the contract interface type
+     * @param address           the deployed contract address
+     * @param abiJson           the contract ABI in JSON format
+     * @param batcher           the batcher that sends the calls
+     * @param contractInterface the Java interface class representing the contract
+     * @return a proxy instance implementing the contract interface (read-only)
+     * @throws IllegalArgumentException if validation fails or interface contains non-view functions
+     * @throws NullPointerException     if any parameter is null
+     * @since 0.3.0
+     */
+    public static <T> T bindReadOnly(
+            final Address address,
+            final String abiJson,
+            final CallBatcher batcher,
+            final Class<T> contractInterface) {
+        Objects.requireNonNull(address, "address");
+        Objects.requireNonNull(abiJson, "abiJson");
+        Objects.requireNonNull(batcher, "batcher");
+        Objects.requireNonNull(contractInterface, "contractInterface");
+
+        if (!contractInterface.isInterface()) {
+            throw new IllegalArgumentException("contractInterface must be an interface");
+        }
+
+        final Abi abi = Abi.fromJson(abiJson);
+        validateReadOnlyMethods(contractInterface, abi);
+
+        final AbiBinding binding = new AbiBinding(abi, contractInterface);
+        final ReadOnlyContractInvocationHandler handler = new ReadOnlyContractInvocationHandler(
+                address, abi, binding, batcher.client(), batcher);
+        final Object proxy = Proxy.newProxyInstance(
+                contractInterface.getClassLoader(), new Class<?>[] { contractInterface }, handler);
+        return contractInterface.cast(proxy);
+    }
+
     /**
      * Binds a Java interface to a deployed smart contract for read-write operations using the new Brane.Signer API.
      *
@@ -4,31 +4,55 @@ package sh.brane.contract;
 import java.lang.reflect.Method;
 import java.util.Objects;
 
+import org.jspecify.annotations.Nullable;
+
 import sh.brane.core.abi.Abi;
 import sh.brane.core.abi.AbiBinding;
 import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
 import sh.brane.core.util.MethodUtils;
 import sh.brane.rpc.Brane;
+import sh.brane.rpc.CallBatcher;
+import sh.brane.rpc.CallRequest;
 
 /**
  * Invocation handler for read-only contract proxies using the Brane API.
  *
  * <p>This handler only supports view/pure functions. Any attempt to invoke
  * state-changing functions will throw {@link UnsupportedOperationException}.
+ * When created with a {@link CallBatcher}, view calls are merged with other
+ * concurrent calls into Multicall3 requests.
  */
 final class ReadOnlyContractInvocationHandler extends AbstractContractInvocationHandler<Brane> {
 
+    private final @Nullable CallBatcher batcher;
+
     ReadOnlyContractInvocationHandler(
             final Address address,
             final Abi abi,
             final AbiBinding binding,
             final Brane client) {
+        this(address, abi, binding, client, null);
+    }
+
+    ReadOnlyContractInvocationHandler(
+            final Address address,
+            final Abi abi,
+            final AbiBinding binding,
+            final Brane client,
+            final @Nullable CallBatcher batcher) {
         super(address, abi, binding, client);
+        this.batcher = batcher;
     }
 
     @Override
     protected String toStringSuffix() {
-        return ", readOnly=true";
+        return batcher != null ? ", readOnly=true, batched=true" : ", readOnly=true";
+    }
+
+    @Override
+    protected HexData executeCall(final CallRequest request) {
+        return batcher != null ? batcher.call(request) : super.executeCall(request);
     }
 
     @Override
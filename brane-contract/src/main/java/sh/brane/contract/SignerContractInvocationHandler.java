@@ -11,7 +11,6 @@ import sh.brane.core.builder.TxBuilder;
 import sh.brane.core.model.TransactionReceipt;
 import sh.brane.core.model.TransactionRequest;
 import sh.brane.core.types.Address;
-import sh.brane.core.types.HexData;
 import sh.brane.core.types.Wei;
 import sh.brane.core.util.MethodUtils;
 import sh.brane.rpc.Brane;
@@ -92,13 +91,13 @@ final class SignerContractInvocationHandler extends AbstractContractInvocationHa
         return switch (options.transactionType()) {
             case LEGACY -> TxBuilder.legacy()
                     .to(address)
-                    .data(new HexData(call.data()))
+                    .data(call.calldata())
                     .value(value)
                     .gasLimit(options.gasLimit())
                     .build();
             case EIP1559 -> TxBuilder.eip1559()
                     .to(address)
-                    .data(new HexData(call.data()))
+                    .data(call.calldata())
                     .value(value)
                     .gasLimit(options.gasLimit())
                     .maxPriorityFeePerGas(options.maxPriorityFee())
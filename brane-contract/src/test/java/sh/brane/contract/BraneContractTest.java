@@ -7,11 +7,31 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
+import sh.brane.core.abi.AbiEncoder;
+import sh.brane.core.abi.AbiType;
+import sh.brane.core.abi.Array;
+import sh.brane.core.abi.Bool;
+import sh.brane.core.abi.Bytes;
+import sh.brane.core.abi.Tuple;
+import sh.brane.core.abi.UInt;
 import sh.brane.core.error.AbiEncodingException;
 import sh.brane.core.model.TransactionRequest;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+import sh.brane.rpc.Brane;
+import sh.brane.rpc.CallBatcher;
+import sh.brane.rpc.JsonRpcResponse;
 
 class BraneContractTest {
 
@@ -109,4 +129,51 @@ class BraneContractTest {
 
         assertTrue(ex.getMessage().contains("Constructor not defined in ABI"));
     }
+
+    interface TotalSupplyView {
+        BigInteger totalSupply();
+    }
+
+    @Test
+    void bindReadOnlyWithBatcherMergesConcurrentCalls() throws Exception {
+        final String abi = """
+                [
+                  {
+                    "inputs": [],
+                    "name": "totalSupply",
+                    "outputs": [{"internalType": "uint256", "name": "", "type": "uint256"}],
+                    "stateMutability": "view",
+                    "type": "function"
+                  }
+                ]
+                """;
+        final List<Object> targets = new CopyOnWriteArrayList<>();
+        final Brane client = Brane.builder()
+                .provider((method, params) -> {
+                    targets.add(((Map<?, ?>) params.get(0)).get("to"));
+                    // Answer aggregate3 with two successful results of 7
+                    final Tuple result = new Tuple(List.of(
+                            new Bool(true), Bytes.of(AbiEncoder.encode(List.of(new UInt(256, BigInteger.valueOf(7)))))));
+                    final List<AbiType> encoded = List.of(
+                            new Array<>(List.of(result, result), Tuple.class, true, "(bool,bytes)"));
+                    return new JsonRpcResponse("2.0", HexData.fromBytes(AbiEncoder.encode(encoded)).value(), null, "1");
+                })
+                .retries(0)
+                .build();
+        final Address token = new Address("0x" + "1".repeat(40));
+
+        try (CallBatcher batcher = CallBatcher.builder(client).window(Duration.ofMillis(500)).maxBatchSize(2).build();
+                ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final TotalSupplyView view = BraneContract.bindReadOnly(token, abi, batcher, TotalSupplyView.class);
+            final List<Future<BigInteger>> results = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                results.add(executor.submit(view::totalSupply));
+            }
+            for (final Future<BigInteger> result : results) {
+                assertEquals(BigInteger.valueOf(7), result.get());
+            }
+            assertTrue(view.toString().contains("batched=true"));
+        }
+        assertEquals(List.of("0xca11bde05977b3631167028862be2a173976ca11"), targets);
+    }
 }
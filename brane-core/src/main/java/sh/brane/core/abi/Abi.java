@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.abi;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
@@ -95,7 +96,7 @@ public interface Abi {
     static Hash eventTopic(final String eventSignature) {
         final String signature = requireNonEmpty(eventSignature, "eventSignature");
         final byte[] digest = Keccak256.hash(signature.getBytes(StandardCharsets.UTF_8));
-        return new Hash(Hex.encode(digest));
+        return Hash.fromBytes(digest);
     }
 
     /**
@@ -157,6 +158,31 @@ public interface Abi {
      */
     FunctionCall encodeFunction(String name, Object... args);
 
+    /**
+     * Prepares a function for repeated encoding.
+     *
+     * <p>
+     * The returned template resolves the function, its selector and its argument layout
+     * once. Each subsequent encode only converts the arguments, and can write into a
+     * caller-supplied buffer instead of allocating. Prepared functions are immutable and
+     * may be shared between threads.
+     *
+     * <pre>{@code
+     * Abi.PreparedFunction balanceOf = abi.prepare("balanceOf");
+     * byte[] calldata = new byte[balanceOf.encodedLength(holders.get(0))];
+     * for (Address holder : holders) {
+     *     balanceOf.encodeTo(calldata, 0, holder);
+     *     // ... use calldata
+     * }
+     * }</pre>
+     *
+     * @param name the function name, or its canonical signature (e.g. {@code "transfer(address,uint256)"})
+     * @return the prepared function
+     * @throws sh.brane.core.error.AbiEncodingException if the function is not found in the ABI
+     * @since 0.3.0
+     */
+    PreparedFunction prepare(String name);
+
     /**
      * Encodes constructor arguments into hex data.
      *
@@ -241,5 +267,122 @@ public interface Abi {
         String data();
 
         <T> T decode(String output, Class<T> returnType);
+
+        /**
+         * Returns the encoded calldata as {@link HexData}.
+         *
+         * <p>
+         * Calls produced by {@link Abi} keep the encoded bytes, so this does not build
+         * the hex string that {@link #data()} returns; pass it straight to a
+         * {@code CallRequest} or {@code TransactionRequest}.
+         *
+         * @return the calldata
+         * @since 0.3.0
+         */
+        default HexData calldata() {
+            return new HexData(data());
+        }
+    }
+
+    /**
+     * A function whose selector and argument layout have been resolved up front.
+     *
+     * <p>
+     * The calldata is laid out as the 4-byte selector, one 32-byte head word per argument
+     * (or the full inline encoding of a static tuple), then the tails of dynamic arguments.
+     * For functions whose arguments are all static, the encoded length is fixed and
+     * {@link #encodeArgument(byte[], int, int, Object)} can rewrite a single argument of
+     * previously encoded calldata in place.
+     *
+     * @see Abi#prepare(String)
+     * @since 0.3.0
+     */
+    interface PreparedFunction {
+        /**
+         * Returns the canonical signature, e.g. {@code "balanceOf(address)"}.
+         *
+         * @return the function signature
+         */
+        String signature();
+
+        /**
+         * Returns the 4-byte function selector.
+         *
+         * @return the selector
+         */
+        HexData selector();
+
+        /**
+         * Returns the encoded calldata length for the given arguments, including the selector.
+         *
+         * @param args the function arguments in order
+         * @return the calldata length in bytes
+         * @throws sh.brane.core.error.AbiEncodingException if the argument count doesn't match
+         *         or a dynamic argument cannot be encoded
+         */
+        int encodedLength(Object... args);
+
+        /**
+         * Encodes a call into newly allocated calldata; equivalent to {@link Abi#encodeFunction}.
+         *
+         * @param args the function arguments in order
+         * @return the encoded function call
+         * @throws sh.brane.core.error.AbiEncodingException if the argument count doesn't match
+         *         or an argument cannot be encoded
+         */
+        FunctionCall encode(Object... args);
+
+        /**
+         * Encodes a call into {@code dest} starting at {@code offset}.
+         *
+         * @param dest   the destination array
+         * @param offset the index of the selector's first byte
+         * @param args   the function arguments in order
+         * @return the number of bytes written
+         * @throws IllegalArgumentException if {@code dest} is too small
+         * @throws sh.brane.core.error.AbiEncodingException if the argument count doesn't match
+         *         or an argument cannot be encoded
+         */
+        int encodeTo(byte[] dest, int offset, Object... args);
+
+        /**
+         * Encodes a call at the buffer's position, advancing it past the calldata.
+         *
+         * @param buffer the destination buffer
+         * @param args   the function arguments in order
+         * @return the number of bytes written
+         * @throws IllegalArgumentException if the buffer has too little space remaining
+         * @throws sh.brane.core.error.AbiEncodingException if the argument count doesn't match
+         *         or an argument cannot be encoded
+         */
+        int encodeTo(ByteBuffer buffer, Object... args);
+
+        /**
+         * Rewrites one static argument of calldata previously encoded by this function.
+         *
+         * <p>
+         * Only the argument's head is touched; the selector and the other arguments are
+         * left as they are.
+         *
+         * @param dest   calldata produced by {@link #encodeTo(byte[], int, Object...)}
+         * @param offset the index of the selector's first byte
+         * @param index  the zero-based argument index
+         * @param value  the new argument value
+         * @throws IllegalArgumentException if {@code index} is out of range, the argument is
+         *         dynamic, or {@code dest} is too small
+         * @throws sh.brane.core.error.AbiEncodingException if the value cannot be encoded
+         */
+        void encodeArgument(byte[] dest, int offset, int index, Object value);
+
+        /**
+         * Decodes this function's return data.
+         *
+         * @param output     the raw return data as hex
+         * @param returnType the Java type to decode into
+         * @param <T>        the return type
+         * @return the decoded value, or {@code null} if the function returns nothing
+         * @throws sh.brane.core.error.AbiDecodingException if the output cannot be decoded
+         */
+        <T> T decode(String output, Class<T> returnType);
     }
 }
@@ -0,0 +1,34 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.abi;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one top-level {@link AbiDecoder#decode(byte[], java.util.List)}.
+ *
+ * <p>
+ * Disabled by default for the same reason as {@link AbiEncodeEvent}; enable
+ * {@code sh.brane.abi.Decode} in the recording settings when needed.
+ */
+@Name("sh.brane.abi.Decode")
+@Label("ABI Decode")
+@Category({"Brane", "ABI"})
+@Description("ABI decoding of return data or event data into typed values")
+@Enabled(false)
+@StackTrace(false)
+final class AbiDecodeEvent extends Event {
+
+    @Label("Types")
+    int types;
+
+    @Label("Data Size")
+    @DataAmount
+    long dataBytes;
+}
@@ -67,7 +67,15 @@ public final class AbiDecoder {
      * @throws IllegalArgumentException if the data is too short or malformed
      */
     public static List<AbiType> decode(byte[] data, List<TypeSchema> schemas) {
-        return decodeTuple(data, 0, schemas);
+        AbiDecodeEvent event = new AbiDecodeEvent();
+        event.begin();
+        List<AbiType> result = decodeTuple(data, 0, schemas);
+        if (event.shouldCommit()) {
+            event.types = schemas.size();
+            event.dataBytes = data.length;
+            event.commit();
+        }
+        return result;
     }
 
     private static List<AbiType> decodeTuple(byte[] data, int offset, List<TypeSchema> schemas) {
@@ -107,7 +115,7 @@ public final class AbiDecoder {
             case TypeSchema.UIntSchema s -> new UInt(s.width(), decodeUInt(data, offset));
             case TypeSchema.IntSchema s -> new Int(s.width(), decodeInt(data, offset));
             case TypeSchema.AddressSchema s ->
-                new AddressType(new Address(Hex.encode(data, offset + ADDRESS_PADDING_BYTES, 20)));
+                new AddressType(Address.fromBytes(data, offset + ADDRESS_PADDING_BYTES));
             case TypeSchema.BoolSchema s -> new Bool(decodeUInt(data, offset).equals(BigInteger.ONE));
             case TypeSchema.BytesSchema s -> {
                 // Static bytesN: value is left-aligned in 32 bytes, extract only N bytes
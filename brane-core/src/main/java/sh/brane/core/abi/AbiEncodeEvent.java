@@ -0,0 +1,51 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.abi;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one top-level ABI encoding in {@link FastAbiEncoder}.
+ *
+ * <p>
+ * Disabled by default because encoding is frequent and usually takes well under
+ * a microsecond; enable {@code sh.brane.abi.Encode} in the recording settings,
+ * optionally with a threshold, when investigating encoding cost.
+ */
+@Name("sh.brane.abi.Encode")
+@Label("ABI Encode")
+@Category({"Brane", "ABI"})
+@Description("ABI encoding of a function call or argument tuple")
+@Enabled(false)
+@StackTrace(false)
+final class AbiEncodeEvent extends Event {
+
+    @Label("Function Signature")
+    @Description("Null when encoding a bare tuple or from a precomputed selector")
+    String signature;
+
+    @Label("Arguments")
+    int arguments;
+
+    @Label("Encoded Size")
+    @DataAmount
+    long encodedBytes;
+
+    /**
+     * Commits the event if it passes the recording's settings.
+     */
+    void record(final String signature, final int arguments, final long encodedBytes) {
+        if (shouldCommit()) {
+            this.signature = signature;
+            this.arguments = arguments;
+            this.encodedBytes = encodedBytes;
+            commit();
+        }
+    }
+}
@@ -10,7 +10,6 @@ import java.util.List;
 
 import sh.brane.core.crypto.Keccak256;
 import sh.brane.core.types.HexData;
-import sh.brane.primitives.Hex;
 
 /**
  * High-performance ABI encoder that eliminates intermediate object allocations.
@@ -53,10 +52,13 @@ public final class FastAbiEncoder {
      * @return the encoded byte array
      */
     public static byte[] encode(List<AbiType> args) {
+        AbiEncodeEvent event = new AbiEncodeEvent();
+        event.begin();
         int totalSize = PackedSizeCalculator.calculate(args);
         byte[] result = new byte[totalSize];
         ByteBuffer buffer = ByteBuffer.wrap(result);
         encodeTuple(args, buffer);
+        event.record(null, args.size(), result.length);
         return result;
     }
 
@@ -68,12 +70,15 @@ public final class FastAbiEncoder {
      * @return the encoded function call data including the 4-byte selector
      */
     public static byte[] encodeFunction(String signature, List<AbiType> args) {
+        AbiEncodeEvent event = new AbiEncodeEvent();
+        event.begin();
         byte[] selector = Arrays.copyOf(Keccak256.hash(signature.getBytes(StandardCharsets.UTF_8)), 4);
         int argsSize = PackedSizeCalculator.calculate(args);
         byte[] result = new byte[4 + argsSize];
         ByteBuffer buffer = ByteBuffer.wrap(result);
         buffer.put(selector);
         encodeTuple(args, buffer);
+        event.record(signature, args.size(), result.length);
         return result;
     }
 
@@ -96,12 +101,16 @@ public final class FastAbiEncoder {
         if (selector.length != 4) {
             throw new IllegalArgumentException("Selector must be exactly 4 bytes, got " + selector.length);
         }
+        AbiEncodeEvent event = new AbiEncodeEvent();
+        event.begin();
+        int start = buffer.position();
         buffer.put(selector);
         List<AbiType> abiArgs = new ArrayList<>(args.length);
         for (Object arg : args) {
             abiArgs.add((AbiType) arg);
         }
         encodeTuple(abiArgs, buffer);
+        event.record(null, args.length, buffer.position() - start);
     }
 
     /**
@@ -281,14 +290,16 @@ public final class FastAbiEncoder {
     /**
      * Encodes an address directly into the buffer.
      *
+     * <p><b>Allocation:</b> 0 allocations. The address words are written with
+     * {@link sh.brane.core.types.Address#putTo(ByteBuffer)}.
+     *
      * @param address the address to encode
      * @param buffer  the destination buffer
      */
     public static void encodeAddress(sh.brane.core.types.Address address, ByteBuffer buffer) {
-        byte[] addrBytes = Hex.decode(address.value());
         buffer.putLong(0L);
         buffer.putInt(0);
-        buffer.put(addrBytes);
+        address.putTo(buffer);
     }
 
     public static byte[] encodeAddress(sh.brane.core.types.Address address) {
@@ -4,6 +4,7 @@ package sh.brane.core.abi;
 import java.io.IOException;
 import java.lang.reflect.InaccessibleObjectException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -53,58 +54,20 @@ final class InternalAbi implements Abi {
     @Override
     public FunctionCall encodeFunction(final String name, final Object... args) {
         final Object[] providedArgs = Objects.requireNonNullElse(args, EMPTY_ARGS);
-        final AbiFunction fn = resolveFunction(name, providedArgs.length);
-
-        // Calculate selector
-        final byte[] selector = Arrays
-                .copyOf(sh.brane.core.crypto.Keccak256.hash(fn.signature().getBytes(StandardCharsets.UTF_8)), 4);
-
-        // Calculate arguments size
-        int headSize = 0;
-        int dynamicTailSize = 0;
-        final List<AbiParameter> inputs = fn.inputs();
-        final int count = inputs.size();
-
-        for (int i = 0; i < count; i++) {
-            final AbiParameter param = inputs.get(i);
-            final Object arg = providedArgs[i];
-            headSize += param.converter.getHeadSize();
-            if (param.converter.isDynamic()) {
-                dynamicTailSize += param.converter.getContentSize(arg);
-            }
-        }
-
-        final int totalSize = 4 + headSize + dynamicTailSize;
-        final byte[] encoded = new byte[totalSize];
-        final java.nio.ByteBuffer buffer = java.nio.ByteBuffer.wrap(encoded);
-
-        buffer.put(selector);
-
-        // Encode Heads
-        int currentTailOffset = headSize;
-        for (int i = 0; i < count; i++) {
-            final AbiParameter param = inputs.get(i);
-            final Object arg = providedArgs[i];
+        return resolveFunction(name, providedArgs.length).prepared().encode(providedArgs);
+    }
 
-            if (param.converter.isDynamic()) {
-                sh.brane.core.abi.FastAbiEncoder.encodeUInt256(BigInteger.valueOf(currentTailOffset), buffer);
-                currentTailOffset += param.converter.getContentSize(arg);
-            } else {
-                param.converter.encodeContent(arg, buffer);
-            }
+    @Override
+    public PreparedFunction prepare(final String name) {
+        final AbiFunction bySignature = functionsBySignature.get(name);
+        if (bySignature != null) {
+            return bySignature.prepared();
         }
-
-        // Encode Tails
-        for (int i = 0; i < count; i++) {
-            final AbiParameter param = inputs.get(i);
-            final Object arg = providedArgs[i];
-
-            if (param.converter.isDynamic()) {
-                param.converter.encodeContent(arg, buffer);
-            }
+        final AbiFunction function = functionsByName.get(name);
+        if (function == null) {
+            throw new AbiEncodingException("Unknown function '" + name + "'");
         }
-
-        return new Call(fn, HexData.fromBytes(encoded));
+        return function.prepared();
     }
 
     @Override
@@ -508,6 +471,11 @@ final class InternalAbi implements Abi {
 
                 @Override
                 public void encodeContent(Object value, java.nio.ByteBuffer buffer) {
+                    // Boxed longs and ints skip the BigInteger round trip; negatives fall through to the error
+                    if ((value instanceof Long || value instanceof Integer) && ((Number) value).longValue() >= 0) {
+                        sh.brane.core.abi.FastAbiEncoder.encodeUint256(((Number) value).longValue(), buffer);
+                        return;
+                    }
                     sh.brane.core.abi.FastAbiEncoder.encodeUInt256(toBigInteger(value, false), buffer);
                 }
             };
@@ -870,11 +838,55 @@ final class InternalAbi implements Abi {
         }
     }
 
-    private record AbiFunction(
-            String name, String stateMutability, List<AbiParameter> inputs, List<AbiParameter> outputs) {
-        String signature() {
+    /**
+     * Internal representation of an ABI function. The signature is computed once at
+     * construction time; the prepared encoding template is built on first use.
+     */
+    private static final class AbiFunction {
+        private final String name;
+        private final String stateMutability;
+        private final List<AbiParameter> inputs;
+        private final List<AbiParameter> outputs;
+        private final String signature;
+        // Racy single-check: concurrent callers may build equivalent templates
+        private Prepared prepared;
+
+        AbiFunction(
+                final String name,
+                final String stateMutability,
+                final List<AbiParameter> inputs,
+                final List<AbiParameter> outputs) {
+            this.name = name;
+            this.stateMutability = stateMutability;
+            this.inputs = inputs;
+            this.outputs = outputs;
             final String joined = inputs.stream().map(AbiParameter::canonicalType).collect(Collectors.joining(","));
-            return name + "(" + joined + ")";
+            this.signature = name + "(" + joined + ")";
+        }
+
+        String name() {
+            return name;
+        }
+
+        List<AbiParameter> inputs() {
+            return inputs;
+        }
+
+        List<AbiParameter> outputs() {
+            return outputs;
+        }
+
+        String signature() {
+            return signature;
+        }
+
+        Prepared prepared() {
+            Prepared result = prepared;
+            if (result == null) {
+                result = new Prepared(this);
+                prepared = result;
+            }
+            return result;
         }
 
         FunctionMetadata metadata() {
@@ -884,6 +896,159 @@ final class InternalAbi implements Abi {
         }
     }
 
+    /**
+     * Encoding template for a function: selector, converters and head layout are resolved
+     * once, so encoding only converts the arguments. All fields are final, which makes
+     * instances safe to publish through {@link AbiFunction#prepared()} without locking.
+     */
+    private static final class Prepared implements PreparedFunction {
+        private final AbiFunction function;
+        private final byte[] selector;
+        private final TypeConverter[] converters;
+        private final int[] headOffsets;
+        private final int headSize;
+        private final boolean dynamic;
+
+        Prepared(final AbiFunction function) {
+            this.function = function;
+            this.selector = Arrays.copyOf(
+                    sh.brane.core.crypto.Keccak256.hash(function.signature().getBytes(StandardCharsets.UTF_8)), 4);
+            final int count = function.inputs().size();
+            this.converters = new TypeConverter[count];
+            this.headOffsets = new int[count];
+            int offset = 0;
+            boolean anyDynamic = false;
+            for (int i = 0; i < count; i++) {
+                converters[i] = function.inputs().get(i).converter;
+                headOffsets[i] = offset;
+                offset += converters[i].getHeadSize();
+                anyDynamic |= converters[i].isDynamic();
+            }
+            this.headSize = offset;
+            this.dynamic = anyDynamic;
+        }
+
+        @Override
+        public String signature() {
+            return function.signature();
+        }
+
+        @Override
+        public HexData selector() {
+            return HexData.fromBytes(selector);
+        }
+
+        @Override
+        public int encodedLength(final Object... args) {
+            return encodedLength0(checkArgs(args));
+        }
+
+        @Override
+        public FunctionCall encode(final Object... args) {
+            final Object[] checked = checkArgs(args);
+            final byte[] encoded = new byte[encodedLength0(checked)];
+            write(ByteBuffer.wrap(encoded), checked);
+            return new Call(function, HexData.wrap(encoded));
+        }
+
+        @Override
+        public int encodeTo(final byte[] dest, final int offset, final Object... args) {
+            Objects.requireNonNull(dest, "dest");
+            final Object[] checked = checkArgs(args);
+            final int length = encodedLength0(checked);
+            checkSpace(dest.length - offset, offset, length);
+            write(ByteBuffer.wrap(dest, offset, length), checked);
+            return length;
+        }
+
+        @Override
+        public int encodeTo(final ByteBuffer buffer, final Object... args) {
+            Objects.requireNonNull(buffer, "buffer");
+            final Object[] checked = checkArgs(args);
+            final int length = encodedLength0(checked);
+            checkSpace(buffer.remaining(), 0, length);
+            write(buffer, checked);
+            return length;
+        }
+
+        @Override
+        public void encodeArgument(final byte[] dest, final int offset, final int index, final Object value) {
+            Objects.requireNonNull(dest, "dest");
+            if (index < 0 || index >= converters.length) {
+                throw new IllegalArgumentException(
+                        "Argument index " + index + " out of range for " + function.signature());
+            }
+            final TypeConverter converter = converters[index];
+            if (converter.isDynamic()) {
+                throw new IllegalArgumentException(
+                        "Argument " + index + " of " + function.signature() + " is dynamic and cannot be rewritten");
+            }
+            final int start = offset + 4 + headOffsets[index];
+            checkSpace(dest.length - start, start, converter.getHeadSize());
+            converter.encodeContent(value, ByteBuffer.wrap(dest, start, converter.getHeadSize()));
+        }
+
+        @Override
+        public <T> T decode(final String output, final Class<T> returnType) {
+            return Call.decode(function, output, returnType);
+        }
+
+        private Object[] checkArgs(final Object[] args) {
+            final Object[] provided = Objects.requireNonNullElse(args, EMPTY_ARGS);
+            if (provided.length != converters.length) {
+                throw new AbiEncodingException(
+                        "Function "
+                                + function.signature()
+                                + " expects "
+                                + converters.length
+                                + " arguments but "
+                                + provided.length
+                                + " were supplied");
+            }
+            return provided;
+        }
+
+        private int encodedLength0(final Object[] args) {
+            int length = 4 + headSize;
+            if (dynamic) {
+                for (int i = 0; i < converters.length; i++) {
+                    if (converters[i].isDynamic()) {
+                        length += converters[i].getContentSize(args[i]);
+                    }
+                }
+            }
+            return length;
+        }
+
+        private static void checkSpace(final int available, final int offset, final int length) {
+            if (offset < 0 || available < length) {
+                throw new IllegalArgumentException(
+                        "Calldata needs " + length + " bytes at offset " + offset + " but only "
+                                + Math.max(available, 0) + " are available");
+            }
+        }
+
+        private void write(final ByteBuffer buffer, final Object[] args) {
+            buffer.put(selector);
+            int tailOffset = headSize;
+            for (int i = 0; i < converters.length; i++) {
+                if (converters[i].isDynamic()) {
+                    FastAbiEncoder.encodeUint256(tailOffset, buffer);
+                    tailOffset += converters[i].getContentSize(args[i]);
+                } else {
+                    converters[i].encodeContent(args[i], buffer);
+                }
+            }
+            if (dynamic) {
+                for (int i = 0; i < converters.length; i++) {
+                    if (converters[i].isDynamic()) {
+                        converters[i].encodeContent(args[i], buffer);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Internal representation of an ABI event with cached topic hash for performance.
      * The topic hash (Keccak256 of the signature) is computed once at construction time
@@ -1224,8 +1389,17 @@ final class InternalAbi implements Abi {
             return data.value();
         }
 
+        @Override
+        public HexData calldata() {
+            return data;
+        }
+
         @Override
         public <T> T decode(final String rawResultHex, final Class<T> returnType) {
+            return decode(abiFunction, rawResultHex, returnType);
+        }
+
+        static <T> T decode(final AbiFunction abiFunction, final String rawResultHex, final Class<T> returnType) {
             if (returnType == null) {
                 throw new AbiDecodingException("returnType must not be null");
             }
@@ -1272,7 +1446,7 @@ final class InternalAbi implements Abi {
             }
         }
 
-        private <T> T mapMultipleReturns(List<Object> values, Class<T> returnType, String functionName) {
+        private static <T> T mapMultipleReturns(List<Object> values, Class<T> returnType, String functionName) {
             // Use the shared collection mapping helper
             T result = tryMapToCollection(values, returnType);
             if (result != null) {
@@ -1282,7 +1456,7 @@ final class InternalAbi implements Abi {
                     "Function " + functionName + " returns multiple values; use List or Object[]");
         }
 
-        private <T> T mapValue(final Object value, final Class<T> targetType) {
+        private static <T> T mapValue(final Object value, final Class<T> targetType) {
             if (value == null)
                 return null;
             if (targetType.isInstance(value)) {
@@ -1309,7 +1483,7 @@ final class InternalAbi implements Abi {
                     "Cannot map " + value.getClass().getSimpleName() + " to " + targetType.getName());
         }
 
-        private <T> T coerceNumber(final BigInteger value, final Class<T> targetType) {
+        private static <T> T coerceNumber(final BigInteger value, final Class<T> targetType) {
             if (targetType == BigInteger.class || targetType == Object.class) {
                 @SuppressWarnings("unchecked")
                 final T cast = (T) value;
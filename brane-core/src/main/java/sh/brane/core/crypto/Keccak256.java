@@ -1,16 +1,22 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.crypto;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Objects;
 
-import org.bouncycastle.jcajce.provider.digest.Keccak;
-
 /**
  * Keccak-256 hashing utility for Ethereum.
  *
  * <p>
- * Ethereum uses Keccak-256 (not SHA3-256) for hashing. This class provides
- * a simple interface to BouncyCastle's Keccak.Digest256 implementation.
+ * Ethereum uses Keccak-256 (not SHA3-256) for hashing. This class is a
+ * self-contained implementation of the Keccak-f[1600] sponge with rate 136 and
+ * the original {@code 0x01} padding, operating on 25 {@code long} lanes with a
+ * fully unrolled permutation.
  *
  * <h2>Usage Example</h2>
  *
@@ -18,58 +24,40 @@ import org.bouncycastle.jcajce.provider.digest.Keccak;
  * byte[] data = "hello".getBytes(StandardCharsets.UTF_8);
  * byte[] hash = Keccak256.hash(data);
  * String hashHex = Hex.encode(hash);
- * }</pre>
- *
- * <h2>⚠️ IMPORTANT: ThreadLocal Memory Management</h2>
- *
- * <p>
- * <b>Memory Leak Warning:</b> This class uses {@link ThreadLocal} to cache digest
- * instances for performance. In thread pool environments (servlet containers,
- * application servers, executors), failure to call {@link #cleanup()} can cause
- * memory leaks and classloader leaks during hot redeployment.
- *
- * <h3>When to Call cleanup()</h3>
- * <ul>
- * <li><b>Servlet/Web Applications:</b> In a filter's {@code finally} block or
- *     {@code ServletContextListener.contextDestroyed()}</li>
- * <li><b>Custom Thread Pools:</b> When returning threads to the pool or shutting down</li>
- * <li><b>Application Shutdown:</b> In shutdown hooks or lifecycle callbacks</li>
- * </ul>
  *
- * <h3>Example: Servlet Filter</h3>
- * <pre>{@code
- * public class BraneCleanupFilter implements Filter {
- *     public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
- *             throws IOException, ServletException {
- *         try {
- *             chain.doFilter(req, res);
- *         } finally {
- *             Keccak256.cleanup();  // Prevent memory leak
- *         }
- *     }
- * }
+ * // Hash a slice into a caller-owned buffer, without copying or allocating a result
+ * byte[] digest = new byte[32];
+ * Keccak256.hash(publicKey, 1, 64, digest, 0);
  * }</pre>
  *
- * <h3>Example: ExecutorService</h3>
- * <pre>{@code
- * executor.submit(() -> {
- *     try {
- *         // ... use Keccak256.hash() ...
- *     } finally {
- *         Keccak256.cleanup();
- *     }
- * });
- * }</pre>
+ * <h2>Threading</h2>
  *
  * <p>
- * <b>Note:</b> For simple CLI applications or short-lived processes, cleanup is
- * not strictly necessary as ThreadLocal values are released when the JVM exits.
+ * All methods are stateless: each call keeps its 200-byte sponge state on the
+ * calling thread's stack or in a short-lived array, with no {@link ThreadLocal}
+ * caching. The class is safe to use from any number of platform or virtual
+ * threads and never needs cleanup.
  *
  * @since 0.2.0
  */
 public final class Keccak256 {
 
-    private static final ThreadLocal<Keccak.Digest256> DIGEST = ThreadLocal.withInitial(Keccak.Digest256::new);
+    /** Digest length in bytes. */
+    public static final int DIGEST_LENGTH = 32;
+
+    /** Sponge rate in bytes (1600 - 2 * 256 bits). */
+    private static final int RATE = 136;
+
+    private static final VarHandle LANE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long[] ROUND_CONSTANTS = {
+        0x0000000000000001L, 0x0000000000008082L, 0x800000000000808aL, 0x8000000080008000L,
+        0x000000000000808bL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+        0x000000000000008aL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000aL,
+        0x000000008000808bL, 0x800000000000008bL, 0x8000000000008089L, 0x8000000000008003L,
+        0x8000000000008002L, 0x8000000000000080L, 0x000000000000800aL, 0x800000008000000aL,
+        0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L
+    };
 
     private Keccak256() {
         // Utility class
@@ -85,9 +73,39 @@ public final class Keccak256 {
     public static byte[] hash(final byte[] input) {
         Objects.requireNonNull(input, "input cannot be null");
 
-        final Keccak.Digest256 digest = DIGEST.get();
-        digest.reset(); // Ensure clean state
-        return digest.digest(input);
+        final byte[] out = new byte[DIGEST_LENGTH];
+        final long[] state = new long[25];
+        absorbFinal(state, 0, input, 0, input.length);
+        squeeze(state, out, 0);
+        return out;
+    }
+
+    /**
+     * Computes the Keccak-256 hash of {@code input[offset..offset+length)} into
+     * {@code out[outOffset..outOffset+32)}.
+     *
+     * <p><b>Allocation:</b> none beyond the sponge state, which escape analysis
+     * usually keeps off the heap.
+     *
+     * @param input     the source array
+     * @param offset    the first byte to hash
+     * @param length    the number of bytes to hash
+     * @param out       the destination array
+     * @param outOffset where to write the 32-byte digest
+     * @throws NullPointerException      if input or out is null
+     * @throws IndexOutOfBoundsException if either region is out of bounds
+     * @since 0.3.0
+     */
+    public static void hash(
+            final byte[] input, final int offset, final int length, final byte[] out, final int outOffset) {
+        Objects.requireNonNull(input, "input cannot be null");
+        Objects.requireNonNull(out, "out cannot be null");
+        Objects.checkFromIndexSize(offset, length, input.length);
+        Objects.checkFromIndexSize(outOffset, DIGEST_LENGTH, out.length);
+
+        final long[] state = new long[25];
+        absorbFinal(state, 0, input, offset, length);
+        squeeze(state, out, outOffset);
     }
 
     /**
@@ -104,30 +122,319 @@ public final class Keccak256 {
     public static byte[] hash(final byte[]... inputs) {
         Objects.requireNonNull(inputs, "inputs cannot be null");
 
-        final Keccak.Digest256 digest = DIGEST.get();
-        digest.reset();
+        final long[] state = new long[25];
+        int position = 0;
         for (byte[] input : inputs) {
             Objects.requireNonNull(input, "input element cannot be null");
-            digest.update(input);
+            position = absorb(state, position, input, 0, input.length);
         }
-        return digest.digest();
+        pad(state, position);
+        final byte[] out = new byte[DIGEST_LENGTH];
+        squeeze(state, out, 0);
+        return out;
+    }
+
+    /**
+     * Computes the Keccak-256 hash of the remaining bytes of {@code input},
+     * advancing its position to its limit.
+     *
+     * @param input the data to hash
+     * @return 32-byte hash
+     * @throws NullPointerException if input is null
+     * @since 0.3.0
+     */
+    public static byte[] hash(final ByteBuffer input) {
+        final byte[] out = new byte[DIGEST_LENGTH];
+        hash(input, ByteBuffer.wrap(out));
+        return out;
     }
 
     /**
-     * Removes the cached digest instance from the current thread.
+     * Computes the Keccak-256 hash of the remaining bytes of {@code input} and
+     * writes the 32-byte digest to {@code output}.
      *
      * <p>
-     * Call this method to prevent memory leaks in thread pool environments
-     * where threads are reused across different application contexts or
-     * class loaders.
+     * Both buffers may be heap or direct; {@code input}'s position advances to
+     * its limit and {@code output}'s by 32. The byte order of either buffer does
+     * not matter.
+     *
+     * @param input  the data to hash
+     * @param output the destination buffer
+     * @throws NullPointerException    if either buffer is null
+     * @throws BufferOverflowException if fewer than 32 bytes remain in {@code output}
+     * @since 0.3.0
+     */
+    public static void hash(final ByteBuffer input, final ByteBuffer output) {
+        Objects.requireNonNull(input, "input cannot be null");
+        Objects.requireNonNull(output, "output cannot be null");
+        if (output.remaining() < DIGEST_LENGTH) {
+            throw new BufferOverflowException();
+        }
+
+        final long[] state = new long[25];
+        final int length = input.remaining();
+        if (input.hasArray()) {
+            absorbFinal(state, 0, input.array(), input.arrayOffset() + input.position(), length);
+        } else {
+            absorbFinal(state, input, input.position(), length);
+        }
+        input.position(input.limit());
+
+        if (output.hasArray()) {
+            squeeze(state, output.array(), output.arrayOffset() + output.position());
+            output.position(output.position() + DIGEST_LENGTH);
+        } else {
+            final boolean swap = output.order() != ByteOrder.LITTLE_ENDIAN;
+            for (int i = 0; i < 4; i++) {
+                output.putLong(swap ? Long.reverseBytes(state[i]) : state[i]);
+            }
+        }
+    }
+
+    /**
+     * Hashes each of {@code inputs} and writes the digests back to back into
+     * {@code out}, starting at {@code outOffset}.
      *
      * <p>
-     * This is safe to call even if the thread has never called {@link #hash};
-     * it will simply be a no-op.
+     * Intended for bulk work such as hashing every transaction or leaf of a block:
+     * one sponge state is reused for all messages and no per-message result array
+     * is allocated. Digest {@code i} occupies {@code out[outOffset + 32*i .. + 32)}.
+     *
+     * @param inputs    the messages to hash
+     * @param out       the destination array, at least {@code outOffset + 32 * inputs.length} long
+     * @param outOffset where to write the first digest
+     * @throws NullPointerException      if inputs, any element, or out is null
+     * @throws IndexOutOfBoundsException if out is too small
+     * @since 0.3.0
+     */
+    public static void hashAll(final byte[][] inputs, final byte[] out, final int outOffset) {
+        Objects.requireNonNull(inputs, "inputs cannot be null");
+        Objects.requireNonNull(out, "out cannot be null");
+        Objects.checkFromIndexSize(outOffset, Math.multiplyExact(inputs.length, DIGEST_LENGTH), out.length);
+
+        final long[] state = new long[25];
+        for (int i = 0; i < inputs.length; i++) {
+            final byte[] input = Objects.requireNonNull(inputs[i], "input element cannot be null");
+            if (i > 0) {
+                Arrays.fill(state, 0L);
+            }
+            absorbFinal(state, 0, input, 0, input.length);
+            squeeze(state, out, outOffset + i * DIGEST_LENGTH);
+        }
+    }
+
+    /**
+     * Retained for source compatibility; does nothing.
      *
-     * @see ThreadLocal#remove()
+     * <p>
+     * Earlier versions cached a digest per thread and required this call in
+     * thread pools. The current implementation keeps no per-thread state.
      */
     public static void cleanup() {
-        DIGEST.remove();
+        // No per-thread state to release
+    }
+
+    // ==================== Sponge ====================
+
+    /**
+     * Absorbs the whole message and applies the final padding.
+     */
+    private static void absorbFinal(
+            final long[] state, final int position, final byte[] input, final int offset, final int length) {
+        pad(state, absorb(state, position, input, offset, length));
+    }
+
+    /**
+     * XORs {@code length} bytes into the sponge starting at byte {@code position}
+     * of the current block, permuting after every full block.
+     *
+     * @return the byte position within the current block after absorbing
+     */
+    private static int absorb(
+            final long[] state, int position, final byte[] input, int offset, int length) {
+        // Finish a partially filled block byte by byte
+        while (length > 0 && (position & 7) != 0) {
+            state[position >>> 3] ^= (input[offset++] & 0xFFL) << ((position & 7) << 3);
+            position++;
+            length--;
+            if (position == RATE) {
+                keccakF(state);
+                position = 0;
+            }
+        }
+        // Lane-aligned bulk
+        while (length >= 8) {
+            state[position >>> 3] ^= (long) LANE.get(input, offset);
+            offset += 8;
+            length -= 8;
+            position += 8;
+            if (position == RATE) {
+                keccakF(state);
+                position = 0;
+            }
+        }
+        // Tail
+        while (length > 0) {
+            state[position >>> 3] ^= (input[offset++] & 0xFFL) << ((position & 7) << 3);
+            position++;
+            length--;
+        }
+        return position;
+    }
+
+    /**
+     * Direct-buffer variant of {@link #absorbFinal(long[], int, byte[], int, int)}
+     * using absolute reads, so the buffer's position and order are not touched.
+     */
+    private static void absorbFinal(final long[] state, final ByteBuffer input, int index, int length) {
+        final boolean swap = input.order() != ByteOrder.LITTLE_ENDIAN;
+        int position = 0;
+        while (length >= 8) {
+            final long lane = input.getLong(index);
+            state[position >>> 3] ^= swap ? Long.reverseBytes(lane) : lane;
+            index += 8;
+            length -= 8;
+            position += 8;
+            if (position == RATE) {
+                keccakF(state);
+                position = 0;
+            }
+        }
+        while (length > 0) {
+            state[position >>> 3] ^= (input.get(index++) & 0xFFL) << ((position & 7) << 3);
+            position++;
+            length--;
+        }
+        pad(state, position);
+    }
+
+    /**
+     * Applies Keccak padding ({@code 0x01 ... 0x80}) at {@code position} and permutes.
+     */
+    private static void pad(final long[] state, final int position) {
+        state[position >>> 3] ^= 0x01L << ((position & 7) << 3);
+        state[(RATE - 1) >>> 3] ^= 0x80L << (((RATE - 1) & 7) << 3);
+        keccakF(state);
+    }
+
+    /**
+     * Writes the first four lanes (32 bytes) little-endian to {@code out}.
+     */
+    private static void squeeze(final long[] state, final byte[] out, final int outOffset) {
+        LANE.set(out, outOffset, state[0]);
+        LANE.set(out, outOffset + 8, state[1]);
+        LANE.set(out, outOffset + 16, state[2]);
+        LANE.set(out, outOffset + 24, state[3]);
+    }
+
+    // ==================== Keccak-f[1600] ====================
+
+    /**
+     * Applies the 24-round Keccak-f[1600] permutation with every lane held in a local.
+     */
+    static void keccakF(final long[] a) {
+        long a00 = a[0], a01 = a[1], a02 = a[2], a03 = a[3], a04 = a[4];
+        long a05 = a[5], a06 = a[6], a07 = a[7], a08 = a[8], a09 = a[9];
+        long a10 = a[10], a11 = a[11], a12 = a[12], a13 = a[13], a14 = a[14];
+        long a15 = a[15], a16 = a[16], a17 = a[17], a18 = a[18], a19 = a[19];
+        long a20 = a[20], a21 = a[21], a22 = a[22], a23 = a[23], a24 = a[24];
+
+        for (int round = 0; round < 24; round++) {
+            // theta
+            long c0 = a00 ^ a05 ^ a10 ^ a15 ^ a20;
+            long c1 = a01 ^ a06 ^ a11 ^ a16 ^ a21;
+            final long c2 = a02 ^ a07 ^ a12 ^ a17 ^ a22;
+            final long c3 = a03 ^ a08 ^ a13 ^ a18 ^ a23;
+            final long c4 = a04 ^ a09 ^ a14 ^ a19 ^ a24;
+
+            final long d0 = Long.rotateLeft(c1, 1) ^ c4;
+            final long d1 = Long.rotateLeft(c2, 1) ^ c0;
+            final long d2 = Long.rotateLeft(c3, 1) ^ c1;
+            final long d3 = Long.rotateLeft(c4, 1) ^ c2;
+            final long d4 = Long.rotateLeft(c0, 1) ^ c3;
+
+            a00 ^= d0; a05 ^= d0; a10 ^= d0; a15 ^= d0; a20 ^= d0;
+            a01 ^= d1; a06 ^= d1; a11 ^= d1; a16 ^= d1; a21 ^= d1;
+            a02 ^= d2; a07 ^= d2; a12 ^= d2; a17 ^= d2; a22 ^= d2;
+            a03 ^= d3; a08 ^= d3; a13 ^= d3; a18 ^= d3; a23 ^= d3;
+            a04 ^= d4; a09 ^= d4; a14 ^= d4; a19 ^= d4; a24 ^= d4;
+
+            // rho and pi, following the lane cycle starting at (1, 0)
+            c1 = Long.rotateLeft(a01, 1);
+            a01 = Long.rotateLeft(a06, 44);
+            a06 = Long.rotateLeft(a09, 20);
+            a09 = Long.rotateLeft(a22, 61);
+            a22 = Long.rotateLeft(a14, 39);
+            a14 = Long.rotateLeft(a20, 18);
+            a20 = Long.rotateLeft(a02, 62);
+            a02 = Long.rotateLeft(a12, 43);
+            a12 = Long.rotateLeft(a13, 25);
+            a13 = Long.rotateLeft(a19, 8);
+            a19 = Long.rotateLeft(a23, 56);
+            a23 = Long.rotateLeft(a15, 41);
+            a15 = Long.rotateLeft(a04, 27);
+            a04 = Long.rotateLeft(a24, 14);
+            a24 = Long.rotateLeft(a21, 2);
+            a21 = Long.rotateLeft(a08, 55);
+            a08 = Long.rotateLeft(a16, 45);
+            a16 = Long.rotateLeft(a05, 36);
+            a05 = Long.rotateLeft(a03, 28);
+            a03 = Long.rotateLeft(a18, 21);
+            a18 = Long.rotateLeft(a17, 15);
+            a17 = Long.rotateLeft(a11, 10);
+            a11 = Long.rotateLeft(a07, 6);
+            a07 = Long.rotateLeft(a10, 3);
+            a10 = c1;
+
+            // chi, one row at a time
+            c0 = a00 ^ (~a01 & a02);
+            c1 = a01 ^ (~a02 & a03);
+            a02 ^= ~a03 & a04;
+            a03 ^= ~a04 & a00;
+            a04 ^= ~a00 & a01;
+            a00 = c0;
+            a01 = c1;
+
+            c0 = a05 ^ (~a06 & a07);
+            c1 = a06 ^ (~a07 & a08);
+            a07 ^= ~a08 & a09;
+            a08 ^= ~a09 & a05;
+            a09 ^= ~a05 & a06;
+            a05 = c0;
+            a06 = c1;
+
+            c0 = a10 ^ (~a11 & a12);
+            c1 = a11 ^ (~a12 & a13);
+            a12 ^= ~a13 & a14;
+            a13 ^= ~a14 & a10;
+            a14 ^= ~a10 & a11;
+            a10 = c0;
+            a11 = c1;
+
+            c0 = a15 ^ (~a16 & a17);
+            c1 = a16 ^ (~a17 & a18);
+            a17 ^= ~a18 & a19;
+            a18 ^= ~a19 & a15;
+            a19 ^= ~a15 & a16;
+            a15 = c0;
+            a16 = c1;
+
+            c0 = a20 ^ (~a21 & a22);
+            c1 = a21 ^ (~a22 & a23);
+            a22 ^= ~a23 & a24;
+            a23 ^= ~a24 & a20;
+            a24 ^= ~a20 & a21;
+            a20 = c0;
+            a21 = c1;
+
+            // iota
+            a00 ^= ROUND_CONSTANTS[round];
+        }
+
+        a[0] = a00; a[1] = a01; a[2] = a02; a[3] = a03; a[4] = a04;
+        a[5] = a05; a[6] = a06; a[7] = a07; a[8] = a08; a[9] = a09;
+        a[10] = a10; a[11] = a11; a[12] = a12; a[13] = a13; a[14] = a14;
+        a[15] = a15; a[16] = a16; a[17] = a17; a[18] = a18; a[19] = a19;
+        a[20] = a20; a[21] = a21; a[22] = a22; a[23] = a23; a[24] = a24;
     }
 }
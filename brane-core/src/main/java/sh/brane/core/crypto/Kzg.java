@@ -1,8 +1,12 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.crypto;
 
+import java.util.Arrays;
+import java.util.Objects;
+
 import sh.brane.core.error.KzgException;
 import sh.brane.core.types.Blob;
+import sh.brane.core.types.FixedSizeG1Point;
 import sh.brane.core.types.KzgCommitment;
 import sh.brane.core.types.KzgProof;
 
@@ -87,4 +91,47 @@ public interface Kzg {
             java.util.List<Blob> blobs,
             java.util.List<KzgCommitment> commitments,
             java.util.List<KzgProof> proofs);
+
+    /**
+     * Computes commitments and proofs for {@code count} blobs laid out back to back in
+     * {@code blobs}.
+     * <p>
+     * Blob {@code i} occupies bytes {@code [i * Blob.SIZE, (i + 1) * Blob.SIZE)} of
+     * {@code blobs}; its commitment and proof are written at offset
+     * {@code i * FixedSizeG1Point.SIZE} of {@code commitments} and {@code proofs}. Working on
+     * flat buffers lets implementations hand blobs to native code without wrapping each one
+     * in a {@link Blob} and copying it per operation.
+     * <p>
+     * The default implementation delegates to {@link #blobToCommitment(Blob)} and
+     * {@link #computeProof(Blob, KzgCommitment)} for each blob.
+     *
+     * @param blobs the flattened blob data
+     * @param count the number of blobs to process
+     * @param commitments receives {@code count} 48-byte commitments
+     * @param proofs receives {@code count} 48-byte proofs
+     * @throws KzgException if commitment or proof computation fails
+     * @throws IllegalArgumentException if count is negative or a buffer is too small
+     * @throws NullPointerException if any array is null
+     * @since 0.3.0
+     */
+    default void computeCommitmentsAndProofs(
+            final byte[] blobs, final int count, final byte[] commitments, final byte[] proofs) {
+        Objects.requireNonNull(blobs, "blobs");
+        Objects.requireNonNull(commitments, "commitments");
+        Objects.requireNonNull(proofs, "proofs");
+        if (count < 0
+                || blobs.length < (long) count * Blob.SIZE
+                || commitments.length < (long) count * FixedSizeG1Point.SIZE
+                || proofs.length < (long) count * FixedSizeG1Point.SIZE) {
+            throw new IllegalArgumentException("Buffers too small for " + count + " blobs");
+        }
+
+        for (int i = 0; i < count; i++) {
+            final Blob blob = new Blob(Arrays.copyOfRange(blobs, i * Blob.SIZE, (i + 1) * Blob.SIZE));
+            final KzgCommitment commitment = blobToCommitment(blob);
+            final KzgProof proof = computeProof(blob, commitment);
+            System.arraycopy(commitment.toBytes(), 0, commitments, i * FixedSizeG1Point.SIZE, FixedSizeG1Point.SIZE);
+            System.arraycopy(proof.toBytes(), 0, proofs, i * FixedSizeG1Point.SIZE, FixedSizeG1Point.SIZE);
+        }
+    }
 }
@@ -10,6 +10,7 @@ import javax.security.auth.Destroyable;
 import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.crypto.ec.CustomNamedCurves;
 import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.math.ec.ECAlgorithms;
 import org.bouncycastle.math.ec.ECPoint;
 import org.bouncycastle.math.ec.FixedPointCombMultiplier;
 
@@ -154,11 +155,11 @@ public final class PrivateKey implements Destroyable {
         final byte[] pubKeyBytes = pubKey.getEncoded(false); // uncompressed: 0x04 || x || y
 
         // Hash public key (skip first byte 0x04)
-        final byte[] hash = Keccak256.hash(Arrays.copyOfRange(pubKeyBytes, 1, pubKeyBytes.length));
+        final byte[] hash = new byte[Keccak256.DIGEST_LENGTH];
+        Keccak256.hash(pubKeyBytes, 1, pubKeyBytes.length - 1, hash, 0);
 
         // Take last 20 bytes
-        final byte[] addressBytes = Arrays.copyOfRange(hash, 12, 32);
-        return Address.fromBytes(addressBytes);
+        return Address.fromBytes(hash, 12);
     }
 
     /**
@@ -194,7 +195,11 @@ public final class PrivateKey implements Destroyable {
             checkNotDestroyed();
             key = privateKeyValue;
         }
-        return FastSigner.sign(messageHash, key);
+        final SignEvent event = new SignEvent();
+        event.begin();
+        final Signature signature = FastSigner.sign(messageHash, key);
+        event.commit();
+        return signature;
     }
 
     /**
@@ -233,9 +238,9 @@ public final class PrivateKey implements Destroyable {
             final ECPoint publicKey = recoverPublicKey(r, s, messageHash, recoveryId);
             if (publicKey != null) {
                 final byte[] pubKeyBytes = publicKey.getEncoded(false);
-                final byte[] hash = Keccak256.hash(Arrays.copyOfRange(pubKeyBytes, 1, pubKeyBytes.length));
-                final byte[] addressBytes = Arrays.copyOfRange(hash, 12, 32);
-                return Address.fromBytes(addressBytes);
+                final byte[] hash = new byte[Keccak256.DIGEST_LENGTH];
+                Keccak256.hash(pubKeyBytes, 1, pubKeyBytes.length - 1, hash, 0);
+                return Address.fromBytes(hash, 12);
             }
         } catch (Exception e) {
             throw new IllegalArgumentException("Failed to recover public key from signature", e);
@@ -263,19 +268,22 @@ public final class PrivateKey implements Destroyable {
         // R = (r, y) where y's parity matches recoveryId
         final BigInteger x = r;
         final ECPoint R = decompressKey(x, (recoveryId & 1) == 1);
-        if (R == null || !R.multiply(CURVE.getN()).isInfinity()) {
+        // secp256k1 has cofactor 1, so every valid curve point already has order n
+        // and the n*R == infinity check would only repeat isValid() at the cost of a scalar multiply
+        if (R == null) {
             return null;
         }
 
         // e = messageHash as BigInteger
         final BigInteger e = new BigInteger(1, messageHash);
 
-        // Q = r^-1 * (s*R - e*G)
-        final BigInteger rInv = r.modInverse(CURVE.getN());
-        final BigInteger srInv = rInv.multiply(s).mod(CURVE.getN());
-        final BigInteger eInv = rInv.multiply(e).mod(CURVE.getN());
+        // Q = r^-1 * (s*R - e*G), evaluated as one interleaved double-scalar multiply
+        final BigInteger n = CURVE.getN();
+        final BigInteger rInv = r.modInverse(n);
+        final BigInteger srInv = rInv.multiply(s).mod(n);
+        final BigInteger eInvNeg = n.subtract(rInv.multiply(e).mod(n)).mod(n);
 
-        final ECPoint q = R.multiply(srInv).subtract(CURVE.getG().multiply(eInv));
+        final ECPoint q = ECAlgorithms.sumOfTwoMultiplies(R, srInv, CURVE.getG(), eInvNeg);
         return q.normalize();
     }
 
@@ -0,0 +1,28 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.crypto;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one ECDSA signature made by {@link PrivateKey#signFast(byte[])}.
+ *
+ * <p>
+ * Disabled by default because signing is frequent and each signature takes only
+ * tens of microseconds; enable {@code sh.brane.crypto.Sign} in the recording
+ * settings when investigating signing latency. The event carries no key or
+ * message data.
+ */
+@Name("sh.brane.crypto.Sign")
+@Label("ECDSA Sign")
+@Category({"Brane", "Crypto"})
+@Description("A secp256k1 signature over a 32-byte message hash")
+@Enabled(false)
+@StackTrace(false)
+final class SignEvent extends Event {
+}
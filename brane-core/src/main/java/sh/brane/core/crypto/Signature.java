@@ -6,6 +6,7 @@ import java.util.Arrays;
 import java.util.Objects;
 
 import sh.brane.primitives.Hex;
+import sh.brane.primitives.rlp.RlpWriter;
 
 /**
  * ECDSA signature for Ethereum transactions.
@@ -117,6 +118,30 @@ public record Signature(byte[] r, byte[] s, int v) {
         return new BigInteger(1, s);
     }
 
+    /**
+     * Returns the RLP-encoded size of {@code r} followed by {@code s}, each as a
+     * minimal unsigned scalar.
+     *
+     * @return the combined encoded size in bytes
+     * @since 0.3.0
+     */
+    public int rsEncodedLength() {
+        return RlpWriter.sizeOfScalar(r, 0, COMPONENT_SIZE) + RlpWriter.sizeOfScalar(s, 0, COMPONENT_SIZE);
+    }
+
+    /**
+     * Writes {@code r} and {@code s} as minimal unsigned RLP scalars.
+     * <p>
+     * Equivalent to encoding {@link #rAsBigInteger()} and {@link #sAsBigInteger()},
+     * but reads the internal arrays directly and allocates nothing.
+     *
+     * @param writer the destination writer
+     * @since 0.3.0
+     */
+    public void writeRS(final RlpWriter writer) {
+        writer.writeScalar(r, 0, COMPONENT_SIZE).writeScalar(s, 0, COMPONENT_SIZE);
+    }
+
     /**
      * Extracts the recovery ID (yParity) from the v value.
      *
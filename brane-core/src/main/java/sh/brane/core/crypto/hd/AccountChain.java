@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.crypto.hd;
+
+import java.util.Arrays;
+
+import org.bouncycastle.math.ec.ECPoint;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.types.Address;
+
+/**
+ * Cached BIP-44 external chain key ({@code m/44'/60'/account'/0}) for one account.
+ *
+ * <p>
+ * Deriving an address from the master key costs four hardened HMAC-SHA512 steps
+ * plus two scalar multiplications. Once the chain key and its public point are
+ * cached, each address costs one HMAC-SHA512, one fixed-base multiplication and
+ * one point addition. Addresses are derived with public derivation (CKDpub), so
+ * no child private key is materialized for them.
+ *
+ * <p>
+ * Instances are immutable apart from {@link #destroy()} and safe to share
+ * between threads.
+ */
+final class AccountChain {
+
+    private final Bip32.ExtendedKey key;
+    private final ECPoint point;
+    private final byte[] publicKey;
+    private final byte[] chainCode;
+
+    private AccountChain(Bip32.ExtendedKey key) {
+        this.key = key;
+        this.point = Bip32.publicPoint(key);
+        this.publicKey = point.getEncoded(true);
+        this.chainCode = key.chainCode();
+    }
+
+    /**
+     * Derives the external chain key for {@code account} from the master key.
+     *
+     * @param masterKey the wallet master key
+     * @param account   the BIP-44 account index
+     * @return the cached chain
+     */
+    static AccountChain derive(Bip32.ExtendedKey masterKey, int account) {
+        return new AccountChain(Bip32.derivePath(masterKey, "m/44'/60'/" + account + "'/0"));
+    }
+
+    /**
+     * Derives the private extended key at {@code addressIndex}.
+     * The caller owns the returned key and should destroy it after use.
+     */
+    Bip32.ExtendedKey child(int addressIndex) {
+        return Bip32.deriveChild(key, publicKey, addressIndex);
+    }
+
+    /**
+     * Derives {@code count} consecutive addresses starting at {@code fromIndex}
+     * into {@code out[offset..offset+count)}.
+     *
+     * <p>
+     * The child points of the whole run are normalized together so that the
+     * run shares one field inversion.
+     */
+    void addresses(int fromIndex, Address[] out, int offset, int count) {
+        ECPoint[] points = new ECPoint[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = Bip32.deriveChildPublicKey(point, publicKey, chainCode, fromIndex + i);
+        }
+        Bip32.normalizeAll(points);
+
+        byte[] hash = new byte[Keccak256.DIGEST_LENGTH];
+        for (int i = 0; i < count; i++) {
+            byte[] encoded = points[i].getEncoded(false); // uncompressed: 0x04 || x || y
+            Keccak256.hash(encoded, 1, encoded.length - 1, hash, 0);
+            out[offset + i] = Address.fromBytes(hash, 12);
+        }
+    }
+
+    /**
+     * Zeros the cached chain key and chain code.
+     */
+    void destroy() {
+        key.destroy();
+        Arrays.fill(chainCode, (byte) 0);
+    }
+}
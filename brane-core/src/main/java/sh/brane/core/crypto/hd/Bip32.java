@@ -93,6 +93,24 @@ final class Bip32 {
      * @throws IllegalArgumentException if parent is null or derivation produces invalid key
      */
     static ExtendedKey deriveChild(ExtendedKey parent, int index) {
+        return deriveChild(parent, null, index);
+    }
+
+    /**
+     * Derives a child key at a single index level, reusing a precomputed parent public key.
+     *
+     * <p>
+     * Normal derivation needs the compressed parent public key, which costs a full
+     * scalar multiplication. Callers deriving many siblings from the same parent
+     * compute it once from {@link #publicPoint(ExtendedKey)} and pass it here.
+     *
+     * @param parent          the parent extended key
+     * @param parentPublicKey the compressed public key of {@code parent}, or {@code null} to compute it
+     * @param index           the child index (use HARDENED_OFFSET for hardened keys)
+     * @return the derived child extended key
+     * @throws IllegalArgumentException if parent is null or derivation produces invalid key
+     */
+    static ExtendedKey deriveChild(ExtendedKey parent, byte[] parentPublicKey, int index) {
         if (parent == null) {
             throw new IllegalArgumentException("Parent key cannot be null");
         }
@@ -109,7 +127,7 @@ final class Bip32 {
         } else {
             // Normal derivation
             // Use public key: serP(point(kpar)) || ser32(i)
-            byte[] publicKey = derivePublicKey(parent.keyBytes());
+            byte[] publicKey = parentPublicKey != null ? parentPublicKey : derivePublicKey(parent.keyBytes());
             System.arraycopy(publicKey, 0, data, 0, 33);
         }
 
@@ -145,6 +163,73 @@ final class Bip32 {
         return new ExtendedKey(childKeyBytes, ir);
     }
 
+    /**
+     * Derives a non-hardened child public key from a parent public key (CKDpub).
+     *
+     * <p>
+     * Computes {@code point(IL) + Kpar} without touching any private key material.
+     * The returned point is not normalized so that callers can normalize a whole
+     * batch with a single field inversion via {@code ECCurve.normalizeAll}.
+     *
+     * @param parentPoint     the parent public key point
+     * @param parentPublicKey the compressed encoding of {@code parentPoint}
+     * @param chainCode       the parent chain code
+     * @param index           the non-hardened child index
+     * @return the child public key point (projective coordinates)
+     * @throws IllegalArgumentException if index is hardened or derivation produces an invalid key
+     */
+    static ECPoint deriveChildPublicKey(ECPoint parentPoint, byte[] parentPublicKey, byte[] chainCode, int index) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Cannot derive hardened child from a public key: " + index);
+        }
+
+        byte[] data = new byte[37];
+        System.arraycopy(parentPublicKey, 0, data, 0, 33);
+        data[33] = (byte) (index >>> 24);
+        data[34] = (byte) (index >>> 16);
+        data[35] = (byte) (index >>> 8);
+        data[36] = (byte) index;
+
+        byte[] hmacResult = hmacSha512(chainCode, data);
+        BigInteger ilValue = new BigInteger(1, Arrays.copyOfRange(hmacResult, 0, 32));
+        Arrays.fill(hmacResult, (byte) 0);
+
+        if (ilValue.compareTo(CURVE.getN()) >= 0) {
+            throw new IllegalArgumentException("Invalid child key derived at index " + index);
+        }
+        ECPoint child = new FixedPointCombMultiplier().multiply(CURVE.getG(), ilValue).add(parentPoint);
+        if (child.isInfinity()) {
+            throw new IllegalArgumentException("Invalid child key derived at index " + index);
+        }
+        return child;
+    }
+
+    /**
+     * Returns the normalized public key point of an extended key.
+     *
+     * @param key the extended key
+     * @return the public key point
+     */
+    static ECPoint publicPoint(ExtendedKey key) {
+        byte[] keyBytes = key.keyBytes();
+        try {
+            return new FixedPointCombMultiplier()
+                    .multiply(CURVE.getG(), new BigInteger(1, keyBytes))
+                    .normalize();
+        } finally {
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+
+    /**
+     * Normalizes a batch of points in place with a single shared field inversion.
+     *
+     * @param points the points to normalize
+     */
+    static void normalizeAll(ECPoint[] points) {
+        CURVE.getCurve().normalizeAll(points);
+    }
+
     /**
      * Derives a key from a full BIP-32 derivation path.
      *
@@ -2,13 +2,18 @@
 package sh.brane.core.crypto.hd;
 
 import java.security.SecureRandom;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import javax.security.auth.Destroyable;
 
 import sh.brane.core.crypto.PrivateKey;
 import sh.brane.core.crypto.PrivateKeySigner;
 import sh.brane.core.crypto.Signer;
+import sh.brane.core.types.Address;
 
 /**
  * BIP-39/BIP-44 hierarchical deterministic (HD) wallet for Ethereum.
@@ -53,8 +58,19 @@ import sh.brane.core.crypto.Signer;
  *
  * // Use custom derivation path
  * Signer custom = wallet.derive(new DerivationPath(1, 5)); // m/44'/60'/1'/0/5
+ *
+ * // Derive one million deposit addresses of account 0 in parallel
+ * Address[] deposits = wallet.deriveAddresses(0, 0, 1_000_000);
  * }</pre>
  *
+ * <h2>Performance</h2>
+ *
+ * <p>
+ * The account-level chain key {@code m/44'/60'/account'/0} and its public key are
+ * derived once per account and cached, so each further derivation costs a single
+ * HMAC-SHA512 step instead of five. {@link #deriveAddresses(int, int, int)} derives
+ * address ranges with public derivation across all cores.
+ *
  * @see Bip39
  * @see DerivationPath
  * @see <a href="https://github.com/bitcoin/bips/blob/master/bip-0039.mediawiki">BIP-39</a>
@@ -65,11 +81,15 @@ public final class MnemonicWallet implements Destroyable {
 
     private static final int DEFAULT_WORD_COUNT = 12;
 
+    /** Addresses per parallel task in {@link #deriveAddresses(int, int, int)}. */
+    private static final int RANGE_CHUNK_SIZE = 256;
+
     private volatile boolean destroyed = false;
 
     private final String phrase;
     private final int wordCount;
     private final Bip32.ExtendedKey masterKey;
+    private final Map<Integer, AccountChain> chains = new ConcurrentHashMap<>();
 
     private MnemonicWallet(String phrase, String passphrase) {
         this.phrase = phrase;
@@ -186,13 +206,9 @@ public final class MnemonicWallet implements Destroyable {
      * @throws IllegalStateException if the wallet has been destroyed
      */
     public Signer derive(DerivationPath path) {
-        if (destroyed) {
-            throw new IllegalStateException("MnemonicWallet has been destroyed");
-        }
         Objects.requireNonNull(path, "path cannot be null");
 
-        String fullPath = path.toPath();
-        Bip32.ExtendedKey derivedKey = Bip32.derivePath(masterKey, fullPath);
+        Bip32.ExtendedKey derivedKey = chain(path.account()).child(path.addressIndex());
         try {
             // keyBytes() returns a defensive copy, safe for fromBytes() which zeros its input
             PrivateKey privateKey = PrivateKey.fromBytes(derivedKey.keyBytes());
@@ -202,6 +218,112 @@ public final class MnemonicWallet implements Destroyable {
         }
     }
 
+    /**
+     * Derives a range of addresses of account 0.
+     *
+     * @param fromIndex the first address index
+     * @param count     the number of addresses
+     * @return the addresses at m/44'/60'/0'/0/{fromIndex..fromIndex+count-1}, in index order
+     * @throws IllegalArgumentException if the range is negative or exceeds {@link DerivationPath#MAX_INDEX}
+     * @throws IllegalStateException    if the wallet has been destroyed
+     * @see #deriveAddresses(int, int, int)
+     */
+    public Address[] deriveAddresses(int fromIndex, int count) {
+        return deriveAddresses(0, fromIndex, count);
+    }
+
+    /**
+     * Derives a range of addresses of the given account.
+     *
+     * <p>
+     * Addresses are derived from the cached account public key without creating
+     * private keys or signers, and large ranges are split across the common
+     * fork-join pool. The result is identical to calling
+     * {@code derive(new DerivationPath(account, i)).address()} for each index.
+     *
+     * @param account   the BIP-44 account index
+     * @param fromIndex the first address index
+     * @param count     the number of addresses
+     * @return the addresses at m/44'/60'/account'/0/{fromIndex..fromIndex+count-1}, in index order
+     * @throws IllegalArgumentException if the range is negative or exceeds {@link DerivationPath#MAX_INDEX}
+     * @throws IllegalStateException    if the wallet has been destroyed
+     */
+    public Address[] deriveAddresses(int account, int fromIndex, int count) {
+        checkRange(account, fromIndex, count);
+        AccountChain chain = chain(account);
+        Address[] addresses = new Address[count];
+        int chunks = (count + RANGE_CHUNK_SIZE - 1) / RANGE_CHUNK_SIZE;
+        IntStream stream = IntStream.range(0, chunks);
+        if (chunks > 1) {
+            stream = stream.parallel();
+        }
+        stream.forEach(chunk -> {
+            int offset = chunk * RANGE_CHUNK_SIZE;
+            chain.addresses(fromIndex + offset, addresses, offset, Math.min(RANGE_CHUNK_SIZE, count - offset));
+        });
+        return addresses;
+    }
+
+    /**
+     * Returns a lazy stream of signers for a range of address indices.
+     *
+     * <p>
+     * Each signer is derived from the cached account chain key only when the
+     * stream reaches it, so callers that need a few signers out of a large range
+     * do not pay for the rest. The stream may be made parallel by the caller.
+     *
+     * @param account   the BIP-44 account index
+     * @param fromIndex the first address index
+     * @param count     the number of signers
+     * @return signers for m/44'/60'/account'/0/{fromIndex..fromIndex+count-1}, in index order
+     * @throws IllegalArgumentException if the range is negative or exceeds {@link DerivationPath#MAX_INDEX}
+     * @throws IllegalStateException    if the wallet has been destroyed
+     */
+    public Stream<Signer> deriveSigners(int account, int fromIndex, int count) {
+        checkRange(account, fromIndex, count);
+        AccountChain chain = chain(account);
+        return IntStream.range(fromIndex, fromIndex + count).mapToObj(index -> {
+            if (destroyed) {
+                throw new IllegalStateException("MnemonicWallet has been destroyed");
+            }
+            Bip32.ExtendedKey derivedKey = chain.child(index);
+            try {
+                return PrivateKeySigner.fromPrivateKey(PrivateKey.fromBytes(derivedKey.keyBytes()));
+            } finally {
+                derivedKey.destroy();
+            }
+        });
+    }
+
+    private AccountChain chain(int account) {
+        if (destroyed) {
+            throw new IllegalStateException("MnemonicWallet has been destroyed");
+        }
+        AccountChain chain = chains.computeIfAbsent(account, a -> AccountChain.derive(masterKey, a));
+        // destroy() may have run while the chain was being derived
+        if (destroyed) {
+            chain.destroy();
+            throw new IllegalStateException("MnemonicWallet has been destroyed");
+        }
+        return chain;
+    }
+
+    private static void checkRange(int account, int fromIndex, int count) {
+        if (account < 0) {
+            throw new IllegalArgumentException("Account index cannot be negative: " + account);
+        }
+        if (fromIndex < 0) {
+            throw new IllegalArgumentException("Address index cannot be negative: " + fromIndex);
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative: " + count);
+        }
+        if ((long) fromIndex + count - 1 > DerivationPath.MAX_INDEX) {
+            throw new IllegalArgumentException(
+                    "Address range exceeds " + DerivationPath.MAX_INDEX + ": " + fromIndex + " + " + count);
+        }
+    }
+
     /**
      * Returns the mnemonic phrase for this wallet.
      *
@@ -233,7 +355,8 @@ public final class MnemonicWallet implements Destroyable {
      * Destroys the wallet by zeroing sensitive key material.
      *
      * <p>
-     * This method zeros the master private key bytes and chain code. After calling
+     * This method zeros the master private key bytes and chain code, together with
+     * every cached account chain key. After calling
      * this method, the wallet can no longer derive keys and {@link #isDestroyed()}
      * will return {@code true}.
      *
@@ -244,8 +367,10 @@ public final class MnemonicWallet implements Destroyable {
      */
     @Override
     public void destroy() {
-        masterKey.destroy();
         destroyed = true;
+        masterKey.destroy();
+        chains.values().forEach(AccountChain::destroy);
+        chains.clear();
     }
 
     /**
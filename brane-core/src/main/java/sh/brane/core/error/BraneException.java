@@ -16,6 +16,7 @@ package sh.brane.core.error;
  * ├── {@link AbiDecodingException} - ABI decoding failures
  * ├── {@link AbiEncodingException} - ABI encoding failures
  * ├── {@link Eip712Exception} - EIP-712 typed data failures
+ * ├── {@link InvalidProofException} - Merkle-Patricia proof failures
  * ├── {@link KzgException} - KZG commitment failures
  * ├── {@link RevertException} - EVM execution reverts
  * ├── {@link RpcException} - JSON-RPC communication failures
@@ -46,6 +47,7 @@ public sealed class BraneException extends RuntimeException
         permits AbiDecodingException,
         AbiEncodingException,
         Eip712Exception,
+        InvalidProofException,
         KzgException,
         RevertException,
         RpcException,
@@ -0,0 +1,35 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.error;
+
+/**
+ * Exception thrown when a Merkle-Patricia proof does not verify.
+ *
+ * <p>
+ * Raised when proof nodes are missing, malformed or do not hash to the expected
+ * root, and when a verified value contradicts the data a node reported alongside
+ * the proof (for example an {@code eth_getProof} balance that differs from the
+ * account leaf).
+ *
+ * @since 0.3.0
+ */
+public final class InvalidProofException extends BraneException {
+
+    /**
+     * Creates a new InvalidProofException with the specified message.
+     *
+     * @param message the detail message
+     */
+    public InvalidProofException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new InvalidProofException with the specified message and cause.
+     *
+     * @param message the detail message
+     * @param cause the underlying cause
+     */
+    public InvalidProofException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
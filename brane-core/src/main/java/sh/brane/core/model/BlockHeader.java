@@ -19,14 +19,40 @@ import sh.brane.core.types.Wei;
  * Ethereum mainnet. For post-London blocks, this field contains the base fee that
  * determines the minimum gas price for transactions to be included.
  *
+ * <p>
+ * <strong>Note on trie roots:</strong> {@code stateRoot}, {@code transactionsRoot}
+ * and {@code receiptsRoot} commit to the block's state and contents and are used to
+ * verify Merkle-Patricia proofs against the header. They are {@code null} when the
+ * header was built without them, for example through the five-argument constructor.
+ *
+ * <p>
+ * <strong>Compatibility:</strong> 0.3.0 added the {@code stateRoot},
+ * {@code transactionsRoot} and {@code receiptsRoot} components, which changes the
+ * record's canonical constructor, its deconstruction pattern, {@code equals},
+ * {@code hashCode} and {@code toString}. The five-argument constructor is kept and
+ * leaves the roots {@code null}; record patterns such as
+ * {@code case BlockHeader(var h, var n, var p, var t, var fee)} need three more
+ * bindings, and a header with roots is not equal to the same header without them.
+ *
  * @param hash          the block hash (required)
  * @param number        the block number (required)
  * @param parentHash    the hash of the parent block (required)
  * @param timestamp     the block timestamp in seconds since Unix epoch (required)
  * @param baseFeePerGas the base fee per gas (EIP-1559), {@code null} for pre-London blocks
+ * @param stateRoot        the root of the state trie after this block, or {@code null} if unknown
+ * @param transactionsRoot the root of the block's transaction trie, or {@code null} if unknown
+ * @param receiptsRoot     the root of the block's receipt trie, or {@code null} if unknown
  * @since 0.1.0-alpha
  */
-public record BlockHeader(Hash hash, long number, Hash parentHash, long timestamp, Wei baseFeePerGas) {
+public record BlockHeader(
+        Hash hash,
+        long number,
+        Hash parentHash,
+        long timestamp,
+        Wei baseFeePerGas,
+        Hash stateRoot,
+        Hash transactionsRoot,
+        Hash receiptsRoot) {
 
     /**
      * Validates required fields.
@@ -37,5 +63,21 @@ public record BlockHeader(Hash hash, long number, Hash parentHash, long timestam
         Objects.requireNonNull(hash, "hash cannot be null");
         Objects.requireNonNull(parentHash, "parentHash cannot be null");
         // baseFeePerGas can be null for pre-London blocks
+        // trie roots can be null when not provided
+    }
+
+    /**
+     * Creates a header without trie roots.
+     *
+     * @param hash          the block hash (required)
+     * @param number        the block number (required)
+     * @param parentHash    the hash of the parent block (required)
+     * @param timestamp     the block timestamp in seconds since Unix epoch (required)
+     * @param baseFeePerGas the base fee per gas (EIP-1559), {@code null} for pre-London blocks
+     * @throws NullPointerException if hash or parentHash is null
+     */
+    public BlockHeader(
+            final Hash hash, final long number, final Hash parentHash, final long timestamp, final Wei baseFeePerGas) {
+        this(hash, number, parentHash, timestamp, baseFeePerGas, null, null, null);
     }
 }
@@ -0,0 +1,47 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A block together with its full transactions and their receipts, as needed to
+ * index the block without further lookups.
+ *
+ * <p>
+ * {@code transactions} and {@code receipts} are index-aligned and in block order:
+ * {@code receipts().get(i)} is the receipt of {@code transactions().get(i)}.
+ *
+ * @param header       the block header
+ * @param transactions the block's transactions in block order
+ * @param receipts     the receipts of {@code transactions}, in the same order
+ * @since 0.3.0
+ */
+public record BlockWithReceipts(
+        BlockHeader header, List<Transaction> transactions, List<TransactionReceipt> receipts) {
+
+    /**
+     * Validates required fields and makes defensive copies of the lists.
+     *
+     * @throws NullPointerException     if any argument is null
+     * @throws IllegalArgumentException if there is not exactly one receipt per transaction
+     */
+    public BlockWithReceipts {
+        Objects.requireNonNull(header, "header cannot be null");
+        transactions = List.copyOf(Objects.requireNonNull(transactions, "transactions cannot be null"));
+        receipts = List.copyOf(Objects.requireNonNull(receipts, "receipts cannot be null"));
+        if (transactions.size() != receipts.size()) {
+            throw new IllegalArgumentException("Expected one receipt per transaction, got "
+                    + receipts.size() + " receipts for " + transactions.size() + " transactions");
+        }
+    }
+
+    /**
+     * Returns the block number.
+     *
+     * @return the block number from the header
+     */
+    public long number() {
+        return header.number();
+    }
+}
@@ -1,6 +1,9 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.tx;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.Objects;
 
@@ -54,6 +57,51 @@ public final class BlobDecoder {
      */
     public static byte[] decode(final List<Blob> blobs) {
         Objects.requireNonNull(blobs, "blobs");
+        validate(blobs);
+
+        final ByteBuffer scratch = ByteBuffer.allocate(Blob.SIZE);
+        final int length = compactFirst(blobs, scratch);
+        final byte[] result = new byte[length];
+        final int[] offset = {0};
+        forEachChunk(blobs, scratch, length, (array, from, count) -> {
+            System.arraycopy(array, from, result, offset[0], count);
+            offset[0] += count;
+        });
+        return result;
+    }
+
+    /**
+     * Decodes the original data from a list of blobs and writes it to {@code out}.
+     * <p>
+     * Produces exactly the bytes {@link #decode(List)} would return, but unpacks one blob at a
+     * time into a single reused 128 KiB buffer and writes each blob's payload before moving on,
+     * so memory use does not grow with the number of blobs. The channel is not closed.
+     *
+     * @param blobs the list of blobs to decode, must not be null or empty
+     * @param out the channel receiving the decoded data
+     * @return the number of bytes written
+     * @throws NullPointerException if blobs or out is null, or blobs contains null elements
+     * @throws IllegalArgumentException if blobs is empty or if the encoded length is invalid
+     * @throws IOException if writing to the channel fails
+     * @since 0.3.0
+     */
+    public static long decode(final List<Blob> blobs, final WritableByteChannel out) throws IOException {
+        Objects.requireNonNull(blobs, "blobs");
+        Objects.requireNonNull(out, "out");
+        validate(blobs);
+
+        final ByteBuffer scratch = ByteBuffer.allocate(Blob.SIZE);
+        final int length = compactFirst(blobs, scratch);
+        forEachChunk(blobs, scratch, length, (array, from, count) -> {
+            final ByteBuffer chunk = ByteBuffer.wrap(array, from, count);
+            while (chunk.hasRemaining()) {
+                out.write(chunk);
+            }
+        });
+        return length;
+    }
+
+    private static void validate(final List<Blob> blobs) {
         if (blobs.isEmpty()) {
             throw new IllegalArgumentException("blobs must not be empty");
         }
@@ -62,52 +110,70 @@ public final class BlobDecoder {
                 throw new NullPointerException("blobs[" + i + "] is null");
             }
         }
+    }
 
-        // Calculate total usable bytes across all blobs
-        int totalUsableBytes = blobs.size() * SidecarBuilder.USABLE_BYTES_PER_BLOB;
-
-        // Extract all usable bytes from field elements
-        byte[] extractedData = new byte[totalUsableBytes];
-        int extractedOffset = 0;
-
-        for (Blob blob : blobs) {
-            byte[] blobBytes = blob.toBytes();
-
-            for (int fe = 0; fe < SidecarBuilder.FIELD_ELEMENTS_PER_BLOB; fe++) {
-                int blobOffset = fe * Blob.BYTES_PER_FIELD_ELEMENT;
-
-                // Skip the first byte (0x00 high byte constraint) and copy 31 bytes
-                System.arraycopy(
-                        blobBytes,
-                        blobOffset + 1,
-                        extractedData,
-                        extractedOffset,
-                        SidecarBuilder.USABLE_BYTES_PER_FIELD_ELEMENT);
-                extractedOffset += SidecarBuilder.USABLE_BYTES_PER_FIELD_ELEMENT;
-            }
-        }
-
-        // Read the 8-byte big-endian length prefix
-        long dataLength = 0;
-        for (int i = 0; i < SidecarBuilder.LENGTH_PREFIX_SIZE; i++) {
-            dataLength = (dataLength << 8) | (extractedData[i] & 0xFFL);
-        }
+    /**
+     * Unpacks the first blob into {@code scratch} and returns the validated data length from
+     * its 8-byte big-endian prefix.
+     */
+    private static int compactFirst(final List<Blob> blobs, final ByteBuffer scratch) {
+        compact(blobs.get(0), scratch);
+        final long dataLength = scratch.getLong(0);
 
         // Validate the length
         if (dataLength < 0) {
             throw new IllegalArgumentException("Invalid data length: negative value");
         }
-        long maxAllowedLength = totalUsableBytes - SidecarBuilder.LENGTH_PREFIX_SIZE;
+        long maxAllowedLength = (long) blobs.size() * SidecarBuilder.USABLE_BYTES_PER_BLOB
+                - SidecarBuilder.LENGTH_PREFIX_SIZE;
         if (dataLength > maxAllowedLength) {
             throw new IllegalArgumentException(
                     "Invalid data length: " + dataLength + " exceeds maximum " + maxAllowedLength + " bytes");
         }
+        return (int) dataLength;
+    }
 
-        // Extract the original data (after the length prefix)
-        int length = (int) dataLength;
-        byte[] result = new byte[length];
-        System.arraycopy(extractedData, SidecarBuilder.LENGTH_PREFIX_SIZE, result, 0, length);
+    /**
+     * Hands the payload of each blob to {@code sink}, skipping the length prefix and stopping
+     * after {@code length} bytes. The first blob must already be unpacked in {@code scratch}.
+     */
+    private static <E extends Exception> void forEachChunk(
+            final List<Blob> blobs, final ByteBuffer scratch, final int length, final ChunkSink<E> sink)
+            throws E {
+        int remaining = length;
+        int start = SidecarBuilder.LENGTH_PREFIX_SIZE;
+        for (int i = 0; remaining > 0; i++) {
+            if (i > 0) {
+                compact(blobs.get(i), scratch);
+            }
+            final int count = Math.min(remaining, SidecarBuilder.USABLE_BYTES_PER_BLOB - start);
+            sink.accept(scratch.array(), start, count);
+            remaining -= count;
+            start = 0;
+        }
+    }
 
-        return result;
+    /**
+     * Copies {@code blob} into {@code scratch} and packs the 31 usable bytes of each field
+     * element to the front, dropping the {@code 0x00} high bytes. Packing moves bytes
+     * towards lower offsets only, so it is safe in place.
+     */
+    private static void compact(final Blob blob, final ByteBuffer scratch) {
+        scratch.clear();
+        blob.putTo(scratch);
+        final byte[] array = scratch.array();
+        for (int fe = 0; fe < SidecarBuilder.FIELD_ELEMENTS_PER_BLOB; fe++) {
+            System.arraycopy(
+                    array,
+                    fe * Blob.BYTES_PER_FIELD_ELEMENT + 1,
+                    array,
+                    fe * SidecarBuilder.USABLE_BYTES_PER_FIELD_ELEMENT,
+                    SidecarBuilder.USABLE_BYTES_PER_FIELD_ELEMENT);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkSink<E extends Exception> {
+        void accept(byte[] array, int offset, int length) throws E;
     }
 }
@@ -1,7 +1,7 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.tx;
 
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Objects;
 
@@ -10,11 +10,7 @@ import sh.brane.core.model.AccessListEntry;
 import sh.brane.core.types.Address;
 import sh.brane.core.types.HexData;
 import sh.brane.core.types.Wei;
-import sh.brane.primitives.rlp.Rlp;
-import sh.brane.primitives.rlp.RlpItem;
-import sh.brane.primitives.rlp.RlpList;
-import sh.brane.primitives.rlp.RlpNumeric;
-import sh.brane.primitives.rlp.RlpString;
+import sh.brane.primitives.rlp.RlpWriter;
 
 /**
  * EIP-1559 transaction with dynamic fee market.
@@ -111,95 +107,97 @@ public record Eip1559Transaction(
 
     @Override
     public byte[] encodeForSigning(final long chainId) {
-        if (chainId != this.chainId) {
-            throw new IllegalArgumentException(
-                    "chainId parameter (" + chainId + ") must match transaction chainId (" + this.chainId + ")");
-        }
-        final byte[] rlpPayload = encodePayload(false, null);
-
-        // Prepend type byte
-        final byte[] result = new byte[rlpPayload.length + 1];
-        result[0] = EIP1559_TYPE;
-        System.arraycopy(rlpPayload, 0, result, 1, rlpPayload.length);
-
+        final byte[] result = new byte[encodedLengthForSigning(chainId)];
+        encodeForSigning(chainId, ByteBuffer.wrap(result));
         return result;
     }
 
     @Override
     public byte[] encodeAsEnvelope(final Signature signature) {
-        final byte[] rlpPayload = encodePayload(true, signature);
-
-        // Prepend type byte
-        final byte[] result = new byte[rlpPayload.length + 1];
-        result[0] = EIP1559_TYPE;
-        System.arraycopy(rlpPayload, 0, result, 1, rlpPayload.length);
-
+        final byte[] result = new byte[encodedEnvelopeLength(signature)];
+        encodeAsEnvelope(signature, ByteBuffer.wrap(result));
         return result;
     }
 
-    /**
-     * Encodes the RLP payload (without type byte prefix).
-     *
-     * @param includeSig whether to include signature fields
-     * @param signature  the signature (required if includeSig is true)
-     * @return RLP-encoded payload
-     */
-    private byte[] encodePayload(final boolean includeSig, final Signature signature) {
-        var items = new ArrayList<RlpItem>(12);
-
-        items.add(RlpNumeric.encodeLongUnsignedItem(chainId));
-        items.add(RlpNumeric.encodeLongUnsignedItem(nonce));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(maxPriorityFeePerGas.value()));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(maxFeePerGas.value()));
-        items.add(RlpNumeric.encodeLongUnsignedItem(gasLimit));
-        items.add(new RlpString(to != null ? to.toBytes() : new byte[0]));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(value.value()));
-        items.add(new RlpString(data.toBytes()));
-
-        // Encode access list
-        items.add(encodeAccessList());
-
-        if (includeSig) {
-            Objects.requireNonNull(signature, "signature is required");
-            // For EIP-1559, v is just yParity (0 or 1), not EIP-155 encoded
-            final int yParity = signature.v();
-            if (yParity != 0 && yParity != 1) {
-                throw new IllegalArgumentException(
-                        "EIP-1559 signature v must be yParity (0 or 1), got: " + yParity);
-            }
-            items.add(RlpNumeric.encodeLongUnsignedItem(yParity));
-            items.add(RlpNumeric.encodeBigIntegerUnsignedItem(signature.rAsBigInteger()));
-            items.add(RlpNumeric.encodeBigIntegerUnsignedItem(signature.sAsBigInteger()));
-        }
+    @Override
+    public int encodedLengthForSigning(final long chainId) {
+        checkChainId(chainId);
+        return 1 + RlpWriter.sizeOfList(fieldsLength());
+    }
 
-        return Rlp.encodeList(items);
+    @Override
+    public int encodeForSigning(final long chainId, final ByteBuffer out) {
+        checkChainId(chainId);
+        final int payload = fieldsLength();
+        final int length = 1 + RlpWriter.sizeOfList(payload);
+        TxRlp.checkCapacity(out, length);
+
+        final RlpWriter writer = RlpWriter.to(out).writeRaw(EIP1559_TYPE).writeListHeader(payload);
+        writeFields(writer);
+        return length;
     }
 
-    /**
-     * Encodes the access list as RLP.
-     *
-     * @return RLP list of access list entries
-     */
-    private RlpItem encodeAccessList() {
-        if (accessList.isEmpty()) {
-            return new RlpList(List.of());
-        }
+    @Override
+    public int encodedEnvelopeLength(final Signature signature) {
+        return 1 + RlpWriter.sizeOfList(fieldsLength() + TxRlp.sizeOfSignature(yParity(signature), signature));
+    }
 
-        var entries = new ArrayList<RlpItem>(accessList.size());
-        for (AccessListEntry entry : accessList) {
-            var entryItems = new ArrayList<RlpItem>(2);
-            entryItems.add(new RlpString(entry.address().toBytes()));
+    @Override
+    public int encodeAsEnvelope(final Signature signature, final ByteBuffer out) {
+        final int yParity = yParity(signature);
+        final int payload = fieldsLength() + TxRlp.sizeOfSignature(yParity, signature);
+        final int length = 1 + RlpWriter.sizeOfList(payload);
+        TxRlp.checkCapacity(out, length);
+
+        final RlpWriter writer = RlpWriter.to(out).writeRaw(EIP1559_TYPE).writeListHeader(payload);
+        writeFields(writer);
+        TxRlp.writeSignature(writer, yParity, signature);
+        return length;
+    }
 
-            // Encode storage keys
-            final List<RlpItem> storageKeys = new ArrayList<>(entry.storageKeys().size());
-            for (sh.brane.core.types.Hash key : entry.storageKeys()) {
-                storageKeys.add(new RlpString(key.toBytes()));
-            }
-            entryItems.add(new RlpList(storageKeys));
+    private void checkChainId(final long chainId) {
+        if (chainId != this.chainId) {
+            throw new IllegalArgumentException(
+                    "chainId parameter (" + chainId + ") must match transaction chainId (" + this.chainId + ")");
+        }
+    }
 
-            entries.add(new RlpList(entryItems));
+    private static int yParity(final Signature signature) {
+        Objects.requireNonNull(signature, "signature is required");
+        // For EIP-1559, v is just yParity (0 or 1), not EIP-155 encoded
+        final int yParity = signature.v();
+        if (yParity != 0 && yParity != 1) {
+            throw new IllegalArgumentException(
+                    "EIP-1559 signature v must be yParity (0 or 1), got: " + yParity);
         }
+        return yParity;
+    }
+
+    /**
+     * Returns the encoded size of the unsigned fields
+     * {@code [chainId, ..., data, accessList]}.
+     */
+    private int fieldsLength() {
+        return RlpWriter.sizeOfLong(chainId)
+                + RlpWriter.sizeOfLong(nonce)
+                + RlpWriter.sizeOfBigInteger(maxPriorityFeePerGas.value())
+                + RlpWriter.sizeOfBigInteger(maxFeePerGas.value())
+                + RlpWriter.sizeOfLong(gasLimit)
+                + TxRlp.sizeOfAddress(to)
+                + RlpWriter.sizeOfBigInteger(value.value())
+                + TxRlp.sizeOfData(data)
+                + TxRlp.sizeOfAccessList(accessList);
+    }
 
-        return new RlpList(entries);
+    private void writeFields(final RlpWriter writer) {
+        writer.writeLong(chainId)
+                .writeLong(nonce)
+                .writeBigInteger(maxPriorityFeePerGas.value())
+                .writeBigInteger(maxFeePerGas.value())
+                .writeLong(gasLimit);
+        TxRlp.writeAddress(writer, to);
+        writer.writeBigInteger(value.value());
+        TxRlp.writeData(writer, data);
+        TxRlp.writeAccessList(writer, accessList);
     }
 }
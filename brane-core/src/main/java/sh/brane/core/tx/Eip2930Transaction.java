@@ -0,0 +1,172 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.tx;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
+import sh.brane.core.crypto.Signature;
+import sh.brane.core.model.AccessListEntry;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.Wei;
+import sh.brane.primitives.rlp.RlpWriter;
+
+/**
+ * EIP-2930 access-list transaction.
+ *
+ * <p>
+ * This transaction type keeps the legacy single {@code gasPrice} but adds an
+ * optional access list and an explicit chain ID. It is encoded using EIP-2718
+ * typed transaction envelopes with type byte {@code 0x01}.
+ *
+ * <h2>EIP-2718/2930 Encoding</h2>
+ * <p>
+ * Signing preimage:
+ *
+ * <pre>
+ * 0x01 || RLP([chainId, nonce, gasPrice, gasLimit, to, value, data, accessList])
+ * </pre>
+ *
+ * <p>
+ * Signed envelope:
+ *
+ * <pre>
+ * 0x01 || RLP([chainId, nonce, gasPrice, gasLimit, to, value, data, accessList, yParity, r, s])
+ * </pre>
+ *
+ * @param chainId    the chain ID
+ * @param nonce      the transaction nonce
+ * @param gasPrice   the gas price in wei
+ * @param gasLimit   the maximum gas to use
+ * @param to         the recipient address (null for contract creation)
+ * @param value      the amount of ether to send
+ * @param data       the transaction data (calldata or contract bytecode)
+ * @param accessList the EIP-2930 access list
+ * @since 0.3.0
+ */
+public record Eip2930Transaction(
+        long chainId,
+        long nonce,
+        Wei gasPrice,
+        long gasLimit,
+        Address to,
+        Wei value,
+        HexData data,
+        List<AccessListEntry> accessList) implements UnsignedTransaction {
+
+    private static final byte EIP2930_TYPE = (byte) 0x01;
+
+    public Eip2930Transaction {
+        if (chainId <= 0) {
+            throw new IllegalArgumentException("Chain ID must be positive");
+        }
+        if (nonce < 0) {
+            throw new IllegalArgumentException("Nonce cannot be negative");
+        }
+        Objects.requireNonNull(gasPrice, "gasPrice cannot be null");
+        if (gasLimit <= 0) {
+            throw new IllegalArgumentException("gasLimit must be positive");
+        }
+        // to can be null for contract creation
+        Objects.requireNonNull(value, "value cannot be null");
+        Objects.requireNonNull(data, "data cannot be null");
+
+        // Make defensive copy of access list
+        accessList = accessList != null ? List.copyOf(accessList) : List.of();
+    }
+
+    @Override
+    public byte[] encodeForSigning(final long chainId) {
+        final byte[] result = new byte[encodedLengthForSigning(chainId)];
+        encodeForSigning(chainId, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    @Override
+    public byte[] encodeAsEnvelope(final Signature signature) {
+        final byte[] result = new byte[encodedEnvelopeLength(signature)];
+        encodeAsEnvelope(signature, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    @Override
+    public int encodedLengthForSigning(final long chainId) {
+        checkChainId(chainId);
+        return 1 + RlpWriter.sizeOfList(fieldsLength());
+    }
+
+    @Override
+    public int encodeForSigning(final long chainId, final ByteBuffer out) {
+        checkChainId(chainId);
+        final int payload = fieldsLength();
+        final int length = 1 + RlpWriter.sizeOfList(payload);
+        TxRlp.checkCapacity(out, length);
+
+        final RlpWriter writer = RlpWriter.to(out).writeRaw(EIP2930_TYPE).writeListHeader(payload);
+        writeFields(writer);
+        return length;
+    }
+
+    @Override
+    public int encodedEnvelopeLength(final Signature signature) {
+        return 1 + RlpWriter.sizeOfList(fieldsLength() + TxRlp.sizeOfSignature(yParity(signature), signature));
+    }
+
+    @Override
+    public int encodeAsEnvelope(final Signature signature, final ByteBuffer out) {
+        final int yParity = yParity(signature);
+        final int payload = fieldsLength() + TxRlp.sizeOfSignature(yParity, signature);
+        final int length = 1 + RlpWriter.sizeOfList(payload);
+        TxRlp.checkCapacity(out, length);
+
+        final RlpWriter writer = RlpWriter.to(out).writeRaw(EIP2930_TYPE).writeListHeader(payload);
+        writeFields(writer);
+        TxRlp.writeSignature(writer, yParity, signature);
+        return length;
+    }
+
+    private void checkChainId(final long chainId) {
+        if (chainId != this.chainId) {
+            throw new IllegalArgumentException(
+                    "chainId parameter (" + chainId + ") must match transaction chainId (" + this.chainId + ")");
+        }
+    }
+
+    private static int yParity(final Signature signature) {
+        Objects.requireNonNull(signature, "signature is required");
+        // For EIP-2930, v is just yParity (0 or 1), not EIP-155 encoded
+        final int yParity = signature.v();
+        if (yParity != 0 && yParity != 1) {
+            throw new IllegalArgumentException(
+                    "EIP-2930 signature v must be yParity (0 or 1), got: " + yParity);
+        }
+        return yParity;
+    }
+
+    /**
+     * Returns the encoded size of the unsigned fields
+     * {@code [chainId, ..., data, accessList]}.
+     */
+    private int fieldsLength() {
+        return RlpWriter.sizeOfLong(chainId)
+                + RlpWriter.sizeOfLong(nonce)
+                + RlpWriter.sizeOfBigInteger(gasPrice.value())
+                + RlpWriter.sizeOfLong(gasLimit)
+                + TxRlp.sizeOfAddress(to)
+                + RlpWriter.sizeOfBigInteger(value.value())
+                + TxRlp.sizeOfData(data)
+                + TxRlp.sizeOfAccessList(accessList);
+    }
+
+    private void writeFields(final RlpWriter writer) {
+        writer.writeLong(chainId)
+                .writeLong(nonce)
+                .writeBigInteger(gasPrice.value())
+                .writeLong(gasLimit);
+        TxRlp.writeAddress(writer, to);
+        writer.writeBigInteger(value.value());
+        TxRlp.writeData(writer, data);
+        TxRlp.writeAccessList(writer, accessList);
+    }
+}
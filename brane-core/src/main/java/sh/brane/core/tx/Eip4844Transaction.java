@@ -1,26 +1,20 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.tx;
 
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
 
 import sh.brane.core.crypto.Signature;
 import sh.brane.core.model.AccessListEntry;
 import sh.brane.core.types.Address;
 import sh.brane.core.types.Blob;
 import sh.brane.core.types.BlobSidecar;
+import sh.brane.core.types.FixedSizeG1Point;
 import sh.brane.core.types.Hash;
 import sh.brane.core.types.HexData;
-import sh.brane.core.types.KzgCommitment;
-import sh.brane.core.types.KzgProof;
 import sh.brane.core.types.Wei;
-import sh.brane.primitives.rlp.Rlp;
-import sh.brane.primitives.rlp.RlpItem;
-import sh.brane.primitives.rlp.RlpList;
-import sh.brane.primitives.rlp.RlpNumeric;
-import sh.brane.primitives.rlp.RlpString;
+import sh.brane.primitives.rlp.RlpWriter;
 
 /**
  * EIP-4844 blob transaction for data availability.
@@ -94,6 +88,9 @@ public record Eip4844Transaction(
      */
     private static final int MAX_BLOB_HASHES = 6;
 
+    private static final int ENCODED_BLOB_LENGTH = RlpWriter.sizeOfString(Blob.SIZE, 0);
+    private static final int ENCODED_POINT_LENGTH = RlpWriter.sizeOfString(FixedSizeG1Point.SIZE, 0);
+
     /**
      * Validates the transaction parameters.
      *
@@ -139,30 +136,52 @@ public record Eip4844Transaction(
 
     @Override
     public byte[] encodeForSigning(final long chainId) {
-        if (chainId != this.chainId) {
-            throw new IllegalArgumentException(
-                    "chainId parameter (" + chainId + ") must match transaction chainId (" + this.chainId + ")");
-        }
-        final byte[] rlpPayload = encodePayload(false, null);
-
-        // Prepend type byte
-        final byte[] result = new byte[rlpPayload.length + 1];
-        result[0] = EIP4844_TYPE;
-        System.arraycopy(rlpPayload, 0, result, 1, rlpPayload.length);
-
+        final byte[] result = new byte[encodedLengthForSigning(chainId)];
+        encodeForSigning(chainId, ByteBuffer.wrap(result));
         return result;
     }
 
     @Override
     public byte[] encodeAsEnvelope(final Signature signature) {
-        final byte[] rlpPayload = encodePayload(true, signature);
+        final byte[] result = new byte[encodedEnvelopeLength(signature)];
+        encodeAsEnvelope(signature, ByteBuffer.wrap(result));
+        return result;
+    }
 
-        // Prepend type byte
-        final byte[] result = new byte[rlpPayload.length + 1];
-        result[0] = EIP4844_TYPE;
-        System.arraycopy(rlpPayload, 0, result, 1, rlpPayload.length);
+    @Override
+    public int encodedLengthForSigning(final long chainId) {
+        checkChainId(chainId);
+        return 1 + RlpWriter.sizeOfList(fieldsLength());
+    }
 
-        return result;
+    @Override
+    public int encodeForSigning(final long chainId, final ByteBuffer out) {
+        checkChainId(chainId);
+        final int payload = fieldsLength();
+        final int length = 1 + RlpWriter.sizeOfList(payload);
+        TxRlp.checkCapacity(out, length);
+
+        final RlpWriter writer = RlpWriter.to(out).writeRaw(EIP4844_TYPE).writeListHeader(payload);
+        writeFields(writer);
+        return length;
+    }
+
+    @Override
+    public int encodedEnvelopeLength(final Signature signature) {
+        return 1 + RlpWriter.sizeOfList(signedFieldsLength(yParity(signature), signature));
+    }
+
+    @Override
+    public int encodeAsEnvelope(final Signature signature, final ByteBuffer out) {
+        final int yParity = yParity(signature);
+        final int payload = signedFieldsLength(yParity, signature);
+        final int length = 1 + RlpWriter.sizeOfList(payload);
+        TxRlp.checkCapacity(out, length);
+
+        final RlpWriter writer = RlpWriter.to(out).writeRaw(EIP4844_TYPE).writeListHeader(payload);
+        writeFields(writer);
+        TxRlp.writeSignature(writer, yParity, signature);
+        return length;
     }
 
     /**
@@ -184,193 +203,143 @@ public record Eip4844Transaction(
      *                                  this transaction's blobVersionedHashes
      */
     public byte[] encodeAsNetworkWrapper(final Signature signature, final BlobSidecar sidecar) {
-        Objects.requireNonNull(signature, "signature cannot be null");
-        Objects.requireNonNull(sidecar, "sidecar cannot be null");
-
-        // Validate that sidecar hashes match transaction's blobVersionedHashes
-        sidecar.validateHashes(blobVersionedHashes);
-
-        final byte[] rlpPayload = encodeNetworkWrapperPayload(signature, sidecar);
-
-        // Prepend type byte
-        final byte[] result = new byte[rlpPayload.length + 1];
-        result[0] = EIP4844_TYPE;
-        System.arraycopy(rlpPayload, 0, result, 1, rlpPayload.length);
-
+        final byte[] result = new byte[networkWrapperLength(signature, sidecar)];
+        encodeAsNetworkWrapper(signature, sidecar, ByteBuffer.wrap(result));
         return result;
     }
 
     /**
-     * Encodes the network wrapper RLP payload (without type byte prefix).
-     * <p>
-     * Format: RLP([[signed tx fields], blobs, commitments, proofs])
+     * Returns the exact length of {@link #encodeAsNetworkWrapper(Signature, BlobSidecar)}
+     * without encoding.
      *
      * @param signature the transaction signature
-     * @param sidecar   the blob sidecar
-     * @return RLP-encoded network wrapper payload
+     * @param sidecar   the blob sidecar containing blobs, commitments, and proofs
+     * @return the network wrapper length in bytes
+     * @throws NullPointerException     if signature or sidecar is null
+     * @throws IllegalArgumentException if sidecar versioned hashes don't match
+     *                                  this transaction's blobVersionedHashes
+     * @since 0.3.0
      */
-    private byte[] encodeNetworkWrapperPayload(final Signature signature, final BlobSidecar sidecar) {
-        // Build the signed transaction fields list (inner list)
-        final List<RlpItem> signedTxItems = new ArrayList<>(14);
-
-        signedTxItems.add(RlpNumeric.encodeLongUnsignedItem(chainId));
-        signedTxItems.add(RlpNumeric.encodeLongUnsignedItem(nonce));
-        signedTxItems.add(RlpNumeric.encodeBigIntegerUnsignedItem(maxPriorityFeePerGas.value()));
-        signedTxItems.add(RlpNumeric.encodeBigIntegerUnsignedItem(maxFeePerGas.value()));
-        signedTxItems.add(RlpNumeric.encodeLongUnsignedItem(gasLimit));
-        signedTxItems.add(new RlpString(to.toBytes()));
-        signedTxItems.add(RlpNumeric.encodeBigIntegerUnsignedItem(value.value()));
-        signedTxItems.add(new RlpString(data.toBytes()));
-        signedTxItems.add(encodeAccessList());
-        signedTxItems.add(RlpNumeric.encodeBigIntegerUnsignedItem(maxFeePerBlobGas.value()));
-        signedTxItems.add(encodeBlobVersionedHashes());
-
-        // Add signature (yParity must be 0 or 1)
-        final int yParity = signature.v();
-        if (yParity != 0 && yParity != 1) {
-            throw new IllegalArgumentException(
-                    "EIP-4844 signature v must be yParity (0 or 1), got: " + yParity);
-        }
-        signedTxItems.add(RlpNumeric.encodeLongUnsignedItem(yParity));
-        signedTxItems.add(RlpNumeric.encodeBigIntegerUnsignedItem(signature.rAsBigInteger()));
-        signedTxItems.add(RlpNumeric.encodeBigIntegerUnsignedItem(signature.sAsBigInteger()));
-
-        // Build outer list: [signedTxList, blobs, commitments, proofs]
-        final List<RlpItem> outerItems = new ArrayList<>(4);
-        outerItems.add(new RlpList(signedTxItems));
-        outerItems.add(encodeBlobList(sidecar.blobs()));
-        outerItems.add(encodeCommitmentList(sidecar.commitments()));
-        outerItems.add(encodeProofList(sidecar.proofs()));
-
-        return Rlp.encodeList(outerItems);
+    public int networkWrapperLength(final Signature signature, final BlobSidecar sidecar) {
+        Objects.requireNonNull(signature, "signature cannot be null");
+        Objects.requireNonNull(sidecar, "sidecar cannot be null");
+        sidecar.validateHashes(blobVersionedHashes);
+        return 1 + RlpWriter.sizeOfList(networkWrapperPayloadLength(yParity(signature), signature, sidecar));
     }
 
     /**
-     * Encodes the blob list as RLP.
+     * Writes the network wrapper into {@code out}, advancing its position.
+     * <p>
+     * Produces the same bytes as {@link #encodeAsNetworkWrapper(Signature, BlobSidecar)}
+     * but copies each blob, commitment and proof exactly once, straight into the sink.
      *
-     * @param blobs the blobs to encode
-     * @return RLP list of blob bytes
+     * @param signature the transaction signature
+     * @param sidecar   the blob sidecar containing blobs, commitments, and proofs
+     * @param out       the destination buffer
+     * @return the number of bytes written
+     * @throws NullPointerException             if signature or sidecar is null
+     * @throws IllegalArgumentException         if sidecar versioned hashes don't match
+     *                                          this transaction's blobVersionedHashes
+     * @throws java.nio.BufferOverflowException if {@code out} is too small
+     * @since 0.3.0
      */
-    private static RlpItem encodeBlobList(final List<Blob> blobs) {
-        return encodeBytesList(blobs, Blob::toBytes);
-    }
+    public int encodeAsNetworkWrapper(final Signature signature, final BlobSidecar sidecar, final ByteBuffer out) {
+        Objects.requireNonNull(signature, "signature cannot be null");
+        Objects.requireNonNull(sidecar, "sidecar cannot be null");
 
-    /**
-     * Encodes the commitment list as RLP.
-     *
-     * @param commitments the commitments to encode
-     * @return RLP list of commitment bytes
-     */
-    private static RlpItem encodeCommitmentList(final List<KzgCommitment> commitments) {
-        return encodeBytesList(commitments, KzgCommitment::toBytes);
-    }
+        // Validate that sidecar hashes match transaction's blobVersionedHashes
+        sidecar.validateHashes(blobVersionedHashes);
 
-    /**
-     * Encodes the proof list as RLP.
-     *
-     * @param proofs the proofs to encode
-     * @return RLP list of proof bytes
-     */
-    private static RlpItem encodeProofList(final List<KzgProof> proofs) {
-        return encodeBytesList(proofs, KzgProof::toBytes);
+        final int yParity = yParity(signature);
+        final int payload = networkWrapperPayloadLength(yParity, signature, sidecar);
+        final int length = 1 + RlpWriter.sizeOfList(payload);
+        TxRlp.checkCapacity(out, length);
+
+        // 0x03 || RLP([[signed tx fields], blobs, commitments, proofs])
+        final RlpWriter writer = RlpWriter.to(out)
+                .writeRaw(EIP4844_TYPE)
+                .writeListHeader(payload)
+                .writeListHeader(signedFieldsLength(yParity, signature));
+        writeFields(writer);
+        TxRlp.writeSignature(writer, yParity, signature);
+
+        writer.writeListHeader(sidecar.blobs().size() * ENCODED_BLOB_LENGTH);
+        for (Blob blob : sidecar.blobs()) {
+            writer.writeStringHeader(Blob.SIZE, 0);
+            blob.putTo(out);
+        }
+        writePointList(writer, sidecar.commitments());
+        writePointList(writer, sidecar.proofs());
+        return length;
     }
 
-    /**
-     * Generic helper to encode a list of items as RLP bytes list.
-     *
-     * @param items     the items to encode
-     * @param extractor function to extract bytes from each item
-     * @param <T>       the item type
-     * @return RLP list of bytes
-     */
-    private static <T> RlpItem encodeBytesList(List<T> items, Function<T, byte[]> extractor) {
-        List<RlpItem> rlpItems = new ArrayList<>(items.size());
-        for (T item : items) {
-            rlpItems.add(new RlpString(extractor.apply(item)));
-        }
-        return new RlpList(rlpItems);
+    private int networkWrapperPayloadLength(
+            final int yParity, final Signature signature, final BlobSidecar sidecar) {
+        return RlpWriter.sizeOfList(signedFieldsLength(yParity, signature))
+                + RlpWriter.sizeOfList(sidecar.blobs().size() * ENCODED_BLOB_LENGTH)
+                + RlpWriter.sizeOfList(sidecar.commitments().size() * ENCODED_POINT_LENGTH)
+                + RlpWriter.sizeOfList(sidecar.proofs().size() * ENCODED_POINT_LENGTH);
     }
 
-    /**
-     * Encodes the RLP payload (without type byte prefix).
-     *
-     * @param includeSig whether to include signature fields
-     * @param signature  the signature (required if includeSig is true)
-     * @return RLP-encoded payload
-     */
-    private byte[] encodePayload(final boolean includeSig, final Signature signature) {
-        final List<RlpItem> items = new ArrayList<>(14);
-
-        items.add(RlpNumeric.encodeLongUnsignedItem(chainId));
-        items.add(RlpNumeric.encodeLongUnsignedItem(nonce));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(maxPriorityFeePerGas.value()));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(maxFeePerGas.value()));
-        items.add(RlpNumeric.encodeLongUnsignedItem(gasLimit));
-        items.add(new RlpString(to.toBytes()));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(value.value()));
-        items.add(new RlpString(data.toBytes()));
-
-        // Encode access list
-        items.add(encodeAccessList());
-
-        // EIP-4844 specific fields
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(maxFeePerBlobGas.value()));
-        items.add(encodeBlobVersionedHashes());
-
-        if (includeSig) {
-            Objects.requireNonNull(signature, "signature is required");
-            // For EIP-4844, v is just yParity (0 or 1), not EIP-155 encoded
-            final int yParity = signature.v();
-            if (yParity != 0 && yParity != 1) {
-                throw new IllegalArgumentException(
-                        "EIP-4844 signature v must be yParity (0 or 1), got: " + yParity);
-            }
-            items.add(RlpNumeric.encodeLongUnsignedItem(yParity));
-            items.add(RlpNumeric.encodeBigIntegerUnsignedItem(signature.rAsBigInteger()));
-            items.add(RlpNumeric.encodeBigIntegerUnsignedItem(signature.sAsBigInteger()));
+    private static void writePointList(final RlpWriter writer, final List<? extends FixedSizeG1Point> points) {
+        writer.writeListHeader(points.size() * ENCODED_POINT_LENGTH);
+        for (FixedSizeG1Point point : points) {
+            writer.writeStringHeader(FixedSizeG1Point.SIZE, 0);
+            point.putTo(writer.buffer());
         }
-
-        return Rlp.encodeList(items);
     }
 
-    /**
-     * Encodes the access list as RLP.
-     *
-     * @return RLP list of access list entries
-     */
-    private RlpItem encodeAccessList() {
-        if (accessList.isEmpty()) {
-            return new RlpList(List.of());
+    private void checkChainId(final long chainId) {
+        if (chainId != this.chainId) {
+            throw new IllegalArgumentException(
+                    "chainId parameter (" + chainId + ") must match transaction chainId (" + this.chainId + ")");
         }
+    }
 
-        final List<RlpItem> entries = new ArrayList<>(accessList.size());
-        for (AccessListEntry entry : accessList) {
-            final List<RlpItem> entryItems = new ArrayList<>(2);
-            entryItems.add(new RlpString(entry.address().toBytes()));
-
-            // Encode storage keys
-            final List<RlpItem> storageKeys = new ArrayList<>(entry.storageKeys().size());
-            for (Hash key : entry.storageKeys()) {
-                storageKeys.add(new RlpString(key.toBytes()));
-            }
-            entryItems.add(new RlpList(storageKeys));
-
-            entries.add(new RlpList(entryItems));
+    private static int yParity(final Signature signature) {
+        Objects.requireNonNull(signature, "signature is required");
+        // For EIP-4844, v is just yParity (0 or 1), not EIP-155 encoded
+        final int yParity = signature.v();
+        if (yParity != 0 && yParity != 1) {
+            throw new IllegalArgumentException(
+                    "EIP-4844 signature v must be yParity (0 or 1), got: " + yParity);
         }
+        return yParity;
+    }
 
-        return new RlpList(entries);
+    private int signedFieldsLength(final int yParity, final Signature signature) {
+        return fieldsLength() + TxRlp.sizeOfSignature(yParity, signature);
     }
 
     /**
-     * Encodes the blob versioned hashes as RLP.
-     *
-     * @return RLP list of versioned hashes
+     * Returns the encoded size of the unsigned fields
+     * {@code [chainId, ..., accessList, maxFeePerBlobGas, blobVersionedHashes]}.
      */
-    private RlpItem encodeBlobVersionedHashes() {
-        List<RlpItem> items = new ArrayList<>(blobVersionedHashes.size());
-        for (var hash : blobVersionedHashes) {
-            items.add(new RlpString(hash.toBytes()));
-        }
-        return new RlpList(items);
+    private int fieldsLength() {
+        return RlpWriter.sizeOfLong(chainId)
+                + RlpWriter.sizeOfLong(nonce)
+                + RlpWriter.sizeOfBigInteger(maxPriorityFeePerGas.value())
+                + RlpWriter.sizeOfBigInteger(maxFeePerGas.value())
+                + RlpWriter.sizeOfLong(gasLimit)
+                + TxRlp.sizeOfAddress(to)
+                + RlpWriter.sizeOfBigInteger(value.value())
+                + TxRlp.sizeOfData(data)
+                + TxRlp.sizeOfAccessList(accessList)
+                + RlpWriter.sizeOfBigInteger(maxFeePerBlobGas.value())
+                + TxRlp.sizeOfHashList(blobVersionedHashes);
+    }
+
+    private void writeFields(final RlpWriter writer) {
+        writer.writeLong(chainId)
+                .writeLong(nonce)
+                .writeBigInteger(maxPriorityFeePerGas.value())
+                .writeBigInteger(maxFeePerGas.value())
+                .writeLong(gasLimit);
+        TxRlp.writeAddress(writer, to);
+        writer.writeBigInteger(value.value());
+        TxRlp.writeData(writer, data);
+        TxRlp.writeAccessList(writer, accessList);
+        writer.writeBigInteger(maxFeePerBlobGas.value());
+        TxRlp.writeHashList(writer, blobVersionedHashes);
     }
 }
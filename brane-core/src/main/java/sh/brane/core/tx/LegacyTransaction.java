@@ -1,18 +1,14 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.tx;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 import sh.brane.core.crypto.Signature;
 import sh.brane.core.types.Address;
 import sh.brane.core.types.HexData;
 import sh.brane.core.types.Wei;
-import sh.brane.primitives.rlp.Rlp;
-import sh.brane.primitives.rlp.RlpItem;
-import sh.brane.primitives.rlp.RlpNumeric;
-import sh.brane.primitives.rlp.RlpString;
+import sh.brane.primitives.rlp.RlpWriter;
 
 /**
  * EIP-155 legacy transaction with gasPrice.
@@ -80,21 +76,41 @@ public record LegacyTransaction(
 
     @Override
     public byte[] encodeForSigning(final long chainId) {
-        final List<RlpItem> items = new ArrayList<>(9);
+        final byte[] result = new byte[encodedLengthForSigning(chainId)];
+        encodeForSigning(chainId, ByteBuffer.wrap(result));
+        return result;
+    }
 
-        items.add(RlpNumeric.encodeLongUnsignedItem(nonce));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(gasPrice.value()));
-        items.add(RlpNumeric.encodeLongUnsignedItem(gasLimit));
-        items.add(new RlpString(to != null ? to.toBytes() : new byte[0]));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(value.value()));
-        items.add(new RlpString(data.toBytes()));
+    @Override
+    public int encodedLengthForSigning(final long chainId) {
+        return RlpWriter.sizeOfList(signingPayloadLength(chainId));
+    }
 
+    @Override
+    public int encodeForSigning(final long chainId, final ByteBuffer out) {
+        final int payload = signingPayloadLength(chainId);
+        final int length = RlpWriter.sizeOfList(payload);
+        TxRlp.checkCapacity(out, length);
+
+        final RlpWriter writer = RlpWriter.to(out).writeListHeader(payload);
+        writeFields(writer);
         // EIP-155: append chainId, 0, 0 for signing
-        items.add(RlpNumeric.encodeLongUnsignedItem(chainId));
-        items.add(RlpNumeric.encodeLongUnsignedItem(0));
-        items.add(RlpNumeric.encodeLongUnsignedItem(0));
+        writer.writeLong(chainId).writeLong(0).writeLong(0);
+        return length;
+    }
 
-        return Rlp.encodeList(items);
+    /**
+     * Encodes the pre-EIP-155 signing preimage {@code RLP([nonce, gasPrice, gasLimit, to, value, data])}.
+     *
+     * <p>
+     * Only needed to verify transactions signed with {@code v = 27/28}; new
+     * transactions should always be signed with {@link #encodeForSigning(long)}.
+     */
+    byte[] encodeUnprotectedForSigning() {
+        final int payload = fieldsLength();
+        final byte[] result = new byte[RlpWriter.sizeOfList(payload)];
+        writeFields(RlpWriter.to(result, 0).writeListHeader(payload));
+        return result;
     }
 
     /**
@@ -124,6 +140,34 @@ public record LegacyTransaction(
      */
     @Override
     public byte[] encodeAsEnvelope(final Signature signature) {
+        final byte[] result = new byte[encodedEnvelopeLength(signature)];
+        encodeAsEnvelope(signature, ByteBuffer.wrap(result));
+        return result;
+    }
+
+    @Override
+    public int encodedEnvelopeLength(final Signature signature) {
+        return RlpWriter.sizeOfList(envelopePayloadLength(signature));
+    }
+
+    @Override
+    public int encodeAsEnvelope(final Signature signature, final ByteBuffer out) {
+        final int payload = envelopePayloadLength(signature);
+        final int length = RlpWriter.sizeOfList(payload);
+        TxRlp.checkCapacity(out, length);
+
+        final RlpWriter writer = RlpWriter.to(out).writeListHeader(payload);
+        writeFields(writer);
+        // Signature components (v is already EIP-155 encoded)
+        TxRlp.writeSignature(writer, signature.v(), signature);
+        return length;
+    }
+
+    private int signingPayloadLength(final long chainId) {
+        return fieldsLength() + RlpWriter.sizeOfLong(chainId) + 2;
+    }
+
+    private int envelopePayloadLength(final Signature signature) {
         Objects.requireNonNull(signature, "signature is required");
 
         // EIP-155: v = chainId * 2 + 35 + yParity, so minimum v is 35 (chainId=0, yParity=0)
@@ -133,21 +177,27 @@ public record LegacyTransaction(
                     "Legacy transaction signature v must be EIP-155 encoded (>= 35), got: " + signature.v()
                             + ". Did you forget to encode: v = chainId * 2 + 35 + yParity?");
         }
+        return fieldsLength() + TxRlp.sizeOfSignature(signature.v(), signature);
+    }
 
-        final List<RlpItem> items = new ArrayList<>(9);
-
-        items.add(RlpNumeric.encodeLongUnsignedItem(nonce));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(gasPrice.value()));
-        items.add(RlpNumeric.encodeLongUnsignedItem(gasLimit));
-        items.add(new RlpString(to != null ? to.toBytes() : new byte[0]));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(value.value()));
-        items.add(new RlpString(data.toBytes()));
-
-        // Add signature components (v is already EIP-155 encoded)
-        items.add(RlpNumeric.encodeLongUnsignedItem(signature.v()));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(signature.rAsBigInteger()));
-        items.add(RlpNumeric.encodeBigIntegerUnsignedItem(signature.sAsBigInteger()));
+    /**
+     * Returns the encoded size of {@code [nonce, gasPrice, gasLimit, to, value, data]}.
+     */
+    private int fieldsLength() {
+        return RlpWriter.sizeOfLong(nonce)
+                + RlpWriter.sizeOfBigInteger(gasPrice.value())
+                + RlpWriter.sizeOfLong(gasLimit)
+                + TxRlp.sizeOfAddress(to)
+                + RlpWriter.sizeOfBigInteger(value.value())
+                + TxRlp.sizeOfData(data);
+    }
 
-        return Rlp.encodeList(items);
+    private void writeFields(final RlpWriter writer) {
+        writer.writeLong(nonce)
+                .writeBigInteger(gasPrice.value())
+                .writeLong(gasLimit);
+        TxRlp.writeAddress(writer, to);
+        writer.writeBigInteger(value.value());
+        TxRlp.writeData(writer, data);
     }
 }
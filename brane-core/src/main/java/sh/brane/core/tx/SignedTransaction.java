@@ -0,0 +1,110 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.tx;
+
+import java.util.Objects;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.crypto.PrivateKey;
+import sh.brane.core.crypto.Signature;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.BlobSidecar;
+import sh.brane.core.types.Hash;
+
+/**
+ * A decoded signed transaction: the unsigned fields, the signature and the
+ * transaction hash.
+ *
+ * <p>
+ * Instances are produced by {@link TransactionDecoder}. The signature is kept
+ * exactly as it appeared on the wire: for {@link LegacyTransaction} {@code v}
+ * is {@code 27/28} or EIP-155 encoded ({@code chainId * 2 + 35 + yParity}); for
+ * typed transactions it is the {@code yParity} (0 or 1). This means
+ * {@code transaction().encodeAsEnvelope(signature())} reproduces the original
+ * bytes for every EIP-155 or typed transaction.
+ *
+ * <p>
+ * The sender is not part of the encoding. Call {@link #recoverSender()} for a
+ * single transaction or {@link TransactionDecoder#recoverSenders(java.util.List)}
+ * to recover many in parallel.
+ *
+ * @param transaction the unsigned transaction fields
+ * @param signature   the signature as encoded in the envelope
+ * @param hash        the transaction hash ({@code keccak256} of the canonical envelope)
+ * @param sidecar     the blob sidecar if the input was an EIP-4844 network wrapper, otherwise {@code null}
+ * @since 0.3.0
+ */
+public record SignedTransaction(
+        UnsignedTransaction transaction,
+        Signature signature,
+        Hash hash,
+        BlobSidecar sidecar) {
+
+    public SignedTransaction {
+        Objects.requireNonNull(transaction, "transaction");
+        Objects.requireNonNull(signature, "signature");
+        Objects.requireNonNull(hash, "hash");
+        if (sidecar != null && !(transaction instanceof Eip4844Transaction)) {
+            throw new IllegalArgumentException("sidecar is only valid for EIP-4844 transactions");
+        }
+    }
+
+    /**
+     * Returns the EIP-2718 transaction type: {@code 0x00} for legacy, otherwise
+     * the envelope type byte.
+     *
+     * @return the transaction type
+     */
+    public int type() {
+        return switch (transaction) {
+            case LegacyTransaction tx -> 0x00;
+            case Eip2930Transaction tx -> 0x01;
+            case Eip1559Transaction tx -> 0x02;
+            case Eip4844Transaction tx -> 0x03;
+        };
+    }
+
+    /**
+     * Returns the chain ID the transaction was signed for.
+     *
+     * <p>
+     * For legacy transactions this is derived from the EIP-155 {@code v};
+     * pre-EIP-155 transactions ({@code v = 27/28}) are not replay protected and
+     * return {@code 0}.
+     *
+     * @return the chain ID, or 0 for unprotected legacy transactions
+     */
+    public long chainId() {
+        return switch (transaction) {
+            case LegacyTransaction tx -> signature.v() >= 35 ? (signature.v() - 35L) / 2 : 0L;
+            case Eip2930Transaction tx -> tx.chainId();
+            case Eip1559Transaction tx -> tx.chainId();
+            case Eip4844Transaction tx -> tx.chainId();
+        };
+    }
+
+    /**
+     * Computes the hash that was signed, i.e. {@code keccak256} of the signing preimage.
+     *
+     * @return the 32-byte signing hash
+     */
+    public byte[] signingHash() {
+        if (transaction instanceof LegacyTransaction legacy && signature.v() < 35) {
+            return Keccak256.hash(legacy.encodeUnprotectedForSigning());
+        }
+        return Keccak256.hash(transaction.encodeForSigning(chainId()));
+    }
+
+    /**
+     * Recovers the sender address from the signature.
+     *
+     * <p>
+     * This performs a full secp256k1 public key recovery and is by far the most
+     * expensive operation on a decoded transaction.
+     *
+     * @return the address that signed this transaction
+     * @throws IllegalArgumentException if the signature is invalid
+     */
+    public Address recoverSender() {
+        return PrivateKey.recoverAddress(signingHash(), signature);
+    }
+}
@@ -0,0 +1,364 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.tx;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.crypto.Signature;
+import sh.brane.core.model.AccessListEntry;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Blob;
+import sh.brane.core.types.BlobSidecar;
+import sh.brane.core.types.FixedSizeG1Point;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.KzgCommitment;
+import sh.brane.core.types.KzgProof;
+import sh.brane.core.types.Wei;
+import sh.brane.primitives.rlp.RlpReader;
+
+/**
+ * Decodes raw signed transactions (as returned by {@code eth_getRawTransactionByHash}
+ * or passed to {@code eth_sendRawTransaction}) back into transaction records.
+ *
+ * <p>
+ * Supported encodings:
+ * <ul>
+ * <li>Legacy: {@code RLP([nonce, gasPrice, gasLimit, to, value, data, v, r, s])}
+ * with {@code v = 27/28} or EIP-155 {@code v = chainId * 2 + 35 + yParity}</li>
+ * <li>EIP-2930: {@code 0x01 || RLP([chainId, ..., accessList, yParity, r, s])}</li>
+ * <li>EIP-1559: {@code 0x02 || RLP([chainId, ..., accessList, yParity, r, s])}</li>
+ * <li>EIP-4844: {@code 0x03 || RLP([chainId, ..., blobVersionedHashes, yParity, r, s])}
+ * and the network wrapper {@code 0x03 || RLP([tx, blobs, commitments, proofs])}</li>
+ * </ul>
+ *
+ * <p>
+ * Decoding walks the input with a single {@link RlpReader} pass; no intermediate
+ * RLP tree is built. The transaction hash is {@code keccak256} of the canonical
+ * envelope, which for a network wrapper excludes the sidecar.
+ *
+ * <h2>Usage Example</h2>
+ *
+ * <pre>{@code
+ * SignedTransaction tx = TransactionDecoder.decode(rawBytes);
+ * Address from = tx.recoverSender();
+ *
+ * // Recover many senders across all cores
+ * List<Address> senders = TransactionDecoder.recoverSenders(decodedBlockTxs);
+ * }</pre>
+ *
+ * @since 0.3.0
+ */
+public final class TransactionDecoder {
+
+    private static final int EIP2930_TYPE = 0x01;
+    private static final int EIP1559_TYPE = 0x02;
+    private static final int EIP4844_TYPE = 0x03;
+    private static final int ADDRESS_LENGTH = 20;
+    private static final int WORD_LENGTH = 32;
+
+    private TransactionDecoder() {
+        // Utility class
+    }
+
+    /**
+     * Decodes a raw signed transaction.
+     *
+     * @param raw the encoded transaction
+     * @return the decoded transaction, signature and hash
+     * @throws NullPointerException     if raw is null
+     * @throws IllegalArgumentException if the encoding is malformed or the type is unsupported
+     */
+    public static SignedTransaction decode(final byte[] raw) {
+        Objects.requireNonNull(raw, "raw");
+        return decode(raw, 0, raw.length);
+    }
+
+    /**
+     * Decodes a raw signed transaction stored in a region of a larger array.
+     *
+     * <p>
+     * The array is not copied except for the bytes that end up in the returned
+     * records, so it must not be modified during the call.
+     *
+     * @param raw    the array holding the encoded transaction
+     * @param offset start of the encoding
+     * @param length length of the encoding
+     * @return the decoded transaction, signature and hash
+     * @throws NullPointerException      if raw is null
+     * @throws IndexOutOfBoundsException if the region is outside the array
+     * @throws IllegalArgumentException  if the encoding is malformed or the type is unsupported
+     */
+    public static SignedTransaction decode(final byte[] raw, final int offset, final int length) {
+        Objects.requireNonNull(raw, "raw");
+        Objects.checkFromIndexSize(offset, length, raw.length);
+        if (length == 0) {
+            throw new IllegalArgumentException("Empty transaction encoding");
+        }
+
+        final int first = raw[offset] & 0xFF;
+        if (first >= 0xC0) {
+            final RlpReader reader = RlpReader.of(raw, offset, length);
+            return decodeLegacy(reader, hashRegion(raw, offset, length));
+        }
+
+        final RlpReader reader = RlpReader.of(raw, offset + 1, length - 1);
+        return switch (first) {
+            case EIP2930_TYPE -> decodeEip2930(reader, hashRegion(raw, offset, length));
+            case EIP1559_TYPE -> decodeEip1559(reader, hashRegion(raw, offset, length));
+            case EIP4844_TYPE -> decodeEip4844(reader, raw, offset, length);
+            default -> throw new IllegalArgumentException(
+                    "Unsupported transaction type: 0x" + Integer.toHexString(first));
+        };
+    }
+
+    /**
+     * Recovers the senders of many transactions in parallel.
+     *
+     * <p>
+     * Public key recovery dominates the cost of processing decoded transactions,
+     * and each recovery is independent, so the work is spread across the common
+     * fork-join pool. The result is in the same order as the input.
+     *
+     * @param transactions the decoded transactions
+     * @return the sender of each transaction, in input order
+     * @throws NullPointerException     if transactions or any element is null
+     * @throws IllegalArgumentException if any signature is invalid
+     */
+    public static List<Address> recoverSenders(final List<SignedTransaction> transactions) {
+        Objects.requireNonNull(transactions, "transactions");
+        final SignedTransaction[] txs = transactions.toArray(new SignedTransaction[0]);
+        final Address[] senders = new Address[txs.length];
+        IntStream.range(0, txs.length).parallel().forEach(i -> senders[i] = txs[i].recoverSender());
+        return Arrays.asList(senders);
+    }
+
+    // ==================== Per-type decoders ====================
+
+    private static SignedTransaction decodeLegacy(final RlpReader reader, final Hash hash) {
+        reader.enterList();
+        final long nonce = reader.readLong();
+        final Wei gasPrice = new Wei(reader.readBigInteger());
+        final long gasLimit = reader.readLong();
+        final Address to = readAddress(reader);
+        final Wei value = new Wei(reader.readBigInteger());
+        final HexData data = HexData.fromBytes(reader.readBytes());
+        final long v = reader.readLong();
+        if (v != 27 && v != 28 && (v < 35 || v > Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("Invalid legacy signature v: " + v);
+        }
+        final Signature signature = readSignature(reader, (int) v);
+        finish(reader);
+
+        return new SignedTransaction(
+                new LegacyTransaction(nonce, gasPrice, gasLimit, to, value, data), signature, hash, null);
+    }
+
+    private static SignedTransaction decodeEip2930(final RlpReader reader, final Hash hash) {
+        reader.enterList();
+        final long chainId = reader.readLong();
+        final long nonce = reader.readLong();
+        final Wei gasPrice = new Wei(reader.readBigInteger());
+        final long gasLimit = reader.readLong();
+        final Address to = readAddress(reader);
+        final Wei value = new Wei(reader.readBigInteger());
+        final HexData data = HexData.fromBytes(reader.readBytes());
+        final List<AccessListEntry> accessList = readAccessList(reader);
+        final Signature signature = readSignature(reader, readYParity(reader));
+        finish(reader);
+
+        return new SignedTransaction(
+                new Eip2930Transaction(chainId, nonce, gasPrice, gasLimit, to, value, data, accessList),
+                signature, hash, null);
+    }
+
+    private static SignedTransaction decodeEip1559(final RlpReader reader, final Hash hash) {
+        reader.enterList();
+        final long chainId = reader.readLong();
+        final long nonce = reader.readLong();
+        final Wei maxPriorityFeePerGas = new Wei(reader.readBigInteger());
+        final Wei maxFeePerGas = new Wei(reader.readBigInteger());
+        final long gasLimit = reader.readLong();
+        final Address to = readAddress(reader);
+        final Wei value = new Wei(reader.readBigInteger());
+        final HexData data = HexData.fromBytes(reader.readBytes());
+        final List<AccessListEntry> accessList = readAccessList(reader);
+        final Signature signature = readSignature(reader, readYParity(reader));
+        finish(reader);
+
+        return new SignedTransaction(
+                new Eip1559Transaction(chainId, nonce, maxPriorityFeePerGas, maxFeePerGas, gasLimit, to, value,
+                        data, accessList),
+                signature, hash, null);
+    }
+
+    private static SignedTransaction decodeEip4844(
+            final RlpReader reader, final byte[] raw, final int offset, final int length) {
+        reader.enterList();
+        if (!reader.isNextList()) {
+            // Canonical form: the list we just entered is the transaction itself
+            final Eip4844Transaction tx = readEip4844Fields(reader);
+            final Signature signature = readSignature(reader, readYParity(reader));
+            finish(reader);
+            return new SignedTransaction(tx, signature, hashRegion(raw, offset, length), null);
+        }
+
+        // Network wrapper: [[tx fields..., yParity, r, s], blobs, commitments, proofs]
+        reader.enterList();
+        final int innerOffset = reader.itemOffset();
+        final int innerLength = reader.itemLength();
+        final Eip4844Transaction tx = readEip4844Fields(reader);
+        final Signature signature = readSignature(reader, readYParity(reader));
+        reader.exitList();
+
+        final List<Blob> blobs = new ArrayList<>();
+        reader.enterList();
+        while (reader.hasNext()) {
+            final byte[] blob = new byte[Blob.SIZE];
+            reader.readFixed(Blob.SIZE, blob, 0);
+            blobs.add(new Blob(blob));
+        }
+        reader.exitList();
+
+        final List<KzgCommitment> commitments = new ArrayList<>();
+        reader.enterList();
+        while (reader.hasNext()) {
+            commitments.add(new KzgCommitment(readPoint(reader)));
+        }
+        reader.exitList();
+
+        final List<KzgProof> proofs = new ArrayList<>();
+        reader.enterList();
+        while (reader.hasNext()) {
+            proofs.add(new KzgProof(readPoint(reader)));
+        }
+        reader.exitList();
+        finish(reader);
+
+        final BlobSidecar sidecar = new BlobSidecar(blobs, commitments, proofs);
+        sidecar.validateHashes(tx.blobVersionedHashes());
+
+        // The hash covers the canonical envelope 0x03 || tx, not the sidecar
+        final byte[] envelope = new byte[1 + innerLength];
+        envelope[0] = EIP4844_TYPE;
+        System.arraycopy(reader.array(), innerOffset, envelope, 1, innerLength);
+        return new SignedTransaction(tx, signature, Hash.fromBytes(Keccak256.hash(envelope)), sidecar);
+    }
+
+    private static Eip4844Transaction readEip4844Fields(final RlpReader reader) {
+        final long chainId = reader.readLong();
+        final long nonce = reader.readLong();
+        final Wei maxPriorityFeePerGas = new Wei(reader.readBigInteger());
+        final Wei maxFeePerGas = new Wei(reader.readBigInteger());
+        final long gasLimit = reader.readLong();
+        final Address to = readAddress(reader);
+        if (to == null) {
+            throw new IllegalArgumentException("EIP-4844 transaction must have a recipient");
+        }
+        final Wei value = new Wei(reader.readBigInteger());
+        final HexData data = HexData.fromBytes(reader.readBytes());
+        final List<AccessListEntry> accessList = readAccessList(reader);
+        final Wei maxFeePerBlobGas = new Wei(reader.readBigInteger());
+        final List<Hash> blobVersionedHashes = readHashList(reader);
+        return new Eip4844Transaction(chainId, nonce, maxPriorityFeePerGas, maxFeePerGas, gasLimit, to, value,
+                data, accessList, maxFeePerBlobGas, blobVersionedHashes);
+    }
+
+    // ==================== Field readers ====================
+
+    private static Address readAddress(final RlpReader reader) {
+        final int length = reader.readString();
+        if (length == 0) {
+            return null;
+        }
+        if (length != ADDRESS_LENGTH) {
+            throw new IllegalArgumentException("Address must be " + ADDRESS_LENGTH + " bytes, got " + length);
+        }
+        final int start = reader.payloadOffset();
+        return Address.fromBytes(reader.array(), start);
+    }
+
+    private static List<AccessListEntry> readAccessList(final RlpReader reader) {
+        reader.enterList();
+        if (!reader.hasNext()) {
+            reader.exitList();
+            return List.of();
+        }
+        final List<AccessListEntry> entries = new ArrayList<>();
+        while (reader.hasNext()) {
+            reader.enterList();
+            final Address address = readAddress(reader);
+            if (address == null) {
+                throw new IllegalArgumentException("Access list entry must have an address");
+            }
+            entries.add(new AccessListEntry(address, readHashList(reader)));
+            reader.exitList();
+        }
+        reader.exitList();
+        return entries;
+    }
+
+    private static List<Hash> readHashList(final RlpReader reader) {
+        reader.enterList();
+        final List<Hash> hashes = new ArrayList<>();
+        while (reader.hasNext()) {
+            final byte[] hash = new byte[WORD_LENGTH];
+            reader.readFixed(WORD_LENGTH, hash, 0);
+            hashes.add(Hash.fromBytes(hash));
+        }
+        reader.exitList();
+        return hashes;
+    }
+
+    private static int readYParity(final RlpReader reader) {
+        final long yParity = reader.readLong();
+        if (yParity != 0 && yParity != 1) {
+            throw new IllegalArgumentException("Signature yParity must be 0 or 1, got: " + yParity);
+        }
+        return (int) yParity;
+    }
+
+    /**
+     * Reads r and s, which are encoded as minimal big-endian scalars, into
+     * 32-byte left-padded words.
+     */
+    private static Signature readSignature(final RlpReader reader, final int v) {
+        final byte[] r = readWord(reader);
+        final byte[] s = readWord(reader);
+        return new Signature(r, s, v);
+    }
+
+    private static byte[] readWord(final RlpReader reader) {
+        final int length = reader.readString();
+        if (length > WORD_LENGTH) {
+            throw new IllegalArgumentException("Signature component exceeds " + WORD_LENGTH + " bytes: " + length);
+        }
+        if (length > 0 && reader.array()[reader.payloadOffset()] == 0) {
+            throw new IllegalArgumentException("Signature component has leading zero bytes");
+        }
+        final byte[] word = new byte[WORD_LENGTH];
+        System.arraycopy(reader.array(), reader.payloadOffset(), word, WORD_LENGTH - length, length);
+        return word;
+    }
+
+    private static byte[] readPoint(final RlpReader reader) {
+        final byte[] point = new byte[FixedSizeG1Point.SIZE];
+        reader.readFixed(FixedSizeG1Point.SIZE, point, 0);
+        return point;
+    }
+
+    private static void finish(final RlpReader reader) {
+        reader.exitList();
+        reader.requireEnd();
+    }
+
+    private static Hash hashRegion(final byte[] raw, final int offset, final int length) {
+        final byte[] digest = new byte[Keccak256.DIGEST_LENGTH];
+        Keccak256.hash(raw, offset, length, digest, 0);
+        return Hash.fromBytes(digest);
+    }
+}
@@ -0,0 +1,131 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.tx;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import sh.brane.core.crypto.Signature;
+import sh.brane.core.model.AccessListEntry;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.primitives.rlp.RlpWriter;
+
+/**
+ * Size and write helpers shared by the transaction encoders.
+ *
+ * <p>
+ * Each {@code sizeOf*} method returns exactly the number of bytes the matching
+ * {@code write*} method emits, so callers can size a list header before writing
+ * its children with {@link RlpWriter}.
+ */
+final class TxRlp {
+
+    private static final int ADDRESS_LENGTH = 20;
+    private static final int HASH_LENGTH = 32;
+    private static final int ENCODED_ADDRESS_LENGTH = ADDRESS_LENGTH + 1;
+    private static final int ENCODED_HASH_LENGTH = HASH_LENGTH + 1;
+
+    private TxRlp() {
+    }
+
+    /**
+     * Throws {@link BufferOverflowException} up front so a short buffer is never
+     * left holding a partial encoding.
+     */
+    static void checkCapacity(final ByteBuffer out, final int length) {
+        if (out.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    // ==================== Address (nullable for contract creation) ====================
+
+    static int sizeOfAddress(final Address address) {
+        return address != null ? ENCODED_ADDRESS_LENGTH : 1;
+    }
+
+    static void writeAddress(final RlpWriter writer, final Address address) {
+        if (address == null) {
+            writer.writeStringHeader(0, 0);
+            return;
+        }
+        writer.writeStringHeader(ADDRESS_LENGTH, 0);
+        address.putTo(writer.buffer());
+    }
+
+    // ==================== Calldata ====================
+
+    static int sizeOfData(final HexData data) {
+        final int length = data.byteLength();
+        if (length == 1) {
+            return RlpWriter.sizeOfString(data.toBytes());
+        }
+        return RlpWriter.sizeOfString(length, 0);
+    }
+
+    static void writeData(final RlpWriter writer, final HexData data) {
+        final int length = data.byteLength();
+        if (length == 1) {
+            // A single byte below 0x80 is its own encoding, so the value decides the header
+            writer.writeString(data.toBytes());
+            return;
+        }
+        writer.writeStringHeader(length, 0);
+        data.putTo(writer.buffer());
+    }
+
+    // ==================== EIP-2930 access list ====================
+
+    static int sizeOfAccessList(final List<AccessListEntry> accessList) {
+        int payload = 0;
+        for (int i = 0; i < accessList.size(); i++) {
+            payload += RlpWriter.sizeOfList(entryPayloadLength(accessList.get(i)));
+        }
+        return RlpWriter.sizeOfList(payload);
+    }
+
+    static void writeAccessList(final RlpWriter writer, final List<AccessListEntry> accessList) {
+        int payload = 0;
+        for (int i = 0; i < accessList.size(); i++) {
+            payload += RlpWriter.sizeOfList(entryPayloadLength(accessList.get(i)));
+        }
+        writer.writeListHeader(payload);
+        for (int i = 0; i < accessList.size(); i++) {
+            final AccessListEntry entry = accessList.get(i);
+            writer.writeListHeader(entryPayloadLength(entry));
+            writeAddress(writer, entry.address());
+            writeHashList(writer, entry.storageKeys());
+        }
+    }
+
+    private static int entryPayloadLength(final AccessListEntry entry) {
+        return ENCODED_ADDRESS_LENGTH + sizeOfHashList(entry.storageKeys());
+    }
+
+    // ==================== Hash lists ====================
+
+    static int sizeOfHashList(final List<Hash> hashes) {
+        return RlpWriter.sizeOfList(hashes.size() * ENCODED_HASH_LENGTH);
+    }
+
+    static void writeHashList(final RlpWriter writer, final List<Hash> hashes) {
+        writer.writeListHeader(hashes.size() * ENCODED_HASH_LENGTH);
+        for (int i = 0; i < hashes.size(); i++) {
+            writer.writeStringHeader(HASH_LENGTH, 0);
+            hashes.get(i).putTo(writer.buffer());
+        }
+    }
+
+    // ==================== Signature ====================
+
+    static int sizeOfSignature(final long v, final Signature signature) {
+        return RlpWriter.sizeOfLong(v) + signature.rsEncodedLength();
+    }
+
+    static void writeSignature(final RlpWriter writer, final long v, final Signature signature) {
+        writer.writeLong(v);
+        signature.writeRS(writer);
+    }
+}
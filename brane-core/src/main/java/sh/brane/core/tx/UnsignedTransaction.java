@@ -1,6 +1,8 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.tx;
 
+import java.nio.ByteBuffer;
+
 import sh.brane.core.crypto.Signature;
 
 /**
@@ -11,6 +13,7 @@ import sh.brane.core.crypto.Signature;
  * signed. Implementations include:
  * <ul>
  * <li>{@link LegacyTransaction} - EIP-155 transactions with gasPrice</li>
+ * <li>{@link Eip2930Transaction} - EIP-2930 transactions with an access list</li>
  * <li>{@link Eip1559Transaction} - EIP-1559 transactions with dynamic fees</li>
  * <li>{@link Eip4844Transaction} - EIP-4844 blob transactions</li>
  * </ul>
@@ -33,9 +36,29 @@ import sh.brane.core.crypto.Signature;
  * String hex = Hex.encode(envelope);
  * }</pre>
  *
+ * <h2>Encoding into a Buffer</h2>
+ * <p>
+ * Every encoding is also available in a sink form that writes directly into a
+ * caller-supplied {@link ByteBuffer} using a two-pass, size-first RLP writer.
+ * Combined with a reused buffer this makes signing-preimage and envelope
+ * encoding allocation-free for fee and value fields up to 63 bits:
+ *
+ * <pre>{@code
+ * ByteBuffer buf = ByteBuffer.allocate(4096); // reused across transactions
+ * buf.clear();
+ * int len = tx.encodeAsEnvelope(signature, buf);
+ * }</pre>
+ *
+ * <p>
+ * <strong>Compatibility:</strong> 0.3.0 added {@link Eip2930Transaction} to the
+ * permitted subtypes. A {@code switch} over an {@code UnsignedTransaction} that
+ * relied on exhaustiveness without a {@code default} branch no longer compiles
+ * until it handles {@code Eip2930Transaction}.
+ *
  * @since 0.2.0
  */
-public sealed interface UnsignedTransaction permits LegacyTransaction, Eip1559Transaction, Eip4844Transaction {
+public sealed interface UnsignedTransaction
+        permits LegacyTransaction, Eip2930Transaction, Eip1559Transaction, Eip4844Transaction {
 
     /**
      * Encodes the transaction for signing (pre-signature RLP encoding).
@@ -66,4 +89,56 @@ public sealed interface UnsignedTransaction permits LegacyTransaction, Eip1559Tr
      * @return bytes ready for eth_sendRawTransaction
      */
     byte[] encodeAsEnvelope(Signature signature);
+
+    /**
+     * Returns the exact length of {@link #encodeForSigning(long)} without encoding.
+     *
+     * @param chainId the chain ID for EIP-155 encoding
+     * @return the signing preimage length in bytes
+     * @since 0.3.0
+     */
+    int encodedLengthForSigning(long chainId);
+
+    /**
+     * Writes the signing preimage into {@code out}, advancing its position.
+     *
+     * <p>
+     * Produces the same bytes as {@link #encodeForSigning(long)}. Capacity is
+     * checked before anything is written.
+     *
+     * @param chainId the chain ID for EIP-155 encoding
+     * @param out     the destination buffer
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if {@code out} has fewer than
+     *                                          {@link #encodedLengthForSigning(long)}
+     *                                          bytes remaining
+     * @since 0.3.0
+     */
+    int encodeForSigning(long chainId, ByteBuffer out);
+
+    /**
+     * Returns the exact length of {@link #encodeAsEnvelope(Signature)} without encoding.
+     *
+     * @param signature the signature to include
+     * @return the envelope length in bytes
+     * @since 0.3.0
+     */
+    int encodedEnvelopeLength(Signature signature);
+
+    /**
+     * Writes the signed envelope into {@code out}, advancing its position.
+     *
+     * <p>
+     * Produces the same bytes as {@link #encodeAsEnvelope(Signature)}. Capacity
+     * is checked before anything is written.
+     *
+     * @param signature the signature to include
+     * @param out       the destination buffer
+     * @return the number of bytes written
+     * @throws java.nio.BufferOverflowException if {@code out} has fewer than
+     *                                          {@link #encodedEnvelopeLength(Signature)}
+     *                                          bytes remaining
+     * @since 0.3.0
+     */
+    int encodeAsEnvelope(Signature signature, ByteBuffer out);
 }
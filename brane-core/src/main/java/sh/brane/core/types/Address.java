@@ -1,9 +1,11 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.types;
 
-import java.util.Locale;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 import sh.brane.primitives.Hex;
 
@@ -19,12 +21,28 @@ import sh.brane.primitives.Hex;
  * </ul>
  * <p>
  * The value is stored in lowercase.
+ * <p>
+ * <strong>Representation:</strong> the 20 bytes are held as three big-endian words,
+ * so {@link #equals(Object)}, {@link #hashCode()}, {@link #toBytes()} and
+ * {@link #fromBytes(byte[])} never touch a string. The hex {@link #value()} is
+ * rendered on first use, or reused as-is when the address was constructed from a
+ * lowercase string. Frequently seen addresses (tokens, routers) can be
+ * deduplicated with {@link #intern()}.
+ * <p>
+ * <strong>Compatibility:</strong> before 0.3.0 this type was a record. It is now a
+ * final class: {@link #value()}, the {@code String} constructor, {@code equals} and
+ * {@code toString} behave as before, but record patterns such as
+ * {@code case Address(var v)} no longer compile. Match on the type and call
+ * {@link #value()} instead.
  *
  * @since 0.1.0-alpha
  */
-public record Address(@com.fasterxml.jackson.annotation.JsonValue String value) {
+public final class Address {
     private static final int BYTE_LENGTH = 20;
-    private static final Pattern HEX = HexValidator.fixedLength(BYTE_LENGTH);
+
+    /** Upper bound on {@link #intern()}ed addresses; further addresses are not interned. */
+    private static final int INTERN_CAPACITY = 4096;
+    private static final ConcurrentHashMap<Address, Address> INTERNED = new ConcurrentHashMap<>();
 
     /**
      * The zero address ({@code 0x0000000000000000000000000000000000000000}).
@@ -33,30 +51,170 @@ public record Address(@com.fasterxml.jackson.annotation.JsonValue String value)
      */
     public static final Address ZERO = new Address("0x0000000000000000000000000000000000000000");
 
-    public Address {
+    /** Bytes 0-7. */
+    private final long high;
+    /** Bytes 8-15. */
+    private final long middle;
+    /** Bytes 16-19. */
+    private final int low;
+    private final int hash;
+    /** Lazily rendered lowercase hex; racy initialization is benign because String is immutable. */
+    private String value;
+
+    public Address(final String value) {
         Objects.requireNonNull(value, "address");
-        if (!HEX.matcher(value).matches()) {
+        final int scan = HexValidator.scan(value, BYTE_LENGTH);
+        if (scan < 0) {
             throw new IllegalArgumentException("Invalid address: " + value);
         }
-        value = value.toLowerCase(Locale.ROOT);
+        final byte[] bytes = new byte[BYTE_LENGTH];
+        Hex.decodeTo(value, 2, BYTE_LENGTH * 2, bytes, 0);
+        this.high = HexWords.readLong(bytes, 0);
+        this.middle = HexWords.readLong(bytes, 8);
+        this.low = HexWords.readInt(bytes, 16);
+        this.hash = hash(high, middle, low);
+        this.value = scan == 0 ? value : null;
+    }
+
+    private Address(final long high, final long middle, final int low) {
+        this.high = high;
+        this.middle = middle;
+        this.low = low;
+        this.hash = hash(high, middle, low);
+    }
+
+    /**
+     * Returns the {@code 0x}-prefixed lowercase hex form of this address.
+     *
+     * <p><b>Allocation:</b> 0 allocations after the first call.
+     *
+     * @return the address as a 42-character string
+     */
+    @com.fasterxml.jackson.annotation.JsonValue
+    public String value() {
+        String v = value;
+        if (v == null) {
+            final byte[] chars = new byte[2 + BYTE_LENGTH * 2];
+            Hex.encodeAsciiTo(toBytes(), 0, BYTE_LENGTH, chars, 0, true);
+            value = v = HexWords.ascii(chars);
+        }
+        return v;
     }
 
     /**
      * Decodes this address to a 20-byte array.
      *
      * <p><b>Allocation:</b> 1 allocation per call (result byte[]). For hot paths,
-     * cache the result or use {@link Hex#decodeTo} with a pre-allocated buffer.
+     * use {@link #putTo(ByteBuffer)} with a pre-allocated buffer.
      *
      * @return 20-byte array representation
      */
     public byte[] toBytes() {
-        return Hex.decode(value);
+        final byte[] bytes = new byte[BYTE_LENGTH];
+        HexWords.writeLong(high, bytes, 0);
+        HexWords.writeLong(middle, bytes, 8);
+        HexWords.writeInt(low, bytes, 16);
+        return bytes;
+    }
+
+    /**
+     * Writes the 20 raw bytes of this address to {@code buffer}, advancing its position.
+     *
+     * <p><b>Allocation:</b> 0 allocations.
+     *
+     * @param buffer the destination buffer
+     * @throws java.nio.BufferOverflowException if fewer than 20 bytes remain
+     * @since 0.3.0
+     */
+    public void putTo(final ByteBuffer buffer) {
+        if (buffer.remaining() < BYTE_LENGTH) {
+            throw new BufferOverflowException();
+        }
+        if (buffer.order() == ByteOrder.BIG_ENDIAN) {
+            buffer.putLong(high).putLong(middle).putInt(low);
+        } else {
+            buffer.putLong(Long.reverseBytes(high)).putLong(Long.reverseBytes(middle)).putInt(Integer.reverseBytes(low));
+        }
+    }
+
+    /**
+     * Returns the canonical instance for this address.
+     *
+     * <p>
+     * The first {@value #INTERN_CAPACITY} distinct addresses interned become
+     * canonical; interning any other address returns it unchanged. Interned
+     * instances share their rendered {@link #value()} and compare by identity
+     * first in {@link #equals(Object)}, which makes them cheap map keys.
+     * Intended for a bounded set of hot addresses such as tokens and routers,
+     * not for every address seen on chain.
+     *
+     * @return the canonical instance, or {@code this} if the table is full
+     * @since 0.3.0
+     */
+    public Address intern() {
+        final Address canonical = INTERNED.get(this);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (INTERNED.size() >= INTERN_CAPACITY) {
+            return this;
+        }
+        final Address previous = INTERNED.putIfAbsent(this, this);
+        return previous != null ? previous : this;
     }
 
     public static Address fromBytes(final byte[] bytes) {
         if (bytes == null || bytes.length != BYTE_LENGTH) {
             throw new IllegalArgumentException("Address must be exactly " + BYTE_LENGTH + " bytes");
         }
-        return new Address("0x" + Hex.encodeNoPrefix(bytes));
+        return fromBytes(bytes, 0);
+    }
+
+    /**
+     * Creates an address from 20 bytes at {@code offset}, without copying or hex encoding.
+     *
+     * <p>
+     * Lets decoders read addresses straight out of larger buffers, for example the
+     * last 20 bytes of a Keccak-256 digest or of an ABI word.
+     *
+     * @param bytes  the source array
+     * @param offset the index of the first address byte
+     * @return the address
+     * @throws IllegalArgumentException if {@code bytes} is null or shorter than {@code offset + 20}
+     * @since 0.3.0
+     */
+    public static Address fromBytes(final byte[] bytes, final int offset) {
+        if (bytes == null || offset < 0 || bytes.length - offset < BYTE_LENGTH) {
+            throw new IllegalArgumentException("Address needs " + BYTE_LENGTH + " bytes at offset " + offset);
+        }
+        return new Address(
+                HexWords.readLong(bytes, offset),
+                HexWords.readLong(bytes, offset + 8),
+                HexWords.readInt(bytes, offset + 16));
+    }
+
+    private static int hash(final long high, final long middle, final int low) {
+        return 31 * (31 * Long.hashCode(high) + Long.hashCode(middle)) + low;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Address other
+                && high == other.high
+                && middle == other.middle
+                && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "Address[value=" + value() + ']';
     }
 }
@@ -1,9 +1,11 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.types;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
+import sh.brane.core.InternalApi;
 import sh.brane.primitives.Hex;
 
 /**
@@ -44,12 +46,33 @@ public final class Blob {
      * @throws IllegalArgumentException if data is not exactly {@value #SIZE} bytes
      */
     public Blob(final byte[] data) {
+        this(data, true);
+    }
+
+    private Blob(final byte[] data, final boolean copy) {
         Objects.requireNonNull(data, "data");
         if (data.length != SIZE) {
             throw new IllegalArgumentException(
                     "Blob must be exactly " + SIZE + " bytes, got " + data.length);
         }
-        this.data = data.clone();
+        this.data = copy ? data.clone() : data;
+    }
+
+    /**
+     * Creates a blob that takes ownership of {@code data} without copying it.
+     * <p>
+     * For SDK encoders that fill a fresh 128 KiB array in place (sidecar encoding). The caller
+     * must not modify {@code data} afterwards; use {@link #Blob(byte[])} everywhere else.
+     *
+     * @param data the blob data, exactly {@value #SIZE} bytes, not retained by the caller
+     * @return a blob backed by {@code data}
+     * @throws NullPointerException if data is null
+     * @throws IllegalArgumentException if data is not exactly {@value #SIZE} bytes
+     * @since 0.3.0
+     */
+    @InternalApi
+    public static Blob wrap(final byte[] data) {
+        return new Blob(data, false);
     }
 
     /**
@@ -61,6 +84,17 @@ public final class Blob {
         return data.clone();
     }
 
+    /**
+     * Writes the blob bytes to {@code buffer} without a defensive copy, advancing its position.
+     *
+     * @param buffer the destination buffer
+     * @throws java.nio.BufferOverflowException if fewer than {@value #SIZE} bytes remain
+     * @since 0.3.0
+     */
+    public void putTo(final ByteBuffer buffer) {
+        buffer.put(data);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.types;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -56,6 +57,17 @@ public abstract sealed class FixedSizeG1Point permits KzgCommitment, KzgProof {
         return data.clone();
     }
 
+    /**
+     * Writes the point bytes to {@code buffer} without a defensive copy, advancing its position.
+     *
+     * @param buffer the destination buffer
+     * @throws java.nio.BufferOverflowException if fewer than {@value #SIZE} bytes remain
+     * @since 0.3.0
+     */
+    public void putTo(final ByteBuffer buffer) {
+        buffer.put(data);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
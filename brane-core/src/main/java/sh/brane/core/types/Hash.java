@@ -1,9 +1,10 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.types;
 
-import java.util.Locale;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 import sh.brane.primitives.Hex;
 
@@ -17,37 +18,164 @@ import sh.brane.primitives.Hex;
  * <li>Must start with "0x"</li>
  * <li>Must be exactly 64 hex characters long (32 bytes)</li>
  * </ul>
+ * <p>
+ * <strong>Representation:</strong> the 32 bytes are held as four big-endian words,
+ * so {@link #equals(Object)}, {@link #hashCode()}, {@link #toBytes()} and
+ * {@link #fromBytes(byte[])} never touch a string. The lowercase hex
+ * {@link #value()} is rendered on first use, or reused as-is when the hash was
+ * constructed from a lowercase string.
+ * <p>
+ * <strong>Compatibility:</strong> before 0.3.0 this type was a record. It is now a
+ * final class: {@link #value()}, the {@code String} constructor, {@code equals} and
+ * {@code toString} behave as before, but record patterns such as
+ * {@code case Hash(var v)} no longer compile. Match on the type and call
+ * {@link #value()} instead.
  *
  * @since 0.1.0-alpha
  */
-public record Hash(@com.fasterxml.jackson.annotation.JsonValue String value) {
+public final class Hash {
     private static final int BYTE_LENGTH = 32;
-    private static final Pattern HEX = HexValidator.fixedLength(BYTE_LENGTH);
 
-    public Hash {
+    private final long w0;
+    private final long w1;
+    private final long w2;
+    private final long w3;
+    private final int hash;
+    /** Lazily rendered lowercase hex; racy initialization is benign because String is immutable. */
+    private String value;
+
+    public Hash(final String value) {
         Objects.requireNonNull(value, "hash");
-        if (!HEX.matcher(value).matches()) {
+        final int scan = HexValidator.scan(value, BYTE_LENGTH);
+        if (scan < 0) {
             throw new IllegalArgumentException("Invalid hash: " + value);
         }
-        value = value.toLowerCase(Locale.ROOT);
+        final byte[] bytes = new byte[BYTE_LENGTH];
+        Hex.decodeTo(value, 2, BYTE_LENGTH * 2, bytes, 0);
+        this.w0 = HexWords.readLong(bytes, 0);
+        this.w1 = HexWords.readLong(bytes, 8);
+        this.w2 = HexWords.readLong(bytes, 16);
+        this.w3 = HexWords.readLong(bytes, 24);
+        this.hash = hash(w0, w1, w2, w3);
+        this.value = scan == 0 ? value : null;
+    }
+
+    private Hash(final long w0, final long w1, final long w2, final long w3) {
+        this.w0 = w0;
+        this.w1 = w1;
+        this.w2 = w2;
+        this.w3 = w3;
+        this.hash = hash(w0, w1, w2, w3);
+    }
+
+    /**
+     * Returns the {@code 0x}-prefixed lowercase hex form of this hash.
+     *
+     * <p><b>Allocation:</b> 0 allocations after the first call.
+     *
+     * @return the hash as a 66-character string
+     */
+    @com.fasterxml.jackson.annotation.JsonValue
+    public String value() {
+        String v = value;
+        if (v == null) {
+            final byte[] chars = new byte[2 + BYTE_LENGTH * 2];
+            Hex.encodeAsciiTo(toBytes(), 0, BYTE_LENGTH, chars, 0, true);
+            value = v = HexWords.ascii(chars);
+        }
+        return v;
     }
 
     /**
      * Decodes this hash to a 32-byte array.
      *
      * <p><b>Allocation:</b> 1 allocation per call (result byte[]). For hot paths,
-     * cache the result or use {@link Hex#decodeTo} with a pre-allocated buffer.
+     * use {@link #putTo(ByteBuffer)} with a pre-allocated buffer.
      *
      * @return 32-byte array representation
      */
     public byte[] toBytes() {
-        return Hex.decode(value);
+        final byte[] bytes = new byte[BYTE_LENGTH];
+        HexWords.writeLong(w0, bytes, 0);
+        HexWords.writeLong(w1, bytes, 8);
+        HexWords.writeLong(w2, bytes, 16);
+        HexWords.writeLong(w3, bytes, 24);
+        return bytes;
+    }
+
+    /**
+     * Writes the 32 raw bytes of this hash to {@code buffer}, advancing its position.
+     *
+     * <p><b>Allocation:</b> 0 allocations.
+     *
+     * @param buffer the destination buffer
+     * @throws java.nio.BufferOverflowException if fewer than 32 bytes remain
+     * @since 0.3.0
+     */
+    public void putTo(final ByteBuffer buffer) {
+        if (buffer.remaining() < BYTE_LENGTH) {
+            throw new BufferOverflowException();
+        }
+        if (buffer.order() == ByteOrder.BIG_ENDIAN) {
+            buffer.putLong(w0).putLong(w1).putLong(w2).putLong(w3);
+        } else {
+            buffer.putLong(Long.reverseBytes(w0))
+                    .putLong(Long.reverseBytes(w1))
+                    .putLong(Long.reverseBytes(w2))
+                    .putLong(Long.reverseBytes(w3));
+        }
     }
 
     public static Hash fromBytes(final byte[] bytes) {
         if (bytes == null || bytes.length != BYTE_LENGTH) {
             throw new IllegalArgumentException("Hash must be exactly " + BYTE_LENGTH + " bytes");
         }
-        return new Hash("0x" + Hex.encodeNoPrefix(bytes));
+        return fromBytes(bytes, 0);
+    }
+
+    /**
+     * Creates a hash from 32 bytes at {@code offset}, without copying or hex encoding.
+     *
+     * @param bytes  the source array
+     * @param offset the index of the first hash byte
+     * @return the hash
+     * @throws IllegalArgumentException if {@code bytes} is null or shorter than {@code offset + 32}
+     * @since 0.3.0
+     */
+    public static Hash fromBytes(final byte[] bytes, final int offset) {
+        if (bytes == null || offset < 0 || bytes.length - offset < BYTE_LENGTH) {
+            throw new IllegalArgumentException("Hash needs " + BYTE_LENGTH + " bytes at offset " + offset);
+        }
+        return new Hash(
+                HexWords.readLong(bytes, offset),
+                HexWords.readLong(bytes, offset + 8),
+                HexWords.readLong(bytes, offset + 16),
+                HexWords.readLong(bytes, offset + 24));
+    }
+
+    private static int hash(final long w0, final long w1, final long w2, final long w3) {
+        return 31 * (31 * (31 * Long.hashCode(w0) + Long.hashCode(w1)) + Long.hashCode(w2)) + Long.hashCode(w3);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Hash other
+                && w0 == other.w0
+                && w1 == other.w1
+                && w2 == other.w2
+                && w3 == other.w3;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "Hash[value=" + value() + ']';
     }
 }
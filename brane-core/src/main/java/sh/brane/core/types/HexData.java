@@ -1,11 +1,15 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.types;
 
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import sh.brane.core.InternalApi;
 import sh.brane.primitives.Hex;
 
 /**
@@ -58,10 +62,14 @@ import sh.brane.primitives.Hex;
  * is called.</li>
  * <li><b>Zero-Copy Encoding</b>: Can write directly to a
  * {@link java.nio.ByteBuffer} via {@link #putTo(java.nio.ByteBuffer)}.</li>
+ * <li><b>Direct Serialization</b>: JSON serializers write the hex form straight into
+ * their output via {@link #encodeAsciiTo(int, int, byte[], int)}, so byte-backed
+ * payloads never become a {@link String} on the way to the wire.</li>
  * </ul>
  *
  * @since 0.1.0-alpha
  */
+@JsonSerialize(using = HexDataSerializer.class)
 public final class HexData {
     private static final Pattern HEX = Pattern.compile("^0x([0-9a-fA-F]{2})*$");
     public static final HexData EMPTY = new HexData("0x", true);
@@ -120,7 +128,6 @@ public final class HexData {
      *
      * @return the hex string
      */
-    @com.fasterxml.jackson.annotation.JsonValue
     public String value() {
         String v = value;
         if (v == null) {
@@ -147,6 +154,59 @@ public final class HexData {
         return (value.length() - 2) / 2;
     }
 
+    /**
+     * Returns the length of the {@code 0x}-prefixed hex representation, in characters.
+     *
+     * @return {@code 2 + 2 * byteLength()}
+     * @since 0.3.0
+     */
+    public int hexLength() {
+        return 2 + byteLength() * 2;
+    }
+
+    /**
+     * Writes lowercase ASCII hex for a range of the data bytes into {@code dest},
+     * without the {@code 0x} prefix.
+     * <p>
+     * Serializers use this to stream large payloads into their output buffers in
+     * chunks instead of materializing {@link #value()}.
+     *
+     * <p><b>Allocation:</b> 0 allocations.
+     *
+     * @param byteOffset the index of the first data byte to encode
+     * @param byteLength the number of data bytes to encode
+     * @param dest       the destination array (receives ASCII characters)
+     * @param destOffset the offset in {@code dest} to start writing
+     * @return the number of bytes written, {@code 2 * byteLength}
+     * @throws IndexOutOfBoundsException if the byte range is outside this data
+     * @throws IllegalArgumentException  if {@code dest} is too small
+     * @since 0.3.0
+     */
+    public int encodeAsciiTo(final int byteOffset, final int byteLength, final byte[] dest, final int destOffset) {
+        Objects.checkFromIndexSize(byteOffset, byteLength, byteLength());
+        if (raw != null) {
+            return Hex.encodeAsciiTo(raw, byteOffset, byteLength, dest, destOffset, false);
+        }
+        final int count = byteLength * 2;
+        if (dest == null || destOffset < 0 || dest.length - destOffset < count) {
+            throw new IllegalArgumentException("destination buffer too small: need " + count + " bytes");
+        }
+        final String hex = value;
+        final int start = 2 + byteOffset * 2;
+        for (int i = 0; i < count; i++) {
+            // Validated hex digits: setting 0x20 lowercases A-F and leaves 0-9 unchanged
+            dest[destOffset + i] = (byte) (hex.charAt(start + i) | 0x20);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the hex string if it has already been created, without triggering lazy encoding.
+     */
+    String cachedValue() {
+        return value;
+    }
+
     /**
      * Writes the raw bytes directly to the provided ByteBuffer.
      *
@@ -156,7 +216,31 @@ public final class HexData {
         if (raw != null) {
             buffer.put(raw);
         } else {
-            buffer.put(Hex.decode(value));
+            putHex(value, buffer);
+        }
+    }
+
+    /**
+     * Decodes a {@code 0x}-prefixed hex string into {@code buffer}.
+     * <p>
+     * Heap buffers are decoded into in place; other buffers fall back to an
+     * intermediate array.
+     *
+     * @param hex    validated hex string with {@code 0x} prefix
+     * @param buffer the destination buffer
+     * @throws java.nio.BufferOverflowException if {@code buffer} has insufficient space
+     */
+    static void putHex(String hex, ByteBuffer buffer) {
+        final int length = (hex.length() - 2) >>> 1;
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        if (buffer.hasArray()) {
+            final int position = buffer.position();
+            Hex.decodeTo(hex, 2, hex.length() - 2, buffer.array(), buffer.arrayOffset() + position);
+            buffer.position(position + length);
+        } else {
+            buffer.put(Hex.decode(hex));
         }
     }
 
@@ -190,6 +274,25 @@ public final class HexData {
         return new HexData(bytes.clone()); // Defensive copy to preserve immutability
     }
 
+    /**
+     * Creates HexData that takes ownership of {@code bytes} without copying them.
+     * <p>
+     * For SDK encoders that hand over freshly built arrays (ABI calldata, signed
+     * envelopes). The caller must not modify {@code bytes} afterwards; use
+     * {@link #fromBytes(byte[])} everywhere else.
+     *
+     * @param bytes the encoded bytes, not retained by the caller
+     * @return HexData backed by {@code bytes}, or {@link #EMPTY} if bytes is null or empty
+     * @since 0.3.0
+     */
+    @InternalApi
+    public static HexData wrap(final byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return EMPTY;
+        }
+        return new HexData(bytes);
+    }
+
     /**
      * Compares this HexData with another for equality.
      * <p>
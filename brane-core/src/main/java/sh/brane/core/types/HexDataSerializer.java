@@ -0,0 +1,91 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.types;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Serializes {@link HexData} as its {@code 0x}-prefixed hex string.
+ * <p>
+ * Byte-backed instances whose string form has not been created are streamed into the
+ * generator through a fixed-size chunk, so the payload never becomes a {@link String}
+ * or a full-length character array.
+ */
+final class HexDataSerializer extends StdSerializer<HexData> {
+
+    /** Data bytes hex-encoded per chunk. */
+    private static final int CHUNK_BYTES = 1024;
+
+    HexDataSerializer() {
+        super(HexData.class);
+    }
+
+    @Override
+    public void serialize(final HexData data, final JsonGenerator gen, final SerializerProvider provider)
+            throws IOException {
+        final String cached = data.cachedValue();
+        if (cached != null) {
+            gen.writeString(cached);
+            return;
+        }
+        gen.writeString(new HexReader(data), data.hexLength());
+    }
+
+    /**
+     * Reads the {@code 0x}-prefixed hex form of a {@link HexData}, encoding one chunk at a time.
+     * Every read with a positive length returns at least one character until the end.
+     */
+    static final class HexReader extends Reader {
+        private final HexData data;
+        private final byte[] chunk;
+        /** Characters of the {@code 0x} prefix already read. */
+        private int prefix;
+        /** Next data byte to encode. */
+        private int nextByte;
+        /** Unread characters of the current chunk are {@code chunk[chunkPos, chunkEnd)}. */
+        private int chunkPos;
+        private int chunkEnd;
+
+        HexReader(final HexData data) {
+            this.data = data;
+            this.chunk = new byte[Math.min(data.byteLength(), CHUNK_BYTES) * 2];
+        }
+
+        @Override
+        public int read(final char[] dest, final int offset, final int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int count = 0;
+            while (prefix < 2 && count < length) {
+                dest[offset + count++] = prefix++ == 0 ? '0' : 'x';
+            }
+            while (count < length) {
+                if (chunkPos == chunkEnd) {
+                    final int remaining = data.byteLength() - nextByte;
+                    if (remaining == 0) {
+                        break;
+                    }
+                    final int bytes = Math.min(remaining, CHUNK_BYTES);
+                    chunkEnd = data.encodeAsciiTo(nextByte, bytes, chunk, 0);
+                    chunkPos = 0;
+                    nextByte += bytes;
+                }
+                final int chars = Math.min(length - count, chunkEnd - chunkPos);
+                for (int i = 0; i < chars; i++) {
+                    dest[offset + count + i] = (char) chunk[chunkPos + i];
+                }
+                chunkPos += chars;
+                count += chars;
+            }
+            return count == 0 ? -1 : count;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
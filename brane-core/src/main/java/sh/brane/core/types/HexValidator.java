@@ -1,18 +1,33 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.types;
 
+import java.util.Arrays;
 import java.util.regex.Pattern;
 
 /**
  * Utility for validating fixed-length hex strings.
  * <p>
  * Provides compiled regex patterns for validating hex-encoded data with a
- * specific byte length. Used by {@link Address} and {@link Hash} to ensure
- * consistent validation logic.
+ * specific byte length, and an allocation-free {@link #isValid(CharSequence, int)}
+ * check used by {@link Address} and {@link Hash} on their hot construction path.
  *
  * @since 0.2.0
  */
 public final class HexValidator {
+    /** Nibble values for ASCII characters, {@code -1} for non-hex characters. */
+    private static final byte[] NIBBLES = new byte[128];
+
+    static {
+        Arrays.fill(NIBBLES, (byte) -1);
+        for (int i = 0; i <= 9; i++) {
+            NIBBLES['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            NIBBLES['a' + i] = (byte) (10 + i);
+            NIBBLES['A' + i] = (byte) (10 + i);
+        }
+    }
+
     private HexValidator() {}
 
     /**
@@ -31,4 +46,45 @@ public final class HexValidator {
         int hexChars = byteLength * 2;
         return Pattern.compile("^0x[0-9a-fA-F]{" + hexChars + "}$");
     }
+
+    /**
+     * Checks whether {@code value} is a hex string of exactly the specified byte length.
+     * <p>
+     * Accepts the same inputs as {@link #fixedLength(int)} without a regex engine:
+     * one table lookup per character and no allocation.
+     *
+     * @param value      the string to check, may be {@code null}
+     * @param byteLength the exact number of bytes the hex string must represent
+     * @return {@code true} if {@code value} is {@code "0x"} followed by {@code byteLength * 2} hex characters
+     * @since 0.3.0
+     */
+    public static boolean isValid(CharSequence value, int byteLength) {
+        return scan(value, byteLength) >= 0;
+    }
+
+    /**
+     * Validates {@code value} like {@link #isValid(CharSequence, int)} and reports its case in the same pass.
+     *
+     * @return {@code -1} if invalid, {@code 0} if valid with no uppercase digits, {@code 1} if valid with uppercase digits
+     */
+    static int scan(CharSequence value, int byteLength) {
+        if (value == null || value.length() != 2 + byteLength * 2 || value.charAt(0) != '0' || value.charAt(1) != 'x') {
+            return -1;
+        }
+        int bad = 0;
+        boolean upper = false;
+        for (int i = 2; i < value.length(); i++) {
+            char c = value.charAt(i);
+            bad |= nibble(c);
+            upper |= c >= 'A' && c <= 'F';
+        }
+        return bad < 0 ? -1 : upper ? 1 : 0;
+    }
+
+    /**
+     * Returns the value of a hex digit, or {@code -1} if {@code c} is not a hex digit.
+     */
+    static int nibble(char c) {
+        return c < 128 ? NIBBLES[c] : -1;
+    }
 }
@@ -0,0 +1,55 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.types;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Conversions between big-endian byte arrays and the {@code long} words that back
+ * {@link Address} and {@link Hash}. Hex encoding and decoding is left to
+ * {@link sh.brane.primitives.Hex}.
+ */
+final class HexWords {
+
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private HexWords() {}
+
+    /**
+     * Reads 8 bytes at {@code offset} as a big-endian long.
+     */
+    static long readLong(final byte[] bytes, final int offset) {
+        return (long) LONG.get(bytes, offset);
+    }
+
+    /**
+     * Reads 4 bytes at {@code offset} as a big-endian int.
+     */
+    static int readInt(final byte[] bytes, final int offset) {
+        return (int) INT.get(bytes, offset);
+    }
+
+    /**
+     * Writes {@code word} as 8 big-endian bytes at {@code offset}.
+     */
+    static void writeLong(final long word, final byte[] dest, final int offset) {
+        LONG.set(dest, offset, word);
+    }
+
+    /**
+     * Writes {@code word} as 4 big-endian bytes at {@code offset}.
+     */
+    static void writeInt(final int word, final byte[] dest, final int offset) {
+        INT.set(dest, offset, word);
+    }
+
+    /**
+     * Creates a string from ASCII bytes without re-encoding (compact Latin-1 string).
+     */
+    static String ascii(final byte[] chars) {
+        return new String(chars, StandardCharsets.ISO_8859_1);
+    }
+}
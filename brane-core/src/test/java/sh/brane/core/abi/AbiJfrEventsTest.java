@@ -0,0 +1,78 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.abi;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import sh.brane.core.types.Address;
+
+class AbiJfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void recordsEncodeAndDecodeEventsWhenEnabled() throws Exception {
+        final List<AbiType> args = List.of(
+                new AddressType(new Address("0x" + "11".repeat(20))),
+                new UInt(256, BigInteger.TEN));
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("sh.brane.abi.Encode");
+            recording.enable("sh.brane.abi.Decode");
+            recording.start();
+            final byte[] encoded = FastAbiEncoder.encodeFunction("transfer(address,uint256)", args);
+            AbiDecoder.decode(FastAbiEncoder.encode(args), List.of(
+                    new TypeSchema.AddressSchema(), new TypeSchema.UIntSchema(256)));
+            assertEquals(68, encoded.length);
+            recording.stop();
+            final Path file = tempDir.resolve("abi.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        final List<RecordedEvent> encodes = named(events, "sh.brane.abi.Encode");
+        assertEquals(2, encodes.size());
+        final RecordedEvent function = encodes.stream()
+                .filter(e -> e.getString("signature") != null)
+                .findFirst()
+                .orElseThrow();
+        assertEquals("transfer(address,uint256)", function.getString("signature"));
+        assertEquals(2, function.getInt("arguments"));
+        assertEquals(68L, function.getLong("encodedBytes"));
+
+        final List<RecordedEvent> decodes = named(events, "sh.brane.abi.Decode");
+        assertEquals(1, decodes.size());
+        assertEquals(2, decodes.get(0).getInt("types"));
+        assertEquals(64L, decodes.get(0).getLong("dataBytes"));
+    }
+
+    @Test
+    void eventsAreDisabledByDefault() throws Exception {
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.start();
+            FastAbiEncoder.encode(List.of(new Bool(true)));
+            recording.stop();
+            final Path file = tempDir.resolve("default.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+        assertTrue(named(events, "sh.brane.abi.Encode").isEmpty());
+    }
+
+    private static List<RecordedEvent> named(final List<RecordedEvent> events, final String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .toList();
+    }
+}
@@ -0,0 +1,122 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.abi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.error.AbiEncodingException;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+import sh.brane.primitives.Hex;
+
+class PreparedFunctionTest {
+
+    private static final Address HOLDER = new Address("0x" + "ab".repeat(20));
+    private static final Address OTHER = new Address("0x" + "cd".repeat(20));
+
+    private static final Abi ABI = Abi.fromJson(
+            """
+            [
+              {"type": "function", "name": "balanceOf", "stateMutability": "view",
+               "inputs": [{"name": "owner", "type": "address"}],
+               "outputs": [{"name": "", "type": "uint256"}]},
+              {"type": "function", "name": "transfer", "stateMutability": "nonpayable",
+               "inputs": [{"name": "to", "type": "address"}, {"name": "amount", "type": "uint256"}],
+               "outputs": [{"name": "", "type": "bool"}]},
+              {"type": "function", "name": "setName", "stateMutability": "nonpayable",
+               "inputs": [{"name": "id", "type": "uint64"}, {"name": "name", "type": "string"},
+                          {"name": "data", "type": "bytes"}],
+               "outputs": []},
+              {"type": "function", "name": "place", "stateMutability": "nonpayable",
+               "inputs": [{"name": "order", "type": "tuple", "components": [
+                            {"name": "maker", "type": "address"}, {"name": "size", "type": "uint256"}]},
+                          {"name": "flag", "type": "bool"}],
+               "outputs": []}
+            ]
+            """);
+
+    @Test
+    void matchesEncodeFunction() {
+        assertSameEncoding("balanceOf", HOLDER);
+        assertSameEncoding("transfer", OTHER, BigInteger.TEN.pow(24));
+        assertSameEncoding("transfer", OTHER, 42L);
+        assertSameEncoding("setName", 7, "brane", HexData.fromBytes(new byte[70]));
+        assertSameEncoding("place", List.of(HOLDER, BigInteger.ONE), true);
+    }
+
+    @Test
+    void exposesSignatureAndSelector() {
+        final Abi.PreparedFunction transfer = ABI.prepare("transfer");
+        assertEquals("transfer(address,uint256)", transfer.signature());
+        assertEquals(new HexData("0xa9059cbb"), transfer.selector());
+        assertSame(transfer, ABI.prepare("transfer(address,uint256)"));
+    }
+
+    @Test
+    void encodesIntoCallerBuffers() {
+        final Abi.PreparedFunction setName = ABI.prepare("setName");
+        final byte[] expected = Hex.decode(setName.encode(1, "a", new byte[] {1, 2}).data());
+        assertEquals(expected.length, setName.encodedLength(1, "a", new byte[] {1, 2}));
+
+        final byte[] dest = new byte[expected.length + 10];
+        assertEquals(expected.length, setName.encodeTo(dest, 5, 1, "a", new byte[] {1, 2}));
+        assertArrayEquals(expected, Arrays.copyOfRange(dest, 5, 5 + expected.length));
+
+        final ByteBuffer buffer = ByteBuffer.allocate(expected.length * 2);
+        setName.encodeTo(buffer, 1, "a", new byte[] {1, 2});
+        setName.encodeTo(buffer, 1, "a", new byte[] {1, 2});
+        assertEquals(buffer.capacity(), buffer.position());
+        assertArrayEquals(expected, Arrays.copyOfRange(buffer.array(), expected.length, buffer.capacity()));
+    }
+
+    @Test
+    void rewritesSingleStaticArgument() {
+        final Abi.PreparedFunction transfer = ABI.prepare("transfer");
+        final byte[] calldata = new byte[transfer.encodedLength(HOLDER, 1L)];
+        transfer.encodeTo(calldata, 0, HOLDER, 1L);
+
+        transfer.encodeArgument(calldata, 0, 1, BigInteger.valueOf(99));
+        assertArrayEquals(Hex.decode(ABI.encodeFunction("transfer", HOLDER, 99L).data()), calldata);
+
+        transfer.encodeArgument(calldata, 0, 0, OTHER);
+        assertArrayEquals(Hex.decode(ABI.encodeFunction("transfer", OTHER, 99L).data()), calldata);
+    }
+
+    @Test
+    void rejectsBadArgumentsAndBuffers() {
+        final Abi.PreparedFunction transfer = ABI.prepare("transfer");
+        assertThrows(AbiEncodingException.class, () -> transfer.encode(HOLDER));
+        assertThrows(AbiEncodingException.class, () -> transfer.encode(HOLDER, -1L));
+        assertThrows(IllegalArgumentException.class, () -> transfer.encodeTo(new byte[67], 0, HOLDER, 1L));
+        assertThrows(IllegalArgumentException.class, () -> transfer.encodeTo(ByteBuffer.allocate(10), HOLDER, 1L));
+        assertThrows(IllegalArgumentException.class, () -> transfer.encodeArgument(new byte[68], 0, 2, 1L));
+        assertThrows(IllegalArgumentException.class,
+                () -> ABI.prepare("setName").encodeArgument(new byte[256], 0, 1, "x"));
+        assertThrows(AbiEncodingException.class, () -> ABI.prepare("approve"));
+    }
+
+    @Test
+    void decodesReturnData() {
+        final String word = "0x" + "00".repeat(31) + "2a";
+        assertEquals(BigInteger.valueOf(42), ABI.prepare("balanceOf").decode(word, BigInteger.class));
+    }
+
+    private static void assertSameEncoding(final String name, final Object... args) {
+        final String expected = ABI.encodeFunction(name, args).data();
+        final Abi.PreparedFunction prepared = ABI.prepare(name);
+        assertEquals(expected, prepared.encode(args).data());
+
+        final byte[] dest = new byte[prepared.encodedLength(args)];
+        prepared.encodeTo(dest, 0, args);
+        assertEquals(expected, Hex.encode(dest));
+    }
+}
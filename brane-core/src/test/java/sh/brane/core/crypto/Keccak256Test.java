@@ -3,8 +3,19 @@ package sh.brane.core.crypto;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import org.bouncycastle.jcajce.provider.digest.Keccak;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -124,6 +135,108 @@ class Keccak256Test {
 
     // Helper methods
 
+    @Test
+    void testMatchesBouncyCastleAcrossBlockBoundaries() {
+        final Random random = new Random(42);
+        for (int length = 0; length <= 3 * 136 + 9; length++) {
+            final byte[] input = new byte[length];
+            random.nextBytes(input);
+            assertArrayEquals(reference(input), Keccak256.hash(input), "length " + length);
+        }
+    }
+
+    @Test
+    void testOffsetApiHashesSliceIntoBuffer() {
+        final byte[] input = new byte[300];
+        new Random(7).nextBytes(input);
+        final byte[] out = new byte[40];
+
+        Keccak256.hash(input, 3, 271, out, 5);
+
+        assertArrayEquals(reference(Arrays.copyOfRange(input, 3, 274)), Arrays.copyOfRange(out, 5, 37));
+        assertEquals(0, out[4]);
+        assertEquals(0, out[37]);
+        assertThrows(IndexOutOfBoundsException.class, () -> Keccak256.hash(input, 290, 11, out, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> Keccak256.hash(input, 0, 1, out, 9));
+    }
+
+    @Test
+    void testMultipleInputsSplitAtUnalignedOffsets() {
+        final byte[] input = new byte[500];
+        new Random(3).nextBytes(input);
+
+        final byte[] hash = Keccak256.hash(
+                Arrays.copyOfRange(input, 0, 3),
+                Arrays.copyOfRange(input, 3, 140),
+                new byte[0],
+                Arrays.copyOfRange(input, 140, 141),
+                Arrays.copyOfRange(input, 141, 500));
+
+        assertArrayEquals(reference(input), hash);
+    }
+
+    @Test
+    void testByteBufferVariants() {
+        final byte[] input = new byte[777];
+        new Random(11).nextBytes(input);
+        final byte[] expected = reference(Arrays.copyOfRange(input, 2, 777));
+
+        final ByteBuffer heap = ByteBuffer.wrap(input).position(2);
+        assertArrayEquals(expected, Keccak256.hash(heap));
+        assertEquals(777, heap.position());
+
+        for (ByteOrder order : List.of(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN)) {
+            final ByteBuffer direct = ByteBuffer.allocateDirect(777).order(order).put(input).position(2);
+            final ByteBuffer out = ByteBuffer.allocateDirect(33).order(order).position(1);
+
+            Keccak256.hash(direct, out);
+
+            final byte[] actual = new byte[32];
+            out.position(1).get(actual);
+            assertArrayEquals(expected, actual, order.toString());
+            assertEquals(777, direct.position());
+        }
+        assertThrows(BufferOverflowException.class,
+                () -> Keccak256.hash(ByteBuffer.wrap(input), ByteBuffer.allocate(31)));
+    }
+
+    @Test
+    void testHashAllWritesDigestsBackToBack() {
+        final Random random = new Random(5);
+        final byte[][] inputs = new byte[20][];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = new byte[random.nextInt(400)];
+            random.nextBytes(inputs[i]);
+        }
+        final byte[] out = new byte[1 + 32 * inputs.length];
+
+        Keccak256.hashAll(inputs, out, 1);
+
+        for (int i = 0; i < inputs.length; i++) {
+            assertArrayEquals(reference(inputs[i]), Arrays.copyOfRange(out, 1 + 32 * i, 33 + 32 * i), "message " + i);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> Keccak256.hashAll(inputs, out, 2));
+    }
+
+    @Test
+    void testConcurrentHashingOnVirtualThreads() throws Exception {
+        final byte[] input = "virtual".getBytes(StandardCharsets.UTF_8);
+        final byte[] expected = reference(input);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final List<Future<byte[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                futures.add(executor.submit(() -> Keccak256.hash(input)));
+            }
+            for (Future<byte[]> future : futures) {
+                assertArrayEquals(expected, future.get());
+            }
+        }
+    }
+
+    private static byte[] reference(byte[] input) {
+        return new Keccak.Digest256().digest(input);
+    }
+
     private static String bytesToHex(byte[] bytes) {
         final StringBuilder sb = new StringBuilder();
         for (byte b : bytes) {
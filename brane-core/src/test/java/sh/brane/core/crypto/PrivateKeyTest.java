@@ -4,13 +4,19 @@ package sh.brane.core.crypto;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import sh.brane.core.types.Address;
 
@@ -401,4 +407,23 @@ class PrivateKeyTest {
         }
         return data;
     }
+
+    @Test
+    void testSignEmitsJfrEventWhenEnabled(@TempDir Path tempDir) throws Exception {
+        final PrivateKey key = PrivateKey.fromHex(
+                "0x4c0883a69102937d6231471b5dbb6204fe5129617082792ae468d01a3f362318");
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("sh.brane.crypto.Sign");
+            recording.start();
+            key.sign(new byte[32]);
+            recording.stop();
+            final Path file = tempDir.resolve("sign.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+        assertEquals(1, events.stream()
+                .filter(e -> e.getEventType().getName().equals("sh.brane.crypto.Sign"))
+                .count());
+    }
 }
@@ -125,6 +125,27 @@ class Bip32Test {
         assertThrows(IllegalArgumentException.class, () -> Bip32.deriveChild(null, 0));
     }
 
+    @Test
+    void testDeriveChildWithCachedPublicKeyMatches() {
+        Bip32.ExtendedKey masterKey = Bip32.masterKey(TEST_VECTOR_2_SEED);
+        byte[] publicKey = Bip32.publicPoint(masterKey).getEncoded(true);
+
+        assertEquals(Bip32.deriveChild(masterKey, 7), Bip32.deriveChild(masterKey, publicKey, 7));
+    }
+
+    @Test
+    void testDeriveChildPublicKeyMatchesPrivateDerivation() {
+        Bip32.ExtendedKey masterKey = Bip32.masterKey(BIP39_TEST_SEED);
+        var parentPoint = Bip32.publicPoint(masterKey);
+
+        var childPoint = Bip32.deriveChildPublicKey(
+                parentPoint, parentPoint.getEncoded(true), masterKey.chainCode(), 42);
+
+        assertEquals(Bip32.publicPoint(Bip32.deriveChild(masterKey, 42)), childPoint.normalize());
+        assertThrows(IllegalArgumentException.class, () -> Bip32.deriveChildPublicKey(
+                parentPoint, parentPoint.getEncoded(true), masterKey.chainCode(), 0x80000000));
+    }
+
     @Test
     void testDerivePath() {
         Bip32.ExtendedKey masterKey = Bip32.masterKey(TEST_VECTOR_2_SEED);
@@ -3,11 +3,15 @@ package sh.brane.core.crypto.hd;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import sh.brane.core.crypto.Signer;
+import sh.brane.core.types.Address;
 
 /**
  * Tests for MnemonicWallet HD wallet functionality.
@@ -472,4 +476,75 @@ class MnemonicWalletTest {
             executor.shutdown();
         }
     }
+
+    // ========== Range Derivation Tests ==========
+
+    @Test
+    void testDeriveAddressesMatchesPerIndexDerive() {
+        MnemonicWallet wallet = MnemonicWallet.fromPhrase(ANVIL_MNEMONIC);
+
+        // Spans several parallel chunks and starts off a chunk boundary
+        Address[] addresses = wallet.deriveAddresses(0, 250, 600);
+
+        assertEquals(600, addresses.length);
+        for (int i : new int[] {0, 5, 255, 256, 511, 599}) {
+            assertEquals(wallet.derive(250 + i).address(), addresses[i], "index " + (250 + i));
+        }
+    }
+
+    @Test
+    void testDeriveAddressesProducesKnownAddresses() {
+        MnemonicWallet wallet = MnemonicWallet.fromPhrase(ANVIL_MNEMONIC);
+
+        Address[] addresses = wallet.deriveAddresses(0, 2);
+
+        assertEquals(ANVIL_ADDRESS_0, addresses[0].value());
+        assertEquals(ANVIL_ADDRESS_1, addresses[1].value());
+        assertEquals(EXPECTED_ADDRESS_0, MnemonicWallet.fromPhrase(TEST_MNEMONIC).deriveAddresses(0, 1)[0].value());
+    }
+
+    @Test
+    void testDeriveAddressesForOtherAccount() {
+        MnemonicWallet wallet = MnemonicWallet.fromPhrase(TEST_MNEMONIC);
+
+        Address[] addresses = wallet.deriveAddresses(3, 7, 2);
+
+        assertEquals(wallet.derive(new DerivationPath(3, 7)).address(), addresses[0]);
+        assertEquals(wallet.derive(new DerivationPath(3, 8)).address(), addresses[1]);
+        assertNotEquals(wallet.deriveAddresses(7, 1)[0], addresses[0]);
+    }
+
+    @Test
+    void testDeriveAddressesValidatesRange() {
+        MnemonicWallet wallet = MnemonicWallet.fromPhrase(TEST_MNEMONIC);
+
+        assertEquals(0, wallet.deriveAddresses(0, 0).length);
+        assertThrows(IllegalArgumentException.class, () -> wallet.deriveAddresses(-1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> wallet.deriveAddresses(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> wallet.deriveAddresses(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> wallet.deriveAddresses(DerivationPath.MAX_INDEX, 2));
+        assertEquals(1, wallet.deriveAddresses(DerivationPath.MAX_INDEX, 1).length);
+    }
+
+    @Test
+    void testDeriveSignersIsLazyAndMatchesDerive() {
+        MnemonicWallet wallet = MnemonicWallet.fromPhrase(ANVIL_MNEMONIC);
+
+        List<Signer> signers = wallet.deriveSigners(0, 0, 1_000_000).limit(2).toList();
+
+        assertEquals(ANVIL_ADDRESS_0, signers.get(0).address().value());
+        assertEquals(ANVIL_ADDRESS_1, signers.get(1).address().value());
+    }
+
+    @Test
+    void testRangeDerivationAfterDestroyThrows() {
+        MnemonicWallet wallet = MnemonicWallet.fromPhrase(ANVIL_MNEMONIC);
+        Stream<Signer> signers = wallet.deriveSigners(0, 0, 2);
+        wallet.deriveAddresses(0, 1);
+        wallet.destroy();
+
+        assertThrows(IllegalStateException.class, () -> wallet.deriveAddresses(0, 1));
+        assertThrows(IllegalStateException.class, () -> wallet.deriveSigners(0, 0, 1));
+        assertThrows(IllegalStateException.class, signers::toList);
+    }
 }
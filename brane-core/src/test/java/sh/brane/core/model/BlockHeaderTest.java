@@ -48,6 +48,24 @@ class BlockHeaderTest {
         assertNull(header.baseFeePerGas());
     }
 
+    @Test
+    void fiveArgumentConstructorLeavesTrieRootsNull() {
+        BlockHeader header = new BlockHeader(VALID_HASH, 12345L, VALID_PARENT_HASH, 1234567890L, Wei.of(7L));
+        BlockHeader withNullRoots = new BlockHeader(
+                VALID_HASH, 12345L, VALID_PARENT_HASH, 1234567890L, Wei.of(7L), null, null, null);
+        BlockHeader withRoots = new BlockHeader(
+                VALID_HASH, 12345L, VALID_PARENT_HASH, 1234567890L, Wei.of(7L),
+                new Hash("0x" + "c".repeat(64)), new Hash("0x" + "d".repeat(64)), new Hash("0x" + "e".repeat(64)));
+
+        assertNull(header.stateRoot());
+        assertNull(header.transactionsRoot());
+        assertNull(header.receiptsRoot());
+        assertEquals(withNullRoots, header);
+        assertEquals(withNullRoots.hashCode(), header.hashCode());
+        assertEquals(withNullRoots.toString(), header.toString());
+        assertNotEquals(withRoots, header);
+    }
+
     @Test
     void rejectsNullHash() {
         assertThrows(NullPointerException.class, () -> new BlockHeader(
@@ -0,0 +1,66 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.Wei;
+
+/**
+ * Tests for BlockWithReceipts validation.
+ */
+class BlockWithReceiptsTest {
+
+    private static final Hash BLOCK_HASH = new Hash("0x" + "a".repeat(64));
+    private static final Hash TX_HASH = new Hash("0x" + "c".repeat(64));
+    private static final Address FROM = new Address("0x" + "1".repeat(40));
+    private static final BlockHeader HEADER =
+            new BlockHeader(BLOCK_HASH, 100L, new Hash("0x" + "b".repeat(64)), 1234567890L, Wei.of(1L));
+    private static final Transaction TX =
+            new Transaction(TX_HASH, FROM, null, HexData.EMPTY, Wei.of(0L), 0L, 100L);
+    private static final TransactionReceipt RECEIPT = new TransactionReceipt(
+            TX_HASH, BLOCK_HASH, 100L, FROM, null, null, List.of(), true, Wei.of(21000L));
+
+    @Test
+    void exposesBlockNumberAndAlignedLists() {
+        BlockWithReceipts block = new BlockWithReceipts(HEADER, List.of(TX), List.of(RECEIPT));
+
+        assertEquals(100L, block.number());
+        assertEquals(TX, block.transactions().get(0));
+        assertEquals(RECEIPT, block.receipts().get(0));
+    }
+
+    @Test
+    void copiesLists() {
+        List<Transaction> transactions = new ArrayList<>(List.of(TX));
+        List<TransactionReceipt> receipts = new ArrayList<>(List.of(RECEIPT));
+        BlockWithReceipts block = new BlockWithReceipts(HEADER, transactions, receipts);
+
+        transactions.clear();
+        receipts.clear();
+
+        assertEquals(1, block.transactions().size());
+        assertEquals(1, block.receipts().size());
+        assertThrows(UnsupportedOperationException.class, () -> block.receipts().clear());
+    }
+
+    @Test
+    void rejectsMismatchedReceiptCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new BlockWithReceipts(HEADER, List.of(TX), List.of()));
+    }
+
+    @Test
+    void rejectsNullFields() {
+        assertThrows(NullPointerException.class, () -> new BlockWithReceipts(null, List.of(), List.of()));
+        assertThrows(NullPointerException.class, () -> new BlockWithReceipts(HEADER, null, List.of()));
+        assertThrows(NullPointerException.class, () -> new BlockWithReceipts(HEADER, List.of(), null));
+    }
+}
@@ -5,9 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -201,4 +204,32 @@ class BlobDecoderTest {
             assertArrayEquals(original, decoded, "Round-trip failed for size " + size);
         }
     }
+
+    @Test
+    void decodeToChannelMatchesDecode() throws Exception {
+        Random random = new Random(5);
+        int boundary = SidecarBuilder.USABLE_BYTES_PER_BLOB - SidecarBuilder.LENGTH_PREFIX_SIZE;
+        for (int size : new int[] {0, 17, boundary, boundary + 1, 3 * SidecarBuilder.USABLE_BYTES_PER_BLOB}) {
+            byte[] data = new byte[size];
+            random.nextBytes(data);
+            List<Blob> blobs = SidecarBuilder.from(data).blobs();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(size, BlobDecoder.decode(blobs, Channels.newChannel(out)));
+            assertArrayEquals(data, out.toByteArray());
+            assertArrayEquals(data, BlobDecoder.decode(blobs));
+        }
+    }
+
+    @Test
+    void decodeToChannelRejectsInvalidLength() {
+        byte[] blobData = new byte[Blob.SIZE];
+        blobData[1] = (byte) 0x7f;
+        List<Blob> blobs = List.of(new Blob(blobData));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThrows(IllegalArgumentException.class, () -> BlobDecoder.decode(blobs, Channels.newChannel(out)));
+        assertEquals(0, out.size());
+        assertThrows(NullPointerException.class, () -> BlobDecoder.decode(blobs, null));
+    }
 }
@@ -3,6 +3,11 @@ package sh.brane.core.tx;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -16,6 +21,11 @@ import sh.brane.core.types.Hash;
 import sh.brane.core.types.HexData;
 import sh.brane.core.types.Wei;
 import sh.brane.primitives.Hex;
+import sh.brane.primitives.rlp.Rlp;
+import sh.brane.primitives.rlp.RlpItem;
+import sh.brane.primitives.rlp.RlpList;
+import sh.brane.primitives.rlp.RlpNumeric;
+import sh.brane.primitives.rlp.RlpString;
 
 /**
  * Tests for Eip1559Transaction with EIP-2718 typed envelope.
@@ -308,6 +318,73 @@ class Eip1559TransactionTest {
                 new AccessListEntry(contractAddr, List.of())));
     }
 
+    @Test
+    void testEncodingMatchesGenericRlp() {
+        final Address contractAddr = Address.fromBytes(hexToBytes("a0b86991c6218b36c1d19d4a2e9eb0ce3606eb48"));
+        final List<AccessListEntry> accessList = List.of(
+                new AccessListEntry(contractAddr, List.of(
+                        new Hash("0x" + "00".repeat(31) + "01"),
+                        new Hash("0x" + "ab".repeat(32)))),
+                new AccessListEntry(Address.ZERO, List.of()));
+        final BigInteger wide = BigInteger.ONE.shiftLeft(70);
+        final byte[] calldata = new byte[100];
+        calldata[0] = (byte) 0xa9;
+
+        for (HexData data : List.of(HexData.EMPTY, HexData.fromBytes(new byte[] {0x01}),
+                HexData.fromBytes(calldata), new HexData(Hex.encode(calldata)))) {
+            final Eip1559Transaction tx = new Eip1559Transaction(
+                    137L, 1L << 40, Wei.of(wide), Wei.of(wide), 30_000_000L,
+                    contractAddr, Wei.of(127L), data, accessList);
+            final byte[] r = new byte[32];
+            final byte[] s = new byte[32];
+            r[0] = (byte) 0x80;
+            s[5] = 0x01;
+            final Signature signature = new Signature(r, s, 1);
+
+            final List<RlpItem> fields = new ArrayList<>(List.of(
+                    RlpNumeric.encodeLongUnsignedItem(137L),
+                    RlpNumeric.encodeLongUnsignedItem(1L << 40),
+                    RlpNumeric.encodeBigIntegerUnsignedItem(wide),
+                    RlpNumeric.encodeBigIntegerUnsignedItem(wide),
+                    RlpNumeric.encodeLongUnsignedItem(30_000_000L),
+                    new RlpString(contractAddr.toBytes()),
+                    RlpNumeric.encodeLongUnsignedItem(127L),
+                    new RlpString(data.toBytes()),
+                    new RlpList(List.of(
+                            new RlpList(List.of(new RlpString(contractAddr.toBytes()), new RlpList(List.of(
+                                    new RlpString(accessList.get(0).storageKeys().get(0).toBytes()),
+                                    new RlpString(accessList.get(0).storageKeys().get(1).toBytes()))))),
+                            new RlpList(List.of(new RlpString(new byte[20]), new RlpList(List.of())))))));
+            final byte[] unsigned = Rlp.encodeList(fields);
+            fields.add(RlpNumeric.encodeLongUnsignedItem(1));
+            fields.add(RlpNumeric.encodeBigIntegerUnsignedItem(new BigInteger(1, r)));
+            fields.add(RlpNumeric.encodeBigIntegerUnsignedItem(new BigInteger(1, s)));
+            final byte[] signed = Rlp.encodeList(fields);
+
+            assertEquals("0x02" + Hex.encodeNoPrefix(unsigned), Hex.encode(tx.encodeForSigning(137L)));
+            assertEquals("0x02" + Hex.encodeNoPrefix(signed), Hex.encode(tx.encodeAsEnvelope(signature)));
+
+            final ByteBuffer buffer = ByteBuffer.allocate(1024);
+            final int length = tx.encodeAsEnvelope(signature, buffer);
+            assertEquals(tx.encodedEnvelopeLength(signature), length);
+            assertEquals(length, buffer.position());
+            assertEquals("0x02" + Hex.encodeNoPrefix(signed),
+                    Hex.encode(Arrays.copyOf(buffer.array(), length)));
+        }
+    }
+
+    @Test
+    void testEncodeIntoShortBufferWritesNothing() {
+        final Eip1559Transaction tx = new Eip1559Transaction(
+                1L, 0L, Wei.of(1L), Wei.of(1L), 21000L, null, Wei.ZERO, HexData.EMPTY, List.of());
+        final Signature signature = new Signature(new byte[32], new byte[32], 0);
+        final ByteBuffer buffer = ByteBuffer.allocate(tx.encodedEnvelopeLength(signature) - 1);
+
+        assertThrows(BufferOverflowException.class, () -> tx.encodeAsEnvelope(signature, buffer));
+        assertThrows(IllegalArgumentException.class, () -> tx.encodeForSigning(2L, buffer));
+        assertEquals(0, buffer.position());
+    }
+
     // Helper method
     private static byte[] hexToBytes(String hex) {
         final int len = hex.length();
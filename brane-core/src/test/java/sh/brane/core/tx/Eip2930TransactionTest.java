@@ -0,0 +1,119 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.tx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.crypto.Signature;
+import sh.brane.core.model.AccessListEntry;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.Wei;
+import sh.brane.primitives.Hex;
+import sh.brane.primitives.rlp.Rlp;
+import sh.brane.primitives.rlp.RlpItem;
+import sh.brane.primitives.rlp.RlpList;
+import sh.brane.primitives.rlp.RlpNumeric;
+import sh.brane.primitives.rlp.RlpString;
+
+/**
+ * Tests for Eip2930Transaction with EIP-2718 typed envelope.
+ */
+class Eip2930TransactionTest {
+
+    private static final Address TO = new Address("0x70997970c51812dc3a010c7d01b50e0d17dc79c8");
+
+    @Test
+    void testEncodingMatchesGenericRlp() {
+        final List<AccessListEntry> accessList = List.of(
+                new AccessListEntry(TO, List.of(new Hash("0x" + "00".repeat(31) + "01"))));
+        final BigInteger gasPrice = BigInteger.ONE.shiftLeft(70);
+        final Eip2930Transaction tx = new Eip2930Transaction(
+                5L, 7L, Wei.of(gasPrice), 50_000L, TO, Wei.of(127L), HexData.fromBytes(new byte[] {0x01, 0x02}),
+                accessList);
+        final byte[] r = new byte[32];
+        final byte[] s = new byte[32];
+        r[0] = (byte) 0x80;
+        s[5] = 0x01;
+        final Signature signature = new Signature(r, s, 1);
+
+        final List<RlpItem> fields = new ArrayList<>(List.of(
+                RlpNumeric.encodeLongUnsignedItem(5L),
+                RlpNumeric.encodeLongUnsignedItem(7L),
+                RlpNumeric.encodeBigIntegerUnsignedItem(gasPrice),
+                RlpNumeric.encodeLongUnsignedItem(50_000L),
+                new RlpString(TO.toBytes()),
+                RlpNumeric.encodeLongUnsignedItem(127L),
+                new RlpString(new byte[] {0x01, 0x02}),
+                new RlpList(List.of(new RlpList(List.of(
+                        new RlpString(TO.toBytes()),
+                        new RlpList(List.of(new RlpString(accessList.get(0).storageKeys().get(0).toBytes())))))))));
+        final byte[] unsigned = Rlp.encodeList(fields);
+        fields.add(RlpNumeric.encodeLongUnsignedItem(1));
+        fields.add(RlpNumeric.encodeBigIntegerUnsignedItem(new BigInteger(1, r)));
+        fields.add(RlpNumeric.encodeBigIntegerUnsignedItem(new BigInteger(1, s)));
+        final byte[] signed = Rlp.encodeList(fields);
+
+        assertEquals("0x01" + Hex.encodeNoPrefix(unsigned), Hex.encode(tx.encodeForSigning(5L)));
+        assertEquals("0x01" + Hex.encodeNoPrefix(signed), Hex.encode(tx.encodeAsEnvelope(signature)));
+
+        final ByteBuffer buffer = ByteBuffer.allocate(512);
+        final int length = tx.encodeAsEnvelope(signature, buffer);
+        assertEquals(tx.encodedEnvelopeLength(signature), length);
+        assertEquals("0x01" + Hex.encodeNoPrefix(signed), Hex.encode(Arrays.copyOf(buffer.array(), length)));
+    }
+
+    @Test
+    void testContractCreationEncodesEmptyTo() {
+        final Eip2930Transaction tx = new Eip2930Transaction(
+                1L, 0L, Wei.of(1L), 100_000L, null, Wei.ZERO, HexData.EMPTY, null);
+        assertEquals(List.of(), tx.accessList());
+        // 0x01 || [0x01, 0x80, 0x01, 0x830186a0, 0x80, 0x80, 0x80, 0xc0]
+        assertEquals("0x01cb01800183" + "0186a0808080c0", Hex.encode(tx.encodeForSigning(1L)));
+    }
+
+    @Test
+    void testChainIdMismatchRejected() {
+        final Eip2930Transaction tx = new Eip2930Transaction(
+                1L, 0L, Wei.of(1L), 21000L, TO, Wei.ZERO, HexData.EMPTY, List.of());
+        assertThrows(IllegalArgumentException.class, () -> tx.encodeForSigning(2L));
+    }
+
+    @Test
+    void testEip155VRejected() {
+        final Eip2930Transaction tx = new Eip2930Transaction(
+                1L, 0L, Wei.of(1L), 21000L, TO, Wei.ZERO, HexData.EMPTY, List.of());
+        final Signature signature = new Signature(new byte[32], new byte[32], 37);
+        assertThrows(IllegalArgumentException.class, () -> tx.encodeAsEnvelope(signature));
+    }
+
+    @Test
+    void testEncodeIntoShortBufferWritesNothing() {
+        final Eip2930Transaction tx = new Eip2930Transaction(
+                1L, 0L, Wei.of(1L), 21000L, TO, Wei.ZERO, HexData.EMPTY, List.of());
+        final Signature signature = new Signature(new byte[32], new byte[32], 0);
+        final ByteBuffer buffer = ByteBuffer.allocate(tx.encodedEnvelopeLength(signature) - 1);
+
+        assertThrows(BufferOverflowException.class, () -> tx.encodeAsEnvelope(signature, buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new Eip2930Transaction(
+                0L, 0L, Wei.of(1L), 21000L, TO, Wei.ZERO, HexData.EMPTY, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new Eip2930Transaction(
+                1L, -1L, Wei.of(1L), 21000L, TO, Wei.ZERO, HexData.EMPTY, List.of()));
+        assertThrows(NullPointerException.class, () -> new Eip2930Transaction(
+                1L, 0L, null, 21000L, TO, Wei.ZERO, HexData.EMPTY, List.of()));
+    }
+}
@@ -3,6 +3,9 @@ package sh.brane.core.tx;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,11 @@ import sh.brane.core.types.KzgCommitment;
 import sh.brane.core.types.KzgProof;
 import sh.brane.core.types.Wei;
 import sh.brane.primitives.Hex;
+import sh.brane.primitives.rlp.Rlp;
+import sh.brane.primitives.rlp.RlpItem;
+import sh.brane.primitives.rlp.RlpList;
+import sh.brane.primitives.rlp.RlpNumeric;
+import sh.brane.primitives.rlp.RlpString;
 
 /**
  * Tests for Eip4844Transaction with EIP-2718 typed envelope.
@@ -687,6 +695,88 @@ class Eip4844TransactionTest {
         assertArrayEquals(wrapper1, wrapper2, "Network wrapper encoding must be deterministic");
     }
 
+    @Test
+    void testEncodingMatchesGenericRlp() {
+        final KzgCommitment commitment1 = createCommitmentForHash(BLOB_HASH_1);
+        final KzgCommitment commitment2 = createCommitmentForHash(BLOB_HASH_2);
+        final Address to = Address.fromBytes(hexToBytes("3535353535353535353535353535353535353535"));
+        final Hash storageKey = new Hash("0x" + "cd".repeat(32));
+        final byte[] blobBytes = new byte[Blob.SIZE];
+        blobBytes[Blob.SIZE - 1] = 0x42;
+        final byte[] proofBytes = new byte[48];
+        proofBytes[0] = (byte) 0xc0;
+
+        final Eip4844Transaction tx = new Eip4844Transaction(
+                1L, 7L, Wei.of(2000000000L), Wei.of(100000000000L), 21000L, to,
+                Wei.ZERO, HexData.fromBytes(new byte[] {0x7f, 0x00}),
+                List.of(new AccessListEntry(to, List.of(storageKey))),
+                Wei.of(1L),
+                List.of(commitment1.toVersionedHash(), commitment2.toVersionedHash()));
+        final BlobSidecar sidecar = new BlobSidecar(
+                List.of(new Blob(blobBytes), new Blob(new byte[Blob.SIZE])),
+                List.of(commitment1, commitment2),
+                List.of(new KzgProof(proofBytes), new KzgProof(new byte[48])));
+        final byte[] r = new byte[32];
+        final byte[] s = new byte[32];
+        r[31] = 0x01;
+        s[0] = 0x02;
+        final Signature signature = new Signature(r, s, 0);
+
+        final List<RlpItem> fields = new ArrayList<>(List.of(
+                RlpNumeric.encodeLongUnsignedItem(1L),
+                RlpNumeric.encodeLongUnsignedItem(7L),
+                RlpNumeric.encodeLongUnsignedItem(2000000000L),
+                RlpNumeric.encodeLongUnsignedItem(100000000000L),
+                RlpNumeric.encodeLongUnsignedItem(21000L),
+                new RlpString(to.toBytes()),
+                RlpNumeric.encodeLongUnsignedItem(0L),
+                new RlpString(new byte[] {0x7f, 0x00}),
+                new RlpList(List.of(new RlpList(List.of(
+                        new RlpString(to.toBytes()),
+                        new RlpList(List.of(new RlpString(storageKey.toBytes()))))))),
+                RlpNumeric.encodeLongUnsignedItem(1L),
+                new RlpList(List.of(
+                        new RlpString(commitment1.toVersionedHash().toBytes()),
+                        new RlpString(commitment2.toVersionedHash().toBytes())))));
+        final byte[] unsigned = Rlp.encodeList(fields);
+        fields.add(RlpNumeric.encodeLongUnsignedItem(0L));
+        fields.add(new RlpString(new byte[] {0x01}));
+        fields.add(new RlpString(s));
+        final byte[] signed = Rlp.encodeList(fields);
+        final byte[] wrapper = Rlp.encodeList(List.of(
+                new RlpList(fields),
+                new RlpList(List.of(new RlpString(blobBytes), new RlpString(new byte[Blob.SIZE]))),
+                new RlpList(List.of(new RlpString(commitment1.toBytes()), new RlpString(commitment2.toBytes()))),
+                new RlpList(List.of(new RlpString(proofBytes), new RlpString(new byte[48])))));
+
+        assertArrayEquals(withType(unsigned), tx.encodeForSigning(1L));
+        assertArrayEquals(withType(signed), tx.encodeAsEnvelope(signature));
+        assertArrayEquals(withType(wrapper), tx.encodeAsNetworkWrapper(signature, sidecar));
+
+        final ByteBuffer buffer = ByteBuffer.allocate(tx.networkWrapperLength(signature, sidecar));
+        assertEquals(buffer.capacity(), tx.encodeAsNetworkWrapper(signature, sidecar, buffer));
+        assertArrayEquals(withType(wrapper), buffer.array());
+    }
+
+    @Test
+    void testEncodeIntoShortBufferWritesNothing() {
+        final Eip4844Transaction tx = new Eip4844Transaction(
+                1L, 0L, Wei.of(1L), Wei.of(1L), 21000L,
+                Address.fromBytes(hexToBytes("3535353535353535353535353535353535353535")),
+                Wei.ZERO, HexData.EMPTY, List.of(), Wei.of(1L), List.of(BLOB_HASH_1));
+        final ByteBuffer buffer = ByteBuffer.allocate(tx.encodedLengthForSigning(1L) - 1);
+
+        assertThrows(BufferOverflowException.class, () -> tx.encodeForSigning(1L, buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    private static byte[] withType(byte[] rlp) {
+        final byte[] result = new byte[rlp.length + 1];
+        result[0] = 0x03;
+        System.arraycopy(rlp, 0, result, 1, rlp.length);
+        return result;
+    }
+
     /**
      * Helper to create a KzgCommitment that produces a specific versioned hash.
      * Since toVersionedHash() computes SHA-256 and replaces byte 0 with 0x01,
@@ -3,6 +3,11 @@ package sh.brane.core.tx;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 import sh.brane.core.crypto.Keccak256;
@@ -57,6 +62,74 @@ class LegacyTransactionTest {
         // We can verify by checking it's a valid RLP list with 9 items
     }
 
+    @Test
+    void testEip155SpecVector() {
+        // Example from the EIP-155 specification
+        final LegacyTransaction tx = new LegacyTransaction(
+                9L,
+                Wei.of(20000000000L),
+                21000L,
+                Address.fromBytes(hexToBytes("3535353535353535353535353535353535353535")),
+                Wei.of(1000000000000000000L),
+                HexData.EMPTY);
+        final Signature signature = new Signature(
+                hexToBytes("28ef61340bd939bc2195fe537567866003e1a15d3c71ff63e1590620aa636276"),
+                hexToBytes("67cbe9d8997f761aecb703304b3800ccf555c9f3dc64214b297fb1966a3b6d83"),
+                37);
+
+        assertEquals(
+                "0xec098504a817c800825208943535353535353535353535353535353535353535880de0b6b3a764000080018080",
+                Hex.encode(tx.encodeForSigning(1)));
+        assertEquals(
+                "0xf86c098504a817c800825208943535353535353535353535353535353535353535880de0b6b3a76400008025a0"
+                        + "28ef61340bd939bc2195fe537567866003e1a15d3c71ff63e1590620aa636276a0"
+                        + "67cbe9d8997f761aecb703304b3800ccf555c9f3dc64214b297fb1966a3b6d83",
+                Hex.encode(tx.encodeAsEnvelope(signature)));
+    }
+
+    @Test
+    void testEncodeIntoBufferMatchesArrayEncoding() {
+        final LegacyTransaction tx = new LegacyTransaction(
+                300L,
+                Wei.of(new BigInteger("ffffffffffffffffffff", 16)), // wider than a long
+                21000L,
+                null,
+                Wei.ZERO,
+                HexData.fromBytes(new byte[] {(byte) 0x80}));
+        final byte[] r = new byte[32];
+        final byte[] s = new byte[32];
+        r[1] = 0x7f; // leading zero byte is stripped
+        s[31] = 0x05; // single byte below 0x80 has no header
+        final Signature signature = new Signature(r, s, 2 * 1_000_000 + 36);
+
+        final ByteBuffer buffer = ByteBuffer.allocate(512);
+        buffer.put((byte) 0xAA);
+
+        final byte[] preimage = tx.encodeForSigning(1_000_000);
+        assertEquals(preimage.length, tx.encodedLengthForSigning(1_000_000));
+        assertEquals(preimage.length, tx.encodeForSigning(1_000_000, buffer));
+
+        final byte[] envelope = tx.encodeAsEnvelope(signature);
+        assertEquals(envelope.length, tx.encodedEnvelopeLength(signature));
+        assertEquals(envelope.length, tx.encodeAsEnvelope(signature, buffer));
+
+        final byte[] written = Arrays.copyOfRange(buffer.array(), 1, buffer.position());
+        final byte[] expected = new byte[preimage.length + envelope.length];
+        System.arraycopy(preimage, 0, expected, 0, preimage.length);
+        System.arraycopy(envelope, 0, expected, preimage.length, envelope.length);
+        assertArrayEquals(expected, written);
+    }
+
+    @Test
+    void testEncodeIntoShortBufferWritesNothing() {
+        final LegacyTransaction tx = new LegacyTransaction(
+                0L, Wei.of(1L), 21000L, null, Wei.ZERO, HexData.EMPTY);
+        final ByteBuffer buffer = ByteBuffer.allocate(tx.encodedLengthForSigning(1) - 1);
+
+        assertThrows(BufferOverflowException.class, () -> tx.encodeForSigning(1, buffer));
+        assertEquals(0, buffer.position());
+    }
+
     @Test
     void testEncodeAsEnvelope() {
         final LegacyTransaction tx = new LegacyTransaction(
@@ -1,15 +1,30 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.core.tx;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import sh.brane.core.crypto.Kzg;
+import sh.brane.core.error.KzgException;
 import sh.brane.core.types.Blob;
 import sh.brane.core.types.BlobSidecar;
 import sh.brane.core.types.FixedSizeG1Point;
@@ -257,12 +272,12 @@ class SidecarBuilderTest {
      * Returns deterministic commitments and proofs based on blob content.
      */
     private static class MockKzg implements Kzg {
-        private int commitmentCallCount = 0;
-        private int proofCallCount = 0;
+        private final AtomicInteger commitmentCallCount = new AtomicInteger();
+        private final AtomicInteger proofCallCount = new AtomicInteger();
 
         @Override
         public KzgCommitment blobToCommitment(Blob blob) {
-            commitmentCallCount++;
+            commitmentCallCount.incrementAndGet();
             // Create a deterministic commitment based on blob content
             byte[] commitmentData = new byte[FixedSizeG1Point.SIZE];
             byte[] blobBytes = blob.toBytes();
@@ -273,7 +288,7 @@ class SidecarBuilderTest {
 
         @Override
         public KzgProof computeProof(Blob blob, KzgCommitment commitment) {
-            proofCallCount++;
+            proofCallCount.incrementAndGet();
             // Create a deterministic proof based on blob and commitment
             byte[] proofData = new byte[FixedSizeG1Point.SIZE];
             byte[] blobBytes = blob.toBytes();
@@ -296,11 +311,11 @@ class SidecarBuilderTest {
         }
 
         int getCommitmentCallCount() {
-            return commitmentCallCount;
+            return commitmentCallCount.get();
         }
 
         int getProofCallCount() {
-            return proofCallCount;
+            return proofCallCount.get();
         }
     }
 
@@ -424,4 +439,126 @@ class SidecarBuilderTest {
         assertNotNull(sidecar.proofs().get(0));
         assertNotNull(sidecar.proofs().get(1));
     }
+
+    @Test
+    void parallelBuildsMatchSequentialBuild() throws Exception {
+        Blob[] blobs = distinctBlobs(SidecarBuilder.MAX_BLOBS);
+        SidecarBuilder builder = SidecarBuilder.fromBlobs(blobs);
+        MockKzg kzg = new MockKzg();
+
+        BlobSidecar expected = builder.build(kzg);
+        assertEquals(expected, builder.buildParallel(kzg));
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertEquals(expected, builder.build(kzg, executor));
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(3 * blobs.length, kzg.getCommitmentCallCount());
+        assertEquals(3 * blobs.length, kzg.getProofCallCount());
+    }
+
+    @Test
+    void executorBuildPropagatesKzgFailure() {
+        SidecarBuilder builder = SidecarBuilder.fromBlobs(distinctBlobs(2));
+        Kzg failing = new MockKzg() {
+            @Override
+            public KzgProof computeProof(Blob blob, KzgCommitment commitment) {
+                throw KzgException.proofError("boom");
+            }
+        };
+
+        assertThrows(KzgException.class, () -> builder.build(failing, Runnable::run));
+        assertThrows(KzgException.class, () -> builder.buildParallel(failing));
+        assertThrows(NullPointerException.class, () -> builder.build(failing, null));
+    }
+
+    @Test
+    void defaultBatchComputationMatchesPerBlobCalls() {
+        Blob[] blobs = distinctBlobs(2);
+        byte[] flat = new byte[2 * Blob.SIZE];
+        System.arraycopy(blobs[0].toBytes(), 0, flat, 0, Blob.SIZE);
+        System.arraycopy(blobs[1].toBytes(), 0, flat, Blob.SIZE, Blob.SIZE);
+        byte[] commitments = new byte[2 * FixedSizeG1Point.SIZE];
+        byte[] proofs = new byte[2 * FixedSizeG1Point.SIZE];
+        MockKzg kzg = new MockKzg();
+
+        kzg.computeCommitmentsAndProofs(flat, 2, commitments, proofs);
+
+        KzgCommitment second = kzg.blobToCommitment(blobs[1]);
+        byte[] secondCommitment = new byte[FixedSizeG1Point.SIZE];
+        byte[] secondProof = new byte[FixedSizeG1Point.SIZE];
+        System.arraycopy(commitments, FixedSizeG1Point.SIZE, secondCommitment, 0, FixedSizeG1Point.SIZE);
+        System.arraycopy(proofs, FixedSizeG1Point.SIZE, secondProof, 0, FixedSizeG1Point.SIZE);
+        assertArrayEquals(second.toBytes(), secondCommitment);
+        assertArrayEquals(kzg.computeProof(blobs[1], second).toBytes(), secondProof);
+        assertThrows(IllegalArgumentException.class,
+                () -> kzg.computeCommitmentsAndProofs(flat, 3, commitments, proofs));
+        assertThrows(IllegalArgumentException.class,
+                () -> kzg.computeCommitmentsAndProofs(flat, 2, new byte[FixedSizeG1Point.SIZE], proofs));
+    }
+
+    @Test
+    void fileAndChannelEncodingMatchByteArrayEncoding(@TempDir Path dir) throws Exception {
+        Random random = new Random(11);
+        int boundary = SidecarBuilder.USABLE_BYTES_PER_BLOB - SidecarBuilder.LENGTH_PREFIX_SIZE;
+        for (int size : new int[] {0, 1, 23, 31, boundary, boundary + 1, SidecarBuilder.MAX_DATA_SIZE}) {
+            byte[] data = new byte[size];
+            random.nextBytes(data);
+            List<Blob> expected = SidecarBuilder.from(data).blobs();
+
+            Path file = dir.resolve("batch-" + size);
+            Files.write(file, data);
+            assertEquals(expected, SidecarBuilder.fromFile(file).blobs(), "file size " + size);
+
+            // Deliver the stream in small, uneven reads
+            ReadableByteChannel trickle = new ReadableByteChannel() {
+                private final ReadableByteChannel delegate = Channels.newChannel(new ByteArrayInputStream(data));
+
+                @Override
+                public int read(ByteBuffer dst) throws IOException {
+                    ByteBuffer limited = dst.slice().limit(Math.min(dst.remaining(), 1000));
+                    int read = delegate.read(limited);
+                    if (read > 0) {
+                        dst.position(dst.position() + read);
+                    }
+                    return read;
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+            assertEquals(expected, SidecarBuilder.fromChannel(trickle).blobs(), "channel size " + size);
+        }
+    }
+
+    @Test
+    void fileAndChannelEncodingRejectOversizedInput(@TempDir Path dir) throws Exception {
+        byte[] data = new byte[SidecarBuilder.MAX_DATA_SIZE + 1];
+        Path file = dir.resolve("too-big");
+        Files.write(file, data);
+
+        assertThrows(IllegalArgumentException.class, () -> SidecarBuilder.fromFile(file));
+        assertThrows(IllegalArgumentException.class,
+                () -> SidecarBuilder.fromChannel(Channels.newChannel(new ByteArrayInputStream(data))));
+        assertThrows(NoSuchFileException.class, () -> SidecarBuilder.fromFile(dir.resolve("missing")));
+    }
+
+    private static Blob[] distinctBlobs(int count) {
+        Blob[] blobs = new Blob[count];
+        for (int i = 0; i < count; i++) {
+            byte[] data = new byte[Blob.SIZE];
+            data[0] = (byte) (i + 1);
+            data[Blob.SIZE - 1] = (byte) (i + 7);
+            blobs[i] = new Blob(data);
+        }
+        return blobs;
+    }
 }
@@ -0,0 +1,186 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.core.tx;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.crypto.PrivateKey;
+import sh.brane.core.crypto.Signature;
+import sh.brane.core.model.AccessListEntry;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Blob;
+import sh.brane.core.types.BlobSidecar;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.KzgCommitment;
+import sh.brane.core.types.KzgProof;
+import sh.brane.core.types.Wei;
+import sh.brane.primitives.Hex;
+
+/**
+ * Tests for {@link TransactionDecoder} and {@link SignedTransaction}.
+ */
+class TransactionDecoderTest {
+
+    private static final PrivateKey KEY =
+            PrivateKey.fromHex("0x4c0883a69102937d6231471b5dbb6204fe5129617082792ae468d01a3f362318");
+    private static final Address TO = new Address("0x70997970c51812dc3a010c7d01b50e0d17dc79c8");
+    private static final List<AccessListEntry> ACCESS_LIST = List.of(
+            new AccessListEntry(TO, List.of(new Hash("0x" + "00".repeat(31) + "01"))));
+
+    @Test
+    void testDecodeEip155SpecVector() {
+        final byte[] raw = Hex.decode(
+                "0xf86c098504a817c800825208943535353535353535353535353535353535353535880de0b6b3a76400008025a0"
+                        + "28ef61340bd939bc2195fe537567866003e1a15d3c71ff63e1590620aa636276a0"
+                        + "67cbe9d8997f761aecb703304b3800ccf555c9f3dc64214b297fb1966a3b6d83");
+
+        final SignedTransaction decoded = TransactionDecoder.decode(raw);
+
+        final LegacyTransaction tx = assertInstanceOf(LegacyTransaction.class, decoded.transaction());
+        assertEquals(9L, tx.nonce());
+        assertEquals(Wei.of(20000000000L), tx.gasPrice());
+        assertEquals(new Address("0x3535353535353535353535353535353535353535"), tx.to());
+        assertEquals(37, decoded.signature().v());
+        assertEquals(1L, decoded.chainId());
+        assertEquals(0x00, decoded.type());
+        assertEquals(Hash.fromBytes(Keccak256.hash(raw)), decoded.hash());
+        // The spec vector is signed with private key 0x4646...46
+        assertEquals(new Address("0x9d8a62f656a8d1615c1294fd71e9cfb3e4855a4f"), decoded.recoverSender());
+        assertArrayEquals(raw, tx.encodeAsEnvelope(decoded.signature()));
+    }
+
+    @Test
+    void testDecodeUnprotectedLegacy() {
+        final LegacyTransaction tx = new LegacyTransaction(3L, Wei.of(1L), 21000L, TO, Wei.ZERO, HexData.EMPTY);
+        final Signature raw = KEY.sign(Keccak256.hash(tx.encodeUnprotectedForSigning()));
+        final Signature signature = new Signature(raw.r(), raw.s(), 27 + raw.v());
+        final byte[] envelope = withLegacyV(tx, signature);
+
+        final SignedTransaction decoded = TransactionDecoder.decode(envelope);
+        assertEquals(0L, decoded.chainId());
+        assertEquals(KEY.toAddress(), decoded.recoverSender());
+    }
+
+    @Test
+    void testRoundTripEip2930() {
+        final Eip2930Transaction tx = new Eip2930Transaction(
+                10L, 1L, Wei.gwei(3), 60_000L, null, Wei.of(5L), HexData.fromBytes(new byte[] {0x60, 0x00}),
+                ACCESS_LIST);
+        final byte[] envelope = tx.encodeAsEnvelope(KEY.sign(Keccak256.hash(tx.encodeForSigning(10L))));
+
+        final SignedTransaction decoded = TransactionDecoder.decode(envelope);
+        assertEquals(tx, decoded.transaction());
+        assertEquals(0x01, decoded.type());
+        assertEquals(Hash.fromBytes(Keccak256.hash(envelope)), decoded.hash());
+        assertEquals(KEY.toAddress(), decoded.recoverSender());
+    }
+
+    @Test
+    void testRoundTripEip1559() {
+        final Eip1559Transaction tx = new Eip1559Transaction(
+                1L, 42L, Wei.gwei(2), Wei.gwei(100), 21000L, TO, Wei.fromEther(BigDecimal.ONE),
+                HexData.fromBytes(new byte[] {(byte) 0xa9, 0x05, (byte) 0x9c, (byte) 0xbb}), ACCESS_LIST);
+        final byte[] envelope = tx.encodeAsEnvelope(KEY.sign(Keccak256.hash(tx.encodeForSigning(1L))));
+
+        final SignedTransaction decoded = TransactionDecoder.decode(envelope);
+        assertEquals(tx, decoded.transaction());
+        assertEquals(KEY.toAddress(), decoded.recoverSender());
+        assertArrayEquals(envelope, decoded.transaction().encodeAsEnvelope(decoded.signature()));
+    }
+
+    @Test
+    void testDecodeRegionOfLargerArray() {
+        final Eip1559Transaction tx = new Eip1559Transaction(
+                1L, 0L, Wei.of(1L), Wei.of(2L), 21000L, TO, Wei.ZERO, HexData.EMPTY, List.of());
+        final byte[] envelope = tx.encodeAsEnvelope(KEY.sign(Keccak256.hash(tx.encodeForSigning(1L))));
+        final byte[] padded = new byte[envelope.length + 4];
+        System.arraycopy(envelope, 0, padded, 2, envelope.length);
+
+        final SignedTransaction decoded = TransactionDecoder.decode(padded, 2, envelope.length);
+        assertEquals(tx, decoded.transaction());
+        assertEquals(Hash.fromBytes(Keccak256.hash(envelope)), decoded.hash());
+    }
+
+    @Test
+    void testRoundTripEip4844AndNetworkWrapper() {
+        final byte[] commitmentBytes = new byte[48];
+        commitmentBytes[0] = (byte) 0xc0;
+        final BlobSidecar sidecar = new BlobSidecar(
+                List.of(new Blob(new byte[Blob.SIZE])),
+                List.of(new KzgCommitment(commitmentBytes)),
+                List.of(new KzgProof(new byte[48])));
+        final Eip4844Transaction tx = new Eip4844Transaction(
+                1L, 0L, Wei.gwei(1), Wei.gwei(10), 21000L, TO, Wei.ZERO, HexData.EMPTY, List.of(),
+                Wei.gwei(1), sidecar.versionedHashes());
+        final Signature signature = KEY.sign(Keccak256.hash(tx.encodeForSigning(1L)));
+        final byte[] envelope = tx.encodeAsEnvelope(signature);
+        final byte[] wrapper = tx.encodeAsNetworkWrapper(signature, sidecar);
+
+        final SignedTransaction canonical = TransactionDecoder.decode(envelope);
+        assertEquals(tx, canonical.transaction());
+        assertNull(canonical.sidecar());
+
+        final SignedTransaction wrapped = TransactionDecoder.decode(wrapper);
+        assertEquals(tx, wrapped.transaction());
+        assertEquals(sidecar, wrapped.sidecar());
+        assertEquals(canonical.hash(), wrapped.hash());
+        assertEquals(KEY.toAddress(), wrapped.recoverSender());
+    }
+
+    @Test
+    void testRecoverSendersPreservesOrder() {
+        final List<PrivateKey> keys = new ArrayList<>();
+        final List<SignedTransaction> txs = new ArrayList<>();
+        for (int i = 1; i <= 16; i++) {
+            final PrivateKey key = PrivateKey.fromBytes(ByteBuffer.allocate(32).putInt(28, i).array());
+            final Eip1559Transaction tx = new Eip1559Transaction(
+                    1L, i, Wei.of(1L), Wei.of(2L), 21000L, TO, Wei.ZERO, HexData.EMPTY, List.of());
+            keys.add(key);
+            txs.add(TransactionDecoder.decode(
+                    tx.encodeAsEnvelope(key.sign(Keccak256.hash(tx.encodeForSigning(1L))))));
+        }
+
+        final List<Address> senders = TransactionDecoder.recoverSenders(txs);
+        for (int i = 0; i < keys.size(); i++) {
+            assertEquals(keys.get(i).toAddress(), senders.get(i));
+        }
+    }
+
+    @Test
+    void testMalformedInputRejected() {
+        assertThrows(IllegalArgumentException.class, () -> TransactionDecoder.decode(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> TransactionDecoder.decode(Hex.decode("0x05c0")));
+        // Typed envelope with trailing garbage
+        final Eip1559Transaction tx = new Eip1559Transaction(
+                1L, 0L, Wei.of(1L), Wei.of(2L), 21000L, TO, Wei.ZERO, HexData.EMPTY, List.of());
+        final byte[] envelope = tx.encodeAsEnvelope(new Signature(new byte[32], new byte[32], 0));
+        final byte[] trailing = Arrays.copyOf(envelope, envelope.length + 1);
+        assertThrows(IllegalArgumentException.class, () -> TransactionDecoder.decode(trailing));
+        // Legacy v between 28 and 35 is neither pre- nor post-EIP-155
+        final LegacyTransaction legacy = new LegacyTransaction(0L, Wei.of(1L), 21000L, TO, Wei.ZERO, HexData.EMPTY);
+        assertThrows(IllegalArgumentException.class,
+                () -> TransactionDecoder.decode(withLegacyV(legacy, new Signature(new byte[32], new byte[32], 30))));
+    }
+
+    /**
+     * Encodes a legacy envelope with an arbitrary v by patching an EIP-155 encoding.
+     */
+    private static byte[] withLegacyV(final LegacyTransaction tx, final Signature signature) {
+        // v values below 0x80 encode as a single byte, so 35 and the target v have the same width
+        final Signature placeholder = new Signature(signature.r(), signature.s(), 35);
+        final byte[] envelope = tx.encodeAsEnvelope(placeholder);
+        final int vOffset = envelope.length - placeholder.rsEncodedLength() - 1;
+        assertEquals(35, envelope[vOffset]);
+        envelope[vOffset] = (byte) signature.v();
+        return envelope;
+    }
+}
@@ -3,6 +3,12 @@ package sh.brane.core.types;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 class AddressTest {
@@ -35,4 +41,71 @@ class AddressTest {
     void zeroConstantHasCorrectValue() {
         assertEquals("0x0000000000000000000000000000000000000000", Address.ZERO.value());
     }
+
+    @Test
+    void rejectsNonHexCharacters() {
+        assertThrows(IllegalArgumentException.class, () -> new Address("0x1234567890abcdef1234567890abcdef1234567g"));
+        assertThrows(IllegalArgumentException.class, () -> new Address("0X1234567890abcdef1234567890abcdef12345678"));
+    }
+
+    @Test
+    void stringAndByteConstructionAreEqual() {
+        Address fromString = new Address("0xA0b86991c6218b36c1d19D4a2e9Eb0cE3606eB48");
+        byte[] bytes = fromString.toBytes();
+        Address fromBytes = Address.fromBytes(bytes);
+
+        assertEquals(fromString, fromBytes);
+        assertEquals(fromString.hashCode(), fromBytes.hashCode());
+        assertEquals("0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48", fromBytes.value());
+        assertEquals("Address[value=0xa0b86991c6218b36c1d19d4a2e9eb0ce3606eb48]", fromBytes.toString());
+        assertNotEquals(fromString, Address.ZERO);
+    }
+
+    @Test
+    void fromBytesAtOffsetReadsWithoutCopy() {
+        byte[] word = new byte[32];
+        for (int i = 12; i < 32; i++) {
+            word[i] = (byte) (0xf0 + i);
+        }
+
+        Address address = Address.fromBytes(word, 12);
+
+        assertEquals("0xfcfdfeff000102030405060708090a0b0c0d0e0f", address.value());
+        assertArrayEquals(Arrays.copyOfRange(word, 12, 32), address.toBytes());
+        assertThrows(IllegalArgumentException.class, () -> Address.fromBytes(word, 13));
+        assertThrows(IllegalArgumentException.class, () -> Address.fromBytes(word, -1));
+    }
+
+    @Test
+    void putToWritesBigEndianBytesInAnyBufferOrder() {
+        Address address = new Address("0x1234567890abcdef1234567890abcdef12345678");
+
+        ByteBuffer big = ByteBuffer.allocate(21).put((byte) 0x7f);
+        address.putTo(big);
+        ByteBuffer little = ByteBuffer.allocate(20).order(ByteOrder.LITTLE_ENDIAN);
+        address.putTo(little);
+
+        assertArrayEquals(address.toBytes(), Arrays.copyOfRange(big.array(), 1, 21));
+        assertArrayEquals(address.toBytes(), little.array());
+        assertThrows(BufferOverflowException.class, () -> address.putTo(ByteBuffer.allocate(19)));
+    }
+
+    @Test
+    void internReturnsCanonicalInstance() {
+        Address first = new Address("0x00000000000000000000000000000000000000aa").intern();
+        Address second = Address.fromBytes(first.toBytes()).intern();
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void jsonRoundTrip() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Address address = new Address("0x000000000000000000000000000000000000dEaD");
+
+        String json = mapper.writeValueAsString(address);
+
+        assertEquals("\"0x000000000000000000000000000000000000dead\"", json);
+        assertEquals(address, mapper.readValue(json, Address.class));
+    }
 }
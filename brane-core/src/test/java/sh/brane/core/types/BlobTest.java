@@ -121,4 +121,16 @@ class BlobTest {
         assertTrue(str.contains("Blob"));
         assertTrue(str.contains(String.valueOf(Blob.SIZE)));
     }
+
+    @Test
+    void wrapAdoptsArrayWithoutCopy() {
+        byte[] data = new byte[Blob.SIZE];
+        Blob wrapped = Blob.wrap(data);
+        data[0] = 0x01;
+
+        assertEquals(0x01, wrapped.toBytes()[0]);
+        assertEquals(new Blob(data), wrapped);
+        assertThrows(IllegalArgumentException.class, () -> Blob.wrap(new byte[Blob.SIZE - 1]));
+        assertThrows(NullPointerException.class, () -> Blob.wrap(null));
+    }
 }
@@ -3,6 +3,8 @@ package sh.brane.core.types;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
@@ -34,4 +36,45 @@ class HashTest {
         Hash hash = Hash.fromBytes(bytes);
         assertArrayEquals(bytes, hash.toBytes());
     }
+
+    @Test
+    void stringAndByteConstructionAreEqual() {
+        Hash fromString = new Hash("0xDDF252AD1BE2C89B69C2B068FC378DAA952BA7F163C4A11628F55A4DF523B3EF");
+        Hash fromBytes = Hash.fromBytes(fromString.toBytes());
+
+        assertEquals(fromString, fromBytes);
+        assertEquals(fromString.hashCode(), fromBytes.hashCode());
+        assertEquals("0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef", fromString.value());
+        assertEquals(fromString.value(), fromBytes.value());
+    }
+
+    @Test
+    void fromBytesAtOffset() {
+        byte[] bytes = new byte[40];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        Hash hash = Hash.fromBytes(bytes, 8);
+
+        assertArrayEquals(Arrays.copyOfRange(bytes, 8, 40), hash.toBytes());
+        assertThrows(IllegalArgumentException.class, () -> Hash.fromBytes(bytes, 9));
+    }
+
+    @Test
+    void putToWritesBigEndianBytesInAnyBufferOrder() {
+        byte[] bytes = new byte[32];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (0x80 + i);
+        }
+        Hash hash = Hash.fromBytes(bytes);
+
+        ByteBuffer little = ByteBuffer.allocate(32).order(ByteOrder.LITTLE_ENDIAN);
+        hash.putTo(little);
+        ByteBuffer big = ByteBuffer.allocate(32);
+        hash.putTo(big);
+
+        assertArrayEquals(bytes, little.array());
+        assertArrayEquals(bytes, big.array());
+    }
 }
@@ -3,6 +3,7 @@ package sh.brane.core.types;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -10,6 +11,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
 class HexDataTest {
@@ -150,4 +152,83 @@ class HexDataTest {
         assertTrue(empty2.equals(empty3));
         assertTrue(empty1.equals(empty3));
     }
+
+    @Test
+    void encodesAsciiIntoCallerArray() {
+        final byte[] raw = {0x00, (byte) 0xAB, 0x7f, (byte) 0xff};
+        final HexData bytes = HexData.fromBytes(raw);
+        final HexData text = new HexData("0x00AB7FFF");
+        assertEquals(10, bytes.hexLength());
+        assertEquals(10, text.hexLength());
+
+        for (final HexData data : List.of(bytes, text)) {
+            final byte[] dest = new byte[8];
+            assertEquals(4, data.encodeAsciiTo(1, 2, dest, 2));
+            assertEquals("\0\0ab7f\0\0", new String(dest, StandardCharsets.US_ASCII));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> bytes.encodeAsciiTo(3, 2, new byte[8], 0));
+        assertThrows(IllegalArgumentException.class, () -> text.encodeAsciiTo(0, 4, new byte[7], 0));
+    }
+
+    @Test
+    void wrapSharesCallerArray() {
+        final byte[] raw = {0x01, 0x02};
+        final HexData wrapped = HexData.wrap(raw);
+        raw[0] = 0x7f;
+        assertEquals("0x7f02", wrapped.value());
+        assertSame(HexData.EMPTY, HexData.wrap(new byte[0]));
+        assertSame(HexData.EMPTY, HexData.wrap(null));
+    }
+
+    @Test
+    void serializesWithoutIntermediateString() throws Exception {
+        final ObjectMapper mapper = new ObjectMapper();
+        final HexData data = HexData.fromBytes(new byte[] {(byte) 0xde, (byte) 0xad, (byte) 0xbe, (byte) 0xef});
+        final String json = new String(mapper.writeValueAsBytes(List.of(data)), StandardCharsets.UTF_8);
+        assertEquals("[\"0xdeadbeef\"]", json);
+        assertEquals(json, mapper.writeValueAsString(List.of(data)));
+        assertEquals("\"0xcafe\"", new String(mapper.writeValueAsBytes(new HexData("0xcafe")), StandardCharsets.UTF_8));
+        assertEquals(data, mapper.readValue(json, HexData[].class)[0]);
+
+        // Larger than one encoding chunk
+        final byte[] large = new byte[3001];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) (i * 31);
+        }
+        assertEquals('"' + HexData.fromBytes(large).value() + '"',
+                new String(mapper.writeValueAsBytes(HexData.fromBytes(large)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void hexReaderReturnsCharactersForSingleCharReads() throws Exception {
+        final byte[] bytes = new byte[1500];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i * 7);
+        }
+        final HexData data = HexData.fromBytes(bytes);
+        final String expected = data.value();
+
+        final StringBuilder read = new StringBuilder();
+        try (HexDataSerializer.HexReader reader = new HexDataSerializer.HexReader(HexData.fromBytes(bytes))) {
+            final char[] one = new char[1];
+            int n;
+            while ((n = reader.read(one, 0, 1)) != -1) {
+                assertEquals(1, n);
+                read.append(one[0]);
+            }
+        }
+        assertEquals(expected, read.toString());
+
+        // Odd-sized reads across chunk boundaries
+        read.setLength(0);
+        try (HexDataSerializer.HexReader reader = new HexDataSerializer.HexReader(HexData.fromBytes(bytes))) {
+            final char[] buf = new char[7];
+            int n;
+            while ((n = reader.read(buf, 0, buf.length)) != -1) {
+                assertTrue(n > 0);
+                read.append(buf, 0, n);
+            }
+        }
+        assertEquals(expected, read.toString());
+    }
 }
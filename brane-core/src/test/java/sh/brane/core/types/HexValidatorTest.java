@@ -94,4 +94,29 @@ class HexValidatorTest {
         assertTrue(pattern.matcher("0xABCDEF").matches());
         assertTrue(pattern.matcher("0xabcdef").matches());
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "0x",
+        "0X1234",
+        "1234",
+        "",
+        "0x12 34",
+        "0x12\t34",
+        "0x12g4",
+        "0x12\u00e94",
+        "0x123456"
+    })
+    void isValidRejectsSameInputsAsPattern(String input) {
+        assertFalse(HexValidator.isValid(input, 2));
+        assertFalse(HexValidator.fixedLength(2).matcher(input).matches());
+    }
+
+    @Test
+    void isValidAcceptsMixedCase() {
+        assertTrue(HexValidator.isValid("0xAbCdEf", 3));
+        assertTrue(HexValidator.isValid("0x1234567890abcdef1234567890ABCDEF12345678", 20));
+        assertTrue(HexValidator.isValid("0x", 0));
+        assertFalse(HexValidator.isValid(null, 3));
+    }
 }
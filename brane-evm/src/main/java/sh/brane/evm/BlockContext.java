@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+
+/**
+ * Block environment seen by the block-information opcodes during local execution.
+ *
+ * @param number      the block number ({@code NUMBER})
+ * @param timestamp   the block timestamp in seconds ({@code TIMESTAMP})
+ * @param baseFee     the base fee per gas in wei ({@code BASEFEE})
+ * @param gasLimit    the block gas limit ({@code GASLIMIT}), also the default call gas
+ * @param coinbase    the fee recipient ({@code COINBASE})
+ * @param prevRandao  the beacon randomness ({@code PREVRANDAO})
+ * @param chainId     the chain ID ({@code CHAINID})
+ * @param blobBaseFee the blob base fee per gas in wei ({@code BLOBBASEFEE})
+ * @since 0.3.0
+ */
+public record BlockContext(
+        long number,
+        long timestamp,
+        BigInteger baseFee,
+        long gasLimit,
+        Address coinbase,
+        Hash prevRandao,
+        long chainId,
+        BigInteger blobBaseFee) {
+
+    /** Gas limit assumed when the block's own limit is not known. */
+    public static final long DEFAULT_GAS_LIMIT = 30_000_000L;
+
+    private static final Hash ZERO_HASH = new Hash("0x" + "0".repeat(64));
+
+    /**
+     * Validates fields.
+     *
+     * @throws NullPointerException if a reference field is null
+     * @throws IllegalArgumentException if a number is negative or the gas limit is not positive
+     */
+    public BlockContext {
+        Objects.requireNonNull(baseFee, "baseFee");
+        Objects.requireNonNull(coinbase, "coinbase");
+        Objects.requireNonNull(prevRandao, "prevRandao");
+        Objects.requireNonNull(blobBaseFee, "blobBaseFee");
+        if (number < 0 || timestamp < 0 || chainId < 0) {
+            throw new IllegalArgumentException("number, timestamp and chainId must not be negative");
+        }
+        if (gasLimit <= 0) {
+            throw new IllegalArgumentException("gasLimit must be positive");
+        }
+        if (baseFee.signum() < 0 || blobBaseFee.signum() < 0) {
+            throw new IllegalArgumentException("fees must not be negative");
+        }
+    }
+
+    /**
+     * Creates a context with a zero base fee, the {@linkplain #DEFAULT_GAS_LIMIT default gas
+     * limit}, zero coinbase and randomness, and a blob base fee of one wei.
+     *
+     * @param number    the block number
+     * @param timestamp the block timestamp in seconds
+     * @param chainId   the chain ID
+     * @return a new context
+     */
+    public static BlockContext of(final long number, final long timestamp, final long chainId) {
+        return new BlockContext(number, timestamp, BigInteger.ZERO, DEFAULT_GAS_LIMIT, Address.ZERO, ZERO_HASH,
+                chainId, BigInteger.ONE);
+    }
+}
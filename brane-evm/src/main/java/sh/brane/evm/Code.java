@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import sh.brane.core.crypto.Keccak256;
+
+/**
+ * Contract bytecode with its jump-destination analysis and code hash, both computed on
+ * first use and then shared by every execution that runs the code.
+ */
+final class Code {
+
+    static final Code EMPTY = new Code(new byte[0]);
+
+    /** keccak256 of empty input, the code hash of accounts without code. */
+    static final Word EMPTY_HASH = Word.fromBytes(Keccak256.hash(new byte[0]), 0);
+
+    private static final int JUMPDEST = 0x5b;
+    private static final int PUSH1 = 0x60;
+    private static final int PUSH32 = 0x7f;
+
+    final byte[] bytes;
+    private volatile long[] jumpDests;
+    private volatile Word hash;
+
+    private Code(final byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /** Wraps {@code bytes} without copying; the array must not be modified afterwards. */
+    static Code of(final byte[] bytes) {
+        return bytes.length == 0 ? EMPTY : new Code(bytes);
+    }
+
+    int length() {
+        return bytes.length;
+    }
+
+    boolean isEmpty() {
+        return bytes.length == 0;
+    }
+
+    /** Returns whether {@code pc} is a JUMPDEST opcode rather than PUSH data. */
+    boolean isJumpDest(final long pc) {
+        if (pc < 0 || pc >= bytes.length) {
+            return false;
+        }
+        long[] dests = jumpDests;
+        if (dests == null) {
+            dests = analyze(bytes);
+            jumpDests = dests;
+        }
+        return (dests[(int) pc >>> 6] & (1L << pc)) != 0;
+    }
+
+    Word hash() {
+        Word h = hash;
+        if (h == null) {
+            h = isEmpty() ? EMPTY_HASH : Word.fromBytes(Keccak256.hash(bytes), 0);
+            hash = h;
+        }
+        return h;
+    }
+
+    private static long[] analyze(final byte[] code) {
+        final long[] dests = new long[(code.length + 63) >>> 6];
+        for (int pc = 0; pc < code.length; pc++) {
+            final int op = code[pc] & 0xFF;
+            if (op == JUMPDEST) {
+                dests[pc >>> 6] |= 1L << pc;
+            } else if (op >= PUSH1 && op <= PUSH32) {
+                pc += op - PUSH1 + 1;
+            }
+        }
+        return dests;
+    }
+}
@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+
+/**
+ * Outcome of a locally executed call.
+ *
+ * @param status  whether the call returned, reverted or halted
+ * @param output  the return data on success, the revert data on revert, empty otherwise
+ * @param gasUsed gas consumed including intrinsic gas, after the EIP-3529 refund (capped at
+ *                one fifth of the gas consumed); 0 if the status is {@link Status#UNSUPPORTED}
+ * @param logs    logs emitted by the call, empty unless it succeeded
+ * @param error   the halt reason (for example {@code "out of gas"}) or the precompile that could
+ *                not be executed, {@code null} on success or revert
+ * @since 0.3.0
+ */
+public record ExecutionResult(
+        Status status,
+        HexData output,
+        long gasUsed,
+        List<Log> logs,
+        @Nullable String error) {
+
+    /**
+     * Validates fields and copies the log list.
+     *
+     * @throws NullPointerException if status, output or logs is null
+     */
+    public ExecutionResult {
+        Objects.requireNonNull(status, "status");
+        Objects.requireNonNull(output, "output");
+        logs = List.copyOf(logs);
+    }
+
+    /**
+     * Returns whether the call completed without reverting or halting.
+     *
+     * @return {@code true} on success
+     */
+    public boolean isSuccess() {
+        return status == Status.SUCCESS;
+    }
+
+    /** How a call ended. */
+    public enum Status {
+        /** The call returned normally. */
+        SUCCESS,
+        /** The call executed {@code REVERT}; state changes were discarded. */
+        REVERTED,
+        /** The call hit an exceptional halt such as running out of gas; all gas was consumed. */
+        HALTED,
+        /**
+         * The call reached a precompile that is not executed locally (curve pairing,
+         * {@code blake2f} or KZG point evaluation). The outcome is unknown and has to come from
+         * a node; {@link LocalEvm#call(sh.brane.rpc.CallRequest)} does that automatically.
+         */
+        UNSUPPORTED
+    }
+
+    /**
+     * A log emitted during local execution.
+     *
+     * @param address the emitting contract
+     * @param topics  the indexed topics
+     * @param data    the non-indexed data
+     */
+    public record Log(Address address, List<Hash> topics, HexData data) {
+
+        /**
+         * Validates fields and copies the topic list.
+         *
+         * @throws NullPointerException if any field is null
+         */
+        public Log {
+            Objects.requireNonNull(address, "address");
+            Objects.requireNonNull(data, "data");
+            topics = List.copyOf(topics);
+        }
+    }
+}
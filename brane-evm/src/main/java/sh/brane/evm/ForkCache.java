@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import java.math.BigInteger;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import sh.brane.core.types.Address;
+
+/**
+ * Thread-safe cache of the pinned block's state, filled lazily from a {@link StateSource}.
+ * <p>
+ * Each account field and storage slot is fetched the first time any execution reads it and
+ * is then served from memory. Fetches happen outside any lock, so two threads missing the
+ * same value at once may both query the source; the first answer stored wins.
+ */
+final class ForkCache {
+
+    private final StateSource source;
+    private final ConcurrentHashMap<Address, Account> accounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Word> blockHashes = new ConcurrentHashMap<>();
+    private final AtomicLong fetches = new AtomicLong();
+
+    ForkCache(final StateSource source) {
+        this.source = source;
+    }
+
+    BigInteger balance(final Address address) {
+        final Account account = account(address);
+        BigInteger balance = account.balance;
+        if (balance == null) {
+            fetches.incrementAndGet();
+            balance = source.balance(address);
+            account.balance = balance;
+        }
+        return balance;
+    }
+
+    long nonce(final Address address) {
+        final Account account = account(address);
+        long nonce = account.nonce;
+        if (nonce < 0) {
+            fetches.incrementAndGet();
+            nonce = source.nonce(address);
+            account.nonce = nonce;
+        }
+        return nonce;
+    }
+
+    Code code(final Address address) {
+        final Account account = account(address);
+        Code code = account.code;
+        if (code == null) {
+            fetches.incrementAndGet();
+            code = Code.of(source.code(address).toBytes());
+            account.code = code;
+        }
+        return code;
+    }
+
+    Word storage(final Address address, final Word slot) {
+        final Account account = account(address);
+        Word value = account.storage.get(slot);
+        if (value == null) {
+            fetches.incrementAndGet();
+            value = Word.of(source.storage(address, slot.toBigInteger()));
+            final Word raced = account.storage.putIfAbsent(slot, value);
+            if (raced != null) {
+                value = raced;
+            }
+        }
+        return value;
+    }
+
+    Word blockHash(final long number) {
+        Word hash = blockHashes.get(number);
+        if (hash == null) {
+            fetches.incrementAndGet();
+            hash = Word.of(source.blockHash(number));
+            blockHashes.putIfAbsent(number, hash);
+        }
+        return hash;
+    }
+
+    /** Number of values requested from the source so far. */
+    long fetches() {
+        return fetches.get();
+    }
+
+    private Account account(final Address address) {
+        final Account account = accounts.get(address);
+        return account != null ? account : accounts.computeIfAbsent(address, a -> new Account());
+    }
+
+    private static final class Account {
+        volatile BigInteger balance;
+        volatile long nonce = -1;
+        volatile Code code;
+        final ConcurrentHashMap<Word, Word> storage = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,1091 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.primitives.rlp.Rlp;
+import sh.brane.primitives.rlp.RlpString;
+
+/**
+ * Cancun-fork bytecode interpreter for one execution over a {@link WorldState}.
+ * <p>
+ * Stack items are stored as four big-endian {@code long} limbs in a flat array, so arithmetic,
+ * comparison and bitwise opcodes run without allocating. Gas follows the Cancun schedule
+ * including EIP-2929 warm/cold access, EIP-150 call-gas forwarding and EIP-2200 storage
+ * pricing. Storage refunds follow EIP-3529 and are collected in {@link WorldState#refund()};
+ * the caller applies them.
+ */
+final class Interpreter {
+
+    /** Maximum call depth. */
+    static final int MAX_DEPTH = 1024;
+
+    /** Maximum size of deployed code (EIP-170). */
+    static final int MAX_CODE_SIZE = 24_576;
+
+    /** Maximum size of CREATE initcode (EIP-3860). */
+    static final int MAX_INITCODE_SIZE = 2 * MAX_CODE_SIZE;
+
+    private static final int STACK_LIMIT = 1024;
+    private static final int INITIAL_STACK = 64;
+    private static final long MAX_MEMORY = 1L << 30;
+    private static final BigInteger TWO_256 = BigInteger.ONE.shiftLeft(256);
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final int CALL = 0xF1;
+    private static final int CALLCODE = 0xF2;
+    private static final int DELEGATECALL = 0xF4;
+    private static final int REVERT = 0xFD;
+
+    /** Static gas of each opcode; dynamic parts are charged by the opcode itself. */
+    private static final int[] BASE_GAS = new int[256];
+
+    static {
+        // STOP, RETURN, REVERT, INVALID and the access-list priced opcodes have no static cost
+        set(1, 0x5B);
+        set(2, 0x30, 0x32, 0x33, 0x34, 0x36, 0x38, 0x3A, 0x3D, 0x41, 0x42, 0x43, 0x44, 0x45, 0x46, 0x48, 0x4A,
+                0x50, 0x58, 0x59, 0x5A, 0x5F);
+        set(3, 0x01, 0x03, 0x10, 0x11, 0x12, 0x13, 0x14, 0x15, 0x16, 0x17, 0x18, 0x19, 0x1A, 0x1B, 0x1C, 0x1D,
+                0x35, 0x37, 0x39, 0x3E, 0x49, 0x51, 0x52, 0x53, 0x5E);
+        set(5, 0x02, 0x04, 0x05, 0x06, 0x07, 0x0B, 0x47);
+        set(8, 0x08, 0x09, 0x56);
+        set(10, 0x0A, 0x57);
+        set(20, 0x40);
+        set(30, 0x20);
+        set(100, 0x5C, 0x5D);
+        for (int op = 0x60; op <= 0x9F; op++) {
+            BASE_GAS[op] = 3; // PUSH1-32, DUP1-16, SWAP1-16
+        }
+        for (int op = 0xA0; op <= 0xA4; op++) {
+            BASE_GAS[op] = 375; // LOG0-4
+        }
+        set(32_000, 0xF0, 0xF5);
+        set(5_000, 0xFF);
+    }
+
+    private final WorldState state;
+    private final BlockContext block;
+    private final Word origin;
+    private final Word gasPrice;
+    private final Word coinbase;
+    private final Word prevRandao;
+    private final Word baseFee;
+    private final Word blobBaseFee;
+
+    Interpreter(final WorldState state, final BlockContext block, final Address origin, final BigInteger gasPrice) {
+        this.state = state;
+        this.block = block;
+        this.origin = Word.of(origin);
+        this.gasPrice = Word.of(gasPrice);
+        this.coinbase = Word.of(block.coinbase());
+        this.prevRandao = Word.of(block.prevRandao());
+        this.baseFee = Word.of(block.baseFee());
+        this.blobBaseFee = Word.of(block.blobBaseFee());
+    }
+
+    /** Result of a message call or contract creation. */
+    record Outcome(ExecutionResult.Status status, byte[] output, long gasLeft, @Nullable String error) {
+    }
+
+    /** An exceptional halt: the frame's state changes are discarded and all its gas is consumed. */
+    static final class Halt extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        Halt(final String reason) {
+            super(reason, null, false, false);
+        }
+    }
+
+    /**
+     * Runs a top-level call, warming the sender, recipient, coinbase and precompiles first.
+     * The caller has already checked that {@code from} can afford {@code value}.
+     */
+    Outcome execute(final Address from, final Address to, final BigInteger value, final byte[] data, final long gas) {
+        state.warm(from);
+        state.warm(to);
+        state.warm(block.coinbase());
+        for (int id = 1; id <= Precompiles.LAST; id++) {
+            state.warm(Precompiles.address(id));
+        }
+        return message(from, to, to, value, true, data, gas, false, 0);
+    }
+
+    private Outcome message(
+            final Address caller,
+            final Address codeAddress,
+            final Address self,
+            final BigInteger value,
+            final boolean transfer,
+            final byte[] input,
+            final long gas,
+            final boolean isStatic,
+            final int depth) {
+        final int snapshot = state.snapshot();
+        if (transfer) {
+            state.transfer(caller, self, value);
+        }
+        final int precompile = Precompiles.id(codeAddress);
+        if (precompile != 0) {
+            final long cost = Precompiles.gas(precompile, input);
+            if (cost > gas) {
+                state.revert(snapshot);
+                return new Outcome(ExecutionResult.Status.HALTED, EMPTY, 0, "out of gas");
+            }
+            return new Outcome(ExecutionResult.Status.SUCCESS, Precompiles.run(precompile, input), gas - cost, null);
+        }
+        final Code code = state.code(codeAddress);
+        if (code.isEmpty()) {
+            return new Outcome(ExecutionResult.Status.SUCCESS, EMPTY, gas, null);
+        }
+        return run(new Frame(code, self, caller, value, input, gas, isStatic, depth), snapshot);
+    }
+
+    private Outcome create(
+            final Address caller,
+            final Address address,
+            final BigInteger value,
+            final byte[] initcode,
+            final long gas,
+            final int depth) {
+        if (state.nonce(address) != 0 || !state.code(address).isEmpty()) {
+            return new Outcome(ExecutionResult.Status.HALTED, EMPTY, 0, "contract address collision");
+        }
+        final int snapshot = state.snapshot();
+        state.createAccount(address);
+        state.transfer(caller, address, value);
+        final Outcome outcome = run(new Frame(Code.of(initcode), address, caller, value, EMPTY, gas, false, depth),
+                snapshot);
+        if (outcome.status() != ExecutionResult.Status.SUCCESS) {
+            return outcome;
+        }
+        final byte[] runtime = outcome.output();
+        final long depositCost = 200L * runtime.length;
+        String error = null;
+        if (runtime.length > MAX_CODE_SIZE) {
+            error = "max code size exceeded";
+        } else if (runtime.length > 0 && runtime[0] == (byte) 0xEF) {
+            error = "invalid code: must not begin with 0xef";
+        } else if (outcome.gasLeft() < depositCost) {
+            error = "out of gas";
+        }
+        if (error != null) {
+            state.revert(snapshot);
+            return new Outcome(ExecutionResult.Status.HALTED, EMPTY, 0, error);
+        }
+        state.setCode(address, Code.of(runtime));
+        return new Outcome(ExecutionResult.Status.SUCCESS, EMPTY, outcome.gasLeft() - depositCost, null);
+    }
+
+    private Outcome run(final Frame frame, final int snapshot) {
+        try {
+            frame.run();
+        } catch (Halt halt) {
+            state.revert(snapshot);
+            return new Outcome(ExecutionResult.Status.HALTED, EMPTY, 0, halt.getMessage());
+        }
+        if (frame.reverted) {
+            state.revert(snapshot);
+            return new Outcome(ExecutionResult.Status.REVERTED, frame.output, frame.gas, null);
+        }
+        return new Outcome(ExecutionResult.Status.SUCCESS, frame.output, frame.gas, null);
+    }
+
+    // ==================== Frame ====================
+
+    /** One call frame: its stack, memory, gas and the code it runs. */
+    private final class Frame {
+
+        private final Code code;
+        private final Address self;
+        private final Address caller;
+        private final BigInteger value;
+        private final byte[] input;
+        private final boolean isStatic;
+        private final int depth;
+
+        long gas;
+        byte[] output = EMPTY;
+        boolean reverted;
+
+        private long[] s = new long[INITIAL_STACK * 4];
+        private int sp;
+        private byte[] memory = EMPTY;
+        private long memoryWords;
+        private byte[] returnData = EMPTY;
+
+        Frame(
+                final Code code,
+                final Address self,
+                final Address caller,
+                final BigInteger value,
+                final byte[] input,
+                final long gas,
+                final boolean isStatic,
+                final int depth) {
+            this.code = code;
+            this.self = self;
+            this.caller = caller;
+            this.value = value;
+            this.input = input;
+            this.gas = gas;
+            this.isStatic = isStatic;
+            this.depth = depth;
+        }
+
+        void run() {
+            final byte[] bytecode = code.bytes;
+            int pc = 0;
+            while (pc < bytecode.length) {
+                final int op = bytecode[pc] & 0xFF;
+                useGas(BASE_GAS[op]);
+                switch (op) {
+                    case 0x00 -> { // STOP
+                        return;
+                    }
+                    case 0x01 -> add(s, binary());
+                    case 0x02 -> mul(s, binary());
+                    case 0x03 -> sub(s, binary());
+                    case 0x04 -> divMod(s, binary(), false);
+                    case 0x05 -> {
+                        final int i = binary();
+                        final BigInteger divisor = signed(s, i);
+                        setBig(s, i, divisor.signum() == 0 ? BigInteger.ZERO : signed(s, i + 4).divide(divisor));
+                    }
+                    case 0x06 -> divMod(s, binary(), true);
+                    case 0x07 -> {
+                        final int i = binary();
+                        final BigInteger divisor = signed(s, i);
+                        setBig(s, i, divisor.signum() == 0 ? BigInteger.ZERO : signed(s, i + 4).remainder(divisor));
+                    }
+                    case 0x08, 0x09 -> {
+                        final int i = ternary();
+                        final BigInteger modulus = big(s, i);
+                        if (modulus.signum() == 0) {
+                            setLong(s, i, 0);
+                        } else {
+                            final BigInteger a = big(s, i + 8);
+                            final BigInteger b = big(s, i + 4);
+                            setBig(s, i, (op == 0x08 ? a.add(b) : a.multiply(b)).mod(modulus));
+                        }
+                    }
+                    case 0x0A -> { // EXP
+                        final int i = binary();
+                        useGas(50L * byteLength(s, i));
+                        setBig(s, i, big(s, i + 4).modPow(big(s, i), TWO_256));
+                    }
+                    case 0x0B -> signExtend(s, binary());
+                    case 0x10 -> {
+                        final int i = binary();
+                        setLong(s, i, compare(s, i + 4, i) < 0 ? 1 : 0);
+                    }
+                    case 0x11 -> {
+                        final int i = binary();
+                        setLong(s, i, compare(s, i + 4, i) > 0 ? 1 : 0);
+                    }
+                    case 0x12 -> {
+                        final int i = binary();
+                        setLong(s, i, compareSigned(s, i + 4, i) < 0 ? 1 : 0);
+                    }
+                    case 0x13 -> {
+                        final int i = binary();
+                        setLong(s, i, compareSigned(s, i + 4, i) > 0 ? 1 : 0);
+                    }
+                    case 0x14 -> {
+                        final int i = binary();
+                        setLong(s, i, compare(s, i + 4, i) == 0 ? 1 : 0);
+                    }
+                    case 0x15 -> {
+                        final int i = unary();
+                        setLong(s, i, (s[i] | s[i + 1] | s[i + 2] | s[i + 3]) == 0 ? 1 : 0);
+                    }
+                    case 0x16 -> {
+                        final int i = binary();
+                        for (int k = 0; k < 4; k++) {
+                            s[i + k] &= s[i + 4 + k];
+                        }
+                    }
+                    case 0x17 -> {
+                        final int i = binary();
+                        for (int k = 0; k < 4; k++) {
+                            s[i + k] |= s[i + 4 + k];
+                        }
+                    }
+                    case 0x18 -> {
+                        final int i = binary();
+                        for (int k = 0; k < 4; k++) {
+                            s[i + k] ^= s[i + 4 + k];
+                        }
+                    }
+                    case 0x19 -> {
+                        final int i = unary();
+                        for (int k = 0; k < 4; k++) {
+                            s[i + k] = ~s[i + k];
+                        }
+                    }
+                    case 0x1A -> { // BYTE
+                        final int i = binary();
+                        final int n = i + 4;
+                        final boolean inRange = (s[n] | s[n + 1] | s[n + 2]) == 0 && Long.compareUnsigned(s[n + 3], 32) < 0;
+                        final long index = s[n + 3];
+                        setLong(s, i, inRange ? (s[i + (int) (index >>> 3)] >>> (56 - ((index & 7) << 3))) & 0xFF : 0);
+                    }
+                    case 0x1B -> shl(s, binary());
+                    case 0x1C -> shr(s, binary(), false);
+                    case 0x1D -> shr(s, binary(), true);
+                    case 0x20 -> { // KECCAK256
+                        final long offset = popUint();
+                        final long size = popUint();
+                        final int at = memory(offset, size);
+                        useGas(6 * words(size));
+                        final byte[] hash = new byte[32];
+                        Keccak256.hash(memory, at, (int) size, hash, 0);
+                        push(hash, 0);
+                    }
+                    case 0x30 -> push(Word.of(self));
+                    case 0x31 -> {
+                        final Address address = popAddress();
+                        useGas(accessCost(address));
+                        push(Word.of(state.balance(address)));
+                    }
+                    case 0x32 -> push(origin);
+                    case 0x33 -> push(Word.of(caller));
+                    case 0x34 -> push(Word.of(value));
+                    case 0x35 -> pushData(input, popUint());
+                    case 0x36 -> push(input.length);
+                    case 0x37 -> copyToMemory(input);
+                    case 0x38 -> push(bytecode.length);
+                    case 0x39 -> copyToMemory(bytecode);
+                    case 0x3A -> push(gasPrice);
+                    case 0x3B -> {
+                        final Address address = popAddress();
+                        useGas(accessCost(address));
+                        push(state.code(address).length());
+                    }
+                    case 0x3C -> { // EXTCODECOPY
+                        final Address address = popAddress();
+                        useGas(accessCost(address));
+                        copyToMemory(state.code(address).bytes);
+                    }
+                    case 0x3D -> push(returnData.length);
+                    case 0x3E -> { // RETURNDATACOPY
+                        final long to = popUint();
+                        final long from = popUint();
+                        final long size = popUint();
+                        if (from > returnData.length || size > returnData.length - from) {
+                            throw new Halt("return data out of bounds");
+                        }
+                        final int at = memory(to, size);
+                        useGas(3 * words(size));
+                        System.arraycopy(returnData, (int) from, memory, at, (int) size);
+                    }
+                    case 0x3F -> { // EXTCODEHASH
+                        final Address address = popAddress();
+                        useGas(accessCost(address));
+                        push(state.isEmpty(address) ? Word.ZERO : state.code(address).hash());
+                    }
+                    case 0x40 -> { // BLOCKHASH
+                        final long number = popUint();
+                        final boolean recent = number < block.number() && number >= block.number() - 256;
+                        push(recent ? state.blockHash(number) : Word.ZERO);
+                    }
+                    case 0x41 -> push(coinbase);
+                    case 0x42 -> push(block.timestamp());
+                    case 0x43 -> push(block.number());
+                    case 0x44 -> push(prevRandao);
+                    case 0x45 -> push(block.gasLimit());
+                    case 0x46 -> push(block.chainId());
+                    case 0x47 -> push(Word.of(state.balance(self)));
+                    case 0x48 -> push(baseFee);
+                    case 0x49 -> { // BLOBHASH: calls carry no blob versioned hashes
+                        setLong(s, unary(), 0);
+                    }
+                    case 0x4A -> push(blobBaseFee);
+                    case 0x50 -> pop();
+                    case 0x51 -> { // MLOAD
+                        final int at = memory(popUint(), 32);
+                        push(memory, at);
+                    }
+                    case 0x52 -> { // MSTORE
+                        final long offset = popUint();
+                        final int i = pop();
+                        final int at = memory(offset, 32);
+                        for (int k = 0; k < 4; k++) {
+                            Word.writeLong(memory, at + (k << 3), s[i + k]);
+                        }
+                    }
+                    case 0x53 -> { // MSTORE8
+                        final long offset = popUint();
+                        final int i = pop();
+                        final int at = memory(offset, 1);
+                        memory[at] = (byte) s[i + 3];
+                    }
+                    case 0x54 -> { // SLOAD
+                        final Word key = popWord();
+                        useGas(state.warm(self, key) ? 2100 : 100);
+                        push(state.storage(self, key));
+                    }
+                    case 0x55 -> sstore();
+                    case 0x56 -> { // JUMP
+                        pc = jumpTarget(popUint());
+                        continue;
+                    }
+                    case 0x57 -> { // JUMPI
+                        final long target = popUint();
+                        final int i = pop();
+                        if ((s[i] | s[i + 1] | s[i + 2] | s[i + 3]) != 0) {
+                            pc = jumpTarget(target);
+                            continue;
+                        }
+                    }
+                    case 0x58 -> push(pc);
+                    case 0x59 -> push(memoryWords << 5);
+                    case 0x5A -> push(gas);
+                    case 0x5B -> {
+                        // JUMPDEST
+                    }
+                    case 0x5C -> { // TLOAD
+                        push(state.transientStorage(self, popWord()));
+                    }
+                    case 0x5D -> { // TSTORE
+                        if (isStatic) {
+                            throw new Halt("write protection");
+                        }
+                        final Word key = popWord();
+                        state.setTransientStorage(self, key, popWord());
+                    }
+                    case 0x5E -> { // MCOPY
+                        final long to = popUint();
+                        final long from = popUint();
+                        final long size = popUint();
+                        final int dest = memory(to, size);
+                        final int src = memory(from, size);
+                        useGas(3 * words(size));
+                        System.arraycopy(memory, src, memory, dest, (int) size);
+                    }
+                    case 0x5F -> push(0);
+                    case 0xA0, 0xA1, 0xA2, 0xA3, 0xA4 -> log(op - 0xA0);
+                    case 0xF0 -> create(false);
+                    case 0xF1, 0xF2, 0xF4, 0xFA -> call(op);
+                    case 0xF3, REVERT -> {
+                        final long offset = popUint();
+                        final long size = popUint();
+                        final int at = memory(offset, size);
+                        output = Arrays.copyOfRange(memory, at, at + (int) size);
+                        reverted = op == REVERT;
+                        return;
+                    }
+                    case 0xF5 -> create(true);
+                    case 0xFF -> {
+                        selfDestruct();
+                        return;
+                    }
+                    default -> {
+                        if (op >= 0x60 && op <= 0x7F) {
+                            pc = pushImmediate(bytecode, pc, op - 0x5F);
+                            continue;
+                        } else if (op >= 0x80 && op <= 0x8F) {
+                            dup(op - 0x7F);
+                        } else if (op >= 0x90 && op <= 0x9F) {
+                            swap(op - 0x8F);
+                        } else {
+                            throw new Halt("invalid opcode 0x" + Integer.toHexString(op));
+                        }
+                    }
+                }
+                pc++;
+            }
+        }
+
+        // ==================== Stack ====================
+
+        private int unary() {
+            if (sp < 1) {
+                throw new Halt("stack underflow");
+            }
+            return (sp - 1) << 2;
+        }
+
+        /** Pops one operand; the result replaces the second, the first remains at index + 4. */
+        private int binary() {
+            if (sp < 2) {
+                throw new Halt("stack underflow");
+            }
+            sp--;
+            return (sp - 1) << 2;
+        }
+
+        /** Pops two operands; the result replaces the third, the first two remain at index + 8 and + 4. */
+        private int ternary() {
+            if (sp < 3) {
+                throw new Halt("stack underflow");
+            }
+            sp -= 2;
+            return (sp - 1) << 2;
+        }
+
+        /** Pops an item, returning its index; it stays readable until the next push. */
+        private int pop() {
+            if (sp == 0) {
+                throw new Halt("stack underflow");
+            }
+            return --sp << 2;
+        }
+
+        /** Pops an offset or size, saturating values above 2^63 - 1. */
+        private long popUint() {
+            final int i = pop();
+            return (s[i] | s[i + 1] | s[i + 2]) != 0 || s[i + 3] < 0 ? Long.MAX_VALUE : s[i + 3];
+        }
+
+        private Word popWord() {
+            final int i = pop();
+            return new Word(s[i], s[i + 1], s[i + 2], s[i + 3]);
+        }
+
+        private Address popAddress() {
+            final int i = pop();
+            final byte[] bytes = new byte[20];
+            final long high = s[i + 1];
+            for (int k = 0; k < 4; k++) {
+                bytes[k] = (byte) (high >>> (24 - (k << 3)));
+            }
+            Word.writeLong(bytes, 4, s[i + 2]);
+            Word.writeLong(bytes, 12, s[i + 3]);
+            return Address.fromBytes(bytes);
+        }
+
+        private int slot() {
+            if (sp == STACK_LIMIT) {
+                throw new Halt("stack overflow");
+            }
+            final int i = sp++ << 2;
+            if (i == s.length) {
+                s = Arrays.copyOf(s, Math.min(s.length << 1, STACK_LIMIT * 4));
+            }
+            return i;
+        }
+
+        private void push(final long w0, final long w1, final long w2, final long w3) {
+            final int i = slot();
+            s[i] = w0;
+            s[i + 1] = w1;
+            s[i + 2] = w2;
+            s[i + 3] = w3;
+        }
+
+        private void push(final long value) {
+            push(0, 0, 0, value);
+        }
+
+        private void push(final Word word) {
+            push(word.w0(), word.w1(), word.w2(), word.w3());
+        }
+
+        private void push(final byte[] src, final int offset) {
+            push(Word.readLong(src, offset), Word.readLong(src, offset + 8), Word.readLong(src, offset + 16),
+                    Word.readLong(src, offset + 24));
+        }
+
+        /** Pushes 32 bytes of {@code src} from {@code offset}, zero-padded past the end. */
+        private void pushData(final byte[] src, final long offset) {
+            if (offset <= src.length - 32L) {
+                push(src, (int) offset);
+                return;
+            }
+            final byte[] word = new byte[32];
+            if (offset < src.length) {
+                System.arraycopy(src, (int) offset, word, 0, src.length - (int) offset);
+            }
+            push(word, 0);
+        }
+
+        private int pushImmediate(final byte[] bytecode, final int pc, final int n) {
+            final int i = slot();
+            s[i] = 0;
+            s[i + 1] = 0;
+            s[i + 2] = 0;
+            s[i + 3] = 0;
+            final int end = Math.min(pc + 1 + n, bytecode.length);
+            for (int p = pc + 1, pos = 32 - n; p < end; p++, pos++) {
+                s[i + (pos >>> 3)] |= (bytecode[p] & 0xFFL) << (56 - ((pos & 7) << 3));
+            }
+            return pc + 1 + n;
+        }
+
+        private void dup(final int n) {
+            if (sp < n) {
+                throw new Halt("stack underflow");
+            }
+            final int from = (sp - n) << 2;
+            push(s[from], s[from + 1], s[from + 2], s[from + 3]);
+        }
+
+        private void swap(final int n) {
+            if (sp < n + 1) {
+                throw new Halt("stack underflow");
+            }
+            final int top = (sp - 1) << 2;
+            final int other = (sp - 1 - n) << 2;
+            for (int k = 0; k < 4; k++) {
+                final long t = s[top + k];
+                s[top + k] = s[other + k];
+                s[other + k] = t;
+            }
+        }
+
+        // ==================== Gas and memory ====================
+
+        private void useGas(final long amount) {
+            if (Long.compareUnsigned(amount, gas) > 0) {
+                throw new Halt("out of gas");
+            }
+            gas -= amount;
+        }
+
+        private long accessCost(final Address address) {
+            return state.warm(address) ? 2600 : 100;
+        }
+
+        /** Expands memory to cover the range and returns its offset; empty ranges touch nothing. */
+        private int memory(final long offset, final long size) {
+            if (size == 0) {
+                return 0;
+            }
+            if (offset > MAX_MEMORY || size > MAX_MEMORY || offset + size > MAX_MEMORY) {
+                throw new Halt("out of gas");
+            }
+            final long words = words(offset + size);
+            if (words > memoryWords) {
+                useGas(memoryCost(words) - memoryCost(memoryWords));
+                memoryWords = words;
+                final int bytes = (int) (words << 5);
+                if (bytes > memory.length) {
+                    memory = Arrays.copyOf(memory, (int) Math.min(Math.max(bytes, 2L * memory.length), MAX_MEMORY));
+                }
+            }
+            return (int) offset;
+        }
+
+        /** Pops destination, source offset and size, and copies from {@code src} zero-padded. */
+        private void copyToMemory(final byte[] src) {
+            final long to = popUint();
+            final long from = popUint();
+            final long size = popUint();
+            final int at = memory(to, size);
+            useGas(3 * words(size));
+            final int available = from < src.length ? (int) Math.min(size, src.length - from) : 0;
+            if (available > 0) {
+                System.arraycopy(src, (int) from, memory, at, available);
+            }
+            if (available < size) {
+                Arrays.fill(memory, at + available, at + (int) size, (byte) 0);
+            }
+        }
+
+        private int jumpTarget(final long target) {
+            if (!code.isJumpDest(target)) {
+                throw new Halt("invalid jump destination");
+            }
+            return (int) target;
+        }
+
+        // ==================== State-touching opcodes ====================
+
+        private void sstore() {
+            if (isStatic) {
+                throw new Halt("write protection");
+            }
+            if (gas <= 2300) {
+                throw new Halt("out of gas");
+            }
+            final Word key = popWord();
+            final Word updated = popWord();
+            long cost = state.warm(self, key) ? 2100 : 0;
+            final Word current = state.storage(self, key);
+            final Word original = state.originalStorage(self, key);
+            if (current.equals(updated)) {
+                cost += 100;
+            } else if (current.equals(original)) {
+                cost += current.isZero() ? 20_000 : 2_900;
+            } else {
+                cost += 100;
+            }
+            useGas(cost);
+            refundStorage(original, current, updated);
+            state.setStorage(self, key, updated);
+        }
+
+        /** Applies the EIP-2200 storage refunds with the EIP-3529 amounts. */
+        private void refundStorage(final Word original, final Word current, final Word updated) {
+            if (current.equals(updated)) {
+                return;
+            }
+            if (original.equals(current)) {
+                if (!original.isZero() && updated.isZero()) {
+                    state.refund(4_800);
+                }
+                return;
+            }
+            if (!original.isZero()) {
+                if (current.isZero()) {
+                    state.refund(-4_800);
+                } else if (updated.isZero()) {
+                    state.refund(4_800);
+                }
+            }
+            if (original.equals(updated)) {
+                state.refund(original.isZero() ? 19_900 : 2_800);
+            }
+        }
+
+        private void log(final int topicCount) {
+            if (isStatic) {
+                throw new Halt("write protection");
+            }
+            final long offset = popUint();
+            final long size = popUint();
+            final List<Hash> topics = new ArrayList<>(topicCount);
+            for (int t = 0; t < topicCount; t++) {
+                topics.add(popWord().toHash());
+            }
+            final int at = memory(offset, size);
+            useGas(375L * topicCount + 8 * size);
+            final byte[] data = Arrays.copyOfRange(memory, at, at + (int) size);
+            state.log(new ExecutionResult.Log(self, topics, HexData.fromBytes(data)));
+        }
+
+        private void create(final boolean create2) {
+            if (isStatic) {
+                throw new Halt("write protection");
+            }
+            final Word endowment = popWord();
+            final long offset = popUint();
+            final long size = popUint();
+            final Word salt = create2 ? popWord() : null;
+            final int at = memory(offset, size);
+            if (size > MAX_INITCODE_SIZE) {
+                throw new Halt("max initcode size exceeded");
+            }
+            final long words = words(size);
+            useGas(create2 ? 8 * words : 2 * words);
+            final byte[] initcode = Arrays.copyOfRange(memory, at, at + (int) size);
+            returnData = EMPTY;
+
+            final BigInteger amount = endowment.toBigInteger();
+            final long nonce = state.nonce(self);
+            if (depth >= MAX_DEPTH || nonce == Long.MAX_VALUE || state.balance(self).compareTo(amount) < 0) {
+                push(0);
+                return;
+            }
+            final Address address = create2 ? create2Address(self, salt, initcode) : createAddress(self, nonce);
+            state.setNonce(self, nonce + 1);
+            state.warm(address);
+
+            final long childGas = gas - gas / 64;
+            gas -= childGas;
+            final Outcome outcome = Interpreter.this.create(self, address, amount, initcode, childGas, depth + 1);
+            gas += outcome.gasLeft();
+            if (outcome.status() == ExecutionResult.Status.REVERTED) {
+                returnData = outcome.output();
+            }
+            push(outcome.status() == ExecutionResult.Status.SUCCESS ? Word.of(address) : Word.ZERO);
+        }
+
+        private void call(final int op) {
+            final long requested = popUint();
+            final Address to = popAddress();
+            final Word callValue = op == CALL || op == CALLCODE ? popWord() : Word.ZERO;
+            final long inOffset = popUint();
+            final long inSize = popUint();
+            final long outOffset = popUint();
+            final long outSize = popUint();
+            final boolean transfers = !callValue.isZero();
+            if (op == CALL && isStatic && transfers) {
+                throw new Halt("write protection");
+            }
+            final int in = memory(inOffset, inSize);
+            final int out = memory(outOffset, outSize);
+
+            long cost = accessCost(to);
+            final BigInteger amount = transfers ? callValue.toBigInteger() : BigInteger.ZERO;
+            if (transfers) {
+                cost += 9_000;
+                if (op == CALL && state.isEmpty(to)) {
+                    cost += 25_000;
+                }
+            }
+            useGas(cost);
+            long childGas = Math.min(requested, gas - gas / 64);
+            gas -= childGas;
+            if (transfers) {
+                childGas += 2_300;
+            }
+
+            returnData = EMPTY;
+            if (depth >= MAX_DEPTH || (transfers && state.balance(self).compareTo(amount) < 0)) {
+                gas += childGas;
+                push(0);
+                return;
+            }
+            final byte[] callInput = Arrays.copyOfRange(memory, in, in + (int) inSize);
+            final Outcome outcome = switch (op) {
+                case CALL -> message(self, to, to, amount, true, callInput, childGas, isStatic, depth + 1);
+                case CALLCODE -> message(self, to, self, amount, true, callInput, childGas, isStatic, depth + 1);
+                case DELEGATECALL -> message(caller, to, self, value, false, callInput, childGas, isStatic, depth + 1);
+                default -> message(self, to, to, BigInteger.ZERO, false, callInput, childGas, true, depth + 1);
+            };
+            gas += outcome.gasLeft();
+            returnData = outcome.output();
+            System.arraycopy(returnData, 0, memory, out, (int) Math.min(outSize, returnData.length));
+            push(outcome.status() == ExecutionResult.Status.SUCCESS ? 1 : 0);
+        }
+
+        private void selfDestruct() {
+            if (isStatic) {
+                throw new Halt("write protection");
+            }
+            final Address beneficiary = popAddress();
+            long cost = state.warm(beneficiary) ? 2600 : 0;
+            final BigInteger balance = state.balance(self);
+            if (balance.signum() > 0 && state.isEmpty(beneficiary)) {
+                cost += 25_000;
+            }
+            useGas(cost);
+            state.transfer(self, beneficiary, balance);
+            // EIP-6780: only an account created in this transaction is actually removed
+            if (state.isCreated(self)) {
+                state.setBalance(self, BigInteger.ZERO);
+            }
+        }
+    }
+
+    // ==================== 256-bit arithmetic on stack limbs ====================
+
+    private static void set(final int gas, final int... ops) {
+        for (final int op : ops) {
+            BASE_GAS[op] = gas;
+        }
+    }
+
+    private static long words(final long bytes) {
+        return (bytes + 31) >>> 5;
+    }
+
+    private static long memoryCost(final long words) {
+        return 3 * words + words * words / 512;
+    }
+
+    private static void setLong(final long[] s, final int i, final long value) {
+        s[i] = 0;
+        s[i + 1] = 0;
+        s[i + 2] = 0;
+        s[i + 3] = value;
+    }
+
+    private static BigInteger big(final long[] s, final int i) {
+        final byte[] bytes = new byte[32];
+        for (int k = 0; k < 4; k++) {
+            Word.writeLong(bytes, k << 3, s[i + k]);
+        }
+        return new BigInteger(1, bytes);
+    }
+
+    private static BigInteger signed(final long[] s, final int i) {
+        final BigInteger value = big(s, i);
+        return s[i] < 0 ? value.subtract(TWO_256) : value;
+    }
+
+    private static void setBig(final long[] s, final int i, final BigInteger value) {
+        final Word word = Word.of(value);
+        s[i] = word.w0();
+        s[i + 1] = word.w1();
+        s[i + 2] = word.w2();
+        s[i + 3] = word.w3();
+    }
+
+    /** s[i] = s[i + 4] + s[i]. */
+    private static void add(final long[] s, final int i) {
+        long carry = 0;
+        for (int k = 3; k >= 0; k--) {
+            final long x = s[i + 4 + k];
+            final long sum = x + s[i + k];
+            long next = Long.compareUnsigned(sum, x) < 0 ? 1 : 0;
+            final long result = sum + carry;
+            if (Long.compareUnsigned(result, sum) < 0) {
+                next = 1;
+            }
+            s[i + k] = result;
+            carry = next;
+        }
+    }
+
+    /** s[i] = s[i + 4] - s[i]. */
+    private static void sub(final long[] s, final int i) {
+        long borrow = 0;
+        for (int k = 3; k >= 0; k--) {
+            final long x = s[i + 4 + k];
+            final long y = s[i + k];
+            final long diff = x - y;
+            long next = Long.compareUnsigned(x, y) < 0 ? 1 : 0;
+            if (Long.compareUnsigned(diff, borrow) < 0) {
+                next = 1;
+            }
+            s[i + k] = diff - borrow;
+            borrow = next;
+        }
+    }
+
+    /** s[i] = s[i + 4] * s[i] mod 2^256, schoolbook over 64-bit limbs. */
+    private static void mul(final long[] s, final int i) {
+        final long[] x = {s[i + 7], s[i + 6], s[i + 5], s[i + 4]};
+        final long[] y = {s[i + 3], s[i + 2], s[i + 1], s[i]};
+        final long[] r = new long[4];
+        for (int p = 0; p < 4; p++) {
+            long carry = 0;
+            for (int q = 0; p + q < 4; q++) {
+                final long lo = x[p] * y[q];
+                long hi = Math.unsignedMultiplyHigh(x[p], y[q]);
+                long t = r[p + q] + lo;
+                if (Long.compareUnsigned(t, lo) < 0) {
+                    hi++;
+                }
+                t += carry;
+                if (Long.compareUnsigned(t, carry) < 0) {
+                    hi++;
+                }
+                r[p + q] = t;
+                carry = hi;
+            }
+        }
+        s[i] = r[3];
+        s[i + 1] = r[2];
+        s[i + 2] = r[1];
+        s[i + 3] = r[0];
+    }
+
+    /** s[i] = s[i + 4] / s[i] (or %), zero for a zero divisor, with a single-limb fast path. */
+    private static void divMod(final long[] s, final int i, final boolean mod) {
+        final int a = i + 4;
+        if ((s[i] | s[i + 1] | s[i + 2] | s[a] | s[a + 1] | s[a + 2]) == 0) {
+            final long divisor = s[i + 3];
+            s[i + 3] = divisor == 0 ? 0
+                    : mod ? Long.remainderUnsigned(s[a + 3], divisor) : Long.divideUnsigned(s[a + 3], divisor);
+            return;
+        }
+        final BigInteger divisor = big(s, i);
+        if (divisor.signum() == 0) {
+            setLong(s, i, 0);
+            return;
+        }
+        final BigInteger dividend = big(s, a);
+        setBig(s, i, mod ? dividend.mod(divisor) : dividend.divide(divisor));
+    }
+
+    /** SIGNEXTEND: byte index at i + 4, value at i. */
+    private static void signExtend(final long[] s, final int i) {
+        final int b = i + 4;
+        if ((s[b] | s[b + 1] | s[b + 2]) != 0 || Long.compareUnsigned(s[b + 3], 31) >= 0) {
+            return;
+        }
+        final int bit = (int) s[b + 3] * 8 + 7;
+        final int limb = 3 - (bit >>> 6);
+        final int offset = bit & 63;
+        final long v = s[i + limb];
+        final boolean negative = ((v >>> offset) & 1) != 0;
+        final long mask = offset == 63 ? -1L : (1L << (offset + 1)) - 1;
+        s[i + limb] = negative ? v | ~mask : v & mask;
+        for (int k = 0; k < limb; k++) {
+            s[i + k] = negative ? -1L : 0L;
+        }
+    }
+
+    /** SHL: shift at i + 4, value at i. */
+    private static void shl(final long[] s, final int i) {
+        final int n = shiftAmount(s, i + 4);
+        if (n >= 256) {
+            setLong(s, i, 0);
+            return;
+        }
+        final long[] w = {s[i], s[i + 1], s[i + 2], s[i + 3]};
+        final int limbs = n >>> 6;
+        final int bits = n & 63;
+        for (int k = 0; k < 4; k++) {
+            final int src = k + limbs;
+            final long hi = src < 4 ? w[src] : 0;
+            final long lo = src + 1 < 4 ? w[src + 1] : 0;
+            s[i + k] = bits == 0 ? hi : (hi << bits) | (lo >>> (64 - bits));
+        }
+    }
+
+    /** SHR or SAR: shift at i + 4, value at i. */
+    private static void shr(final long[] s, final int i, final boolean arithmetic) {
+        final long fill = arithmetic && s[i] < 0 ? -1L : 0L;
+        final int n = shiftAmount(s, i + 4);
+        if (n >= 256) {
+            Arrays.fill(s, i, i + 4, fill);
+            return;
+        }
+        final long[] w = {s[i], s[i + 1], s[i + 2], s[i + 3]};
+        final int limbs = n >>> 6;
+        final int bits = n & 63;
+        for (int k = 0; k < 4; k++) {
+            final int src = k - limbs;
+            final long current = src >= 0 ? w[src] : fill;
+            final long hi = src - 1 >= 0 ? w[src - 1] : fill;
+            s[i + k] = bits == 0 ? current : (current >>> bits) | (hi << (64 - bits));
+        }
+    }
+
+    private static int shiftAmount(final long[] s, final int i) {
+        return (s[i] | s[i + 1] | s[i + 2]) != 0 || Long.compareUnsigned(s[i + 3], 256) >= 0 ? 256 : (int) s[i + 3];
+    }
+
+    private static int compare(final long[] s, final int x, final int y) {
+        for (int k = 0; k < 4; k++) {
+            final int c = Long.compareUnsigned(s[x + k], s[y + k]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    private static int compareSigned(final long[] s, final int x, final int y) {
+        final int c = Long.compare(s[x], s[y]);
+        return c != 0 ? c : compare(s, x, y);
+    }
+
+    /** Number of significant bytes in the word at i, for EXP pricing. */
+    private static int byteLength(final long[] s, final int i) {
+        for (int k = 0; k < 4; k++) {
+            if (s[i + k] != 0) {
+                return (3 - k) * 8 + (71 - Long.numberOfLeadingZeros(s[i + k])) / 8;
+            }
+        }
+        return 0;
+    }
+
+    private static Address createAddress(final Address sender, final long nonce) {
+        final byte[] encoded = Rlp.encodeList(List.of(RlpString.of(sender.toBytes()), RlpString.of(nonce)));
+        return Address.fromBytes(Keccak256.hash(encoded), 12);
+    }
+
+    private static Address create2Address(final Address sender, final Word salt, final byte[] initcode) {
+        final byte[] preimage = new byte[85];
+        preimage[0] = (byte) 0xFF;
+        System.arraycopy(sender.toBytes(), 0, preimage, 1, 20);
+        salt.toBytes(preimage, 21);
+        Keccak256.hash(initcode, 0, initcode.length, preimage, 53);
+        return Address.fromBytes(Keccak256.hash(preimage), 12);
+    }
+}
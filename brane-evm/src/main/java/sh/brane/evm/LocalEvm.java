@@ -0,0 +1,283 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+import sh.brane.core.RevertDecoder;
+import sh.brane.core.error.RevertException;
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.BlockHeader;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+import sh.brane.rpc.AccountOverride;
+import sh.brane.rpc.BlockTag;
+import sh.brane.rpc.Brane;
+import sh.brane.rpc.CallRequest;
+
+/**
+ * Executes {@code eth_call}-style requests in-process against state forked from one block.
+ *
+ * <p>Balances, nonces, code, storage slots and block hashes are read from a
+ * {@link StateSource} the first time any call touches them and cached for the lifetime of
+ * the instance. Simulating many calls against the same block therefore pays one RPC round
+ * trip per distinct piece of state instead of one per call. Changes a call makes to state
+ * are discarded when it returns and are never seen by other calls.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * LocalEvm evm = LocalEvm.fork(client);
+ * HexData balance = evm.call(CallRequest.of(token, balanceOfCalldata));
+ *
+ * // Same per-account overrides as eth_simulateV1
+ * HexData simulated = evm.call(request, Map.of(token, AccountOverride.builder().code(patched).build()));
+ * }</pre>
+ *
+ * <p>Execution follows the Cancun fork, including EIP-3529 gas refunds. The curve-pairing,
+ * {@code blake2f} and KZG point-evaluation precompiles are not executed locally: a call that
+ * reaches one ends with {@link ExecutionResult.Status#UNSUPPORTED}, and {@link #call} sends
+ * it to the node it was {@linkplain #fork forked} from instead, pinned to the same block.
+ *
+ * <p>Instances are thread-safe; concurrent calls share the state cache.
+ *
+ * @since 0.3.0
+ */
+public final class LocalEvm {
+
+    private static final long TX_GAS = 21_000;
+    private static final long TX_DATA_ZERO_GAS = 4;
+    private static final long TX_DATA_NON_ZERO_GAS = 16;
+    private static final byte[] EMPTY = new byte[0];
+    private static final BigInteger MAX_GAS = BigInteger.valueOf(Long.MAX_VALUE);
+    /** EIP-3529: the refund is capped at gas used divided by this. */
+    private static final long MAX_REFUND_QUOTIENT = 5;
+
+    private final ForkCache cache;
+    private final BlockContext block;
+    /** The node calls fall back to, or null for {@link #of} instances. */
+    private final @Nullable Brane node;
+
+    private LocalEvm(final StateSource source, final BlockContext block, final @Nullable Brane node) {
+        this.cache = new ForkCache(source);
+        this.block = block;
+        this.node = node;
+    }
+
+    /**
+     * Forks the latest block of {@code client}.
+     *
+     * @param client the client to read state through
+     * @return a local EVM pinned to the current head
+     * @throws NullPointerException if client is null
+     * @see #fork(Brane, BlockTag)
+     */
+    public static LocalEvm fork(final Brane client) {
+        return fork(client, BlockTag.LATEST);
+    }
+
+    /**
+     * Forks the block identified by {@code tag}.
+     *
+     * <p>The block is resolved once, so every later state read is pinned to its number even
+     * if {@code tag} is {@link BlockTag#LATEST}. The block number, timestamp, base fee and the
+     * client's chain ID are taken from the node; the gas limit, coinbase and randomness are
+     * not exposed by {@link BlockHeader} and use the defaults of {@link BlockContext#of}.
+     *
+     * @param client the client to read state through
+     * @param tag the block to fork
+     * @return a local EVM pinned to that block
+     * @throws NullPointerException if client or tag is null
+     * @throws IllegalArgumentException if the node does not know the block
+     */
+    public static LocalEvm fork(final Brane client, final BlockTag tag) {
+        Objects.requireNonNull(client, "client");
+        Objects.requireNonNull(tag, "tag");
+        final BlockHeader header = client.getBlock(tag);
+        if (header == null) {
+            throw new IllegalArgumentException("Block not found: " + tag.toRpcValue());
+        }
+        final BlockContext defaults =
+                BlockContext.of(header.number(), header.timestamp(), client.chainId().longValueExact());
+        final BlockContext context = new BlockContext(
+                defaults.number(),
+                defaults.timestamp(),
+                header.baseFeePerGas() != null ? header.baseFeePerGas().value() : BigInteger.ZERO,
+                defaults.gasLimit(),
+                defaults.coinbase(),
+                defaults.prevRandao(),
+                defaults.chainId(),
+                defaults.blobBaseFee());
+        return new LocalEvm(StateSource.rpc(client, header.number()), context, client);
+    }
+
+    /**
+     * Creates a local EVM over an arbitrary state source, for example an in-memory fixture.
+     * Such an instance has no node to fall back to, so {@link #call} throws for calls that
+     * reach an unsupported precompile.
+     *
+     * @param source the state to execute against
+     * @param block the block environment
+     * @return a new local EVM
+     * @throws NullPointerException if source or block is null
+     */
+    public static LocalEvm of(final StateSource source, final BlockContext block) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(block, "block");
+        return new LocalEvm(source, block, null);
+    }
+
+    /**
+     * Returns the block environment calls execute in.
+     *
+     * @return the block context
+     */
+    public BlockContext block() {
+        return block;
+    }
+
+    /**
+     * Executes a call locally and returns its output, like {@link Brane#call(CallRequest)}.
+     *
+     * @param request the call
+     * @return the return data
+     * @throws RevertException if the call reverts
+     * @throws RpcException if the call halts or cannot pay its intrinsic gas or value, or
+     *         reaches an unsupported precompile on an instance that cannot fall back
+     */
+    public HexData call(final CallRequest request) {
+        return call(request, Map.of());
+    }
+
+    /**
+     * Executes a call locally with state overrides and returns its output. The overrides
+     * have the same meaning as in {@link sh.brane.rpc.SimulateRequest}.
+     *
+     * <p>A call that reaches an unsupported precompile is sent to the node with
+     * {@link Brane#call(CallRequest, BlockTag)} at the forked block. {@code eth_call} cannot
+     * carry the overrides, so this fallback is only taken when {@code overrides} is empty.
+     *
+     * @param request the call
+     * @param overrides per-account overrides applied before execution
+     * @return the return data
+     * @throws RevertException if the call reverts
+     * @throws RpcException if the call halts or cannot pay its intrinsic gas or value, or
+     *         reaches an unsupported precompile and cannot fall back to the node
+     */
+    public HexData call(final CallRequest request, final Map<Address, AccountOverride> overrides) {
+        final ExecutionResult result = execute(request, overrides);
+        return switch (result.status()) {
+            case SUCCESS -> result.output();
+            case REVERTED -> {
+                final RevertDecoder.Decoded decoded = RevertDecoder.decode(result.output().value());
+                throw new RevertException(decoded.kind(), decoded.reason(), decoded.rawDataHex(), null);
+            }
+            case HALTED -> throw new RpcException(-32000, result.error(), null, (Throwable) null);
+            case UNSUPPORTED -> fallback(request, overrides, result.error());
+        };
+    }
+
+    /** Runs a call the local interpreter cannot complete on the node, at the forked block. */
+    private HexData fallback(
+            final CallRequest request, final Map<Address, AccountOverride> overrides, final String reason) {
+        if (node == null) {
+            throw new RpcException(-32000, reason + " and there is no node to fall back to", null, (Throwable) null);
+        }
+        if (!overrides.isEmpty()) {
+            throw new RpcException(-32000, reason + " and state overrides cannot be sent with eth_call", null,
+                    (Throwable) null);
+        }
+        return node.call(request, BlockTag.of(block.number()));
+    }
+
+    /**
+     * Executes a call locally and returns the full outcome instead of throwing on revert.
+     *
+     * @param request the call
+     * @return the execution result
+     * @throws RpcException if the call cannot pay its intrinsic gas or value
+     */
+    public ExecutionResult execute(final CallRequest request) {
+        return execute(request, Map.of());
+    }
+
+    /**
+     * Executes a call locally with state overrides and returns the full outcome.
+     *
+     * <p>The sender defaults to the zero address and the gas limit to the block gas limit.
+     * As with {@code eth_call}, the sender is not charged for gas. A call that reaches an
+     * unsupported precompile is not sent to the node; its result has status
+     * {@link ExecutionResult.Status#UNSUPPORTED}.
+     *
+     * @param request the call
+     * @param overrides per-account overrides applied before execution
+     * @return the execution result
+     * @throws NullPointerException if request or overrides is null
+     * @throws RpcException if the call cannot pay its intrinsic gas or value
+     */
+    public ExecutionResult execute(final CallRequest request, final Map<Address, AccountOverride> overrides) {
+        Objects.requireNonNull(request, "request");
+        Objects.requireNonNull(overrides, "overrides");
+        final Address from = request.from() != null ? request.from() : Address.ZERO;
+        final byte[] data = request.data() != null ? request.data().toBytes() : EMPTY;
+        final BigInteger value = request.value() != null ? request.value().value() : BigInteger.ZERO;
+        final long gasLimit = request.gas() != null ? request.gas().min(MAX_GAS).longValue() : block.gasLimit();
+
+        final long intrinsic = intrinsicGas(data);
+        if (gasLimit < intrinsic) {
+            throw new RpcException(-32000, "intrinsic gas too low: have " + gasLimit + ", want " + intrinsic, null,
+                    (Throwable) null);
+        }
+        final WorldState state = new WorldState(cache, overrides);
+        if (state.balance(from).compareTo(value) < 0) {
+            throw new RpcException(-32000, "insufficient funds for transfer: address " + from, null, (Throwable) null);
+        }
+
+        final Interpreter interpreter = new Interpreter(state, block, from, gasPrice(request));
+        final Interpreter.Outcome outcome;
+        try {
+            outcome = interpreter.execute(from, request.to(), value, data, gasLimit - intrinsic);
+        } catch (Precompiles.Unsupported e) {
+            return new ExecutionResult(ExecutionResult.Status.UNSUPPORTED, HexData.EMPTY, 0, List.of(), e.getMessage());
+        }
+        final boolean success = outcome.status() == ExecutionResult.Status.SUCCESS;
+        final long consumed = gasLimit - outcome.gasLeft();
+        // A reverted or halted call has rolled its refunds back with the rest of its state
+        final long refund = Math.min(state.refund(), consumed / MAX_REFUND_QUOTIENT);
+        return new ExecutionResult(
+                outcome.status(),
+                HexData.fromBytes(outcome.output()),
+                consumed - refund,
+                success ? state.logs() : List.of(),
+                outcome.error());
+    }
+
+    /** Number of values fetched from the state source so far. */
+    long stateReads() {
+        return cache.fetches();
+    }
+
+    private static long intrinsicGas(final byte[] data) {
+        long gas = TX_GAS;
+        for (final byte b : data) {
+            gas += b == 0 ? TX_DATA_ZERO_GAS : TX_DATA_NON_ZERO_GAS;
+        }
+        return gas;
+    }
+
+    /** Effective gas price for {@code GASPRICE}, as a node would compute it for the request. */
+    private BigInteger gasPrice(final CallRequest request) {
+        if (request.gasPrice() != null) {
+            return request.gasPrice();
+        }
+        if (request.maxFeePerGas() == null && request.maxPriorityFeePerGas() == null) {
+            return BigInteger.ZERO;
+        }
+        final BigInteger tip = request.maxPriorityFeePerGas() != null ? request.maxPriorityFeePerGas() : BigInteger.ZERO;
+        final BigInteger price = block.baseFee().add(tip);
+        return request.maxFeePerGas() != null ? price.min(request.maxFeePerGas()) : price;
+    }
+}
@@ -0,0 +1,194 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
+
+import sh.brane.core.crypto.PrivateKey;
+import sh.brane.core.crypto.Sha256;
+import sh.brane.core.crypto.Signature;
+import sh.brane.core.types.Address;
+
+/**
+ * The Cancun precompiled contracts at addresses {@code 0x01} through {@code 0x0a}.
+ * <p>
+ * {@code ecrecover}, {@code sha256}, {@code ripemd160}, {@code identity} and {@code modexp}
+ * are executed locally. The curve-pairing, {@code blake2f} and point-evaluation precompiles
+ * are not implemented; reaching one throws {@link Unsupported}, which abandons the whole
+ * execution so {@link LocalEvm} can hand the call to the node instead.
+ */
+final class Precompiles {
+
+    /** Highest precompile address in the Cancun fork. */
+    static final int LAST = 0x0a;
+
+    private static final BigInteger SECP256K1_N =
+            new BigInteger("FFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFEBAAEDCE6AF48A03BBFD25E8CD0364141", 16);
+    private static final byte[] EMPTY = new byte[0];
+    private static final Address[] ADDRESSES = new Address[LAST + 1];
+
+    static {
+        for (int id = 1; id <= LAST; id++) {
+            ADDRESSES[id] = Word.of(id).toAddress();
+        }
+    }
+
+    private Precompiles() {
+    }
+
+    /** Returns the precompile number of {@code address}, or 0 if it is not a precompile. */
+    static int id(final Address address) {
+        final Word word = Word.of(address);
+        if ((word.w1() & 0xFFFFFFFFL) != 0 || word.w2() != 0 || word.w3() < 1 || word.w3() > LAST) {
+            return 0;
+        }
+        return (int) word.w3();
+    }
+
+    static Address address(final int id) {
+        return ADDRESSES[id];
+    }
+
+    /**
+     * Returns the gas charged for running precompile {@code id} on {@code input}, saturating at
+     * {@link Long#MAX_VALUE}.
+     */
+    static long gas(final int id, final byte[] input) {
+        final long words = (input.length + 31L) / 32;
+        return switch (id) {
+            case 1 -> 3000;
+            case 2 -> 60 + 12 * words;
+            case 3 -> 600 + 120 * words;
+            case 4 -> 15 + 3 * words;
+            case 5 -> modexpGas(input);
+            default -> throw unsupported(id);
+        };
+    }
+
+    /** Runs precompile {@code id}; the caller has already charged {@link #gas}. */
+    static byte[] run(final int id, final byte[] input) {
+        return switch (id) {
+            case 1 -> ecrecover(input);
+            case 2 -> Sha256.hash(input);
+            case 3 -> ripemd160(input);
+            case 4 -> input.clone();
+            case 5 -> modexp(input);
+            default -> throw unsupported(id);
+        };
+    }
+
+    private static Unsupported unsupported(final int id) {
+        return new Unsupported(id);
+    }
+
+    /** A call reached a precompile that is not executed locally. */
+    static final class Unsupported extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        Unsupported(final int id) {
+            super("precompile 0x" + Integer.toHexString(id) + " is not supported locally", null, false, false);
+        }
+    }
+
+    private static byte[] ecrecover(final byte[] input) {
+        final byte[] in = Arrays.copyOf(input, 128);
+        final Word v = Word.fromBytes(in, 32);
+        if (v.w0() != 0 || v.w1() != 0 || v.w2() != 0 || (v.w3() != 27 && v.w3() != 28)) {
+            return EMPTY;
+        }
+        final byte[] r = Arrays.copyOfRange(in, 64, 96);
+        final byte[] s = Arrays.copyOfRange(in, 96, 128);
+        if (!inCurveOrder(r) || !inCurveOrder(s)) {
+            return EMPTY;
+        }
+        try {
+            final Address signer = PrivateKey.recoverAddress(Arrays.copyOf(in, 32), new Signature(r, s, (int) v.w3()));
+            return Word.of(signer).toBytes();
+        } catch (IllegalArgumentException e) {
+            return EMPTY;
+        }
+    }
+
+    private static boolean inCurveOrder(final byte[] value) {
+        final BigInteger n = new BigInteger(1, value);
+        return n.signum() > 0 && n.compareTo(SECP256K1_N) < 0;
+    }
+
+    private static byte[] ripemd160(final byte[] input) {
+        final RIPEMD160Digest digest = new RIPEMD160Digest();
+        digest.update(input, 0, input.length);
+        final byte[] out = new byte[32];
+        digest.doFinal(out, 12);
+        return out;
+    }
+
+    // ==================== modexp (EIP-198, EIP-2565) ====================
+
+    private static long modexpGas(final byte[] input) {
+        final long baseLength = length(input, 0);
+        final long expLength = length(input, 32);
+        final long modLength = length(input, 64);
+        if (baseLength < 0 || expLength < 0 || modLength < 0) {
+            return Long.MAX_VALUE;
+        }
+        final long words = (Math.max(baseLength, modLength) + 7) / 8;
+        final BigInteger complexity = BigInteger.valueOf(words).pow(2);
+
+        final BigInteger head = new BigInteger(1, slice(input, 96 + baseLength, Math.min(expLength, 32)));
+        long iterations;
+        if (expLength <= 32) {
+            iterations = Math.max(head.bitLength() - 1, 0);
+        } else {
+            iterations = 8 * (expLength - 32) + Math.max(head.bitLength() - 1, 0);
+        }
+        iterations = Math.max(iterations, 1);
+
+        final BigInteger gas = complexity.multiply(BigInteger.valueOf(iterations)).divide(BigInteger.valueOf(3));
+        if (gas.bitLength() > 62) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(200, gas.longValue());
+    }
+
+    private static byte[] modexp(final byte[] input) {
+        final int baseLength = (int) length(input, 0);
+        final int expLength = (int) length(input, 32);
+        final int modLength = (int) length(input, 64);
+        if (modLength == 0) {
+            return EMPTY;
+        }
+        final BigInteger base = new BigInteger(1, slice(input, 96, baseLength));
+        final BigInteger exp = new BigInteger(1, slice(input, 96L + baseLength, expLength));
+        final BigInteger mod = new BigInteger(1, slice(input, 96L + baseLength + expLength, modLength));
+        final byte[] out = new byte[modLength];
+        if (mod.signum() == 0) {
+            return out;
+        }
+        final byte[] result = base.modPow(exp, mod).toByteArray();
+        final int skip = result.length > modLength ? result.length - modLength : 0;
+        System.arraycopy(result, skip, out, modLength - (result.length - skip), result.length - skip);
+        return out;
+    }
+
+    /** Reads a 32-byte length field, returning -1 if it does not fit in an int. */
+    private static long length(final byte[] input, final int offset) {
+        final Word word = Word.fromBytes(Arrays.copyOfRange(input, Math.min(offset, input.length),
+                Math.min(offset, input.length) + 32), 0);
+        if (word.w0() != 0 || word.w1() != 0 || word.w2() != 0 || word.w3() < 0 || word.w3() > Integer.MAX_VALUE) {
+            return -1;
+        }
+        return word.w3();
+    }
+
+    /** Returns {@code length} bytes of {@code input} from {@code offset}, zero-padded past the end. */
+    private static byte[] slice(final byte[] input, final long offset, final long length) {
+        final byte[] out = new byte[(int) length];
+        if (offset < input.length) {
+            System.arraycopy(input, (int) offset, out, 0, (int) Math.min(length, input.length - offset));
+        }
+        return out;
+    }
+}
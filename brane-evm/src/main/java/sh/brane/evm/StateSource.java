@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import java.math.BigInteger;
+import java.util.Objects;
+
+import sh.brane.core.model.BlockHeader;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.rpc.BlockTag;
+import sh.brane.rpc.Brane;
+
+/**
+ * Read-only view of chain state at one block, queried by {@link LocalEvm} the first time an
+ * execution touches an account field, storage slot or block hash.
+ * <p>
+ * {@link LocalEvm} caches every answer for its lifetime, so each value is requested at most
+ * once (barring concurrent first reads). Implementations must be thread-safe when the
+ * {@code LocalEvm} is shared between threads.
+ *
+ * @since 0.3.0
+ */
+public interface StateSource {
+
+    /**
+     * Returns the balance of an account in wei.
+     *
+     * @param address the account
+     * @return the balance, zero for accounts that do not exist
+     */
+    BigInteger balance(Address address);
+
+    /**
+     * Returns the nonce of an account.
+     *
+     * @param address the account
+     * @return the nonce, zero for accounts that do not exist
+     */
+    long nonce(Address address);
+
+    /**
+     * Returns the code of an account.
+     *
+     * @param address the account
+     * @return the code, {@link HexData#EMPTY} for accounts without code
+     */
+    HexData code(Address address);
+
+    /**
+     * Returns the value of a storage slot.
+     *
+     * @param address the account
+     * @param slot the slot index
+     * @return the slot value, zero if never written
+     */
+    BigInteger storage(Address address, BigInteger slot);
+
+    /**
+     * Returns the hash of an earlier block, for the {@code BLOCKHASH} opcode.
+     *
+     * @param number a block number within the 256 blocks preceding the executing block
+     * @return the block hash
+     */
+    Hash blockHash(long number);
+
+    /**
+     * Returns a source that reads state at {@code blockNumber} through {@code client} with
+     * {@code eth_getBalance}, {@code eth_getTransactionCount}, {@code eth_getCode} and
+     * {@code eth_getStorageAt}.
+     *
+     * @param client the client to query
+     * @param blockNumber the block whose post-state is read
+     * @return an RPC-backed state source
+     * @throws NullPointerException if client is null
+     */
+    static StateSource rpc(final Brane client, final long blockNumber) {
+        Objects.requireNonNull(client, "client");
+        final BlockTag block = BlockTag.of(blockNumber);
+        return new StateSource() {
+            @Override
+            public BigInteger balance(final Address address) {
+                return client.getBalance(address, block);
+            }
+
+            @Override
+            public long nonce(final Address address) {
+                return client.getTransactionCount(address, block);
+            }
+
+            @Override
+            public HexData code(final Address address) {
+                return client.getCode(address, block);
+            }
+
+            @Override
+            public BigInteger storage(final Address address, final BigInteger slot) {
+                final HexData value = client.getStorageAt(address, slot, block);
+                return value.byteLength() == 0 ? BigInteger.ZERO : new BigInteger(1, value.toBytes());
+            }
+
+            @Override
+            public Hash blockHash(final long number) {
+                final BlockHeader header = client.getBlockByNumber(number);
+                if (header == null) {
+                    throw new IllegalStateException("Block " + number + " not found");
+                }
+                return header.hash();
+            }
+        };
+    }
+}
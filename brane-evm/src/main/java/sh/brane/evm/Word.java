@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+
+/**
+ * An immutable 256-bit EVM word as four big-endian 64-bit limbs, {@code w0} most significant.
+ * Used for storage keys and values, where it doubles as a cheap hash-map key.
+ */
+record Word(long w0, long w1, long w2, long w3) {
+
+    static final Word ZERO = new Word(0, 0, 0, 0);
+
+    private static final BigInteger MASK = BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE);
+
+    static Word of(final long value) {
+        return value == 0 ? ZERO : new Word(0, 0, 0, value);
+    }
+
+    /** Reduces {@code value} modulo 2^256, so negative values wrap to two's complement. */
+    static Word of(final BigInteger value) {
+        final BigInteger v = value.and(MASK);
+        return new Word(
+                v.shiftRight(192).longValue(), v.shiftRight(128).longValue(), v.shiftRight(64).longValue(), v.longValue());
+    }
+
+    static Word of(final Address address) {
+        final byte[] bytes = new byte[32];
+        address.putTo(ByteBuffer.wrap(bytes, 12, 20));
+        return fromBytes(bytes, 0);
+    }
+
+    static Word of(final Hash hash) {
+        return fromBytes(hash.toBytes(), 0);
+    }
+
+    /** Reads 32 big-endian bytes. */
+    static Word fromBytes(final byte[] src, final int offset) {
+        return new Word(readLong(src, offset), readLong(src, offset + 8), readLong(src, offset + 16),
+                readLong(src, offset + 24));
+    }
+
+    /** Reads up to 32 big-endian bytes, left-padding shorter input with zeros. */
+    static Word fromShortBytes(final byte[] src) {
+        if (src.length == 32) {
+            return fromBytes(src, 0);
+        }
+        final byte[] padded = new byte[32];
+        System.arraycopy(src, Math.max(0, src.length - 32), padded, Math.max(0, 32 - src.length),
+                Math.min(32, src.length));
+        return fromBytes(padded, 0);
+    }
+
+    boolean isZero() {
+        return (w0 | w1 | w2 | w3) == 0;
+    }
+
+    void toBytes(final byte[] dest, final int offset) {
+        writeLong(dest, offset, w0);
+        writeLong(dest, offset + 8, w1);
+        writeLong(dest, offset + 16, w2);
+        writeLong(dest, offset + 24, w3);
+    }
+
+    byte[] toBytes() {
+        final byte[] out = new byte[32];
+        toBytes(out, 0);
+        return out;
+    }
+
+    BigInteger toBigInteger() {
+        return new BigInteger(1, toBytes());
+    }
+
+    Hash toHash() {
+        return Hash.fromBytes(toBytes());
+    }
+
+    Address toAddress() {
+        return Address.fromBytes(toBytes(), 12);
+    }
+
+    static long readLong(final byte[] src, final int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (src[offset + i] & 0xFFL);
+        }
+        return value;
+    }
+
+    static void writeLong(final byte[] dest, final int offset, final long value) {
+        for (int i = 0; i < 8; i++) {
+            dest[offset + i] = (byte) (value >>> (56 - 8 * i));
+        }
+    }
+}
@@ -0,0 +1,299 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.rpc.AccountOverride;
+
+/**
+ * State seen by one execution: the shared {@link ForkCache}, overlaid with the caller's
+ * {@link AccountOverride}s, overlaid with this execution's own writes.
+ * <p>
+ * Every write, warm-access mark, log and refund is journaled so that a reverting call frame can roll
+ * back to a {@link #snapshot()}. Nothing is ever written back to the cache; the whole
+ * overlay is dropped when the execution ends. Not thread-safe.
+ */
+final class WorldState {
+
+    private final ForkCache base;
+    private final Map<Address, Overlay> overrides;
+    private final Map<Address, Local> locals = new HashMap<>();
+    private final Set<Address> warmAddresses = new HashSet<>();
+    private final Set<SlotKey> warmSlots = new HashSet<>();
+    private final Map<SlotKey, Word> transientStorage = new HashMap<>();
+    private final List<ExecutionResult.Log> logs = new ArrayList<>();
+    private final List<Runnable> journal = new ArrayList<>();
+    private long refund;
+
+    WorldState(final ForkCache base, final Map<Address, AccountOverride> overrides) {
+        this.base = base;
+        if (overrides.isEmpty()) {
+            this.overrides = Map.of();
+        } else {
+            this.overrides = new HashMap<>(overrides.size() * 2);
+            overrides.forEach((address, override) -> this.overrides.put(address, new Overlay(override)));
+        }
+    }
+
+    // ==================== Journal ====================
+
+    int snapshot() {
+        return journal.size();
+    }
+
+    void revert(final int snapshot) {
+        for (int i = journal.size() - 1; i >= snapshot; i--) {
+            journal.remove(i).run();
+        }
+    }
+
+    // ==================== Accounts ====================
+
+    BigInteger balance(final Address address) {
+        final Local local = locals.get(address);
+        if (local != null && local.balance != null) {
+            return local.balance;
+        }
+        final Overlay overlay = overrides.get(address);
+        if (overlay != null && overlay.balance != null) {
+            return overlay.balance;
+        }
+        return base.balance(address);
+    }
+
+    void setBalance(final Address address, final BigInteger balance) {
+        final Local local = local(address);
+        final BigInteger previous = local.balance;
+        local.balance = balance;
+        journal.add(() -> local.balance = previous);
+    }
+
+    /** Moves {@code value} from one account to another; the caller has checked the balance. */
+    void transfer(final Address from, final Address to, final BigInteger value) {
+        if (value.signum() == 0) {
+            return;
+        }
+        setBalance(from, balance(from).subtract(value));
+        setBalance(to, balance(to).add(value));
+    }
+
+    long nonce(final Address address) {
+        final Local local = locals.get(address);
+        if (local != null && local.nonce >= 0) {
+            return local.nonce;
+        }
+        final Overlay overlay = overrides.get(address);
+        if (overlay != null && overlay.nonce >= 0) {
+            return overlay.nonce;
+        }
+        return base.nonce(address);
+    }
+
+    void setNonce(final Address address, final long nonce) {
+        final Local local = local(address);
+        final long previous = local.nonce;
+        local.nonce = nonce;
+        journal.add(() -> local.nonce = previous);
+    }
+
+    Code code(final Address address) {
+        final Local local = locals.get(address);
+        if (local != null && local.code != null) {
+            return local.code;
+        }
+        final Overlay overlay = overrides.get(address);
+        if (overlay != null && overlay.code != null) {
+            return overlay.code;
+        }
+        return base.code(address);
+    }
+
+    void setCode(final Address address, final Code code) {
+        final Local local = local(address);
+        final Code previous = local.code;
+        local.code = code;
+        journal.add(() -> local.code = previous);
+    }
+
+    /** EIP-161 emptiness: no code, zero nonce and zero balance. */
+    boolean isEmpty(final Address address) {
+        return code(address).isEmpty() && nonce(address) == 0 && balance(address).signum() == 0;
+    }
+
+    /**
+     * Starts a fresh account at {@code address} for CREATE: nonce 1, storage reading as zero.
+     * Any balance already sent to the address is kept.
+     */
+    void createAccount(final Address address) {
+        final Local local = local(address);
+        final boolean wasCreated = local.created;
+        final Map<Word, Word> previousStorage = local.storage;
+        local.created = true;
+        local.storage = new HashMap<>();
+        journal.add(() -> {
+            local.created = wasCreated;
+            local.storage = previousStorage;
+        });
+        setNonce(address, 1);
+    }
+
+    boolean isCreated(final Address address) {
+        final Local local = locals.get(address);
+        return local != null && local.created;
+    }
+
+    // ==================== Storage ====================
+
+    Word storage(final Address address, final Word slot) {
+        final Local local = locals.get(address);
+        if (local != null) {
+            final Word value = local.storage.get(slot);
+            if (value != null) {
+                return value;
+            }
+        }
+        return original(address, slot, local);
+    }
+
+    /** Value of the slot before this execution began, as EIP-2200 gas pricing requires. */
+    Word originalStorage(final Address address, final Word slot) {
+        return original(address, slot, locals.get(address));
+    }
+
+    void setStorage(final Address address, final Word slot, final Word value) {
+        final Local local = local(address);
+        final Map<Word, Word> storage = local.storage;
+        final Word previous = storage.put(slot, value);
+        journal.add(() -> {
+            if (previous == null) {
+                storage.remove(slot);
+            } else {
+                storage.put(slot, previous);
+            }
+        });
+    }
+
+    Word transientStorage(final Address address, final Word slot) {
+        return transientStorage.getOrDefault(new SlotKey(address, slot), Word.ZERO);
+    }
+
+    void setTransientStorage(final Address address, final Word slot, final Word value) {
+        final SlotKey key = new SlotKey(address, slot);
+        final Word previous = transientStorage.put(key, value);
+        journal.add(() -> {
+            if (previous == null) {
+                transientStorage.remove(key);
+            } else {
+                transientStorage.put(key, previous);
+            }
+        });
+    }
+
+    private Word original(final Address address, final Word slot, final Local local) {
+        if (local != null && local.created) {
+            return Word.ZERO;
+        }
+        final Overlay overlay = overrides.get(address);
+        if (overlay != null && overlay.storage != null) {
+            final Word value = overlay.storage.get(slot);
+            if (value != null) {
+                return value;
+            }
+        }
+        return base.storage(address, slot);
+    }
+
+    // ==================== Access lists (EIP-2929) ====================
+
+    /** Marks {@code address} warm, returning whether it was cold before. */
+    boolean warm(final Address address) {
+        if (warmAddresses.add(address)) {
+            journal.add(() -> warmAddresses.remove(address));
+            return true;
+        }
+        return false;
+    }
+
+    /** Marks a storage slot warm, returning whether it was cold before. */
+    boolean warm(final Address address, final Word slot) {
+        final SlotKey key = new SlotKey(address, slot);
+        if (warmSlots.add(key)) {
+            journal.add(() -> warmSlots.remove(key));
+            return true;
+        }
+        return false;
+    }
+
+    // ==================== Block data and logs ====================
+
+    Word blockHash(final long number) {
+        return base.blockHash(number);
+    }
+
+    void log(final ExecutionResult.Log log) {
+        logs.add(log);
+        journal.add(() -> logs.remove(logs.size() - 1));
+    }
+
+    List<ExecutionResult.Log> logs() {
+        return logs;
+    }
+
+    /** Adds {@code delta}, which may be negative, to the gas refund counter. */
+    void refund(final long delta) {
+        refund += delta;
+        journal.add(() -> refund -= delta);
+    }
+
+    /** Gas refund accumulated by the frames that have not been reverted. */
+    long refund() {
+        return refund;
+    }
+
+    private Local local(final Address address) {
+        return locals.computeIfAbsent(address, a -> new Local());
+    }
+
+    /** Values written by this execution; {@code null} or {@code -1} means "read below". */
+    private static final class Local {
+        BigInteger balance;
+        long nonce = -1;
+        Code code;
+        boolean created;
+        Map<Word, Word> storage = new HashMap<>();
+    }
+
+    /** An {@link AccountOverride} converted to the interpreter's representation. */
+    private static final class Overlay {
+        final BigInteger balance;
+        final long nonce;
+        final Code code;
+        final Map<Word, Word> storage;
+
+        Overlay(final AccountOverride override) {
+            this.balance = override.balance() != null ? override.balance().value() : null;
+            this.nonce = override.nonce() != null ? override.nonce() : -1;
+            final HexData code = override.code();
+            this.code = code != null ? Code.of(code.toBytes()) : null;
+            final Map<Hash, Hash> diff = override.stateDiff();
+            if (diff != null) {
+                this.storage = new HashMap<>(diff.size() * 2);
+                diff.forEach((slot, value) -> storage.put(Word.of(slot), Word.of(value)));
+            } else {
+                this.storage = null;
+            }
+        }
+    }
+
+    private record SlotKey(Address address, Word slot) {
+    }
+}
@@ -0,0 +1,385 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.crypto.PrivateKey;
+import sh.brane.core.crypto.Sha256;
+import sh.brane.core.crypto.Signature;
+import sh.brane.core.error.RevertException;
+import sh.brane.core.error.RpcException;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+import sh.brane.primitives.Hex;
+import sh.brane.rpc.CallRequest;
+
+class InterpreterTest {
+
+    private static final Address CONTRACT = new Address("0x" + "c0".repeat(20));
+    private static final Address CALLEE = new Address("0x" + "ca".repeat(20));
+    private static final BlockContext BLOCK = BlockContext.of(100, 1_700_000_000L, 1);
+    private static final BigInteger TWO_256 = BigInteger.ONE.shiftLeft(256);
+    private static final BigInteger MAX = TWO_256.subtract(BigInteger.ONE);
+
+    /** MSTORE the top of stack at 0 and return those 32 bytes. */
+    private static final String RETURN_TOP = "6000 52 6020 6000 f3";
+
+    private static final List<BigInteger> OPERANDS = operands();
+
+    @ParameterizedTest
+    @ValueSource(ints = {0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x0A, 0x0B, 0x10, 0x11, 0x12, 0x13, 0x14, 0x16,
+            0x17, 0x18, 0x1A, 0x1B, 0x1C, 0x1D})
+    void binaryOpcodesMatchReference(final int op) {
+        for (final BigInteger a : OPERANDS) {
+            for (final BigInteger b : OPERANDS) {
+                final String code = "7f" + word(b) + "7f" + word(a) + String.format("%02x", op) + RETURN_TOP;
+                assertEquals(reference(op, a, b), run(code),
+                        () -> "op 0x" + Integer.toHexString(op) + " a=" + a.toString(16) + " b=" + b.toString(16));
+            }
+        }
+    }
+
+    @Test
+    void modularOpcodesUseFullPrecision() {
+        final BigInteger modulus = BigInteger.valueOf(1_000_000_007);
+        for (final BigInteger a : OPERANDS) {
+            final String operands = "7f" + word(modulus) + "7f" + word(MAX) + "7f" + word(a);
+            assertEquals(a.add(MAX).mod(modulus), run(operands + "08" + RETURN_TOP));
+            assertEquals(a.multiply(MAX).mod(modulus), run(operands + "09" + RETURN_TOP));
+        }
+        assertEquals(BigInteger.ZERO, run("6000 6005 6007 08" + RETURN_TOP));
+    }
+
+    @Test
+    void unaryOpcodes() {
+        assertEquals(BigInteger.ONE, run("6000 15" + RETURN_TOP));
+        assertEquals(BigInteger.ZERO, run("6007 15" + RETURN_TOP));
+        assertEquals(MAX.subtract(BigInteger.valueOf(7)), run("6007 19" + RETURN_TOP));
+    }
+
+    @Test
+    void stackAndMemoryOpcodes() {
+        // PUSH1 1, PUSH1 2, SWAP1, SUB -> 1 - 2 wraps
+        assertEquals(MAX, run("6001 6002 90 03" + RETURN_TOP));
+        // PUSH1 3, DUP1, ADD
+        assertEquals(BigInteger.valueOf(6), run("6003 80 01" + RETURN_TOP));
+        // MSTORE8 0xff at 31, MLOAD 0
+        assertEquals(BigInteger.valueOf(0xff), run("60ff 601f 53 6000 51" + RETURN_TOP));
+        // MSTORE at 32 grows memory to 64 bytes
+        assertEquals(BigInteger.valueOf(64), run("6001 6020 52 59" + RETURN_TOP));
+        // MCOPY 32 bytes from 0 to 32
+        assertEquals(BigInteger.valueOf(9), run("6009 6000 52 6020 6000 6020 5e 6020 51" + RETURN_TOP));
+        // PUSH0, and a truncated PUSH2 at the end of code reads zero padding
+        assertEquals(BigInteger.ZERO, run("5f" + RETURN_TOP));
+        assertArrayEquals(new byte[0], call("61ff").toBytes());
+    }
+
+    @Test
+    void keccakAndEnvironment() {
+        assertEquals(new BigInteger(1, Keccak256.hash(new byte[0])), run("6000 6000 20" + RETURN_TOP));
+        assertEquals(Word.of(CONTRACT).toBigInteger(), run("30" + RETURN_TOP));
+        assertEquals(BigInteger.valueOf(100), run("43" + RETURN_TOP));
+        assertEquals(BigInteger.ONE, run("46" + RETURN_TOP));
+        assertEquals(BigInteger.valueOf(1_700_000_000L), run("42" + RETURN_TOP));
+        assertEquals(BigInteger.valueOf(BLOCK.gasLimit()), run("45" + RETURN_TOP));
+        // CODESIZE
+        assertEquals(BigInteger.valueOf(9), run("38" + RETURN_TOP));
+    }
+
+    @Test
+    void calldataIsZeroPadded() {
+        final LocalEvm evm = evm(new MapStateSource().code(CONTRACT, "6001 35" + RETURN_TOP));
+        final HexData out = evm.call(CallRequest.of(CONTRACT, new HexData("0x11223344")));
+        assertEquals(new BigInteger("223344" + "00".repeat(29), 16), new BigInteger(1, out.toBytes()));
+    }
+
+    @Test
+    void jumpsOnlyToJumpDest() {
+        // PUSH1 5, JUMP, INVALID, INVALID, JUMPDEST, PUSH1 7
+        assertEquals(BigInteger.valueOf(7), run("6005 56 fe fe 5b 6007" + RETURN_TOP));
+        // jump into PUSH data
+        final ExecutionResult bad = execute("6004 56 6b5b");
+        assertEquals(ExecutionResult.Status.HALTED, bad.status());
+        assertEquals("invalid jump destination", bad.error());
+    }
+
+    @Test
+    void infiniteLoopRunsOutOfGas() {
+        final LocalEvm evm = evm(new MapStateSource().code(CONTRACT, "5b 6000 56"));
+        final ExecutionResult result = evm.execute(
+                CallRequest.builder().to(CONTRACT).gas(BigInteger.valueOf(100_000)).build());
+        assertEquals(ExecutionResult.Status.HALTED, result.status());
+        assertEquals("out of gas", result.error());
+        assertEquals(100_000, result.gasUsed());
+    }
+
+    @Test
+    void stackUnderflowHalts() {
+        assertEquals("stack underflow", execute("01").error());
+    }
+
+    @Test
+    void storageWritesAreVisibleWithinCall() {
+        // SSTORE slot 1 := 5, SLOAD 1 + SLOAD 2 (read from the source)
+        final MapStateSource source = new MapStateSource()
+                .code(CONTRACT, "6005 6001 55 6001 54 6002 54 01" + RETURN_TOP)
+                .storage(CONTRACT, 2, 10);
+        assertEquals(BigInteger.valueOf(15), new BigInteger(1, evm(source).call(CallRequest.of(CONTRACT,
+                HexData.EMPTY)).toBytes()));
+    }
+
+    @Test
+    void transientStorageIsPerCall() {
+        assertEquals(BigInteger.valueOf(3), run("6003 6001 5d 6001 5c" + RETURN_TOP));
+    }
+
+    @Test
+    void sstoreGasFollowsWarmAndColdPricing() {
+        // Fresh zero slot set to non-zero: 20000 + cold 2100; two PUSH1s: 6; STOP: 0
+        final ExecutionResult result = execute("6001 6000 55 00");
+        assertEquals(21_000 + 6 + 22_100, result.gasUsed());
+    }
+
+    @Test
+    void storageRefundsAreCappedAtOneFifth() {
+        // Clearing a non-zero slot: cold 2100 + 2900, refund 4800 (under the 26006 / 5 cap)
+        final MapStateSource clearing = new MapStateSource()
+                .code(CONTRACT, "6000 6001 55 00")
+                .storage(CONTRACT, 1, 5);
+        assertEquals(21_000 + 6 + 5_000 - 4_800,
+                evm(clearing).execute(CallRequest.of(CONTRACT, HexData.EMPTY)).gasUsed());
+
+        // Setting a zero slot and restoring it: refund 19900, capped at 43212 / 5
+        final long consumed = 21_000 + 12 + 22_100 + 100;
+        assertEquals(consumed - consumed / 5, execute("6001 6000 55 6000 6000 55 00").gasUsed());
+
+        // Refunds of a reverted call are discarded
+        assertEquals(21_000 + 12 + 5_000,
+                evm(new MapStateSource().code(CONTRACT, "6000 6001 55 6000 6000 fd").storage(CONTRACT, 1, 5))
+                        .execute(CallRequest.of(CONTRACT, HexData.EMPTY)).gasUsed());
+    }
+
+    @Test
+    void revertCarriesDecodedReason() {
+        final byte[] payload = errorString("nope");
+        final String len = String.format("%04x", payload.length);
+        final String code = "61" + len + "600e 6000 39 61" + len + "6000 fd" + Hex.encode(payload).substring(2);
+        final RevertException ex = assertThrows(RevertException.class, () -> call(code));
+        assertEquals("nope", ex.revertReason());
+
+        final ExecutionResult result = execute(code);
+        assertEquals(ExecutionResult.Status.REVERTED, result.status());
+        assertArrayEquals(payload, result.output().toBytes());
+    }
+
+    @Test
+    void nestedCallReturnsData() {
+        final MapStateSource source = new MapStateSource()
+                .code(CALLEE, "602a" + RETURN_TOP)
+                .code(CONTRACT, callCallee("6020", "6000") + "50 6020 6000 f3");
+        assertEquals(BigInteger.valueOf(42), result(evm(source).call(CallRequest.of(CONTRACT, HexData.EMPTY))));
+    }
+
+    @Test
+    void revertedSubcallRollsBackItsWrites() {
+        // Callee increments slot 0 and reverts when given calldata, otherwise returns the new value
+        final String callee = "6000 54 6001 01 80 6000 55 36 6016 57" + RETURN_TOP + "5b 6000 6000 fd";
+        final String caller = callCallee("6000", "6001") + "50" + callCallee("6020", "6000") + "50 6020 6000 f3";
+        final MapStateSource source = new MapStateSource().code(CALLEE, callee).code(CONTRACT, caller);
+        assertEquals(BigInteger.ONE, result(evm(source).call(CallRequest.of(CONTRACT, HexData.EMPTY))));
+    }
+
+    @Test
+    void staticCallCannotWrite() {
+        // STATICCALL the callee, which tries to SSTORE; return the success flag
+        final MapStateSource source = new MapStateSource()
+                .code(CALLEE, "6001 6000 55 00")
+                .code(CONTRACT, "6000 6000 6000 6000 73" + CALLEE.value().substring(2) + "5a fa" + RETURN_TOP);
+        assertEquals(BigInteger.ZERO, result(evm(source).call(CallRequest.of(CONTRACT, HexData.EMPTY))));
+    }
+
+    @Test
+    void createDeploysCallableContract() {
+        // Initcode returns the 10-byte runtime "return 42"
+        final String runtime = "602a" + RETURN_TOP.replace(" ", "");
+        final String initcode = "69" + runtime + "6000 52 600a 6016 f3";
+        // CODECOPY initcode, CREATE, CALL the new contract, return its output
+        final String code = "6013 6020 6000 39 6013 6000 6000 f0"
+                + "6020 6000 6000 6000 6000 85 5a f1" + "6020 6000 f3" + initcode;
+        assertEquals(BigInteger.valueOf(42), run(code));
+    }
+
+    @Test
+    void logsAreCollectedOnSuccessOnly() {
+        // LOG1 with topic 7 and 32 bytes of data, then STOP or REVERT
+        final ExecutionResult ok = execute("6005 6000 52 6007 6020 6000 a1 00");
+        assertEquals(1, ok.logs().size());
+        assertEquals(CONTRACT, ok.logs().get(0).address());
+        assertEquals(BigInteger.valueOf(7), new BigInteger(1, ok.logs().get(0).topics().get(0).toBytes()));
+        assertEquals(BigInteger.valueOf(5), new BigInteger(1, ok.logs().get(0).data().toBytes()));
+
+        assertTrue(execute("6007 6000 6000 a1 6000 6000 fd").logs().isEmpty());
+    }
+
+    @Test
+    void precompilesRunLocally() {
+        final LocalEvm evm = evm(new MapStateSource());
+        final byte[] abc = "abc".getBytes();
+        assertArrayEquals(Sha256.hash(abc), evm.call(CallRequest.of(Precompiles.address(2), HexData.fromBytes(abc)))
+                .toBytes());
+        assertArrayEquals(abc, evm.call(CallRequest.of(Precompiles.address(4), HexData.fromBytes(abc))).toBytes());
+
+        // 3^5 mod 7 = 5
+        final byte[] modexp = new byte[99];
+        modexp[31] = 1;
+        modexp[63] = 1;
+        modexp[95] = 1;
+        modexp[96] = 3;
+        modexp[97] = 5;
+        modexp[98] = 7;
+        assertArrayEquals(new byte[] {5},
+                evm.call(CallRequest.of(Precompiles.address(5), HexData.fromBytes(modexp))).toBytes());
+
+        final PrivateKey key = PrivateKey.fromHex("0x" + "11".repeat(32));
+        final byte[] hash = Keccak256.hash(abc);
+        final Signature sig = key.sign(hash);
+        final byte[] input = new byte[128];
+        System.arraycopy(hash, 0, input, 0, 32);
+        input[63] = (byte) (27 + sig.v());
+        System.arraycopy(sig.r(), 0, input, 64, 32);
+        System.arraycopy(sig.s(), 0, input, 96, 32);
+        assertEquals(Word.of(key.toAddress()).toBigInteger(),
+                result(evm.call(CallRequest.of(Precompiles.address(1), HexData.fromBytes(input)))));
+    }
+
+    @Test
+    void unsupportedPrecompileEndsExecution() {
+        // The contract calls the pairing precompile; nothing after the CALL may run
+        final MapStateSource source = new MapStateSource()
+                .code(CONTRACT, "6000 6000 6000 6000 6000 6008 5a f1" + RETURN_TOP);
+        final ExecutionResult result = evm(source).execute(CallRequest.of(CONTRACT, HexData.EMPTY));
+        assertEquals(ExecutionResult.Status.UNSUPPORTED, result.status());
+        assertEquals("precompile 0x8 is not supported locally", result.error());
+
+        // Without a node to fall back to, call() reports it
+        final LocalEvm evm = evm(new MapStateSource());
+        final RpcException ex = assertThrows(RpcException.class,
+                () -> evm.call(CallRequest.of(Precompiles.address(8), HexData.EMPTY)));
+        assertTrue(ex.getMessage().contains("no node to fall back to"), ex.getMessage());
+    }
+
+    // ==================== Helpers ====================
+
+    private static LocalEvm evm(final MapStateSource source) {
+        return LocalEvm.of(source, BLOCK);
+    }
+
+    private static HexData call(final String code) {
+        return evm(new MapStateSource().code(CONTRACT, code)).call(CallRequest.of(CONTRACT, HexData.EMPTY));
+    }
+
+    private static ExecutionResult execute(final String code) {
+        return evm(new MapStateSource().code(CONTRACT, code)).execute(CallRequest.of(CONTRACT, HexData.EMPTY));
+    }
+
+    private static BigInteger run(final String code) {
+        return result(call(code));
+    }
+
+    private static BigInteger result(final HexData output) {
+        return new BigInteger(1, output.toBytes());
+    }
+
+    /** CALL the callee with all gas, the given return size and argument size, zero offsets. */
+    private static String callCallee(final String returnSize, final String argsSize) {
+        return returnSize + "6000" + argsSize + "6000 6000 73" + CALLEE.value().substring(2) + "5a f1";
+    }
+
+    private static String word(final BigInteger value) {
+        return String.format("%64s", value.toString(16)).replace(' ', '0');
+    }
+
+    private static byte[] errorString(final String reason) {
+        final byte[] text = reason.getBytes();
+        final byte[] out = new byte[4 + 32 + 32 + 32];
+        System.arraycopy(Hex.decode("08c379a0"), 0, out, 0, 4);
+        out[4 + 31] = 0x20;
+        out[4 + 63] = (byte) text.length;
+        System.arraycopy(text, 0, out, 4 + 64, text.length);
+        return out;
+    }
+
+    private static BigInteger signed(final BigInteger value) {
+        return value.testBit(255) ? value.subtract(TWO_256) : value;
+    }
+
+    private static BigInteger reference(final int op, final BigInteger a, final BigInteger b) {
+        final BigInteger result = switch (op) {
+            case 0x01 -> a.add(b);
+            case 0x02 -> a.multiply(b);
+            case 0x03 -> a.subtract(b);
+            case 0x04 -> b.signum() == 0 ? BigInteger.ZERO : a.divide(b);
+            case 0x05 -> b.signum() == 0 ? BigInteger.ZERO : signed(a).divide(signed(b));
+            case 0x06 -> b.signum() == 0 ? BigInteger.ZERO : a.mod(b);
+            case 0x07 -> b.signum() == 0 ? BigInteger.ZERO : signed(a).remainder(signed(b));
+            case 0x0A -> a.modPow(b, TWO_256);
+            case 0x0B -> {
+                if (a.compareTo(BigInteger.valueOf(31)) >= 0) {
+                    yield b;
+                }
+                final int bits = (a.intValue() + 1) * 8;
+                final BigInteger low = b.mod(BigInteger.ONE.shiftLeft(bits));
+                yield low.testBit(bits - 1) ? low.subtract(BigInteger.ONE.shiftLeft(bits)) : low;
+            }
+            case 0x10 -> bool(a.compareTo(b) < 0);
+            case 0x11 -> bool(a.compareTo(b) > 0);
+            case 0x12 -> bool(signed(a).compareTo(signed(b)) < 0);
+            case 0x13 -> bool(signed(a).compareTo(signed(b)) > 0);
+            case 0x14 -> bool(a.equals(b));
+            case 0x16 -> a.and(b);
+            case 0x17 -> a.or(b);
+            case 0x18 -> a.xor(b);
+            case 0x1A -> a.compareTo(BigInteger.valueOf(32)) >= 0 ? BigInteger.ZERO
+                    : b.shiftRight(8 * (31 - a.intValue())).and(BigInteger.valueOf(0xFF));
+            case 0x1B -> a.compareTo(BigInteger.valueOf(256)) >= 0 ? BigInteger.ZERO : b.shiftLeft(a.intValue());
+            case 0x1C -> a.compareTo(BigInteger.valueOf(256)) >= 0 ? BigInteger.ZERO : b.shiftRight(a.intValue());
+            case 0x1D -> signed(b).shiftRight(a.min(BigInteger.valueOf(256)).intValue());
+            default -> throw new IllegalArgumentException("op " + op);
+        };
+        return result.mod(TWO_256);
+    }
+
+    private static BigInteger bool(final boolean value) {
+        return value ? BigInteger.ONE : BigInteger.ZERO;
+    }
+
+    private static List<BigInteger> operands() {
+        final List<BigInteger> values = new ArrayList<>();
+        for (final long v : new long[] {0, 1, 2, 7, 31, 32, 255, 256}) {
+            values.add(BigInteger.valueOf(v));
+        }
+        values.add(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE));
+        values.add(BigInteger.ONE.shiftLeft(64));
+        values.add(BigInteger.ONE.shiftLeft(128).add(BigInteger.valueOf(7)));
+        values.add(BigInteger.ONE.shiftLeft(255));
+        values.add(BigInteger.ONE.shiftLeft(255).subtract(BigInteger.ONE));
+        values.add(MAX);
+        values.add(MAX.subtract(BigInteger.valueOf(4)));
+        final Random random = new Random(42);
+        for (int i = 0; i < 5; i++) {
+            values.add(new BigInteger(256, random));
+            values.add(new BigInteger(1 + random.nextInt(200), random));
+        }
+        return values;
+    }
+}
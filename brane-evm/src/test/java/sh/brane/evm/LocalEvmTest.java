@@ -0,0 +1,217 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.Wei;
+import sh.brane.rpc.AccountOverride;
+import sh.brane.rpc.BlockTag;
+import sh.brane.rpc.Brane;
+import sh.brane.rpc.BraneProvider;
+import sh.brane.rpc.CallRequest;
+import sh.brane.rpc.JsonRpcResponse;
+
+class LocalEvmTest {
+
+    private static final Address CONTRACT = new Address("0x" + "c0".repeat(20));
+    private static final Address SENDER = new Address("0x" + "5e".repeat(20));
+    private static final BlockContext BLOCK = BlockContext.of(100, 1_700_000_000L, 1);
+
+    /** Returns SLOAD(0) + SLOAD(1) + BALANCE(CALLER). */
+    private static final String SUM_STATE = "6000 54 6001 54 01 33 31 01 6000 52 6020 6000 f3";
+
+    /** Increments slot 0 and returns the new value. */
+    private static final String COUNTER = "6000 54 6001 01 80 6000 55 6000 52 6020 6000 f3";
+
+    @Test
+    void repeatedCallsAreServedFromCache() {
+        final MapStateSource source = new MapStateSource()
+                .code(CONTRACT, SUM_STATE)
+                .storage(CONTRACT, 0, 3)
+                .storage(CONTRACT, 1, 4)
+                .balance(SENDER, BigInteger.TEN);
+        final LocalEvm evm = LocalEvm.of(source, BLOCK);
+        final CallRequest request = CallRequest.builder().from(SENDER).to(CONTRACT).build();
+
+        assertEquals(BigInteger.valueOf(17), result(evm.call(request)));
+        final int reads = source.reads.get();
+        assertEquals(reads, evm.stateReads());
+
+        assertEquals(BigInteger.valueOf(17), result(evm.call(request)));
+        assertEquals(reads, source.reads.get());
+    }
+
+    @Test
+    void writesAreDiscardedBetweenCalls() {
+        final LocalEvm evm = LocalEvm.of(new MapStateSource().code(CONTRACT, COUNTER).storage(CONTRACT, 0, 41), BLOCK);
+        assertEquals(BigInteger.valueOf(42), result(evm.call(CallRequest.of(CONTRACT, HexData.EMPTY))));
+        assertEquals(BigInteger.valueOf(42), result(evm.call(CallRequest.of(CONTRACT, HexData.EMPTY))));
+    }
+
+    @Test
+    void overridesReplaceCodeBalanceAndStorage() {
+        final MapStateSource source = new MapStateSource()
+                .code(CONTRACT, COUNTER)
+                .storage(CONTRACT, 0, 3)
+                .storage(CONTRACT, 1, 4);
+        final LocalEvm evm = LocalEvm.of(source, BLOCK);
+        final CallRequest request = CallRequest.builder().from(SENDER).to(CONTRACT).build();
+
+        final AccountOverride contract = AccountOverride.builder()
+                .code(new HexData("0x" + SUM_STATE.replace(" ", "")))
+                .stateDiff(Map.of(slot(1), slot(10)))
+                .build();
+        final AccountOverride sender = AccountOverride.builder().balance(Wei.of(100)).build();
+        assertEquals(BigInteger.valueOf(113), result(evm.call(request, Map.of(CONTRACT, contract, SENDER, sender))));
+
+        // Overrides apply to one call only
+        assertEquals(BigInteger.valueOf(4), result(evm.call(request)));
+    }
+
+    @Test
+    void haltAndPreconditionFailuresThrowRpcException() {
+        final LocalEvm evm = LocalEvm.of(new MapStateSource().code(CONTRACT, "5b 6000 56"), BLOCK);
+        final RpcException halted = assertThrows(RpcException.class, () -> evm.call(CallRequest.of(CONTRACT,
+                HexData.EMPTY)));
+        assertTrue(halted.getMessage().contains("out of gas"));
+
+        final CallRequest lowGas = CallRequest.builder().to(CONTRACT).gas(BigInteger.valueOf(20_000)).build();
+        assertThrows(RpcException.class, () -> evm.execute(lowGas));
+
+        final CallRequest unfunded = CallRequest.builder().from(SENDER).to(CONTRACT).value(Wei.of(1)).build();
+        assertThrows(RpcException.class, () -> evm.execute(unfunded));
+    }
+
+    @Test
+    void valueTransferIsVisibleToCallee() {
+        // Returns SELFBALANCE
+        final MapStateSource source = new MapStateSource()
+                .code(CONTRACT, "47 6000 52 6020 6000 f3")
+                .balance(SENDER, BigInteger.valueOf(1_000))
+                .balance(CONTRACT, BigInteger.valueOf(5));
+        final LocalEvm evm = LocalEvm.of(source, BLOCK);
+        final CallRequest request = CallRequest.builder().from(SENDER).to(CONTRACT).value(Wei.of(20)).build();
+        assertEquals(BigInteger.valueOf(25), result(evm.call(request)));
+    }
+
+    @Test
+    void concurrentCallsShareCacheSafely() throws Exception {
+        final MapStateSource source = new MapStateSource().code(CONTRACT, COUNTER).storage(CONTRACT, 0, 6);
+        final LocalEvm evm = LocalEvm.of(source, BLOCK);
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<BigInteger>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(pool.submit(() -> result(evm.call(CallRequest.of(CONTRACT, HexData.EMPTY)))));
+            }
+            for (final Future<BigInteger> future : results) {
+                assertEquals(BigInteger.valueOf(7), future.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void forkPinsBlockAndReadsThroughClient() {
+        final BraneProvider provider = mock(BraneProvider.class);
+        final List<String> blockParams = new ArrayList<>();
+        when(provider.send(anyString(), any())).thenAnswer(invocation -> {
+            final String method = invocation.getArgument(0);
+            final List<?> params = invocation.getArgument(1);
+            return switch (method) {
+                case "eth_chainId" -> response("0x1");
+                case "eth_getBlockByNumber" -> response(block());
+                case "eth_getCode" -> {
+                    blockParams.add((String) params.get(1));
+                    yield response("0x600b6000526020" + "6000f3");
+                }
+                default -> {
+                    blockParams.add((String) params.get(params.size() - 1));
+                    yield response("0x0");
+                }
+            };
+        });
+        final Brane client = Brane.builder().provider(provider).buildReader();
+
+        final LocalEvm evm = LocalEvm.fork(client, BlockTag.LATEST);
+        assertEquals(0x100, evm.block().number());
+        assertEquals(1, evm.block().chainId());
+        assertEquals(BigInteger.valueOf(7), evm.block().baseFee());
+
+        assertEquals(BigInteger.valueOf(11), result(evm.call(CallRequest.of(CONTRACT, HexData.EMPTY))));
+        assertFalse(blockParams.isEmpty());
+        assertTrue(blockParams.stream().allMatch("0x100"::equals), blockParams::toString);
+    }
+
+    @Test
+    void unsupportedPrecompileFallsBackToNodeAtForkedBlock() {
+        final BraneProvider provider = mock(BraneProvider.class);
+        final List<List<?>> calls = new ArrayList<>();
+        when(provider.send(anyString(), any())).thenAnswer(invocation -> {
+            final String method = invocation.getArgument(0);
+            return switch (method) {
+                case "eth_chainId" -> response("0x1");
+                case "eth_getBlockByNumber" -> response(block());
+                case "eth_call" -> {
+                    calls.add(invocation.getArgument(1));
+                    yield response("0x" + "00".repeat(31) + "01");
+                }
+                default -> response("0x0");
+            };
+        });
+        final LocalEvm evm = LocalEvm.fork(Brane.builder().provider(provider).buildReader());
+        final CallRequest pairing = CallRequest.of(new Address("0x" + "00".repeat(19) + "08"), HexData.EMPTY);
+
+        assertEquals(ExecutionResult.Status.UNSUPPORTED, evm.execute(pairing).status());
+        assertTrue(calls.isEmpty());
+
+        assertEquals(BigInteger.ONE, result(evm.call(pairing)));
+        assertEquals(List.of(pairing.toMap(), "0x100"), calls.get(0));
+
+        // eth_call cannot carry state overrides
+        assertThrows(RpcException.class, () -> evm.call(pairing,
+                Map.of(CONTRACT, AccountOverride.builder().balance(Wei.of(1)).build())));
+    }
+
+    private static Map<String, Object> block() {
+        final Map<String, Object> block = new LinkedHashMap<>();
+        block.put("hash", "0x" + "11".repeat(32));
+        block.put("parentHash", "0x" + "22".repeat(32));
+        block.put("number", "0x100");
+        block.put("timestamp", "0x64a7b8c0");
+        block.put("baseFeePerGas", "0x7");
+        return block;
+    }
+
+    private static JsonRpcResponse response(final Object result) {
+        return new JsonRpcResponse("2.0", result, null, "1");
+    }
+
+    private static Hash slot(final long value) {
+        return Word.of(value).toHash();
+    }
+
+    private static BigInteger result(final HexData output) {
+        return new BigInteger(1, output.toBytes());
+    }
+}
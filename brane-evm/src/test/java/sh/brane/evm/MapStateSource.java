@@ -0,0 +1,70 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.evm;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+
+/** In-memory state for tests, counting how often it is queried. */
+final class MapStateSource implements StateSource {
+
+    final AtomicInteger reads = new AtomicInteger();
+
+    private final Map<Address, BigInteger> balances = new ConcurrentHashMap<>();
+    private final Map<Address, Long> nonces = new ConcurrentHashMap<>();
+    private final Map<Address, HexData> code = new ConcurrentHashMap<>();
+    private final Map<Address, Map<BigInteger, BigInteger>> storage = new ConcurrentHashMap<>();
+
+    MapStateSource balance(final Address address, final BigInteger balance) {
+        balances.put(address, balance);
+        return this;
+    }
+
+    MapStateSource code(final Address address, final String hex) {
+        code.put(address, new HexData("0x" + hex.replace(" ", "")));
+        nonces.putIfAbsent(address, 1L);
+        return this;
+    }
+
+    MapStateSource storage(final Address address, final long slot, final long value) {
+        storage.computeIfAbsent(address, a -> new ConcurrentHashMap<>())
+                .put(BigInteger.valueOf(slot), BigInteger.valueOf(value));
+        return this;
+    }
+
+    @Override
+    public BigInteger balance(final Address address) {
+        reads.incrementAndGet();
+        return balances.getOrDefault(address, BigInteger.ZERO);
+    }
+
+    @Override
+    public long nonce(final Address address) {
+        reads.incrementAndGet();
+        return nonces.getOrDefault(address, 0L);
+    }
+
+    @Override
+    public HexData code(final Address address) {
+        reads.incrementAndGet();
+        return code.getOrDefault(address, HexData.EMPTY);
+    }
+
+    @Override
+    public BigInteger storage(final Address address, final BigInteger slot) {
+        reads.incrementAndGet();
+        return storage.getOrDefault(address, Map.of()).getOrDefault(slot, BigInteger.ZERO);
+    }
+
+    @Override
+    public Hash blockHash(final long number) {
+        reads.incrementAndGet();
+        return Hash.fromBytes(Keccak256.hash(BigInteger.valueOf(number).toByteArray()));
+    }
+}
@@ -174,6 +174,51 @@ public final class CKzg implements Kzg {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each blob is copied once out of the flat buffer (or not at all for a single exact-size
+     * blob) and the same array is passed to both native calls, with the commitment handed
+     * straight to the proof computation. This avoids the two defensive {@link Blob#toBytes()}
+     * copies and the commitment round-trip of calling {@link #blobToCommitment(Blob)} and
+     * {@link #computeProof(Blob, KzgCommitment)} separately.
+     */
+    @Override
+    public void computeCommitmentsAndProofs(byte[] blobs, int count, byte[] commitments, byte[] proofs) {
+        Objects.requireNonNull(blobs, "blobs");
+        Objects.requireNonNull(commitments, "commitments");
+        Objects.requireNonNull(proofs, "proofs");
+        if (count < 0
+                || blobs.length < (long) count * Blob.SIZE
+                || commitments.length < (long) count * FixedSizeG1Point.SIZE
+                || proofs.length < (long) count * FixedSizeG1Point.SIZE) {
+            throw new IllegalArgumentException("Buffers too small for " + count + " blobs");
+        }
+
+        byte[] blob = blobs.length == Blob.SIZE ? blobs : new byte[Blob.SIZE];
+        for (int i = 0; i < count; i++) {
+            if (blob != blobs) {
+                System.arraycopy(blobs, i * Blob.SIZE, blob, 0, Blob.SIZE);
+            }
+            byte[] commitment;
+            try {
+                commitment = CKZG4844JNI.blobToKzgCommitment(blob);
+            } catch (Exception e) {
+                throw KzgException.commitmentError(
+                        "Failed to compute KZG commitment for blob " + i + ": " + e.getMessage(), e);
+            }
+            byte[] proof;
+            try {
+                proof = CKZG4844JNI.computeBlobKzgProof(blob, commitment);
+            } catch (Exception e) {
+                throw KzgException.proofError(
+                        "Failed to compute KZG proof for blob " + i + ": " + e.getMessage(), e);
+            }
+            System.arraycopy(commitment, 0, commitments, i * FixedSizeG1Point.SIZE, FixedSizeG1Point.SIZE);
+            System.arraycopy(proof, 0, proofs, i * FixedSizeG1Point.SIZE, FixedSizeG1Point.SIZE);
+        }
+    }
+
     @Override
     public boolean verifyBlobKzgProof(Blob blob, KzgCommitment commitment, KzgProof proof) {
         Objects.requireNonNull(blob, "blob");
@@ -3,6 +3,7 @@ package sh.brane.kzg;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -176,6 +177,31 @@ class CKzgTest {
 
     // Tests for loadTrustedSetup(String)
 
+    @Test
+    void computeCommitmentsAndProofsMatchesPerBlobCalls() {
+        Blob first = createValidBlob((byte) 0x11);
+        Blob second = createValidBlob((byte) 0x22);
+        byte[] flat = new byte[2 * Blob.SIZE];
+        System.arraycopy(first.toBytes(), 0, flat, 0, Blob.SIZE);
+        System.arraycopy(second.toBytes(), 0, flat, Blob.SIZE, Blob.SIZE);
+        byte[] commitments = new byte[2 * FixedSizeG1Point.SIZE];
+        byte[] proofs = new byte[2 * FixedSizeG1Point.SIZE];
+
+        kzg.computeCommitmentsAndProofs(flat, 2, commitments, proofs);
+
+        Blob[] blobs = {first, second};
+        for (int i = 0; i < blobs.length; i++) {
+            KzgCommitment commitment = kzg.blobToCommitment(blobs[i]);
+            KzgProof proof = kzg.computeProof(blobs[i], commitment);
+            assertArrayEquals(commitment.toBytes(), Arrays.copyOfRange(
+                    commitments, i * FixedSizeG1Point.SIZE, (i + 1) * FixedSizeG1Point.SIZE));
+            assertArrayEquals(proof.toBytes(), Arrays.copyOfRange(
+                    proofs, i * FixedSizeG1Point.SIZE, (i + 1) * FixedSizeG1Point.SIZE));
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> kzg.computeCommitmentsAndProofs(flat, 3, commitments, proofs));
+    }
+
     @Test
     void loadTrustedSetupThrowsOnNullPath() {
         assertThrows(NullPointerException.class, () -> CKzg.loadTrustedSetup(null));
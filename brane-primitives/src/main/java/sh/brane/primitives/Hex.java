@@ -1,28 +1,45 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.primitives;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * Utility methods for hex encoding/decoding with optional {@code 0x} prefixes.
  *
+ * <p><b>Performance:</b> byte-oriented conversions ({@link #encode(byte[])} and friends,
+ * {@link #encodeAsciiTo(byte[], int, int, byte[], int, boolean)} and
+ * {@link #decodeAsciiTo(byte[], int, int, byte[], int)}) use SWAR (SIMD-within-a-register)
+ * kernels that convert 8 ASCII hex characters per 64-bit word, validation included.
+ * Character input is decoded through a char-indexed lookup table, which measured faster
+ * than packing chars into words. Inputs shorter than 16 bytes, or all inputs when
+ * {@code -Dsh.brane.hex.swar=false} is set, use the scalar loops; both paths produce
+ * identical results and reject the same inputs.
+ *
  * @since 1.0
  */
 public final class Hex {
     private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
-    private static final int[] NIBBLE_LOOKUP = new int[128];
+
+    /**
+     * Nibble values indexed by any {@code char}, {@code -1} for non-hex characters.
+     * Covering the full char range lets the JIT drop both the range check and the
+     * array bounds check, leaving one load per character (64 KiB, of which only
+     * two cache lines are ever touched).
+     */
+    private static final byte[] NIBBLES = new byte[Character.MAX_VALUE + 1];
 
     static {
-        Arrays.fill(NIBBLE_LOOKUP, -1);
+        Arrays.fill(NIBBLES, (byte) -1);
 
         for (int i = 0; i <= 9; i++) {
-            NIBBLE_LOOKUP['0' + i] = i;
+            NIBBLES['0' + i] = (byte) i;
         }
 
         for (int i = 0; i < 6; i++) {
-            NIBBLE_LOOKUP['a' + i] = 10 + i;
-            NIBBLE_LOOKUP['A' + i] = 10 + i;
+            NIBBLES['a' + i] = (byte) (10 + i);
+            NIBBLES['A' + i] = (byte) (10 + i);
         }
     }
 
@@ -60,12 +77,9 @@ public final class Hex {
         final int len = hexLength / 2;
         final byte[] result = new byte[len];
 
-        for (int i = 0; i < len; i++) {
-            final int high = toNibble(hexString.charAt(start + i * 2), hexString);
-            final int low = toNibble(hexString.charAt(start + i * 2 + 1), hexString);
-            result[i] = (byte) ((high << 4) | low);
+        if (!decodeChars(hexString, start, result, 0, len)) {
+            throw new IllegalArgumentException("invalid hex character in: " + hexString);
         }
-
         return result;
     }
 
@@ -103,6 +117,9 @@ public final class Hex {
         if (bytes == null) {
             throw new IllegalArgumentException("bytes cannot be null");
         }
+        if (HexSwar.ENABLED && bytes.length >= HexSwar.MIN_BYTES) {
+            return encodeAscii(bytes, 0, bytes.length, true);
+        }
 
         final char[] chars = new char[2 + bytes.length * 2];
         chars[0] = '0';
@@ -130,6 +147,9 @@ public final class Hex {
      */
     public static String encode(final byte[] bytes, final int offset, final int length) {
         validateSubarray(bytes, offset, length);
+        if (HexSwar.ENABLED && length >= HexSwar.MIN_BYTES) {
+            return encodeAscii(bytes, offset, length, true);
+        }
 
         final char[] chars = new char[2 + length * 2];
         chars[0] = '0';
@@ -157,6 +177,9 @@ public final class Hex {
      */
     public static String encodeNoPrefix(final byte[] bytes, final int offset, final int length) {
         validateSubarray(bytes, offset, length);
+        if (HexSwar.ENABLED && length >= HexSwar.MIN_BYTES) {
+            return encodeAscii(bytes, offset, length, false);
+        }
 
         final char[] chars = new char[length * 2];
         for (int i = 0; i < length; i++) {
@@ -178,6 +201,9 @@ public final class Hex {
         if (bytes == null) {
             throw new IllegalArgumentException("bytes cannot be null");
         }
+        if (HexSwar.ENABLED && bytes.length >= HexSwar.MIN_BYTES) {
+            return encodeAscii(bytes, 0, bytes.length, false);
+        }
 
         final char[] chars = new char[bytes.length * 2];
         for (int i = 0; i < bytes.length; i++) {
@@ -263,29 +289,29 @@ public final class Hex {
                     "destination buffer too small: need " + bytesToWrite + " bytes but only " + (dest.length - destOffset) + " available");
         }
 
-        // Decode hex pairs into bytes
-        for (int i = 0; i < bytesToWrite; i++) {
-            final char highChar = hex.charAt(start + i * 2);
-            final char lowChar = hex.charAt(start + i * 2 + 1);
-
-            final int high = toNibbleFromChar(highChar);
-            final int low = toNibbleFromChar(lowChar);
-
-            if (high == -1 || low == -1) {
-                throw new IllegalArgumentException("invalid hex character in input");
-            }
-
-            dest[destOffset + i] = (byte) ((high << 4) | low);
+        if (!decodeChars(hex, start, dest, destOffset, bytesToWrite)) {
+            throw new IllegalArgumentException("invalid hex character in input");
         }
-
         return bytesToWrite;
     }
 
-    private static int toNibbleFromChar(final char c) {
-        if (c >= NIBBLE_LOOKUP.length) {
-            return -1;
+    /**
+     * Decodes hex pairs with a single table load per character and one combined
+     * validity check per output byte.
+     *
+     * @return {@code false} if any character is not a hex digit
+     */
+    private static boolean decodeChars(
+            final CharSequence hex, final int start, final byte[] dest, final int destOffset, final int count) {
+        for (int i = 0; i < count; i++) {
+            final int high = NIBBLES[hex.charAt(start + i * 2)];
+            final int low = NIBBLES[hex.charAt(start + i * 2 + 1)];
+            if ((high | low) < 0) {
+                return false;
+            }
+            dest[destOffset + i] = (byte) ((high << 4) | low);
         }
-        return NIBBLE_LOOKUP[c];
+        return true;
     }
 
     /**
@@ -333,6 +359,115 @@ public final class Hex {
         return charsNeeded;
     }
 
+    /**
+     * Write lowercase ASCII hex characters for a sub-range of bytes into a pre-allocated
+     * byte buffer.
+     *
+     * <p>This is the byte-oriented counterpart of {@link #encodeTo(byte[], char[], int, boolean)}
+     * for callers that serialize directly into network or JSON output buffers.
+     *
+     * <p><b>Allocation:</b> 0 allocations. Writes directly to the provided buffer.
+     *
+     * @param bytes      the source byte array
+     * @param offset     the starting offset in the source array
+     * @param length     the number of bytes to encode
+     * @param dest       the destination byte array (receives ASCII characters)
+     * @param destOffset the offset in the destination array to start writing
+     * @param withPrefix if {@code true}, write {@code 0x} prefix before hex characters
+     * @return the number of bytes written
+     * @throws IllegalArgumentException  if {@code bytes} or {@code dest} is {@code null},
+     *                                   or if the destination buffer is too small
+     * @throws IndexOutOfBoundsException if offset/length are out of bounds
+     * @since 0.3.0
+     */
+    public static int encodeAsciiTo(
+            final byte[] bytes,
+            final int offset,
+            final int length,
+            final byte[] dest,
+            final int destOffset,
+            final boolean withPrefix) {
+        validateSubarray(bytes, offset, length);
+        if (dest == null) {
+            throw new IllegalArgumentException("dest cannot be null");
+        }
+
+        final int prefixLen = withPrefix ? 2 : 0;
+        final int charsNeeded = prefixLen + length * 2;
+        if (destOffset < 0 || dest.length - destOffset < charsNeeded) {
+            throw new IllegalArgumentException(
+                    "destination buffer too small: need " + charsNeeded + " bytes but only "
+                            + (dest.length - destOffset) + " available");
+        }
+
+        int pos = destOffset;
+        if (withPrefix) {
+            dest[pos++] = '0';
+            dest[pos++] = 'x';
+        }
+        HexSwar.encode(bytes, offset, length, dest, pos);
+        return charsNeeded;
+    }
+
+    /**
+     * Decode ASCII hex characters held in a byte array directly into a pre-allocated byte array.
+     *
+     * <p>This is the byte-oriented counterpart of
+     * {@link #decodeTo(CharSequence, int, int, byte[], int)} for input that is already
+     * available as raw bytes (e.g. a JSON or network buffer), avoiding a {@link String}.
+     * A {@code 0x} prefix at the start of the region is skipped.
+     *
+     * <p><b>Allocation:</b> 0 allocations. Writes directly to the provided buffer.
+     *
+     * @param hex        the ASCII hex bytes
+     * @param hexOffset  the starting offset in {@code hex}
+     * @param hexLength  the number of characters to decode
+     * @param dest       the destination byte array
+     * @param destOffset the offset in the destination array to start writing
+     * @return the number of bytes written to the destination array
+     * @throws IllegalArgumentException  if {@code hex} or {@code dest} is {@code null},
+     *                                   if the character count is odd,
+     *                                   if the destination buffer is too small,
+     *                                   or if the input contains invalid hex characters
+     * @throws IndexOutOfBoundsException if the input region is out of bounds
+     * @since 0.3.0
+     */
+    public static int decodeAsciiTo(
+            final byte[] hex,
+            final int hexOffset,
+            final int hexLength,
+            final byte[] dest,
+            final int destOffset) {
+        if (hex == null) {
+            throw new IllegalArgumentException("hex cannot be null");
+        }
+        if (dest == null) {
+            throw new IllegalArgumentException("dest cannot be null");
+        }
+        Objects.checkFromIndexSize(hexOffset, hexLength, hex.length);
+
+        int start = hexOffset;
+        int len = hexLength;
+        if (len >= 2 && hex[start] == '0' && (hex[start + 1] == 'x' || hex[start + 1] == 'X')) {
+            start += 2;
+            len -= 2;
+        }
+        if ((len & 1) == 1) {
+            throw new IllegalArgumentException("hex string must have even length: " + len);
+        }
+
+        final int bytesToWrite = len / 2;
+        if (destOffset < 0 || dest.length - destOffset < bytesToWrite) {
+            throw new IllegalArgumentException(
+                    "destination buffer too small: need " + bytesToWrite + " bytes but only "
+                            + (dest.length - destOffset) + " available");
+        }
+        if (!HexSwar.decode(hex, start, dest, destOffset, bytesToWrite)) {
+            throw new IllegalArgumentException("invalid hex character in input");
+        }
+        return bytesToWrite;
+    }
+
     /**
      * Remove a {@code 0x} prefix from the given string if present.
      *
@@ -388,11 +523,19 @@ public final class Hex {
                 "unsupported input type: " + input.getClass().getName() + ", expected String or byte[]");
     }
 
-    private static int toNibble(final char c, final String originalInput) {
-        if (c >= NIBBLE_LOOKUP.length || NIBBLE_LOOKUP[c] == -1) {
-            throw new IllegalArgumentException("invalid hex character in: " + originalInput);
+    /**
+     * Encodes via an ASCII byte buffer; for a compact (Latin-1) String this is a single
+     * array copy, and it halves the transient allocation compared to a char[].
+     */
+    private static String encodeAscii(final byte[] bytes, final int offset, final int length, final boolean withPrefix) {
+        final int prefixLen = withPrefix ? 2 : 0;
+        final byte[] ascii = new byte[prefixLen + length * 2];
+        if (withPrefix) {
+            ascii[0] = '0';
+            ascii[1] = 'x';
         }
-        return NIBBLE_LOOKUP[c];
+        HexSwar.encode(bytes, offset, length, ascii, prefixLen);
+        return new String(ascii, StandardCharsets.ISO_8859_1);
     }
 
     private static void validateSubarray(final byte[] bytes, final int offset, final int length) {
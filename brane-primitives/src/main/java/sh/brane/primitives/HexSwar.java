@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.primitives;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * SWAR (SIMD-within-a-register) hex kernels used by {@link Hex} for byte-oriented input and output.
+ *
+ * <p>Each step converts 8 ASCII hex characters to 4 bytes (or 4 bytes to 8 characters)
+ * using 64-bit arithmetic on packed 8-bit lanes instead of per-character table
+ * lookups and branches. Validation is done on the whole word at once: a word is
+ * accepted only if every lane is {@code [0-9a-fA-F]}.
+ *
+ * <p>Lanes are little-endian: the first character of a group lives in bits 0-7.
+ * All lane arithmetic is arranged so that no lane ever carries into its neighbour.
+ *
+ * <p>Callers are responsible for bounds checks; these methods assume valid indices.
+ */
+final class HexSwar {
+
+    /** Set {@code -Dsh.brane.hex.swar=false} to force the scalar implementation. */
+    static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("sh.brane.hex.swar"));
+
+    /** Inputs shorter than this (in decoded bytes) use the scalar path. */
+    static final int MIN_BYTES = 16;
+
+    private static final VarHandle LONG_LE =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_LE =
+            MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_NIBBLES = 0x0F0F0F0F0F0F0F0FL;
+
+    /** Returned by {@link #decodeWord(long)} for invalid input; valid results fit in 32 bits. */
+    private static final long INVALID = -1L;
+
+    private HexSwar() {
+    }
+
+    /**
+     * Decodes {@code byteCount} bytes from ASCII hex bytes starting at {@code hexStart}.
+     *
+     * @return {@code true} if all characters were valid hex
+     */
+    static boolean decode(byte[] hex, int hexStart, byte[] dest, int destOffset, int byteCount) {
+        int i = 0;
+        int pos = hexStart;
+        final int wordLimit = ENABLED && byteCount >= MIN_BYTES ? byteCount : 0;
+        for (; i + 4 <= wordLimit; i += 4, pos += 8) {
+            long word = (long) LONG_LE.get(hex, pos);
+            if ((word & HIGH_BITS) != 0) {
+                return false;
+            }
+            long packed = decodeWord(word);
+            if (packed == INVALID) {
+                return false;
+            }
+            INT_LE.set(dest, destOffset + i, (int) packed);
+        }
+        for (; i < byteCount; i++, pos += 2) {
+            int high = nibble(hex[pos] & 0xFF);
+            int low = nibble(hex[pos + 1] & 0xFF);
+            if ((high | low) < 0) {
+                return false;
+            }
+            dest[destOffset + i] = (byte) ((high << 4) | low);
+        }
+        return true;
+    }
+
+    /**
+     * Decodes 8 ASCII hex characters (lanes must have their high bit clear) into 4 bytes.
+     *
+     * @return the 4 decoded bytes packed little-endian in the low 32 bits, or {@link #INVALID}
+     */
+    private static long decodeWord(long word) {
+        // For lanes x < 0x80, x + (0x80 - lo) sets the lane high bit iff x >= lo.
+        long digit = ge(word, 0x30) & ~ge(word, 0x3A);
+        long lower = word | 0x2020202020202020L;
+        long alpha = ge(lower, 0x61) & ~ge(lower, 0x67);
+        if (((digit | alpha) & HIGH_BITS) != HIGH_BITS) {
+            return INVALID;
+        }
+        // '0'-'9' -> low nibble; 'a'-'f'/'A'-'F' -> low nibble + 9
+        long nibbles = (word & LOW_NIBBLES) + ((alpha & HIGH_BITS) >>> 7) * 9;
+        // Lane 2k gets (n[2k] << 4) | n[2k+1]
+        long pairs = ((nibbles << 4) | (nibbles >>> 8)) & 0x00FF00FF00FF00FFL;
+        pairs = (pairs | (pairs >>> 8)) & 0x0000FFFF0000FFFFL;
+        return (pairs | (pairs >>> 16)) & 0xFFFFFFFFL;
+    }
+
+    /** Per-lane {@code x >= lo} for lanes below 0x80; result in each lane's high bit. */
+    private static long ge(long word, int lo) {
+        return word + (0x80 - lo) * ONES;
+    }
+
+    private static int nibble(int c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        int l = c | 0x20;
+        if (l >= 'a' && l <= 'f') {
+            return l - 'a' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Encodes {@code length} bytes as lowercase ASCII hex into {@code dest}.
+     */
+    static void encode(byte[] bytes, int offset, int length, byte[] dest, int destOffset) {
+        int i = 0;
+        int pos = destOffset;
+        final int wordLimit = ENABLED && length >= MIN_BYTES ? length : 0;
+        for (; i + 4 <= wordLimit; i += 4, pos += 8) {
+            LONG_LE.set(dest, pos, encodeWord((int) INT_LE.get(bytes, offset + i)));
+        }
+        for (; i < length; i++, pos += 2) {
+            int v = bytes[offset + i] & 0xFF;
+            dest[pos] = (byte) asciiNibble(v >>> 4);
+            dest[pos + 1] = (byte) asciiNibble(v & 0x0F);
+        }
+    }
+
+    /**
+     * Encodes 4 bytes (packed little-endian) into 8 lowercase ASCII hex characters.
+     */
+    private static long encodeWord(int value) {
+        // Spread byte k into lane 2k
+        long spread = value & 0xFFFFFFFFL;
+        spread = (spread | (spread << 16)) & 0x0000FFFF0000FFFFL;
+        spread = (spread | (spread << 8)) & 0x00FF00FF00FF00FFL;
+        // High nibble stays in lane 2k, low nibble moves to lane 2k+1
+        long nibbles = ((spread >>> 4) & 0x000F000F000F000FL) | ((spread & 0x000F000F000F000FL) << 8);
+        // Lanes >= 10 get +0x27 so that 10 -> 'a' (0x30 + 10 + 0x27 = 0x61)
+        long letters = ((nibbles + 0x0606060606060606L) >>> 4) & ONES;
+        return nibbles + 0x3030303030303030L + letters * 0x27;
+    }
+
+    private static int asciiNibble(int n) {
+        return n < 10 ? '0' + n : 'a' + n - 10;
+    }
+}
@@ -210,8 +210,7 @@ public final class Rlp {
             final byte[] data, final int offset, final int length, final int headerSize) {
 
         final int start = offset + headerSize;
-        checkBounds(data, start, length, String.format("string (prefix=0x%02X, length=%d)",
-                data[offset] & 0xFF, length));
+        checkBounds(data, start, length, "string (prefix=0x%02X, length=%d)", data[offset] & 0xFF, length);
 
         final byte[] value = new byte[length];
         System.arraycopy(data, start, value, 0, length);
@@ -227,7 +226,7 @@ public final class Rlp {
 
         final int lengthStart = offset + 1;
         checkBounds(data, lengthStart, lengthOfLength,
-                String.format("long string length field (prefix=0x%02X)", data[offset] & 0xFF));
+                "long string length field (prefix=0x%02X)", data[offset] & 0xFF, lengthOfLength);
 
         final int length = readLength(data, lengthStart, lengthOfLength);
 
@@ -239,7 +238,7 @@ public final class Rlp {
 
         final int valueStart = lengthStart + lengthOfLength;
         checkBounds(data, valueStart, length,
-                String.format("long string payload (prefix=0x%02X, length=%d)", data[offset] & 0xFF, length));
+                "long string payload (prefix=0x%02X, length=%d)", data[offset] & 0xFF, length);
 
         final byte[] value = new byte[length];
         System.arraycopy(data, valueStart, value, 0, length);
@@ -254,8 +253,7 @@ public final class Rlp {
             final byte[] data, final int offset, final int length, final int headerSize) {
 
         final int start = offset + headerSize;
-        checkBounds(data, start, length,
-                String.format("list (prefix=0x%02X, length=%d)", data[offset] & 0xFF, length));
+        checkBounds(data, start, length, "list (prefix=0x%02X, length=%d)", data[offset] & 0xFF, length);
 
         // Improved capacity estimation: assume average item is ~3 bytes (typical case: 1-byte header + 2-byte payload).
         // Note: very small values (0-127) in RLP are encoded as a single byte with no header, so the actual average may be lower.
@@ -288,7 +286,7 @@ public final class Rlp {
 
         final int lengthStart = offset + 1;
         checkBounds(data, lengthStart, lengthOfLength,
-                String.format("long list length field (prefix=0x%02X)", data[offset] & 0xFF));
+                "long list length field (prefix=0x%02X)", data[offset] & 0xFF, lengthOfLength);
 
         final int length = readLength(data, lengthStart, lengthOfLength);
 
@@ -382,18 +380,23 @@ public final class Rlp {
     /**
      * Validates that the data buffer has sufficient bytes available from the given offset.
      * Throws a descriptive exception if bounds are exceeded.
+     * The context is only formatted on failure, keeping the success path free of string building.
      *
      * @param data the data buffer
      * @param offset the current offset
      * @param required the number of bytes required
-     * @param context descriptive context for the error message
+     * @param contextFormat format for descriptive context, given {@code prefix} and {@code length}
+     * @param prefix the item's prefix byte
+     * @param length the item's declared length
      */
     private static void checkBounds(
-            final byte[] data, final int offset, final int required, final String context) {
+            final byte[] data, final int offset, final int required,
+            final String contextFormat, final int prefix, final int length) {
         if (required < 0 || offset < 0 || offset > data.length - required) {
             throw new IllegalArgumentException(
                     String.format("invalid RLP %s: offset=%d, required=%d, available=%d",
-                            context, offset, required, Math.max(0, data.length - offset)));
+                            String.format(contextFormat, prefix, length),
+                            offset, required, Math.max(0, data.length - offset)));
         }
     }
 
@@ -0,0 +1,510 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.primitives.rlp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Zero-copy, cursor-based RLP decoder over an existing byte array.
+ *
+ * <p>Where {@link Rlp#decode(byte[])} materializes every field as an {@link RlpString} or
+ * {@link RlpList} and copies each string's bytes, this reader walks the encoding in place.
+ * Items are consumed in order; nested lists are entered and exited explicitly, and string
+ * payloads are exposed as offsets into the original array or read directly as primitives.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * // [nonce, gasPrice, gasLimit, to, value, data, v, r, s]
+ * RlpReader reader = RlpReader.of(rawTx);
+ * reader.enterList();
+ * long nonce = reader.readLong();
+ * BigInteger gasPrice = reader.readBigInteger();
+ * long gasLimit = reader.readLong();
+ * reader.skip();                             // to
+ * BigInteger value = reader.readBigInteger();
+ * int dataLength = reader.readString();       // data, not copied:
+ * int dataOffset = reader.payloadOffset();    //   reader.array()[dataOffset ..]
+ * ...
+ * reader.exitList();
+ * }</pre>
+ *
+ * <p>After every {@code read*}, {@link #skip()} or {@link #enterList()} call, {@link #itemOffset()},
+ * {@link #itemLength()}, {@link #payloadOffset()} and {@link #payloadLength()} describe the
+ * item just consumed, relative to {@link #array()}. This allows hashing or slicing
+ * sub-structures (e.g. an inner signed transaction) without re-encoding.
+ *
+ * <p><b>Validation:</b> header rules match {@link Rlp#decode(byte[])}: lengths must be in bounds,
+ * long-form lengths must be minimal and free of leading zeros, and each list's children must
+ * exactly fill its payload. Integer accessors follow {@link RlpString#asLong()} and
+ * {@link RlpString#asBigInteger()}.
+ *
+ * <p><b>Allocation:</b> navigation and {@link #readLong()}/{@link #readInt()} never allocate;
+ * {@link #readSlice()} allocates only a view. The nesting stack is sized at construction and
+ * grows only for structures deeper than 8 levels.
+ *
+ * <p>Instances are not thread-safe. The underlying array is not copied, so it must not be
+ * modified while a reader is in use.
+ *
+ * @since 0.3.0
+ */
+public final class RlpReader {
+
+    private static final int SHORT_THRESHOLD = 55;
+    private static final int INITIAL_DEPTH = 8;
+
+    private final byte[] data;
+    private int position;
+    private int limit;
+
+    private int[] limits = new int[INITIAL_DEPTH];
+    private int depth;
+
+    private int itemOffset;
+    private int payloadOffset;
+    private int payloadLength;
+
+    private RlpReader(final byte[] data, final int offset, final int length) {
+        this.data = data;
+        this.position = offset;
+        this.limit = offset + length;
+        this.itemOffset = offset;
+        this.payloadOffset = offset;
+    }
+
+    /**
+     * Creates a reader over an entire array.
+     *
+     * @param encoded the RLP-encoded bytes (not copied)
+     * @return a new reader positioned at the first item
+     */
+    public static RlpReader of(final byte[] encoded) {
+        Objects.requireNonNull(encoded, "encoded cannot be null");
+        return new RlpReader(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Creates a reader over a region of an array.
+     *
+     * @param encoded the array holding RLP-encoded bytes (not copied)
+     * @param offset  start of the region
+     * @param length  length of the region
+     * @return a new reader positioned at {@code offset}
+     * @throws IndexOutOfBoundsException if the region is outside {@code encoded}
+     */
+    public static RlpReader of(final byte[] encoded, final int offset, final int length) {
+        Objects.requireNonNull(encoded, "encoded cannot be null");
+        Objects.checkFromIndexSize(offset, length, encoded.length);
+        return new RlpReader(encoded, offset, length);
+    }
+
+    /**
+     * Creates a reader over the remaining bytes of a buffer.
+     *
+     * <p>Heap buffers are read in place; offsets reported by this reader are then indices into
+     * {@code buffer.array()}. Direct and read-only buffers are copied once. The buffer's
+     * position is not changed.
+     *
+     * @param buffer the buffer holding RLP-encoded bytes
+     * @return a new reader positioned at the buffer's position
+     */
+    public static RlpReader of(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer cannot be null");
+        if (buffer.hasArray()) {
+            return new RlpReader(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        final byte[] copy = new byte[buffer.remaining()];
+        buffer.get(buffer.position(), copy);
+        return new RlpReader(copy, 0, copy.length);
+    }
+
+    // ==================== Position and last item ====================
+
+    /**
+     * Returns the array this reader walks. Offsets reported by this reader index into it.
+     *
+     * @return the underlying array (not a copy)
+     */
+    public byte[] array() {
+        return data;
+    }
+
+    /**
+     * Returns the offset of the next unread item.
+     *
+     * @return the cursor position
+     */
+    public int position() {
+        return position;
+    }
+
+    /**
+     * Returns the offset of the header of the item most recently consumed.
+     *
+     * @return the item's start offset
+     */
+    public int itemOffset() {
+        return itemOffset;
+    }
+
+    /**
+     * Returns the encoded length (header and payload) of the item most recently consumed.
+     *
+     * @return the item's total encoded length
+     */
+    public int itemLength() {
+        return payloadOffset + payloadLength - itemOffset;
+    }
+
+    /**
+     * Returns the offset of the payload of the item most recently consumed.
+     *
+     * @return the payload start offset
+     */
+    public int payloadOffset() {
+        return payloadOffset;
+    }
+
+    /**
+     * Returns the payload length of the item most recently consumed.
+     *
+     * @return the payload length in bytes
+     */
+    public int payloadLength() {
+        return payloadLength;
+    }
+
+    /**
+     * Returns the current list nesting depth ({@code 0} at the top level).
+     *
+     * @return the number of lists entered and not yet exited
+     */
+    public int depth() {
+        return depth;
+    }
+
+    // ==================== Navigation ====================
+
+    /**
+     * Returns whether the current list (or the top level) has more items.
+     *
+     * @return {@code true} if another item can be read
+     */
+    public boolean hasNext() {
+        return position < limit;
+    }
+
+    /**
+     * Returns whether the next item is a list, without consuming it.
+     *
+     * @return {@code true} for a list, {@code false} for a string
+     * @throws IllegalArgumentException if there are no more items
+     */
+    public boolean isNextList() {
+        requireNext();
+        return (data[position] & 0xFF) >= 0xC0;
+    }
+
+    /**
+     * Enters the next item, which must be a list. Subsequent reads iterate its children
+     * until {@link #exitList()}.
+     *
+     * @return the list's payload length in bytes
+     * @throws IllegalArgumentException if the next item is not a list or is malformed
+     */
+    public int enterList() {
+        if (!readHeader()) {
+            throw new IllegalArgumentException("expected RLP list at offset " + itemOffset);
+        }
+        if (depth == limits.length) {
+            limits = Arrays.copyOf(limits, depth * 2);
+        }
+        limits[depth++] = limit;
+        limit = payloadOffset + payloadLength;
+        position = payloadOffset;
+        return payloadLength;
+    }
+
+    /**
+     * Leaves the list most recently entered. All of its children must have been consumed.
+     *
+     * @throws IllegalStateException    if no list has been entered
+     * @throws IllegalArgumentException if unread children remain
+     */
+    public void exitList() {
+        if (depth == 0) {
+            throw new IllegalStateException("not inside an RLP list");
+        }
+        if (position != limit) {
+            throw new IllegalArgumentException(
+                    String.format("RLP list length mismatch: expected end=%d, actual=%d", limit, position));
+        }
+        limit = limits[--depth];
+    }
+
+    /**
+     * Consumes the next item, string or list, without interpreting it.
+     *
+     * @throws IllegalArgumentException if there are no more items or the item is malformed
+     */
+    public void skip() {
+        readHeader();
+        position = payloadOffset + payloadLength;
+    }
+
+    /**
+     * Asserts that every byte has been consumed at the top level.
+     *
+     * @throws IllegalStateException    if a list is still entered
+     * @throws IllegalArgumentException if trailing bytes remain
+     */
+    public void requireEnd() {
+        if (depth != 0) {
+            throw new IllegalStateException("RLP reader still inside " + depth + " list(s)");
+        }
+        if (position != limit) {
+            throw new IllegalArgumentException("RLP encoded data has trailing bytes");
+        }
+    }
+
+    // ==================== String accessors ====================
+
+    /**
+     * Consumes the next string item and returns its payload length; the payload is then
+     * available at {@link #payloadOffset()} in {@link #array()}.
+     *
+     * @return the string payload length
+     * @throws IllegalArgumentException if the next item is not a string or is malformed
+     */
+    public int readString() {
+        readStringItem();
+        return payloadLength;
+    }
+
+    /**
+     * Consumes the next string item as an unsigned big-endian {@code long}.
+     *
+     * @return the value ({@code 0} for the empty string)
+     * @throws IllegalArgumentException if the item is not a string, is longer than 8 bytes,
+     *                                  or exceeds {@link Long#MAX_VALUE}
+     */
+    public long readLong() {
+        readStringItem();
+        if (payloadLength > 8) {
+            throw new IllegalArgumentException(
+                    String.format("value too large for long: %d bytes, max 8", payloadLength));
+        }
+        if (payloadLength == 8 && data[payloadOffset] < 0) {
+            throw new IllegalArgumentException("value exceeds Long.MAX_VALUE, use readBigInteger() instead");
+        }
+        long result = 0L;
+        for (int i = payloadOffset, end = payloadOffset + payloadLength; i < end; i++) {
+            result = (result << 8) | (data[i] & 0xFF);
+        }
+        return result;
+    }
+
+    /**
+     * Consumes the next string item as an unsigned big-endian {@code int}.
+     *
+     * @return the value ({@code 0} for the empty string)
+     * @throws IllegalArgumentException if the value does not fit in a non-negative {@code int}
+     */
+    public int readInt() {
+        final long value = readLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("value exceeds Integer.MAX_VALUE: " + value);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Consumes the next string item as an unsigned big-endian integer.
+     *
+     * @return the value ({@link BigInteger#ZERO} for the empty string)
+     * @throws IllegalArgumentException if the next item is not a string
+     */
+    public BigInteger readBigInteger() {
+        readStringItem();
+        if (payloadLength == 0) {
+            return BigInteger.ZERO;
+        }
+        if (payloadLength < 8) {
+            long result = 0L;
+            for (int i = payloadOffset, end = payloadOffset + payloadLength; i < end; i++) {
+                result = (result << 8) | (data[i] & 0xFF);
+            }
+            return BigInteger.valueOf(result);
+        }
+        return new BigInteger(1, data, payloadOffset, payloadLength);
+    }
+
+    /**
+     * Consumes the next string item and returns a copy of its payload.
+     *
+     * @return the payload bytes
+     * @throws IllegalArgumentException if the next item is not a string
+     */
+    public byte[] readBytes() {
+        readStringItem();
+        return Arrays.copyOfRange(data, payloadOffset, payloadOffset + payloadLength);
+    }
+
+    /**
+     * Consumes the next string item, copying its payload into {@code dest}.
+     *
+     * @param dest       the destination array
+     * @param destOffset where to write the payload
+     * @return the number of bytes copied
+     * @throws IllegalArgumentException  if the next item is not a string
+     * @throws IndexOutOfBoundsException if {@code dest} is too small
+     */
+    public int readBytes(final byte[] dest, final int destOffset) {
+        readStringItem();
+        System.arraycopy(data, payloadOffset, dest, destOffset, payloadLength);
+        return payloadLength;
+    }
+
+    /**
+     * Consumes the next string item, requiring an exact payload length, and copies it into
+     * {@code dest}. Useful for fixed-width fields such as addresses and hashes.
+     *
+     * @param expectedLength the required payload length
+     * @param dest           the destination array
+     * @param destOffset     where to write the payload
+     * @throws IllegalArgumentException if the item is not a string of {@code expectedLength} bytes
+     */
+    public void readFixed(final int expectedLength, final byte[] dest, final int destOffset) {
+        readStringItem();
+        if (payloadLength != expectedLength) {
+            throw new IllegalArgumentException(
+                    String.format("expected %d-byte RLP string at offset %d, got %d bytes",
+                            expectedLength, itemOffset, payloadLength));
+        }
+        System.arraycopy(data, payloadOffset, dest, destOffset, payloadLength);
+    }
+
+    /**
+     * Consumes the next string item and returns a read-only view of its payload.
+     *
+     * @return a read-only buffer positioned over the payload (no copy)
+     * @throws IllegalArgumentException if the next item is not a string
+     */
+    public ByteBuffer readSlice() {
+        readStringItem();
+        return ByteBuffer.wrap(data, payloadOffset, payloadLength).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * Consumes the next item and materializes it as an {@link RlpItem}.
+     *
+     * <p>This copies like {@link Rlp#decode(byte[])}; use it for rarely-accessed subtrees.
+     *
+     * @return the decoded item
+     * @throws IllegalArgumentException if the item is malformed
+     */
+    public RlpItem readItem() {
+        if (!isNextList()) {
+            return new RlpString(readBytes());
+        }
+        enterList();
+        final int start = itemOffset;
+        final int listPayloadOffset = payloadOffset;
+        final int listPayloadLength = payloadLength;
+        final List<RlpItem> items = new ArrayList<>();
+        while (hasNext()) {
+            items.add(readItem());
+        }
+        exitList();
+        // Describe the list itself rather than its last child
+        itemOffset = start;
+        payloadOffset = listPayloadOffset;
+        payloadLength = listPayloadLength;
+        return new RlpList(items);
+    }
+
+    // ==================== Internals ====================
+
+    private void readStringItem() {
+        if (readHeader()) {
+            throw new IllegalArgumentException("expected RLP string at offset " + itemOffset + ", got list");
+        }
+        position = payloadOffset + payloadLength;
+    }
+
+    /**
+     * Parses the header at {@link #position} and records the item's bounds.
+     *
+     * @return {@code true} if the item is a list
+     */
+    private boolean readHeader() {
+        requireNext();
+        final int offset = position;
+        final int prefix = data[offset] & 0xFF;
+        itemOffset = offset;
+
+        final boolean list;
+        if (prefix <= 0x7F) {
+            payloadOffset = offset;
+            payloadLength = 1;
+            return false;
+        } else if (prefix <= 0xB7) {
+            payloadOffset = offset + 1;
+            payloadLength = prefix - 0x80;
+            list = false;
+        } else if (prefix <= 0xBF) {
+            readLongLength(offset, prefix - 0xB7, "string");
+            list = false;
+        } else if (prefix <= 0xF7) {
+            payloadOffset = offset + 1;
+            payloadLength = prefix - 0xC0;
+            list = true;
+        } else {
+            readLongLength(offset, prefix - 0xF7, "list");
+            list = true;
+        }
+
+        if (payloadLength > limit - payloadOffset) {
+            throw new IllegalArgumentException(String.format(
+                    "invalid RLP %s (prefix=0x%02X): offset=%d, required=%d, available=%d",
+                    list ? "list" : "string", prefix, payloadOffset, payloadLength,
+                    Math.max(0, limit - payloadOffset)));
+        }
+        return list;
+    }
+
+    private void readLongLength(final int offset, final int lengthOfLength, final String kind) {
+        final int lengthStart = offset + 1;
+        if (lengthOfLength > 4 || lengthOfLength > limit - lengthStart) {
+            throw new IllegalArgumentException(String.format(
+                    "invalid RLP long %s length field (prefix=0x%02X) at offset %d",
+                    kind, data[offset] & 0xFF, offset));
+        }
+        if (data[lengthStart] == 0) {
+            throw new IllegalArgumentException("length has leading zeros");
+        }
+        int length = 0;
+        for (int i = 0; i < lengthOfLength; i++) {
+            length = (length << 8) | (data[lengthStart + i] & 0xFF);
+        }
+        if (length < 0) {
+            throw new IllegalArgumentException("RLP length exceeds Integer.MAX_VALUE");
+        }
+        if (length <= SHORT_THRESHOLD) {
+            throw new IllegalArgumentException(String.format(
+                    "non-minimal length encoding for %s: length=%d < 56, prefix=0x%02X",
+                    kind, length, data[offset] & 0xFF));
+        }
+        payloadOffset = lengthStart + lengthOfLength;
+        payloadLength = length;
+    }
+
+    private void requireNext() {
+        if (position >= limit) {
+            throw new IllegalArgumentException("invalid RLP data: no more items at offset " + position);
+        }
+    }
+}
@@ -0,0 +1,370 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.primitives.rlp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Streaming RLP encoder that writes directly into a caller-supplied buffer.
+ *
+ * <p>Unlike {@link Rlp#encodeList(java.util.List)}, which encodes every child into its
+ * own array before concatenating, this writer follows a two-pass, size-first scheme:
+ * <ol>
+ *   <li><b>Size pass:</b> the caller computes the payload length of each list with the
+ *       static {@code sizeOf*} helpers. These are pure arithmetic and never allocate.</li>
+ *   <li><b>Write pass:</b> the caller writes the list header for the known payload length,
+ *       then each field, straight into the sink.</li>
+ * </ol>
+ *
+ * <p>Because RLP list headers depend only on payload length, an encoder that knows its
+ * field sizes up front can emit a complete structure with a single exact-size buffer (or
+ * into a reusable one) and no intermediate arrays.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * // [nonce, value]
+ * int payload = RlpWriter.sizeOfLong(nonce) + RlpWriter.sizeOfBigInteger(value);
+ * byte[] out = new byte[RlpWriter.sizeOfList(payload)];
+ * RlpWriter.to(out, 0)
+ *         .writeListHeader(payload)
+ *         .writeLong(nonce)
+ *         .writeBigInteger(value);
+ * }</pre>
+ *
+ * <p><b>Allocation:</b> writing never allocates, except {@link #writeBigInteger(BigInteger)}
+ * for values wider than 63 bits, which needs {@link BigInteger#toByteArray()}.
+ *
+ * <p>Instances are not thread-safe. The writer advances the position of the underlying
+ * {@link ByteBuffer}; writing past its limit throws {@link java.nio.BufferOverflowException}.
+ *
+ * @since 0.3.0
+ */
+public final class RlpWriter {
+
+    private static final int SHORT_THRESHOLD = 55;
+    private static final int STRING_OFFSET = 0x80;
+    private static final int LONG_STRING_OFFSET = 0xB7;
+    private static final int LIST_OFFSET = 0xC0;
+    private static final int LONG_LIST_OFFSET = 0xF7;
+
+    private final ByteBuffer out;
+
+    private RlpWriter(final ByteBuffer out) {
+        this.out = out;
+    }
+
+    /**
+     * Creates a writer that appends to {@code out} starting at its current position.
+     *
+     * @param out the destination buffer
+     * @return a new writer
+     */
+    public static RlpWriter to(final ByteBuffer out) {
+        return new RlpWriter(Objects.requireNonNull(out, "out cannot be null"));
+    }
+
+    /**
+     * Creates a writer that fills {@code dest} starting at {@code offset}.
+     *
+     * @param dest   the destination array
+     * @param offset the first index to write
+     * @return a new writer
+     * @throws IndexOutOfBoundsException if {@code offset} is outside {@code dest}
+     */
+    public static RlpWriter to(final byte[] dest, final int offset) {
+        Objects.requireNonNull(dest, "dest cannot be null");
+        Objects.checkIndex(offset, dest.length + 1);
+        return new RlpWriter(ByteBuffer.wrap(dest, offset, dest.length - offset));
+    }
+
+    /**
+     * Returns the underlying buffer, positioned after the last written byte.
+     *
+     * <p>Useful for writing a string payload from a source that can put itself into a
+     * {@link ByteBuffer} after {@link #writeStringHeader(int, int)}.
+     *
+     * @return the sink buffer
+     */
+    public ByteBuffer buffer() {
+        return out;
+    }
+
+    /**
+     * Returns the current absolute position in the underlying buffer.
+     *
+     * @return the write position
+     */
+    public int position() {
+        return out.position();
+    }
+
+    // ==================== Size pass ====================
+
+    /**
+     * Returns the size of a string or list header for a payload of the given length.
+     *
+     * @param payloadLength the payload length in bytes
+     * @return header size in bytes (1 to 5)
+     */
+    public static int sizeOfHeader(final int payloadLength) {
+        if (payloadLength < 0) {
+            throw new IllegalArgumentException("length cannot be negative");
+        }
+        return payloadLength <= SHORT_THRESHOLD ? 1 : 1 + lengthSize(payloadLength);
+    }
+
+    /**
+     * Returns the encoded size of a list whose children occupy {@code payloadLength} bytes.
+     *
+     * @param payloadLength the summed encoded size of all children
+     * @return the encoded list size
+     */
+    public static int sizeOfList(final int payloadLength) {
+        return sizeOfHeader(payloadLength) + payloadLength;
+    }
+
+    /**
+     * Returns the encoded size of a byte string.
+     *
+     * @param length    the string length
+     * @param firstByte the first byte of the string (only consulted when {@code length == 1})
+     * @return the encoded size
+     */
+    public static int sizeOfString(final int length, final int firstByte) {
+        if (length == 1 && (firstByte & 0xFF) < STRING_OFFSET) {
+            return 1;
+        }
+        return sizeOfHeader(length) + length;
+    }
+
+    /**
+     * Returns the encoded size of a byte string.
+     *
+     * @param bytes the string
+     * @return the encoded size
+     */
+    public static int sizeOfString(final byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes cannot be null");
+        return sizeOfString(bytes.length, bytes.length == 1 ? bytes[0] : 0);
+    }
+
+    /**
+     * Returns the encoded size of a non-negative integer.
+     *
+     * @param value the value
+     * @return the encoded size
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public static int sizeOfLong(final long value) {
+        if (value < 0L) {
+            throw new IllegalArgumentException("value must be non-negative");
+        }
+        if (value < STRING_OFFSET) {
+            return 1;
+        }
+        return 1 + byteSize(value);
+    }
+
+    /**
+     * Returns the encoded size of a non-negative big integer.
+     *
+     * @param value the value
+     * @return the encoded size
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public static int sizeOfBigInteger(final BigInteger value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("value must be non-negative");
+        }
+        if (value.bitLength() < Long.SIZE) {
+            return sizeOfLong(value.longValue());
+        }
+        final int length = (value.bitLength() + 7) >>> 3;
+        return sizeOfHeader(length) + length;
+    }
+
+    /**
+     * Returns the encoded size of an unsigned big-endian scalar, ignoring leading zero bytes.
+     *
+     * @param bigEndian the scalar bytes
+     * @param offset    start of the scalar
+     * @param length    number of bytes
+     * @return the encoded size
+     */
+    public static int sizeOfScalar(final byte[] bigEndian, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bigEndian.length);
+        final int start = skipLeadingZeros(bigEndian, offset, length);
+        final int significant = offset + length - start;
+        return sizeOfString(significant, significant == 1 ? bigEndian[start] : 0);
+    }
+
+    // ==================== Write pass ====================
+
+    /**
+     * Writes a single raw byte with no RLP framing (e.g. an EIP-2718 type prefix).
+     *
+     * @param b the byte
+     * @return this writer
+     */
+    public RlpWriter writeRaw(final int b) {
+        out.put((byte) b);
+        return this;
+    }
+
+    /**
+     * Writes a list header for a payload of the given length. The caller must then
+     * write exactly {@code payloadLength} bytes of children.
+     *
+     * @param payloadLength the summed encoded size of all children
+     * @return this writer
+     */
+    public RlpWriter writeListHeader(final int payloadLength) {
+        writeHeader(payloadLength, LIST_OFFSET, LONG_LIST_OFFSET);
+        return this;
+    }
+
+    /**
+     * Writes the header of a byte string. The caller must then write the
+     * {@code length} payload bytes raw (e.g. via {@link #buffer()}).
+     *
+     * <p>For a single byte below {@code 0x80} RLP has no header, so nothing is written and
+     * the byte itself is the complete encoding.
+     *
+     * @param length    the string length
+     * @param firstByte the first byte of the string (only consulted when {@code length == 1})
+     * @return this writer
+     */
+    public RlpWriter writeStringHeader(final int length, final int firstByte) {
+        if (length == 1 && (firstByte & 0xFF) < STRING_OFFSET) {
+            return this;
+        }
+        writeHeader(length, STRING_OFFSET, LONG_STRING_OFFSET);
+        return this;
+    }
+
+    /**
+     * Writes a byte string.
+     *
+     * @param bytes the string
+     * @return this writer
+     */
+    public RlpWriter writeString(final byte[] bytes) {
+        Objects.requireNonNull(bytes, "bytes cannot be null");
+        return writeString(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes a sub-range of an array as a byte string.
+     *
+     * @param bytes  the source array
+     * @param offset start of the string
+     * @param length number of bytes
+     * @return this writer
+     */
+    public RlpWriter writeString(final byte[] bytes, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        writeStringHeader(length, length == 1 ? bytes[offset] : 0);
+        out.put(bytes, offset, length);
+        return this;
+    }
+
+    /**
+     * Writes a non-negative integer as a minimal big-endian scalar.
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public RlpWriter writeLong(final long value) {
+        if (value < 0L) {
+            throw new IllegalArgumentException("value must be non-negative");
+        }
+        if (value == 0L) {
+            out.put((byte) STRING_OFFSET);
+            return this;
+        }
+        if (value < STRING_OFFSET) {
+            out.put((byte) value);
+            return this;
+        }
+        final int size = byteSize(value);
+        out.put((byte) (STRING_OFFSET + size));
+        for (int shift = (size - 1) * 8; shift >= 0; shift -= 8) {
+            out.put((byte) (value >>> shift));
+        }
+        return this;
+    }
+
+    /**
+     * Writes a non-negative big integer as a minimal big-endian scalar.
+     *
+     * @param value the value
+     * @return this writer
+     * @throws IllegalArgumentException if {@code value} is negative
+     */
+    public RlpWriter writeBigInteger(final BigInteger value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("value must be non-negative");
+        }
+        if (value.bitLength() < Long.SIZE) {
+            return writeLong(value.longValue());
+        }
+        final byte[] twosComp = value.toByteArray();
+        final int offset = twosComp[0] == 0 ? 1 : 0;
+        return writeString(twosComp, offset, twosComp.length - offset);
+    }
+
+    /**
+     * Writes an unsigned big-endian scalar, stripping leading zero bytes.
+     *
+     * <p>Used for fixed-width values such as signature {@code r}/{@code s} components,
+     * which avoids the {@link BigInteger} round trip.
+     *
+     * @param bigEndian the scalar bytes
+     * @param offset    start of the scalar
+     * @param length    number of bytes
+     * @return this writer
+     */
+    public RlpWriter writeScalar(final byte[] bigEndian, final int offset, final int length) {
+        Objects.checkFromIndexSize(offset, length, bigEndian.length);
+        final int start = skipLeadingZeros(bigEndian, offset, length);
+        return writeString(bigEndian, start, offset + length - start);
+    }
+
+    // ==================== Internals ====================
+
+    private void writeHeader(final int length, final int shortOffset, final int longOffset) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length cannot be negative");
+        }
+        if (length <= SHORT_THRESHOLD) {
+            out.put((byte) (shortOffset + length));
+            return;
+        }
+        final int size = lengthSize(length);
+        out.put((byte) (longOffset + size));
+        for (int shift = (size - 1) * 8; shift >= 0; shift -= 8) {
+            out.put((byte) (length >>> shift));
+        }
+    }
+
+    private static int skipLeadingZeros(final byte[] bytes, final int offset, final int length) {
+        int start = offset;
+        final int end = offset + length;
+        while (start < end && bytes[start] == 0) {
+            start++;
+        }
+        return start;
+    }
+
+    private static int byteSize(final long value) {
+        return (Long.SIZE - Long.numberOfLeadingZeros(value) + 7) >>> 3;
+    }
+
+    private static int lengthSize(final int value) {
+        return (Integer.SIZE - Integer.numberOfLeadingZeros(value) + 7) >>> 3;
+    }
+}
@@ -3,6 +3,11 @@ package sh.brane.primitives;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -626,4 +631,81 @@ class HexTest {
         assertEquals(4, written);
         assertArrayEquals(original, decoded);
     }
+
+    @Test
+    @DisplayName("word-at-a-time paths match reference encoding for all lengths")
+    void testLargeRoundTripMatchesReference() {
+        Random random = new Random(42);
+        for (int len = 0; len <= 300; len++) {
+            byte[] bytes = new byte[len];
+            random.nextBytes(bytes);
+            String expected = referenceHex(bytes);
+
+            assertEquals("0x" + expected, Hex.encode(bytes));
+            assertEquals(expected, Hex.encodeNoPrefix(bytes));
+            assertArrayEquals(bytes, Hex.decode("0x" + expected));
+            assertArrayEquals(bytes, Hex.decode(expected.toUpperCase(Locale.ROOT)));
+
+            byte[] ascii = new byte[2 + len * 2 + 3];
+            assertEquals(2 + len * 2, Hex.encodeAsciiTo(bytes, 0, len, ascii, 0, true));
+            assertEquals("0x" + expected, new String(ascii, 0, 2 + len * 2, StandardCharsets.US_ASCII));
+
+            byte[] decoded = new byte[len + 1];
+            assertEquals(len, Hex.decodeAsciiTo(ascii, 0, 2 + len * 2, decoded, 1));
+            assertArrayEquals(bytes, Arrays.copyOfRange(decoded, 1, len + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("invalid character is rejected at every position of a large input")
+    void testLargeDecodeRejectsInvalidCharAtEveryPosition() {
+        byte[] bytes = new byte[40];
+        Arrays.fill(bytes, (byte) 0xAB);
+        String valid = Hex.encodeNoPrefix(bytes);
+        char[] invalidChars = {'g', 'G', '/', ':', '@', '`', ' ', '\u0130', '\u0660', '\uff10'};
+        byte[] dest = new byte[bytes.length];
+        for (int pos = 0; pos < valid.length(); pos++) {
+            for (char bad : invalidChars) {
+                String hex = valid.substring(0, pos) + bad + valid.substring(pos + 1);
+                assertThrows(IllegalArgumentException.class, () -> Hex.decode(hex), hex);
+                assertThrows(IllegalArgumentException.class,
+                        () -> Hex.decodeTo(hex, 0, hex.length(), dest, 0), hex);
+                if (bad < 0x80) {
+                    byte[] ascii = hex.getBytes(StandardCharsets.ISO_8859_1);
+                    assertThrows(IllegalArgumentException.class,
+                            () -> Hex.decodeAsciiTo(ascii, 0, ascii.length, dest, 0), hex);
+                }
+            }
+            byte[] high = valid.getBytes(StandardCharsets.ISO_8859_1);
+            high[pos] = (byte) 0xB0; // '0' with the high bit set
+            assertThrows(IllegalArgumentException.class, () -> Hex.decodeAsciiTo(high, 0, high.length, dest, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("encodeAsciiTo/decodeAsciiTo validate arguments")
+    void testByteOrientedArgumentValidation() {
+        byte[] bytes = new byte[] {0x01, 0x02};
+        assertThrows(IllegalArgumentException.class, () -> Hex.encodeAsciiTo(null, 0, 0, new byte[4], 0, false));
+        assertThrows(IllegalArgumentException.class, () -> Hex.encodeAsciiTo(bytes, 0, 2, null, 0, false));
+        assertThrows(IllegalArgumentException.class, () -> Hex.encodeAsciiTo(bytes, 0, 2, new byte[5], 0, true));
+        assertThrows(IndexOutOfBoundsException.class, () -> Hex.encodeAsciiTo(bytes, 1, 2, new byte[8], 0, false));
+
+        byte[] ascii = "0x0102".getBytes(StandardCharsets.US_ASCII);
+        assertThrows(IllegalArgumentException.class, () -> Hex.decodeAsciiTo(null, 0, 0, new byte[1], 0));
+        assertThrows(IllegalArgumentException.class, () -> Hex.decodeAsciiTo(ascii, 0, ascii.length, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> Hex.decodeAsciiTo(ascii, 0, 5, new byte[2], 0));
+        assertThrows(IllegalArgumentException.class, () -> Hex.decodeAsciiTo(ascii, 0, ascii.length, new byte[1], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> Hex.decodeAsciiTo(ascii, 2, ascii.length, new byte[2], 0));
+        assertEquals(2, Hex.decodeAsciiTo(ascii, 0, ascii.length, new byte[2], 0));
+        assertEquals(0, Hex.decodeAsciiTo(ascii, 0, 2, new byte[0], 0));
+    }
+
+    private static String referenceHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
 }
@@ -0,0 +1,223 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.primitives.rlp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import sh.brane.primitives.Hex;
+
+/**
+ * Tests for {@link RlpReader}, cross-checked against {@link Rlp#decode(byte[])}.
+ */
+class RlpReaderTest {
+
+    @Nested
+    @DisplayName("Navigation")
+    class Navigation {
+
+        @Test
+        @DisplayName("nested lists are entered, iterated and exited in order")
+        void testNestedIteration() {
+            // [1, [0x80-string, []], "dog"]
+            byte[] encoded = new RlpList(List.of(
+                    RlpNumeric.encodeLongUnsignedItem(1),
+                    new RlpList(List.of(new RlpString(new byte[] {(byte) 0x80}), new RlpList(List.of()))),
+                    new RlpString("dog".getBytes()))).encode();
+
+            RlpReader reader = RlpReader.of(encoded);
+            assertTrue(reader.isNextList());
+            assertEquals(encoded.length - 1, reader.enterList());
+            assertEquals(1, reader.depth());
+            assertEquals(1L, reader.readLong());
+
+            assertTrue(reader.isNextList());
+            reader.enterList();
+            assertArrayEquals(new byte[] {(byte) 0x80}, reader.readBytes());
+            assertEquals(0, reader.enterList());
+            assertFalse(reader.hasNext());
+            reader.exitList();
+            reader.exitList();
+
+            assertEquals(3, reader.readString());
+            assertEquals("dog", new String(reader.array(), reader.payloadOffset(), reader.payloadLength()));
+            assertFalse(reader.hasNext());
+            reader.exitList();
+            reader.requireEnd();
+        }
+
+        @Test
+        @DisplayName("item and payload offsets describe the last consumed item")
+        void testOffsets() {
+            byte[] big = new byte[60];
+            byte[] encoded = new RlpList(List.of(new RlpString(big), RlpNumeric.encodeLongUnsignedItem(5))).encode();
+
+            RlpReader reader = RlpReader.of(encoded);
+            reader.enterList();
+            assertEquals(0, reader.itemOffset());
+            assertEquals(2, reader.payloadOffset());
+            assertEquals(encoded.length, reader.itemLength());
+
+            reader.skip();
+            assertEquals(2, reader.itemOffset());
+            assertEquals(4, reader.payloadOffset());
+            assertEquals(60, reader.payloadLength());
+            assertEquals(62, reader.itemLength());
+
+            assertEquals(5L, reader.readLong());
+            assertEquals(64, reader.itemOffset());
+            assertEquals(64, reader.payloadOffset());
+            assertEquals(1, reader.itemLength());
+        }
+
+        @Test
+        @DisplayName("region and heap buffer readers report absolute offsets without copying")
+        void testRegionAndBuffer() {
+            byte[] padded = new byte[] {(byte) 0xFF, (byte) 0x83, 'c', 'a', 't', (byte) 0xFF};
+
+            RlpReader region = RlpReader.of(padded, 1, 4);
+            assertEquals(3, region.readString());
+            assertEquals(2, region.payloadOffset());
+            assertSame(padded, region.array());
+            region.requireEnd();
+
+            ByteBuffer buffer = ByteBuffer.wrap(padded, 1, 4);
+            RlpReader fromBuffer = RlpReader.of(buffer);
+            assertSame(padded, fromBuffer.array());
+            assertArrayEquals("cat".getBytes(), fromBuffer.readBytes());
+            assertEquals(1, buffer.position());
+        }
+
+        @Test
+        @DisplayName("direct buffers are copied once")
+        void testDirectBuffer() {
+            ByteBuffer direct = ByteBuffer.allocateDirect(4);
+            direct.put(new byte[] {(byte) 0x83, 'c', 'a', 't'}).flip();
+            RlpReader reader = RlpReader.of(direct);
+            assertArrayEquals("cat".getBytes(), reader.readBytes());
+            assertEquals(0, direct.position());
+        }
+
+        @Test
+        @DisplayName("readItem materializes the same tree as Rlp.decode")
+        void testReadItemMatchesDecode() {
+            Random random = new Random(7);
+            List<RlpItem> children = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                byte[] value = new byte[random.nextInt(70)];
+                random.nextBytes(value);
+                children.add(i % 5 == 0 ? new RlpList(List.of(new RlpString(value))) : new RlpString(value));
+            }
+            byte[] encoded = new RlpList(children).encode();
+
+            RlpReader reader = RlpReader.of(encoded);
+            assertEquals(Rlp.decode(encoded), reader.readItem());
+            assertEquals(0, reader.itemOffset());
+            assertEquals(encoded.length, reader.itemLength());
+            reader.requireEnd();
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive accessors")
+    class Primitives {
+
+        @Test
+        @DisplayName("readLong and readBigInteger match RlpString accessors")
+        void testIntegers() {
+            long[] longs = {0L, 1L, 0x7FL, 0x80L, 0xFFFFL, 1L << 40, Long.MAX_VALUE};
+            for (long value : longs) {
+                byte[] encoded = RlpNumeric.encodeLongUnsigned(value);
+                assertEquals(value, RlpReader.of(encoded).readLong());
+                assertEquals(BigInteger.valueOf(value), RlpReader.of(encoded).readBigInteger());
+            }
+
+            BigInteger wide = BigInteger.ONE.shiftLeft(200).add(BigInteger.TEN);
+            byte[] encoded = RlpNumeric.encodeBigIntegerUnsigned(wide);
+            assertEquals(wide, RlpReader.of(encoded).readBigInteger());
+            assertThrows(IllegalArgumentException.class, () -> RlpReader.of(encoded).readLong());
+
+            byte[] overflow = RlpNumeric.encodeBigIntegerUnsigned(BigInteger.ONE.shiftLeft(63));
+            assertThrows(IllegalArgumentException.class, () -> RlpReader.of(overflow).readLong());
+            assertThrows(IllegalArgumentException.class,
+                    () -> RlpReader.of(RlpNumeric.encodeLongUnsigned(1L << 31)).readInt());
+        }
+
+        @Test
+        @DisplayName("readFixed enforces the payload length")
+        void testReadFixed() {
+            byte[] encoded = Rlp.encodeString(new byte[20]);
+            byte[] dest = new byte[22];
+            RlpReader.of(encoded).readFixed(20, dest, 2);
+            assertThrows(IllegalArgumentException.class, () -> RlpReader.of(encoded).readFixed(32, new byte[32], 0));
+        }
+
+        @Test
+        @DisplayName("readSlice is a read-only view of the payload")
+        void testReadSlice() {
+            byte[] encoded = Hex.decode("0x83646f67");
+            ByteBuffer slice = RlpReader.of(encoded).readSlice();
+            assertEquals(3, slice.remaining());
+            assertEquals('d', slice.get(0));
+            assertTrue(slice.isReadOnly());
+        }
+    }
+
+    @Nested
+    @DisplayName("Malformed input")
+    class Malformed {
+
+        @Test
+        @DisplayName("type mismatches are rejected")
+        void testTypeMismatch() {
+            assertThrows(IllegalArgumentException.class, () -> RlpReader.of(Hex.decode("0xc0")).readLong());
+            assertThrows(IllegalArgumentException.class, () -> RlpReader.of(Hex.decode("0x80")).enterList());
+        }
+
+        @Test
+        @DisplayName("truncated payloads and length fields are rejected")
+        void testTruncated() {
+            assertThrows(IllegalArgumentException.class, () -> RlpReader.of(Hex.decode("0x83646f")).skip());
+            assertThrows(IllegalArgumentException.class, () -> RlpReader.of(Hex.decode("0xb9")).skip());
+            assertThrows(IllegalArgumentException.class, () -> RlpReader.of(new byte[0]).skip());
+        }
+
+        @Test
+        @DisplayName("child overrunning its parent list is rejected")
+        void testChildOverrunsParent() {
+            // list claims 1 byte of payload but child string claims 3
+            RlpReader reader = RlpReader.of(Hex.decode("0xc183646f67"));
+            reader.enterList();
+            assertThrows(IllegalArgumentException.class, reader::skip);
+        }
+
+        @Test
+        @DisplayName("non-minimal and leading-zero lengths are rejected")
+        void testNonCanonicalLengths() {
+            assertThrows(IllegalArgumentException.class, () -> RlpReader.of(Hex.decode("0xb80100")).skip());
+            assertThrows(IllegalArgumentException.class, () -> RlpReader.of(Hex.decode("0xb90038" + "00".repeat(56))).skip());
+        }
+
+        @Test
+        @DisplayName("exitList requires all children consumed; requireEnd rejects trailing bytes")
+        void testUnconsumed() {
+            RlpReader reader = RlpReader.of(Hex.decode("0xc20102"));
+            reader.enterList();
+            reader.readLong();
+            assertThrows(IllegalArgumentException.class, reader::exitList);
+
+            RlpReader trailing = RlpReader.of(Hex.decode("0x0102"));
+            trailing.readLong();
+            assertThrows(IllegalArgumentException.class, trailing::requireEnd);
+            assertThrows(IllegalStateException.class, trailing::exitList);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.primitives.rlp;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RlpWriter}, checked byte-for-byte against {@link Rlp} and {@link RlpNumeric}.
+ */
+class RlpWriterTest {
+
+    private static final long[] LONGS = {
+        0L, 1L, 0x7FL, 0x80L, 0xFFL, 0x100L, 0xFFFFL, 0x10000L, 1L << 32, Long.MAX_VALUE
+    };
+
+    @Nested
+    @DisplayName("Scalars")
+    class Scalars {
+
+        @Test
+        @DisplayName("writeLong matches RlpNumeric and sizeOfLong")
+        void testWriteLong() {
+            for (long value : LONGS) {
+                byte[] expected = RlpNumeric.encodeLongUnsigned(value);
+                assertEquals(expected.length, RlpWriter.sizeOfLong(value), "size of " + value);
+                assertArrayEquals(expected, write(expected.length, w -> w.writeLong(value)), "value " + value);
+            }
+        }
+
+        @Test
+        @DisplayName("writeBigInteger matches RlpNumeric for small and wide values")
+        void testWriteBigInteger() {
+            List<BigInteger> values = new ArrayList<>();
+            for (long value : LONGS) {
+                values.add(BigInteger.valueOf(value));
+            }
+            values.add(BigInteger.ONE.shiftLeft(63));
+            values.add(BigInteger.ONE.shiftLeft(255).subtract(BigInteger.ONE));
+            values.add(BigInteger.ONE.shiftLeft(256).subtract(BigInteger.ONE));
+
+            for (BigInteger value : values) {
+                byte[] expected = RlpNumeric.encodeBigIntegerUnsigned(value);
+                assertEquals(expected.length, RlpWriter.sizeOfBigInteger(value), "size of " + value);
+                assertArrayEquals(expected, write(expected.length, w -> w.writeBigInteger(value)), "value " + value);
+            }
+        }
+
+        @Test
+        @DisplayName("writeScalar strips leading zeros like BigInteger encoding")
+        void testWriteScalar() {
+            byte[][] scalars = {
+                new byte[32],
+                scalar(31, 0x01),
+                scalar(31, 0x80),
+                scalar(0, 0x7F),
+                scalar(0, 0xFF),
+                scalar(16, 0x42)
+            };
+            for (byte[] scalar : scalars) {
+                byte[] expected = RlpNumeric.encodeBigIntegerUnsigned(new BigInteger(1, scalar));
+                assertEquals(expected.length, RlpWriter.sizeOfScalar(scalar, 0, scalar.length));
+                assertArrayEquals(expected, write(expected.length, w -> w.writeScalar(scalar, 0, scalar.length)));
+            }
+        }
+
+        @Test
+        @DisplayName("negative values are rejected")
+        void testNegativeRejected() {
+            RlpWriter writer = RlpWriter.to(new byte[16], 0);
+            assertThrows(IllegalArgumentException.class, () -> writer.writeLong(-1L));
+            assertThrows(IllegalArgumentException.class, () -> writer.writeBigInteger(BigInteger.valueOf(-1)));
+            assertThrows(IllegalArgumentException.class, () -> RlpWriter.sizeOfLong(-1L));
+            assertThrows(IllegalArgumentException.class, () -> RlpWriter.sizeOfBigInteger(BigInteger.valueOf(-1)));
+            assertEquals(0, writer.position());
+        }
+    }
+
+    @Nested
+    @DisplayName("Strings and lists")
+    class StringsAndLists {
+
+        @Test
+        @DisplayName("writeString matches Rlp.encodeString across header boundaries")
+        void testWriteString() {
+            Random random = new Random(42);
+            int[] lengths = {0, 1, 55, 56, 255, 256, 65535, 65536};
+            for (int length : lengths) {
+                byte[] value = new byte[length];
+                random.nextBytes(value);
+                byte[] expected = Rlp.encodeString(value);
+                assertEquals(expected.length, RlpWriter.sizeOfString(value), "size of length " + length);
+                assertArrayEquals(expected, write(expected.length, w -> w.writeString(value)), "length " + length);
+            }
+        }
+
+        @Test
+        @DisplayName("single bytes below 0x80 have no header")
+        void testSingleByte() {
+            assertArrayEquals(new byte[] {0x00}, write(1, w -> w.writeString(new byte[] {0x00})));
+            assertArrayEquals(new byte[] {0x7F}, write(1, w -> w.writeString(new byte[] {0x7F})));
+            assertArrayEquals(new byte[] {(byte) 0x81, (byte) 0x80},
+                    write(2, w -> w.writeString(new byte[] {(byte) 0x80})));
+        }
+
+        @Test
+        @DisplayName("nested list written with headers matches Rlp.encodeList")
+        void testNestedList() {
+            byte[] big = new byte[60];
+            RlpItem expectedItem = new RlpList(List.of(
+                    RlpNumeric.encodeLongUnsignedItem(1024),
+                    new RlpString(big),
+                    new RlpList(List.of(RlpNumeric.encodeLongUnsignedItem(0), new RlpString(new byte[] {0x01})))));
+            byte[] expected = expectedItem.encode();
+
+            int inner = RlpWriter.sizeOfLong(0) + RlpWriter.sizeOfString(new byte[] {0x01});
+            int payload = RlpWriter.sizeOfLong(1024) + RlpWriter.sizeOfString(big) + RlpWriter.sizeOfList(inner);
+            assertEquals(expected.length, RlpWriter.sizeOfList(payload));
+
+            byte[] actual = write(RlpWriter.sizeOfList(payload), w -> w
+                    .writeListHeader(payload)
+                    .writeLong(1024)
+                    .writeString(big)
+                    .writeListHeader(inner)
+                    .writeLong(0)
+                    .writeString(new byte[] {0x01}));
+            assertArrayEquals(expected, actual);
+        }
+
+        @Test
+        @DisplayName("long list header uses multi-byte length")
+        void testLongListHeader() {
+            assertEquals(1, RlpWriter.sizeOfHeader(55));
+            assertEquals(2, RlpWriter.sizeOfHeader(56));
+            assertEquals(3, RlpWriter.sizeOfHeader(256));
+            assertArrayEquals(new byte[] {(byte) 0xF9, 0x01, 0x00}, write(3, w -> w.writeListHeader(256)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Sinks")
+    class Sinks {
+
+        @Test
+        @DisplayName("array sink honours offset")
+        void testArrayOffset() {
+            byte[] dest = new byte[5];
+            RlpWriter writer = RlpWriter.to(dest, 2).writeLong(0x0102);
+            assertEquals(2 + 3, writer.position());
+            assertArrayEquals(new byte[] {0, 0, (byte) 0x82, 0x01, 0x02}, dest);
+        }
+
+        @Test
+        @DisplayName("buffer sink appends at current position")
+        void testBufferPosition() {
+            ByteBuffer buffer = ByteBuffer.allocate(8);
+            buffer.put((byte) 0x02);
+            RlpWriter.to(buffer).writeListHeader(1).writeLong(5);
+            assertEquals(3, buffer.position());
+            assertArrayEquals(new byte[] {0x02, (byte) 0xC1, 0x05}, Arrays.copyOf(buffer.array(), 3));
+        }
+
+        @Test
+        @DisplayName("overflowing the sink throws BufferOverflowException")
+        void testOverflow() {
+            RlpWriter writer = RlpWriter.to(new byte[2], 0);
+            assertThrows(BufferOverflowException.class, () -> writer.writeString(new byte[4]));
+        }
+
+        @Test
+        @DisplayName("offset past the end is rejected")
+        void testBadOffset() {
+            assertThrows(IndexOutOfBoundsException.class, () -> RlpWriter.to(new byte[2], 3));
+            assertEquals(2, RlpWriter.to(new byte[2], 2).position());
+        }
+    }
+
+    private static byte[] write(int length, Consumer<RlpWriter> body) {
+        byte[] out = new byte[length];
+        RlpWriter writer = RlpWriter.to(out, 0);
+        body.accept(writer);
+        assertEquals(length, writer.position(), "bytes written");
+        return out;
+    }
+
+    private static byte[] scalar(int index, int value) {
+        byte[] bytes = new byte[32];
+        bytes[index] = (byte) value;
+        return bytes;
+    }
+}
@@ -0,0 +1,416 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.BlockHeader;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+
+/**
+ * Reads native and ERC-20 balances for large address sets through Multicall3.
+ *
+ * <p>
+ * Native balances use Multicall3's own {@code getEthBalance(address)}, and token
+ * balances use {@code balanceOf(address)} on the token. Addresses are split into
+ * {@code aggregate3} requests that stay under {@link Builder#maxCalldataBytes(int)},
+ * the requests run in parallel, and every request is pinned to the same block so
+ * the result is a consistent snapshot. Calldata is written and return data is
+ * parsed directly from bytes into {@link BigInteger} arrays, without ABI
+ * objects or a {@link BatchHandle} per address.
+ *
+ * <p>
+ * <strong>Usage:</strong>
+ *
+ * <pre>{@code
+ * BalanceScanner scanner = BalanceScanner.builder(client).parallelism(8).build();
+ *
+ * // Whole snapshot
+ * BalanceScanner.Snapshot eth = scanner.nativeBalances(holders);
+ * BigInteger first = eth.balances()[0];
+ *
+ * // Streaming, pinned to an explicit block
+ * scanner.tokenBalances(usdc, holders, blockNumber, chunk -> {
+ *     for (int i = 0; i < chunk.balances().length; i++) {
+ *         store(holders.get(chunk.offset() + i), chunk.balances()[i]);
+ *     }
+ * });
+ * }</pre>
+ *
+ * <p>
+ * A balance is {@code null} if its call failed, e.g. because the token reverted
+ * or returned fewer than 32 bytes. If an {@code aggregate3} request itself fails
+ * after the client's retries, the scan stops and the exception is rethrown.
+ *
+ * <p>
+ * <strong>Thread safety:</strong> a scanner is immutable and can run concurrent
+ * scans.
+ *
+ * @since 0.3.0
+ */
+public final class BalanceScanner {
+
+    /** Default upper bound on the calldata of one {@code aggregate3} request. */
+    public static final int DEFAULT_MAX_CALLDATA_BYTES = 112_000;
+
+    /** Default number of {@code aggregate3} requests in flight at once. */
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    /** {@code getEthBalance(address)} on Multicall3. */
+    private static final byte[] GET_ETH_BALANCE = { 0x4d, 0x23, 0x01, (byte) 0xcc };
+
+    /** {@code balanceOf(address)} on ERC-20. */
+    private static final byte[] BALANCE_OF = { 0x70, (byte) 0xa0, (byte) 0x82, 0x31 };
+
+    /** {@code aggregate3((address,bool,bytes)[])}. */
+    private static final byte[] AGGREGATE3 = { (byte) 0x82, (byte) 0xad, 0x56, (byte) 0xcb };
+
+    /** Encoded size of one call: tuple offset, 3 head words, length word and 36 bytes padded to 64. */
+    private static final int BYTES_PER_CALL = 32 + 3 * 32 + 32 + 64;
+
+    /** Selector, array offset and array length. */
+    private static final int FIXED_CALLDATA_BYTES = 4 + 32 + 32;
+
+    private final Brane client;
+    private final MulticallBatch.CallExecutor executor;
+    private final int callsPerChunk;
+    private final int parallelism;
+
+    BalanceScanner(
+            final Brane client,
+            final MulticallBatch.CallExecutor executor,
+            final int maxCalldataBytes,
+            final int parallelism) {
+        this.client = client;
+        this.executor = executor;
+        this.callsPerChunk = (maxCalldataBytes - FIXED_CALLDATA_BYTES) / BYTES_PER_CALL;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates a builder for a scanner that reads through the given client.
+     *
+     * @param client the client used to send calls
+     * @return a new builder
+     */
+    public static Builder builder(final Brane client) {
+        return new Builder(Objects.requireNonNull(client, "client"));
+    }
+
+    /**
+     * Reads the native balances of {@code owners} at the latest block.
+     *
+     * @param owners the accounts to read
+     * @return the balances, index-aligned with {@code owners}
+     * @throws RpcException if a request fails
+     */
+    public Snapshot nativeBalances(final List<Address> owners) {
+        return collect(owners, resolveLatest(), null);
+    }
+
+    /**
+     * Reads the native balances of {@code owners} at {@code blockNumber}, delivering
+     * each chunk to {@code consumer} as soon as it completes.
+     *
+     * @param owners      the accounts to read
+     * @param blockNumber the block to read at
+     * @param consumer    receives chunks on the calling thread, in completion order
+     * @throws RpcException if a request fails
+     */
+    public void nativeBalances(final List<Address> owners, final long blockNumber, final Consumer<Chunk> consumer) {
+        scan(owners, blockNumber, null, consumer);
+    }
+
+    /**
+     * Reads the {@code token} balances of {@code owners} at the latest block.
+     *
+     * @param token  the ERC-20 token contract
+     * @param owners the accounts to read
+     * @return the balances, index-aligned with {@code owners}
+     * @throws RpcException if a request fails
+     */
+    public Snapshot tokenBalances(final Address token, final List<Address> owners) {
+        return collect(owners, resolveLatest(), Objects.requireNonNull(token, "token"));
+    }
+
+    /**
+     * Reads the {@code token} balances of {@code owners} at {@code blockNumber},
+     * delivering each chunk to {@code consumer} as soon as it completes.
+     *
+     * @param token       the ERC-20 token contract
+     * @param owners      the accounts to read
+     * @param blockNumber the block to read at
+     * @param consumer    receives chunks on the calling thread, in completion order
+     * @throws RpcException if a request fails
+     */
+    public void tokenBalances(
+            final Address token, final List<Address> owners, final long blockNumber, final Consumer<Chunk> consumer) {
+        scan(owners, blockNumber, Objects.requireNonNull(token, "token"), consumer);
+    }
+
+    private long resolveLatest() {
+        final BlockHeader latest = client.getLatestBlock();
+        if (latest == null) {
+            throw new RpcException(-32000, "Latest block not available", (String) null, (Throwable) null);
+        }
+        return latest.number();
+    }
+
+    private Snapshot collect(final List<Address> owners, final long blockNumber, final @Nullable Address token) {
+        final BigInteger[] balances = new BigInteger[owners.size()];
+        scan(owners, blockNumber, token, chunk ->
+                System.arraycopy(chunk.balances(), 0, balances, chunk.offset(), chunk.balances().length));
+        return new Snapshot(blockNumber, balances);
+    }
+
+    private void scan(
+            final List<Address> owners,
+            final long blockNumber,
+            final @Nullable Address token,
+            final Consumer<Chunk> consumer) {
+        Objects.requireNonNull(owners, "owners");
+        Objects.requireNonNull(consumer, "consumer");
+        if (blockNumber < 0) {
+            throw new IllegalArgumentException("blockNumber must be non-negative, got " + blockNumber);
+        }
+        final Address[] accounts = owners.toArray(Address[]::new);
+        if (accounts.length == 0) {
+            return;
+        }
+        final BlockTag block = BlockTag.of(blockNumber);
+        final int chunks = (accounts.length + callsPerChunk - 1) / callsPerChunk;
+        try (ExecutorService pool = BraneExecutors.newIoBoundExecutor()) {
+            final CompletionService<Chunk> completion = new ExecutorCompletionService<>(pool);
+            final List<Future<Chunk>> futures = new ArrayList<>(chunks);
+            int submitted = 0;
+            try {
+                for (int done = 0; done < chunks; done++) {
+                    while (submitted < chunks && submitted - done < parallelism) {
+                        final int offset = submitted * callsPerChunk;
+                        final int count = Math.min(callsPerChunk, accounts.length - offset);
+                        futures.add(completion.submit(() -> fetchChunk(accounts, offset, count, token, block)));
+                        submitted++;
+                    }
+                    consumer.accept(await(completion));
+                }
+            } finally {
+                for (final Future<Chunk> future : futures) {
+                    future.cancel(true);
+                }
+            }
+        }
+    }
+
+    private Chunk fetchChunk(
+            final Address[] accounts,
+            final int offset,
+            final int count,
+            final @Nullable Address token,
+            final BlockTag block) {
+        final byte[] calldata = encodeAggregate3(accounts, offset, count, token);
+        final HexData output = executor.call(
+                CallRequest.of(MulticallBatch.MULTICALL_ADDRESS, HexData.fromBytes(calldata)), block);
+        return new Chunk(offset, decodeBalances(output.toBytes(), count));
+    }
+
+    private static Chunk await(final CompletionService<Chunk> completion) {
+        try {
+            return completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RpcException(-32000, "Interrupted while scanning balances", (String) null, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RpcException(-32000, "Balance scan failed", (String) null, e.getCause());
+        }
+    }
+
+    /**
+     * Writes {@code aggregate3} calldata for {@code count} balance reads.
+     * Every inner call is 36 bytes, so all tuples have the same size and the
+     * layout can be computed directly.
+     */
+    static byte[] encodeAggregate3(
+            final Address[] accounts, final int offset, final int count, final @Nullable Address token) {
+        final byte[] out = new byte[FIXED_CALLDATA_BYTES + count * BYTES_PER_CALL];
+        final byte[] target = token != null ? token.toBytes() : MulticallBatch.MULTICALL_ADDRESS.toBytes();
+        final byte[] selector = token != null ? BALANCE_OF : GET_ETH_BALANCE;
+        System.arraycopy(AGGREGATE3, 0, out, 0, 4);
+        writeWord(out, 4, 32);
+        writeWord(out, 36, count);
+        final int offsets = 68;
+        final int tupleSize = BYTES_PER_CALL - 32;
+        for (int i = 0; i < count; i++) {
+            final int relative = count * 32 + i * tupleSize;
+            writeWord(out, offsets + i * 32, relative);
+            final int tuple = offsets + relative;
+            System.arraycopy(target, 0, out, tuple + 12, 20);
+            out[tuple + 63] = 1; // allowFailure
+            writeWord(out, tuple + 64, 96);
+            writeWord(out, tuple + 96, 36);
+            System.arraycopy(selector, 0, out, tuple + 128, 4);
+            System.arraycopy(accounts[offset + i].toBytes(), 0, out, tuple + 132 + 12, 20);
+        }
+        return out;
+    }
+
+    /**
+     * Parses {@code aggregate3} return data into one balance per call, or
+     * {@code null} where the call failed or returned fewer than 32 bytes.
+     */
+    static BigInteger[] decodeBalances(final byte[] data, final int expected) {
+        final int base = readOffset(data, 0) + 32;
+        final int length = readOffset(data, base - 32);
+        if (length != expected) {
+            throw new RpcException(-32000, "Multicall3 returned " + length
+                    + " results, but we sent " + expected + " calls", (String) null, (Throwable) null);
+        }
+        final BigInteger[] balances = new BigInteger[length];
+        for (int i = 0; i < length; i++) {
+            final int tuple = position(data, base, readOffset(data, base + i * 32));
+            final int bytes = position(data, tuple, readOffset(data, tuple + 32));
+            final boolean success = data[tuple + 31] != 0;
+            final int size = readOffset(data, bytes);
+            if (success && size >= 32) {
+                if (bytes + 64 > data.length) {
+                    throw malformed();
+                }
+                balances[i] = new BigInteger(1, data, bytes + 32, 32);
+            }
+        }
+        return balances;
+    }
+
+    private static void writeWord(final byte[] out, final int position, final int value) {
+        out[position + 28] = (byte) (value >>> 24);
+        out[position + 29] = (byte) (value >>> 16);
+        out[position + 30] = (byte) (value >>> 8);
+        out[position + 31] = (byte) value;
+    }
+
+    private static int readOffset(final byte[] data, final int position) {
+        if (position < 0 || position > data.length - 32) {
+            throw malformed();
+        }
+        for (int i = position; i < position + 28; i++) {
+            if (data[i] != 0) {
+                throw malformed();
+            }
+        }
+        final int value = ((data[position + 28] & 0xff) << 24)
+                | ((data[position + 29] & 0xff) << 16)
+                | ((data[position + 30] & 0xff) << 8)
+                | (data[position + 31] & 0xff);
+        if (value < 0) {
+            throw malformed();
+        }
+        return value;
+    }
+
+    /**
+     * Resolves an ABI offset relative to {@code base}, rejecting positions past the end
+     * of the data (including sums that overflow an int).
+     */
+    private static int position(final byte[] data, final int base, final int offset) {
+        final long position = (long) base + offset;
+        if (position > data.length - 32) {
+            throw malformed();
+        }
+        return (int) position;
+    }
+
+    private static RpcException malformed() {
+        return new RpcException(-32000, "Malformed Multicall3 response", (String) null, (Throwable) null);
+    }
+
+    /**
+     * Balances of a contiguous range of the scanned addresses.
+     *
+     * @param offset   index of the first address of this chunk in the scanned list
+     * @param balances the balances, {@code null} where a call failed
+     * @since 0.3.0
+     */
+    public record Chunk(int offset, BigInteger[] balances) {
+    }
+
+    /**
+     * Balances of all scanned addresses at one block.
+     *
+     * @param blockNumber the block all balances were read at
+     * @param balances    the balances, index-aligned with the scanned addresses;
+     *                    {@code null} where a call failed
+     * @since 0.3.0
+     */
+    public record Snapshot(long blockNumber, BigInteger[] balances) {
+    }
+
+    /**
+     * Builder for {@link BalanceScanner}.
+     *
+     * @since 0.3.0
+     */
+    public static final class Builder {
+        private final Brane client;
+        private int maxCalldataBytes = DEFAULT_MAX_CALLDATA_BYTES;
+        private int parallelism = DEFAULT_PARALLELISM;
+
+        private Builder(final Brane client) {
+            this.client = client;
+        }
+
+        /**
+         * Sets the calldata size limit of one {@code aggregate3} request, which
+         * determines how many addresses each request reads. The default of
+         * {@value #DEFAULT_MAX_CALLDATA_BYTES} bytes fits just under 500 addresses per request.
+         *
+         * @param maxCalldataBytes the limit in bytes, enough for at least one call
+         * @return this builder
+         */
+        public Builder maxCalldataBytes(final int maxCalldataBytes) {
+            if (maxCalldataBytes < FIXED_CALLDATA_BYTES + BYTES_PER_CALL) {
+                throw new IllegalArgumentException("maxCalldataBytes must be at least "
+                        + (FIXED_CALLDATA_BYTES + BYTES_PER_CALL) + ", got " + maxCalldataBytes);
+            }
+            this.maxCalldataBytes = maxCalldataBytes;
+            return this;
+        }
+
+        /**
+         * Sets how many {@code aggregate3} requests may be in flight at once.
+         * Defaults to {@value #DEFAULT_PARALLELISM}.
+         *
+         * @param parallelism the number of concurrent requests, must be positive
+         * @return this builder
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be positive, got " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Creates the scanner.
+         *
+         * @return a new scanner
+         */
+        public BalanceScanner build() {
+            return new BalanceScanner(client, client::call, maxCalldataBytes, parallelism);
+        }
+    }
+}
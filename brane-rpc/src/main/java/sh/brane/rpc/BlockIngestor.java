@@ -0,0 +1,190 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jspecify.annotations.Nullable;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.BlockWithReceipts;
+
+/**
+ * Pull iterator over a range of blocks with their transactions and receipts,
+ * fetching ahead of the consumer.
+ *
+ * <p>
+ * Up to {@code prefetch} blocks are fetched concurrently on virtual threads while
+ * the caller processes earlier ones, and blocks are always delivered in
+ * ascending order. Catch-up indexing therefore runs at roughly
+ * {@code prefetch} blocks per round trip instead of one round trip per
+ * transaction. Each block is fetched with
+ * {@link Brane#getBlockWithReceipts(long)}, including its retry behaviour.
+ *
+ * <p>
+ * <strong>Usage:</strong>
+ *
+ * <pre>{@code
+ * try (BlockIngestor blocks = client.ingestBlocks(19_000_000, 19_000_999, 16)) {
+ *     while (blocks.hasNext()) {
+ *         BlockWithReceipts block = blocks.next();
+ *         index(block);
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>
+ * If fetching a block fails, {@link #next()} rethrows the failure for that block
+ * and the ingestor closes itself. Closing cancels outstanding fetches.
+ *
+ * <p>
+ * <strong>Thread safety:</strong> an ingestor is meant to be consumed by a single
+ * thread; {@link #close()} may be called from any thread.
+ *
+ * @see Brane#ingestBlocks(long, long, int)
+ * @since 0.3.0
+ */
+public final class BlockIngestor implements Iterator<BlockWithReceipts>, AutoCloseable {
+
+    private final LongFunction<@Nullable BlockWithReceipts> fetcher;
+    private final long toBlock;
+    private final int prefetch;
+    private final ExecutorService executor;
+    private final ArrayDeque<Future<@Nullable BlockWithReceipts>> window;
+    private long nextToSchedule;
+    private long nextToDeliver;
+    private volatile boolean closed;
+
+    /**
+     * Creates an ingestor and immediately starts fetching the first blocks.
+     *
+     * @param fetcher   fetches one block, returning null if it does not exist
+     * @param fromBlock the first block to deliver (inclusive)
+     * @param toBlock   the last block to deliver (inclusive)
+     * @param prefetch  the maximum number of blocks fetched concurrently
+     * @throws IllegalArgumentException if the range is invalid or prefetch is not positive
+     */
+    BlockIngestor(
+            final LongFunction<@Nullable BlockWithReceipts> fetcher,
+            final long fromBlock,
+            final long toBlock,
+            final int prefetch) {
+        if (fromBlock < 0) {
+            throw new IllegalArgumentException("fromBlock must be non-negative, got " + fromBlock);
+        }
+        if (toBlock < fromBlock) {
+            throw new IllegalArgumentException("toBlock (" + toBlock + ") must be >= fromBlock (" + fromBlock + ")");
+        }
+        if (prefetch < 1) {
+            throw new IllegalArgumentException("prefetch must be positive, got " + prefetch);
+        }
+        this.fetcher = fetcher;
+        this.toBlock = toBlock;
+        this.prefetch = prefetch;
+        this.executor = BraneExecutors.newIoBoundExecutor();
+        this.window = new ArrayDeque<>(prefetch);
+        this.nextToSchedule = fromBlock;
+        this.nextToDeliver = fromBlock;
+        fill();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !closed && nextToDeliver <= toBlock;
+    }
+
+    /**
+     * Returns the next block, waiting for its fetch to finish if necessary.
+     *
+     * @return the next block in ascending order
+     * @throws NoSuchElementException if the range is exhausted or the ingestor is closed
+     * @throws RpcException           if the block could not be fetched or does not exist
+     */
+    @Override
+    public BlockWithReceipts next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        final long number = nextToDeliver;
+        final Future<@Nullable BlockWithReceipts> head = window.poll();
+        final BlockWithReceipts block;
+        try {
+            block = await(head, number);
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+        if (block == null) {
+            close();
+            throw new RpcException(-32000, "Block " + number + " not found", (String) null, (Throwable) null);
+        }
+        nextToDeliver++;
+        fill();
+        return block;
+    }
+
+    /**
+     * Returns the remaining blocks as an ordered, sequential stream. Closing the
+     * stream closes this ingestor.
+     *
+     * @return a stream of the remaining blocks
+     */
+    public Stream<BlockWithReceipts> stream() {
+        final Spliterator<BlockWithReceipts> spliterator = Spliterators.spliterator(
+                this,
+                toBlock - nextToDeliver + 1,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * Interrupts outstanding fetches and stops the ingestor. Idempotent.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        // Each fetch runs on its own virtual thread, so this interrupts every outstanding fetch
+        executor.shutdownNow();
+    }
+
+    private void fill() {
+        while (!closed && window.size() < prefetch && nextToSchedule <= toBlock) {
+            final long number = nextToSchedule;
+            try {
+                window.add(executor.submit(() -> fetcher.apply(number)));
+            } catch (RejectedExecutionException e) {
+                // Closed concurrently; hasNext() now reports false
+                return;
+            }
+            nextToSchedule++;
+        }
+    }
+
+    private static @Nullable BlockWithReceipts await(
+            final Future<@Nullable BlockWithReceipts> future, final long number) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RpcException(-32000, "Interrupted while fetching block " + number, (String) null, e);
+        } catch (CancellationException e) {
+            throw new RpcException(-32000, "Fetch of block " + number + " was cancelled", (String) null, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RpcException(-32000, "Failed to fetch block " + number, (String) null, e.getCause());
+        }
+    }
+}
@@ -4,6 +4,7 @@ package sh.brane.rpc;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
@@ -13,6 +14,7 @@ import sh.brane.core.crypto.Signer;
 import sh.brane.core.model.AccessListWithGas;
 import sh.brane.core.model.BlobTransactionRequest;
 import sh.brane.core.model.BlockHeader;
+import sh.brane.core.model.BlockWithReceipts;
 import sh.brane.core.model.LogEntry;
 import sh.brane.core.model.Transaction;
 import sh.brane.core.model.TransactionReceipt;
@@ -21,6 +23,7 @@ import sh.brane.core.types.Address;
 import sh.brane.core.types.Hash;
 import sh.brane.core.types.HexData;
 import sh.brane.core.types.Wei;
+import sh.brane.trie.AccountProof;
 
 /**
  * Unified entry point for interacting with Ethereum/EVM blockchains.
@@ -291,6 +294,73 @@ public sealed interface Brane extends AutoCloseable permits Brane.Reader, Brane.
      */
     HexData getStorageAt(Address address, BigInteger slot);
 
+    /**
+     * Retrieves the balance of an account at a given block.
+     *
+     * @param address  the account address
+     * @param blockTag the block whose state is read
+     * @return the balance in Wei
+     * @since 0.3.0
+     */
+    BigInteger getBalance(Address address, BlockTag blockTag);
+
+    /**
+     * Retrieves the number of transactions sent from an account at a given block, which is
+     * its nonce.
+     *
+     * @param address  the account address
+     * @param blockTag the block whose state is read
+     * @return the account nonce
+     * @since 0.3.0
+     */
+    long getTransactionCount(Address address, BlockTag blockTag);
+
+    /**
+     * Retrieves the bytecode at an address at a given block.
+     *
+     * @param address  the address to query
+     * @param blockTag the block whose state is read
+     * @return the bytecode at the address, or empty hex data if none
+     * @since 0.3.0
+     */
+    HexData getCode(Address address, BlockTag blockTag);
+
+    /**
+     * Retrieves the value stored at a storage slot of an address at a given block.
+     *
+     * @param address  the contract address to query
+     * @param slot     the storage slot position
+     * @param blockTag the block whose state is read
+     * @return the 32-byte value at the storage slot
+     * @since 0.3.0
+     */
+    HexData getStorageAt(Address address, BigInteger slot, BlockTag blockTag);
+
+    /**
+     * Fetches an account and some of its storage slots with {@code eth_getProof} (EIP-1186)
+     * and verifies the returned Merkle-Patricia proofs against the block's state root.
+     *
+     * <p>The block header is resolved first and the proof is requested by block hash, so
+     * both refer to the same state even if the chain reorganizes in between. The result is
+     * as trustworthy as the header: a node cannot misreport the balance, nonce, code hash
+     * or slot values without failing verification.
+     *
+     * <p><strong>Example:</strong>
+     * <pre>{@code
+     * AccountProof proof = client.getProof(token, List.of(BigInteger.ZERO), BlockTag.FINALIZED);
+     * BigInteger slot0 = proof.storageProof().get(0).value();
+     * }</pre>
+     *
+     * @param address  the account to prove
+     * @param slots    the storage slots to prove, possibly empty
+     * @param blockTag the block whose state is proven
+     * @return the verified account and storage proofs
+     * @throws sh.brane.core.error.InvalidProofException if a proof does not verify
+     * @throws sh.brane.core.error.RpcException if the block is not found or the request fails
+     * @since 0.3.0
+     */
+    AccountProof getProof(Address address, List<BigInteger> slots, BlockTag blockTag);
+
     /**
      * Retrieves the latest block header.
      *
@@ -299,6 +369,21 @@ public sealed interface Brane extends AutoCloseable permits Brane.Reader, Brane.
      */
     @Nullable BlockHeader getLatestBlock();
 
+    /**
+     * Retrieves the block header for a block tag such as {@link BlockTag#SAFE} or
+     * {@link BlockTag#FINALIZED}.
+     *
+     * <p>
+     * While a {@link HeadTracker} is running for this client, {@code latest},
+     * {@code safe} and {@code finalized} are served from its in-memory heads
+     * without a network call.
+     *
+     * @param tag the block tag
+     * @return the block header, or {@code null} if not found
+     * @since 0.3.0
+     */
+    @Nullable BlockHeader getBlock(BlockTag tag);
+
     /**
      * Retrieves a block header by its number.
      *
@@ -326,6 +411,50 @@ public sealed interface Brane extends AutoCloseable permits Brane.Reader, Brane.
      */
     @Nullable TransactionReceipt getTransactionReceipt(Hash hash);
 
+    /**
+     * Retrieves a block with its full transactions and all of their receipts.
+     *
+     * <p>The block is fetched with its transactions in one request. Receipts come from
+     * {@code eth_getBlockReceipts} when the node supports it; otherwise they are fetched
+     * with JSON-RPC batches of {@code eth_getTransactionReceipt} through
+     * {@link BraneProvider#sendBatch(List)}. Either way a block costs a couple of round
+     * trips rather than one per transaction.
+     *
+     * <p>If the receipts returned do not belong to the block fetched, because the chain
+     * reorganized in between, the block is fetched again.
+     *
+     * @param blockNumber the block number
+     * @return the block with its transactions and receipts, or {@code null} if not found
+     * @throws sh.brane.core.error.RpcException if the receipts could not be fetched, or
+     *         kept changing under a reorganizing chain
+     * @since 0.3.0
+     */
+    @Nullable BlockWithReceipts getBlockWithReceipts(long blockNumber);
+
+    /**
+     * Iterates over a range of blocks with their transactions and receipts, fetching up
+     * to {@code prefetch} blocks ahead of the consumer.
+     *
+     * <p>Blocks are delivered in ascending order through a pull iterator, while later
+     * blocks are fetched concurrently with {@link #getBlockWithReceipts(long)}. This is
+     * intended for catch-up indexing; the range should not extend past the chain head.
+     *
+     * <p><strong>Example:</strong>
+     * <pre>{@code
+     * try (BlockIngestor blocks = client.ingestBlocks(from, to, 16)) {
+     *     blocks.forEachRemaining(indexer::index);
+     * }
+     * }</pre>
+     *
+     * @param fromBlock the first block number (inclusive)
+     * @param toBlock   the last block number (inclusive)
+     * @param prefetch  the maximum number of blocks fetched concurrently
+     * @return an ingestor that must be closed when no longer needed
+     * @throws IllegalArgumentException if the range is invalid or {@code prefetch} is not positive
+     * @since 0.3.0
+     */
+    BlockIngestor ingestBlocks(long fromBlock, long toBlock, int prefetch);
+
     /**
      * Executes a read-only call on the blockchain at the latest block.
      *
@@ -357,6 +486,42 @@ public sealed interface Brane extends AutoCloseable permits Brane.Reader, Brane.
      */
     HexData call(CallRequest request, BlockTag blockTag);
 
+    /**
+     * Executes a read-only call at the latest block without blocking.
+     *
+     * <p>This is a convenience method equivalent to calling
+     * {@code callAsync(request, BlockTag.LATEST)}.
+     *
+     * @param request the type-safe call request
+     * @return a future completed with the raw return value
+     * @since 0.3.0
+     */
+    CompletableFuture<HexData> callAsync(CallRequest request);
+
+    /**
+     * Executes a read-only call at the specified block without blocking.
+     *
+     * <p>Transient failures are retried like {@link #call(CallRequest, BlockTag)}, but the
+     * backoff between attempts is scheduled on a timer, so a call waiting to be retried holds
+     * no thread. Over a {@link WebSocketProvider} the request itself is sent without blocking
+     * either; other providers run each attempt on a virtual thread.
+     *
+     * <p><strong>Example:</strong>
+     * <pre>{@code
+     * CompletableFuture<HexData> balance = client.callAsync(balanceOfCall, BlockTag.LATEST);
+     * CompletableFuture<HexData> supply = client.callAsync(totalSupplyCall, BlockTag.LATEST);
+     * CompletableFuture.allOf(balance, supply).join();
+     * }</pre>
+     *
+     * @param request  the type-safe call request
+     * @param blockTag the block tag (e.g., BlockTag.LATEST, BlockTag.PENDING)
+     * @return a future completed with the raw return value, or exceptionally with the
+     *         exception {@link #call(CallRequest, BlockTag)} would throw
+     * @throws IllegalStateException if the client has been closed
+     * @since 0.3.0
+     */
+    CompletableFuture<HexData> callAsync(CallRequest request, BlockTag blockTag);
+
     /**
      * Retrieves logs matching the given filter.
      *
@@ -955,6 +1120,48 @@ public sealed interface Brane extends AutoCloseable permits Brane.Reader, Brane.
          */
         Hash sendTransaction(TransactionRequest request);
 
+        /**
+         * Submits a batch of transactions, blocking until every transaction has been broadcast
+         * or has failed.
+         *
+         * <p>This is the bulk form of {@link #sendTransaction}, with the per-transaction round
+         * trips replaced by shared ones:
+         * <ol>
+         *   <li>Missing gas limits are estimated in one JSON-RPC batch, and the base fee and gas
+         *       price are fetched at most once for the whole batch</li>
+         *   <li>Requests without a nonce get consecutive nonces, starting from the sender's
+         *       pending transaction count, in list order</li>
+         *   <li>Transactions are signed in parallel across the available cores</li>
+         *   <li>The raw transactions are broadcast in order with
+         *       {@link BraneProvider#sendBatch}, a single HTTP batch or pipelined WebSocket
+         *       requests. Broadcast batches are not retried, since a batch that failed in
+         *       transit may already have reached the node.</li>
+         * </ol>
+         *
+         * <p>Failures are reported per transaction in the returned list instead of being thrown.
+         * A transaction whose gas estimate, build or signing fails does not keep a nonce, so it
+         * does not leave a gap. A transaction the node rejects at broadcast has already used its nonce, and the
+         * later transactions from the same sender stay pending until that nonce is filled.
+         *
+         * <p><strong>Example:</strong>
+         * <pre>{@code
+         * List<TransactionSubmission> results = signer.sendTransactions(List.of(payA, payB, payC));
+         * for (TransactionSubmission result : results) {
+         *     if (!result.isSuccess()) {
+         *         log.warn("Transfer failed", result.error());
+         *     }
+         * }
+         * }</pre>
+         *
+         * @param requests the transaction requests, in nonce order
+         * @return one result per request, in request order
+         * @throws sh.brane.core.error.RpcException if the chain ID, fee inputs or a sender's
+         *                                          nonce cannot be fetched, in which case nothing
+         *                                          is broadcast
+         * @since 0.3.0
+         */
+        List<TransactionSubmission> sendTransactions(List<TransactionRequest> requests);
+
         /** Default timeout for waiting for transaction confirmation: 60 seconds. */
         long DEFAULT_TIMEOUT_MILLIS = 60_000;
 
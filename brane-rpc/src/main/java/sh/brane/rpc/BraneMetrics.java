@@ -22,9 +22,23 @@ import java.time.Duration;
  * }</pre>
  *
  * <p>
+ * For a built-in, allocation-free implementation with per-method latency
+ * histograms, see {@link MetricsRecorder}.
+ *
+ * <p>
+ * <strong>Request lifecycle:</strong> providers call
+ * {@link #onRequestStarted(String)} once per request, followed by exactly one of
+ * {@link #onRequestCompleted(String, long)}, {@link #onRequestFailed(String, Throwable)}
+ * or {@link #onRequestTimeout(String, long)}. A request is <em>completed</em> when
+ * a JSON-RPC response is received, even if that response carries a JSON-RPC error;
+ * it <em>fails</em> when no response could be obtained (transport, HTTP status or
+ * parse errors).
+ *
+ * <p>
  * <strong>Thread Safety:</strong> Implementations must be thread-safe as
  * methods
- * may be called from multiple threads concurrently.
+ * may be called from multiple threads concurrently. Callbacks run on I/O
+ * threads and must not block.
  *
  * @since 0.2.0
  */
@@ -47,6 +61,23 @@ public interface BraneMetrics {
     default void onRequestCompleted(String method, Duration latency) {
     }
 
+    /**
+     * Called when a request completes successfully, with the latency in nanoseconds.
+     *
+     * <p>
+     * Providers call this variant so that the success path does not allocate a
+     * {@link Duration}. The default implementation delegates to
+     * {@link #onRequestCompleted(String, Duration)}, so existing implementations
+     * keep working unchanged.
+     *
+     * @param method       the JSON-RPC method name
+     * @param latencyNanos the request latency in nanoseconds
+     * @since 0.3.0
+     */
+    default void onRequestCompleted(String method, long latencyNanos) {
+        onRequestCompleted(method, Duration.ofNanos(latencyNanos));
+    }
+
     /**
      * Called when a request times out.
      *
@@ -70,6 +101,59 @@ public interface BraneMetrics {
     default void onRequestFailed(String method, Throwable error) {
     }
 
+    /**
+     * Called after a request payload has been written to the transport.
+     *
+     * @param method the JSON-RPC method name
+     * @param bytes  the size of the encoded request in bytes
+     * @since 0.3.0
+     */
+    default void onBytesSent(String method, long bytes) {
+    }
+
+    /**
+     * Called when a response payload has been received for a request.
+     *
+     * @param method the JSON-RPC method name
+     * @param bytes  the size of the encoded response in bytes
+     * @since 0.3.0
+     */
+    default void onBytesReceived(String method, long bytes) {
+    }
+
+    /**
+     * Called when a failed request is about to be retried.
+     *
+     * @param method  the JSON-RPC method name
+     * @param attempt the attempt number about to be made (2 for the first retry)
+     * @param cause   the error that triggered the retry
+     * @since 0.3.0
+     */
+    default void onRetry(String method, int attempt, Throwable cause) {
+    }
+
+    /**
+     * Called when a failed request is not retried because the client's
+     * {@link RetryBudget} is exhausted.
+     *
+     * @param method the JSON-RPC method name
+     * @param cause  the error that would have been retried
+     * @since 0.3.0
+     */
+    default void onRetryDenied(String method, Throwable cause) {
+    }
+
+    /**
+     * Called when a {@link MulticallBatch} has finished executing.
+     *
+     * @param calls        the number of calls in the batch
+     * @param chunks       the number of {@code aggregate3} requests the batch was split into
+     * @param latencyNanos the time spent executing all chunks, in nanoseconds
+     * @since 0.3.0
+     */
+    default void onMulticallExecuted(int calls, int chunks, long latencyNanos) {
+    }
+
     /**
      * Called when a request is rejected due to backpressure.
      *
@@ -176,5 +260,10 @@ public interface BraneMetrics {
 
         private Noop() {
         }
+
+        @Override
+        public void onRequestCompleted(String method, long latencyNanos) {
+            // Skip the Duration the default implementation would allocate
+        }
     }
 }
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.rpc;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import sh.brane.core.error.RpcException;
@@ -47,6 +48,34 @@ public interface BraneProvider extends AutoCloseable {
      */
     JsonRpcResponse send(String method, List<?> params) throws RpcException;
 
+    /**
+     * Sends several JSON-RPC requests as one batch.
+     *
+     * <p>
+     * Responses are returned in the same order as {@code requests}. A JSON-RPC
+     * error for an individual request is returned in its response rather than
+     * thrown. The {@code jsonrpc} and {@code id} of each request are ignored; the
+     * provider assigns its own ids.
+     *
+     * <p>
+     * The default implementation calls {@link #send} for each request in turn and
+     * therefore throws on the first request that fails. Transports that can do
+     * better override it: {@link HttpBraneProvider} sends a single JSON-RPC batch
+     * and {@link WebSocketProvider} pipelines the requests on its connection.
+     *
+     * @param requests the requests to send
+     * @return one response per request, in request order
+     * @throws RpcException if the batch as a whole fails
+     * @since 0.3.0
+     */
+    default List<JsonRpcResponse> sendBatch(List<JsonRpcRequest> requests) throws RpcException {
+        final List<JsonRpcResponse> responses = new ArrayList<>(requests.size());
+        for (final JsonRpcRequest request : requests) {
+            responses.add(send(request.method(), request.params()));
+        }
+        return responses;
+    }
+
     /**
      * Subscribes to real-time events.
      *
@@ -76,6 +105,21 @@ public interface BraneProvider extends AutoCloseable {
         throw new UnsupportedOperationException("This provider does not support subscriptions");
     }
 
+    /**
+     * Returns the metrics collector this provider reports to.
+     *
+     * <p>
+     * Higher layers such as the retry loop and {@link MulticallBatch} report
+     * through the same collector so all request metrics end up in one place.
+     * The default implementation returns {@link BraneMetrics#noop()}.
+     *
+     * @return the metrics collector, never null
+     * @since 0.3.0
+     */
+    default BraneMetrics metrics() {
+        return BraneMetrics.noop();
+    }
+
     /**
      * Creates a default HTTP provider.
      *
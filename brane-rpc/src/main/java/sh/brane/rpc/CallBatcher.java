@@ -0,0 +1,450 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.jspecify.annotations.Nullable;
+
+import sh.brane.core.RevertDecoder;
+import sh.brane.core.abi.Abi;
+import sh.brane.core.error.RevertException;
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.Call3;
+import sh.brane.core.model.MulticallResult;
+import sh.brane.core.types.HexData;
+
+/**
+ * Transparently merges concurrent {@code eth_call}s into Multicall3
+ * {@code aggregate3} requests.
+ *
+ * <p>
+ * Unlike {@link MulticallBatch}, callers do not collect calls and execute them
+ * explicitly. Each {@link #call(CallRequest)} behaves like
+ * {@link Brane#call(CallRequest)}: it blocks and returns the call's own return
+ * data or throws its own revert. Calls submitted from any thread within a short
+ * window are sent together in one {@code aggregate3} request, so code that issues
+ * many independent reads from concurrent tasks gets multicall throughput without
+ * being restructured. Read-only contract proxies can use a batcher through
+ * {@code BraneContract.bindReadOnly(address, abi, batcher, type)}.
+ *
+ * <p>
+ * <strong>Usage:</strong>
+ *
+ * <pre>{@code
+ * try (CallBatcher batcher = CallBatcher.builder(client).window(Duration.ofMillis(5)).build();
+ *         var executor = BraneExecutors.newIoBoundExecutor()) {
+ *     List<Future<HexData>> results = new ArrayList<>();
+ *     for (CallRequest request : requests) {
+ *         results.add(executor.submit(() -> batcher.call(request)));
+ *     }
+ *     // one aggregate3 round trip instead of requests.size()
+ * }
+ * }</pre>
+ *
+ * <p>
+ * <strong>Dispatch:</strong> the first call in an empty batch starts the window.
+ * When the window ends, or the batch reaches {@link Builder#maxBatchSize(int)},
+ * the pending calls are dispatched on a virtual thread. {@link #flush()}
+ * dispatches immediately. A batch holding a single call is sent as a plain
+ * {@code eth_call}. Requests are sent with {@link Brane#callAsync(CallRequest, BlockTag)},
+ * so no thread waits for a response or for the backoff before a retry.
+ *
+ * <p>
+ * <strong>Eligibility:</strong> only calls against {@code latest} with no
+ * {@code from}, value, gas limit or fee fields are batched, because Multicall3
+ * becomes {@code msg.sender} and shares one gas limit across calls. Other calls
+ * are sent directly.
+ *
+ * <p>
+ * <strong>Thread safety:</strong> this class is thread-safe.
+ *
+ * @see MulticallBatch
+ * @since 0.3.0
+ */
+public final class CallBatcher implements AutoCloseable {
+
+    /** Default time a batch waits for further calls before it is dispatched. */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(2);
+
+    private final Brane client;
+    private final AsyncCallExecutor executor;
+    private final BraneMetrics metrics;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ExecutorService dispatcher = BraneExecutors.newIoBoundExecutor();
+
+    // Guarded by this
+    private List<PendingCall> pending = new ArrayList<>();
+    private boolean closed;
+
+    CallBatcher(
+            final Brane client,
+            final AsyncCallExecutor executor,
+            final @Nullable BraneMetrics metrics,
+            final Duration window,
+            final int maxBatchSize) {
+        this.client = client;
+        this.executor = executor;
+        this.metrics = metrics != null ? metrics : BraneMetrics.noop();
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Creates a batcher with default settings.
+     *
+     * @param client the client used to send calls
+     * @return a new batcher
+     */
+    public static CallBatcher create(final Brane client) {
+        return builder(client).build();
+    }
+
+    /**
+     * Creates a builder for a batcher that sends calls through the given client.
+     *
+     * @param client the client used to send calls
+     * @return a new builder
+     */
+    public static Builder builder(final Brane client) {
+        return new Builder(Objects.requireNonNull(client, "client"));
+    }
+
+    /**
+     * Returns the client this batcher sends calls through.
+     *
+     * @return the client
+     */
+    public Brane client() {
+        return client;
+    }
+
+    /**
+     * Executes an {@code eth_call} against the latest block, batched with other
+     * concurrent calls where possible.
+     *
+     * @param request the call request
+     * @return the call's return data
+     * @throws RevertException if the call reverted with revert data
+     * @throws RpcException    if the call or the batch it was part of failed
+     */
+    public HexData call(final CallRequest request) {
+        try {
+            return callAsync(request).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RpcException(-32000, "Interrupted while waiting for batched eth_call", (String) null, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RpcException(-32000, "Batched eth_call failed", (String) null, e.getCause());
+        }
+    }
+
+    /**
+     * Submits an {@code eth_call} against the latest block without blocking.
+     *
+     * @param request the call request
+     * @return a future completed with the call's return data, or exceptionally with
+     *         the exception {@link #call(CallRequest)} would throw
+     * @throws IllegalStateException if this batcher has been closed
+     */
+    public CompletableFuture<HexData> callAsync(final CallRequest request) {
+        Objects.requireNonNull(request, "request");
+        if (!isBatchable(request)) {
+            synchronized (this) {
+                ensureOpen();
+            }
+            return send(request);
+        }
+        final PendingCall call = new PendingCall(request, new CompletableFuture<>());
+        final List<PendingCall> full;
+        final boolean startWindow;
+        synchronized (this) {
+            ensureOpen();
+            pending.add(call);
+            startWindow = pending.size() == 1;
+            full = pending.size() >= maxBatchSize ? takePending() : null;
+        }
+        if (full != null) {
+            dispatch(full);
+        } else if (startWindow) {
+            try {
+                dispatcher.execute(this::awaitWindow);
+            } catch (RejectedExecutionException e) {
+                // Closed concurrently; close() has already sent the pending calls
+            }
+        }
+        return call.future();
+    }
+
+    /**
+     * Dispatches all pending calls now instead of waiting for the window to end.
+     */
+    public void flush() {
+        final List<PendingCall> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * Dispatches pending calls and stops accepting new ones. Calls already
+     * dispatched complete normally. Idempotent.
+     */
+    @Override
+    public void close() {
+        final List<PendingCall> batch;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            execute(batch);
+        }
+        dispatcher.shutdown();
+    }
+
+    private void awaitWindow() {
+        try {
+            Thread.sleep(Duration.ofNanos(windowNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final List<PendingCall> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            execute(batch);
+        }
+    }
+
+    private void dispatch(final List<PendingCall> batch) {
+        try {
+            dispatcher.execute(() -> execute(batch));
+        } catch (RejectedExecutionException e) {
+            // Closed concurrently; run on the caller's thread so no call is left hanging
+            execute(batch);
+        }
+    }
+
+    /**
+     * Sends one batch and completes every call in it when the response arrives.
+     */
+    void execute(final List<PendingCall> batch) {
+        if (batch.size() == 1) {
+            final PendingCall only = batch.get(0);
+            send(only.request()).whenComplete((value, error) -> {
+                if (error != null) {
+                    only.future().completeExceptionally(unwrap(error));
+                } else {
+                    only.future().complete(value);
+                }
+            });
+            return;
+        }
+        final long start = System.nanoTime();
+        final MulticallChunkEvent event = new MulticallChunkEvent();
+        event.begin();
+        final HexData calldata;
+        try {
+            final List<Call3> calls = new ArrayList<>(batch.size());
+            for (final PendingCall call : batch) {
+                final HexData data = call.request().data();
+                calls.add(new Call3(call.request().to(), true, data != null ? data : HexData.EMPTY));
+            }
+            calldata = MulticallBatch.encodeAggregate3(calls).calldata();
+        } catch (RuntimeException e) {
+            fail(batch, e, event, 0, start);
+            return;
+        }
+        send(CallRequest.of(MulticallBatch.MULTICALL_ADDRESS, calldata)).whenComplete((output, error) -> {
+            if (error != null) {
+                fail(batch, unwrap(error), event, calldata.byteLength(), start);
+                return;
+            }
+            try {
+                final List<MulticallResult> results = Abi.decodeMulticallResults(output.value());
+                if (results.size() != batch.size()) {
+                    throw new RpcException(-32000, "Multicall3 returned " + results.size()
+                            + " results, but we sent " + batch.size() + " calls", (String) null, (Throwable) null);
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    complete(batch.get(i).future(), results.get(i));
+                }
+            } catch (RuntimeException e) {
+                fail(batch, e, event, calldata.byteLength(), start);
+                return;
+            }
+            MulticallBatch.commitChunkEvent(event, batch.size(), calldata.byteLength(), true);
+            metrics.onMulticallExecuted(batch.size(), 1, System.nanoTime() - start);
+        });
+    }
+
+    /**
+     * Completes every call in a batch with the batch's failure.
+     */
+    private void fail(
+            final List<PendingCall> batch,
+            final Throwable error,
+            final MulticallChunkEvent event,
+            final long calldataBytes,
+            final long start) {
+        final RuntimeException failure = error instanceof RpcException rpc
+                ? rpc
+                : new RpcException(-32000, "Batched eth_call failed: " + error.getMessage(), (String) null, error);
+        for (final PendingCall call : batch) {
+            call.future().completeExceptionally(failure);
+        }
+        MulticallBatch.commitChunkEvent(event, batch.size(), calldataBytes, false);
+        metrics.onMulticallExecuted(batch.size(), 1, System.nanoTime() - start);
+    }
+
+    /**
+     * Sends an {@code eth_call} against the latest block, returning a synchronous
+     * failure as a failed future.
+     */
+    private CompletableFuture<HexData> send(final CallRequest request) {
+        try {
+            return executor.callAsync(request, BlockTag.LATEST);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * Completes a caller's future the way a direct {@code eth_call} would have
+     * returned or failed.
+     */
+    private static void complete(final CompletableFuture<HexData> future, final MulticallResult result) {
+        final HexData returnData = result.returnData() != null ? result.returnData() : HexData.EMPTY;
+        if (result.success()) {
+            future.complete(returnData);
+            return;
+        }
+        final String data = returnData.value();
+        if (data.length() > 10) {
+            final RevertDecoder.Decoded decoded = RevertDecoder.decode(data);
+            future.completeExceptionally(
+                    new RevertException(decoded.kind(), decoded.reason(), decoded.rawDataHex(), null));
+        } else {
+            future.completeExceptionally(new RpcException(3, "execution reverted", data, (Long) null));
+        }
+    }
+
+    private static boolean isBatchable(final CallRequest request) {
+        return request.from() == null
+                && (request.value() == null || request.value().value().signum() == 0)
+                && request.gas() == null
+                && request.gasPrice() == null
+                && request.maxFeePerGas() == null
+                && request.maxPriorityFeePerGas() == null;
+    }
+
+    private List<PendingCall> takePending() {
+        final List<PendingCall> batch = pending;
+        if (!batch.isEmpty()) {
+            pending = new ArrayList<>();
+        }
+        return batch;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("CallBatcher has been closed");
+        }
+    }
+
+    /**
+     * Sends one {@code eth_call} without blocking.
+     */
+    @FunctionalInterface
+    interface AsyncCallExecutor {
+        CompletableFuture<HexData> callAsync(CallRequest request, BlockTag blockTag);
+    }
+
+    /**
+     * A submitted call waiting for its batch.
+     */
+    record PendingCall(CallRequest request, CompletableFuture<HexData> future) {
+    }
+
+    /**
+     * Builder for {@link CallBatcher}.
+     *
+     * @since 0.3.0
+     */
+    public static final class Builder {
+        private final Brane client;
+        private Duration window = DEFAULT_WINDOW;
+        private int maxBatchSize = MulticallBatch.DEFAULT_CHUNK_SIZE;
+
+        private Builder(final Brane client) {
+            this.client = client;
+        }
+
+        /**
+         * Sets how long a batch waits for further calls after its first call.
+         * Longer windows merge more calls at the cost of added latency. Defaults to
+         * 2 milliseconds.
+         *
+         * @param window the batching window, must be positive
+         * @return this builder
+         */
+        public Builder window(final Duration window) {
+            if (window == null || window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("window must be positive");
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Sets the number of calls at which a batch is dispatched without waiting
+         * for the window to end. Defaults to 500.
+         *
+         * @param maxBatchSize the maximum calls per {@code aggregate3} request, 1 to 1000
+         * @return this builder
+         */
+        public Builder maxBatchSize(final int maxBatchSize) {
+            if (maxBatchSize <= 0) {
+                throw new IllegalArgumentException("maxBatchSize must be greater than 0");
+            }
+            if (maxBatchSize > MulticallBatch.MAX_CHUNK_SIZE) {
+                throw new IllegalArgumentException("maxBatchSize cannot exceed " + MulticallBatch.MAX_CHUNK_SIZE);
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Creates the batcher.
+         *
+         * @return a new batcher; close it to release its dispatcher
+         */
+        public CallBatcher build() {
+            final BraneMetrics metrics = client instanceof DefaultReader reader ? reader.provider().metrics() : null;
+            return new CallBatcher(client, client::callAsync, metrics, window, maxBatchSize);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import sh.brane.core.model.TransactionRequest;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+import sh.brane.rpc.internal.RpcUtils;
+
+/**
+ * The call object parameter of {@code eth_call} and {@code eth_estimateGas} handed to a
+ * {@link BraneProvider}.
+ * <p>
+ * Providers see an ordinary mutable map equal to {@link CallRequest#toMap()} or
+ * {@link RpcUtils#buildTxObject}, created on first access. The built-in providers never
+ * access it: until something does, they write the fields straight from the request,
+ * hex-encoding {@code data} from its bytes, so neither the map nor the calldata string is
+ * created.
+ */
+@JsonSerialize(using = CallParams.Serializer.class)
+final class CallParams extends AbstractMap<String, Object> {
+
+    /**
+     * Emits the call object's fields in wire order. {@code data} is passed as
+     * {@link HexData}; every other value is in its JSON-RPC form.
+     */
+    interface Fields {
+        <E extends Exception> void writeTo(CallRequest.FieldWriter<E> writer) throws E;
+    }
+
+    private final Fields fields;
+    private Map<String, Object> entries;
+
+    CallParams(final CallRequest request) {
+        this(request::writeFields);
+    }
+
+    private CallParams(final Fields fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Returns the {@code eth_estimateGas} object for a transaction request.
+     *
+     * @param request the transaction request
+     * @param from    the sender address
+     * @return a view equal to {@link RpcUtils#buildTxObject(TransactionRequest, Address)}
+     */
+    static CallParams forTransaction(final TransactionRequest request, final Address from) {
+        return new CallParams(new TransactionFields(request, from));
+    }
+
+    /**
+     * Returns the fields to serialize, or null once the map has been accessed and may
+     * have been modified.
+     */
+    Fields pristine() {
+        return entries == null ? fields : null;
+    }
+
+    private Map<String, Object> entries() {
+        Map<String, Object> map = entries;
+        if (map == null) {
+            final Map<String, Object> created = new LinkedHashMap<>(8);
+            fields.writeTo((name, value) -> created.put(name, value instanceof HexData hex ? hex.value() : value));
+            entries = map = created;
+        }
+        return map;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return entries().entrySet();
+    }
+
+    @Override
+    public Object get(final Object key) {
+        return entries().get(key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return entries().containsKey(key);
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        return entries().put(key, value);
+    }
+
+    @Override
+    public int size() {
+        return entries().size();
+    }
+
+    /** Fields of a transaction request, in the order {@link RpcUtils#buildTxObject} uses. */
+    private record TransactionFields(TransactionRequest request, Address from) implements Fields {
+        @Override
+        public <E extends Exception> void writeTo(final CallRequest.FieldWriter<E> writer) throws E {
+            writer.field("from", from.value());
+            if (request.to() != null) {
+                writer.field("to", request.to().value());
+            }
+            if (request.value() != null) {
+                writer.field("value", RpcUtils.toQuantityHex(request.value().value()));
+            }
+            if (request.data() != null) {
+                writer.field("data", request.data());
+            }
+            if (request.accessList() != null && !request.accessList().isEmpty()) {
+                writer.field("accessList", RpcUtils.toJsonAccessList(request.accessList()));
+            }
+        }
+    }
+
+    /** Writes the call object from its fields, or the map if it has been accessed. */
+    static final class Serializer extends StdSerializer<CallParams> {
+        Serializer() {
+            super(CallParams.class);
+        }
+
+        @Override
+        public void serialize(final CallParams params, final JsonGenerator gen, final SerializerProvider provider)
+                throws IOException {
+            final Fields fields = params.pristine();
+            if (fields == null) {
+                provider.defaultSerializeValue(params.entries, gen);
+                return;
+            }
+            gen.writeStartObject();
+            fields.writeTo((name, value) -> {
+                if (value instanceof String text) {
+                    gen.writeStringField(name, text);
+                } else {
+                    provider.defaultSerializeField(name, value, gen);
+                }
+            });
+            gen.writeEndObject();
+        }
+    }
+}
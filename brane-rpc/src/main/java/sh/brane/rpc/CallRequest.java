@@ -1,7 +1,6 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.rpc;
 
-import static sh.brane.rpc.internal.RpcUtils.putIfPresent;
 import static sh.brane.rpc.internal.RpcUtils.toQuantityHex;
 
 import java.math.BigInteger;
@@ -15,7 +14,6 @@ import org.jspecify.annotations.Nullable;
 import sh.brane.core.types.Address;
 import sh.brane.core.types.HexData;
 import sh.brane.core.types.Wei;
-import sh.brane.rpc.internal.RpcUtils;
 
 /**
  * Type-safe representation of an eth_call request.
@@ -43,6 +41,10 @@ import sh.brane.rpc.internal.RpcUtils;
  * // Execute the call
  * HexData result = publicClient.call(request, BlockTag.LATEST);
  * }</pre>
+ * <p>
+ * <strong>Serialization:</strong> {@code eth_call} hands providers a map with the
+ * entries of {@link #toMap()}. The built-in providers write the request straight into
+ * the outgoing JSON instead, hex-encoding {@code data} from its bytes.
  *
  * @param from the sender address (optional, for msg.sender in the call)
  * @param to the target contract address (required)
@@ -91,17 +93,45 @@ public record CallRequest(
     public Map<String, Object> toMap() {
         // Pre-size for max 8 fields: from, to, data, value, gas, gasPrice, maxFeePerGas, maxPriorityFeePerGas
         final var map = new LinkedHashMap<String, Object>(8);
-        putIfPresent(map, "from", from, Address::value);
-        map.put("to", to.value());
-        putIfPresent(map, "data", data, HexData::value);
-        putIfPresent(map, "value", value, v -> toQuantityHex(v.value()));
-        putIfPresent(map, "gas", gas, RpcUtils::toQuantityHex);
-        putIfPresent(map, "gasPrice", gasPrice, RpcUtils::toQuantityHex);
-        putIfPresent(map, "maxFeePerGas", maxFeePerGas, RpcUtils::toQuantityHex);
-        putIfPresent(map, "maxPriorityFeePerGas", maxPriorityFeePerGas, RpcUtils::toQuantityHex);
+        writeFields((name, value) -> map.put(name, value instanceof HexData hex ? hex.value() : value));
         return map;
     }
 
+    /**
+     * Emits the JSON-RPC call object fields in wire order, skipping absent ones.
+     * {@code data} is passed as {@link HexData}; every other value is a hex string.
+     */
+    <E extends Exception> void writeFields(final FieldWriter<E> writer) throws E {
+        if (from != null) {
+            writer.field("from", from.value());
+        }
+        writer.field("to", to.value());
+        if (data != null) {
+            writer.field("data", data);
+        }
+        if (value != null) {
+            writer.field("value", toQuantityHex(value.value()));
+        }
+        if (gas != null) {
+            writer.field("gas", toQuantityHex(gas));
+        }
+        if (gasPrice != null) {
+            writer.field("gasPrice", toQuantityHex(gasPrice));
+        }
+        if (maxFeePerGas != null) {
+            writer.field("maxFeePerGas", toQuantityHex(maxFeePerGas));
+        }
+        if (maxPriorityFeePerGas != null) {
+            writer.field("maxPriorityFeePerGas", toQuantityHex(maxPriorityFeePerGas));
+        }
+    }
+
+    /** Receives one call object field; see {@link #writeFields(FieldWriter)}. */
+    @FunctionalInterface
+    interface FieldWriter<E extends Exception> {
+        void field(String name, Object value) throws E;
+    }
+
     /**
      * Returns a new builder for creating CallRequest instances.
      *
@@ -10,8 +10,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import org.jspecify.annotations.Nullable;
@@ -20,11 +23,13 @@ import org.slf4j.LoggerFactory;
 
 import sh.brane.core.RevertDecoder;
 import sh.brane.core.chain.ChainProfile;
+import sh.brane.core.error.InvalidProofException;
 import sh.brane.core.error.RevertException;
 import sh.brane.core.error.RpcException;
 import sh.brane.core.model.AccessListEntry;
 import sh.brane.core.model.AccessListWithGas;
 import sh.brane.core.model.BlockHeader;
+import sh.brane.core.model.BlockWithReceipts;
 import sh.brane.core.model.LogEntry;
 import sh.brane.core.model.Transaction;
 import sh.brane.core.model.TransactionReceipt;
@@ -36,6 +41,8 @@ import sh.brane.core.types.Wei;
 import sh.brane.rpc.internal.LogParser;
 import sh.brane.rpc.internal.RpcInvoker;
 import sh.brane.rpc.internal.RpcUtils;
+import sh.brane.trie.AccountProof;
+import sh.brane.trie.StorageProof;
 
 /**
  * Default implementation of {@link Brane.Reader} for read-only blockchain operations.
@@ -50,12 +57,27 @@ non-sealed class DefaultReader implements Brane.Reader {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultReader.class);
 
+    /** Maximum receipts requested in one JSON-RPC batch; many providers cap batches at 100. */
+    private static final int RECEIPT_BATCH_SIZE = 100;
+
+    /** Attempts to fetch a block whose receipts keep changing because of a reorg. */
+    private static final int MAX_BLOCK_FETCH_ATTEMPTS = 3;
+
+    /** Fallback wording of "method not found" from nodes that use a generic error code. */
+    private static final Pattern METHOD_UNSUPPORTED_MESSAGE =
+            Pattern.compile("not supported|does not exist|method not found", Pattern.CASE_INSENSITIVE);
+
+    /** Runs blocking provider calls for {@link #sendWithRetryAsync}, one virtual thread per attempt. */
+    private static final Executor ASYNC_SENDER = task -> Thread.ofVirtual().name("brane-async-send").start(task);
+
     private final BraneProvider provider;
     private final @Nullable ChainProfile chain;
     private final int maxRetries;
     private final RpcRetryConfig retryConfig;
     private final AtomicBoolean closed;
     private final RpcInvoker rpc;
+    private volatile boolean blockReceiptsUnsupported;
+    private volatile @Nullable HeadTracker headTracker;
 
     /**
      * Creates a new DefaultReader with the specified configuration.
@@ -63,7 +85,8 @@ non-sealed class DefaultReader implements Brane.Reader {
      * @param provider    the RPC provider for blockchain communication
      * @param chain       the chain profile for network-specific settings (may be null)
      * @param maxRetries  the maximum number of retry attempts for transient failures
-     * @param retryConfig the retry configuration for backoff timing
+     * @param retryConfig the retry configuration for backoff timing; without a
+     *                    {@link RetryBudget} the client gets a default budget of its own
      */
     DefaultReader(
             final BraneProvider provider,
@@ -73,7 +96,9 @@ non-sealed class DefaultReader implements Brane.Reader {
         this.provider = provider;
         this.chain = chain;
         this.maxRetries = maxRetries;
-        this.retryConfig = retryConfig;
+        this.retryConfig = retryConfig.retryBudget() != null
+                ? retryConfig
+                : retryConfig.withRetryBudget(RetryBudget.create());
         this.closed = new AtomicBoolean(false);
         this.rpc = new RpcInvoker(this::sendWithRetry, this::ensureOpen);
     }
@@ -85,31 +110,187 @@ non-sealed class DefaultReader implements Brane.Reader {
 
     @Override
     public BigInteger getBalance(final Address address) {
-        return rpc.call("eth_getBalance", List.of(address.value(), "latest"), RpcUtils::decodeHexBigInteger);
+        return getBalance(address, BlockTag.LATEST);
+    }
+
+    @Override
+    public BigInteger getBalance(final Address address, final BlockTag blockTag) {
+        return rpc.call(
+                "eth_getBalance", List.of(address.value(), blockTag.toRpcValue()), RpcUtils::decodeHexBigInteger);
+    }
+
+    @Override
+    public long getTransactionCount(final Address address, final BlockTag blockTag) {
+        return rpc.call(
+                "eth_getTransactionCount",
+                List.of(address.value(), blockTag.toRpcValue()),
+                hex -> RpcUtils.decodeHexBigInteger(hex).longValueExact());
     }
 
     @Override
     public HexData getCode(final Address address) {
+        return getCode(address, BlockTag.LATEST);
+    }
+
+    @Override
+    public HexData getCode(final Address address, final BlockTag blockTag) {
         return rpc.callWithDefault(
                 "eth_getCode",
-                List.of(address.value(), "latest"),
+                List.of(address.value(), blockTag.toRpcValue()),
                 hex -> "0x".equals(hex) ? HexData.EMPTY : new HexData(hex),
                 HexData.EMPTY);
     }
 
     @Override
     public HexData getStorageAt(final Address address, final BigInteger slot) {
+        return getStorageAt(address, slot, BlockTag.LATEST);
+    }
+
+    @Override
+    public HexData getStorageAt(final Address address, final BigInteger slot, final BlockTag blockTag) {
         final String slotHex = "0x" + slot.toString(16);
         return rpc.callWithDefault(
                 "eth_getStorageAt",
-                List.of(address.value(), slotHex, "latest"),
+                List.of(address.value(), slotHex, blockTag.toRpcValue()),
                 HexData::new,
                 HexData.EMPTY);
     }
 
+    @Override
+    public AccountProof getProof(final Address address, final List<BigInteger> slots, final BlockTag blockTag) {
+        Objects.requireNonNull(address, "address");
+        Objects.requireNonNull(slots, "slots");
+        Objects.requireNonNull(blockTag, "blockTag");
+        final BlockHeader header = getBlock(blockTag);
+        if (header == null) {
+            throw new RpcException(
+                    -32000, "Block not found: " + blockTag.toRpcValue(), (String) null, (Throwable) null);
+        }
+        if (header.stateRoot() == null) {
+            throw new InvalidProofException("Block " + header.number() + " has no stateRoot to verify against");
+        }
+        final List<String> keys = slots.stream().map(slot -> String.format("0x%064x", slot)).toList();
+        final AccountProof proof = rpc.callObject(
+                "eth_getProof",
+                List.of(address.value(), keys, Map.of("blockHash", header.hash().value())),
+                result -> parseAccountProof(address, result));
+        checkStorageKeys(proof, slots);
+        return proof.verify(header.stateRoot());
+    }
+
+    /**
+     * Checks that the node returned exactly one storage proof per requested slot, in
+     * request order. Verification alone cannot catch a dropped or substituted slot,
+     * because each storage proof is only checked against its own key.
+     */
+    private static void checkStorageKeys(final AccountProof proof, final List<BigInteger> slots) {
+        final List<StorageProof> storage = proof.storageProof();
+        if (storage.size() != slots.size()) {
+            throw new InvalidProofException("eth_getProof returned " + storage.size()
+                    + " storage proofs for " + slots.size() + " requested slots");
+        }
+        for (int i = 0; i < slots.size(); i++) {
+            if (!storage.get(i).key().equals(slots.get(i))) {
+                throw new InvalidProofException("eth_getProof returned storage proof for slot 0x"
+                        + storage.get(i).key().toString(16) + " where slot 0x"
+                        + slots.get(i).toString(16) + " was requested");
+            }
+        }
+    }
+
+    /**
+     * Parses an {@code eth_getProof} result.
+     *
+     * @param address the requested address, used when the response omits it
+     * @param result  the raw result object from JSON-RPC
+     * @return the unverified proof
+     * @throws RpcException if required fields are missing
+     */
+    private static AccountProof parseAccountProof(final Address address, final Object result) {
+        final Map<String, Object> map = toMap(result);
+        final String codeHash = RpcUtils.stringValue(map.get("codeHash"));
+        final String storageHash = RpcUtils.stringValue(map.get("storageHash"));
+        final String balance = RpcUtils.stringValue(map.get("balance"));
+        final Object nonce = map.get("nonce");
+        if (codeHash == null || storageHash == null || balance == null || nonce == null) {
+            throw new RpcException(
+                    -32000, "eth_getProof response missing account fields", (String) null, (Throwable) null);
+        }
+        final List<StorageProof> storage = new ArrayList<>();
+        if (map.get("storageProof") instanceof List<?> entries) {
+            for (final Object entry : entries) {
+                final Map<String, Object> slot = toMap(entry);
+                storage.add(new StorageProof(
+                        RpcUtils.decodeHexBigInteger(RpcUtils.stringValue(slot.get("key"))),
+                        RpcUtils.decodeHexBigInteger(RpcUtils.stringValue(slot.get("value"))),
+                        parseProofNodes(slot.get("proof"))));
+            }
+        }
+        return new AccountProof(
+                address,
+                RpcUtils.decodeHexBigInteger(balance),
+                RpcUtils.decodeHexLong(nonce),
+                new Hash(codeHash),
+                new Hash(storageHash),
+                parseProofNodes(map.get("accountProof")),
+                storage);
+    }
+
+    private static List<HexData> parseProofNodes(final Object nodes) {
+        if (!(nodes instanceof List<?> list)) {
+            throw new RpcException(-32000, "eth_getProof response missing proof nodes", (String) null, (Throwable) null);
+        }
+        final List<HexData> proof = new ArrayList<>(list.size());
+        for (final Object node : list) {
+            proof.add(new HexData(RpcUtils.stringValue(node)));
+        }
+        return proof;
+    }
+
     @Override
     public @Nullable BlockHeader getLatestBlock() {
-        return getBlockByTag(BlockTag.LATEST.toRpcValue());
+        return getBlock(BlockTag.LATEST);
+    }
+
+    @Override
+    public @Nullable BlockHeader getBlock(final BlockTag tag) {
+        Objects.requireNonNull(tag, "tag");
+        ensureOpen();
+        final HeadTracker tracker = headTracker;
+        if (tracker != null) {
+            final BlockHeader cached = tracker.cached(tag);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return fetchBlockHeader(tag);
+    }
+
+    /**
+     * Fetches a block header from the node, bypassing any attached {@link HeadTracker}.
+     *
+     * @param tag the block tag
+     * @return the block header, or null if not found
+     */
+    @Nullable BlockHeader fetchBlockHeader(final BlockTag tag) {
+        return getBlockByTag(tag.toRpcValue());
+    }
+
+    /**
+     * Serves head queries from the given tracker while it is live. The most
+     * recently started tracker wins.
+     */
+    void attachHeadTracker(final HeadTracker tracker) {
+        headTracker = tracker;
+    }
+
+    /**
+     * Stops serving head queries from the given tracker if it is still attached.
+     */
+    void detachHeadTracker(final HeadTracker tracker) {
+        if (headTracker == tracker) {
+            headTracker = null;
+        }
     }
 
     /**
@@ -132,9 +313,7 @@ non-sealed class DefaultReader implements Brane.Reader {
      * @return the parsed block header
      */
     private BlockHeader parseBlockHeader(final Object result) {
-        final Map<String, Object> map = MAPPER.convertValue(
-                result, new TypeReference<Map<String, Object>>() {}
-        );
+        final Map<String, Object> map = toMap(result);
 
         final String hash = RpcUtils.stringValue(map.get("hash"));
         final String parentHash = RpcUtils.stringValue(map.get("parentHash"));
@@ -147,7 +326,15 @@ non-sealed class DefaultReader implements Brane.Reader {
                 number,
                 parentHash != null ? new Hash(parentHash) : null,
                 timestamp,
-                baseFeeHex != null ? new Wei(RpcUtils.decodeHexBigInteger(baseFeeHex)) : null);
+                baseFeeHex != null ? new Wei(RpcUtils.decodeHexBigInteger(baseFeeHex)) : null,
+                hashOrNull(map.get("stateRoot")),
+                hashOrNull(map.get("transactionsRoot")),
+                hashOrNull(map.get("receiptsRoot")));
+    }
+
+    private static @Nullable Hash hashOrNull(final Object value) {
+        final String hex = RpcUtils.stringValue(value);
+        return hex != null ? new Hash(hex) : null;
     }
 
     @Override
@@ -171,9 +358,7 @@ non-sealed class DefaultReader implements Brane.Reader {
      * @throws RpcException if required fields are missing
      */
     private Transaction parseTransaction(final Object result) {
-        final Map<String, Object> map = MAPPER.convertValue(
-                result, new TypeReference<Map<String, Object>>() {}
-        );
+        final Map<String, Object> map = toMap(result);
 
         final String txHash = RpcUtils.stringValue(map.get("hash"));
         if (txHash == null) {
@@ -217,9 +402,7 @@ non-sealed class DefaultReader implements Brane.Reader {
      * @return the parsed transaction receipt
      */
     private TransactionReceipt parseTransactionReceipt(final Object result) {
-        final Map<String, Object> map = MAPPER.convertValue(
-                result, new TypeReference<Map<String, Object>>() {}
-        );
+        final Map<String, Object> map = toMap(result);
 
         final String txHash = RpcUtils.stringValue(map.get("transactionHash"));
         final String blockHash = RpcUtils.stringValue(map.get("blockHash"));
@@ -246,6 +429,187 @@ non-sealed class DefaultReader implements Brane.Reader {
                 new Wei(RpcUtils.decodeHexBigInteger(cumulativeGasUsedHex)));
     }
 
+    @Override
+    public @Nullable BlockWithReceipts getBlockWithReceipts(final long blockNumber) {
+        ensureOpen();
+        final String tag = RpcUtils.toQuantityHex(blockNumber);
+        for (int attempt = 1; ; attempt++) {
+            final Map<String, Object> block = rpc.callNullableObject(
+                    "eth_getBlockByNumber", List.of(tag, Boolean.TRUE), DefaultReader::toMap);
+            if (block == null) {
+                return null;
+            }
+            final BlockHeader header = parseBlockHeader(block);
+            final List<Transaction> transactions = parseBlockTransactions(block.get("transactions"));
+            final List<TransactionReceipt> receipts = fetchBlockReceipts(tag, transactions);
+            if (receiptsMatch(header, transactions, receipts)) {
+                return new BlockWithReceipts(header, transactions, receipts);
+            }
+            if (attempt == MAX_BLOCK_FETCH_ATTEMPTS) {
+                throw new RpcException(
+                        -32000,
+                        "Receipts for block " + blockNumber + " kept changing; the chain is reorganizing",
+                        (String) null,
+                        (Throwable) null);
+            }
+            log.debug("Receipts for block {} do not match block {}, refetching", blockNumber, header.hash());
+        }
+    }
+
+    @Override
+    public BlockIngestor ingestBlocks(final long fromBlock, final long toBlock, final int prefetch) {
+        ensureOpen();
+        return new BlockIngestor(this::getBlockWithReceipts, fromBlock, toBlock, prefetch);
+    }
+
+    /**
+     * Parses the full transaction objects of an {@code eth_getBlockByNumber(..., true)} result.
+     */
+    private List<Transaction> parseBlockTransactions(final Object transactions) {
+        if (!(transactions instanceof List<?> list) || list.isEmpty()) {
+            return List.of();
+        }
+        final List<Transaction> parsed = new ArrayList<>(list.size());
+        for (final Object tx : list) {
+            parsed.add(parseTransaction(tx));
+        }
+        return parsed;
+    }
+
+    /**
+     * Fetches the receipts of a block, preferring {@code eth_getBlockReceipts} and falling
+     * back to batched {@code eth_getTransactionReceipt} once the node has rejected it.
+     */
+    private List<TransactionReceipt> fetchBlockReceipts(final String tag, final List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return List.of();
+        }
+        if (!blockReceiptsUnsupported) {
+            try {
+                final List<TransactionReceipt> receipts = rpc.callNullableObject(
+                        "eth_getBlockReceipts", List.of(tag), this::parseReceiptList);
+                if (receipts != null) {
+                    return receipts;
+                }
+            } catch (RpcException e) {
+                if (!isMethodUnsupported(e)) {
+                    throw e;
+                }
+                log.debug("eth_getBlockReceipts is not supported ({}), using batched receipt requests",
+                        e.getMessage());
+                blockReceiptsUnsupported = true;
+            }
+        }
+        return fetchReceiptsBatched(transactions);
+    }
+
+    private List<TransactionReceipt> fetchReceiptsBatched(final List<Transaction> transactions) {
+        final List<TransactionReceipt> receipts = new ArrayList<>(transactions.size());
+        for (int from = 0; from < transactions.size(); from += RECEIPT_BATCH_SIZE) {
+            final List<Transaction> chunk =
+                    transactions.subList(from, Math.min(from + RECEIPT_BATCH_SIZE, transactions.size()));
+            final List<JsonRpcRequest> requests = new ArrayList<>(chunk.size());
+            for (final Transaction tx : chunk) {
+                requests.add(new JsonRpcRequest("2.0", "eth_getTransactionReceipt", List.of(tx.hash().value()), null));
+            }
+            ensureOpen();
+            final List<JsonRpcResponse> responses = RpcRetry.run(
+                    () -> throwRetryableItemError(provider.sendBatch(requests)),
+                    maxRetries + 1,
+                    retryConfig,
+                    "eth_getTransactionReceipt",
+                    provider.metrics());
+            for (int i = 0; i < responses.size(); i++) {
+                final JsonRpcResponse response = responses.get(i);
+                if (response.hasError()) {
+                    throw RpcUtils.toRpcException(response.error());
+                }
+                if (response.result() == null) {
+                    throw new RpcException(
+                            -32000,
+                            "Receipt for transaction " + chunk.get(i).hash() + " is not available",
+                            (String) null,
+                            (Throwable) null);
+                }
+                receipts.add(parseTransactionReceipt(response.result()));
+            }
+        }
+        return receipts;
+    }
+
+    /**
+     * Throws the first retryable per-item error of a read-only batch, so that the whole
+     * batch is retried with backoff instead of failing on a transient error of one item.
+     */
+    private static List<JsonRpcResponse> throwRetryableItemError(final List<JsonRpcResponse> responses) {
+        for (final JsonRpcResponse response : responses) {
+            if (response.hasError()) {
+                final RpcException error = RpcUtils.toRpcException(response.error());
+                if (RpcRetry.isRetryableRpcError(error)) {
+                    throw error;
+                }
+            }
+        }
+        return responses;
+    }
+
+    private List<TransactionReceipt> parseReceiptList(final Object result) {
+        if (!(result instanceof List<?> list)) {
+            throw new RpcException(
+                    -32000, "eth_getBlockReceipts returned a non-array result", (String) null, (Throwable) null);
+        }
+        final List<TransactionReceipt> receipts = new ArrayList<>(list.size());
+        for (final Object receipt : list) {
+            receipts.add(parseTransactionReceipt(receipt));
+        }
+        return receipts;
+    }
+
+    /**
+     * Checks that each receipt belongs to the matching transaction of this exact block.
+     */
+    private static boolean receiptsMatch(
+            final BlockHeader header,
+            final List<Transaction> transactions,
+            final List<TransactionReceipt> receipts) {
+        if (transactions.size() != receipts.size()) {
+            return false;
+        }
+        for (int i = 0; i < transactions.size(); i++) {
+            final TransactionReceipt receipt = receipts.get(i);
+            if (!receipt.transactionHash().equals(transactions.get(i).hash())
+                    || !receipt.blockHash().equals(header.hash())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the node rejected a request because it does not implement the method.
+     * The standard codes decide; the message is only consulted for the generic server
+     * error codes that some nodes report everything under.
+     */
+    private static boolean isMethodUnsupported(final RpcException e) {
+        return switch (e.code()) {
+            case -32601, -32004 -> true;
+            case -32000, -32603 -> e.getMessage() != null && METHOD_UNSUPPORTED_MESSAGE.matcher(e.getMessage()).find();
+            default -> false;
+        };
+    }
+
+    /**
+     * Returns a JSON-RPC result object as a map, without a Jackson round trip when it
+     * already is one.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toMap(final Object result) {
+        if (result instanceof Map<?, ?> map) {
+            return (Map<String, Object>) map;
+        }
+        return MAPPER.convertValue(result, new TypeReference<Map<String, Object>>() {});
+    }
+
     /**
      * Parses a list of log entries from the RPC response.
      *
@@ -310,9 +674,38 @@ non-sealed class DefaultReader implements Brane.Reader {
     @Override
     public HexData call(final CallRequest request, final BlockTag blockTag) {
         ensureOpen();
-        final JsonRpcResponse response = sendWithRetry(
+        return callResult(sendWithRetry(
                 "eth_call",
-                List.of(request.toMap(), blockTag.toRpcValue()));
+                List.of(new CallParams(request), blockTag.toRpcValue())));
+    }
+
+    @Override
+    public CompletableFuture<HexData> callAsync(final CallRequest request) {
+        return callAsync(request, BlockTag.LATEST);
+    }
+
+    @Override
+    public CompletableFuture<HexData> callAsync(final CallRequest request, final BlockTag blockTag) {
+        final CompletableFuture<HexData> result = new CompletableFuture<>();
+        sendWithRetryAsync("eth_call", List.of(new CallParams(request), blockTag.toRpcValue()))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                        return;
+                    }
+                    try {
+                        result.complete(callResult(response));
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * Returns the return data of an {@code eth_call} response, throwing its revert or error.
+     */
+    private static HexData callResult(final JsonRpcResponse response) {
         if (response.hasError()) {
             final JsonRpcError err = response.error();
             final String data = RpcUtils.extractErrorData(err.data());
@@ -341,6 +734,27 @@ non-sealed class DefaultReader implements Brane.Reader {
                 List.of());
     }
 
+    /**
+     * Runs {@code eth_getLogs} and returns each log with its block number, which
+     * {@link LogEntry} does not carry.
+     */
+    List<LogStore.FetchedLog> getLogsWithBlockNumbers(final LogFilter filter) {
+        return rpc.callObjectWithDefault(
+                "eth_getLogs",
+                List.of(buildLogParams(filter)),
+                result -> {
+                    final List<Map<String, Object>> raw =
+                            MAPPER.convertValue(result, new TypeReference<List<Map<String, Object>>>() {});
+                    final List<LogStore.FetchedLog> logs = new ArrayList<>(raw.size());
+                    for (final Map<String, Object> map : raw) {
+                        logs.add(new LogStore.FetchedLog(
+                                RpcUtils.decodeHexLong(map.get("blockNumber")), LogParser.parseLogStrict(map)));
+                    }
+                    return logs;
+                },
+                List.of());
+    }
+
     /**
      * Builds the JSON-RPC parameters map for eth_getLogs.
      *
@@ -511,7 +925,7 @@ non-sealed class DefaultReader implements Brane.Reader {
     @Override
     public MulticallBatch batch() {
         ensureOpen();
-        return MulticallBatch.create(this);
+        return MulticallBatch.create(this::call, provider.metrics());
     }
 
     @Override
@@ -522,27 +936,11 @@ non-sealed class DefaultReader implements Brane.Reader {
                     "Subscriptions require a WebSocket provider. Use Brane.builder().wsUrl() or a WebSocketProvider.");
         }
         final String id = provider.subscribe("newHeads", List.of(), result -> {
-            final Map<String, Object> map = MAPPER.convertValue(
-                    result, new TypeReference<Map<String, Object>>() {}
-            );
-
-            final String hash = RpcUtils.stringValue(map.get("hash"));
-            final String parentHash = RpcUtils.stringValue(map.get("parentHash"));
-            final Long number = RpcUtils.decodeHexLong(map.get("number"));
-            final Long timestamp = RpcUtils.decodeHexLong(map.get("timestamp"));
-            final String baseFeeHex = RpcUtils.stringValue(map.get("baseFeePerGas"));
-
-            final BlockHeader header = new BlockHeader(
-                    hash != null ? new Hash(hash) : null,
-                    number,
-                    parentHash != null ? new Hash(parentHash) : null,
-                    timestamp,
-                    baseFeeHex != null ? new Wei(RpcUtils.decodeHexBigInteger(baseFeeHex)) : null);
-
+            final BlockHeader header = parseBlockHeader(result);
             try {
                 callback.accept(header);
             } catch (Exception e) {
-                log.error("Exception in newHeads subscription callback (block {})", number, e);
+                log.error("Exception in newHeads subscription callback (block {})", header.number(), e);
             }
         });
         return new SubscriptionImpl(id, provider);
@@ -583,6 +981,10 @@ non-sealed class DefaultReader implements Brane.Reader {
     @Override
     public void close() {
         if (closed.compareAndSet(false, true)) {
+            final HeadTracker tracker = headTracker;
+            if (tracker != null) {
+                tracker.close();
+            }
             provider.close();
         }
     }
@@ -642,7 +1044,27 @@ non-sealed class DefaultReader implements Brane.Reader {
      * @return the JSON-RPC response
      */
     JsonRpcResponse sendWithRetry(final String method, final List<?> params) {
-        return RpcRetry.runRpc(() -> provider.send(method, params), maxRetries + 1, retryConfig);
+        return RpcRetry.runRpc(
+                () -> provider.send(method, params), maxRetries + 1, retryConfig, method, provider.metrics());
+    }
+
+    /**
+     * Sends an RPC request with automatic retry, without blocking the caller or any
+     * thread during backoff. A {@link WebSocketProvider} is used through its
+     * non-blocking {@code sendAsync}; other providers are called on a virtual thread.
+     *
+     * @param method the JSON-RPC method name
+     * @param params the method parameters
+     * @return a future completed with the JSON-RPC response
+     */
+    CompletableFuture<JsonRpcResponse> sendWithRetryAsync(final String method, final List<?> params) {
+        ensureOpen();
+        return RpcRetry.runRpcAsync(() -> {
+            if (provider instanceof WebSocketProvider ws) {
+                return ws.sendAsync(method, params);
+            }
+            return CompletableFuture.supplyAsync(() -> provider.send(method, params), ASYNC_SENDER);
+        }, maxRetries + 1, retryConfig, method, provider.metrics());
     }
 
     /**
@@ -2,12 +2,15 @@
 package sh.brane.rpc;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 
 import org.jspecify.annotations.Nullable;
 
@@ -45,6 +48,9 @@ import sh.brane.rpc.internal.RpcUtils;
  */
 non-sealed class DefaultSigner extends DefaultReader implements Brane.Signer {
 
+    /** Maximum number of raw transactions per {@code eth_sendRawTransaction} batch. */
+    private static final int SEND_BATCH_SIZE = 100;
+
     private final sh.brane.core.crypto.Signer signer;
     private final SmartGasStrategy gasStrategy;
     private final AtomicReference<Long> cachedChainId = new AtomicReference<>();
@@ -67,7 +73,7 @@ non-sealed class DefaultSigner extends DefaultReader implements Brane.Signer {
         super(provider, chain, maxRetries, retryConfig);
         this.signer = signer;
         final ChainProfile resolvedChain = chain != null ? chain : defaultChainProfile();
-        this.gasStrategy = new SmartGasStrategy(this, provider, resolvedChain);
+        this.gasStrategy = new SmartGasStrategy(this, provider, resolvedChain, maxRetries() + 1, retryConfig());
     }
 
     /**
@@ -103,12 +109,177 @@ non-sealed class DefaultSigner extends DefaultReader implements Brane.Signer {
                 .map(BigInteger::valueOf)
                 .orElseGet(() -> estimateGas(withDefaults));
 
-        // Prepare value and data
+        final UnsignedTransaction unsignedTx =
+                buildUnsigned(withDefaults, chainId, nonce.longValue(), gasLimit.longValue());
+        logSend(from, withDefaults, nonce, gasLimit);
+        final Object signed = rawTransaction(sign(unsignedTx, chainId));
+
+        final String txHash;
+        final long start = System.nanoTime();
+        try {
+            final JsonRpcResponse response = sendWithRetry(
+                    "eth_sendRawTransaction", List.of(signed));
+            txHash = sendResult(response);
+        } catch (RpcException e) {
+            throw sendFailure(e);
+        }
+
+        final long durationMicros = (System.nanoTime() - start) / 1_000L;
+        DebugLogger.logTx(LogFormatter.formatTxHash(txHash, durationMicros));
+        return new Hash(txHash);
+    }
+
+    @Override
+    public List<TransactionSubmission> sendTransactions(final List<TransactionRequest> requests) {
+        Objects.requireNonNull(requests, "requests");
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        final long chainId = fetchAndCacheChainId();
+        final int count = requests.size();
+        final RuntimeException[] errors = new RuntimeException[count];
+
+        // Gas limits in one batched estimate, fees fetched once for the whole batch
+        final SmartGasStrategy.GasFilledRequest[] filled =
+                gasStrategy.applyDefaults(requests, signer.address(), errors);
+
+        // Consecutive nonces per sender, starting from one pending count each. A nonce is
+        // only taken once the transaction using it has been built.
+        final Map<Address, Long> nextNonce = new HashMap<>();
+        final UnsignedTransaction[] unsigned = new UnsignedTransaction[count];
+        final long[] nonces = new long[count];
+        final boolean[] assigned = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            if (errors[i] != null) {
+                continue;
+            }
+            final TransactionRequest request = filled[i].request();
+            if (filled[i].fellBackToLegacy()) {
+                DebugLogger.log("EIP-1559 requested but fell back to legacy gas pricing");
+            }
+            assigned[i] = request.nonce() == null;
+            nonces[i] = assigned[i]
+                    ? nextNonce.computeIfAbsent(request.from(), from -> fetchNonce(from).longValueExact())
+                    : request.nonce();
+            try {
+                unsigned[i] = buildUnsigned(request, chainId, nonces[i], request.gasLimit());
+            } catch (RuntimeException e) {
+                errors[i] = e;
+                continue;
+            }
+            if (assigned[i]) {
+                nextNonce.put(request.from(), nonces[i] + 1);
+            }
+        }
+
+        // Signing is CPU-bound and independent per transaction
+        final Object[] signed = new Object[count];
+        IntStream.range(0, count).parallel().forEach(i -> {
+            if (unsigned[i] != null) {
+                try {
+                    signed[i] = rawTransaction(sign(unsigned[i], chainId));
+                } catch (RuntimeException e) {
+                    errors[i] = e;
+                }
+            }
+        });
+
+        // A transaction that failed to sign gives its nonce back: later assigned nonces from
+        // the same sender move down by one and are signed again, so no gap is broadcast
+        final Map<Address, Long> released = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            if (unsigned[i] == null) {
+                continue;
+            }
+            final TransactionRequest request = filled[i].request();
+            if (assigned[i]) {
+                final long shift = released.getOrDefault(request.from(), 0L);
+                if (signed[i] == null) {
+                    released.put(request.from(), shift + 1);
+                    continue;
+                }
+                if (shift > 0) {
+                    nonces[i] -= shift;
+                    try {
+                        signed[i] = rawTransaction(
+                                sign(buildUnsigned(request, chainId, nonces[i], request.gasLimit()), chainId));
+                    } catch (RuntimeException e) {
+                        signed[i] = null;
+                        errors[i] = e;
+                        released.put(request.from(), shift + 1);
+                        continue;
+                    }
+                }
+            }
+            if (signed[i] != null) {
+                logSend(request.from(), request, BigInteger.valueOf(nonces[i]),
+                        BigInteger.valueOf(request.gasLimit()));
+            }
+        }
+
+        final TransactionSubmission[] results = new TransactionSubmission[count];
+        broadcast(signed, errors, results);
+        return List.of(results);
+    }
+
+    /**
+     * Broadcasts the signed transactions in {@link BraneProvider#sendBatch} chunks, in order.
+     * If a whole chunk fails, it and every later transaction are reported with that failure.
+     */
+    private void broadcast(
+            final Object[] signed, final RuntimeException[] errors, final TransactionSubmission[] results) {
+        RuntimeException batchFailure = null;
+        for (int from = 0; from < signed.length; from += SEND_BATCH_SIZE) {
+            final int to = Math.min(from + SEND_BATCH_SIZE, signed.length);
+            final List<JsonRpcRequest> requests = new ArrayList<>(to - from);
+            final int[] indexes = new int[to - from];
+            for (int i = from; i < to; i++) {
+                if (errors[i] != null) {
+                    results[i] = TransactionSubmission.failed(errors[i]);
+                } else if (batchFailure != null) {
+                    results[i] = TransactionSubmission.failed(batchFailure);
+                } else {
+                    indexes[requests.size()] = i;
+                    requests.add(new JsonRpcRequest("2.0", "eth_sendRawTransaction", List.of(signed[i]), null));
+                }
+            }
+            if (requests.isEmpty()) {
+                continue;
+            }
+            final long start = System.nanoTime();
+            final List<JsonRpcResponse> responses;
+            try {
+                ensureOpen();
+                // Not retried: a batch that failed in transit may still have reached the node
+                responses = provider().sendBatch(requests);
+            } catch (RuntimeException e) {
+                batchFailure = e instanceof RpcException rpc ? sendFailure(rpc) : e;
+                for (int j = 0; j < requests.size(); j++) {
+                    results[indexes[j]] = TransactionSubmission.failed(batchFailure);
+                }
+                continue;
+            }
+            final long durationMicros = (System.nanoTime() - start) / 1_000L;
+            for (int j = 0; j < responses.size(); j++) {
+                try {
+                    final String txHash = sendResult(responses.get(j));
+                    DebugLogger.logTx(LogFormatter.formatTxHash(txHash, durationMicros));
+                    results[indexes[j]] = TransactionSubmission.sent(new Hash(txHash));
+                } catch (RuntimeException e) {
+                    results[indexes[j]] = TransactionSubmission.failed(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the unsigned transaction for a request whose gas fields have been filled.
+     */
+    private UnsignedTransaction buildUnsigned(
+            final TransactionRequest withDefaults, final long chainId, final long nonce, final long gasLimit) {
         final Wei valueOrZero = Objects.requireNonNullElse(withDefaults.value(), Wei.ZERO);
         final HexData dataOrEmpty = Objects.requireNonNullElse(withDefaults.data(), HexData.EMPTY);
 
-        // Build unsigned transaction
-        final UnsignedTransaction unsignedTx;
         if (withDefaults.isEip1559()) {
             final Wei maxPriority = withDefaults.maxPriorityFeePerGas() != null
                     ? withDefaults.maxPriorityFeePerGas()
@@ -117,38 +288,48 @@ non-sealed class DefaultSigner extends DefaultReader implements Brane.Signer {
                     ? withDefaults.maxFeePerGas()
                     : maxPriority;
 
-            unsignedTx = new Eip1559Transaction(
+            return new Eip1559Transaction(
                     chainId,
-                    nonce.longValue(),
+                    nonce,
                     maxPriority,
                     maxFee,
-                    gasLimit.longValue(),
+                    gasLimit,
                     withDefaults.to(),
                     valueOrZero,
                     dataOrEmpty,
                     withDefaults.accessListOrEmpty());
-        } else {
-            final Wei gasPrice = withDefaults.gasPrice() != null
-                    ? withDefaults.gasPrice()
-                    : Wei.of(fetchGasPrice());
-
-            unsignedTx = new LegacyTransaction(
-                    nonce.longValue(),
-                    gasPrice,
-                    gasLimit.longValue(),
-                    withDefaults.to(),
-                    valueOrZero,
-                    dataOrEmpty);
         }
+        final Wei gasPrice = withDefaults.gasPrice() != null
+                ? withDefaults.gasPrice()
+                : Wei.of(fetchGasPrice());
 
+        return new LegacyTransaction(
+                nonce,
+                gasPrice,
+                gasLimit,
+                withDefaults.to(),
+                valueOrZero,
+                dataOrEmpty);
+    }
+
+    private static void logSend(
+            final Address from,
+            final TransactionRequest request,
+            final BigInteger nonce,
+            final BigInteger gasLimit) {
+        final Wei valueOrZero = Objects.requireNonNullElse(request.value(), Wei.ZERO);
         DebugLogger.logTx(LogFormatter.formatTxSend(
                 from.value(),
-                withDefaults.to() != null ? withDefaults.to().value() : null,
+                request.to() != null ? request.to().value() : null,
                 nonce,
                 gasLimit,
                 valueOrZero.value()));
+    }
 
-        // Sign the transaction
+    /**
+     * Signs a transaction and encodes it as a raw envelope.
+     */
+    private byte[] sign(final UnsignedTransaction unsignedTx, final long chainId) {
         final Signature baseSig = signer.signTransaction(unsignedTx, chainId);
 
         // Adjust V value for legacy transactions (EIP-155)
@@ -161,42 +342,55 @@ non-sealed class DefaultSigner extends DefaultReader implements Brane.Signer {
             // For EIP-1559, v is just yParity (0 or 1)
             signature = baseSig;
         }
+        return unsignedTx.encodeAsEnvelope(signature);
+    }
 
-        // Encode and send
-        final byte[] envelope = unsignedTx.encodeAsEnvelope(signature);
-        final String signedHex = Hex.encode(envelope);
+    /**
+     * Returns the {@code eth_sendRawTransaction} parameter for a signed envelope. The built-in
+     * providers serialize a {@link HexData} straight from its bytes, so the envelope is never
+     * hex-encoded into a string; other providers get the hex string they have always received.
+     */
+    private Object rawTransaction(final byte[] envelope) {
+        final BraneProvider provider = provider();
+        return provider instanceof HttpBraneProvider || provider instanceof WebSocketProvider
+                ? HexData.wrap(envelope)
+                : Hex.encode(envelope);
+    }
 
-        final String txHash;
-        final long start = System.nanoTime();
-        try {
-            final JsonRpcResponse response = sendWithRetry(
-                    "eth_sendRawTransaction", List.of(signedHex));
-            if (response.hasError()) {
-                final JsonRpcError err = response.error();
-                final String data = RpcUtils.extractErrorData(err.data());
-                handlePotentialRevert(data, err.message());
-                if (err.message() != null
-                        && err.message().toLowerCase().contains("invalid sender")) {
-                    throw new InvalidSenderException(err.message(), null);
-                }
-                throw new RpcException(err.code(), err.message(), data, (Long) null);
-            }
-            final Object result = response.result();
-            if (result == null) {
-                throw RpcException.fromNullResult("eth_sendRawTransaction");
-            }
-            txHash = result.toString();
-        } catch (RpcException e) {
-            handlePotentialRevert(e.data(), e.getMessage());
-            if (e.getMessage() != null && e.getMessage().toLowerCase().contains("invalid sender")) {
-                throw new InvalidSenderException(e.getMessage(), e);
+    /**
+     * Returns the transaction hash from an {@code eth_sendRawTransaction} response, throwing the
+     * decoded failure if the node rejected the transaction.
+     */
+    private static String sendResult(final JsonRpcResponse response) {
+        if (response.hasError()) {
+            final JsonRpcError err = response.error();
+            final String data = RpcUtils.extractErrorData(err.data());
+            handlePotentialRevert(data, err.message());
+            if (err.message() != null
+                    && err.message().toLowerCase().contains("invalid sender")) {
+                throw new InvalidSenderException(err.message(), null);
             }
-            throw e;
+            throw new RpcException(err.code(), err.message(), data, (Long) null);
+        }
+        final Object result = response.result();
+        if (result == null) {
+            throw RpcException.fromNullResult("eth_sendRawTransaction");
         }
+        return result.toString();
+    }
 
-        final long durationMicros = (System.nanoTime() - start) / 1_000L;
-        DebugLogger.logTx(LogFormatter.formatTxHash(txHash, durationMicros));
-        return new Hash(txHash);
+    /**
+     * Maps a failed broadcast to a revert or invalid-sender exception when it carries one.
+     */
+    private static RuntimeException sendFailure(final RpcException e) {
+        final RevertException revert = decodeRevert(e.data());
+        if (revert != null) {
+            return revert;
+        }
+        if (e.getMessage() != null && e.getMessage().toLowerCase().contains("invalid sender")) {
+            return new InvalidSenderException(e.getMessage(), e);
+        }
+        return e;
     }
 
     /**
@@ -258,11 +452,22 @@ non-sealed class DefaultSigner extends DefaultReader implements Brane.Signer {
      * Handles potential revert data in error responses.
      */
     private static void handlePotentialRevert(final @Nullable String raw, final @Nullable String message) {
+        final RevertException revert = decodeRevert(raw);
+        if (revert != null) {
+            throw revert;
+        }
+    }
+
+    /**
+     * Decodes revert data into the exception to report, or returns null if there is none.
+     */
+    private static @Nullable RevertException decodeRevert(final @Nullable String raw) {
         if (raw != null && raw.startsWith("0x") && raw.length() > 10) {
             final RevertDecoder.Decoded decoded = RevertDecoder.decode(raw);
             DebugLogger.logTx(LogFormatter.formatTxRevert(null, decoded.kind().toString(), decoded.reason()));
-            throw new RevertException(decoded.kind(), decoded.reason(), decoded.rawDataHex(), null);
+            return new RevertException(decoded.kind(), decoded.reason(), decoded.rawDataHex(), null);
         }
+        return null;
     }
 
     /** Maximum poll interval for exponential backoff (10 seconds). */
@@ -457,13 +662,13 @@ non-sealed class DefaultSigner extends DefaultReader implements Brane.Signer {
 
         // Encode with blob sidecar for network transmission
         final byte[] envelope = unsignedTx.encodeAsNetworkWrapper(signature, request.sidecar());
-        final String signedHex = Hex.encode(envelope);
+        final Object signed = rawTransaction(envelope);
 
         final String txHash;
         final long start = System.nanoTime();
         try {
             final JsonRpcResponse response = sendWithRetry(
-                    "eth_sendRawTransaction", List.of(signedHex));
+                    "eth_sendRawTransaction", List.of(signed));
             if (response.hasError()) {
                 final JsonRpcError err = response.error();
                 final String data = RpcUtils.extractErrorData(err.data());
@@ -2,8 +2,10 @@
 package sh.brane.rpc;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.jspecify.annotations.Nullable;
 
@@ -62,7 +64,11 @@ import sh.brane.rpc.internal.RpcUtils;
  */
 final class DefaultTester extends DefaultSigner implements Brane.Tester {
 
+    /** Maximum requests per JSON-RPC batch when reading or writing state in bulk. */
+    static final int STATE_BATCH_SIZE = 500;
+
     private final TestNodeMode mode;
+    private final AtomicReference<StateDiff.@Nullable Recorder> recorder = new AtomicReference<>();
 
     /**
      * Creates a new DefaultTester with the specified configuration.
@@ -166,6 +172,7 @@ final class DefaultTester extends DefaultSigner implements Brane.Tester {
         java.util.Objects.requireNonNull(balance, "balance must not be null");
         final String balanceHex = "0x" + balance.value().toString(16);
         sendVoid(mode.prefix() + "setBalance", List.of(address.value(), balanceHex));
+        touched(address, null, false);
     }
 
     @Override
@@ -173,6 +180,7 @@ final class DefaultTester extends DefaultSigner implements Brane.Tester {
         java.util.Objects.requireNonNull(address, "address must not be null");
         java.util.Objects.requireNonNull(code, "code must not be null");
         sendVoid(mode.prefix() + "setCode", List.of(address.value(), code.value()));
+        touched(address, null, true);
     }
 
     @Override
@@ -180,6 +188,7 @@ final class DefaultTester extends DefaultSigner implements Brane.Tester {
         java.util.Objects.requireNonNull(address, "address must not be null");
         final String nonceHex = "0x" + Long.toHexString(nonce);
         sendVoid(mode.prefix() + "setNonce", List.of(address.value(), nonceHex));
+        touched(address, null, false);
     }
 
     @Override
@@ -188,6 +197,15 @@ final class DefaultTester extends DefaultSigner implements Brane.Tester {
         java.util.Objects.requireNonNull(slot, "slot must not be null");
         java.util.Objects.requireNonNull(value, "value must not be null");
         sendVoid(mode.prefix() + "setStorageAt", List.of(address.value(), slot.value(), value.value()));
+        touched(address, slot, false);
+    }
+
+    /** Reports a state write to the active {@link StateDiff.Recorder}, if any. */
+    private void touched(final Address address, final @Nullable Hash slot, final boolean code) {
+        final StateDiff.Recorder active = recorder.get();
+        if (active != null) {
+            active.touch(address, slot, code);
+        }
     }
 
     @Override
@@ -390,6 +408,54 @@ final class DefaultTester extends DefaultSigner implements Brane.Tester {
         return result != null && Boolean.TRUE.equals(result);
     }
 
+    /**
+     * Sends one call per parameter list as JSON-RPC batches of up to {@link #STATE_BATCH_SIZE}
+     * requests, throwing on the first error.
+     *
+     * @param methods the RPC method of each call
+     * @param params  the parameters of each call
+     * @return the results, in request order
+     * @throws RpcException if any call fails
+     */
+    List<@Nullable Object> sendBatch(final List<String> methods, final List<? extends List<?>> params) {
+        final List<@Nullable Object> results = new ArrayList<>(methods.size());
+        for (int from = 0; from < methods.size(); from += STATE_BATCH_SIZE) {
+            final int to = Math.min(from + STATE_BATCH_SIZE, methods.size());
+            final List<JsonRpcRequest> requests = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                requests.add(new JsonRpcRequest("2.0", methods.get(i), params.get(i), null));
+            }
+            ensureOpen();
+            final List<JsonRpcResponse> responses = RpcRetry.run(
+                    () -> provider().sendBatch(requests),
+                    maxRetries() + 1,
+                    retryConfig(),
+                    methods.get(from),
+                    provider().metrics());
+            for (final JsonRpcResponse response : responses) {
+                if (response.hasError()) {
+                    throw RpcUtils.toRpcException(response.error());
+                }
+                results.add(response.result());
+            }
+        }
+        return results;
+    }
+
+    TestNodeMode mode() {
+        return mode;
+    }
+
+    /** Makes {@code active} the client's recorder, unless another one is already recording. */
+    boolean startRecording(final StateDiff.Recorder active) {
+        return recorder.compareAndSet(null, active);
+    }
+
+    /** Clears {@code active} as the client's recorder, returning whether it was recording. */
+    boolean stopRecording(final StateDiff.Recorder active) {
+        return recorder.compareAndSet(active, null);
+    }
+
     // ==================== Receipt Waiting ====================
     // Transaction receipt polling with exponential backoff.
 
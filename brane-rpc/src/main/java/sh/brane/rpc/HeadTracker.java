@@ -0,0 +1,601 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.BlockHeader;
+
+/**
+ * Tracks the canonical chain head in memory and detects reorganizations.
+ *
+ * <p>
+ * The tracker keeps the last {@code capacity} canonical {@link BlockHeader}s in a
+ * ring buffer, fed by a {@code newHeads} subscription when the client supports it
+ * and by polling otherwise. Every incoming head is linked to the stored chain
+ * through its {@code parentHash}; missing blocks are fetched, and when the new
+ * head does not descend from the stored tip, the replaced headers are reported
+ * in a {@link Reorg} event before the new ones are delivered as {@link NewHead}
+ * events. The {@code safe} and {@code finalized} heads are refreshed every few
+ * blocks.
+ *
+ * <p>
+ * While a tracker is running, {@link Brane#getLatestBlock()} and
+ * {@link Brane#getBlock(BlockTag)} for {@code latest}, {@code safe} and
+ * {@code finalized} on the same client are answered from memory as long as the
+ * tracker has heard from the node within {@link Builder#staleAfter(Duration)}.
+ * This removes a round trip from gas estimation and any polling loop that
+ * checks the head.
+ *
+ * <p>
+ * <strong>Usage:</strong>
+ *
+ * <pre>{@code
+ * try (HeadTracker heads = HeadTracker.builder(client)
+ *         .listener(event -> {
+ *             if (event instanceof HeadTracker.Reorg reorg) {
+ *                 indexer.rollback(reorg.commonAncestor(), reorg.depth());
+ *             }
+ *         })
+ *         .start()) {
+ *     BlockHeader latest = heads.latest();
+ * }
+ * }</pre>
+ *
+ * <p>
+ * <strong>Threading:</strong> heads are processed on a single virtual thread, so
+ * listeners are called sequentially and in chain order. Listeners should not
+ * block for long. All query methods are thread-safe.
+ *
+ * @since 0.3.0
+ */
+public final class HeadTracker implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(HeadTracker.class);
+
+    /** Default number of headers kept in memory. */
+    public static final int DEFAULT_CAPACITY = 128;
+
+    private final HeadSource source;
+    private final int capacity;
+    private final Duration pollInterval;
+    private final long staleAfterNanos;
+    private final int checkpointInterval;
+    private final boolean subscribe;
+    private final List<Consumer<HeadEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final LinkedBlockingQueue<BlockHeader> incoming = new LinkedBlockingQueue<>();
+
+    // Canonical headers indexed by number % capacity; written only by the worker, under this
+    private final @Nullable BlockHeader[] ring;
+
+    private volatile @Nullable BlockHeader latest;
+    private volatile @Nullable BlockHeader safe;
+    private volatile @Nullable BlockHeader finalized;
+    private volatile long lastSeenNanos;
+    private volatile boolean running;
+
+    private int headsSinceCheckpoint;
+    private @Nullable Subscription subscription;
+    private @Nullable Thread worker;
+    private @Nullable Runnable onClose;
+
+    HeadTracker(
+            final HeadSource source,
+            final int capacity,
+            final Duration pollInterval,
+            final Duration staleAfter,
+            final int checkpointInterval,
+            final boolean subscribe) {
+        this.source = source;
+        this.capacity = capacity;
+        this.pollInterval = pollInterval;
+        this.staleAfterNanos = staleAfter.toNanos();
+        this.checkpointInterval = checkpointInterval;
+        this.subscribe = subscribe;
+        this.ring = new BlockHeader[capacity];
+    }
+
+    /**
+     * Creates a builder for a tracker that follows the given client's chain.
+     *
+     * @param client the client to track; must not be closed
+     * @return a new builder
+     */
+    public static Builder builder(final Brane client) {
+        return new Builder(Objects.requireNonNull(client, "client"));
+    }
+
+    /**
+     * Returns the latest canonical header seen, without a network call.
+     *
+     * @return the chain head, or {@code null} before the first head has arrived
+     */
+    public @Nullable BlockHeader latest() {
+        return latest;
+    }
+
+    /**
+     * Returns the most recently fetched {@code safe} header.
+     *
+     * @return the safe head, or {@code null} if unknown or unsupported by the node
+     */
+    public @Nullable BlockHeader safe() {
+        return safe;
+    }
+
+    /**
+     * Returns the most recently fetched {@code finalized} header.
+     *
+     * @return the finalized head, or {@code null} if unknown or unsupported by the node
+     */
+    public @Nullable BlockHeader finalized() {
+        return finalized;
+    }
+
+    /**
+     * Returns the canonical header at the given height if it is still held in memory.
+     *
+     * @param number the block number
+     * @return the header, or {@code null} if it is outside the buffered window
+     */
+    public synchronized @Nullable BlockHeader header(final long number) {
+        return stored(number);
+    }
+
+    /**
+     * Returns whether the tracker is running and has heard from the node recently
+     * enough for its heads to be served in place of network calls.
+     *
+     * @return true if the in-memory heads are fresh
+     */
+    public boolean isLive() {
+        return running && latest != null && System.nanoTime() - lastSeenNanos <= staleAfterNanos;
+    }
+
+    /**
+     * Registers a listener for head and reorg events.
+     *
+     * @param listener the listener; exceptions it throws are logged and ignored
+     */
+    public void addListener(final Consumer<HeadEvent> listener) {
+        listeners.add(Objects.requireNonNull(listener, "listener"));
+    }
+
+    /**
+     * Removes a previously registered listener.
+     *
+     * @param listener the listener to remove
+     * @return true if it was registered
+     */
+    public boolean removeListener(final Consumer<HeadEvent> listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Stops tracking: cancels the subscription, stops polling and detaches from
+     * the client so head queries go to the network again. Idempotent.
+     */
+    @Override
+    public void close() {
+        final Subscription sub;
+        final Thread thread;
+        final Runnable detach;
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            sub = subscription;
+            thread = worker;
+            detach = onClose;
+        }
+        if (detach != null) {
+            detach.run();
+        }
+        if (sub != null) {
+            sub.unsubscribe();
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Returns the in-memory header for a tag if the tracker is live.
+     */
+    @Nullable BlockHeader cached(final BlockTag tag) {
+        if (!isLive()) {
+            return null;
+        }
+        if (BlockTag.LATEST.equals(tag)) {
+            return latest;
+        }
+        if (BlockTag.SAFE.equals(tag)) {
+            return safe;
+        }
+        if (BlockTag.FINALIZED.equals(tag)) {
+            return finalized;
+        }
+        return null;
+    }
+
+    /**
+     * Fetches the current head, then starts the worker thread and, if enabled,
+     * the {@code newHeads} subscription.
+     */
+    void start(final @Nullable Runnable onClose) {
+        this.onClose = onClose;
+        final BlockHeader head = source.fetch(BlockTag.LATEST);
+        if (head != null) {
+            process(head);
+        }
+        synchronized (this) {
+            running = true;
+            worker = Thread.ofVirtual().name("brane-head-tracker").start(this::run);
+            if (subscribe) {
+                subscription = source.subscribe(incoming::offer);
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                BlockHeader head = incoming.poll(pollInterval.toNanos(), TimeUnit.NANOSECONDS);
+                if (head == null) {
+                    head = source.fetch(BlockTag.LATEST);
+                }
+                if (head != null) {
+                    process(head);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                if (running) {
+                    log.warn("Head tracker failed to process head: {}", e.getMessage());
+                    log.debug("Head tracker failure", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Links a new head into the stored chain and emits the resulting events.
+     *
+     * <p>
+     * Called only from the worker thread (or directly by tests), which is the only
+     * writer of the ring; reads of the ring here therefore need no lock, while
+     * mutations are synchronized for concurrent {@link #header(long)} callers.
+     */
+    void process(final BlockHeader head) {
+        lastSeenNanos = System.nanoTime();
+        final BlockHeader tip = latest;
+        final BlockHeader existing = stored(head.number());
+        if (existing != null && existing.hash().equals(head.hash())) {
+            // Already canonical, e.g. a lagging node behind a load balancer
+            return;
+        }
+        if (tip != null && head.number() <= tip.number() - capacity) {
+            // Below the stored window: a lagging node or a late notification, not a reorg we can see
+            log.debug("Ignoring head {} below the tracked window ending at {}", head.number(), tip.number());
+            return;
+        }
+        if (tip == null || head.number() - tip.number() > capacity) {
+            // Nothing within the window to link to
+            synchronized (this) {
+                Arrays.fill(ring, null);
+                store(head);
+            }
+            headsSinceCheckpoint = checkpointInterval;
+            refreshCheckpoints();
+            publish(new NewHead(head));
+            return;
+        }
+
+        // Walk back through parent hashes until the new branch meets the stored chain
+        final ArrayDeque<BlockHeader> added = new ArrayDeque<>();
+        added.add(head);
+        BlockHeader ancestor = null;
+        while (true) {
+            final BlockHeader cursor = added.peekFirst();
+            final long parentNumber = cursor.number() - 1;
+            final BlockHeader stored = stored(parentNumber);
+            if (stored != null && stored.hash().equals(cursor.parentHash())) {
+                ancestor = stored;
+                break;
+            }
+            if (parentNumber < 0 || (stored == null && parentNumber <= tip.number())) {
+                // Reorg reaches past the buffered window
+                break;
+            }
+            final BlockHeader parent = source.fetch(BlockTag.of(parentNumber));
+            if (parent == null || !parent.hash().equals(cursor.parentHash())) {
+                log.debug("Block {} changed while linking head {}, waiting for the next head",
+                        parentNumber, head.number());
+                return;
+            }
+            added.addFirst(parent);
+        }
+
+        final long forkPoint = added.peekFirst().number();
+        final List<BlockHeader> removed = new ArrayList<>();
+        for (long n = forkPoint; n <= tip.number(); n++) {
+            final BlockHeader old = stored(n);
+            if (old != null) {
+                removed.add(old);
+            }
+        }
+        synchronized (this) {
+            if (ancestor == null) {
+                Arrays.fill(ring, null);
+            } else {
+                for (int i = 0; i < ring.length; i++) {
+                    if (ring[i] != null && ring[i].number() >= forkPoint) {
+                        ring[i] = null;
+                    }
+                }
+            }
+            for (final BlockHeader header : added) {
+                store(header);
+            }
+        }
+        if (removed.isEmpty()) {
+            headsSinceCheckpoint++;
+        } else {
+            // The replaced blocks may include the safe head
+            headsSinceCheckpoint = checkpointInterval;
+        }
+        refreshCheckpoints();
+        if (!removed.isEmpty()) {
+            publish(new Reorg(removed.size(), ancestor, removed, List.copyOf(added)));
+        }
+        for (final BlockHeader header : added) {
+            publish(new NewHead(header));
+        }
+    }
+
+    private void refreshCheckpoints() {
+        if (headsSinceCheckpoint < checkpointInterval) {
+            return;
+        }
+        headsSinceCheckpoint = 0;
+        try {
+            safe = source.fetch(BlockTag.SAFE);
+            finalized = source.fetch(BlockTag.FINALIZED);
+        } catch (RpcException e) {
+            // Nodes without these tags keep the previous values; retried at the next checkpoint
+            log.debug("Failed to refresh safe/finalized heads: {}", e.getMessage());
+        }
+    }
+
+    private void publish(final HeadEvent event) {
+        for (final Consumer<HeadEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                log.error("Exception in head tracker listener", e);
+            }
+        }
+    }
+
+    private @Nullable BlockHeader stored(final long number) {
+        if (number < 0) {
+            return null;
+        }
+        final BlockHeader header = ring[(int) (number % capacity)];
+        return header != null && header.number() == number ? header : null;
+    }
+
+    private void store(final BlockHeader header) {
+        ring[(int) (header.number() % capacity)] = header;
+        latest = header;
+    }
+
+    /**
+     * An event emitted by a {@link HeadTracker}.
+     *
+     * @since 0.3.0
+     */
+    public sealed interface HeadEvent permits NewHead, Reorg {
+    }
+
+    /**
+     * A header that became part of the canonical chain. Emitted once per block, in
+     * ascending order, including blocks fetched to fill gaps.
+     *
+     * @param header the new canonical header
+     * @since 0.3.0
+     */
+    public record NewHead(BlockHeader header) implements HeadEvent {
+    }
+
+    /**
+     * The canonical chain switched to a different branch. Emitted before the
+     * {@link NewHead} events for the added headers.
+     *
+     * @param depth          number of previously canonical headers that were replaced
+     * @param commonAncestor the last header shared by both branches, or {@code null}
+     *                       if the reorg reached past the buffered window
+     * @param removed        the replaced headers, in ascending order
+     * @param added          the new canonical headers, in ascending order
+     * @since 0.3.0
+     */
+    public record Reorg(
+            int depth, @Nullable BlockHeader commonAncestor, List<BlockHeader> removed, List<BlockHeader> added)
+            implements HeadEvent {
+
+        public Reorg {
+            removed = List.copyOf(removed);
+            added = List.copyOf(added);
+        }
+    }
+
+    /**
+     * Source of headers; implemented over a {@link DefaultReader}, bypassing the
+     * reader's own head cache.
+     */
+    interface HeadSource {
+        @Nullable BlockHeader fetch(BlockTag tag);
+
+        Subscription subscribe(Consumer<BlockHeader> callback);
+    }
+
+    /**
+     * Builder for {@link HeadTracker}.
+     *
+     * @since 0.3.0
+     */
+    public static final class Builder {
+        private final Brane client;
+        private int capacity = DEFAULT_CAPACITY;
+        private @Nullable Duration pollInterval;
+        private @Nullable Duration staleAfter;
+        private int checkpointInterval = 8;
+        private @Nullable Boolean subscribe;
+        private final List<Consumer<HeadEvent>> listeners = new ArrayList<>();
+
+        private Builder(final Brane client) {
+            this.client = client;
+        }
+
+        /**
+         * Sets how many recent headers are kept, which bounds the deepest reorg that
+         * can be resolved to a common ancestor. Defaults to {@value #DEFAULT_CAPACITY}.
+         *
+         * @param capacity the number of headers, at least 2
+         * @return this builder
+         */
+        public Builder capacity(final int capacity) {
+            if (capacity < 2) {
+                throw new IllegalArgumentException("capacity must be at least 2, got " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets how often the head is polled. With a subscription this is only a
+         * fallback for missed notifications. Defaults to 2 seconds when polling and
+         * 12 seconds with a subscription.
+         *
+         * @param pollInterval the poll interval, must be positive
+         * @return this builder
+         */
+        public Builder pollInterval(final Duration pollInterval) {
+            if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+                throw new IllegalArgumentException("pollInterval must be positive");
+            }
+            this.pollInterval = pollInterval;
+            return this;
+        }
+
+        /**
+         * Sets how long after the last contact with the node the in-memory heads
+         * are still served in place of network calls. Defaults to three poll intervals.
+         *
+         * @param staleAfter the staleness limit, must be positive
+         * @return this builder
+         */
+        public Builder staleAfter(final Duration staleAfter) {
+            if (staleAfter == null || staleAfter.isNegative() || staleAfter.isZero()) {
+                throw new IllegalArgumentException("staleAfter must be positive");
+            }
+            this.staleAfter = staleAfter;
+            return this;
+        }
+
+        /**
+         * Sets after how many new heads the {@code safe} and {@code finalized} heads
+         * are refreshed. Defaults to 8.
+         *
+         * @param heads the refresh interval in heads, must be positive
+         * @return this builder
+         */
+        public Builder checkpointInterval(final int heads) {
+            if (heads < 1) {
+                throw new IllegalArgumentException("checkpointInterval must be positive, got " + heads);
+            }
+            this.checkpointInterval = heads;
+            return this;
+        }
+
+        /**
+         * Sets whether to use a {@code newHeads} subscription. Defaults to
+         * {@link Brane#canSubscribe()}.
+         *
+         * @param subscribe true to subscribe, false to poll only
+         * @return this builder
+         */
+        public Builder subscribe(final boolean subscribe) {
+            this.subscribe = subscribe;
+            return this;
+        }
+
+        /**
+         * Adds a listener for head and reorg events.
+         *
+         * @param listener the listener
+         * @return this builder
+         */
+        public Builder listener(final Consumer<HeadEvent> listener) {
+            listeners.add(Objects.requireNonNull(listener, "listener"));
+            return this;
+        }
+
+        /**
+         * Creates the tracker, fetches the current head, starts following the chain
+         * and attaches the tracker to the client so head queries are served from memory.
+         *
+         * @return the running tracker; close it to stop tracking
+         * @throws UnsupportedOperationException if subscribing was requested but the
+         *                                       client cannot subscribe
+         * @throws RpcException                  if the current head cannot be fetched
+         */
+        public HeadTracker start() {
+            final DefaultReader reader = (DefaultReader) client;
+            reader.ensureOpen();
+            final boolean useSubscription = subscribe != null ? subscribe : client.canSubscribe();
+            if (useSubscription && !client.canSubscribe()) {
+                throw new UnsupportedOperationException("This client cannot subscribe to newHeads");
+            }
+            final Duration poll = pollInterval != null
+                    ? pollInterval
+                    : Duration.ofSeconds(useSubscription ? 12 : 2);
+            final HeadTracker tracker = new HeadTracker(
+                    new HeadSource() {
+                        @Override
+                        public @Nullable BlockHeader fetch(final BlockTag tag) {
+                            return reader.fetchBlockHeader(tag);
+                        }
+
+                        @Override
+                        public Subscription subscribe(final Consumer<BlockHeader> callback) {
+                            return reader.onNewHeads(callback);
+                        }
+                    },
+                    capacity,
+                    poll,
+                    staleAfter != null ? staleAfter : poll.multipliedBy(3),
+                    checkpointInterval,
+                    useSubscription);
+            listeners.forEach(tracker::addListener);
+            tracker.start(() -> reader.detachHeadTracker(tracker));
+            reader.attachHeadTracker(tracker);
+            return tracker;
+        }
+    }
+}
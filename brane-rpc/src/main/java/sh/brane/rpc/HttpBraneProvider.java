@@ -9,7 +9,10 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +21,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -88,8 +93,8 @@ public final class HttpBraneProvider implements BraneProvider {
      * Sets a custom metrics collector for observability.
      *
      * <p>Use this to integrate with monitoring systems like Micrometer, Prometheus,
-     * or custom metrics collectors. When set, the provider will report HTTP errors
-     * via {@link BraneMetrics#onRequestFailed(String, Throwable)}.
+     * or custom metrics collectors, or pass a {@link MetricsRecorder}. Every request
+     * reports its start, outcome, latency and payload sizes.
      *
      * @param metrics the metrics collector (must not be null)
      * @throws NullPointerException if metrics is null
@@ -99,6 +104,11 @@ public final class HttpBraneProvider implements BraneProvider {
         this.metrics = Objects.requireNonNull(metrics, "metrics");
     }
 
+    @Override
+    public BraneMetrics metrics() {
+        return metrics;
+    }
+
     /**
      * Creates a new builder for configuring an {@link HttpBraneProvider}.
      *
@@ -124,19 +134,60 @@ public final class HttpBraneProvider implements BraneProvider {
         return new Builder(url);
     }
 
+    /**
+     * Starts a request event, or returns null when JFR is not recording it so the request
+     * allocates nothing.
+     */
+    private static @Nullable RpcRequestEvent beginEvent() {
+        if (!RpcRequestEvent.enabled()) {
+            return null;
+        }
+        final RpcRequestEvent event = new RpcRequestEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void recordEvent(
+            final @Nullable RpcRequestEvent event,
+            final String method,
+            final long requestId,
+            final String outcome,
+            final long bytesSent,
+            final long bytesReceived,
+            final long networkNanos,
+            final long parseNanos) {
+        if (event != null) {
+            event.record(RpcRequestEvent.HTTP, method, requestId, outcome, bytesSent, bytesReceived, networkNanos,
+                    parseNanos);
+        }
+    }
+
     @Override
     public JsonRpcResponse send(final String method, final List<?> params) throws RpcException {
         Objects.requireNonNull(method, "method");
         final List<?> safeParams = Objects.requireNonNullElse(params, List.of());
         final long requestId = ids.getAndIncrement();
+        final RpcRequestEvent event = beginEvent();
         final JsonRpcRequest request = new JsonRpcRequest("2.0", method, safeParams, String.valueOf(requestId));
 
-        final String payload = serialize(request, requestId);
+        final byte[] payload = serialize(request, requestId);
         final HttpRequest httpRequest = buildRequest(payload);
 
+        final BraneMetrics metrics = this.metrics;
+        metrics.onRequestStarted(method);
         final long start = System.nanoTime();
-        final HttpResponse<String> response = execute(httpRequest, requestId);
-        final long durationMicros = (System.nanoTime() - start) / 1_000L;
+        final HttpResponse<byte[]> response;
+        try {
+            response = execute(httpRequest, requestId);
+        } catch (RpcException e) {
+            metrics.onRequestFailed(method, e);
+            recordEvent(event, method, requestId, RpcRequestEvent.FAILED,
+                    payload.length, 0, System.nanoTime() - start, 0);
+            throw e;
+        }
+        final long latencyNanos = System.nanoTime() - start;
+        final long durationMicros = latencyNanos / 1_000L;
+        metrics.onBytesSent(method, payload.length);
 
         if (response.statusCode() < 200 || response.statusCode() >= 300) {
             DebugLogger.logRpc(
@@ -147,15 +198,31 @@ public final class HttpBraneProvider implements BraneProvider {
             final var ex = new RpcException(
                     -32001,
                     "HTTP error for method " + method + ": " + response.statusCode(),
-                    response.body(),
+                    text(response.body()),
                     requestId,
                     null);
             metrics.onRequestFailed(method, ex);
+            recordEvent(event, method, requestId, RpcRequestEvent.FAILED,
+                    payload.length, response.body().length, latencyNanos, 0);
             throw ex;
         }
 
-        final String responseBody = response.body();
-        final JsonRpcResponse rpcResponse = parseResponse(method, responseBody, requestId);
+        final byte[] responseBody = response.body();
+        metrics.onBytesReceived(method, responseBody.length);
+        final long parseStart = System.nanoTime();
+        final JsonRpcResponse rpcResponse;
+        try {
+            rpcResponse = parseResponse(method, responseBody, requestId);
+        } catch (RpcException e) {
+            metrics.onRequestFailed(method, e);
+            recordEvent(event, method, requestId, RpcRequestEvent.FAILED,
+                    payload.length, responseBody.length, latencyNanos, System.nanoTime() - parseStart);
+            throw e;
+        }
+        metrics.onRequestCompleted(method, latencyNanos);
+        recordEvent(event, method, requestId,
+                rpcResponse.hasError() ? RpcRequestEvent.ERROR : RpcRequestEvent.SUCCESS,
+                payload.length, responseBody.length, latencyNanos, System.nanoTime() - parseStart);
         if (rpcResponse.hasError()) {
             final JsonRpcError err = rpcResponse.error();
             DebugLogger.logRpc(
@@ -173,9 +240,164 @@ public final class HttpBraneProvider implements BraneProvider {
         return rpcResponse;
     }
 
-    private String serialize(final JsonRpcRequest request, final long requestId) throws RpcException {
+    /**
+     * Sends the requests as a single JSON-RPC batch in one HTTP round trip.
+     *
+     * <p>
+     * Each request is reported to the metrics collector individually with the
+     * latency of the whole batch; payload sizes are reported once, against the
+     * first request's method.
+     *
+     * @throws RpcException if the HTTP request fails, the endpoint rejects batches,
+     *                      or a response is missing from the batch
+     * @since 0.3.0
+     */
+    @Override
+    public List<JsonRpcResponse> sendBatch(final List<JsonRpcRequest> requests) throws RpcException {
+        Objects.requireNonNull(requests, "requests");
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        final int size = requests.size();
+        final long firstId = ids.getAndAdd(size);
+        final List<JsonRpcRequest> wire = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final JsonRpcRequest request = requests.get(i);
+            wire.add(new JsonRpcRequest(
+                    "2.0",
+                    Objects.requireNonNull(request.method(), "method"),
+                    Objects.requireNonNullElse(request.params(), List.of()),
+                    String.valueOf(firstId + i)));
+        }
+        final String firstMethod = wire.get(0).method();
+        final RpcRequestEvent event = beginEvent();
+
+        final byte[] payload;
+        try {
+            payload = MAPPER.writeValueAsBytes(wire);
+        } catch (JsonProcessingException e) {
+            throw new RpcException(-32700, "Unable to serialize JSON-RPC batch", null, firstId, e);
+        }
+
+        final BraneMetrics metrics = this.metrics;
+        for (final JsonRpcRequest request : wire) {
+            metrics.onRequestStarted(request.method());
+        }
+        final long start = System.nanoTime();
+        final HttpResponse<byte[]> response;
+        try {
+            response = execute(buildRequest(payload), firstId);
+        } catch (RpcException e) {
+            failAll(metrics, wire, e);
+            recordEvent(event, firstMethod, firstId, RpcRequestEvent.FAILED,
+                    payload.length, 0, System.nanoTime() - start, 0);
+            throw e;
+        }
+        final long latencyNanos = System.nanoTime() - start;
+        metrics.onBytesSent(firstMethod, payload.length);
+
+        final byte[] body = response.body();
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            log.warn("HTTP error for JSON-RPC batch of {}: status={}, firstRequestId={}",
+                    size, response.statusCode(), firstId);
+            final var ex = new RpcException(
+                    -32001, "HTTP error for JSON-RPC batch: " + response.statusCode(), text(body), firstId, null);
+            failAll(metrics, wire, ex);
+            recordEvent(event, firstMethod, firstId, RpcRequestEvent.FAILED,
+                    payload.length, body.length, latencyNanos, 0);
+            throw ex;
+        }
+        metrics.onBytesReceived(firstMethod, body.length);
+
+        final long parseStart = System.nanoTime();
+        final JsonRpcResponse[] ordered;
+        try {
+            ordered = parseBatchResponse(body, firstId, size);
+        } catch (RpcException e) {
+            failAll(metrics, wire, e);
+            recordEvent(event, firstMethod, firstId, RpcRequestEvent.FAILED,
+                    payload.length, body.length, latencyNanos, System.nanoTime() - parseStart);
+            throw e;
+        }
+        for (final JsonRpcRequest request : wire) {
+            metrics.onRequestCompleted(request.method(), latencyNanos);
+        }
+        recordEvent(event, firstMethod, firstId, RpcRequestEvent.SUCCESS,
+                payload.length, body.length, latencyNanos, System.nanoTime() - parseStart);
+        DebugLogger.logRpc(LogFormatter.formatRpc(firstMethod + " (batch of " + size + ")", latencyNanos / 1_000L));
+        return Arrays.asList(ordered);
+    }
+
+    /**
+     * Parses a batch response body and orders the responses by request id.
+     *
+     * <p>
+     * Servers may answer a batch in any order, and an endpoint that does not
+     * support batching answers with a single error object instead of an array.
+     */
+    private static JsonRpcResponse[] parseBatchResponse(final byte[] body, final long firstId, final int size)
+            throws RpcException {
+        final JsonNode root;
         try {
-            return MAPPER.writeValueAsString(request);
+            root = MAPPER.readTree(body);
+        } catch (IOException e) {
+            throw new RpcException(-32700, "Unable to parse JSON-RPC batch response", text(body), firstId, e);
+        }
+        if (root == null || !root.isArray()) {
+            final JsonNode error = root != null ? root.get("error") : null;
+            if (error != null && !error.isNull()) {
+                throw new RpcException(
+                        error.path("code").asInt(-32000),
+                        "JSON-RPC batch rejected: " + error.path("message").asText(),
+                        text(body),
+                        firstId,
+                        null);
+            }
+            throw new RpcException(-32700, "Expected a JSON array in response to a JSON-RPC batch", text(body), firstId, null);
+        }
+
+        final JsonRpcResponse[] ordered = new JsonRpcResponse[size];
+        try {
+            for (final JsonNode node : root) {
+                final JsonRpcResponse response = MAPPER.treeToValue(node, JsonRpcResponse.class);
+                final long index = response.id() != null ? parseId(response.id()) - firstId : -1;
+                if (index >= 0 && index < size) {
+                    ordered[(int) index] = response;
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new RpcException(-32700, "Unable to parse JSON-RPC batch response", text(body), firstId, e);
+        }
+        for (int i = 0; i < size; i++) {
+            if (ordered[i] == null) {
+                throw new RpcException(
+                        -32000, "JSON-RPC batch response is missing request id " + (firstId + i), text(body), firstId + i, null);
+            }
+        }
+        return ordered;
+    }
+
+    private static long parseId(final String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static void failAll(final BraneMetrics metrics, final List<JsonRpcRequest> requests, final Throwable error) {
+        for (final JsonRpcRequest request : requests) {
+            metrics.onRequestFailed(request.method(), error);
+        }
+    }
+
+    /**
+     * Serializes straight to UTF-8 bytes, letting {@code HexData} params hex-encode
+     * into Jackson's output buffer instead of going through intermediate strings.
+     */
+    private byte[] serialize(final JsonRpcRequest request, final long requestId) throws RpcException {
+        try {
+            return MAPPER.writeValueAsBytes(request);
         } catch (JsonProcessingException e) {
             throw new RpcException(
                     -32700,
@@ -186,11 +408,11 @@ public final class HttpBraneProvider implements BraneProvider {
         }
     }
 
-    private HttpRequest buildRequest(final String payload) {
+    private HttpRequest buildRequest(final byte[] payload) {
         final HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(config.url()))
                 .header("Content-Type", "application/json")
                 .timeout(config.readTimeout())
-                .POST(HttpRequest.BodyPublishers.ofString(payload));
+                .POST(HttpRequest.BodyPublishers.ofByteArray(payload));
 
         for (Map.Entry<String, String> entry : config.headers().entrySet()) {
             builder.header(entry.getKey(), entry.getValue());
@@ -199,10 +421,11 @@ public final class HttpBraneProvider implements BraneProvider {
         return builder.build();
     }
 
-    private HttpResponse<String> execute(final HttpRequest request, final long requestId)
+    private HttpResponse<byte[]> execute(final HttpRequest request, final long requestId)
             throws RpcException {
         try {
-            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            // Bytes rather than a String: metrics report the payload size, and Jackson parses UTF-8 directly
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RpcException(
@@ -212,15 +435,19 @@ public final class HttpBraneProvider implements BraneProvider {
         }
     }
 
-    private JsonRpcResponse parseResponse(final String method, final String body, final long requestId)
+    private static String text(final byte[] body) {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private JsonRpcResponse parseResponse(final String method, final byte[] body, final long requestId)
             throws RpcException {
         try {
             return MAPPER.readValue(body, JsonRpcResponse.class);
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             throw new RpcException(
                     -32700,
                     "Unable to parse JSON-RPC response for method " + method,
-                    body,
+                    text(body),
                     requestId,
                     e);
         }
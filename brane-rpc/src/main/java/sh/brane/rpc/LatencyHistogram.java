@@ -0,0 +1,121 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, fixed-size latency histogram with log-linear buckets.
+ *
+ * <p>
+ * Values are bucketed the way HdrHistogram does it: each power of two is split
+ * into {@value #SUB_BUCKETS} linear sub-buckets, so any recorded value is
+ * reported within about 3% of its true value. Values below {@value #SUB_BUCKETS}
+ * nanoseconds are exact, and values above {@code 2^}{@value #MAX_EXPONENT}
+ * nanoseconds (about 18 minutes) are clamped into the last bucket.
+ *
+ * <p>
+ * {@link #record(long)} is a handful of atomic increments and never allocates,
+ * so it is safe to call on every request. {@link #snapshot()} copies the counts
+ * and is meant for periodic scraping; it is not atomic with respect to
+ * concurrent recording, so percentiles may be off by the few values recorded
+ * while it runs.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = indexOf(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency value.
+     *
+     * @param nanos the latency in nanoseconds; negative values are recorded as 0
+     */
+    void record(final long nanos) {
+        final long value = Math.min(Math.max(nanos, 0L), MAX_VALUE);
+        counts.incrementAndGet(indexOf(value));
+        total.increment();
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+        if (value < min.get()) {
+            min.accumulateAndGet(value, Math::min);
+        }
+    }
+
+    /**
+     * Returns a point-in-time summary of the recorded values.
+     *
+     * @return the latency summary, all zero if nothing was recorded
+     */
+    MetricsRecorder.LatencySnapshot snapshot() {
+        final long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        if (count == 0) {
+            return MetricsRecorder.LatencySnapshot.EMPTY;
+        }
+        final long maxValue = max.get();
+        return new MetricsRecorder.LatencySnapshot(
+                count,
+                min.get(),
+                maxValue,
+                (double) sum.sum() / total.sum(),
+                valueAt(copy, count, 0.50, maxValue),
+                valueAt(copy, count, 0.90, maxValue),
+                valueAt(copy, count, 0.99, maxValue),
+                valueAt(copy, count, 0.999, maxValue));
+    }
+
+    /**
+     * Returns the highest value equivalent to the bucket holding the given quantile.
+     */
+    private static long valueAt(final long[] counts, final long count, final double quantile, final long max) {
+        final long rank = Math.max(1L, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Maps a value to its bucket. Values below {@link #SUB_BUCKETS} map to themselves;
+     * above that, the bucket is {@code (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + mantissa}
+     * where the mantissa is the top {@code SUB_BUCKET_BITS + 1} bits of the value.
+     */
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        final long mantissa = (index & (SUB_BUCKETS - 1)) + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
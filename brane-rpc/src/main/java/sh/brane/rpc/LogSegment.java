@@ -0,0 +1,314 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import sh.brane.core.model.LogEntry;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+
+/**
+ * A contiguous block range of a {@link LogStore}: where its logs live in the data file and a
+ * bloom filter over their addresses and positional topics.
+ *
+ * <p>Each log record in the data file is laid out as
+ * {@code blockNumber(8) blockHash(32) transactionHash(32) logIndex(4) address(20)
+ * topicCount(1) topics(32 * n) dataLength(4) data}. The segment's index record is
+ * {@code fromBlock(8) toBlock(8) toHash(32) offset(8) length(8) count(4) items(4)
+ * bloomLongs(4) bloom(8 * n) crc32(4)}.
+ *
+ * <p>The bloom starts at {@link #BLOOM_BITS} bits, roughly 11 bits per item at
+ * {@link #CAPACITY} distinct items, and is folded in half on {@link #seal()} while that
+ * density holds, so sparse segments keep a small filter in memory.
+ */
+final class LogSegment {
+
+    /** Bits in the bloom of an open segment. */
+    static final int BLOOM_BITS = 1 << 15;
+
+    /** Distinct addresses and topics after which a segment is sealed. */
+    static final int CAPACITY = 2_800;
+
+    private static final int MIN_BLOOM_BITS = 512;
+    private static final int BITS_PER_ITEM = 11;
+    private static final int HASHES = 6;
+    private static final int FIXED_RECORD_BYTES = 8 + 8 + 32 + 8 + 8 + 4 + 4 + 4 + 4;
+
+    /** Fixed bytes of a log record before its topics. */
+    static final int LOG_HEADER_BYTES = 8 + 32 + 32 + 4 + 20 + 1;
+
+    final long fromBlock;
+    long toBlock;
+    byte[] toHash;
+    final long offset;
+    long length;
+    int count;
+    private int items;
+    private long[] bloom;
+
+    LogSegment(final long fromBlock, final long offset) {
+        this.fromBlock = fromBlock;
+        this.toBlock = fromBlock - 1;
+        this.toHash = new byte[32];
+        this.offset = offset;
+        this.bloom = new long[BLOOM_BITS / 64];
+    }
+
+    private LogSegment(
+            final long fromBlock,
+            final long toBlock,
+            final byte[] toHash,
+            final long offset,
+            final long length,
+            final int count,
+            final int items,
+            final long[] bloom) {
+        this.fromBlock = fromBlock;
+        this.toBlock = toBlock;
+        this.toHash = toHash;
+        this.offset = offset;
+        this.length = length;
+        this.count = count;
+        this.items = items;
+        this.bloom = bloom;
+    }
+
+    /** Returns whether this segment has reached its item capacity or block span. */
+    boolean full(final long maxBlocks) {
+        return items >= CAPACITY || toBlock - fromBlock + 1 >= maxBlocks;
+    }
+
+    // ==================== Bloom ====================
+
+    /** Adds the address and positional topics of a log to the bloom. */
+    void add(final Address address, final List<Hash> topics) {
+        addItem(addressKey(address.toBytes()));
+        for (int i = 0; i < topics.size(); i++) {
+            addItem(topicKey(i, topics.get(i).toBytes()));
+        }
+    }
+
+    /** Clears and rebuilds the bloom from the records in {@code data}. */
+    void rebuild(final ByteBuffer data) {
+        bloom = new long[BLOOM_BITS / 64];
+        items = 0;
+        final byte[] address = new byte[20];
+        final byte[] topic = new byte[32];
+        int at = 0;
+        for (int i = 0; i < count; i++) {
+            data.get(at + 76, address);
+            addItem(addressKey(address));
+            final int topics = data.get(at + 96) & 0xFF;
+            for (int t = 0; t < topics; t++) {
+                data.get(at + LOG_HEADER_BYTES + 32 * t, topic);
+                addItem(topicKey(t, topic));
+            }
+            at = next(data, at);
+        }
+    }
+
+    private void addItem(final long key) {
+        final int mask = bloom.length * 64 - 1;
+        final long h2 = mix(key ^ 0x9E3779B97F4A7C15L) | 1;
+        boolean added = false;
+        for (int i = 0; i < HASHES; i++) {
+            final int bit = (int) ((key + i * h2) & mask);
+            final long word = bloom[bit >>> 6];
+            final long set = word | (1L << bit);
+            if (set != word) {
+                bloom[bit >>> 6] = set;
+                added = true;
+            }
+        }
+        if (added) {
+            items++;
+        }
+    }
+
+    /** Returns whether the bloom may contain {@code key}. */
+    boolean mightContain(final long key) {
+        final int mask = bloom.length * 64 - 1;
+        final long h2 = mix(key ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < HASHES; i++) {
+            final int bit = (int) ((key + i * h2) & mask);
+            if ((bloom[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Folds the bloom down to the smallest size that keeps its density. */
+    void seal() {
+        while (bloom.length * 64 / 2 >= Math.max(MIN_BLOOM_BITS, items * BITS_PER_ITEM)) {
+            final long[] folded = new long[bloom.length / 2];
+            for (int i = 0; i < folded.length; i++) {
+                folded[i] = bloom[i] | bloom[i + folded.length];
+            }
+            bloom = folded;
+        }
+    }
+
+    static long addressKey(final byte[] address) {
+        return mix(~0L, address);
+    }
+
+    static long topicKey(final int position, final byte[] topic) {
+        return mix(position, topic);
+    }
+
+    private static long mix(final long seed, final byte[] bytes) {
+        long h = mix(seed);
+        int i = 0;
+        for (; i + 8 <= bytes.length; i += 8) {
+            long word = 0;
+            for (int j = 0; j < 8; j++) {
+                word = (word << 8) | (bytes[i + j] & 0xFFL);
+            }
+            h = mix(h ^ word);
+        }
+        for (; i < bytes.length; i++) {
+            h = mix(h ^ (bytes[i] & 0xFFL));
+        }
+        return h;
+    }
+
+    /** The MurmurHash3 64-bit finalizer. */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    // ==================== Log records ====================
+
+    /** Returns the encoded size of a log record. */
+    static int recordSize(final LogEntry log) {
+        return LOG_HEADER_BYTES + 32 * log.topics().size() + 4 + log.data().byteLength();
+    }
+
+    /** Writes a log record at the buffer's position. */
+    static void write(final ByteBuffer out, final long blockNumber, final LogEntry log) {
+        out.putLong(blockNumber);
+        log.blockHash().putTo(out);
+        log.transactionHash().putTo(out);
+        out.putInt((int) log.logIndex());
+        log.address().putTo(out);
+        out.put((byte) log.topics().size());
+        for (final Hash topic : log.topics()) {
+            topic.putTo(out);
+        }
+        out.putInt(log.data().byteLength());
+        log.data().putTo(out);
+    }
+
+    /** Returns the offset of the record after the one at {@code at}. */
+    static int next(final ByteBuffer data, final int at) {
+        final int topics = data.get(at + 96) & 0xFF;
+        final int dataAt = at + LOG_HEADER_BYTES + 32 * topics;
+        return dataAt + 4 + data.getInt(dataAt);
+    }
+
+    static long blockNumber(final ByteBuffer data, final int at) {
+        return data.getLong(at);
+    }
+
+    static byte[] blockHash(final ByteBuffer data, final int at) {
+        final byte[] hash = new byte[32];
+        data.get(at + 8, hash);
+        return hash;
+    }
+
+    /** Decodes the record at {@code at}. */
+    static LogEntry read(final ByteBuffer data, final int at) {
+        final byte[] blockHash = new byte[32];
+        final byte[] txHash = new byte[32];
+        final byte[] address = new byte[20];
+        data.get(at + 8, blockHash);
+        data.get(at + 40, txHash);
+        final long logIndex = data.getInt(at + 72) & 0xFFFFFFFFL;
+        data.get(at + 76, address);
+        final int topicCount = data.get(at + 96) & 0xFF;
+        final Hash[] topics = new Hash[topicCount];
+        final byte[] topic = new byte[32];
+        for (int t = 0; t < topicCount; t++) {
+            data.get(at + LOG_HEADER_BYTES + 32 * t, topic);
+            topics[t] = Hash.fromBytes(topic);
+        }
+        final int dataAt = at + LOG_HEADER_BYTES + 32 * topicCount;
+        final byte[] payload = new byte[data.getInt(dataAt)];
+        data.get(dataAt + 4, payload);
+        return new LogEntry(
+                Address.fromBytes(address),
+                payload.length == 0 ? HexData.EMPTY : HexData.wrap(payload),
+                List.of(topics),
+                Hash.fromBytes(blockHash),
+                Hash.fromBytes(txHash),
+                logIndex,
+                false);
+    }
+
+    // ==================== Index records ====================
+
+    /** Returns the encoded size of this segment's index record. */
+    int indexSize() {
+        return FIXED_RECORD_BYTES + bloom.length * 8;
+    }
+
+    /** Encodes this segment's index record. */
+    ByteBuffer encode() {
+        final ByteBuffer out = ByteBuffer.allocate(indexSize());
+        out.putLong(fromBlock).putLong(toBlock).put(toHash).putLong(offset).putLong(length)
+                .putInt(count).putInt(items).putInt(bloom.length);
+        for (final long word : bloom) {
+            out.putLong(word);
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(out.array(), 0, out.position());
+        out.putInt((int) crc.getValue());
+        return out.flip();
+    }
+
+    /**
+     * Decodes an index record at the buffer's position, or returns null if the remaining bytes
+     * do not hold a complete, intact record.
+     */
+    static LogSegment decode(final ByteBuffer in) {
+        final int start = in.position();
+        if (in.remaining() < FIXED_RECORD_BYTES) {
+            return null;
+        }
+        final int words = in.getInt(start + FIXED_RECORD_BYTES - 8);
+        if (words <= 0 || words > BLOOM_BITS / 64 || Integer.bitCount(words) != 1
+                || in.remaining() < FIXED_RECORD_BYTES + words * 8) {
+            return null;
+        }
+        final int size = FIXED_RECORD_BYTES + words * 8;
+        final CRC32 crc = new CRC32();
+        crc.update(in.duplicate().limit(start + size - 4));
+        if ((int) crc.getValue() != in.getInt(start + size - 4)) {
+            return null;
+        }
+        final long fromBlock = in.getLong();
+        final long toBlock = in.getLong();
+        final byte[] toHash = new byte[32];
+        in.get(toHash);
+        final long offset = in.getLong();
+        final long length = in.getLong();
+        final int count = in.getInt();
+        final int items = in.getInt();
+        in.getInt();
+        final long[] bloom = new long[words];
+        for (int i = 0; i < words; i++) {
+            bloom[i] = in.getLong();
+        }
+        in.getInt();
+        return new LogSegment(fromBlock, toBlock, toHash, offset, length, count, items, bloom);
+    }
+}
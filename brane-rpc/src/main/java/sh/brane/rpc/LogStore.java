@@ -0,0 +1,846 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.BlockHeader;
+import sh.brane.core.model.LogEntry;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+
+/**
+ * A persistent, append-only store of the event logs of a fixed set of contracts, filled from
+ * {@code eth_getLogs} and queried with the same {@link LogFilter}s as {@link Brane#getLogs}.
+ *
+ * <p>
+ * The store covers one contiguous block range starting at {@link Builder#fromBlock(long)}.
+ * A query for blocks the store already holds is answered from disk without contacting the
+ * node; a query reaching past the synced head first fetches only the missing tail, in chunks
+ * of {@link Builder#chunkSize(int)} blocks. Backtests and reprocessing runs that scan the same
+ * history repeatedly therefore download it once.
+ *
+ * <p>
+ * <strong>Layout:</strong> logs are appended to {@code logs.dat} in chain order and read
+ * through memory maps. The block range is split into segments, each indexed in
+ * {@code logs.idx} with its data offset, the hash of its last block and a bloom filter over
+ * the addresses and positional topics of its logs. A query skips every segment whose bloom
+ * rules out the filter. Index records are checksummed and written after the data they
+ * describe, so a store interrupted mid-write reopens at the last complete segment.
+ *
+ * <p>
+ * <strong>Reorgs:</strong> before extending the stored range, the store compares the hash of
+ * its last block with the node's. On a mismatch it walks back through the segment end hashes
+ * and the block hashes of stored logs to the newest block still on the canonical chain,
+ * drops everything after it and fetches the replacement. Each chunk is fetched between two
+ * reads of its end block's hash and discarded if the head moved in between. Queries over an
+ * already-synced range do not contact the node, so call {@link #sync()} or {@link #follow()}
+ * to pick up reorgs of recent blocks.
+ *
+ * <p>
+ * <strong>Usage:</strong>
+ *
+ * <pre>{@code
+ * try (LogStore store = LogStore.builder(client, Path.of("usdc-logs"))
+ *         .addresses(List.of(usdc))
+ *         .fromBlock(6_082_465L)
+ *         .open()) {
+ *     // First run downloads the range; later runs read it from disk
+ *     List<LogEntry> transfers = store.getLogs(new LogFilter(
+ *             Optional.of(18_000_000L), Optional.of(18_100_000L),
+ *             Optional.of(List.of(usdc)), Optional.of(List.of(transferTopic))));
+ * }
+ * }</pre>
+ *
+ * <p>
+ * <strong>Threading:</strong> all methods are thread-safe. Queries run concurrently with each
+ * other; syncing is serialized and only blocks queries while it writes.
+ *
+ * @since 0.3.0
+ */
+public final class LogStore implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LogStore.class);
+
+    /** Default number of blocks requested per {@code eth_getLogs} call. */
+    public static final int DEFAULT_CHUNK_SIZE = 2_000;
+
+    /** Default number of blocks per indexed segment. */
+    public static final int DEFAULT_SEGMENT_BLOCKS = 10_000;
+
+    private static final int MAGIC = 0x42524C53;
+    private static final int VERSION = 1;
+    private static final int MAX_INCONSISTENT_FETCHES = 5;
+    private static final String DATA_FILE = "logs.dat";
+    private static final String INDEX_FILE = "logs.idx";
+
+    private final LogSource source;
+    private final long startBlock;
+    private final List<Address> addresses;
+    private final Set<Address> tracked;
+    private final int segmentBlocks;
+    private final FileChannel data;
+    private final FileChannel index;
+    private final long indexStart;
+    private final List<LogSegment> segments = new ArrayList<>();
+    private final Map<LogSegment, MappedByteBuffer> maps = new IdentityHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object syncLock = new Object();
+    private int chunkSize;
+    private long dataEnd;
+    private volatile boolean closed;
+
+    LogStore(
+            final LogSource source,
+            final Path directory,
+            final long startBlock,
+            final List<Address> addresses,
+            final int chunkSize,
+            final int segmentBlocks) throws IOException {
+        this.source = source;
+        this.startBlock = startBlock;
+        this.addresses = List.copyOf(addresses);
+        this.tracked = Set.copyOf(addresses);
+        this.chunkSize = chunkSize;
+        this.segmentBlocks = segmentBlocks;
+        Files.createDirectories(directory);
+        this.data = FileChannel.open(directory.resolve(DATA_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            this.index = FileChannel.open(directory.resolve(INDEX_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                this.indexStart = openIndex();
+            } catch (IOException | RuntimeException e) {
+                index.close();
+                throw e;
+            }
+        } catch (IOException | RuntimeException e) {
+            data.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a builder for a store of {@code client}'s logs in {@code directory}. The
+     * directory is created if needed; an existing store in it is reopened.
+     *
+     * @param client    the client to fetch logs and block hashes from
+     * @param directory the directory holding the store's files
+     * @return a new builder
+     */
+    public static Builder builder(final Brane client, final Path directory) {
+        return new Builder(Objects.requireNonNull(client, "client"), Objects.requireNonNull(directory, "directory"));
+    }
+
+    /**
+     * Reads the header, or writes it for a new store, and loads the segment index.
+     *
+     * @return the offset of the first index record
+     */
+    private long openIndex() throws IOException {
+        final int headerSize = 4 + 4 + 8 + 4 + 20 * addresses.size();
+        final ByteBuffer header = ByteBuffer.allocate(headerSize);
+        header.putInt(MAGIC).putInt(VERSION).putLong(startBlock).putInt(addresses.size());
+        addresses.forEach(address -> address.putTo(header));
+        header.flip();
+
+        if (index.size() == 0) {
+            writeFully(index, header, 0);
+            index.force(true);
+            data.truncate(0);
+            return headerSize;
+        }
+        final ByteBuffer existing = ByteBuffer.allocate(headerSize);
+        index.read(existing, 0);
+        if (!existing.flip().equals(header)) {
+            throw new IllegalArgumentException(
+                    "Log store was created for a different start block or address list");
+        }
+
+        final ByteBuffer records = ByteBuffer.allocate((int) (index.size() - headerSize));
+        index.read(records, headerSize);
+        records.flip();
+        long end = headerSize;
+        long expectedBlock = startBlock;
+        long expectedOffset = 0;
+        while (records.hasRemaining()) {
+            final int at = records.position();
+            final LogSegment segment = LogSegment.decode(records);
+            if (segment == null || segment.fromBlock != expectedBlock || segment.offset != expectedOffset
+                    || segment.offset + segment.length > data.size()) {
+                log.warn("Discarding log store index from record at offset {}", headerSize + at);
+                break;
+            }
+            segments.add(segment);
+            end = headerSize + records.position();
+            expectedBlock = segment.toBlock + 1;
+            expectedOffset = segment.offset + segment.length;
+        }
+        index.truncate(end);
+        dataEnd = expectedOffset;
+        data.truncate(dataEnd);
+        return headerSize;
+    }
+
+    /**
+     * Returns the last block held by the store, or {@code fromBlock - 1} if it is empty.
+     *
+     * @return the synced head block number
+     */
+    public long syncedBlock() {
+        lock.readLock().lock();
+        try {
+            return segments.isEmpty() ? startBlock - 1 : segments.get(segments.size() - 1).toBlock;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the logs matching {@code filter}, syncing the store up to the filter's
+     * {@code toBlock} first if needed.
+     *
+     * <p>
+     * The filter must name its addresses, all of them tracked by this store, unless the store
+     * tracks every contract. Topics match by position as in {@code eth_getLogs}. An absent
+     * {@code fromBlock} means the store's first block and an absent {@code toBlock} means the
+     * node's latest block, which always triggers a sync.
+     *
+     * @param filter the filter
+     * @return the matching logs in chain order
+     * @throws IllegalArgumentException if the filter is outside what the store tracks
+     * @throws RpcException             if the missing range cannot be fetched
+     * @throws UncheckedIOException     if the store's files cannot be read or written
+     */
+    public List<LogEntry> getLogs(final LogFilter filter) {
+        Objects.requireNonNull(filter, "filter");
+        final List<Address> queried = filter.addresses().orElse(addresses);
+        if (!tracked.isEmpty() && (queried.isEmpty() || !tracked.containsAll(queried))) {
+            throw new IllegalArgumentException("Filter addresses " + queried + " are not tracked by this store");
+        }
+        final long from = filter.fromBlock().orElse(startBlock);
+        if (from < startBlock) {
+            throw new IllegalArgumentException(
+                    "fromBlock " + from + " is before the store's first block " + startBlock);
+        }
+        final long to = filter.toBlock().isPresent() ? filter.toBlock().get() : source.latestBlock();
+        if (to < from) {
+            return List.of();
+        }
+        if (filter.toBlock().isEmpty() || to > syncedBlock()) {
+            sync(to);
+        }
+        return scan(from, to, queried, filter.topics().orElse(List.of()));
+    }
+
+    /**
+     * Syncs the store up to the node's latest block.
+     *
+     * @return the synced head block number
+     * @throws RpcException         if the missing range cannot be fetched
+     * @throws UncheckedIOException if the store's files cannot be written
+     */
+    public long sync() {
+        return sync(source.latestBlock());
+    }
+
+    /**
+     * Syncs the store up to {@code toBlock}, first rolling back any stored blocks that are no
+     * longer canonical.
+     *
+     * @param toBlock the last block to hold
+     * @return the synced head block number, at least {@code toBlock}
+     * @throws RpcException         if the missing range cannot be fetched
+     * @throws UncheckedIOException if the store's files cannot be written
+     */
+    public long sync(final long toBlock) {
+        synchronized (syncLock) {
+            int inconsistent = 0;
+            while (true) {
+                ensureOpen();
+                final long tip = syncedBlock();
+                final long to = Math.min(toBlock, tip + chunkSize);
+                final Hash before = tip < toBlock ? requireHash(to) : null;
+                if (!tipCanonical()) {
+                    rollback();
+                    continue;
+                }
+                if (before == null) {
+                    return tip;
+                }
+                final List<FetchedLog> logs;
+                try {
+                    logs = source.logs(tip + 1, to, addresses);
+                } catch (RpcException e) {
+                    if (to == tip + 1) {
+                        throw e;
+                    }
+                    chunkSize = (int) Math.max(1, (to - tip) / 2);
+                    log.debug("eth_getLogs over {} blocks failed ({}), retrying with {}", to - tip, e.getMessage(),
+                            chunkSize);
+                    continue;
+                }
+                if (!before.equals(requireHash(to)) || !consistent(logs, tip + 1, to, before)) {
+                    if (++inconsistent == MAX_INCONSISTENT_FETCHES) {
+                        throw new RpcException(-32000, "Chain kept changing while fetching logs for blocks "
+                                + (tip + 1) + ".." + to, null);
+                    }
+                    continue;
+                }
+                inconsistent = 0;
+                append(logs, to, before);
+            }
+        }
+    }
+
+    /**
+     * Keeps the store synced to the chain head by syncing on every {@code newHeads}
+     * notification. Failures are logged and retried on the next head.
+     *
+     * @return the subscription; unsubscribe it to stop following
+     * @throws UnsupportedOperationException if the client cannot subscribe
+     */
+    public Subscription follow() {
+        ensureOpen();
+        return source.onNewHeads(head -> {
+            try {
+                sync(head.number());
+            } catch (RuntimeException e) {
+                log.warn("Log store sync to block {} failed: {}", head.number(), e.getMessage());
+            }
+        });
+    }
+
+    // ==================== Sync internals ====================
+
+    private Hash requireHash(final long number) {
+        final Hash hash = source.blockHash(number);
+        if (hash == null) {
+            throw new RpcException(-32000, "Block " + number + " not found", null);
+        }
+        return hash;
+    }
+
+    private boolean canonical(final long number, final byte[] hash) {
+        final Hash actual = source.blockHash(number);
+        return actual != null && Arrays.equals(actual.toBytes(), hash);
+    }
+
+    private boolean tipCanonical() {
+        final LogSegment last;
+        lock.readLock().lock();
+        try {
+            if (segments.isEmpty()) {
+                return true;
+            }
+            last = segments.get(segments.size() - 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return canonical(last.toBlock, last.toHash);
+    }
+
+    /**
+     * Checks that fetched logs lie in the requested range, in chain order, and agree with the
+     * range's end block hash.
+     */
+    private static boolean consistent(final List<FetchedLog> logs, final long from, final long to, final Hash toHash) {
+        long previous = from;
+        for (final FetchedLog fetched : logs) {
+            final long number = fetched.blockNumber();
+            if (number < previous || number > to || fetched.log().blockHash() == null || fetched.log().removed()) {
+                return false;
+            }
+            if (number == to && !toHash.equals(fetched.log().blockHash())) {
+                return false;
+            }
+            previous = number;
+        }
+        return true;
+    }
+
+    /**
+     * Drops every stored block after the newest one still on the canonical chain.
+     */
+    private void rollback() {
+        // Only the sync thread mutates segments, so reading them without the lock is safe here
+        int keep = segments.size() - 1;
+        while (keep >= 0 && !canonical(segments.get(keep).toBlock, segments.get(keep).toHash)) {
+            keep--;
+        }
+        final LogSegment forked = segments.get(keep + 1);
+        final ByteBuffer view = map(forked);
+        long keptBlock = forked.fromBlock - 1;
+        byte[] keptHash = null;
+        int keptCount = 0;
+        long keptLength = 0;
+        // Newest canonical block with logs in the forked segment; its ancestors are canonical too
+        final List<long[]> blocks = new ArrayList<>();
+        int at = 0;
+        for (int i = 0; i < forked.count; i++) {
+            final long number = LogSegment.blockNumber(view, at);
+            final int next = LogSegment.next(view, at);
+            if (blocks.isEmpty() || blocks.get(blocks.size() - 1)[0] != number) {
+                blocks.add(new long[] {number, at, i});
+            }
+            blocks.get(blocks.size() - 1)[1] = next;
+            blocks.get(blocks.size() - 1)[2] = i + 1;
+            at = next;
+        }
+        for (int b = blocks.size() - 1; b >= 0; b--) {
+            final long[] block = blocks.get(b);
+            final int blockStart = b == 0 ? 0 : (int) blocks.get(b - 1)[1];
+            final byte[] hash = LogSegment.blockHash(view, blockStart);
+            if (canonical(block[0], hash)) {
+                keptBlock = block[0];
+                keptHash = hash;
+                keptLength = block[1];
+                keptCount = (int) block[2];
+                break;
+            }
+        }
+        log.info("Log store rolled back to block {} after a reorg", keptHash != null ? keptBlock : forked.fromBlock - 1);
+
+        lock.writeLock().lock();
+        try {
+            while (segments.size() > keep + 1) {
+                maps.remove(segments.remove(segments.size() - 1));
+            }
+            if (keptHash != null) {
+                forked.toBlock = keptBlock;
+                forked.toHash = keptHash;
+                forked.length = keptLength;
+                forked.count = keptCount;
+                forked.rebuild(view);
+                segments.add(forked);
+            }
+            final LogSegment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            dataEnd = last == null ? 0 : last.offset + last.length;
+            writeIndex(keep + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends the logs of a fetched range, sealing the tail segment and starting a new one at
+     * block boundaries whenever it fills up.
+     */
+    private void append(final List<FetchedLog> logs, final long to, final Hash toHash) {
+        int bytes = 0;
+        for (final FetchedLog fetched : logs) {
+            bytes += LogSegment.recordSize(fetched.log());
+        }
+        final ByteBuffer out = ByteBuffer.allocate(bytes);
+
+        lock.writeLock().lock();
+        try {
+            final int firstChanged = Math.max(0, segments.size() - 1);
+            LogSegment tail = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (tail != null && tail.full(segmentBlocks)) {
+                tail = null;
+            }
+            for (int i = 0; i < logs.size(); i++) {
+                final FetchedLog fetched = logs.get(i);
+                final boolean blockStart = i == 0 || logs.get(i - 1).blockNumber() != fetched.blockNumber();
+                if (blockStart && tail != null && tail.full(segmentBlocks)) {
+                    tail.seal();
+                    tail = null;
+                }
+                if (tail == null) {
+                    tail = new LogSegment(lastBlock() + 1, dataEnd + out.position());
+                    segments.add(tail);
+                }
+                LogSegment.write(out, fetched.blockNumber(), fetched.log());
+                tail.add(fetched.log().address(), fetched.log().topics());
+                tail.length = dataEnd + out.position() - tail.offset;
+                tail.count++;
+                tail.toBlock = fetched.blockNumber();
+                tail.toHash = fetched.log().blockHash().toBytes();
+            }
+            if (tail == null) {
+                tail = new LogSegment(lastBlock() + 1, dataEnd);
+                segments.add(tail);
+            }
+            tail.toBlock = to;
+            tail.toHash = toHash.toBytes();
+            if (tail.full(segmentBlocks)) {
+                tail.seal();
+            }
+
+            writeFully(data, out.flip(), dataEnd);
+            data.force(false);
+            dataEnd += bytes;
+            writeIndex(firstChanged);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long lastBlock() {
+        return segments.isEmpty() ? startBlock - 1 : segments.get(segments.size() - 1).toBlock;
+    }
+
+    /** Rewrites the index records from segment {@code from} onwards. */
+    private void writeIndex(final int from) throws IOException {
+        long position = indexStart;
+        for (int i = 0; i < from && i < segments.size(); i++) {
+            position += segments.get(i).indexSize();
+        }
+        index.truncate(position);
+        for (int i = from; i < segments.size(); i++) {
+            final ByteBuffer record = segments.get(i).encode();
+            writeFully(index, record, position);
+            position += record.capacity();
+        }
+        index.force(false);
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+            throws IOException {
+        long at = position;
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+    }
+
+    // ==================== Queries ====================
+
+    private List<LogEntry> scan(final long from, final long to, final List<Address> queried, final List<Hash> topics) {
+        final long[] addressKeys = new long[queried.size()];
+        final byte[][] addressBytes = new byte[queried.size()][];
+        for (int i = 0; i < addressKeys.length; i++) {
+            addressBytes[i] = queried.get(i).toBytes();
+            addressKeys[i] = LogSegment.addressKey(addressBytes[i]);
+        }
+        // Null topics are dropped, as they are when the filter is sent to eth_getLogs
+        final List<byte[]> topicBytes = new ArrayList<>();
+        for (final Hash topic : topics) {
+            if (topic != null) {
+                topicBytes.add(topic.toBytes());
+            }
+        }
+        final long[] topicKeys = new long[topicBytes.size()];
+        for (int t = 0; t < topicKeys.length; t++) {
+            topicKeys[t] = LogSegment.topicKey(t, topicBytes.get(t));
+        }
+
+        final List<LogEntry> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            for (int s = firstSegment(from); s < segments.size(); s++) {
+                final LogSegment segment = segments.get(s);
+                if (segment.fromBlock > to) {
+                    break;
+                }
+                if (segment.count == 0 || !mightMatch(segment, addressKeys, topicKeys)) {
+                    continue;
+                }
+                final ByteBuffer view = map(segment);
+                final byte[] address = new byte[20];
+                final byte[] topic = new byte[32];
+                int at = 0;
+                for (int i = 0; i < segment.count; i++, at = LogSegment.next(view, at)) {
+                    final long number = LogSegment.blockNumber(view, at);
+                    if (number < from) {
+                        continue;
+                    }
+                    if (number > to) {
+                        break;
+                    }
+                    view.get(at + 76, address);
+                    if (!containsAddress(addressBytes, address)) {
+                        continue;
+                    }
+                    final int topicCount = view.get(at + 96) & 0xFF;
+                    if (topicCount < topicBytes.size()) {
+                        continue;
+                    }
+                    boolean match = true;
+                    for (int t = 0; t < topicBytes.size() && match; t++) {
+                        view.get(at + LogSegment.LOG_HEADER_BYTES + 32 * t, topic);
+                        match = Arrays.equals(topic, topicBytes.get(t));
+                    }
+                    if (match) {
+                        result.add(LogSegment.read(view, at));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /** Returns the index of the first segment that may hold {@code block}. */
+    private int firstSegment(final long block) {
+        int lo = 0;
+        int hi = segments.size();
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (segments.get(mid).toBlock < block) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static boolean mightMatch(final LogSegment segment, final long[] addressKeys, final long[] topicKeys) {
+        if (addressKeys.length > 0) {
+            boolean any = false;
+            for (final long key : addressKeys) {
+                if (segment.mightContain(key)) {
+                    any = true;
+                    break;
+                }
+            }
+            if (!any) {
+                return false;
+            }
+        }
+        for (final long key : topicKeys) {
+            if (!segment.mightContain(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsAddress(final byte[][] addresses, final byte[] address) {
+        if (addresses.length == 0) {
+            return true;
+        }
+        for (final byte[] candidate : addresses) {
+            if (Arrays.equals(candidate, address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a read-only map of a segment's data, remapping when the segment has grown.
+     * Callers hold either lock; the map cache itself is guarded by synchronizing on it.
+     */
+    private ByteBuffer map(final LogSegment segment) {
+        synchronized (maps) {
+            MappedByteBuffer view = maps.get(segment);
+            if (view == null || view.capacity() != segment.length) {
+                try {
+                    view = data.map(FileChannel.MapMode.READ_ONLY, segment.offset, segment.length);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                maps.put(segment, view);
+            }
+            return view.duplicate();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("LogStore is closed");
+        }
+    }
+
+    /**
+     * Closes the store's files. Idempotent.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            maps.clear();
+            data.close();
+            index.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ==================== Source ====================
+
+    /**
+     * A log fetched with its block number, which {@link LogEntry} does not carry.
+     *
+     * @param blockNumber the number of the block containing the log
+     * @param log         the log
+     */
+    record FetchedLog(long blockNumber, LogEntry log) {
+    }
+
+    /**
+     * Source of logs and block hashes; implemented over a {@link DefaultReader}.
+     */
+    interface LogSource {
+        /** Returns the logs of {@code addresses}, or of all contracts if empty, in chain order. */
+        List<FetchedLog> logs(long fromBlock, long toBlock, List<Address> addresses);
+
+        @Nullable Hash blockHash(long number);
+
+        long latestBlock();
+
+        Subscription onNewHeads(Consumer<BlockHeader> callback);
+    }
+
+    /**
+     * Builder for {@link LogStore}.
+     *
+     * @since 0.3.0
+     */
+    public static final class Builder {
+        private final Brane client;
+        private final Path directory;
+        private final Set<Address> addresses = new LinkedHashSet<>();
+        private long fromBlock;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int segmentBlocks = DEFAULT_SEGMENT_BLOCKS;
+
+        private Builder(final Brane client, final Path directory) {
+            this.client = client;
+            this.directory = directory;
+        }
+
+        /**
+         * Sets the contracts whose logs are stored. With no addresses the store holds the
+         * logs of every contract, which is only practical over short ranges.
+         *
+         * @param addresses the contract addresses
+         * @return this builder
+         */
+        public Builder addresses(final List<Address> addresses) {
+            Objects.requireNonNull(addresses, "addresses");
+            addresses.forEach(address -> this.addresses.add(Objects.requireNonNull(address, "address")));
+            return this;
+        }
+
+        /**
+         * Sets the first block held by the store. Defaults to 0.
+         *
+         * @param fromBlock the first block number, not negative
+         * @return this builder
+         */
+        public Builder fromBlock(final long fromBlock) {
+            if (fromBlock < 0) {
+                throw new IllegalArgumentException("fromBlock must not be negative, got " + fromBlock);
+            }
+            this.fromBlock = fromBlock;
+            return this;
+        }
+
+        /**
+         * Sets how many blocks are requested per {@code eth_getLogs} call. The store halves
+         * it when the node rejects a range. Defaults to {@value #DEFAULT_CHUNK_SIZE}.
+         *
+         * @param blocks the chunk size in blocks, must be positive
+         * @return this builder
+         */
+        public Builder chunkSize(final int blocks) {
+            if (blocks < 1) {
+                throw new IllegalArgumentException("chunkSize must be positive, got " + blocks);
+            }
+            this.chunkSize = blocks;
+            return this;
+        }
+
+        /**
+         * Sets how many blocks an indexed segment spans before the next log starts a new one.
+         * Segments also end once their bloom filter holds about {@value LogSegment#CAPACITY}
+         * distinct addresses and topics.
+         * Defaults to {@value #DEFAULT_SEGMENT_BLOCKS}.
+         *
+         * @param blocks the segment span in blocks, must be positive
+         * @return this builder
+         */
+        public Builder segmentBlocks(final int blocks) {
+            if (blocks < 1) {
+                throw new IllegalArgumentException("segmentBlocks must be positive, got " + blocks);
+            }
+            this.segmentBlocks = blocks;
+            return this;
+        }
+
+        /**
+         * Opens the store, creating it if the directory holds none.
+         *
+         * @return the open store
+         * @throws IOException              if the store's files cannot be opened
+         * @throws IllegalArgumentException if the directory holds a store created with a
+         *                                  different start block or address list
+         */
+        public LogStore open() throws IOException {
+            final DefaultReader reader = (DefaultReader) client;
+            reader.ensureOpen();
+            final LogSource source = new LogSource() {
+                @Override
+                public List<FetchedLog> logs(final long from, final long to, final List<Address> addresses) {
+                    return reader.getLogsWithBlockNumbers(new LogFilter(
+                            Optional.of(from),
+                            Optional.of(to),
+                            addresses.isEmpty() ? Optional.empty() : Optional.of(addresses),
+                            Optional.empty()));
+                }
+
+                @Override
+                public @Nullable Hash blockHash(final long number) {
+                    final BlockHeader header = reader.fetchBlockHeader(BlockTag.of(number));
+                    return header != null ? header.hash() : null;
+                }
+
+                @Override
+                public long latestBlock() {
+                    final BlockHeader latest = reader.getLatestBlock();
+                    if (latest == null) {
+                        throw RpcException.fromNullResult("eth_getBlockByNumber");
+                    }
+                    return latest.number();
+                }
+
+                @Override
+                public Subscription onNewHeads(final Consumer<BlockHeader> callback) {
+                    if (!reader.canSubscribe()) {
+                        throw new UnsupportedOperationException("This client cannot subscribe to newHeads");
+                    }
+                    return reader.onNewHeads(callback);
+                }
+            };
+            return new LogStore(source, directory, fromBlock, List.copyOf(addresses), chunkSize, segmentBlocks);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Built-in, lock-free {@link BraneMetrics} implementation that keeps per-method
+ * request statistics in memory.
+ *
+ * <p>
+ * For each JSON-RPC method the recorder tracks request counts by outcome,
+ * in-flight requests, bytes sent and received, retries (and retries refused by a
+ * {@link RetryBudget}) and a latency histogram
+ * with roughly 3% precision. It also tracks {@link MulticallBatch} executions and
+ * a few connection-level counters. Call {@link #snapshot()} to read the current
+ * values, e.g. from a Prometheus scrape handler.
+ *
+ * <p>
+ * <strong>Performance:</strong> every callback is a map lookup plus a few
+ * {@link LongAdder} or atomic increments, and never allocates once a method has
+ * been seen. It is intended to stay enabled in production.
+ *
+ * <p>
+ * <strong>Cardinality:</strong> at most {@value #MAX_METHODS} distinct method
+ * names are tracked. Further methods are aggregated under {@link #OTHER_METHOD}
+ * so a misbehaving caller cannot grow the recorder without bound.
+ *
+ * <p>
+ * <strong>Usage:</strong>
+ *
+ * <pre>{@code
+ * MetricsRecorder recorder = new MetricsRecorder();
+ * HttpBraneProvider provider = HttpBraneProvider.builder(url).build();
+ * provider.setMetrics(recorder);
+ *
+ * // later, e.g. in a scrape endpoint
+ * MetricsRecorder.Snapshot snapshot = recorder.snapshot();
+ * MetricsRecorder.MethodSnapshot call = snapshot.methods().get("eth_call");
+ * long p99 = call.latency().p99Nanos();
+ * }</pre>
+ *
+ * @since 0.3.0
+ */
+public final class MetricsRecorder implements BraneMetrics {
+
+    /** Maximum number of distinct method names tracked individually. */
+    public static final int MAX_METHODS = 256;
+
+    /** Name under which methods beyond {@link #MAX_METHODS} are aggregated. */
+    public static final String OTHER_METHOD = "other";
+
+    private final ConcurrentHashMap<String, MethodStats> methods = new ConcurrentHashMap<>();
+    private final LongAdder multicallBatches = new LongAdder();
+    private final LongAdder multicallCalls = new LongAdder();
+    private final LongAdder multicallChunks = new LongAdder();
+    private final LatencyHistogram multicallLatency = new LatencyHistogram();
+    private final LongAdder backpressureRejections = new LongAdder();
+    private final LongAdder orphanedResponses = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    @Override
+    public void onRequestStarted(final String method) {
+        stats(method).started.increment();
+    }
+
+    @Override
+    public void onRequestCompleted(final String method, final long latencyNanos) {
+        final MethodStats stats = stats(method);
+        stats.completed.increment();
+        stats.latency.record(latencyNanos);
+    }
+
+    @Override
+    public void onRequestFailed(final String method, final Throwable error) {
+        stats(method).failed.increment();
+    }
+
+    @Override
+    public void onRequestTimeout(final String method, final long requestId) {
+        stats(method).timedOut.increment();
+    }
+
+    @Override
+    public void onBytesSent(final String method, final long bytes) {
+        stats(method).bytesSent.add(bytes);
+    }
+
+    @Override
+    public void onBytesReceived(final String method, final long bytes) {
+        stats(method).bytesReceived.add(bytes);
+    }
+
+    @Override
+    public void onRetry(final String method, final int attempt, final Throwable cause) {
+        stats(method).retries.increment();
+    }
+
+    @Override
+    public void onRetryDenied(final String method, final Throwable cause) {
+        stats(method).retriesDenied.increment();
+    }
+
+    @Override
+    public void onMulticallExecuted(final int calls, final int chunks, final long latencyNanos) {
+        multicallBatches.increment();
+        multicallCalls.add(calls);
+        multicallChunks.add(chunks);
+        multicallLatency.record(latencyNanos);
+    }
+
+    @Override
+    public void onBackpressure(final int pendingCount, final int maxPendingRequests) {
+        backpressureRejections.increment();
+    }
+
+    @Override
+    public void onOrphanedResponse(final String reason) {
+        orphanedResponses.increment();
+    }
+
+    @Override
+    public void onReconnect() {
+        reconnects.increment();
+    }
+
+    /**
+     * Returns a point-in-time copy of all recorded metrics.
+     *
+     * <p>
+     * Counters are read individually, so values recorded concurrently with this
+     * call may be reflected in some fields and not others.
+     *
+     * @return the current metrics, with methods sorted by name
+     */
+    public Snapshot snapshot() {
+        final Map<String, MethodSnapshot> methodSnapshots = new HashMap<>();
+        methods.forEach((name, stats) -> methodSnapshots.put(name, stats.snapshot(name)));
+        return new Snapshot(
+                methodSnapshots,
+                new MulticallSnapshot(
+                        multicallBatches.sum(),
+                        multicallCalls.sum(),
+                        multicallChunks.sum(),
+                        multicallLatency.snapshot()),
+                backpressureRejections.sum(),
+                orphanedResponses.sum(),
+                reconnects.sum());
+    }
+
+    private MethodStats stats(final String method) {
+        final MethodStats existing = methods.get(method);
+        if (existing != null) {
+            return existing;
+        }
+        final String key = methods.size() < MAX_METHODS ? method : OTHER_METHOD;
+        return methods.computeIfAbsent(key, ignored -> new MethodStats());
+    }
+
+    /**
+     * Mutable per-method counters.
+     */
+    private static final class MethodStats {
+        final LongAdder started = new LongAdder();
+        final LongAdder completed = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        final LongAdder timedOut = new LongAdder();
+        final LongAdder retries = new LongAdder();
+        final LongAdder retriesDenied = new LongAdder();
+        final LongAdder bytesSent = new LongAdder();
+        final LongAdder bytesReceived = new LongAdder();
+        final LatencyHistogram latency = new LatencyHistogram();
+
+        MethodSnapshot snapshot(final String method) {
+            // Read outcomes before starts so a request finishing mid-snapshot cannot make inFlight negative
+            final long completedCount = completed.sum();
+            final long failedCount = failed.sum();
+            final long timedOutCount = timedOut.sum();
+            final long startedCount = started.sum();
+            return new MethodSnapshot(
+                    method,
+                    startedCount,
+                    completedCount,
+                    failedCount,
+                    timedOutCount,
+                    Math.max(0L, startedCount - completedCount - failedCount - timedOutCount),
+                    retries.sum(),
+                    retriesDenied.sum(),
+                    bytesSent.sum(),
+                    bytesReceived.sum(),
+                    latency.snapshot());
+        }
+    }
+
+    /**
+     * Point-in-time view of all metrics held by a {@link MetricsRecorder}.
+     *
+     * @param methods                per-method statistics keyed by method name
+     * @param multicall              {@link MulticallBatch} statistics
+     * @param backpressureRejections requests rejected because too many were pending
+     * @param orphanedResponses      responses received with no matching request
+     * @param reconnects             successful WebSocket reconnections
+     * @since 0.3.0
+     */
+    public record Snapshot(
+            Map<String, MethodSnapshot> methods,
+            MulticallSnapshot multicall,
+            long backpressureRejections,
+            long orphanedResponses,
+            long reconnects) {
+
+        public Snapshot {
+            methods = Collections.unmodifiableMap(new TreeMap<>(Objects.requireNonNull(methods, "methods")));
+            Objects.requireNonNull(multicall, "multicall");
+        }
+    }
+
+    /**
+     * Statistics for a single JSON-RPC method.
+     *
+     * @param method        the method name
+     * @param started       requests started
+     * @param completed     requests that received a response (including JSON-RPC errors)
+     * @param failed        requests that got no usable response
+     * @param timedOut      requests that timed out
+     * @param inFlight      requests started but not yet finished
+     * @param retries       retry attempts made after a failure
+     * @param retriesDenied failures not retried because the retry budget was exhausted
+     * @param bytesSent     total request payload bytes
+     * @param bytesReceived total response payload bytes
+     * @param latency       latency of completed requests
+     * @since 0.3.0
+     */
+    public record MethodSnapshot(
+            String method,
+            long started,
+            long completed,
+            long failed,
+            long timedOut,
+            long inFlight,
+            long retries,
+            long retriesDenied,
+            long bytesSent,
+            long bytesReceived,
+            LatencySnapshot latency) {
+
+        /**
+         * Returns requests sent per logical call, i.e. how much retries multiplied
+         * the load this method put on the provider. Relies on the provider reporting
+         * {@link BraneMetrics#onRequestStarted(String)} for every attempt.
+         *
+         * @return the retry amplification factor, or 1.0 if nothing was started
+         */
+        public double amplification() {
+            final long calls = started - retries;
+            return calls <= 0 ? 1.0 : started / (double) calls;
+        }
+    }
+
+    /**
+     * Statistics for {@link MulticallBatch} executions.
+     *
+     * @param batches total batches executed
+     * @param calls   total calls across all batches
+     * @param chunks  total {@code aggregate3} requests sent
+     * @param latency latency of whole batch executions
+     * @since 0.3.0
+     */
+    public record MulticallSnapshot(long batches, long calls, long chunks, LatencySnapshot latency) {
+    }
+
+    /**
+     * Summary of a latency distribution. Percentiles are the highest value in
+     * the matching histogram bucket, so they over-estimate by at most about 3%.
+     *
+     * @param count     number of recorded values
+     * @param minNanos  smallest recorded value
+     * @param maxNanos  largest recorded value
+     * @param meanNanos arithmetic mean
+     * @param p50Nanos  median
+     * @param p90Nanos  90th percentile
+     * @param p99Nanos  99th percentile
+     * @param p999Nanos 99.9th percentile
+     * @since 0.3.0
+     */
+    public record LatencySnapshot(
+            long count,
+            long minNanos,
+            long maxNanos,
+            double meanNanos,
+            long p50Nanos,
+            long p90Nanos,
+            long p99Nanos,
+            long p999Nanos) {
+
+        /** Summary of an empty histogram. */
+        public static final LatencySnapshot EMPTY = new LatencySnapshot(0, 0, 0, 0.0, 0, 0, 0, 0);
+    }
+}
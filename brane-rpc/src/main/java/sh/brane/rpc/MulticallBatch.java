@@ -70,7 +70,7 @@ public final class MulticallBatch {
     private static final String MULTICALL_ABI_JSON = "[{\"inputs\":[{\"components\":[{\"internalType\":\"address\",\"name\":\"target\",\"type\":\"address\"},{\"internalType\":\"bool\",\"name\":\"allowFailure\",\"type\":\"bool\"},{\"internalType\":\"bytes\",\"name\":\"callData\",\"type\":\"bytes\"}],\"internalType\":\"struct Multicall3.Call3[]\",\"name\":\"calls\",\"type\":\"tuple[]\"}],\"name\":\"aggregate3\",\"outputs\":[{\"components\":[{\"internalType\":\"bool\",\"name\":\"success\",\"type\":\"bool\"},{\"internalType\":\"bytes\",\"name\":\"returnData\",\"type\":\"bytes\"}],\"internalType\":\"struct Multicall3.Result[]\",\"name\":\"returnData\",\"type\":\"tuple[]\"}],\"stateMutability\":\"payable\",\"type\":\"function\"}]";
 
     /** Cached parsed ABI to avoid JSON parsing on each chunk execution. */
-    private static final Abi MULTICALL_ABI = Abi.fromJson(MULTICALL_ABI_JSON);
+    static final Abi MULTICALL_ABI = Abi.fromJson(MULTICALL_ABI_JSON);
 
     /**
      * Default Multicall3 address.
@@ -83,7 +83,7 @@ public final class MulticallBatch {
      *
      * @see <a href="https://github.com/mds1/multicall">Multicall3 Deployments</a>
      */
-    private static final Address MULTICALL_ADDRESS = new Address("0xca11bde05977b3631167028862be2a173976ca11");
+    static final Address MULTICALL_ADDRESS = new Address("0xca11bde05977b3631167028862be2a173976ca11");
 
     /**
      * Default maximum number of calls per chunk when batching via Multicall3.
@@ -109,13 +109,13 @@ public final class MulticallBatch {
      * @see #chunkSize(int)
      * @see #MAX_CHUNK_SIZE
      */
-    private static final int DEFAULT_CHUNK_SIZE = 500;
+    static final int DEFAULT_CHUNK_SIZE = 500;
 
     /**
      * Maximum allowed chunk size. 1000 calls approaches RPC provider limits for
      * most endpoints and risks timeouts or payload size errors.
      */
-    private static final int MAX_CHUNK_SIZE = 1000;
+    static final int MAX_CHUNK_SIZE = 1000;
 
     /**
      * Functional interface for executing eth_call requests.
@@ -126,14 +126,16 @@ public final class MulticallBatch {
     }
 
     private final CallExecutor callExecutor;
+    private final BraneMetrics metrics;
     private final List<CallContext<?>> calls = new ArrayList<>();
     private final ThreadLocal<CallContext<?>> pendingCall = new ThreadLocal<>();
     private boolean globalAllowFailure = true;
     private int chunkSize = DEFAULT_CHUNK_SIZE;
     private boolean executed = false;
 
-    private MulticallBatch(final CallExecutor callExecutor) {
+    private MulticallBatch(final CallExecutor callExecutor, final BraneMetrics metrics) {
         this.callExecutor = Objects.requireNonNull(callExecutor, "callExecutor");
+        this.metrics = metrics != null ? metrics : BraneMetrics.noop();
     }
 
     /**
@@ -144,7 +146,7 @@ public final class MulticallBatch {
      */
     static MulticallBatch create(final Brane brane) {
         Objects.requireNonNull(brane, "brane");
-        return new MulticallBatch(brane::call);
+        return new MulticallBatch(brane::call, BraneMetrics.noop());
     }
 
     /**
@@ -154,7 +156,18 @@ public final class MulticallBatch {
      * @return a new batch instance
      */
     static MulticallBatch create(final CallExecutor executor) {
-        return new MulticallBatch(executor);
+        return new MulticallBatch(executor, BraneMetrics.noop());
+    }
+
+    /**
+     * Creates a new multicall batch that reports each execution to {@code metrics}.
+     *
+     * @param executor the call executor to use for eth_call requests
+     * @param metrics  receives {@link BraneMetrics#onMulticallExecuted(int, int, long)}, or null to skip reporting
+     * @return a new batch instance
+     */
+    static MulticallBatch create(final CallExecutor executor, final BraneMetrics metrics) {
+        return new MulticallBatch(executor, metrics);
     }
 
     /**
@@ -367,35 +380,35 @@ public final class MulticallBatch {
         }
 
         // Execute chunks outside the synchronized block for better concurrency
+        final long start = System.nanoTime();
+        int chunks = 0;
         for (int i = 0; i < callsSnapshot.size(); i += chunkSize) {
             final int end = Math.min(i + chunkSize, callsSnapshot.size());
             final List<CallContext<?>> chunk = callsSnapshot.subList(i, end);
             executeChunk(chunk);
+            chunks++;
         }
+        metrics.onMulticallExecuted(callsSnapshot.size(), chunks, System.nanoTime() - start);
     }
 
     private void executeChunk(final List<CallContext<?>> chunk) {
+        final MulticallChunkEvent event = new MulticallChunkEvent();
+        event.begin();
+        long calldataBytes = 0;
         try {
-            // 1. Prepare Call3 objects as a list of tuples
-            final var call3List = new ArrayList<Object>(chunk.size());
+            // 1. Prepare Call3 objects
+            final var call3List = new ArrayList<Call3>(chunk.size());
             for (final CallContext<?> call : chunk) {
-                final Call3 call3 = call.toCall3(globalAllowFailure);
-                // Each Call3 is a tuple (address string, bool, HexData callData)
-                // Note: address is extracted as string, but callData stays as HexData for ABI
-                // encoding
-                call3List.add(List.of(
-                        call3.target().value(),
-                        call3.allowFailure(),
-                        call3.callData()));
+                call3List.add(call.toCall3(globalAllowFailure));
             }
 
             // 2. Encode aggregate3 call
-            final Abi.FunctionCall aggregate3Call = MULTICALL_ABI.encodeFunction("aggregate3", call3List);
+            final Abi.FunctionCall aggregate3Call = encodeAggregate3(call3List);
 
             // 3. Send eth_call
-            final CallRequest callRequest = CallRequest.of(
-                    MULTICALL_ADDRESS,
-                    new HexData(aggregate3Call.data()));
+            final HexData calldata = aggregate3Call.calldata();
+            calldataBytes = calldata.byteLength();
+            final CallRequest callRequest = CallRequest.of(MULTICALL_ADDRESS, calldata);
 
             final String resultHex = callExecutor.call(callRequest, BlockTag.LATEST).value();
 
@@ -410,16 +423,45 @@ public final class MulticallBatch {
             for (int i = 0; i < chunk.size(); i++) {
                 chunk.get(i).complete(results.get(i));
             }
+            commitChunkEvent(event, chunk.size(), calldataBytes, true);
         } catch (Exception e) {
             // Fail all handles in this chunk so callers don't hang waiting for results
             final String errorMessage = "Chunk execution failed: " + e.getMessage();
             for (final CallContext<?> call : chunk) {
                 call.failWithError(errorMessage);
             }
+            commitChunkEvent(event, chunk.size(), calldataBytes, false);
             throw e;
         }
     }
 
+    /**
+     * Encodes an {@code aggregate3} call for the given calls.
+     */
+    static Abi.FunctionCall encodeAggregate3(final List<Call3> calls) {
+        final var tuples = new ArrayList<Object>(calls.size());
+        for (final Call3 call3 : calls) {
+            // Each Call3 is a tuple (address string, bool, HexData callData)
+            // Note: address is extracted as string, but callData stays as HexData for ABI
+            // encoding
+            tuples.add(List.of(
+                    call3.target().value(),
+                    call3.allowFailure(),
+                    call3.callData()));
+        }
+        return MULTICALL_ABI.encodeFunction("aggregate3", tuples);
+    }
+
+    static void commitChunkEvent(
+            final MulticallChunkEvent event, final int calls, final long calldataBytes, final boolean succeeded) {
+        if (event.shouldCommit()) {
+            event.calls = calls;
+            event.calldataBytes = calldataBytes;
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+
     /**
      * Context for an individual call in the batch.
      */
@@ -430,7 +472,7 @@ public final class MulticallBatch {
             BatchHandle<T> handle) {
 
         Call3 toCall3(boolean allowFailure) {
-            return new Call3(target(), allowFailure, new HexData(call().data()));
+            return new Call3(target(), allowFailure, call().calldata());
         }
 
         void complete(MulticallResult result) {
@@ -0,0 +1,33 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one {@code aggregate3} request made by {@link MulticallBatch},
+ * including calldata encoding, the {@code eth_call} and result decoding.
+ */
+@Name("sh.brane.rpc.MulticallChunk")
+@Label("Multicall Chunk")
+@Category({"Brane", "RPC"})
+@Description("One Multicall3 aggregate3 call executed by a MulticallBatch")
+@StackTrace(false)
+final class MulticallChunkEvent extends Event {
+
+    @Label("Calls")
+    int calls;
+
+    @Label("Calldata Size")
+    @DataAmount
+    long calldataBytes;
+
+    @Label("Succeeded")
+    @Description("False if the eth_call or result decoding failed")
+    boolean succeeded;
+}
@@ -0,0 +1,239 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket that caps how much extra load retries may add on top of a client's
+ * own requests.
+ *
+ * <p>
+ * Every call deposits {@link #tokenRatio()} tokens, up to {@link #maxTokens()}, and
+ * every retry withdraws one. When the bucket is empty, a failed attempt is not
+ * retried and the call fails with the error it already has. The bucket starts
+ * full, so isolated failures are always retried, but during a provider brown-out
+ * retries add at most {@code tokenRatio} extra requests per call instead of
+ * multiplying the request rate by the maximum attempt count.
+ *
+ * <p>
+ * A budget is shared by every client whose {@link RpcRetryConfig} holds it. Clients
+ * built without one get a {@linkplain #create() default budget} of their own, shared
+ * by their reads, sends and test calls.
+ *
+ * <p>
+ * <strong>Metrics:</strong> {@link #amplification()} reports attempts per call, the
+ * factor by which retries have multiplied the request rate.
+ *
+ * <pre>{@code
+ * RetryBudget budget = RetryBudget.create();
+ * Brane client = Brane.builder()
+ *     .rpcUrl(url)
+ *     .retryConfig(RpcRetryConfig.builder().retryBudget(budget).build())
+ *     .build();
+ *
+ * // later, e.g. in a scrape endpoint
+ * double amplification = budget.amplification();
+ * }</pre>
+ *
+ * <p>
+ * <strong>Thread safety:</strong> this class is thread-safe. Deposits skip the
+ * atomic update while the bucket is full, so a healthy client pays one volatile
+ * read per call.
+ *
+ * @since 0.3.0
+ */
+public final class RetryBudget {
+
+    /** Default bucket size: up to 100 retries in a burst. */
+    public static final int DEFAULT_MAX_TOKENS = 100;
+
+    /** Default deposit per call: retries may add 10% to the request rate. */
+    public static final double DEFAULT_TOKEN_RATIO = 0.1;
+
+    /** Tokens are held in thousandths so deposits stay integral. */
+    private static final long SCALE = 1000;
+
+    private final int maxTokens;
+    private final double tokenRatio;
+    private final long capacity;
+    private final long deposit;
+    private final boolean unlimited;
+    private final AtomicLong tokens;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    private RetryBudget(final int maxTokens, final double tokenRatio, final boolean unlimited) {
+        this.maxTokens = maxTokens;
+        this.tokenRatio = tokenRatio;
+        this.capacity = maxTokens * SCALE;
+        this.deposit = Math.max(1L, Math.round(tokenRatio * SCALE));
+        this.unlimited = unlimited;
+        this.tokens = new AtomicLong(capacity);
+    }
+
+    /**
+     * Creates a budget with {@value #DEFAULT_MAX_TOKENS} tokens and a deposit of
+     * {@value #DEFAULT_TOKEN_RATIO} per call.
+     *
+     * @return a new budget
+     */
+    public static RetryBudget create() {
+        return create(DEFAULT_MAX_TOKENS, DEFAULT_TOKEN_RATIO);
+    }
+
+    /**
+     * Creates a budget with the given size and deposit.
+     *
+     * @param maxTokens  the most retries that may be made in a burst (must be &gt; 0)
+     * @param tokenRatio tokens deposited per call (must be &gt; 0 and &lt;= maxTokens)
+     * @return a new budget
+     * @throws IllegalArgumentException if either value is out of range
+     */
+    public static RetryBudget create(final int maxTokens, final double tokenRatio) {
+        if (maxTokens <= 0) {
+            throw new IllegalArgumentException("maxTokens must be > 0, got: " + maxTokens);
+        }
+        if (!(tokenRatio > 0) || tokenRatio > maxTokens) {
+            throw new IllegalArgumentException(
+                    "tokenRatio must be > 0 and <= maxTokens, got: " + tokenRatio);
+        }
+        return new RetryBudget(maxTokens, tokenRatio, false);
+    }
+
+    /**
+     * Creates a budget that never denies a retry but still counts calls and retries,
+     * for measuring {@link #amplification()} without limiting it.
+     *
+     * @return a new unlimited budget
+     */
+    public static RetryBudget unlimited() {
+        return new RetryBudget(DEFAULT_MAX_TOKENS, DEFAULT_TOKEN_RATIO, true);
+    }
+
+    /**
+     * Returns the bucket size.
+     *
+     * @return the most retries that may be made in a burst
+     */
+    public int maxTokens() {
+        return maxTokens;
+    }
+
+    /**
+     * Returns the tokens deposited per call.
+     *
+     * @return the deposit per call
+     */
+    public double tokenRatio() {
+        return tokenRatio;
+    }
+
+    /**
+     * Returns whether this budget ever denies retries.
+     *
+     * @return false for {@link #unlimited()} budgets
+     */
+    public boolean isLimited() {
+        return !unlimited;
+    }
+
+    /**
+     * Returns the tokens currently available.
+     *
+     * @return available tokens, between 0 and {@link #maxTokens()}
+     */
+    public double tokens() {
+        return tokens.get() / (double) SCALE;
+    }
+
+    /**
+     * Returns the number of calls made under this budget. A call counts once however
+     * many attempts it took.
+     *
+     * @return the call count
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * Returns the number of retries made under this budget.
+     *
+     * @return the retry count
+     */
+    public long retries() {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of retries this budget refused.
+     *
+     * @return the denied retry count
+     */
+    public long denied() {
+        return denied.sum();
+    }
+
+    /**
+     * Returns attempts per call: 1.0 when nothing has been retried, 3.0 when every call
+     * took three attempts.
+     *
+     * @return the retry amplification factor, or 1.0 before the first call
+     */
+    public double amplification() {
+        // Read retries first so a call finishing mid-read cannot push the ratio below 1
+        final long retryCount = retries.sum();
+        final long callCount = calls.sum();
+        return callCount == 0 ? 1.0 : (callCount + retryCount) / (double) callCount;
+    }
+
+    /**
+     * Records a call and deposits its share of tokens.
+     */
+    void onCall() {
+        calls.increment();
+        if (unlimited) {
+            return;
+        }
+        long current = tokens.get();
+        while (current < capacity) {
+            final long next = Math.min(capacity, current + deposit);
+            if (tokens.compareAndSet(current, next)) {
+                return;
+            }
+            current = tokens.get();
+        }
+    }
+
+    /**
+     * Withdraws one token for a retry.
+     *
+     * @return true if the retry may be made, false if the budget is exhausted
+     */
+    boolean tryRetry() {
+        if (!unlimited) {
+            long current = tokens.get();
+            while (true) {
+                if (current < SCALE) {
+                    denied.increment();
+                    return false;
+                }
+                if (tokens.compareAndSet(current, current - SCALE)) {
+                    break;
+                }
+                current = tokens.get();
+            }
+        }
+        retries.increment();
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return unlimited
+                ? "RetryBudget[unlimited]"
+                : "RetryBudget[maxTokens=" + maxTokens + ", tokenRatio=" + tokenRatio + ", tokens=" + tokens() + "]";
+    }
+}
@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event covering one JSON-RPC request, from serialization until the response
+ * has been parsed or the request has failed.
+ *
+ * <p>
+ * The event duration is the total time spent in the provider. For HTTP the
+ * {@code networkTime} and {@code parseTime} fields split that into time waiting
+ * on the server and time spent deserializing the response, so the remainder is
+ * request serialization. WebSocket requests complete on the I/O thread, so their
+ * events are committed there and only carry the total duration.
+ *
+ * <p>
+ * When no recording has the event enabled, {@link #shouldCommit()} is a constant
+ * false and the JIT can eliminate the instance entirely, so the event can stay in
+ * the request path.
+ */
+@Name("sh.brane.rpc.Request")
+@Label("RPC Request")
+@Category({"Brane", "RPC"})
+@Description("A JSON-RPC request sent through a Brane provider")
+@StackTrace(false)
+final class RpcRequestEvent extends Event {
+
+    static final String HTTP = "http";
+    static final String WEBSOCKET = "websocket";
+
+    static final String SUCCESS = "success";
+    static final String ERROR = "error";
+    static final String FAILED = "failed";
+    static final String TIMEOUT = "timeout";
+
+    private static final EventType TYPE = EventType.getEventType(RpcRequestEvent.class);
+
+    @Label("Method")
+    String method;
+
+    @Label("Request ID")
+    long requestId;
+
+    @Label("Transport")
+    String transport;
+
+    @Label("Outcome")
+    @Description("success, error (JSON-RPC error response), failed or timeout")
+    String outcome;
+
+    @Label("Bytes Sent")
+    @DataAmount
+    long bytesSent;
+
+    @Label("Bytes Received")
+    @DataAmount
+    long bytesReceived;
+
+    @Label("Network Time")
+    @Timespan
+    long networkTime;
+
+    @Label("Parse Time")
+    @Timespan
+    long parseTime;
+
+    /**
+     * Returns whether any running recording has this event enabled. Used where the
+     * event must outlive the calling frame, so the allocation can be skipped.
+     */
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+
+    /**
+     * Commits the event if it passes the recording's settings.
+     */
+    void record(
+            final String transport,
+            final String method,
+            final long requestId,
+            final String outcome,
+            final long bytesSent,
+            final long bytesReceived,
+            final long networkNanos,
+            final long parseNanos) {
+        if (shouldCommit()) {
+            this.transport = transport;
+            this.method = method;
+            this.requestId = requestId;
+            this.outcome = outcome;
+            this.bytesSent = bytesSent;
+            this.bytesReceived = bytesReceived;
+            this.networkTime = networkNanos;
+            this.parseTime = parseNanos;
+            commit();
+        }
+    }
+}
@@ -2,10 +2,18 @@
 package sh.brane.rpc;
 
 import java.io.IOException;
-import java.util.Locale;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import sh.brane.core.error.RevertException;
 import sh.brane.core.error.RpcException;
@@ -26,7 +34,10 @@ import sh.brane.rpc.internal.RpcUtils;
  * </ul>
  *
  * <p>
- * <strong>Retry Conditions:</strong>
+ * <strong>Retry Conditions:</strong> errors are classified by JSON-RPC code first.
+ * Parse errors, invalid requests, unknown methods, invalid params and reverts (code 3)
+ * are never retried; rate limiting (-32005, 429) and internal errors (-32603) always
+ * are. Other codes fall back to precompiled, case-insensitive message rules:
  * <ul>
  * <li>✅ "header not found" - Block not yet propagated</li>
  * <li>✅ "timeout" - Network or node timeout</li>
@@ -50,6 +61,18 @@ import sh.brane.rpc.internal.RpcUtils;
  * </ul>
  *
  * <p>
+ * <strong>Retry Budget:</strong> when the {@link RpcRetryConfig} carries a
+ * {@link RetryBudget}, every call deposits into it and every retry withdraws from it.
+ * Once it is empty, failures are not retried and surface as a
+ * {@link RetryExhaustedException} after the attempts already made, so a provider
+ * brown-out cannot multiply the request rate by the maximum attempt count.
+ *
+ * <p>
+ * <strong>Asynchronous Calls:</strong> {@link #runAsync} and {@link #runRpcAsync}
+ * schedule the backoff on a timer and start the next attempt from it, instead of
+ * sleeping in the caller's thread as the synchronous variants do.
+ *
+ * <p>
  * <strong>Thread Interruption:</strong> If the calling thread is interrupted
  * during backoff, the retry loop terminates and throws the last encountered
  * exception.
@@ -120,12 +143,38 @@ final class RpcRetry {
      * @throws IllegalArgumentException if maxAttempts < 1
      */
     static <T> T run(final Supplier<T> supplier, final int maxAttempts, final RpcRetryConfig config) {
+        return run(supplier, maxAttempts, config, null, BraneMetrics.noop());
+    }
+
+    /**
+     * Executes the supplier with retry, reporting each retry to {@code metrics}.
+     *
+     * @param <T>         the return type
+     * @param supplier    the operation to retry
+     * @param maxAttempts maximum number of attempts (must be >= 1)
+     * @param config      retry configuration for backoff timing
+     * @param method      the JSON-RPC method being retried, reported to metrics
+     * @param metrics     receives {@link BraneMetrics#onRetry(String, int, Throwable)} before each retry,
+     *                    or null to skip reporting
+     * @return the result from the supplier
+     * @throws RpcException             if all retries fail or error is
+     *                                  non-retryable
+     * @throws RetryExhaustedException  if all retry attempts were exhausted
+     * @throws RevertException          if the operation reverts (never retried)
+     * @throws IllegalArgumentException if maxAttempts < 1
+     */
+    static <T> T run(
+            final Supplier<T> supplier,
+            final int maxAttempts,
+            final RpcRetryConfig config,
+            final String method,
+            final BraneMetrics metrics) {
         Objects.requireNonNull(supplier, "supplier");
-        return executeWithRetry(supplier, maxAttempts, config, result -> null);
+        return executeWithRetry(supplier, maxAttempts, config, result -> null, method, metrics);
     }
 
     private static RetryExhaustedException createRetryExhaustedException(
-            final java.util.List<Throwable> failedAttempts,
+            final List<Throwable> failedAttempts,
             final long startTime) {
         final long totalDuration = System.currentTimeMillis() - startTime;
         final Throwable lastFailure = failedAttempts.getLast();
@@ -153,20 +202,29 @@ final class RpcRetry {
      * @param config         retry configuration
      * @param resultChecker  function that checks the result and returns an RpcException if the result
      *                       should trigger a retry, or null if the result is acceptable
+     * @param method         the method name reported with each retry (may be null)
+     * @param metrics        metrics collector notified before each retry (may be null)
      * @return the result from the supplier
      */
     private static <T> T executeWithRetry(
             final Supplier<T> supplier,
             final int maxAttempts,
             final RpcRetryConfig config,
-            final java.util.function.Function<T, RpcException> resultChecker) {
+            final Function<T, RpcException> resultChecker,
+            final String method,
+            final BraneMetrics metrics) {
         Objects.requireNonNull(config, "config");
+        final BraneMetrics sink = metrics != null ? metrics : BraneMetrics.noop();
         if (maxAttempts < 1) {
             throw new IllegalArgumentException("maxAttempts must be >= 1");
         }
+        final RetryBudget budget = config.retryBudget();
+        if (budget != null) {
+            budget.onCall();
+        }
 
         // Lazy-initialized on first failure to avoid allocation on success path
-        java.util.List<Throwable> failedAttempts = null;
+        List<Throwable> failedAttempts = null;
         final long startTime = System.currentTimeMillis();
         Throwable lastException = null;
 
@@ -176,101 +234,297 @@ final class RpcRetry {
 
                 // Check if result should trigger a retry
                 final RpcException retryableError = resultChecker.apply(result);
-                if (retryableError != null) {
-                    lastException = retryableError;
-                    if (failedAttempts == null) {
-                        failedAttempts = new java.util.ArrayList<>();
-                    }
-                    failedAttempts.add(retryableError);
-                    if (attempt == maxAttempts) {
-                        throw createRetryExhaustedException(failedAttempts, startTime);
-                    }
-                } else {
+                if (retryableError == null) {
                     return result;
                 }
-            } catch (RevertException e) {
-                throw e;
-            } catch (RpcException e) {
-                lastException = e;
-                if (failedAttempts == null) {
-                    failedAttempts = new java.util.ArrayList<>();
-                }
-                failedAttempts.add(e);
-                if (!isRetryableRpcError(e)) {
-                    throw e;
-                }
-                if (attempt == maxAttempts) {
-                    throw createRetryExhaustedException(failedAttempts, startTime);
-                }
+                lastException = retryableError;
             } catch (RuntimeException e) {
-                final IOException io = unwrapIo(e);
-                if (io == null) {
+                if (!isRetryable(e)) {
                     throw e;
                 }
                 lastException = e;
-                if (failedAttempts == null) {
-                    failedAttempts = new java.util.ArrayList<>();
-                }
-                failedAttempts.add(e);
-                if (attempt == maxAttempts) {
-                    throw createRetryExhaustedException(failedAttempts, startTime);
-                }
+            }
+            if (failedAttempts == null) {
+                failedAttempts = new ArrayList<>();
+            }
+            failedAttempts.add(lastException);
+            if (attempt == maxAttempts) {
+                throw createRetryExhaustedException(failedAttempts, startTime);
+            }
+            if (budget != null && !budget.tryRetry()) {
+                sink.onRetryDenied(method, lastException);
+                throw createRetryExhaustedException(failedAttempts, startTime);
             }
 
+            sink.onRetry(method, attempt + 1, lastException);
             final long delayMillis = backoff(attempt, config);
+            final RpcRetryEvent event = new RpcRetryEvent();
+            event.begin();
             try {
                 Thread.sleep(delayMillis);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                if (lastException != null) {
-                    // Preserve InterruptedException context by adding it as suppressed
-                    if (lastException instanceof RuntimeException re) {
-                        re.addSuppressed(e);
-                        throw re;
-                    }
-                    final RuntimeException wrapper = new RuntimeException(lastException);
-                    wrapper.addSuppressed(e);
-                    throw wrapper;
+                // Preserve InterruptedException context by adding it as suppressed
+                if (lastException instanceof RuntimeException re) {
+                    re.addSuppressed(e);
+                    throw re;
                 }
-                throw new RuntimeException("Interrupted while retrying", e);
+                final RuntimeException wrapper = new RuntimeException(lastException);
+                wrapper.addSuppressed(e);
+                throw wrapper;
             }
+            commitEvent(event, method, attempt + 1, lastException);
         }
+        throw new IllegalStateException("Retry finished without result or exception");
+    }
+
+    /**
+     * Executes an asynchronous operation with retry on transient failures, without
+     * blocking any thread during backoff.
+     *
+     * <p>
+     * Failures are classified exactly as in {@link #run}. Backoff delays are scheduled
+     * with {@link CompletableFuture#delayedExecutor}, and the next attempt is started from
+     * the timer, so a call waiting to be retried holds no thread. The operation should
+     * therefore return quickly, e.g. by handing the request to a non-blocking transport.
+     *
+     * @param <T>         the result type
+     * @param supplier    starts one attempt of the operation
+     * @param maxAttempts maximum number of attempts (must be >= 1)
+     * @param config      retry configuration for backoff timing and budget
+     * @param method      the JSON-RPC method being retried, reported to metrics
+     * @param metrics     receives retry callbacks, or null to skip reporting
+     * @return a future completed with the first successful result, or exceptionally with
+     *         the exception {@link #run} would have thrown
+     * @throws IllegalArgumentException if maxAttempts < 1
+     */
+    static <T> CompletableFuture<T> runAsync(
+            final Supplier<CompletableFuture<T>> supplier,
+            final int maxAttempts,
+            final RpcRetryConfig config,
+            final String method,
+            final BraneMetrics metrics) {
+        Objects.requireNonNull(supplier, "supplier");
+        return executeWithRetryAsync(supplier, maxAttempts, config, result -> null, method, metrics);
+    }
 
-        if (failedAttempts != null && !failedAttempts.isEmpty()) {
-            throw createRetryExhaustedException(failedAttempts, startTime);
+    /**
+     * Asynchronous counterpart of {@link #runRpc(Supplier, int, RpcRetryConfig, String, BraneMetrics)}:
+     * also retries responses carrying a retryable JSON-RPC error.
+     *
+     * @param supplier    starts one attempt, returning the pending response
+     * @param maxAttempts maximum number of attempts (must be >= 1)
+     * @param config      retry configuration for backoff timing and budget
+     * @param method      the JSON-RPC method being retried, reported to metrics
+     * @param metrics     receives retry callbacks, or null to skip reporting
+     * @return a future completed with the response (which may contain a non-retryable error)
+     * @throws IllegalArgumentException if maxAttempts < 1
+     */
+    static CompletableFuture<JsonRpcResponse> runRpcAsync(
+            final Supplier<CompletableFuture<JsonRpcResponse>> supplier,
+            final int maxAttempts,
+            final RpcRetryConfig config,
+            final String method,
+            final BraneMetrics metrics) {
+        Objects.requireNonNull(supplier, "supplier");
+        return executeWithRetryAsync(
+                supplier, maxAttempts, config, RpcRetry::checkRetryableResponse, method, metrics);
+    }
+
+    private static <T> CompletableFuture<T> executeWithRetryAsync(
+            final Supplier<CompletableFuture<T>> supplier,
+            final int maxAttempts,
+            final RpcRetryConfig config,
+            final Function<T, RpcException> resultChecker,
+            final String method,
+            final BraneMetrics metrics) {
+        Objects.requireNonNull(config, "config");
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be >= 1");
         }
-        throw new IllegalStateException("Retry finished without result or exception");
+        final RetryBudget budget = config.retryBudget();
+        if (budget != null) {
+            budget.onCall();
+        }
+        final AsyncRetry<T> retry = new AsyncRetry<>(
+                supplier, maxAttempts, config, resultChecker, method,
+                metrics != null ? metrics : BraneMetrics.noop());
+        retry.attempt(1);
+        return retry.result;
     }
 
-    static boolean isRetryableRpcError(final RpcException e) {
-        if (e == null || e.getMessage() == null) {
+    /**
+     * State of one asynchronous call across its attempts. Attempts never overlap, so
+     * the failure list needs no synchronization beyond the happens-before edges of the
+     * futures and the timer.
+     */
+    private static final class AsyncRetry<T> {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        private final Supplier<CompletableFuture<T>> supplier;
+        private final int maxAttempts;
+        private final RpcRetryConfig config;
+        private final Function<T, RpcException> resultChecker;
+        private final String method;
+        private final BraneMetrics sink;
+        private final long startTime = System.currentTimeMillis();
+        private final List<Throwable> failedAttempts = new ArrayList<>(0);
+
+        AsyncRetry(
+                final Supplier<CompletableFuture<T>> supplier,
+                final int maxAttempts,
+                final RpcRetryConfig config,
+                final Function<T, RpcException> resultChecker,
+                final String method,
+                final BraneMetrics sink) {
+            this.supplier = supplier;
+            this.maxAttempts = maxAttempts;
+            this.config = config;
+            this.resultChecker = resultChecker;
+            this.method = method;
+            this.sink = sink;
+        }
+
+        void attempt(final int attempt) {
+            if (result.isDone()) {
+                // Cancelled by the caller while waiting for the timer
+                return;
+            }
+            final CompletableFuture<T> pending;
+            try {
+                pending = Objects.requireNonNull(supplier.get(), "supplier returned null");
+            } catch (RuntimeException e) {
+                onFailure(attempt, e);
+                return;
+            }
+            pending.whenComplete((value, error) -> {
+                if (error != null) {
+                    onFailure(attempt, unwrapCompletion(error));
+                    return;
+                }
+                final RpcException retryableError;
+                try {
+                    retryableError = resultChecker.apply(value);
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                    return;
+                }
+                if (retryableError == null) {
+                    result.complete(value);
+                } else {
+                    onFailure(attempt, retryableError);
+                }
+            });
+        }
+
+        private void onFailure(final int attempt, final Throwable failure) {
+            if (!isRetryable(failure)) {
+                result.completeExceptionally(failure);
+                return;
+            }
+            failedAttempts.add(failure);
+            if (attempt == maxAttempts) {
+                result.completeExceptionally(createRetryExhaustedException(failedAttempts, startTime));
+                return;
+            }
+            final RetryBudget budget = config.retryBudget();
+            if (budget != null && !budget.tryRetry()) {
+                sink.onRetryDenied(method, failure);
+                result.completeExceptionally(createRetryExhaustedException(failedAttempts, startTime));
+                return;
+            }
+            sink.onRetry(method, attempt + 1, failure);
+            final RpcRetryEvent event = new RpcRetryEvent();
+            event.begin();
+            final Executor timer = CompletableFuture.delayedExecutor(backoff(attempt, config), TimeUnit.MILLISECONDS);
+            timer.execute(() -> {
+                commitEvent(event, method, attempt + 1, failure);
+                attempt(attempt + 1);
+            });
+        }
+    }
+
+    private static void commitEvent(
+            final RpcRetryEvent event, final String method, final int attempt, final Throwable cause) {
+        if (event.shouldCommit()) {
+            event.method = method;
+            event.attempt = attempt;
+            event.cause = cause.getClass().getName();
+            event.commit();
+        }
+    }
+
+    private static Throwable unwrapCompletion(final Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    /**
+     * Returns whether a failed attempt may be retried: retryable RPC errors and I/O
+     * failures are, reverts and everything else are not.
+     */
+    private static boolean isRetryable(final Throwable failure) {
+        if (failure instanceof RevertException) {
             return false;
         }
-        final String message = e.getMessage().toLowerCase(Locale.ROOT);
-        if (isLikelyRevert(e.data())) {
+        if (failure instanceof RpcException rpc) {
+            return isRetryableRpcError(rpc);
+        }
+        return failure instanceof RuntimeException re && unwrapIo(re) != null;
+    }
+
+    /**
+     * Classifies an RPC error by its JSON-RPC code first and falls back to the message
+     * rules only for the generic server error codes providers put everything under.
+     */
+    static boolean isRetryableRpcError(final RpcException e) {
+        if (e == null || isLikelyRevert(e.data())) {
             return false;
         }
-        if (message.contains("insufficient funds")) {
+        final String message = e.getMessage();
+        if (message != null && NON_RETRYABLE_MESSAGE.matcher(message).find()) {
             return false;
         }
-        return message.contains("header not found")
-                || message.contains("timeout")
-                || message.contains("connection reset")
-                || message.contains("temporary unavailable")
-                || message.contains("try again")
-                || message.contains("underpriced")
-                || message.contains("nonce too low")
-                // Rate limiting from RPC providers
-                || message.contains("rate limit")
-                || message.contains("too many requests")
-                || message.contains("429")
-                // Transient server errors
-                || message.contains("internal error")
-                || message.contains("-32603")
-                || message.contains("server busy")
-                || message.contains("overloaded");
+        return switch (e.code()) {
+            // Malformed requests and reverts fail the same way every time
+            case CODE_EXECUTION_REVERTED, CODE_PARSE_ERROR, CODE_INVALID_REQUEST,
+                    CODE_METHOD_NOT_FOUND, CODE_INVALID_PARAMS -> false;
+            // Rate limiting and transient server errors
+            case CODE_LIMIT_EXCEEDED, CODE_INTERNAL_ERROR, CODE_TOO_MANY_REQUESTS -> true;
+            default -> message != null && RETRYABLE_MESSAGE.matcher(message).find();
+        };
     }
 
+    /** EIP-1474 code for an execution revert. */
+    private static final int CODE_EXECUTION_REVERTED = 3;
+    private static final int CODE_PARSE_ERROR = -32700;
+    private static final int CODE_INVALID_REQUEST = -32600;
+    private static final int CODE_METHOD_NOT_FOUND = -32601;
+    private static final int CODE_INVALID_PARAMS = -32602;
+    private static final int CODE_INTERNAL_ERROR = -32603;
+    /** EIP-1474 "limit exceeded", used by providers for rate limiting. */
+    private static final int CODE_LIMIT_EXCEEDED = -32005;
+    /** HTTP status some providers pass through as the JSON-RPC code. */
+    private static final int CODE_TOO_MANY_REQUESTS = 429;
+
+    /** Transient conditions, matched case-insensitively in one pass over the message. */
+    private static final Pattern RETRYABLE_MESSAGE = Pattern.compile(
+            "header not found|timeout|connection reset|temporary unavailable|try again"
+                    // Mempool races
+                    + "|underpriced|nonce too low"
+                    // Rate limiting from RPC providers
+                    + "|rate limit|too many requests|429"
+                    // Transient server errors
+                    + "|internal error|-32603|server busy|overloaded",
+            Pattern.CASE_INSENSITIVE);
+
+    /** User errors that no amount of retrying fixes. */
+    private static final Pattern NON_RETRYABLE_MESSAGE = Pattern.compile(
+            "insufficient funds", Pattern.CASE_INSENSITIVE);
+
     /** Default retry configuration. */
     private static final RpcRetryConfig DEFAULT_CONFIG = RpcRetryConfig.defaults();
 
@@ -339,8 +593,32 @@ final class RpcRetry {
             final Supplier<JsonRpcResponse> supplier,
             final int maxAttempts,
             final RpcRetryConfig config) {
+        return runRpc(supplier, maxAttempts, config, null, BraneMetrics.noop());
+    }
+
+    /**
+     * Executes an RPC call with retry on exceptions and retryable error responses,
+     * reporting each retry to {@code metrics}.
+     *
+     * @param supplier    the operation returning a JSON-RPC response
+     * @param maxAttempts maximum number of attempts (must be >= 1)
+     * @param config      retry configuration for backoff timing
+     * @param method      the JSON-RPC method being retried, reported to metrics
+     * @param metrics     receives {@link BraneMetrics#onRetry(String, int, Throwable)} before each retry,
+     *                    or null to skip reporting
+     * @return the response (may contain non-retryable error)
+     * @throws RpcException             if all retries fail or error is non-retryable
+     * @throws RetryExhaustedException  if all retry attempts were exhausted
+     * @throws IllegalArgumentException if maxAttempts < 1
+     */
+    static JsonRpcResponse runRpc(
+            final Supplier<JsonRpcResponse> supplier,
+            final int maxAttempts,
+            final RpcRetryConfig config,
+            final String method,
+            final BraneMetrics metrics) {
         Objects.requireNonNull(supplier, "supplier");
-        return executeWithRetry(supplier, maxAttempts, config, RpcRetry::checkRetryableResponse);
+        return executeWithRetry(supplier, maxAttempts, config, RpcRetry::checkRetryableResponse, method, metrics);
     }
 
     /**
@@ -1,6 +1,7 @@
 // SPDX-License-Identifier: MIT OR Apache-2.0
 package sh.brane.rpc;
 
+import org.jspecify.annotations.Nullable;
 
 /**
  * Configuration for RPC retry behavior with exponential backoff.
@@ -11,6 +12,8 @@ package sh.brane.rpc;
  *   <li>{@code backoffMaxMs} - Maximum delay cap in milliseconds (default: 5000ms)</li>
  *   <li>{@code jitterMin} - Minimum jitter percentage (default: 0.10 = 10%)</li>
  *   <li>{@code jitterMax} - Maximum jitter percentage (default: 0.25 = 25%)</li>
+ *   <li>{@code retryBudget} - Token bucket capping retries across a client (default: one
+ *       {@link RetryBudget#create()} per client)</li>
  * </ul>
  *
  * <p><strong>Backoff Formula:</strong>
@@ -37,20 +40,36 @@ package sh.brane.rpc;
  *     .jitterMin(0.05)
  *     .jitterMax(0.15)
  *     .build();
+ *
+ * // One retry budget shared by several clients
+ * RpcRetryConfig shared = RpcRetryConfig.builder()
+ *     .retryBudget(RetryBudget.create(50, 0.05))
+ *     .build();
  * }</pre>
  *
+ * <p><strong>Compatibility:</strong> 0.3.0 added the {@code retryBudget} component, which
+ * changes the record's canonical constructor, its deconstruction pattern and
+ * {@code equals}. The four-argument constructor is kept and creates a config without a
+ * shared budget, but record patterns must now bind five components, e.g.
+ * {@code case RpcRetryConfig(var base, var max, var min, var jitter, var budget)}, and
+ * two configs holding different budgets are no longer equal.
+ *
  * @param backoffBaseMs base delay in milliseconds (must be &gt; 0)
  * @param backoffMaxMs  maximum delay cap in milliseconds (must be &gt;= backoffBaseMs)
  * @param jitterMin     minimum jitter percentage (must be &gt;= 0 and &lt; jitterMax)
  * @param jitterMax     maximum jitter percentage (must be &gt; jitterMin)
+ * @param retryBudget   budget shared by every client using this config, or null for a
+ *                      separate default budget per client
  * @see RpcRetry
+ * @see RetryBudget
  * @since 1.0.0
  */
 public record RpcRetryConfig(
         long backoffBaseMs,
         long backoffMaxMs,
         double jitterMin,
-        double jitterMax) {
+        double jitterMax,
+        @Nullable RetryBudget retryBudget) {
 
     /** Default base delay: 200ms. */
     public static final long DEFAULT_BACKOFF_BASE_MS = 200;
@@ -71,6 +90,7 @@ public record RpcRetryConfig(
      * @param backoffMaxMs  maximum delay cap in milliseconds
      * @param jitterMin     minimum jitter percentage
      * @param jitterMax     maximum jitter percentage
+     * @param retryBudget   shared retry budget, or null
      * @throws IllegalArgumentException if any parameter is invalid
      */
     public RpcRetryConfig {
@@ -90,6 +110,30 @@ public record RpcRetryConfig(
         }
     }
 
+    /**
+     * Creates a configuration without a shared retry budget.
+     *
+     * @param backoffBaseMs base delay in milliseconds
+     * @param backoffMaxMs  maximum delay cap in milliseconds
+     * @param jitterMin     minimum jitter percentage
+     * @param jitterMax     maximum jitter percentage
+     * @throws IllegalArgumentException if any parameter is invalid
+     */
+    public RpcRetryConfig(long backoffBaseMs, long backoffMaxMs, double jitterMin, double jitterMax) {
+        this(backoffBaseMs, backoffMaxMs, jitterMin, jitterMax, null);
+    }
+
+    /**
+     * Returns a copy of this configuration using the given retry budget.
+     *
+     * @param retryBudget the budget to share, or null for a default budget per client
+     * @return a new config
+     * @since 0.3.0
+     */
+    public RpcRetryConfig withRetryBudget(@Nullable RetryBudget retryBudget) {
+        return new RpcRetryConfig(backoffBaseMs, backoffMaxMs, jitterMin, jitterMax, retryBudget);
+    }
+
     /**
      * Returns the default configuration.
      *
@@ -122,6 +166,7 @@ public record RpcRetryConfig(
         private long backoffMaxMs = DEFAULT_BACKOFF_MAX_MS;
         private double jitterMin = DEFAULT_JITTER_MIN;
         private double jitterMax = DEFAULT_JITTER_MAX;
+        private @Nullable RetryBudget retryBudget;
 
         private Builder() {}
 
@@ -169,6 +214,18 @@ public record RpcRetryConfig(
             return this;
         }
 
+        /**
+         * Sets the retry budget shared by every client built with this configuration.
+         *
+         * @param retryBudget the budget, or null for a default budget per client
+         * @return this builder
+         * @since 0.3.0
+         */
+        public Builder retryBudget(@Nullable RetryBudget retryBudget) {
+            this.retryBudget = retryBudget;
+            return this;
+        }
+
         /**
          * Builds the configuration.
          *
@@ -176,7 +233,7 @@ public record RpcRetryConfig(
          * @throws IllegalArgumentException if any parameter is invalid
          */
         public RpcRetryConfig build() {
-            return new RpcRetryConfig(backoffBaseMs, backoffMaxMs, jitterMin, jitterMax);
+            return new RpcRetryConfig(backoffBaseMs, backoffMaxMs, jitterMin, jitterMax, retryBudget);
         }
     }
 }
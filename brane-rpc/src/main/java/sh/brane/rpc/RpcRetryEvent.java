@@ -0,0 +1,30 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event covering one backoff sleep in {@link RpcRetry}. The event duration is
+ * the time actually slept, and the stack trace shows which call was retried.
+ */
+@Name("sh.brane.rpc.RetryBackoff")
+@Label("RPC Retry Backoff")
+@Category({"Brane", "RPC"})
+@Description("Time spent sleeping before retrying a failed JSON-RPC request")
+final class RpcRetryEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Attempt")
+    @Description("The attempt number that follows this backoff")
+    int attempt;
+
+    @Label("Cause")
+    @Description("Class name of the exception that triggered the retry")
+    String cause;
+}
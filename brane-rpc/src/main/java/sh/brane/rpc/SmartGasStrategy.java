@@ -2,10 +2,12 @@
 package sh.brane.rpc;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -94,6 +96,9 @@ final class SmartGasStrategy {
     static final BigInteger DEFAULT_GAS_LIMIT_BUFFER_DENOMINATOR = BigInteger.valueOf(100);
     static final BigInteger BASE_FEE_MULTIPLIER = BigInteger.valueOf(2);
 
+    /** Attempts per RPC call when no client retry settings are given. */
+    static final int DEFAULT_MAX_ATTEMPTS = 3;
+
     /**
      * Result of gas estimation containing the filled request and metadata about
      * any transaction type changes.
@@ -165,16 +170,33 @@ final class SmartGasStrategy {
     private final BigInteger gasLimitBufferNumerator;
     private final BigInteger gasLimitBufferDenominator;
     private final Eip1559FallbackBehavior eip1559FallbackBehavior;
+    private final int maxAttempts;
+    private final RpcRetryConfig retryConfig;
 
     SmartGasStrategy(
             final Brane brane, final BraneProvider provider, final ChainProfile profile) {
+        this(brane, provider, profile, DEFAULT_MAX_ATTEMPTS, RpcRetryConfig.defaults());
+    }
+
+    /**
+     * Creates a strategy whose RPC calls retry with the owning client's settings, so they
+     * draw on the same {@link RetryBudget} as the client's other calls.
+     */
+    SmartGasStrategy(
+            final Brane brane,
+            final BraneProvider provider,
+            final ChainProfile profile,
+            final int maxAttempts,
+            final RpcRetryConfig retryConfig) {
         this(
                 brane,
                 provider,
                 profile,
                 DEFAULT_GAS_LIMIT_BUFFER_NUMERATOR,
                 DEFAULT_GAS_LIMIT_BUFFER_DENOMINATOR,
-                Eip1559FallbackBehavior.FALLBACK_WARN);
+                Eip1559FallbackBehavior.FALLBACK_WARN,
+                maxAttempts,
+                retryConfig);
     }
 
     SmartGasStrategy(
@@ -184,7 +206,7 @@ final class SmartGasStrategy {
             final BigInteger gasLimitBufferNumerator,
             final BigInteger gasLimitBufferDenominator) {
         this(brane, provider, profile, gasLimitBufferNumerator, gasLimitBufferDenominator,
-                Eip1559FallbackBehavior.FALLBACK_WARN);
+                Eip1559FallbackBehavior.FALLBACK_WARN, DEFAULT_MAX_ATTEMPTS, RpcRetryConfig.defaults());
     }
 
     SmartGasStrategy(
@@ -194,12 +216,30 @@ final class SmartGasStrategy {
             final BigInteger gasLimitBufferNumerator,
             final BigInteger gasLimitBufferDenominator,
             final Eip1559FallbackBehavior eip1559FallbackBehavior) {
+        this(brane, provider, profile, gasLimitBufferNumerator, gasLimitBufferDenominator,
+                eip1559FallbackBehavior, DEFAULT_MAX_ATTEMPTS, RpcRetryConfig.defaults());
+    }
+
+    SmartGasStrategy(
+            final Brane brane,
+            final BraneProvider provider,
+            final ChainProfile profile,
+            final BigInteger gasLimitBufferNumerator,
+            final BigInteger gasLimitBufferDenominator,
+            final Eip1559FallbackBehavior eip1559FallbackBehavior,
+            final int maxAttempts,
+            final RpcRetryConfig retryConfig) {
         this.brane = Objects.requireNonNull(brane, "brane");
         this.provider = Objects.requireNonNull(provider, "provider");
         this.profile = Objects.requireNonNull(profile, "profile");
         this.gasLimitBufferNumerator = requirePositive(gasLimitBufferNumerator, "gasLimitBufferNumerator");
         this.gasLimitBufferDenominator = requirePositive(gasLimitBufferDenominator, "gasLimitBufferDenominator");
         this.eip1559FallbackBehavior = Objects.requireNonNull(eip1559FallbackBehavior, "eip1559FallbackBehavior");
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be >= 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.retryConfig = Objects.requireNonNull(retryConfig, "retryConfig");
     }
 
     /**
@@ -220,10 +260,67 @@ final class SmartGasStrategy {
         final boolean requestedEip1559 = request.isEip1559();
         TransactionRequest withFrom = request.from() != null ? request : copyWithFrom(request, defaultFrom);
         TransactionRequest withLimit = ensureGasLimit(withFrom);
-        TransactionRequest withFees = ensureFees(withLimit);
+        TransactionRequest withFees = ensureFees(withLimit, new FeeQuote());
         return new GasFilledRequest(withFees, requestedEip1559, withFees.isEip1559());
     }
 
+    /**
+     * Fills in missing gas fields for a batch of requests.
+     *
+     * <p>
+     * Missing gas limits are estimated in one {@link BraneProvider#sendBatch} round trip, and
+     * the latest base fee and gas price are fetched at most once for the whole batch. A request
+     * whose estimate fails is left {@code null} in the result and its exception is stored at the
+     * same index of {@code errors}; failures fetching fees apply to every request and are thrown.
+     *
+     * @param requests the transaction requests with potentially missing gas fields
+     * @param defaultFrom the address to use for requests without a sender
+     * @param errors receives the estimation failure of each request, same length as requests
+     * @return the filled requests, with {@code null} for each request that failed
+     */
+    GasFilledRequest[] applyDefaults(
+            final List<TransactionRequest> requests, final Address defaultFrom, final RuntimeException[] errors) {
+        Objects.requireNonNull(defaultFrom, "defaultFrom");
+        final TransactionRequest[] withLimits = new TransactionRequest[requests.size()];
+        final List<JsonRpcRequest> estimates = new ArrayList<>();
+        final List<Map<String, Object>> txs = new ArrayList<>();
+        final int[] estimated = new int[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            final TransactionRequest request = requests.get(i);
+            withLimits[i] = request.from() != null ? request : copyWithFrom(request, defaultFrom);
+            if (withLimits[i].gasLimit() == null) {
+                final Map<String, Object> tx = toTxObject(withLimits[i]);
+                estimated[txs.size()] = i;
+                txs.add(tx);
+                estimates.add(new JsonRpcRequest("2.0", "eth_estimateGas", List.of(tx), null));
+            }
+        }
+        if (!estimates.isEmpty()) {
+            final List<JsonRpcResponse> responses = RpcRetry.run(
+                    () -> provider.sendBatch(estimates), maxAttempts, retryConfig, "eth_estimateGas",
+                    provider.metrics());
+            for (int j = 0; j < responses.size(); j++) {
+                final int i = estimated[j];
+                try {
+                    final String estimateHex = estimateResult(txs.get(j), responses.get(j));
+                    withLimits[i] = withBufferedLimit(withLimits[i], RpcUtils.decodeHexBigInteger(estimateHex));
+                } catch (RuntimeException e) {
+                    errors[i] = e;
+                }
+            }
+        }
+
+        final FeeQuote fees = new FeeQuote();
+        final GasFilledRequest[] filled = new GasFilledRequest[requests.size()];
+        for (int i = 0; i < filled.length; i++) {
+            if (errors[i] == null) {
+                final TransactionRequest withFees = ensureFees(withLimits[i], fees);
+                filled[i] = new GasFilledRequest(withFees, requests.get(i).isEip1559(), withFees.isEip1559());
+            }
+        }
+        return filled;
+    }
+
     /**
      * Ensures a gas limit is present by estimating and applying the configured
      * buffer multiplier.
@@ -233,9 +330,12 @@ final class SmartGasStrategy {
             return request; // User provided gas limit - don't override
         }
         final Map<String, Object> tx = toTxObject(request);
-        final String estimateHex = RpcRetry.run(() -> callEstimateGas(tx), 3);
-        final BigInteger estimate = RpcUtils.decodeHexBigInteger(estimateHex);
+        final String estimateHex = RpcRetry.run(
+                () -> callEstimateGas(tx), maxAttempts, retryConfig, "eth_estimateGas", provider.metrics());
+        return withBufferedLimit(request, RpcUtils.decodeHexBigInteger(estimateHex));
+    }
 
+    private TransactionRequest withBufferedLimit(final TransactionRequest request, final BigInteger estimate) {
         // Apply safety buffer to prevent out-of-gas failures
         // Default: estimate × (120/100) = 20% buffer
         final BigInteger buffered = estimate.multiply(gasLimitBufferNumerator).divide(gasLimitBufferDenominator);
@@ -244,27 +344,28 @@ final class SmartGasStrategy {
     }
 
     private String callEstimateGas(final Map<String, Object> tx) {
-        return RpcUtils.timedEstimateGas(tx, () -> {
-            final JsonRpcResponse response = provider.send("eth_estimateGas", List.of(tx));
-            if (response.hasError()) {
-                final JsonRpcError err = response.error();
-                throw new RpcException(
-                        err.code(),
-                        formatEstimateGasError(tx, err.message()),
-                        RpcUtils.extractErrorData(err.data()),
-                        null,
-                        null);
-            }
-            final Object resultObj = response.result();
-            if (resultObj == null) {
-                throw new RpcException(
-                        -32000,
-                        formatEstimateGasError(tx, "returned null result"),
-                        (String) null,
-                        (Throwable) null);
-            }
-            return resultObj.toString();
-        });
+        return RpcUtils.timedEstimateGas(tx, () -> estimateResult(tx, provider.send("eth_estimateGas", List.of(tx))));
+    }
+
+    private static String estimateResult(final Map<String, Object> tx, final JsonRpcResponse response) {
+        if (response.hasError()) {
+            final JsonRpcError err = response.error();
+            throw new RpcException(
+                    err.code(),
+                    formatEstimateGasError(tx, err.message()),
+                    RpcUtils.extractErrorData(err.data()),
+                    null,
+                    null);
+        }
+        final Object resultObj = response.result();
+        if (resultObj == null) {
+            throw new RpcException(
+                    -32000,
+                    formatEstimateGasError(tx, "returned null result"),
+                    (String) null,
+                    (Throwable) null);
+        }
+        return resultObj.toString();
     }
 
     /**
@@ -284,12 +385,12 @@ final class SmartGasStrategy {
         return sb.toString();
     }
 
-    private TransactionRequest ensureFees(final TransactionRequest request) {
+    private TransactionRequest ensureFees(final TransactionRequest request, final FeeQuote fees) {
         // Route to appropriate fee calculation based on transaction type
         if (profile.supportsEip1559() && request.isEip1559()) {
-            return ensureEip1559Fees(request);
+            return ensureEip1559Fees(request, fees);
         }
-        return ensureLegacyFees(request);
+        return ensureLegacyFees(request, fees);
     }
 
     /**
@@ -298,14 +399,13 @@ final class SmartGasStrategy {
      * latest {@code baseFeePerGas}. Falls back to legacy fee estimation when base
      * fee data is unavailable.
      */
-    private TransactionRequest ensureEip1559Fees(final TransactionRequest request) {
+    private TransactionRequest ensureEip1559Fees(final TransactionRequest request, final FeeQuote fees) {
         if (request.maxFeePerGas() != null && request.maxPriorityFeePerGas() != null) {
             return request; // User provided both fees - don't override
         }
 
-        final BlockHeader latest = brane.getLatestBlock();
-        if (latest != null && latest.baseFeePerGas() != null) {
-            final Wei baseFee = latest.baseFeePerGas();
+        final Wei baseFee = fees.baseFee();
+        if (baseFee != null) {
 
             // Priority fee (miner tip): Use user value or chain default
             final Wei priority = request.maxPriorityFeePerGas() != null
@@ -334,10 +434,10 @@ final class SmartGasStrategy {
         // This can happen when:
         // 1. The chain doesn't support EIP-1559 (pre-London fork)
         // 2. The node returns null baseFeePerGas for the latest block
-        return handleEip1559Fallback(request);
+        return handleEip1559Fallback(request, fees);
     }
 
-    private TransactionRequest handleEip1559Fallback(final TransactionRequest request) {
+    private TransactionRequest handleEip1559Fallback(final TransactionRequest request, final FeeQuote fees) {
         switch (eip1559FallbackBehavior) {
             case THROW -> throw new RpcException(
                     -32000,
@@ -351,16 +451,14 @@ final class SmartGasStrategy {
         }
         final TransactionRequest legacy = copyWithGasFields(
                 request, request.gasLimit(), request.gasPrice(), null, null, false);
-        return ensureLegacyFees(legacy);
+        return ensureLegacyFees(legacy, fees);
     }
 
-    private TransactionRequest ensureLegacyFees(final TransactionRequest request) {
+    private TransactionRequest ensureLegacyFees(final TransactionRequest request, final FeeQuote fees) {
         if (request.gasPrice() != null) {
             return request;
         }
-        final String gasPriceHex = RpcRetry.run(() -> callGasPrice(), 3);
-        final BigInteger gasPrice = RpcUtils.decodeHexBigInteger(gasPriceHex);
-        return copyWithGasFields(request, request.gasLimit(), new Wei(gasPrice), null, null, false);
+        return copyWithGasFields(request, request.gasLimit(), fees.gasPrice(), null, null, false);
     }
 
     private String callGasPrice() {
@@ -377,6 +475,35 @@ final class SmartGasStrategy {
         return resultObj.toString();
     }
 
+    /**
+     * Fee inputs fetched lazily and at most once, so that a batch of requests shares one
+     * {@code eth_getBlockByNumber} and one {@code eth_gasPrice} call.
+     */
+    private final class FeeQuote {
+
+        private boolean latestFetched;
+        private @Nullable Wei baseFee;
+        private @Nullable Wei gasPrice;
+
+        @Nullable Wei baseFee() {
+            if (!latestFetched) {
+                final BlockHeader latest = brane.getLatestBlock();
+                baseFee = latest != null ? latest.baseFeePerGas() : null;
+                latestFetched = true;
+            }
+            return baseFee;
+        }
+
+        Wei gasPrice() {
+            if (gasPrice == null) {
+                final String gasPriceHex = RpcRetry.run(
+                        () -> callGasPrice(), maxAttempts, retryConfig, "eth_gasPrice", provider.metrics());
+                gasPrice = new Wei(RpcUtils.decodeHexBigInteger(gasPriceHex));
+            }
+            return gasPrice;
+        }
+    }
+
     private Wei defaultPriority() {
         if (profile.defaultPriorityFeePerGas() != null) {
             return profile.defaultPriorityFeePerGas();
@@ -421,7 +548,7 @@ final class SmartGasStrategy {
     }
 
     Map<String, Object> toTxObject(final TransactionRequest request) {
-        return RpcUtils.buildTxObject(request, request.from());
+        return CallParams.forTransaction(request, request.from());
     }
 
     private BigInteger requirePositive(final BigInteger value, final String name) {
@@ -0,0 +1,577 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.BlockHeader;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.Wei;
+import sh.brane.rpc.internal.RpcUtils;
+
+/**
+ * The accounts and storage slots a fixture setup changed, with their final values, in a form
+ * that can be saved and applied to any test node in a few JSON-RPC batches.
+ *
+ * <p>
+ * {@link Brane.Tester#dumpState()} moves the node's whole state, which on a mainnet fork can
+ * be hundreds of megabytes, and a {@link SnapshotId} only works on the node that took it. A
+ * {@code StateDiff} holds only what the setup touched, so applying it costs the same on a
+ * fresh dev node as on a fork of a large chain.
+ *
+ * <p>
+ * <strong>Recording:</strong> between {@link #record(Brane.Tester)} and
+ * {@link Recorder#finish()}, the diff collects:
+ * <ul>
+ *   <li>accounts and slots written through {@code setBalance}, {@code setNonce},
+ *       {@code setCode} and {@code setStorageAt} on that client</li>
+ *   <li>accounts and slots changed by transactions mined in the meantime, found with
+ *       {@code debug_traceTransaction} and the {@code prestateTracer} in diff mode</li>
+ * </ul>
+ * {@code finish()} then reads the final balance, nonce, storage and, where it changed, code of
+ * everything touched, pinned to the latest block. Writes from other clients of the same node
+ * are only seen if they were mined in transactions.
+ *
+ * <p>
+ * <strong>Usage:</strong>
+ *
+ * <pre>{@code
+ * // Once: record the fixture on a fork and save it
+ * StateDiff fixture = StateDiff.capture(tester, t -> {
+ *     t.setBalance(whale, Wei.fromEther(BigDecimal.valueOf(1_000)));
+ *     deployVault(t);
+ * });
+ * fixture.write(Path.of("fixtures/vault.diff"));
+ *
+ * // In each test run, on any node forked from the same block
+ * StateDiff.read(Path.of("fixtures/vault.diff")).applyTo(freshTester);
+ * }</pre>
+ *
+ * <p>
+ * <strong>Encoding:</strong> {@link #toBytes()} writes a versioned binary form. Quantities and
+ * storage words are stored without leading zero bytes, so small balances, nonces and counters
+ * take a few bytes each.
+ *
+ * @since 0.3.0
+ */
+public final class StateDiff {
+
+    private static final byte[] MAGIC = {'B', 'R', 'S', 'D'};
+    private static final int VERSION = 1;
+    private static final int FLAG_CODE = 1;
+    private static final Map<String, Object> DIFF_TRACER =
+            Map.of("tracer", "prestateTracer", "tracerConfig", Map.of("diffMode", true));
+
+    private final List<Account> accounts;
+
+    private StateDiff(final List<Account> accounts) {
+        this.accounts = List.copyOf(accounts);
+    }
+
+    /**
+     * The final state of one account touched by a fixture.
+     *
+     * @param address the account address
+     * @param balance the balance
+     * @param nonce   the nonce, not negative
+     * @param code    the code, or null if the fixture did not change it
+     * @param storage the values of the slots the fixture touched, in slot order
+     * @since 0.3.0
+     */
+    public record Account(Address address, Wei balance, long nonce, @Nullable HexData code, Map<Hash, Hash> storage) {
+
+        public Account {
+            Objects.requireNonNull(address, "address");
+            Objects.requireNonNull(balance, "balance");
+            Objects.requireNonNull(storage, "storage");
+            if (nonce < 0) {
+                throw new IllegalArgumentException("nonce must not be negative, got " + nonce);
+            }
+            storage = Collections.unmodifiableMap(new LinkedHashMap<>(storage));
+        }
+    }
+
+    /**
+     * Creates a diff from explicit account states.
+     *
+     * @param accounts the accounts; each address at most once
+     * @return the diff
+     * @throws IllegalArgumentException if an address appears twice
+     */
+    public static StateDiff of(final List<Account> accounts) {
+        final Set<Address> seen = new HashSet<>();
+        for (final Account account : accounts) {
+            if (!seen.add(account.address())) {
+                throw new IllegalArgumentException("Duplicate account " + account.address());
+            }
+        }
+        return new StateDiff(accounts);
+    }
+
+    /**
+     * Starts recording the state {@code tester} changes. Only one recording per client may be
+     * active at a time.
+     *
+     * @param tester the client to record
+     * @return the recorder; call {@link Recorder#finish()} to build the diff
+     * @throws IllegalStateException if the client is already recording
+     */
+    public static Recorder record(final Brane.Tester tester) {
+        return new Recorder((DefaultTester) Objects.requireNonNull(tester, "tester"));
+    }
+
+    /**
+     * Runs {@code setup} on {@code tester} and returns the state it changed.
+     *
+     * @param tester the client to run the setup on
+     * @param setup  the fixture setup
+     * @return the recorded diff
+     * @throws RpcException if tracing or reading the final state fails
+     */
+    public static StateDiff capture(final Brane.Tester tester, final Consumer<Brane.Tester> setup) {
+        Objects.requireNonNull(setup, "setup");
+        try (Recorder recorder = record(tester)) {
+            setup.accept(tester);
+            return recorder.finish();
+        }
+    }
+
+    /**
+     * Returns the accounts, in address order for recorded diffs.
+     *
+     * @return the accounts
+     */
+    public List<Account> accounts() {
+        return accounts;
+    }
+
+    /**
+     * Returns the total number of storage slots in the diff.
+     *
+     * @return the slot count
+     */
+    public int slotCount() {
+        int slots = 0;
+        for (final Account account : accounts) {
+            slots += account.storage().size();
+        }
+        return slots;
+    }
+
+    /**
+     * Writes every account and slot in the diff to {@code tester}'s node, in JSON-RPC batches.
+     * State the diff does not mention is left as it is.
+     *
+     * @param tester the client to apply the diff through
+     * @throws RpcException if the node rejects a write
+     */
+    public void applyTo(final Brane.Tester tester) {
+        final DefaultTester target = (DefaultTester) Objects.requireNonNull(tester, "tester");
+        final String prefix = target.mode().prefix();
+        final List<String> methods = new ArrayList<>();
+        final List<List<?>> params = new ArrayList<>();
+        for (final Account account : accounts) {
+            final String address = account.address().value();
+            methods.add(prefix + "setBalance");
+            params.add(List.of(address, RpcUtils.toQuantityHex(account.balance().value())));
+            methods.add(prefix + "setNonce");
+            params.add(List.of(address, RpcUtils.toQuantityHex(account.nonce())));
+            if (account.code() != null) {
+                methods.add(prefix + "setCode");
+                params.add(List.of(address, account.code().value()));
+            }
+            for (final Map.Entry<Hash, Hash> slot : account.storage().entrySet()) {
+                methods.add(prefix + "setStorageAt");
+                params.add(List.of(address, slot.getKey().value(), slot.getValue().value()));
+            }
+        }
+        target.sendBatch(methods, params);
+    }
+
+    // ==================== Encoding ====================
+
+    /**
+     * Encodes the diff in its binary form.
+     *
+     * @return the encoded diff
+     */
+    public byte[] toBytes() {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(MAGIC);
+        out.write(VERSION);
+        writeVarint(out, accounts.size());
+        for (final Account account : accounts) {
+            out.writeBytes(account.address().toBytes());
+            out.write(account.code() != null ? FLAG_CODE : 0);
+            writeWord(out, account.balance().value().toByteArray());
+            writeVarint(out, account.nonce());
+            if (account.code() != null) {
+                final byte[] code = account.code().toBytes();
+                writeVarint(out, code.length);
+                out.writeBytes(code);
+            }
+            writeVarint(out, account.storage().size());
+            for (final Map.Entry<Hash, Hash> slot : account.storage().entrySet()) {
+                writeWord(out, slot.getKey().toBytes());
+                writeWord(out, slot.getValue().toBytes());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes a diff written by {@link #toBytes()}.
+     *
+     * @param bytes the encoded diff
+     * @return the diff
+     * @throws IllegalArgumentException if {@code bytes} is not a valid encoded diff
+     */
+    public static StateDiff fromBytes(final byte[] bytes) {
+        final ByteBuffer in = ByteBuffer.wrap(bytes);
+        try {
+            final byte[] magic = new byte[MAGIC.length];
+            in.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalArgumentException("Not an encoded StateDiff");
+            }
+            final int version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported StateDiff version " + version);
+            }
+            final int count = (int) readVarint(in);
+            final List<Account> accounts = new ArrayList<>(Math.min(count, in.remaining() / 23));
+            for (int i = 0; i < count; i++) {
+                final byte[] address = new byte[20];
+                in.get(address);
+                final int flags = in.get();
+                final BigInteger balance = new BigInteger(1, readWord(in));
+                final long nonce = readVarint(in);
+                HexData code = null;
+                if ((flags & FLAG_CODE) != 0) {
+                    final byte[] bytecode = new byte[(int) readVarint(in)];
+                    in.get(bytecode);
+                    code = bytecode.length == 0 ? HexData.EMPTY : HexData.wrap(bytecode);
+                }
+                final int slots = (int) readVarint(in);
+                final Map<Hash, Hash> storage = new LinkedHashMap<>();
+                for (int s = 0; s < slots; s++) {
+                    storage.put(Hash.fromBytes(pad(readWord(in))), Hash.fromBytes(pad(readWord(in))));
+                }
+                accounts.add(new Account(Address.fromBytes(address), Wei.of(balance), nonce, code, storage));
+            }
+            if (in.hasRemaining()) {
+                throw new IllegalArgumentException("Trailing bytes after encoded StateDiff");
+            }
+            return of(accounts);
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Truncated or corrupt StateDiff", e);
+        }
+    }
+
+    /**
+     * Writes the encoded diff to a file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(final Path file) throws IOException {
+        Files.write(file, toBytes());
+    }
+
+    /**
+     * Reads a diff written by {@link #write(Path)}.
+     *
+     * @param file the file to read
+     * @return the diff
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid encoded diff
+     */
+    public static StateDiff read(final Path file) throws IOException {
+        return fromBytes(Files.readAllBytes(file));
+    }
+
+    /** Writes a big-endian word without its leading zero bytes, prefixed by its length. */
+    private static void writeWord(final ByteArrayOutputStream out, final byte[] word) {
+        int start = 0;
+        while (start < word.length && word[start] == 0) {
+            start++;
+        }
+        out.write(word.length - start);
+        out.write(word, start, word.length - start);
+    }
+
+    private static byte[] readWord(final ByteBuffer in) {
+        final int length = in.get() & 0xFF;
+        if (length > 32) {
+            throw new IllegalArgumentException("Word of " + length + " bytes in StateDiff");
+        }
+        final byte[] word = new byte[length];
+        in.get(word);
+        return word;
+    }
+
+    private static byte[] pad(final byte[] word) {
+        final byte[] padded = new byte[32];
+        System.arraycopy(word, 0, padded, 32 - word.length, word.length);
+        return padded;
+    }
+
+    private static void writeVarint(final ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(final ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                if (value < 0) {
+                    throw new IllegalArgumentException("Varint out of range in StateDiff");
+                }
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in StateDiff");
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof StateDiff other && accounts.equals(other.accounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return accounts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "StateDiff[accounts=" + accounts.size() + ", slots=" + slotCount() + "]";
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * An active recording of the state one {@link Brane.Tester} changes. Closing it without
+     * calling {@link #finish()} discards the recording.
+     *
+     * @since 0.3.0
+     */
+    public static final class Recorder implements AutoCloseable {
+        private final DefaultTester tester;
+        private final long startBlock;
+        private final Map<Address, Touched> touched = new ConcurrentHashMap<>();
+
+        private Recorder(final DefaultTester tester) {
+            this.tester = tester;
+            this.startBlock = latestBlock();
+            if (!tester.startRecording(this)) {
+                throw new IllegalStateException("This client is already recording a StateDiff");
+            }
+        }
+
+        /** Called by {@link DefaultTester} for every cheat-code state write. */
+        void touch(final Address address, final @Nullable Hash slot, final boolean code) {
+            final Touched account = touched.computeIfAbsent(address, a -> new Touched());
+            if (slot != null) {
+                account.slots.add(slot.value());
+            }
+            if (code) {
+                account.code = true;
+            }
+        }
+
+        /**
+         * Stops recording and builds the diff from the traced transactions and the final
+         * state of every touched account.
+         *
+         * @return the diff
+         * @throws IllegalStateException if the recording was already finished or closed
+         * @throws RpcException          if tracing or reading the final state fails
+         */
+        public StateDiff finish() {
+            stop();
+            final long endBlock = latestBlock();
+            traceBlocks(endBlock);
+            return readState(RpcUtils.toQuantityHex(endBlock));
+        }
+
+        /** Stops recording without building a diff. Idempotent. */
+        @Override
+        public void close() {
+            tester.stopRecording(this);
+        }
+
+        private void stop() {
+            if (!tester.stopRecording(this)) {
+                throw new IllegalStateException("Recording was already finished");
+            }
+        }
+
+        /** Adds the accounts and slots changed by every transaction mined while recording. */
+        private void traceBlocks(final long endBlock) {
+            if (endBlock <= startBlock) {
+                return;
+            }
+            final List<String> blockMethods = new ArrayList<>();
+            final List<List<?>> blockParams = new ArrayList<>();
+            for (long number = startBlock + 1; number <= endBlock; number++) {
+                blockMethods.add("eth_getBlockByNumber");
+                blockParams.add(List.of(RpcUtils.toQuantityHex(number), false));
+            }
+            final List<String> traceMethods = new ArrayList<>();
+            final List<List<?>> traceParams = new ArrayList<>();
+            for (final Object block : tester.sendBatch(blockMethods, blockParams)) {
+                if (block instanceof Map<?, ?> map && map.get("transactions") instanceof List<?> hashes) {
+                    for (final Object hash : hashes) {
+                        traceMethods.add("debug_traceTransaction");
+                        traceParams.add(List.of(hash.toString(), DIFF_TRACER));
+                    }
+                }
+            }
+            if (traceMethods.isEmpty()) {
+                return;
+            }
+            final List<@Nullable Object> traces;
+            try {
+                traces = tester.sendBatch(traceMethods, traceParams);
+            } catch (RpcException e) {
+                throw new RpcException(e.code(),
+                        "Tracing setup transactions failed; StateDiff needs debug_traceTransaction with the "
+                                + "prestateTracer: " + e.getMessage(),
+                        null, e);
+            }
+            for (final Object trace : traces) {
+                if (trace instanceof Map<?, ?> diff) {
+                    final Map<?, ?> post = diff.get("post") instanceof Map<?, ?> map ? map : Map.of();
+                    addTraced(diff.get("pre"), post);
+                    addTraced(post, post);
+                }
+            }
+        }
+
+        /**
+         * Records the accounts and slots on one side of a diff-mode prestate trace. The pre
+         * side lists the code of every touched contract, so code only counts as changed when
+         * the post side has it too, or when the account is missing from the post side
+         * because it was destroyed.
+         */
+        private void addTraced(final @Nullable Object side, final Map<?, ?> post) {
+            if (!(side instanceof Map<?, ?> accounts)) {
+                return;
+            }
+            for (final Map.Entry<?, ?> entry : accounts.entrySet()) {
+                final Touched account = touched.computeIfAbsent(new Address(entry.getKey().toString()),
+                        a -> new Touched());
+                if (entry.getValue() instanceof Map<?, ?> fields) {
+                    if (fields.containsKey("code")) {
+                        final Object after = post.get(entry.getKey());
+                        if (after == null || after instanceof Map<?, ?> postFields && postFields.containsKey("code")) {
+                            account.code = true;
+                        }
+                    }
+                    if (fields.get("storage") instanceof Map<?, ?> storage) {
+                        storage.keySet().forEach(slot -> account.slots.add(slot.toString()));
+                    }
+                }
+            }
+        }
+
+        /** Reads the final value of everything touched at {@code block}, in batches. */
+        private StateDiff readState(final String block) {
+            final TreeMap<String, Address> byAddress = new TreeMap<>();
+            touched.keySet().forEach(address -> byAddress.put(address.value(), address));
+            final List<String> methods = new ArrayList<>();
+            final List<List<?>> params = new ArrayList<>();
+            final Map<Address, List<Hash>> slotOrder = new LinkedHashMap<>();
+            for (final Address address : byAddress.values()) {
+                final Touched account = touched.get(address);
+                methods.add("eth_getBalance");
+                params.add(List.of(address.value(), block));
+                methods.add("eth_getTransactionCount");
+                params.add(List.of(address.value(), block));
+                if (account.code) {
+                    methods.add("eth_getCode");
+                    params.add(List.of(address.value(), block));
+                }
+                final TreeMap<String, Hash> slots = new TreeMap<>();
+                for (final String slot : account.slots) {
+                    final Hash hash = new Hash(slot);
+                    slots.put(hash.value(), hash);
+                }
+                for (final Hash slot : slots.values()) {
+                    methods.add("eth_getStorageAt");
+                    params.add(List.of(address.value(), slot.value(), block));
+                }
+                slotOrder.put(address, List.copyOf(slots.values()));
+            }
+
+            final List<@Nullable Object> results = tester.sendBatch(methods, params);
+            final List<Account> accounts = new ArrayList<>(byAddress.size());
+            int at = 0;
+            for (final Map.Entry<Address, List<Hash>> entry : slotOrder.entrySet()) {
+                final Address address = entry.getKey();
+                final Wei balance =
+                    Wei.of(RpcUtils.decodeHexBigInteger(require(results.get(at++), "eth_getBalance")));
+                final long nonce = RpcUtils.decodeHexLong(require(results.get(at++), "eth_getTransactionCount"));
+                HexData code = null;
+                if (touched.get(address).code) {
+                    code = new HexData(require(results.get(at++), "eth_getCode"));
+                }
+                final Map<Hash, Hash> storage = new LinkedHashMap<>();
+                for (final Hash slot : entry.getValue()) {
+                    storage.put(slot, new Hash(require(results.get(at++), "eth_getStorageAt")));
+                }
+                accounts.add(new Account(address, balance, nonce, code, storage));
+            }
+            return new StateDiff(accounts);
+        }
+
+        private long latestBlock() {
+            final BlockHeader latest = tester.getLatestBlock();
+            if (latest == null) {
+                throw RpcException.fromNullResult("eth_getBlockByNumber");
+            }
+            return latest.number();
+        }
+
+        private static String require(final @Nullable Object result, final String method) {
+            if (result == null) {
+                throw RpcException.fromNullResult(method);
+            }
+            return result.toString();
+        }
+
+        private static final class Touched {
+            final Set<String> slots = ConcurrentHashMap.newKeySet();
+            volatile boolean code;
+        }
+    }
+}
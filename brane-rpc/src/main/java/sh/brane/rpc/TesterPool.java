@@ -0,0 +1,616 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import sh.brane.core.crypto.Signer;
+import sh.brane.core.error.RpcException;
+import sh.brane.core.types.HexData;
+
+/**
+ * A pool of test nodes handed out as isolated leases, so that tests which mutate chain state
+ * can run in parallel instead of serially against one node.
+ *
+ * <p>
+ * Each node is prepared once when the pool opens: the shared {@link Builder#state(HexData)
+ * state image} and {@link Builder#fixture(StateDiff) fixture} are loaded, the
+ * {@link Builder#setup(Consumer) setup} hook runs, and a baseline snapshot is taken. A
+ * {@link Lease} gives one test exclusive use of one node. Closing the lease reverts the node
+ * to its baseline and returns it to the pool, so every lease starts from the same state no
+ * matter what earlier tests did.
+ *
+ * <p>
+ * Nodes are either existing endpoints, caller-built {@link Brane.Tester} clients, or Anvil
+ * processes the pool launches on free local ports and stops on {@link #close()}. If a node
+ * cannot be reverted, the pool resets and prepares it again; if that fails too, the node is
+ * retired and the pool continues with the rest.
+ *
+ * <p>
+ * <strong>Usage:</strong>
+ *
+ * <pre>{@code
+ * // Once per test run
+ * TesterPool pool = TesterPool.builder()
+ *         .launchAnvil(Runtime.getRuntime().availableProcessors())
+ *         .setup(tester -> deployFixtures(tester))
+ *         .open();
+ *
+ * // In each test, from any thread
+ * try (TesterPool.Lease lease = pool.acquire()) {
+ *     Brane.Tester tester = lease.tester();
+ *     tester.setBalance(alice, Wei.fromEther(BigDecimal.TEN));
+ *     // ...
+ * } // reverted to the baseline here
+ * }</pre>
+ *
+ * <p>
+ * <strong>Determinism:</strong> the setup hook runs separately on every node, so it should
+ * produce the same state each time, e.g. by deploying from a fresh account so contract
+ * addresses match across nodes.
+ *
+ * <p>
+ * <strong>Threading:</strong> all methods are thread-safe.
+ *
+ * @since 0.3.0
+ */
+public final class TesterPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TesterPool.class);
+
+    /** Default time to wait for a launched Anvil process to accept connections. */
+    public static final Duration DEFAULT_STARTUP_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final List<Node> nodes;
+    private final LinkedBlockingQueue<Node> idle = new LinkedBlockingQueue<>();
+    private final @Nullable HexData state;
+    private final @Nullable StateDiff fixture;
+    private final @Nullable Consumer<Brane.Tester> setup;
+    private final AtomicInteger live;
+    private volatile boolean closed;
+
+    TesterPool(
+            final List<Node> nodes,
+            final @Nullable HexData state,
+            final @Nullable StateDiff fixture,
+            final @Nullable Consumer<Brane.Tester> setup) {
+        this.nodes = List.copyOf(nodes);
+        this.state = state;
+        this.fixture = fixture;
+        this.setup = setup;
+        this.live = new AtomicInteger(nodes.size());
+        try (ExecutorService executor = BraneExecutors.newIoBoundExecutor()) {
+            final List<Future<?>> prepared = new ArrayList<>(nodes.size());
+            for (final Node node : nodes) {
+                prepared.add(executor.submit(() -> prepare(node)));
+            }
+            for (final Future<?> future : prepared) {
+                await(future);
+            }
+        } catch (RuntimeException e) {
+            closeNodes();
+            throw e;
+        }
+        idle.addAll(nodes);
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of nodes still in service.
+     *
+     * @return the node count, excluding retired nodes
+     */
+    public int size() {
+        return live.get();
+    }
+
+    /**
+     * Returns the number of nodes not currently leased.
+     *
+     * @return the idle node count
+     */
+    public int available() {
+        return idle.size();
+    }
+
+    /**
+     * Leases a node, waiting until one is free.
+     *
+     * @return the lease; close it to revert and return the node
+     * @throws IllegalStateException if the pool is closed or all its nodes were retired
+     * @throws RpcException          if interrupted while waiting
+     */
+    public Lease acquire() {
+        return lease(null);
+    }
+
+    /**
+     * Leases a node, waiting at most {@code timeout} for one to become free.
+     *
+     * @param timeout the maximum time to wait
+     * @return the lease; close it to revert and return the node
+     * @throws IllegalStateException if the pool is closed or all its nodes were retired
+     * @throws RpcException          if no node became free in time, or if interrupted
+     */
+    public Lease acquire(final Duration timeout) {
+        return lease(Objects.requireNonNull(timeout, "timeout"));
+    }
+
+    private Lease lease(final @Nullable Duration timeout) {
+        final long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+        while (true) {
+            ensureUsable();
+            // Wake up periodically so that closing the pool or retiring its last node ends the wait
+            long wait = POLL_NANOS;
+            if (timeout != null) {
+                wait = Math.max(0, Math.min(wait, deadline - System.nanoTime()));
+            }
+            final Node node;
+            try {
+                node = idle.poll(wait, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RpcException(-32000, "Interrupted while waiting for a tester lease", null, e);
+            }
+            if (node != null) {
+                return new Lease(node);
+            }
+            if (timeout != null && System.nanoTime() - deadline >= 0) {
+                throw new RpcException(-32000, "Timed out after " + timeout + " waiting for a tester lease", null);
+            }
+        }
+    }
+
+    /**
+     * Runs {@code test} on a leased node and returns its result, reverting the node afterwards.
+     *
+     * @param test the code to run
+     * @param <T>  the result type
+     * @return the result of {@code test}
+     * @throws IllegalStateException if the pool is closed or all its nodes were retired
+     */
+    public <T> T withTester(final Function<Brane.Tester, T> test) {
+        Objects.requireNonNull(test, "test");
+        try (Lease lease = acquire()) {
+            return test.apply(lease.tester());
+        }
+    }
+
+    private void ensureUsable() {
+        if (closed) {
+            throw new IllegalStateException("TesterPool is closed");
+        }
+        if (live.get() == 0) {
+            throw new IllegalStateException("All nodes in the TesterPool were retired");
+        }
+    }
+
+    // ==================== Node lifecycle ====================
+
+    /** Loads the shared state and fixture, runs the setup hook and takes the baseline snapshot. */
+    private void prepare(final Node node) {
+        if (state != null && !node.tester.loadState(state)) {
+            throw new RpcException(-32000, "Node " + node.name + " rejected the state image", null);
+        }
+        if (fixture != null) {
+            fixture.applyTo(node.tester);
+        }
+        if (setup != null) {
+            setup.accept(node.tester);
+        }
+        node.baseline = node.tester.snapshot();
+    }
+
+    /** Reverts a returned node to its baseline, falling back to a full reset. */
+    private void recycle(final Node node) {
+        if (closed) {
+            return;
+        }
+        try {
+            // Reverting consumes the snapshot on Anvil and Hardhat, so take a fresh one each time
+            if (node.tester.revert(node.baseline)) {
+                node.baseline = node.tester.snapshot();
+                idle.add(node);
+                return;
+            }
+            log.warn("Node {} could not revert to its baseline, resetting it", node.name);
+        } catch (RuntimeException e) {
+            log.warn("Node {} could not revert to its baseline ({}), resetting it", node.name, e.getMessage());
+        }
+        try {
+            node.tester.reset();
+            prepare(node);
+            idle.add(node);
+        } catch (RuntimeException e) {
+            log.warn("Retiring node {} after a failed reset: {}", node.name, e.getMessage());
+            live.decrementAndGet();
+            node.close();
+        }
+    }
+
+    /**
+     * Closes every client and stops every launched process. Leases still open become unusable.
+     * Idempotent.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        idle.clear();
+        closeNodes();
+    }
+
+    private void closeNodes() {
+        for (final Node node : nodes) {
+            node.close();
+        }
+    }
+
+    private static void await(final Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RpcException(-32000, "Interrupted while preparing test nodes", null, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new RpcException(-32000, "Preparing a test node failed", null, e.getCause());
+        }
+    }
+
+    /**
+     * One test node: its client, the process running it if the pool launched it, and the
+     * snapshot leases revert to.
+     */
+    static final class Node {
+        final String name;
+        final Brane.Tester tester;
+        private final @Nullable Process process;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        volatile SnapshotId baseline;
+
+        Node(final String name, final Brane.Tester tester, final @Nullable Process process) {
+            this.name = name;
+            this.tester = tester;
+            this.process = process;
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                tester.close();
+            } catch (Exception e) {
+                log.debug("Closing tester for node {} failed: {}", name, e.getMessage());
+            }
+            if (process != null) {
+                process.destroy();
+                try {
+                    if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                        process.destroyForcibly();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    process.destroyForcibly();
+                }
+            }
+        }
+    }
+
+    /**
+     * Exclusive use of one pooled node until closed. Closing reverts the node to the pool's
+     * baseline state and returns it to the pool. Idempotent.
+     *
+     * @since 0.3.0
+     */
+    public final class Lease implements AutoCloseable {
+        private final Node node;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(final Node node) {
+            this.node = node;
+        }
+
+        /**
+         * Returns the leased node's client.
+         *
+         * @return the tester client
+         * @throws IllegalStateException if the lease was closed
+         */
+        public Brane.Tester tester() {
+            if (released.get()) {
+                throw new IllegalStateException("Lease was already closed");
+            }
+            return node.tester;
+        }
+
+        /**
+         * Returns a name identifying the leased node, e.g. its RPC URL.
+         *
+         * @return the node name
+         */
+        public String node() {
+            return node.name;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                recycle(node);
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link TesterPool}.
+     *
+     * @since 0.3.0
+     */
+    public static final class Builder {
+        private final List<String> endpoints = new ArrayList<>();
+        private final List<Brane.Tester> testers = new ArrayList<>();
+        private int launch;
+        private List<String> anvilCommand = List.of("anvil");
+        private Signer signer = AnvilSigners.defaultKey();
+        private TestNodeMode mode = TestNodeMode.ANVIL;
+        private Duration startupTimeout = DEFAULT_STARTUP_TIMEOUT;
+        private @Nullable HexData state;
+        private @Nullable StateDiff fixture;
+        private @Nullable Consumer<Brane.Tester> setup;
+
+        private Builder() {}
+
+        /**
+         * Adds running test nodes by HTTP RPC URL. Each must be dedicated to the pool.
+         *
+         * @param rpcUrls the node URLs
+         * @return this builder
+         */
+        public Builder endpoints(final List<String> rpcUrls) {
+            Objects.requireNonNull(rpcUrls, "rpcUrls");
+            rpcUrls.forEach(url -> endpoints.add(Objects.requireNonNull(url, "rpcUrl")));
+            return this;
+        }
+
+        /**
+         * Adds a caller-built client, e.g. one over WebSocket. The pool closes it on
+         * {@link TesterPool#close()}.
+         *
+         * @param tester the client
+         * @return this builder
+         */
+        public Builder tester(final Brane.Tester tester) {
+            testers.add(Objects.requireNonNull(tester, "tester"));
+            return this;
+        }
+
+        /**
+         * Launches {@code count} Anvil processes on free local ports when the pool opens.
+         *
+         * @param count the number of processes, not negative
+         * @return this builder
+         */
+        public Builder launchAnvil(final int count) {
+            if (count < 0) {
+                throw new IllegalArgumentException("count must not be negative, got " + count);
+            }
+            this.launch = count;
+            return this;
+        }
+
+        /**
+         * Sets the command used to launch Anvil, without the {@code --port} option, e.g.
+         * {@code List.of("/opt/foundry/bin/anvil", "--hardfork", "cancun")}. Defaults to
+         * {@code anvil} on the {@code PATH}.
+         *
+         * @param command the executable and its arguments
+         * @return this builder
+         */
+        public Builder anvilCommand(final List<String> command) {
+            if (command.isEmpty()) {
+                throw new IllegalArgumentException("anvilCommand must not be empty");
+            }
+            this.anvilCommand = List.copyOf(command);
+            return this;
+        }
+
+        /**
+         * Sets the signer for clients the pool builds. Defaults to
+         * {@link AnvilSigners#defaultKey()}.
+         *
+         * @param signer the signer
+         * @return this builder
+         */
+        public Builder signer(final Signer signer) {
+            this.signer = Objects.requireNonNull(signer, "signer");
+            return this;
+        }
+
+        /**
+         * Sets the test node mode for clients the pool builds. Launched nodes are always Anvil.
+         * Defaults to {@link TestNodeMode#ANVIL}.
+         *
+         * @param mode the test node mode
+         * @return this builder
+         */
+        public Builder testMode(final TestNodeMode mode) {
+            this.mode = Objects.requireNonNull(mode, "mode");
+            return this;
+        }
+
+        /**
+         * Sets how long to wait for each launched Anvil process to accept connections.
+         * Defaults to {@link #DEFAULT_STARTUP_TIMEOUT}.
+         *
+         * @param timeout the startup timeout, must be positive
+         * @return this builder
+         */
+        public Builder startupTimeout(final Duration timeout) {
+            if (timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException("startupTimeout must be positive, got " + timeout);
+            }
+            this.startupTimeout = timeout;
+            return this;
+        }
+
+        /**
+         * Sets a state image from {@link Brane.Tester#dumpState()} to load into every node
+         * before setup. Requires Anvil.
+         *
+         * @param state the state image
+         * @return this builder
+         */
+        public Builder state(final HexData state) {
+            this.state = Objects.requireNonNull(state, "state");
+            return this;
+        }
+
+        /**
+         * Sets a recorded {@link StateDiff} to apply to every node after the state image and
+         * before setup. Unlike a state image it works on any test node and stays small on forks.
+         *
+         * @param fixture the fixture
+         * @return this builder
+         */
+        public Builder fixture(final StateDiff fixture) {
+            this.fixture = Objects.requireNonNull(fixture, "fixture");
+            return this;
+        }
+
+        /**
+         * Sets a hook run once on every node, after the state image is loaded and before the
+         * baseline snapshot, e.g. to deploy fixtures. Runs on all nodes in parallel.
+         *
+         * @param setup the setup hook
+         * @return this builder
+         */
+        public Builder setup(final Consumer<Brane.Tester> setup) {
+            this.setup = Objects.requireNonNull(setup, "setup");
+            return this;
+        }
+
+        /**
+         * Launches any Anvil processes, connects to every node and prepares it.
+         *
+         * @return the open pool
+         * @throws IllegalArgumentException if no nodes were configured
+         * @throws UncheckedIOException     if an Anvil process cannot be started
+         * @throws RpcException             if a node cannot be prepared
+         */
+        public TesterPool open() {
+            if (endpoints.isEmpty() && testers.isEmpty() && launch == 0) {
+                throw new IllegalArgumentException("TesterPool needs at least one endpoint, tester or launched node");
+            }
+            final List<Node> nodes = new ArrayList<>();
+            try {
+                for (final String url : endpoints) {
+                    nodes.add(new Node(url, Brane.builder().rpcUrl(url).signer(signer).testMode(mode).buildTester(),
+                            null));
+                }
+                for (int i = 0; i < testers.size(); i++) {
+                    nodes.add(new Node("tester-" + i, testers.get(i), null));
+                }
+                for (int i = 0; i < launch; i++) {
+                    nodes.add(launchAnvil());
+                }
+            } catch (RuntimeException e) {
+                nodes.forEach(Node::close);
+                throw e;
+            }
+            return new TesterPool(nodes, state, fixture, setup);
+        }
+
+        private Node launchAnvil() {
+            final Process process;
+            final int port;
+            try {
+                port = freePort();
+                final List<String> command = new ArrayList<>(anvilCommand);
+                command.add("--port");
+                command.add(Integer.toString(port));
+                process = new ProcessBuilder(command)
+                        .redirectErrorStream(true)
+                        .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                        .start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to launch " + anvilCommand.get(0), e);
+            }
+            final String url = "http://127.0.0.1:" + port;
+            try {
+                awaitPort(process, port);
+                return new Node(url, Brane.builder().rpcUrl(url).signer(signer).buildTester(), process);
+            } catch (RuntimeException e) {
+                process.destroyForcibly();
+                throw e;
+            }
+        }
+
+        private void awaitPort(final Process process, final int port) {
+            final long deadline = System.nanoTime() + startupTimeout.toNanos();
+            while (true) {
+                try (Socket socket = new Socket()) {
+                    socket.connect(new InetSocketAddress("127.0.0.1", port), 100);
+                    return;
+                } catch (IOException e) {
+                    if (!process.isAlive()) {
+                        throw new RpcException(-32000,
+                                "Anvil exited with code " + process.exitValue() + " before accepting connections",
+                                null);
+                    }
+                    if (System.nanoTime() - deadline >= 0) {
+                        throw new RpcException(-32000,
+                                "Anvil did not accept connections on port " + port + " within " + startupTimeout,
+                                null);
+                    }
+                }
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RpcException(-32000, "Interrupted while waiting for Anvil to start", null, e);
+                }
+            }
+        }
+
+        private static int freePort() throws IOException {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                return socket.getLocalPort();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import org.jspecify.annotations.Nullable;
+
+import sh.brane.core.types.Hash;
+
+/**
+ * The outcome of one transaction in a {@link Brane.Signer#sendTransactions(java.util.List)} batch.
+ *
+ * <p>Exactly one of {@link #hash()} and {@link #error()} is set. The error is the exception
+ * {@link Brane.Signer#sendTransaction} would have thrown for the same request, such as an
+ * {@link sh.brane.core.error.RpcException} from gas estimation or broadcast, or a
+ * {@link sh.brane.core.error.RevertException} when the node rejects the transaction with revert data.
+ *
+ * <p><strong>Example:</strong>
+ * <pre>{@code
+ * List<TransactionSubmission> results = signer.sendTransactions(requests);
+ * for (TransactionSubmission result : results) {
+ *     if (result.isSuccess()) {
+ *         System.out.println("Sent " + result.hash());
+ *     } else {
+ *         System.out.println("Failed: " + result.error().getMessage());
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param hash  the transaction hash returned by the node, or null if the transaction failed
+ * @param error the reason the transaction was not submitted, or null if it succeeded
+ * @since 0.3.0
+ */
+public record TransactionSubmission(@Nullable Hash hash, @Nullable RuntimeException error) {
+
+    /**
+     * Validates that exactly one of hash and error is present.
+     */
+    public TransactionSubmission {
+        if ((hash == null) == (error == null)) {
+            throw new IllegalArgumentException("Exactly one of hash and error must be set");
+        }
+    }
+
+    /**
+     * Creates a successful submission.
+     *
+     * @param hash the transaction hash
+     * @return the submission
+     */
+    public static TransactionSubmission sent(final Hash hash) {
+        return new TransactionSubmission(hash, null);
+    }
+
+    /**
+     * Creates a failed submission.
+     *
+     * @param error the reason the transaction was not submitted
+     * @return the submission
+     */
+    public static TransactionSubmission failed(final RuntimeException error) {
+        return new TransactionSubmission(null, error);
+    }
+
+    /**
+     * Returns whether the node accepted the transaction.
+     *
+     * @return true if {@link #hash()} is set
+     */
+    public boolean isSuccess() {
+        return hash != null;
+    }
+
+    /**
+     * Returns the transaction hash, rethrowing the failure if the transaction was not submitted.
+     *
+     * @return the transaction hash
+     * @throws RuntimeException the recorded {@link #error()} if the submission failed
+     */
+    public Hash hashOrThrow() {
+        if (error != null) {
+            throw error;
+        }
+        return hash;
+    }
+}
@@ -6,8 +6,10 @@ import static sh.brane.rpc.internal.RpcUtils.MAPPER;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
@@ -52,6 +54,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import sh.brane.core.error.RpcException;
+import sh.brane.core.types.HexData;
 import sh.brane.rpc.internal.RpcUtils;
 
 /**
@@ -271,6 +274,11 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
         this.metrics = Objects.requireNonNull(metrics, "metrics");
     }
 
+    @Override
+    public BraneMetrics metrics() {
+        return metrics;
+    }
+
     /**
      * Counter for orphaned responses (responses received with no matching pending request).
      * Orphaned responses occur when:
@@ -365,6 +373,8 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
     private static final byte[] NULL_BYTES = "null".getBytes(StandardCharsets.UTF_8);
     private static final byte[] TRUE_BYTES = "true".getBytes(StandardCharsets.UTF_8);
     private static final byte[] FALSE_BYTES = "false".getBytes(StandardCharsets.UTF_8);
+    /** Data bytes hex-encoded per chunk when the output buffer has no backing array. */
+    private static final int HEX_CHUNK_BYTES = 2048;
 
     // ==================== Native Transport Support ====================
     /**
@@ -678,6 +688,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                 // Transition to RECONNECTING state - requests will be rejected until reconnected
                 connectionState.set(ConnectionState.RECONNECTING);
                 log.warn("Connection lost, triggering reconnect");
+                metrics.onConnectionLost();
                 reconnect();
             }
         }
@@ -722,6 +733,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
             if (msg instanceof WebSocketFrame frame) {
                 if (frame instanceof TextWebSocketFrame textFrame) {
                     ByteBuf content = textFrame.content();
+                    final int frameBytes = content.readableBytes();
                     try {
                         try (JsonParser parser = MAPPER.getFactory()
                                 .createParser((java.io.InputStream) new ByteBufInputStream(content))) {
@@ -730,7 +742,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                             if (node.has("method") && node.get("method").asText().endsWith("_subscription")) {
                                 handleNotificationNode(node);
                             } else {
-                                processResponseNode(node);
+                                processResponseNode(node, frameBytes);
                             }
                         }
                     } catch (Exception e) {
@@ -779,7 +791,8 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
             }
         }
 
-        private void processResponseNode(JsonNode node) throws com.fasterxml.jackson.core.JsonProcessingException {
+        private void processResponseNode(JsonNode node, int frameBytes)
+                throws com.fasterxml.jackson.core.JsonProcessingException {
             if (!node.has("id"))
                 return;
             JsonNode idNode = node.get("id");
@@ -816,6 +829,10 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                 metrics.onOrphanedResponse("no pending request for ID: " + id);
                 return;
             }
+            if (future instanceof PendingRequest pending) {
+                metrics.onBytesReceived(pending.method, frameBytes);
+                pending.bytesReceived = frameBytes;
+            }
 
             JsonNode errorNode = node.get("error");
             JsonRpcError error = null;
@@ -866,16 +883,45 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
         }
     }
 
+    /**
+     * Sends the requests through {@link #sendAsyncBatch(String, List)} so they are
+     * written with coalesced flushes and are all in flight at once, then waits for
+     * every response.
+     *
+     * @throws RpcException if any request fails without a JSON-RPC response, e.g.
+     *                      on timeout or backpressure
+     * @since 0.3.0
+     */
+    @Override
+    public List<JsonRpcResponse> sendBatch(List<JsonRpcRequest> requests) throws RpcException {
+        Objects.requireNonNull(requests, "requests");
+        List<CompletableFuture<JsonRpcResponse>> futures = new ArrayList<>(requests.size());
+        for (JsonRpcRequest request : requests) {
+            futures.add(sendAsyncBatch(request.method(), request.params()));
+        }
+        List<JsonRpcResponse> responses = new ArrayList<>(futures.size());
+        for (CompletableFuture<JsonRpcResponse> future : futures) {
+            try {
+                responses.add(future.join());
+            } catch (Exception e) {
+                if (e.getCause() instanceof RpcException rpc) throw rpc;
+                throw new RpcException(-32000, "Request failed", null, e);
+            }
+        }
+        return responses;
+    }
+
     /**
      * Allocates a pending request slot for a new request with backpressure handling.
      * <p>
      * Uses atomic putIfAbsent to ensure thread-safety without TOCTOU race conditions.
      * Each request ID is unique, so there are no slot collisions.
      *
-     * @param id the request ID
-     * @return the allocated future, or a failed future if backpressure is triggered
+     * @param id     the request ID
+     * @param method the JSON-RPC method name, used for metrics
+     * @return the allocated {@link PendingRequest}, or a failed future if backpressure is triggered
      */
-    private CompletableFuture<JsonRpcResponse> allocateSlot(long id) {
+    private CompletableFuture<JsonRpcResponse> allocateSlot(long id, String method) {
         // Check pending request count for backpressure
         if (pendingRequests.size() >= maxPendingRequests) {
             metrics.onBackpressure(pendingRequests.size(), maxPendingRequests);
@@ -885,7 +931,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                     null));
         }
 
-        CompletableFuture<JsonRpcResponse> future = new CompletableFuture<>();
+        PendingRequest future = new PendingRequest(id, method);
         // Atomic put - if another thread somehow used the same ID, this would return non-null
         // In practice, IDs are monotonically increasing, so this won't happen
         CompletableFuture<JsonRpcResponse> existing = pendingRequests.putIfAbsent(id, future);
@@ -897,6 +943,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                     "Request ID " + id + " already in use (internal error)",
                     null));
         }
+        metrics.onRequestStarted(method);
         return future;
     }
 
@@ -952,7 +999,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
 
         long id = idGenerator.getAndIncrement();
 
-        CompletableFuture<JsonRpcResponse> future = allocateSlot(id);
+        CompletableFuture<JsonRpcResponse> future = allocateSlot(id, method);
         if (future.isCompletedExceptionally()) {
             return future; // Backpressure triggered
         }
@@ -965,8 +1012,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                     if (!future.isDone()) {
                         // Remove from pending requests on timeout
                         pendingRequests.remove(id, future);
-                        metrics.onRequestTimeout(method, id);
-                        future.completeExceptionally(new sh.brane.core.error.RpcException(
+                        ((PendingRequest) future).timeOut(id, new sh.brane.core.error.RpcException(
                                 -32000,
                                 "Request timed out after " + timeout.toMillis() + "ms (method: " + method + ")",
                                 null));
@@ -991,6 +1037,8 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                     writeLong(buffer, id);
                     buffer.writeByte(JSON_SUFFIX);
 
+                    metrics.onBytesSent(method, buffer.readableBytes());
+                    ((PendingRequest) future).bytesSent = buffer.readableBytes();
                     ch.writeAndFlush(new TextWebSocketFrame(buffer));
                 } catch (Exception e) {
                     buffer.release();
@@ -998,6 +1046,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                 }
             });
         } else {
+            pendingRequests.remove(id, future);
             future.completeExceptionally(new RpcException(-32000, "Channel not active", null));
         }
 
@@ -1060,7 +1109,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
 
         long id = idGenerator.getAndIncrement();
 
-        CompletableFuture<JsonRpcResponse> future = allocateSlot(id);
+        CompletableFuture<JsonRpcResponse> future = allocateSlot(id, method);
         if (future.isCompletedExceptionally()) {
             return future; // Backpressure triggered
         }
@@ -1072,8 +1121,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                 if (!future.isDone()) {
                     // Remove from pending requests on timeout
                     pendingRequests.remove(id, future);
-                    metrics.onRequestTimeout(method, id);
-                    future.completeExceptionally(new RpcException(
+                    ((PendingRequest) future).timeOut(id, new RpcException(
                             -32000,
                             "Request timed out after " + timeout.toMillis() + "ms (method: " + method + ")",
                             null));
@@ -1291,6 +1339,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                     connect();
                     // Reset counter on successful connection
                     reconnectAttempts.set(0);
+                    metrics.onReconnect();
                     log.info("Reconnected successfully to {}", uri);
                 } catch (Exception e) {
                     log.error("Reconnect attempt {} failed: {}", attempt, e.getMessage());
@@ -1336,6 +1385,11 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
                 writeLong(buffer, event.id);
                 buffer.writeByte(JSON_SUFFIX);
 
+                metrics.onBytesSent(event.method, buffer.readableBytes());
+                if (RpcRequestEvent.enabled()
+                        && pendingRequests.get(event.id) instanceof PendingRequest pending) {
+                    pending.bytesSent = buffer.readableBytes();
+                }
                 ch.write(new TextWebSocketFrame(buffer));
             } catch (Exception e) {
                 buffer.release();
@@ -1485,6 +1539,8 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
             case Integer i -> writeInt(buf, i);
             case Long l -> writeLong(buf, l);
             case Boolean b -> buf.writeBytes(b ? TRUE_BYTES : FALSE_BYTES);
+            case HexData data -> writeHexData(buf, data);
+            case CallParams params when params.pristine() != null -> writeCallObject(buf, params.pristine());
             case List<?> list -> writeJsonArray(buf, list);
             case java.util.Map<?, ?> map -> writeJsonObject(buf, map);
             case Number n -> {
@@ -1503,6 +1559,46 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
         }
     }
 
+    /**
+     * Write hex data as a JSON string, encoding its bytes straight into the ByteBuf.
+     * Direct buffers are filled through a small chunk array instead of a full-size copy.
+     */
+    private void writeHexData(ByteBuf buf, HexData data) {
+        final int length = data.byteLength();
+        buf.ensureWritable(data.hexLength() + 2);
+        buf.writeByte('"').writeByte('0').writeByte('x');
+        if (buf.hasArray()) {
+            final int index = buf.writerIndex();
+            buf.writerIndex(index + data.encodeAsciiTo(0, length, buf.array(), buf.arrayOffset() + index));
+        } else if (length > 0) {
+            final byte[] chunk = new byte[Math.min(length, HEX_CHUNK_BYTES) * 2];
+            for (int offset = 0; offset < length; offset += HEX_CHUNK_BYTES) {
+                buf.writeBytes(chunk, 0, data.encodeAsciiTo(offset, Math.min(HEX_CHUNK_BYTES, length - offset), chunk, 0));
+            }
+        }
+        buf.writeByte('"');
+    }
+
+    /**
+     * Write an eth_call or eth_estimateGas object directly to ByteBuf without building its
+     * parameter map.
+     */
+    private void writeCallObject(ByteBuf buf, CallParams.Fields fields) {
+        buf.writeByte('{');
+        final int start = buf.writerIndex();
+        fields.writeTo((name, value) -> {
+            if (buf.writerIndex() != start) {
+                buf.writeByte(',');
+            }
+            buf.writeByte('"');
+            writeEscapedString(buf, name);
+            buf.writeByte('"');
+            buf.writeByte(':');
+            writeJsonValue(buf, value);
+        });
+        buf.writeByte('}');
+    }
+
     /**
      * Write an int value directly to ByteBuf without String allocation.
      *
@@ -1512,7 +1608,7 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
      *   <li>Array is small (10 bytes) and short-lived</li>
      *   <li>Does not escape this method - eligible for JVM escape analysis</li>
      *   <li>Modern JVMs (HotSpot C2) can perform scalar replacement, allocating on stack</li>
-     *   <li>ThreadLocal would add complexity and cleanup concerns (see Keccak256.cleanup())</li>
+     *   <li>ThreadLocal would add complexity and cleanup concerns (see Sha256.cleanup())</li>
      * </ul>
      * If profiling shows GC pressure from this allocation, consider ThreadLocal buffers.
      */
@@ -1608,6 +1704,88 @@ public class WebSocketProvider implements BraneProvider, AutoCloseable {
         buf.writeBytes(digitBuf, 0, digits);
     }
 
+    /**
+     * Future for an in-flight request that reports its outcome to {@link #metrics}.
+     *
+     * <p>Carrying the method name and start time on the future itself means the
+     * latency can be recorded when the response arrives without a side table or a
+     * completion callback, so the success path allocates nothing beyond the future.
+     * Every completion path already goes through {@link #complete} or
+     * {@link #completeExceptionally}, which report exactly once.
+     *
+     * <p>The JFR event outlives the sending frame, so it is only allocated while a
+     * recording has {@link RpcRequestEvent} enabled. The byte counts are written on
+     * the event loop and only feed that event.
+     */
+    private final class PendingRequest extends CompletableFuture<JsonRpcResponse> {
+        final long id;
+        final String method;
+        final long startNanos;
+        private final RpcRequestEvent event;
+        long bytesSent;
+        long bytesReceived;
+
+        PendingRequest(long id, String method) {
+            this.id = id;
+            this.method = method;
+            this.startNanos = System.nanoTime();
+            if (RpcRequestEvent.enabled()) {
+                this.event = new RpcRequestEvent();
+                this.event.begin();
+            } else {
+                this.event = null;
+            }
+        }
+
+        @Override
+        public boolean complete(JsonRpcResponse response) {
+            if (!super.complete(response)) {
+                return false;
+            }
+            metrics.onRequestCompleted(method, System.nanoTime() - startNanos);
+            recordEvent(response.hasError() ? RpcRequestEvent.ERROR : RpcRequestEvent.SUCCESS);
+            return true;
+        }
+
+        @Override
+        public boolean completeExceptionally(Throwable error) {
+            if (!super.completeExceptionally(error)) {
+                return false;
+            }
+            metrics.onRequestFailed(method, error);
+            recordEvent(RpcRequestEvent.FAILED);
+            return true;
+        }
+
+        /**
+         * Cancels the request for its caller, releasing its slot and reporting it as failed.
+         * A response that arrives later is dropped as unknown.
+         */
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!super.cancel(mayInterruptIfRunning)) {
+                return false;
+            }
+            pendingRequests.remove(id, this);
+            metrics.onRequestFailed(method, new CancellationException("Request " + id + " was cancelled"));
+            recordEvent(RpcRequestEvent.FAILED);
+            return true;
+        }
+
+        void timeOut(long id, RpcException error) {
+            if (super.completeExceptionally(error)) {
+                metrics.onRequestTimeout(method, id);
+                recordEvent(RpcRequestEvent.TIMEOUT);
+            }
+        }
+
+        private void recordEvent(String outcome) {
+            if (event != null) {
+                event.record(RpcRequestEvent.WEBSOCKET, method, id, outcome, bytesSent, bytesReceived, 0, 0);
+            }
+        }
+    }
+
     /**
      * Event class for LMAX Disruptor - instances are pre-allocated and reused.
      *
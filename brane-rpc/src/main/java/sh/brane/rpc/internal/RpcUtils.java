@@ -14,6 +14,7 @@ import java.util.function.Supplier;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import sh.brane.core.BraneDebug;
 import sh.brane.core.DebugLogger;
 import sh.brane.core.InternalApi;
 import sh.brane.core.LogFormatter;
@@ -357,10 +358,13 @@ public final class RpcUtils {
      * @throws RpcException if the RPC call fails (propagated from supplier)
      */
     public static String timedEstimateGas(final Map<String, Object> tx, final Supplier<String> rpcCall) {
-        DebugLogger.logTx(LogFormatter.formatEstimateGas(
-                String.valueOf(tx.get("from")),
-                String.valueOf(tx.get("to")),
-                String.valueOf(tx.get("data"))));
+        // Reading the map would materialize a lazy view, so only do it when logging
+        if (BraneDebug.isTxLoggingEnabled()) {
+            DebugLogger.logTx(LogFormatter.formatEstimateGas(
+                    String.valueOf(tx.get("from")),
+                    String.valueOf(tx.get("to")),
+                    String.valueOf(tx.get("data"))));
+        }
         final long start = System.nanoTime();
         final String result = rpcCall.get();
         final long durationMicros = (System.nanoTime() - start) / 1_000L;
@@ -0,0 +1,213 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.abi.AbiDecoder;
+import sh.brane.core.abi.AbiEncoder;
+import sh.brane.core.abi.AbiType;
+import sh.brane.core.abi.AddressType;
+import sh.brane.core.abi.Array;
+import sh.brane.core.abi.Bool;
+import sh.brane.core.abi.Bytes;
+import sh.brane.core.abi.Tuple;
+import sh.brane.core.abi.TypeSchema;
+import sh.brane.core.abi.UInt;
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.Call3;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+
+class BalanceScannerTest {
+
+    private static final Address TOKEN = new Address("0x" + "7".repeat(40));
+    private static final int MAX_CALLDATA_FOR_3_CALLS = 4 + 32 + 32 + 3 * 224;
+
+    private final FakeNode node = new FakeNode();
+
+    @Test
+    void encodesSameCalldataAsAbiEncoder() {
+        final Address[] owners = owners(3).toArray(Address[]::new);
+        final List<Call3> calls = new ArrayList<>();
+        for (final Address owner : owners) {
+            calls.add(new Call3(TOKEN, true, new HexData("0x70a08231" + "0".repeat(24) + owner.value().substring(2))));
+        }
+
+        final byte[] expected = new HexData(MulticallBatch.encodeAggregate3(calls).data()).toBytes();
+
+        assertArrayEquals(expected, BalanceScanner.encodeAggregate3(owners, 0, 3, TOKEN));
+    }
+
+    @Test
+    void readsNativeBalancesAcrossChunksAtOneBlock() {
+        final BalanceScanner scanner = new BalanceScanner(null, node, MAX_CALLDATA_FOR_3_CALLS, 2);
+        final List<Address> owners = owners(10);
+        final List<BalanceScanner.Chunk> chunks = new CopyOnWriteArrayList<>();
+
+        scanner.nativeBalances(owners, 1234, chunks::add);
+
+        assertEquals(4, chunks.size());
+        final BigInteger[] balances = new BigInteger[owners.size()];
+        for (final BalanceScanner.Chunk chunk : chunks) {
+            System.arraycopy(chunk.balances(), 0, balances, chunk.offset(), chunk.balances().length);
+        }
+        for (int i = 0; i < owners.size(); i++) {
+            assertEquals(FakeNode.balanceOf(owners.get(i), null), balances[i]);
+        }
+        assertEquals(List.of(BlockTag.of(1234)), node.blocks.stream().distinct().toList());
+        assertTrue(node.targets.stream().allMatch(MulticallBatch.MULTICALL_ADDRESS::equals));
+    }
+
+    @Test
+    void readsTokenBalancesAtLatestBlock() {
+        final BalanceScanner scanner = new BalanceScanner(
+                new DefaultReader(new LatestBlockProvider(), null, 0, RpcRetryConfig.defaults()),
+                node,
+                BalanceScanner.DEFAULT_MAX_CALLDATA_BYTES,
+                BalanceScanner.DEFAULT_PARALLELISM);
+        final List<Address> owners = owners(1_200);
+
+        final BalanceScanner.Snapshot snapshot = scanner.tokenBalances(TOKEN, owners);
+
+        assertEquals(0x42, snapshot.blockNumber());
+        assertEquals(3, node.blocks.size());
+        for (int i = 0; i < owners.size(); i++) {
+            assertEquals(FakeNode.balanceOf(owners.get(i), TOKEN), snapshot.balances()[i]);
+        }
+        assertTrue(node.targets.stream().allMatch(TOKEN::equals));
+    }
+
+    @Test
+    void failedCallsYieldNull() {
+        node.failingOwner = owners(3).get(1);
+        final BalanceScanner scanner = new BalanceScanner(null, node, BalanceScanner.DEFAULT_MAX_CALLDATA_BYTES, 1);
+        final List<BalanceScanner.Chunk> chunks = new ArrayList<>();
+
+        scanner.tokenBalances(TOKEN, owners(3), 1, chunks::add);
+
+        final BigInteger[] balances = chunks.get(0).balances();
+        assertNotNull(balances[0]);
+        assertNull(balances[1]);
+        assertNotNull(balances[2]);
+    }
+
+    @Test
+    void requestFailureStopsScan() {
+        node.failRequests = true;
+        final BalanceScanner scanner = new BalanceScanner(null, node, MAX_CALLDATA_FOR_3_CALLS, 2);
+
+        assertThrows(RpcException.class, () -> scanner.nativeBalances(owners(10), 1, chunk -> { }));
+    }
+
+    @Test
+    void rejectsMalformedResponse() {
+        assertThrows(RpcException.class, () -> BalanceScanner.decodeBalances(new byte[31], 1));
+        final byte[] empty = AbiEncoder.encode(List.of(new Array<>(List.of(), Tuple.class, true, "(bool,bytes)")));
+        assertThrows(RpcException.class, () -> BalanceScanner.decodeBalances(empty, 1));
+
+        // A well-formed single result whose balance word is cut short
+        final byte[] balance = AbiEncoder.encode(List.of(new UInt(256, BigInteger.TEN)));
+        final byte[] full = AbiEncoder.encode(List.of(new Array<>(
+                List.of(new Tuple(List.of(new Bool(true), Bytes.of(balance)))), Tuple.class, true, "(bool,bytes)")));
+        assertEquals(BigInteger.TEN, BalanceScanner.decodeBalances(full, 1)[0]);
+        assertThrows(RpcException.class,
+                () -> BalanceScanner.decodeBalances(Arrays.copyOf(full, full.length - 16), 1));
+    }
+
+    @Test
+    void emptyOwnerListSendsNothing() {
+        final BalanceScanner scanner = new BalanceScanner(null, node, BalanceScanner.DEFAULT_MAX_CALLDATA_BYTES, 1);
+        scanner.nativeBalances(List.of(), 1, chunk -> fail("no chunks expected"));
+        assertTrue(node.blocks.isEmpty());
+    }
+
+    @Test
+    void builderValidatesSettings() {
+        final Brane client = new DefaultReader(new LatestBlockProvider(), null, 0, RpcRetryConfig.defaults());
+        assertThrows(IllegalArgumentException.class, () -> BalanceScanner.builder(client).maxCalldataBytes(100));
+        assertThrows(IllegalArgumentException.class, () -> BalanceScanner.builder(client).parallelism(0));
+        assertNotNull(BalanceScanner.builder(client).build());
+    }
+
+    private static List<Address> owners(final int count) {
+        final List<Address> owners = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            owners.add(new Address(String.format("0x%040x", i)));
+        }
+        return owners;
+    }
+
+    /**
+     * Decodes aggregate3 calldata with the generic ABI decoder and answers each
+     * balance call with a value derived from the owner.
+     */
+    private static final class FakeNode implements MulticallBatch.CallExecutor {
+        private static final TypeSchema CALLS = new TypeSchema.ArraySchema(
+                new TypeSchema.TupleSchema(List.of(
+                        new TypeSchema.AddressSchema(), new TypeSchema.BoolSchema(), new TypeSchema.BytesSchema(-1))),
+                -1);
+
+        final List<BlockTag> blocks = new CopyOnWriteArrayList<>();
+        final List<Address> targets = new CopyOnWriteArrayList<>();
+        volatile Address failingOwner;
+        volatile boolean failRequests;
+
+        static BigInteger balanceOf(final Address owner, final Address token) {
+            final BigInteger base = new BigInteger(owner.value().substring(2), 16).multiply(BigInteger.TEN.pow(18));
+            return token == null ? base : base.add(BigInteger.ONE);
+        }
+
+        @Override
+        public HexData call(final CallRequest request, final BlockTag blockTag) {
+            blocks.add(blockTag);
+            if (failRequests) {
+                throw new RpcException(-32000, "node down", null);
+            }
+            final byte[] calldata = request.data().toBytes();
+            final Array<?> calls = (Array<?>) AbiDecoder.decode(
+                    Arrays.copyOfRange(calldata, 4, calldata.length), List.of(CALLS)).get(0);
+            final List<Tuple> results = new ArrayList<>();
+            for (final Object element : calls.values()) {
+                final Tuple call = (Tuple) element;
+                final Address target = ((AddressType) call.components().get(0)).value();
+                final byte[] inner = ((Bytes) call.components().get(2)).value().toBytes();
+                targets.add(target);
+                final Address owner = Address.fromBytes(Arrays.copyOfRange(inner, 16, 36));
+                if (owner.equals(failingOwner)) {
+                    results.add(new Tuple(List.of(new Bool(false), Bytes.of(new byte[0]))));
+                    continue;
+                }
+                final BigInteger balance = balanceOf(owner, target.equals(TOKEN) ? TOKEN : null);
+                final byte[] encoded = AbiEncoder.encode(List.of(new UInt(256, balance)));
+                results.add(new Tuple(List.of(new Bool(true), Bytes.of(encoded))));
+            }
+            final List<AbiType> encoded = List.of(new Array<>(results, Tuple.class, true, "(bool,bytes)"));
+            return HexData.fromBytes(AbiEncoder.encode(encoded));
+        }
+    }
+
+    /**
+     * Provider that only answers eth_getBlockByNumber with block 0x42.
+     */
+    private static final class LatestBlockProvider implements BraneProvider {
+        @Override
+        public JsonRpcResponse send(final String method, final List<?> params) {
+            final Map<String, Object> block = new LinkedHashMap<>();
+            block.put("hash", "0x" + "a".repeat(64));
+            block.put("parentHash", "0x" + "b".repeat(64));
+            block.put("number", "0x42");
+            block.put("timestamp", "0x1");
+            return new JsonRpcResponse("2.0", block, null, "1");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.BlockHeader;
+import sh.brane.core.model.BlockWithReceipts;
+import sh.brane.core.types.Hash;
+
+class BlockIngestorTest {
+
+    @Test
+    void deliversBlocksInOrderWithBoundedConcurrency() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<Long> delivered = new ArrayList<>();
+        try (BlockIngestor ingestor = new BlockIngestor(number -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            // Later blocks often finish first
+            LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(100_000, 2_000_000));
+            inFlight.decrementAndGet();
+            return block(number);
+        }, 10, 59, 4)) {
+            ingestor.forEachRemaining(b -> delivered.add(b.number()));
+        }
+
+        assertEquals(50, delivered.size());
+        for (int i = 0; i < delivered.size(); i++) {
+            assertEquals(10L + i, delivered.get(i));
+        }
+        assertTrue(maxInFlight.get() <= 4, "at most prefetch blocks may be fetched at once");
+    }
+
+    @Test
+    void streamDeliversRemainingBlocks() {
+        try (BlockIngestor ingestor = new BlockIngestor(BlockIngestorTest::block, 0, 9, 3)) {
+            ingestor.next();
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L),
+                    ingestor.stream().map(BlockWithReceipts::number).toList());
+            assertFalse(ingestor.hasNext());
+            assertThrows(NoSuchElementException.class, ingestor::next);
+        }
+    }
+
+    @Test
+    void fetchFailureIsRethrownAndCloses() {
+        final RpcException failure = new RpcException(-32000, "boom", null);
+        final BlockIngestor ingestor = new BlockIngestor(number -> {
+            if (number == 2) {
+                throw failure;
+            }
+            return block(number);
+        }, 0, 5, 2);
+
+        assertEquals(0L, ingestor.next().number());
+        assertEquals(1L, ingestor.next().number());
+        assertSame(failure, assertThrows(RpcException.class, ingestor::next));
+        assertFalse(ingestor.hasNext());
+    }
+
+    @Test
+    void missingBlockFails() {
+        final BlockIngestor ingestor = new BlockIngestor(number -> null, 7, 7, 1);
+
+        RpcException ex = assertThrows(RpcException.class, ingestor::next);
+        assertTrue(ex.getMessage().contains("Block 7 not found"));
+        assertFalse(ingestor.hasNext());
+    }
+
+    @Test
+    void closeStopsIteration() {
+        final BlockIngestor ingestor = new BlockIngestor(BlockIngestorTest::block, 0, 1_000, 8);
+        ingestor.next();
+        ingestor.close();
+        ingestor.close();
+
+        assertFalse(ingestor.hasNext());
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BlockIngestor(BlockIngestorTest::block, -1, 5, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BlockIngestor(BlockIngestorTest::block, 5, 4, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BlockIngestor(BlockIngestorTest::block, 0, 4, 0));
+    }
+
+    private static BlockWithReceipts block(final long number) {
+        final Hash hash = new Hash(String.format("0x%064x", number + 1));
+        final Hash parent = new Hash(String.format("0x%064x", number));
+        return new BlockWithReceipts(new BlockHeader(hash, number, parent, 0L, null), List.of(), List.of());
+    }
+}
@@ -0,0 +1,249 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.abi.AbiDecoder;
+import sh.brane.core.abi.AbiEncoder;
+import sh.brane.core.abi.AbiType;
+import sh.brane.core.abi.Array;
+import sh.brane.core.abi.Bool;
+import sh.brane.core.abi.Bytes;
+import sh.brane.core.abi.Tuple;
+import sh.brane.core.abi.TypeSchema;
+import sh.brane.core.error.RevertException;
+import sh.brane.core.error.RpcException;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.Wei;
+
+class CallBatcherTest {
+
+    private static final Address TARGET = new Address("0x" + "1".repeat(40));
+    private static final Address SENDER = new Address("0x" + "2".repeat(40));
+
+    /** Revert data for Error("nope"). */
+    private static final String REVERT_NOPE = "0x08c379a0"
+            + "0000000000000000000000000000000000000000000000000000000000000020"
+            + "0000000000000000000000000000000000000000000000000000000000000004"
+            + "6e6f706500000000000000000000000000000000000000000000000000000000";
+
+    private final FakeNode node = new FakeNode();
+
+    @Test
+    void mergesConcurrentCallsIntoOneAggregate3() throws Exception {
+        try (CallBatcher batcher = batcher(Duration.ofMillis(200), 500);
+                ExecutorService executor = BraneExecutors.newIoBoundExecutor()) {
+            final List<Future<HexData>> results = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                final CallRequest request = CallRequest.of(TARGET, new HexData(String.format("0x%08x", i)));
+                results.add(executor.submit(() -> batcher.call(request)));
+            }
+            for (int i = 0; i < 20; i++) {
+                assertEquals(FakeNode.answer(new HexData(String.format("0x%08x", i))), results.get(i).get());
+            }
+        }
+        assertEquals(1, node.aggregateCalls.size());
+        assertEquals(20, node.aggregateCalls.get(0));
+        assertEquals(0, node.directCalls.size());
+    }
+
+    @Test
+    void dispatchesWhenBatchIsFull() {
+        try (CallBatcher batcher = batcher(Duration.ofSeconds(30), 3)) {
+            final List<CompletableFuture<HexData>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                futures.add(batcher.callAsync(CallRequest.of(TARGET, new HexData("0x0" + i))));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            assertEquals(List.of(3), node.aggregateCalls);
+        }
+    }
+
+    @Test
+    void flushSendsPendingCallsImmediately() {
+        try (CallBatcher batcher = batcher(Duration.ofSeconds(30), 500)) {
+            final CompletableFuture<HexData> first = batcher.callAsync(CallRequest.of(TARGET, new HexData("0x01")));
+            final CompletableFuture<HexData> second = batcher.callAsync(CallRequest.of(TARGET, new HexData("0x02")));
+            batcher.flush();
+            assertEquals(FakeNode.answer(new HexData("0x01")), first.join());
+            assertEquals(FakeNode.answer(new HexData("0x02")), second.join());
+        }
+    }
+
+    @Test
+    void singleCallIsSentDirectly() {
+        try (CallBatcher batcher = batcher(Duration.ofMillis(1), 500)) {
+            final HexData result = batcher.call(CallRequest.of(TARGET, new HexData("0xaa")));
+            assertEquals(FakeNode.answer(new HexData("0xaa")), result);
+        }
+        assertTrue(node.aggregateCalls.isEmpty());
+        assertEquals(1, node.directCalls.size());
+    }
+
+    @Test
+    void callsWithSenderOrValueBypassBatching() {
+        try (CallBatcher batcher = batcher(Duration.ofSeconds(30), 500)) {
+            batcher.call(CallRequest.builder().from(SENDER).to(TARGET).data(new HexData("0x01")).build());
+            batcher.call(CallRequest.builder().to(TARGET).data(new HexData("0x02")).value(Wei.of(1)).build());
+        }
+        assertEquals(2, node.directCalls.size());
+        assertTrue(node.aggregateCalls.isEmpty());
+    }
+
+    @Test
+    void revertsFailOnlyTheirOwnCaller() {
+        try (CallBatcher batcher = batcher(Duration.ofSeconds(30), 500)) {
+            final CompletableFuture<HexData> ok = batcher.callAsync(CallRequest.of(TARGET, new HexData("0x01")));
+            final CompletableFuture<HexData> reverted = batcher.callAsync(CallRequest.of(TARGET, FakeNode.REVERT));
+            final CompletableFuture<HexData> bare = batcher.callAsync(CallRequest.of(TARGET, FakeNode.BARE_REVERT));
+            batcher.flush();
+
+            assertEquals(FakeNode.answer(new HexData("0x01")), ok.join());
+            final Throwable revert = assertThrows(Exception.class, reverted::join).getCause();
+            final RevertException revertException = assertInstanceOf(RevertException.class, revert);
+            assertEquals("nope", revertException.revertReason());
+            final Throwable bareRevert = assertThrows(Exception.class, bare::join).getCause();
+            assertEquals(3, assertInstanceOf(RpcException.class, bareRevert).code());
+        }
+    }
+
+    @Test
+    void batchFailureFailsEveryCaller() {
+        node.failAggregate = true;
+        try (CallBatcher batcher = batcher(Duration.ofSeconds(30), 500)) {
+            final CompletableFuture<HexData> first = batcher.callAsync(CallRequest.of(TARGET, new HexData("0x01")));
+            final CompletableFuture<HexData> second = batcher.callAsync(CallRequest.of(TARGET, new HexData("0x02")));
+            batcher.flush();
+            assertInstanceOf(RpcException.class, assertThrows(Exception.class, first::join).getCause());
+            assertInstanceOf(RpcException.class, assertThrows(Exception.class, second::join).getCause());
+            final RpcException direct = assertThrows(RpcException.class, () -> batcher.call(
+                    CallRequest.builder().from(SENDER).to(TARGET).data(new HexData("0x01")).build()));
+            assertNotNull(direct);
+        }
+    }
+
+    @Test
+    void closeSendsPendingCallsAndRejectsNewOnes() {
+        final CallBatcher batcher = batcher(Duration.ofSeconds(30), 500);
+        final CompletableFuture<HexData> pending = batcher.callAsync(CallRequest.of(TARGET, new HexData("0x01")));
+        batcher.close();
+
+        assertEquals(FakeNode.answer(new HexData("0x01")), pending.join());
+        assertThrows(IllegalStateException.class, () -> batcher.callAsync(CallRequest.of(TARGET, HexData.EMPTY)));
+        batcher.close();
+    }
+
+    @Test
+    void reportsBatchesToMetrics() {
+        final MetricsRecorder recorder = new MetricsRecorder();
+        try (CallBatcher batcher = new CallBatcher(null, node, recorder, Duration.ofSeconds(30), 500)) {
+            batcher.callAsync(CallRequest.of(TARGET, new HexData("0x01")));
+            batcher.callAsync(CallRequest.of(TARGET, new HexData("0x02")));
+        }
+        assertEquals(1, recorder.snapshot().multicall().batches());
+        assertEquals(2, recorder.snapshot().multicall().calls());
+    }
+
+    @Test
+    void builderValidatesSettings() {
+        final Brane client = new DefaultReader(new FakeProvider(), null, 0, RpcRetryConfig.defaults());
+        final CallBatcher.Builder builder = CallBatcher.builder(client);
+        assertThrows(IllegalArgumentException.class, () -> builder.window(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.maxBatchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.maxBatchSize(1001));
+        try (CallBatcher batcher = builder.build()) {
+            assertSame(client, batcher.client());
+        }
+    }
+
+    private CallBatcher batcher(final Duration window, final int maxBatchSize) {
+        return new CallBatcher(null, node, null, window, maxBatchSize);
+    }
+
+    /**
+     * Executes direct calls by echoing a deterministic answer and decodes
+     * {@code aggregate3} calldata to answer each inner call.
+     */
+    private static final class FakeNode implements CallBatcher.AsyncCallExecutor {
+        static final HexData REVERT = new HexData("0xdead");
+        static final HexData BARE_REVERT = new HexData("0xbeef");
+        private static final TypeSchema CALLS = new TypeSchema.ArraySchema(
+                new TypeSchema.TupleSchema(List.of(
+                        new TypeSchema.AddressSchema(), new TypeSchema.BoolSchema(), new TypeSchema.BytesSchema(-1))),
+                -1);
+
+        final List<Integer> aggregateCalls = new CopyOnWriteArrayList<>();
+        final List<CallRequest> directCalls = new CopyOnWriteArrayList<>();
+        volatile boolean failAggregate;
+
+        static HexData answer(final HexData calldata) {
+            return new HexData("0x" + "0".repeat(56) + calldata.value().substring(2).repeat(8).substring(0, 8));
+        }
+
+        @Override
+        public CompletableFuture<HexData> callAsync(final CallRequest request, final BlockTag blockTag) {
+            try {
+                return CompletableFuture.completedFuture(call(request));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private HexData call(final CallRequest request) {
+            if (!request.to().equals(MulticallBatch.MULTICALL_ADDRESS)) {
+                directCalls.add(request);
+                if (failAggregate) {
+                    throw new RpcException(-32000, "node down", null);
+                }
+                return answer(request.data());
+            }
+            if (failAggregate) {
+                throw new RpcException(-32000, "node down", null);
+            }
+            final byte[] calldata = request.data().toBytes();
+            final Array<?> calls = (Array<?>) AbiDecoder.decode(
+                    Arrays.copyOfRange(calldata, 4, calldata.length), List.of(CALLS)).get(0);
+            aggregateCalls.add(calls.values().size());
+            final List<Tuple> results = new ArrayList<>();
+            for (final Object element : calls.values()) {
+                final Tuple call = (Tuple) element;
+                final HexData inner = ((Bytes) call.components().get(2)).value();
+                if (inner.equals(REVERT)) {
+                    results.add(result(false, new HexData(REVERT_NOPE)));
+                } else if (inner.equals(BARE_REVERT)) {
+                    results.add(result(false, HexData.EMPTY));
+                } else {
+                    results.add(result(true, answer(inner)));
+                }
+            }
+            final List<AbiType> encoded = List.of(new Array<>(results, Tuple.class, true, "(bool,bytes)"));
+            return HexData.fromBytes(AbiEncoder.encode(encoded));
+        }
+
+        private static Tuple result(final boolean success, final HexData data) {
+            return new Tuple(List.of(new Bool(success), Bytes.of(data.toBytes())));
+        }
+    }
+
+    /**
+     * Provider that is never called; only used to build a real client.
+     */
+    private static final class FakeProvider implements BraneProvider {
+        @Override
+        public JsonRpcResponse send(final String method, final List<?> params) {
+            throw new UnsupportedOperationException(method);
+        }
+    }
+}
@@ -4,12 +4,20 @@ package sh.brane.rpc;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 
+import sh.brane.core.model.AccessListEntry;
+import sh.brane.core.model.TransactionRequest;
 import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
 import sh.brane.core.types.HexData;
 import sh.brane.core.types.Wei;
+import sh.brane.rpc.internal.RpcUtils;
 
 class CallRequestTest {
 
@@ -94,6 +102,44 @@ class CallRequestTest {
         assertEquals("0x5208", map.get("gas")); // 21000
     }
 
+    @Test
+    void callParamsMatchToMap() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        CallRequest request = CallRequest.builder()
+                .to(TEST_ADDRESS)
+                .from(new Address("0xaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"))
+                .data(HexData.fromBytes(new byte[] {0x12, 0x34, 0x56, 0x78}))
+                .maxFeePerGas(BigInteger.TEN)
+                .maxPriorityFeePerGas(BigInteger.ONE)
+                .build();
+
+        String expected = mapper.writeValueAsString(request.toMap());
+        assertEquals(expected, mapper.writeValueAsString(new CallParams(request)));
+        assertEquals(expected, new String(mapper.writeValueAsBytes(new CallParams(request)), StandardCharsets.UTF_8));
+
+        // Providers see the same entries, and their changes are what gets sent
+        CallParams params = new CallParams(request);
+        assertEquals(request.toMap(), params);
+        params.remove("from");
+        assertEquals("{\"to\":\"0x1234567890123456789012345678901234567890\",\"data\":\"0x12345678\","
+                + "\"maxFeePerGas\":\"0xa\",\"maxPriorityFeePerGas\":\"0x1\"}", mapper.writeValueAsString(params));
+    }
+
+    @Test
+    void transactionParamsMatchTxObject() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        Address from = new Address("0xaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa");
+        TransactionRequest request = new TransactionRequest(
+                from, TEST_ADDRESS, Wei.of(5L), null, null, null, null, null,
+                HexData.fromBytes(new byte[] {0x12, 0x34}), true,
+                List.of(new AccessListEntry(TEST_ADDRESS, List.of(new Hash("0x" + "1".repeat(64))))));
+
+        Map<String, Object> expected = RpcUtils.buildTxObject(request, from);
+        assertEquals(mapper.writeValueAsString(expected),
+                mapper.writeValueAsString(CallParams.forTransaction(request, from)));
+        assertEquals(expected, CallParams.forTransaction(request, from));
+    }
+
     /**
      * MED-2 Verification: Test if toMap() returns a mutable map.
      *
@@ -4,6 +4,7 @@ package sh.brane.rpc;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -13,6 +14,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,14 +23,23 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.error.InvalidProofException;
+import sh.brane.core.error.RevertException;
 import sh.brane.core.error.RpcException;
 import sh.brane.core.model.BlockHeader;
+import sh.brane.core.model.BlockWithReceipts;
 import sh.brane.core.model.LogEntry;
 import sh.brane.core.model.TransactionRequest;
 import sh.brane.core.types.Address;
 import sh.brane.core.types.Hash;
 import sh.brane.core.types.HexData;
 import sh.brane.core.types.Wei;
+import sh.brane.primitives.rlp.Rlp;
+import sh.brane.primitives.rlp.RlpItem;
+import sh.brane.primitives.rlp.RlpString;
+import sh.brane.trie.AccountProof;
+import sh.brane.trie.MerklePatriciaTrie;
 
 /**
  * Unit tests for {@link DefaultReader} with mock BraneProvider.
@@ -192,6 +204,28 @@ class DefaultReaderTest {
         assertEquals(new BigInteger("21e19e0c9bab2400000", 16), balance);
     }
 
+    @Test
+    void blockPinnedReadsSendBlockNumber() {
+        Address address = new Address("0x742d35Cc6634C0532925a3b844Bc9e7595f9e9e9");
+        when(provider.send(eq("eth_getBalance"), any())).thenReturn(new JsonRpcResponse("2.0", "0x5", null, "1"));
+        when(provider.send(eq("eth_getTransactionCount"), any()))
+                .thenReturn(new JsonRpcResponse("2.0", "0x2a", null, "1"));
+        when(provider.send(eq("eth_getCode"), any())).thenReturn(new JsonRpcResponse("2.0", "0x6000", null, "1"));
+        when(provider.send(eq("eth_getStorageAt"), any())).thenReturn(
+                new JsonRpcResponse("2.0", "0x" + "00".repeat(31) + "07", null, "1"));
+        BlockTag block = BlockTag.of(0x10);
+
+        assertEquals(BigInteger.valueOf(5), reader.getBalance(address, block));
+        assertEquals(42L, reader.getTransactionCount(address, block));
+        assertEquals(new HexData("0x6000"), reader.getCode(address, block));
+        assertEquals(new HexData("0x" + "00".repeat(31) + "07"), reader.getStorageAt(address, BigInteger.TWO, block));
+
+        verify(provider).send(eq("eth_getBalance"), eq(List.of(address.value(), "0x10")));
+        verify(provider).send(eq("eth_getTransactionCount"), eq(List.of(address.value(), "0x10")));
+        verify(provider).send(eq("eth_getCode"), eq(List.of(address.value(), "0x10")));
+        verify(provider).send(eq("eth_getStorageAt"), eq(List.of(address.value(), "0x2", "0x10")));
+    }
+
     @Test
     void getBalanceThrowsWhenResultIsNull() {
         // Given: provider returns null result
@@ -515,6 +549,44 @@ class DefaultReaderTest {
         assertTrue(ex.getMessage().contains("closed"));
     }
 
+    @Test
+    void callAsyncRetriesTransientErrors() {
+        // Given: the first attempt is rate limited
+        DefaultReader readerWithRetry = new DefaultReader(provider, null, 2, new RpcRetryConfig(1, 1, 0.0, 0.01));
+        CallRequest request = CallRequest.of(new Address("0x742d35Cc6634C0532925a3b844Bc9e7595f9e9e9"), HexData.EMPTY);
+        when(provider.send(eq("eth_call"), any())).thenReturn(
+                new JsonRpcResponse("2.0", null, new JsonRpcError(-32005, "rate limited", null), "1"),
+                new JsonRpcResponse("2.0", "0x1234", null, "2"));
+
+        // When
+        HexData result = readerWithRetry.callAsync(request, BlockTag.PENDING).join();
+
+        // Then
+        assertEquals("0x1234", result.value());
+        verify(provider, times(2)).send(eq("eth_call"), eq(List.of(request.toMap(), "pending")));
+    }
+
+    @Test
+    void callAsyncCompletesWithRevert() {
+        // Given: the node reverts with Error("nope")
+        CallRequest request = CallRequest.of(new Address("0x742d35Cc6634C0532925a3b844Bc9e7595f9e9e9"), HexData.EMPTY);
+        String revertData = "0x08c379a0"
+                + "0000000000000000000000000000000000000000000000000000000000000020"
+                + "0000000000000000000000000000000000000000000000000000000000000004"
+                + "6e6f706500000000000000000000000000000000000000000000000000000000";
+        when(provider.send(eq("eth_call"), any())).thenReturn(
+                new JsonRpcResponse("2.0", null, new JsonRpcError(3, "execution reverted", revertData), "1"));
+
+        // When
+        CompletableFuture<HexData> result = reader.callAsync(request);
+
+        // Then: the future fails with the exception call() would throw
+        ExecutionException ex = assertThrows(ExecutionException.class, result::get);
+        RevertException revert = assertInstanceOf(RevertException.class, ex.getCause());
+        assertEquals("nope", revert.revertReason());
+        verify(provider, times(1)).send(eq("eth_call"), any());
+    }
+
     @Test
     void callWithFullRequest() {
         // Given: call with all parameters
@@ -850,8 +922,278 @@ class DefaultReaderTest {
         assertTrue(ex.getMessage().contains("closed"));
     }
 
+    // ==================== getBlockWithReceipts() Tests ====================
+
+    private static final String BLOCK_HASH = "0x" + "bb".repeat(32);
+    private static final String TX_HASH_1 = "0x" + "01".repeat(32);
+    private static final String TX_HASH_2 = "0x" + "02".repeat(32);
+
+    @Test
+    void getBlockWithReceiptsUsesBlockReceipts() {
+        when(provider.send(eq("eth_getBlockByNumber"), any())).thenReturn(
+                new JsonRpcResponse("2.0", createFullBlockMap(TX_HASH_1, TX_HASH_2), null, "1"));
+        when(provider.send(eq("eth_getBlockReceipts"), any())).thenReturn(new JsonRpcResponse(
+                "2.0", List.of(createReceiptMap(TX_HASH_1, BLOCK_HASH), createReceiptMap(TX_HASH_2, BLOCK_HASH)),
+                null, "2"));
+
+        BlockWithReceipts block = reader.getBlockWithReceipts(0x100);
+
+        assertNotNull(block);
+        assertEquals(0x100L, block.number());
+        assertEquals(2, block.transactions().size());
+        assertEquals(TX_HASH_2, block.receipts().get(1).transactionHash().value());
+        verify(provider).send(eq("eth_getBlockByNumber"), eq(List.of("0x100", Boolean.TRUE)));
+        verify(provider).send(eq("eth_getBlockReceipts"), eq(List.of("0x100")));
+        verify(provider, never()).sendBatch(any());
+    }
+
+    @Test
+    void getBlockWithReceiptsFallsBackToBatchedReceipts() {
+        when(provider.send(eq("eth_getBlockByNumber"), any())).thenReturn(
+                new JsonRpcResponse("2.0", createFullBlockMap(TX_HASH_1, TX_HASH_2), null, "1"));
+        when(provider.send(eq("eth_getBlockReceipts"), any())).thenThrow(new RpcException(
+                -32601, "the method eth_getBlockReceipts does not exist/is not available", null, null, null));
+        when(provider.sendBatch(any())).thenReturn(List.of(
+                new JsonRpcResponse("2.0", createReceiptMap(TX_HASH_1, BLOCK_HASH), null, "3"),
+                new JsonRpcResponse("2.0", createReceiptMap(TX_HASH_2, BLOCK_HASH), null, "4")));
+
+        BlockWithReceipts first = reader.getBlockWithReceipts(0x100);
+        BlockWithReceipts second = reader.getBlockWithReceipts(0x100);
+
+        assertEquals(first, second);
+        assertEquals(TX_HASH_1, first.receipts().get(0).transactionHash().value());
+        // The unsupported method is only tried once
+        verify(provider, times(1)).send(eq("eth_getBlockReceipts"), any());
+        verify(provider, times(2)).sendBatch(eq(List.of(
+                new JsonRpcRequest("2.0", "eth_getTransactionReceipt", List.of(TX_HASH_1), null),
+                new JsonRpcRequest("2.0", "eth_getTransactionReceipt", List.of(TX_HASH_2), null))));
+    }
+
+    @Test
+    void getBlockWithReceiptsRetriesTransientReceiptErrors() {
+        DefaultReader readerWithRetry = new DefaultReader(provider, null, 2, new RpcRetryConfig(1, 1, 0.0, 0.01));
+        when(provider.send(eq("eth_getBlockByNumber"), any())).thenReturn(
+                new JsonRpcResponse("2.0", createFullBlockMap(TX_HASH_1, TX_HASH_2), null, "1"));
+        when(provider.send(eq("eth_getBlockReceipts"), any())).thenThrow(new RpcException(
+                -32601, "the method eth_getBlockReceipts does not exist/is not available", null, null, null));
+        when(provider.sendBatch(any())).thenReturn(
+                List.of(
+                        new JsonRpcResponse("2.0", createReceiptMap(TX_HASH_1, BLOCK_HASH), null, "3"),
+                        new JsonRpcResponse("2.0", null, new JsonRpcError(-32005, "rate limited", null), "4")),
+                List.of(
+                        new JsonRpcResponse("2.0", createReceiptMap(TX_HASH_1, BLOCK_HASH), null, "5"),
+                        new JsonRpcResponse("2.0", createReceiptMap(TX_HASH_2, BLOCK_HASH), null, "6")));
+
+        BlockWithReceipts block = readerWithRetry.getBlockWithReceipts(0x100);
+
+        assertEquals(TX_HASH_2, block.receipts().get(1).transactionHash().value());
+        verify(provider, times(2)).sendBatch(any());
+    }
+
+    @Test
+    void getBlockWithReceiptsDoesNotFallBackOnOtherErrors() {
+        when(provider.send(eq("eth_getBlockByNumber"), any())).thenReturn(
+                new JsonRpcResponse("2.0", createFullBlockMap(TX_HASH_1), null, "1"));
+        // Invalid params whose message happens to mention a missing thing is not "method not found"
+        when(provider.send(eq("eth_getBlockReceipts"), any())).thenThrow(new RpcException(
+                -32602, "block 0x100 does not exist", null, null, null));
+
+        assertThrows(RpcException.class, () -> reader.getBlockWithReceipts(0x100));
+        verify(provider, never()).sendBatch(any());
+    }
+
+    @Test
+    void getBlockWithReceiptsThrowsWhenClosed() {
+        reader.close();
+
+        assertThrows(IllegalStateException.class, () -> reader.getBlockWithReceipts(0x100));
+        verify(provider, never()).send(any(), any());
+    }
+
+    @Test
+    void getBlockWithReceiptsRefetchesWhenReceiptsBelongToAnotherBlock() {
+        when(provider.send(eq("eth_getBlockByNumber"), any())).thenReturn(
+                new JsonRpcResponse("2.0", createFullBlockMap(TX_HASH_1), null, "1"));
+        when(provider.send(eq("eth_getBlockReceipts"), any())).thenReturn(
+                new JsonRpcResponse("2.0", List.of(createReceiptMap(TX_HASH_1, "0x" + "cc".repeat(32))), null, "2"),
+                new JsonRpcResponse("2.0", List.of(createReceiptMap(TX_HASH_1, BLOCK_HASH)), null, "3"));
+
+        BlockWithReceipts block = reader.getBlockWithReceipts(0x100);
+
+        assertEquals(BLOCK_HASH, block.receipts().get(0).blockHash().value());
+        verify(provider, times(2)).send(eq("eth_getBlockByNumber"), any());
+    }
+
+    @Test
+    void getBlockWithReceiptsReturnsNullForMissingBlock() {
+        when(provider.send(eq("eth_getBlockByNumber"), any())).thenReturn(new JsonRpcResponse("2.0", null, null, "1"));
+
+        assertNull(reader.getBlockWithReceipts(0x100));
+    }
+
+    @Test
+    void getBlockWithReceiptsSkipsReceiptsForEmptyBlock() {
+        when(provider.send(eq("eth_getBlockByNumber"), any())).thenReturn(
+                new JsonRpcResponse("2.0", createFullBlockMap(), null, "1"));
+
+        BlockWithReceipts block = reader.getBlockWithReceipts(0x100);
+
+        assertTrue(block.transactions().isEmpty());
+        verify(provider, never()).send(eq("eth_getBlockReceipts"), any());
+    }
+
+    // ==================== getProof() Tests ====================
+
+    private static final Address PROVEN = new Address("0x" + "ab".repeat(20));
+
+    @Test
+    void blockHeaderIncludesTrieRoots() {
+        var block = createFullBlockMap();
+        block.put("stateRoot", "0x" + "01".repeat(32));
+        block.put("transactionsRoot", "0x" + "02".repeat(32));
+        block.put("receiptsRoot", "0x" + "03".repeat(32));
+        when(provider.send(eq("eth_getBlockByNumber"), any())).thenReturn(new JsonRpcResponse("2.0", block, null, "1"));
+
+        BlockHeader header = reader.getBlockByNumber(0x100);
+
+        assertEquals(new Hash("0x" + "01".repeat(32)), header.stateRoot());
+        assertEquals(new Hash("0x" + "02".repeat(32)), header.transactionsRoot());
+        assertEquals(new Hash("0x" + "03".repeat(32)), header.receiptsRoot());
+    }
+
+    @Test
+    void getProofVerifiesAgainstStateRootOfPinnedBlock() {
+        MerklePatriciaTrie storage = new MerklePatriciaTrie();
+        storage.put(Keccak256.hash(new byte[32]), Rlp.encode(RlpString.of(42)));
+        MerklePatriciaTrie state = provenState(BigInteger.TEN, storage.rootHash());
+        stubProof(state, BigInteger.TEN, storage, "0x2a");
+
+        AccountProof proof = reader.getProof(PROVEN, List.of(BigInteger.ZERO), BlockTag.FINALIZED);
+
+        assertEquals(BigInteger.TEN, proof.balance());
+        assertEquals(BigInteger.valueOf(42), proof.storageProof().get(0).value());
+        verify(provider).send(eq("eth_getBlockByNumber"), eq(List.of("finalized", Boolean.FALSE)));
+        verify(provider).send(eq("eth_getProof"), eq(List.of(
+                PROVEN.value(), List.of("0x" + "0".repeat(64)), Map.of("blockHash", BLOCK_HASH))));
+    }
+
+    @Test
+    void getProofRejectsValuesThatDoNotMatchProof() {
+        MerklePatriciaTrie state = provenState(BigInteger.TEN, MerklePatriciaTrie.EMPTY_ROOT);
+        stubProof(state, BigInteger.ONE, new MerklePatriciaTrie(), null);
+
+        assertThrows(InvalidProofException.class, () -> reader.getProof(PROVEN, List.of(), BlockTag.LATEST));
+    }
+
+    @Test
+    void getProofRejectsMissingOrSubstitutedSlots() {
+        MerklePatriciaTrie storage = new MerklePatriciaTrie();
+        storage.put(Keccak256.hash(new byte[32]), Rlp.encode(RlpString.of(42)));
+        MerklePatriciaTrie state = provenState(BigInteger.TEN, storage.rootHash());
+        stubProof(state, BigInteger.TEN, storage, "0x2a");
+
+        assertThrows(InvalidProofException.class,
+                () -> reader.getProof(PROVEN, List.of(BigInteger.ONE), BlockTag.LATEST));
+        assertThrows(InvalidProofException.class,
+                () -> reader.getProof(PROVEN, List.of(BigInteger.ZERO, BigInteger.ONE), BlockTag.LATEST));
+        assertThrows(InvalidProofException.class, () -> reader.getProof(PROVEN, List.of(), BlockTag.LATEST));
+    }
+
+    @Test
+    void getProofRejectsMissingNonce() {
+        MerklePatriciaTrie state = provenState(BigInteger.TEN, MerklePatriciaTrie.EMPTY_ROOT);
+        stubProof(state, BigInteger.TEN, new MerklePatriciaTrie(), null).remove("nonce");
+
+        assertThrows(RpcException.class, () -> reader.getProof(PROVEN, List.of(), BlockTag.LATEST));
+    }
+
+    @Test
+    void getProofThrowsForMissingBlock() {
+        when(provider.send(eq("eth_getBlockByNumber"), any())).thenReturn(new JsonRpcResponse("2.0", null, null, "1"));
+
+        assertThrows(RpcException.class, () -> reader.getProof(PROVEN, List.of(), BlockTag.LATEST));
+        verify(provider, never()).send(eq("eth_getProof"), any());
+    }
+
+    private static MerklePatriciaTrie provenState(BigInteger balance, Hash storageRoot) {
+        MerklePatriciaTrie state = new MerklePatriciaTrie();
+        state.put(Keccak256.hash(PROVEN.toBytes()), Rlp.encodeList(List.<RlpItem>of(
+                RlpString.of(1),
+                RlpString.of(balance),
+                RlpString.of(storageRoot.toBytes()),
+                RlpString.of(AccountProof.EMPTY_CODE_HASH.toBytes()))));
+        state.put(Keccak256.hash(new byte[20]), Rlp.encode(RlpString.of(1)));
+        return state;
+    }
+
+    private Map<String, Object> stubProof(MerklePatriciaTrie state, BigInteger reportedBalance, MerklePatriciaTrie storage,
+            String slotValue) {
+        var block = createFullBlockMap();
+        block.put("stateRoot", state.rootHash().value());
+        when(provider.send(eq("eth_getBlockByNumber"), any())).thenReturn(new JsonRpcResponse("2.0", block, null, "1"));
+
+        var result = new LinkedHashMap<String, Object>();
+        result.put("address", PROVEN.value());
+        result.put("balance", "0x" + reportedBalance.toString(16));
+        result.put("nonce", "0x1");
+        result.put("codeHash", AccountProof.EMPTY_CODE_HASH.value());
+        result.put("storageHash", storage.rootHash().value());
+        result.put("accountProof", hexNodes(state.prove(Keccak256.hash(PROVEN.toBytes()))));
+        if (slotValue == null) {
+            result.put("storageProof", List.of());
+        } else {
+            var slot = new LinkedHashMap<String, Object>();
+            slot.put("key", "0x0");
+            slot.put("value", slotValue);
+            slot.put("proof", hexNodes(storage.prove(Keccak256.hash(new byte[32]))));
+            result.put("storageProof", List.of(slot));
+        }
+        when(provider.send(eq("eth_getProof"), any())).thenReturn(new JsonRpcResponse("2.0", result, null, "2"));
+        return result;
+    }
+
+    private static List<String> hexNodes(List<byte[]> nodes) {
+        return nodes.stream().map(node -> HexData.fromBytes(node).value()).toList();
+    }
+
     // ==================== Helper Methods ====================
 
+    private Map<String, Object> createFullBlockMap(String... txHashes) {
+        var map = new LinkedHashMap<String, Object>();
+        map.put("hash", BLOCK_HASH);
+        map.put("parentHash", "0x" + "aa".repeat(32));
+        map.put("number", "0x100");
+        map.put("timestamp", "0x64a7b8c0");
+        map.put("baseFeePerGas", "0x3b9aca00");
+        var transactions = new java.util.ArrayList<Map<String, Object>>();
+        for (int i = 0; i < txHashes.length; i++) {
+            var tx = new LinkedHashMap<String, Object>();
+            tx.put("hash", txHashes[i]);
+            tx.put("from", "0x" + "11".repeat(20));
+            tx.put("to", "0x" + "22".repeat(20));
+            tx.put("input", "0x");
+            tx.put("value", "0x0");
+            tx.put("nonce", "0x" + Integer.toHexString(i));
+            tx.put("blockNumber", "0x100");
+            transactions.add(tx);
+        }
+        map.put("transactions", transactions);
+        return map;
+    }
+
+    private Map<String, Object> createReceiptMap(String txHash, String blockHash) {
+        var map = new LinkedHashMap<String, Object>();
+        map.put("transactionHash", txHash);
+        map.put("blockHash", blockHash);
+        map.put("blockNumber", "0x100");
+        map.put("from", "0x" + "11".repeat(20));
+        map.put("to", "0x" + "22".repeat(20));
+        map.put("status", "0x1");
+        map.put("cumulativeGasUsed", "0x5208");
+        map.put("logs", List.of());
+        return map;
+    }
+
     private Map<String, Object> createLogMap(
             String address,
             String data,
@@ -4,14 +4,19 @@ package sh.brane.rpc;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,11 +34,14 @@ import sh.brane.core.error.RpcException;
 import sh.brane.core.model.BlockHeader;
 import sh.brane.core.model.TransactionReceipt;
 import sh.brane.core.model.TransactionRequest;
+import sh.brane.core.tx.Eip1559Transaction;
+import sh.brane.core.tx.TransactionDecoder;
 import sh.brane.core.tx.UnsignedTransaction;
 import sh.brane.core.types.Address;
 import sh.brane.core.types.Hash;
 import sh.brane.core.types.HexData;
 import sh.brane.core.types.Wei;
+import sh.brane.primitives.Hex;
 
 /**
  * Unit tests for {@link DefaultSigner} with mock BraneProvider.
@@ -716,6 +724,202 @@ class DefaultSignerTest {
         assertThrows(InvalidSenderException.class, () -> signer.sendBlobTransaction(request));
     }
 
+    // ==================== sendTransactions() Tests ====================
+
+    @Test
+    void sendTransactionsAssignsConsecutiveNoncesAndBatchesRpcCalls() {
+        // Given
+        stubChainId("0x1");
+        stubLatestBlock(10_000_000_000L);
+        stubNonce("0x5");
+        List<Long> broadcastNonces = new ArrayList<>();
+        stubBatch(request -> switch (request.method()) {
+            case "eth_estimateGas" -> response("0x5208");
+            case "eth_sendRawTransaction" -> {
+                long nonce = nonceOf(request);
+                broadcastNonces.add(nonce);
+                yield response("0x" + Long.toHexString(nonce).repeat(64).substring(0, 64));
+            }
+            default -> throw new AssertionError(request.method());
+        });
+
+        List<TransactionRequest> requests = List.of(transfer(1), transfer(2), transfer(3));
+
+        // When
+        List<TransactionSubmission> results = signer.sendTransactions(requests);
+
+        // Then
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(TransactionSubmission::isSuccess));
+        assertEquals("0x" + "6".repeat(64), results.get(1).hashOrThrow().value());
+        assertEquals(List.of(5L, 6L, 7L), broadcastNonces);
+        verify(provider, times(1)).send(eq("eth_getBlockByNumber"), any());
+        verify(provider, times(1)).send(eq("eth_getTransactionCount"), any());
+        verify(provider, times(2)).sendBatch(any());
+        verify(provider, never()).send(eq("eth_sendRawTransaction"), any());
+    }
+
+    @Test
+    void sendTransactionsReportsFailuresPerTransaction() {
+        // Given: the second estimate fails and the node rejects the last broadcast
+        stubChainId("0x1");
+        stubLatestBlock(10_000_000_000L);
+        stubNonce("0x0");
+        List<Long> broadcastNonces = new ArrayList<>();
+        stubBatch(request -> switch (request.method()) {
+            case "eth_estimateGas" -> "0x2".equals(((Map<?, ?>) request.params().get(0)).get("value"))
+                    ? new JsonRpcResponse("2.0", null, new JsonRpcError(3, "execution reverted", null), "1")
+                    : response("0x5208");
+            case "eth_sendRawTransaction" -> {
+                long nonce = nonceOf(request);
+                broadcastNonces.add(nonce);
+                yield nonce == 2
+                        ? new JsonRpcResponse("2.0", null, new JsonRpcError(-32000, "invalid sender", null), "1")
+                        : response(TX_HASH.value());
+            }
+            default -> throw new AssertionError(request.method());
+        });
+
+        List<TransactionRequest> requests = List.of(transfer(1), transfer(2), transfer(3), transfer(4));
+
+        // When
+        List<TransactionSubmission> results = signer.sendTransactions(requests);
+
+        // Then: the failed estimate does not consume a nonce
+        assertEquals(List.of(0L, 1L, 2L), broadcastNonces);
+        assertEquals(TX_HASH, results.get(0).hash());
+        RpcException estimateFailure = assertInstanceOf(RpcException.class, results.get(1).error());
+        assertTrue(estimateFailure.getMessage().contains("execution reverted"));
+        assertEquals(TX_HASH, results.get(2).hash());
+        assertInstanceOf(InvalidSenderException.class, results.get(3).error());
+        assertThrows(InvalidSenderException.class, () -> results.get(3).hashOrThrow());
+    }
+
+    @Test
+    void sendTransactionsGivesBackTheNonceOfATransactionThatFailsToSign() {
+        // Given: the signer rejects the middle transaction
+        stubChainId("0x1");
+        stubLatestBlock(10_000_000_000L);
+        stubNonce("0x0");
+        List<Long> broadcastNonces = new ArrayList<>();
+        stubBatch(request -> switch (request.method()) {
+            case "eth_estimateGas" -> response("0x5208");
+            case "eth_sendRawTransaction" -> {
+                broadcastNonces.add(nonceOf(request));
+                yield response(TX_HASH.value());
+            }
+            default -> throw new AssertionError(request.method());
+        });
+        fakeSigner.failing = tx -> tx instanceof Eip1559Transaction eip1559
+                && eip1559.value().equals(Wei.of(2));
+
+        List<TransactionRequest> requests = List.of(transfer(1), transfer(2), transfer(3));
+
+        // When
+        List<TransactionSubmission> results = signer.sendTransactions(requests);
+
+        // Then: the last transaction takes the rejected one's nonce, leaving no gap
+        assertEquals(List.of(0L, 1L), broadcastNonces);
+        assertEquals(TX_HASH, results.get(0).hash());
+        assertInstanceOf(IllegalStateException.class, results.get(1).error());
+        assertEquals(TX_HASH, results.get(2).hash());
+        assertEquals(1L, fakeSigner.lastNonce());
+    }
+
+    @Test
+    void sendTransactionsKeepsProvidedFieldsAndReportsBatchFailure() {
+        // Given: every gas field is provided, so only the broadcast batch is sent
+        stubChainId("0x1");
+        when(provider.sendBatch(any())).thenThrow(new RpcException(-32000, "connection reset", null, (Throwable) null));
+
+        TransactionRequest request = TxBuilder.eip1559()
+                .to(RECIPIENT)
+                .value(Wei.ZERO)
+                .gasLimit(50_000L)
+                .maxPriorityFeePerGas(Wei.of(1_000_000_000L))
+                .maxFeePerGas(Wei.of(30_000_000_000L))
+                .nonce(9L)
+                .build();
+
+        // When
+        List<TransactionSubmission> results = signer.sendTransactions(List.of(request, request));
+
+        // Then: both transactions carry the batch failure
+        assertEquals(2, results.size());
+        assertFalse(results.get(0).isSuccess());
+        assertNotNull(results.get(0).error());
+        assertSame(results.get(0).error(), results.get(1).error());
+        verify(provider, never()).send(eq("eth_getBlockByNumber"), any());
+        verify(provider, never()).send(eq("eth_getTransactionCount"), any());
+        verify(provider, times(1)).sendBatch(any());
+    }
+
+    @Test
+    void sendTransactionsDoesNotRetryBroadcastBatch() {
+        // Given: retries are enabled and the broadcast fails with a retryable error
+        signer = new DefaultSigner(provider, fakeSigner, ChainProfile.of(1L, null, true, Wei.of(1_000_000_000L)),
+                3, RpcRetryConfig.defaults());
+        stubChainId("0x1");
+        when(provider.sendBatch(any())).thenThrow(new RpcException(-32603, "internal error", null, (Throwable) null));
+
+        TransactionRequest request = TxBuilder.eip1559()
+                .to(RECIPIENT)
+                .value(Wei.ZERO)
+                .gasLimit(50_000L)
+                .maxPriorityFeePerGas(Wei.of(1_000_000_000L))
+                .maxFeePerGas(Wei.of(30_000_000_000L))
+                .nonce(9L)
+                .build();
+
+        // When
+        List<TransactionSubmission> results = signer.sendTransactions(List.of(request));
+
+        // Then: the batch may have reached the node, so it is sent once
+        assertFalse(results.get(0).isSuccess());
+        verify(provider, times(1)).sendBatch(any());
+    }
+
+    @Test
+    void sendTransactionsReportsBatchRevertPerTransaction() {
+        // Given: the whole broadcast fails with revert data
+        stubChainId("0x1");
+        when(provider.sendBatch(any())).thenThrow(new RpcException(3, "execution reverted",
+                "0x08c379a00000000000000000000000000000000000000000000000000000000000000020"
+                        + "000000000000000000000000000000000000000000000000000000000000000e"
+                        + "5472616e73666572206661696c6564000000000000000000000000000000000000",
+                (Throwable) null));
+
+        TransactionRequest request = TxBuilder.eip1559()
+                .to(RECIPIENT)
+                .value(Wei.ZERO)
+                .gasLimit(50_000L)
+                .maxPriorityFeePerGas(Wei.of(1_000_000_000L))
+                .maxFeePerGas(Wei.of(30_000_000_000L))
+                .nonce(9L)
+                .build();
+
+        // When: the revert is returned, not thrown
+        List<TransactionSubmission> results = signer.sendTransactions(List.of(request, request));
+
+        // Then
+        assertEquals(2, results.size());
+        assertInstanceOf(RevertException.class, results.get(0).error());
+        assertSame(results.get(0).error(), results.get(1).error());
+    }
+
+    @Test
+    void sendTransactionsWithEmptyListMakesNoCalls() {
+        assertEquals(List.of(), signer.sendTransactions(List.of()));
+        verifyNoInteractions(provider);
+    }
+
+    @Test
+    void transactionSubmissionRequiresExactlyOneOutcome() {
+        assertThrows(IllegalArgumentException.class, () -> new TransactionSubmission(null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new TransactionSubmission(TX_HASH, new RpcException(-32000, "x", null, (Throwable) null)));
+    }
+
     // ==================== signer() Tests ====================
 
     @Test
@@ -778,6 +982,26 @@ class DefaultSignerTest {
 
     // ==================== Helper Methods ====================
 
+    private void stubBatch(Function<JsonRpcRequest, JsonRpcResponse> handler) {
+        when(provider.sendBatch(any())).thenAnswer(invocation -> {
+            List<JsonRpcRequest> requests = invocation.getArgument(0);
+            return requests.stream().map(handler).toList();
+        });
+    }
+
+    private static JsonRpcResponse response(Object result) {
+        return new JsonRpcResponse("2.0", result, null, "1");
+    }
+
+    private static TransactionRequest transfer(long wei) {
+        return TxBuilder.eip1559().to(RECIPIENT).value(Wei.of(wei)).build();
+    }
+
+    private static long nonceOf(JsonRpcRequest request) {
+        byte[] raw = Hex.decode((String) request.params().get(0));
+        return ((Eip1559Transaction) TransactionDecoder.decode(raw).transaction()).nonce();
+    }
+
     private void stubChainId(String hexValue) {
         JsonRpcResponse response = new JsonRpcResponse("2.0", hexValue, null, "1");
         when(provider.send(eq("eth_chainId"), any())).thenReturn(response);
@@ -948,6 +1172,7 @@ class DefaultSignerTest {
     private static final class FakeSigner implements Signer {
         private final Address address;
         private UnsignedTransaction lastTx;
+        private Predicate<UnsignedTransaction> failing = tx -> false;
 
         FakeSigner(Address address) {
             this.address = address;
@@ -965,6 +1190,9 @@ class DefaultSignerTest {
 
         @Override
         public Signature signTransaction(UnsignedTransaction tx, long chainId) {
+            if (failing.test(tx)) {
+                throw new IllegalStateException("signing rejected");
+            }
             this.lastTx = tx;
             return new Signature(new byte[32], new byte[32], 0);
         }
@@ -972,6 +1200,7 @@ class DefaultSignerTest {
         long lastNonce() {
             return switch (lastTx) {
                 case sh.brane.core.tx.LegacyTransaction tx -> tx.nonce();
+                case sh.brane.core.tx.Eip2930Transaction tx -> tx.nonce();
                 case sh.brane.core.tx.Eip1559Transaction tx -> tx.nonce();
                 case sh.brane.core.tx.Eip4844Transaction tx -> tx.nonce();
             };
@@ -980,6 +1209,7 @@ class DefaultSignerTest {
         long lastGasLimit() {
             return switch (lastTx) {
                 case sh.brane.core.tx.LegacyTransaction tx -> tx.gasLimit();
+                case sh.brane.core.tx.Eip2930Transaction tx -> tx.gasLimit();
                 case sh.brane.core.tx.Eip1559Transaction tx -> tx.gasLimit();
                 case sh.brane.core.tx.Eip4844Transaction tx -> tx.gasLimit();
             };
@@ -1018,6 +1248,7 @@ class DefaultSignerTest {
         String lastTransactionType() {
             return switch (lastTx) {
                 case sh.brane.core.tx.LegacyTransaction tx -> "LEGACY";
+                case sh.brane.core.tx.Eip2930Transaction tx -> "EIP2930";
                 case sh.brane.core.tx.Eip1559Transaction tx -> "EIP1559";
                 case sh.brane.core.tx.Eip4844Transaction tx -> "EIP4844";
             };
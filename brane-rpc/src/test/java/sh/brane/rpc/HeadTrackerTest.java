@@ -0,0 +1,419 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.BlockHeader;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.Wei;
+
+class HeadTrackerTest {
+
+    @Test
+    void appendsConsecutiveHeads() {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        final List<HeadTracker.HeadEvent> events = new ArrayList<>();
+        final HeadTracker tracker = tracker(chain, 16, events);
+
+        tracker.process(chain.head());
+        chain.extend('a', 1);
+        tracker.process(chain.head());
+
+        assertEquals(List.of(new HeadTracker.NewHead(chain.at(10)), new HeadTracker.NewHead(chain.at(11))), events);
+        assertEquals(chain.at(11), tracker.latest());
+        assertEquals(chain.at(10), tracker.header(10));
+        assertEquals(0, chain.fetches);
+    }
+
+    @Test
+    void ignoresDuplicateAndLaggingHeads() {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        final List<HeadTracker.HeadEvent> events = new ArrayList<>();
+        final HeadTracker tracker = tracker(chain, 16, events);
+        tracker.process(chain.at(9));
+        tracker.process(chain.at(10));
+
+        tracker.process(chain.at(10));
+        tracker.process(chain.at(9));
+
+        assertEquals(2, events.size());
+        assertEquals(chain.at(10), tracker.latest());
+    }
+
+    @Test
+    void ignoresHeadsBelowWindow() {
+        final FakeChain chain = new FakeChain().extend('a', 20);
+        final List<HeadTracker.HeadEvent> events = new ArrayList<>();
+        final HeadTracker tracker = tracker(chain, 4, events);
+        tracker.process(chain.head());
+        events.clear();
+
+        // A node far behind the rest of a load-balanced pool reports an old head
+        tracker.process(chain.at(10));
+        tracker.process(chain.at(16));
+
+        assertEquals(List.of(), events);
+        assertEquals(chain.at(20), tracker.latest());
+        assertEquals(chain.at(20), tracker.header(20));
+        assertEquals(0, chain.fetches);
+    }
+
+    @Test
+    void fillsGapsInOrder() {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        final List<HeadTracker.HeadEvent> events = new ArrayList<>();
+        final HeadTracker tracker = tracker(chain, 16, events);
+        tracker.process(chain.head());
+        events.clear();
+
+        chain.extend('a', 3);
+        tracker.process(chain.head());
+
+        assertEquals(
+                List.of(
+                        new HeadTracker.NewHead(chain.at(11)),
+                        new HeadTracker.NewHead(chain.at(12)),
+                        new HeadTracker.NewHead(chain.at(13))),
+                events);
+        assertEquals(2, chain.fetches);
+    }
+
+    @Test
+    void reportsReorgWithDepthAndBranches() {
+        final FakeChain chain = new FakeChain().extend('a', 12);
+        final List<HeadTracker.HeadEvent> events = new ArrayList<>();
+        final HeadTracker tracker = tracker(chain, 16, events);
+        for (long n = 8; n <= 12; n++) {
+            tracker.process(chain.at(n));
+        }
+        final List<BlockHeader> replaced = List.of(chain.at(11), chain.at(12));
+        events.clear();
+
+        // Fork after block 10 with a longer branch
+        chain.rewind(10).extend('b', 3);
+        tracker.process(chain.head());
+
+        final HeadTracker.Reorg reorg = assertInstanceOf(HeadTracker.Reorg.class, events.get(0));
+        assertEquals(2, reorg.depth());
+        assertEquals(chain.at(10), reorg.commonAncestor());
+        assertEquals(replaced, reorg.removed());
+        assertEquals(List.of(chain.at(11), chain.at(12), chain.at(13)), reorg.added());
+        assertEquals(
+                List.of(
+                        new HeadTracker.NewHead(chain.at(11)),
+                        new HeadTracker.NewHead(chain.at(12)),
+                        new HeadTracker.NewHead(chain.at(13))),
+                events.subList(1, events.size()));
+        assertEquals(chain.at(13), tracker.latest());
+        assertEquals(chain.at(12), tracker.header(12));
+    }
+
+    @Test
+    void reportsReorgToShorterBranch() {
+        final FakeChain chain = new FakeChain().extend('a', 12);
+        final List<HeadTracker.HeadEvent> events = new ArrayList<>();
+        final HeadTracker tracker = tracker(chain, 16, events);
+        for (long n = 9; n <= 12; n++) {
+            tracker.process(chain.at(n));
+        }
+        events.clear();
+
+        chain.rewind(10).extend('b', 1);
+        tracker.process(chain.head());
+
+        final HeadTracker.Reorg reorg = assertInstanceOf(HeadTracker.Reorg.class, events.get(0));
+        assertEquals(2, reorg.depth());
+        assertEquals(List.of(chain.at(11)), reorg.added());
+        assertEquals(chain.at(11), tracker.latest());
+        assertNull(tracker.header(12));
+    }
+
+    @Test
+    void deepReorgResetsWindow() {
+        final FakeChain chain = new FakeChain().extend('a', 20);
+        final List<HeadTracker.HeadEvent> events = new ArrayList<>();
+        final HeadTracker tracker = tracker(chain, 4, events);
+        for (long n = 17; n <= 20; n++) {
+            tracker.process(chain.at(n));
+        }
+        events.clear();
+
+        chain.rewind(10).extend('b', 11);
+        tracker.process(chain.head());
+
+        final HeadTracker.Reorg reorg = assertInstanceOf(HeadTracker.Reorg.class, events.get(0));
+        assertNull(reorg.commonAncestor());
+        assertEquals(4, reorg.depth());
+        assertEquals(chain.at(21), tracker.latest());
+        assertEquals(chain.at(18), tracker.header(18));
+        assertNull(tracker.header(16));
+    }
+
+    @Test
+    void jumpBeyondWindowResetsWithoutReorg() {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        final List<HeadTracker.HeadEvent> events = new ArrayList<>();
+        final HeadTracker tracker = tracker(chain, 4, events);
+        tracker.process(chain.head());
+        events.clear();
+
+        chain.extend('a', 10);
+        tracker.process(chain.head());
+
+        assertEquals(List.of(new HeadTracker.NewHead(chain.at(20))), events);
+        assertNull(tracker.header(10));
+        assertEquals(0, chain.fetches);
+    }
+
+    @Test
+    void abandonsHeadWhenChainChangesWhileLinking() {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        final List<HeadTracker.HeadEvent> events = new ArrayList<>();
+        final HeadTracker tracker = tracker(chain, 16, events);
+        tracker.process(chain.head());
+        events.clear();
+
+        chain.extend('a', 2);
+        final BlockHeader orphan = chain.head();
+        chain.rewind(10).extend('b', 2);
+        tracker.process(orphan);
+
+        assertTrue(events.isEmpty());
+        assertEquals(chain.at(10), tracker.latest());
+    }
+
+    @Test
+    void refreshesCheckpointsPeriodically() {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        final HeadTracker tracker = new HeadTracker(
+                chain, 16, Duration.ofSeconds(1), Duration.ofSeconds(3), 2, false);
+
+        tracker.process(chain.head());
+        assertEquals(chain.at(chain.safeNumber()), tracker.safe());
+        assertEquals(chain.at(chain.finalizedNumber()), tracker.finalized());
+
+        chain.extend('a', 1);
+        tracker.process(chain.head());
+        assertEquals(chain.at(2), tracker.finalized());
+        chain.extend('a', 1);
+        tracker.process(chain.head());
+        assertEquals(chain.at(4), tracker.finalized());
+    }
+
+    @Test
+    void keepsTrackingWhenCheckpointsUnsupported() {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        chain.checkpointsSupported = false;
+        final HeadTracker tracker = new HeadTracker(
+                chain, 16, Duration.ofSeconds(1), Duration.ofSeconds(3), 1, false);
+
+        tracker.process(chain.head());
+
+        assertEquals(chain.at(10), tracker.latest());
+        assertNull(tracker.safe());
+        assertNull(tracker.finalized());
+    }
+
+    @Test
+    void listenerExceptionsDoNotStopDelivery() {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        final List<HeadTracker.HeadEvent> events = new ArrayList<>();
+        final HeadTracker tracker = tracker(chain, 16, events);
+        tracker.addListener(event -> {
+            throw new IllegalStateException("boom");
+        });
+
+        tracker.process(chain.head());
+
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    void pollsLatestAndServesReaderFromMemory() throws Exception {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        final BraneProvider provider = mock(BraneProvider.class);
+        final DefaultReader reader = new DefaultReader(provider, null, 0, RpcRetryConfig.defaults());
+        final HeadTracker tracker = new HeadTracker(
+                chain, 16, Duration.ofMillis(10), Duration.ofSeconds(30), 1, false);
+
+        tracker.start(() -> reader.detachHeadTracker(tracker));
+        reader.attachHeadTracker(tracker);
+        try {
+            assertTrue(tracker.isLive());
+            assertEquals(chain.at(10), reader.getLatestBlock());
+            assertEquals(chain.at(chain.finalizedNumber()), reader.getBlock(BlockTag.FINALIZED));
+
+            chain.extend('a', 1);
+            final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (!chain.at(11).equals(tracker.latest()) && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(chain.at(11), reader.getLatestBlock());
+            verifyNoInteractions(provider);
+        } finally {
+            tracker.close();
+        }
+        assertFalse(tracker.isLive());
+        assertNull(tracker.cached(BlockTag.LATEST));
+    }
+
+    @Test
+    void staleTrackerIsNotServed() throws Exception {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        final HeadTracker tracker = new HeadTracker(
+                chain, 16, Duration.ofSeconds(10), Duration.ofMillis(20), 1, false);
+        tracker.start(null);
+        try {
+            assertNotNull(tracker.cached(BlockTag.LATEST));
+            Thread.sleep(50);
+            assertFalse(tracker.isLive());
+            assertNull(tracker.cached(BlockTag.LATEST));
+            assertEquals(chain.at(10), tracker.latest());
+        } finally {
+            tracker.close();
+        }
+    }
+
+    @Test
+    void subscriptionHeadsAreProcessed() throws Exception {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        final List<HeadTracker.HeadEvent> events = new java.util.concurrent.CopyOnWriteArrayList<>();
+        final HeadTracker tracker = new HeadTracker(
+                chain, 16, Duration.ofSeconds(30), Duration.ofSeconds(90), 8, true);
+        tracker.addListener(events::add);
+        tracker.start(null);
+        try {
+            chain.extend('a', 1);
+            chain.subscriber.accept(chain.head());
+            final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (events.size() < 2 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(new HeadTracker.NewHead(chain.at(11)), events.get(1));
+        } finally {
+            tracker.close();
+        }
+        assertTrue(chain.unsubscribed);
+    }
+
+    @Test
+    void builderRejectsInvalidSettings() {
+        final Brane client = new DefaultReader(mock(BraneProvider.class), null, 0, RpcRetryConfig.defaults());
+        final HeadTracker.Builder builder = HeadTracker.builder(client);
+        assertThrows(IllegalArgumentException.class, () -> builder.capacity(1));
+        assertThrows(IllegalArgumentException.class, () -> builder.pollInterval(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> builder.staleAfter(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> builder.checkpointInterval(0));
+        assertThrows(NullPointerException.class, () -> HeadTracker.builder(null));
+    }
+
+    private static HeadTracker tracker(
+            final FakeChain chain, final int capacity, final List<HeadTracker.HeadEvent> events) {
+        final HeadTracker tracker = new HeadTracker(
+                chain, capacity, Duration.ofSeconds(1), Duration.ofSeconds(3), 1_000, false);
+        tracker.addListener(events::add);
+        return tracker;
+    }
+
+    /**
+     * In-memory chain whose canonical branch can be rewound and extended.
+     */
+    private static final class FakeChain implements HeadTracker.HeadSource {
+        private final List<BlockHeader> canonical = new ArrayList<>();
+        private final Map<Character, Integer> branchCounters = new HashMap<>();
+        int fetches;
+        boolean checkpointsSupported = true;
+        @Nullable Consumer<BlockHeader> subscriber;
+        volatile boolean unsubscribed;
+
+        FakeChain() {
+            canonical.add(header(0, 'g', new Hash("0x" + "0".repeat(64))));
+        }
+
+        synchronized FakeChain extend(final char branch, final int count) {
+            for (int i = 0; i < count; i++) {
+                final BlockHeader parent = canonical.get(canonical.size() - 1);
+                canonical.add(header(parent.number() + 1, branch, parent.hash()));
+            }
+            return this;
+        }
+
+        synchronized FakeChain rewind(final long number) {
+            while (canonical.size() > number + 1) {
+                canonical.remove(canonical.size() - 1);
+            }
+            return this;
+        }
+
+        synchronized BlockHeader head() {
+            return canonical.get(canonical.size() - 1);
+        }
+
+        synchronized BlockHeader at(final long number) {
+            return canonical.get((int) number);
+        }
+
+        synchronized long safeNumber() {
+            return Math.max(0, head().number() - 4);
+        }
+
+        synchronized long finalizedNumber() {
+            return Math.max(0, head().number() - 8);
+        }
+
+        @Override
+        public synchronized @Nullable BlockHeader fetch(final BlockTag tag) {
+            if (tag instanceof BlockTag.Number number) {
+                fetches++;
+                return number.blockNumber() < canonical.size() ? at(number.blockNumber()) : null;
+            }
+            if (BlockTag.LATEST.equals(tag)) {
+                return head();
+            }
+            if (!checkpointsSupported) {
+                throw new RpcException(-32602, "invalid block tag", null);
+            }
+            return at(BlockTag.SAFE.equals(tag) ? safeNumber() : finalizedNumber());
+        }
+
+        @Override
+        public Subscription subscribe(final Consumer<BlockHeader> callback) {
+            subscriber = callback;
+            return new Subscription() {
+                @Override
+                public String id() {
+                    return "0x1";
+                }
+
+                @Override
+                public void unsubscribe() {
+                    unsubscribed = true;
+                }
+            };
+        }
+
+        private BlockHeader header(final long number, final char branch, final Hash parent) {
+            final int seq = branchCounters.merge(branch, 1, Integer::sum);
+            final String hex = String.format("%02x%016x%08x", (int) branch, number, seq);
+            return new BlockHeader(
+                    new Hash("0x" + "0".repeat(64 - hex.length()) + hex),
+                    number,
+                    parent,
+                    1_700_000_000L + number * 12,
+                    Wei.of(1_000_000_000L));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.math.BigInteger;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
@@ -20,6 +21,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import sh.brane.core.error.RpcException;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
 
 class HttpBraneProviderTest {
 
@@ -101,6 +104,36 @@ class HttpBraneProviderTest {
         assertTrue(capturedBodies.get(1).contains("\"id\":\"2\""));
     }
 
+    @Test
+    void serializesCallParamsAndRawBytesDirectly() {
+        final List<JsonNode> capturedParams = new ArrayList<>();
+        server.createContext(
+                "/",
+                exchange -> {
+                    final JsonNode bodyJson = MAPPER.readTree(exchange.getRequestBody());
+                    capturedParams.add(bodyJson.get("params"));
+                    respond(
+                            exchange,
+                            200,
+                            """
+                            {"jsonrpc":"2.0","result":"0x","id":"%s"}
+                            """.formatted(bodyJson.get("id").asText()));
+                });
+
+        final CallRequest request = CallRequest.builder()
+                .to(new Address("0x" + "ab".repeat(20)))
+                .data(HexData.wrap(new byte[] {(byte) 0xa9, 0x05, (byte) 0x9c, (byte) 0xbb}))
+                .gas(BigInteger.valueOf(21_000))
+                .build();
+        BraneProvider provider = HttpBraneProvider.builder(baseUri.toString()).build();
+        provider.send("eth_call", List.of(new CallParams(request), "latest"));
+        provider.send("eth_sendRawTransaction", List.of(HexData.wrap(new byte[] {0x02, (byte) 0xf8})));
+
+        assertEquals(MAPPER.valueToTree(List.of(request.toMap(), "latest")), capturedParams.get(0));
+        assertEquals("0xa9059cbb", capturedParams.get(0).get(0).get("data").asText());
+        assertEquals("[\"0x02f8\"]", capturedParams.get(1).toString());
+    }
+
     @Test
     void jsonRpcErrorThrows() {
         server.createContext(
@@ -194,6 +227,93 @@ class HttpBraneProviderTest {
         assertEquals("method", ex.getMessage());
     }
 
+    @Test
+    void recordsMetricsForSuccessfulRequest() {
+        final String body = """
+                {"jsonrpc":"2.0","result":"0x1","id":"1","note":"é€"}
+                """;
+        server.createContext("/", exchange -> respond(exchange, 200, body));
+
+        final MetricsRecorder recorder = new MetricsRecorder();
+        HttpBraneProvider provider = HttpBraneProvider.builder(baseUri.toString()).build();
+        provider.setMetrics(recorder);
+        provider.send("eth_blockNumber", List.of());
+
+        MetricsRecorder.MethodSnapshot stats = recorder.snapshot().methods().get("eth_blockNumber");
+        assertEquals(1, stats.started());
+        assertEquals(1, stats.completed());
+        assertEquals(0, stats.inFlight());
+        assertTrue(stats.bytesSent() > 0);
+        // Bytes on the wire, not UTF-16 chars: the two non-ASCII chars take five bytes
+        assertEquals(body.getBytes(StandardCharsets.UTF_8).length, stats.bytesReceived());
+        assertEquals(1, stats.latency().count());
+        assertTrue(stats.latency().maxNanos() > 0);
+    }
+
+    @Test
+    void recordsMetricsForHttpError() {
+        server.createContext("/", exchange -> respond(exchange, 500, "oops"));
+
+        final MetricsRecorder recorder = new MetricsRecorder();
+        HttpBraneProvider provider = HttpBraneProvider.builder(baseUri.toString()).build();
+        provider.setMetrics(recorder);
+        assertThrows(RpcException.class, () -> provider.send("eth_blockNumber", List.of()));
+
+        MetricsRecorder.MethodSnapshot stats = recorder.snapshot().methods().get("eth_blockNumber");
+        assertEquals(1, stats.started());
+        assertEquals(0, stats.completed());
+        assertEquals(1, stats.failed());
+        assertEquals(0, stats.inFlight());
+        assertSame(recorder, provider.metrics());
+    }
+
+    @Test
+    void sendBatchReordersResponsesById() {
+        final List<String> capturedBodies = new ArrayList<>();
+        server.createContext("/", exchange -> {
+            capturedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, 200, """
+                    [{"jsonrpc":"2.0","id":"2","result":"0xb"},
+                     {"jsonrpc":"2.0","id":"1","error":{"code":-32000,"message":"nope"}}]
+                    """);
+        });
+
+        BraneProvider provider = HttpBraneProvider.builder(baseUri.toString()).build();
+        List<JsonRpcResponse> responses = provider.sendBatch(List.of(
+                new JsonRpcRequest("2.0", "eth_getBalance", List.of("0x1", "latest"), null),
+                new JsonRpcRequest("2.0", "eth_blockNumber", null, null)));
+
+        assertEquals(1, capturedBodies.size());
+        assertTrue(capturedBodies.get(0).startsWith("["));
+        assertTrue(responses.get(0).hasError());
+        assertEquals("0xb", responses.get(1).result());
+    }
+
+    @Test
+    void sendBatchRejectedByEndpointThrows() {
+        server.createContext("/", exchange -> respond(exchange, 200, """
+                {"jsonrpc":"2.0","id":null,"error":{"code":-32600,"message":"batch requests are not supported"}}
+                """));
+
+        BraneProvider provider = HttpBraneProvider.builder(baseUri.toString()).build();
+        RpcException ex = assertThrows(RpcException.class, () -> provider.sendBatch(List.of(
+                new JsonRpcRequest("2.0", "eth_blockNumber", List.of(), null))));
+        assertEquals(-32600, ex.code());
+    }
+
+    @Test
+    void sendBatchMissingResponseThrows() {
+        server.createContext("/", exchange -> respond(exchange, 200, """
+                [{"jsonrpc":"2.0","id":"1","result":"0x1"}]
+                """));
+
+        BraneProvider provider = HttpBraneProvider.builder(baseUri.toString()).build();
+        assertThrows(RpcException.class, () -> provider.sendBatch(List.of(
+                new JsonRpcRequest("2.0", "eth_blockNumber", List.of(), null),
+                new JsonRpcRequest("2.0", "eth_chainId", List.of(), null))));
+        assertEquals(List.of(), provider.sendBatch(List.of()));
+    }
+
     private void respond(final HttpExchange exchange, final int statusCode, final String body)
             throws IOException {
         exchange.getResponseHeaders().add("Content-Type", "application/json");
@@ -0,0 +1,302 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.model.BlockHeader;
+import sh.brane.core.model.LogEntry;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+
+class LogStoreTest {
+
+    private static final Address TOKEN = new Address("0x" + "aa".repeat(20));
+    private static final Address OTHER = new Address("0x" + "bb".repeat(20));
+    private static final Address UNTRACKED = new Address("0x" + "cc".repeat(20));
+    private static final Hash TRANSFER = new Hash("0x" + "01".repeat(32));
+    private static final Hash APPROVAL = new Hash("0x" + "02".repeat(32));
+    private static final Hash ALICE = new Hash("0x" + "0a".repeat(32));
+    private static final Hash BOB = new Hash("0x" + "0b".repeat(32));
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void servesSyncedRangeWithoutRefetching() throws IOException {
+        final FakeChain chain = new FakeChain().extend('a', 100);
+        chain.emit(10, TOKEN, TRANSFER, ALICE).emit(10, OTHER, APPROVAL).emit(50, TOKEN, TRANSFER, BOB);
+
+        try (LogStore store = open(chain, 25, 40)) {
+            final List<LogEntry> first = store.getLogs(filter(0, 60, List.of(TOKEN, OTHER)));
+            final int fetches = chain.logFetches;
+            final List<LogEntry> second = store.getLogs(filter(0, 60, List.of(TOKEN, OTHER)));
+
+            assertEquals(chain.logs(0, 60), first);
+            assertEquals(first, second);
+            assertEquals(fetches, chain.logFetches);
+            assertEquals(60, store.syncedBlock());
+        }
+    }
+
+    @Test
+    void filtersByAddressAndPositionalTopics() throws IOException {
+        final FakeChain chain = new FakeChain().extend('a', 30);
+        chain.emit(3, TOKEN, TRANSFER, ALICE).emit(4, TOKEN, TRANSFER, BOB).emit(5, OTHER, TRANSFER, ALICE)
+                .emit(6, TOKEN, APPROVAL, ALICE).emit(7, TOKEN);
+
+        try (LogStore store = open(chain, 100, 10)) {
+            store.sync(30);
+
+            assertEquals(List.of(3L, 4L, 6L, 7L), blocks(store.getLogs(filter(0, 30, List.of(TOKEN)))));
+            assertEquals(List.of(3L, 4L, 5L), blocks(store.getLogs(
+                    new LogFilter(Optional.of(0L), Optional.of(30L), Optional.of(List.of(TOKEN, OTHER)),
+                            Optional.of(List.of(TRANSFER))))));
+            assertEquals(List.of(3L), blocks(store.getLogs(
+                    new LogFilter(Optional.of(0L), Optional.of(30L), Optional.of(List.of(TOKEN)),
+                            Optional.of(List.of(TRANSFER, ALICE))))));
+            assertEquals(List.of(4L, 6L), blocks(store.getLogs(filter(4, 6, List.of(TOKEN)))));
+            assertEquals(List.of(3L, 4L, 5L, 6L, 7L), blocks(store.getLogs(
+                    new LogFilter(Optional.of(0L), Optional.of(30L), Optional.empty(), Optional.empty()))));
+        }
+    }
+
+    @Test
+    void fetchesOnlyTheMissingTail() throws IOException {
+        final FakeChain chain = new FakeChain().extend('a', 100);
+        chain.emit(20, TOKEN, TRANSFER).emit(80, TOKEN, TRANSFER);
+
+        try (LogStore store = open(chain, 1000, 1000)) {
+            store.getLogs(filter(0, 50, List.of(TOKEN)));
+            chain.ranges.clear();
+
+            final List<LogEntry> logs = store.getLogs(filter(0, 100, List.of(TOKEN)));
+
+            assertEquals(List.of(20L, 80L), blocks(logs));
+            assertEquals(List.of(List.of(51L, 100L)), chain.ranges);
+        }
+    }
+
+    @Test
+    void reopensWithoutRefetching() throws IOException {
+        final FakeChain chain = new FakeChain().extend('a', 100);
+        for (int block = 1; block <= 100; block += 7) {
+            chain.emit(block, TOKEN, TRANSFER, block % 2 == 0 ? ALICE : BOB);
+        }
+        final List<LogEntry> expected;
+        try (LogStore store = open(chain, 30, 20)) {
+            expected = store.getLogs(filter(0, 100, List.of(TOKEN)));
+        }
+        final int fetches = chain.logFetches;
+
+        try (LogStore store = open(chain, 30, 20)) {
+            assertEquals(100, store.syncedBlock());
+            assertEquals(expected, store.getLogs(filter(0, 100, List.of(TOKEN))));
+            assertEquals(fetches, chain.logFetches);
+        }
+    }
+
+    @Test
+    void rollsBackReorgedBlocks() throws IOException {
+        final FakeChain chain = new FakeChain().extend('a', 40);
+        chain.emit(10, TOKEN, TRANSFER).emit(35, TOKEN, TRANSFER).emit(38, TOKEN, APPROVAL);
+
+        try (LogStore store = open(chain, 20, 20)) {
+            store.sync(40);
+
+            chain.rewind(36).extend('b', 10).emit(39, TOKEN, TRANSFER, BOB);
+            store.sync(46);
+
+            assertEquals(chain.logs(0, 46), store.getLogs(filter(0, 46, List.of(TOKEN))));
+            assertEquals(List.of(10L, 35L, 39L), blocks(store.getLogs(filter(0, 46, List.of(TOKEN)))));
+            assertEquals(List.of(36L, 46L), chain.ranges.get(chain.ranges.size() - 1));
+        }
+    }
+
+    @Test
+    void rollsBackAcrossSegments() throws IOException {
+        final FakeChain chain = new FakeChain().extend('a', 60);
+        chain.emit(5, TOKEN, TRANSFER).emit(25, TOKEN, TRANSFER).emit(45, TOKEN, TRANSFER);
+
+        try (LogStore store = open(chain, 10, 10)) {
+            store.sync(60);
+
+            chain.rewind(20).extend('b', 45).emit(30, TOKEN, APPROVAL);
+            store.sync();
+
+            assertEquals(65, store.syncedBlock());
+            assertEquals(chain.logs(0, 65), store.getLogs(filter(0, 65, List.of(TOKEN))));
+        }
+    }
+
+    @Test
+    void dropsCorruptIndexTail() throws IOException {
+        final FakeChain chain = new FakeChain().extend('a', 60);
+        chain.emit(5, TOKEN, TRANSFER).emit(55, TOKEN, TRANSFER);
+        try (LogStore store = open(chain, 60, 10)) {
+            store.sync(60);
+        }
+        try (FileChannel index = FileChannel.open(dir.resolve("logs.idx"), StandardOpenOption.WRITE)) {
+            index.truncate(index.size() - 3);
+        }
+
+        try (LogStore store = open(chain, 60, 10)) {
+            assertTrue(store.syncedBlock() < 60);
+            assertEquals(List.of(5L, 55L), blocks(store.getLogs(filter(0, 60, List.of(TOKEN)))));
+        }
+    }
+
+    @Test
+    void halvesChunkWhenNodeRejectsRange() throws IOException {
+        final FakeChain chain = new FakeChain().extend('a', 100);
+        chain.emit(70, TOKEN, TRANSFER);
+        chain.maxRange = 30;
+
+        try (LogStore store = open(chain, 100, 1000)) {
+            assertEquals(List.of(70L), blocks(store.getLogs(filter(0, 100, List.of(TOKEN)))));
+            assertTrue(chain.ranges.stream().allMatch(range -> range.get(1) - range.get(0) < 30));
+        }
+    }
+
+    @Test
+    void rejectsFiltersOutsideTheStore() throws IOException {
+        final FakeChain chain = new FakeChain().extend('a', 10);
+        try (LogStore store = new LogStore(chain, dir, 5, List.of(TOKEN), 10, 10)) {
+            assertThrows(IllegalArgumentException.class, () -> store.getLogs(filter(5, 10, List.of(UNTRACKED))));
+            assertThrows(IllegalArgumentException.class, () -> store.getLogs(filter(4, 10, List.of(TOKEN))));
+            assertThrows(IllegalArgumentException.class, () -> store.getLogs(filter(5, 10, List.of())));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new LogStore(chain, dir, 5, List.of(OTHER), 10, 10));
+        assertThrows(IllegalArgumentException.class, () -> new LogStore(chain, dir, 6, List.of(TOKEN), 10, 10));
+    }
+
+    @Test
+    void rejectsUseAfterClose() throws IOException {
+        final LogStore store = open(new FakeChain().extend('a', 10), 10, 10);
+        store.close();
+        store.close();
+
+        assertThrows(IllegalStateException.class, () -> store.sync(5));
+    }
+
+    private LogStore open(final FakeChain chain, final int chunkSize, final int segmentBlocks) throws IOException {
+        return new LogStore(chain, dir, 0, List.of(TOKEN, OTHER), chunkSize, segmentBlocks);
+    }
+
+    private static LogFilter filter(final long from, final long to, final List<Address> addresses) {
+        return new LogFilter(Optional.of(from), Optional.of(to), Optional.of(addresses), Optional.empty());
+    }
+
+    private List<Long> blocks(final List<LogEntry> logs) {
+        final List<Long> numbers = new ArrayList<>();
+        for (final LogEntry log : logs) {
+            numbers.add(Long.parseLong(log.blockHash().value().substring(4), 16));
+        }
+        return numbers;
+    }
+
+    /**
+     * A chain whose block hashes encode their branch and number, so that logs can be traced
+     * back to their block and rewritten branches get distinct hashes.
+     */
+    private static final class FakeChain implements LogStore.LogSource {
+        private final List<Hash> hashes = new ArrayList<>();
+        private final Map<Long, List<LogEntry>> logs = new HashMap<>();
+        final List<List<Long>> ranges = new ArrayList<>();
+        int logFetches;
+        long maxRange = Long.MAX_VALUE;
+
+        FakeChain() {
+            hashes.add(hash('g', 0));
+        }
+
+        FakeChain extend(final char branch, final int count) {
+            for (int i = 0; i < count; i++) {
+                hashes.add(hash(branch, hashes.size()));
+            }
+            return this;
+        }
+
+        FakeChain rewind(final long number) {
+            while (hashes.size() > number + 1) {
+                logs.remove((long) hashes.size() - 1);
+                hashes.remove(hashes.size() - 1);
+            }
+            return this;
+        }
+
+        FakeChain emit(final long block, final Address address, final Hash... topics) {
+            final List<LogEntry> inBlock = logs.computeIfAbsent(block, b -> new ArrayList<>());
+            inBlock.add(new LogEntry(
+                    address,
+                    new HexData("0x" + Long.toHexString(0x1000 + inBlock.size())),
+                    List.of(topics),
+                    hashes.get((int) block),
+                    new Hash("0x" + "ee".repeat(31) + String.format("%02x", inBlock.size())),
+                    inBlock.size(),
+                    false));
+            return this;
+        }
+
+        List<LogEntry> logs(final long from, final long to) {
+            final List<LogEntry> result = new ArrayList<>();
+            for (long block = from; block <= to; block++) {
+                result.addAll(logs.getOrDefault(block, List.of()));
+            }
+            return result;
+        }
+
+        private static Hash hash(final char branch, final long number) {
+            return new Hash("0x" + String.format("%02x%062x", (int) branch, number));
+        }
+
+        @Override
+        public List<LogStore.FetchedLog> logs(final long fromBlock, final long toBlock, final List<Address> addresses) {
+            if (toBlock - fromBlock + 1 > maxRange) {
+                throw new RpcException(-32005, "query returned more than 10000 results", null);
+            }
+            logFetches++;
+            ranges.add(List.of(fromBlock, toBlock));
+            final List<LogStore.FetchedLog> result = new ArrayList<>();
+            for (long block = fromBlock; block <= toBlock && block < hashes.size(); block++) {
+                for (final LogEntry log : logs.getOrDefault(block, List.of())) {
+                    if (addresses.isEmpty() || addresses.contains(log.address())) {
+                        result.add(new LogStore.FetchedLog(block, log));
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public @Nullable Hash blockHash(final long number) {
+            return number < hashes.size() ? hashes.get((int) number) : null;
+        }
+
+        @Override
+        public long latestBlock() {
+            return hashes.size() - 1;
+        }
+
+        @Override
+        public Subscription onNewHeads(final Consumer<BlockHeader> callback) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MetricsRecorderTest {
+
+    @Test
+    void countsOutcomesAndInFlight() {
+        final MetricsRecorder recorder = new MetricsRecorder();
+        for (int i = 0; i < 5; i++) {
+            recorder.onRequestStarted("eth_call");
+        }
+        recorder.onRequestCompleted("eth_call", 1_000L);
+        recorder.onRequestCompleted("eth_call", 2_000L);
+        recorder.onRequestFailed("eth_call", new RuntimeException("boom"));
+        recorder.onRequestTimeout("eth_call", 7L);
+
+        final MetricsRecorder.MethodSnapshot call = recorder.snapshot().methods().get("eth_call");
+        assertEquals(5, call.started());
+        assertEquals(2, call.completed());
+        assertEquals(1, call.failed());
+        assertEquals(1, call.timedOut());
+        assertEquals(1, call.inFlight());
+        assertEquals(2, call.latency().count());
+        assertEquals(1_000L, call.latency().minNanos());
+        assertEquals(2_000L, call.latency().maxNanos());
+        assertEquals(1_500.0, call.latency().meanNanos());
+    }
+
+    @Test
+    void tracksBytesAndRetries() {
+        final MetricsRecorder recorder = new MetricsRecorder();
+        recorder.onBytesSent("eth_getLogs", 100);
+        recorder.onBytesSent("eth_getLogs", 50);
+        recorder.onBytesReceived("eth_getLogs", 4096);
+        recorder.onRetry("eth_getLogs", 2, new RuntimeException());
+
+        final MetricsRecorder.MethodSnapshot logs = recorder.snapshot().methods().get("eth_getLogs");
+        assertEquals(150, logs.bytesSent());
+        assertEquals(4096, logs.bytesReceived());
+        assertEquals(1, logs.retries());
+        assertEquals(MetricsRecorder.LatencySnapshot.EMPTY, logs.latency());
+    }
+
+    @Test
+    void percentilesWithinBucketPrecision() {
+        final MetricsRecorder recorder = new MetricsRecorder();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            recorder.onRequestCompleted("eth_blockNumber", micros * 1_000L);
+        }
+
+        final MetricsRecorder.LatencySnapshot latency =
+                recorder.snapshot().methods().get("eth_blockNumber").latency();
+        assertEquals(10_000, latency.count());
+        assertWithinPrecision(5_000_000L, latency.p50Nanos());
+        assertWithinPrecision(9_000_000L, latency.p90Nanos());
+        assertWithinPrecision(9_900_000L, latency.p99Nanos());
+        assertWithinPrecision(9_990_000L, latency.p999Nanos());
+        assertTrue(latency.p999Nanos() <= latency.maxNanos());
+    }
+
+    @Test
+    void histogramBucketsRoundTrip() {
+        long previous = -1;
+        for (int index = 0; index < 32 * 36; index++) {
+            final long highest = LatencyHistogram.highestEquivalentValue(index);
+            assertTrue(highest > previous, "bucket bounds must increase");
+            assertEquals(index, LatencyHistogram.indexOf(highest));
+            assertEquals(index, LatencyHistogram.indexOf(previous + 1));
+            previous = highest;
+        }
+    }
+
+    @Test
+    void capsMethodCardinality() {
+        final MetricsRecorder recorder = new MetricsRecorder();
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < MetricsRecorder.MAX_METHODS + 10; i++) {
+            names.add("method_" + i);
+        }
+        names.forEach(recorder::onRequestStarted);
+
+        final MetricsRecorder.Snapshot snapshot = recorder.snapshot();
+        assertTrue(snapshot.methods().size() <= MetricsRecorder.MAX_METHODS + 1);
+        final long total = snapshot.methods().values().stream()
+                .mapToLong(MetricsRecorder.MethodSnapshot::started)
+                .sum();
+        assertEquals(names.size(), total);
+        assertTrue(snapshot.methods().get(MetricsRecorder.OTHER_METHOD).started() >= 10);
+    }
+
+    @Test
+    void tracksMulticallAndConnectionCounters() {
+        final MetricsRecorder recorder = new MetricsRecorder();
+        recorder.onMulticallExecuted(600, 3, 5_000_000L);
+        recorder.onMulticallExecuted(10, 1, 1_000_000L);
+        recorder.onBackpressure(100, 100);
+        recorder.onOrphanedResponse("unknown id");
+        recorder.onReconnect();
+
+        final MetricsRecorder.Snapshot snapshot = recorder.snapshot();
+        assertEquals(2, snapshot.multicall().batches());
+        assertEquals(610, snapshot.multicall().calls());
+        assertEquals(4, snapshot.multicall().chunks());
+        assertEquals(2, snapshot.multicall().latency().count());
+        assertEquals(1, snapshot.backpressureRejections());
+        assertEquals(1, snapshot.orphanedResponses());
+        assertEquals(1, snapshot.reconnects());
+        assertTrue(snapshot.methods().isEmpty());
+    }
+
+    @Test
+    void snapshotIsSortedAndImmutable() {
+        final MetricsRecorder recorder = new MetricsRecorder();
+        recorder.onRequestStarted("eth_getLogs");
+        recorder.onRequestStarted("eth_call");
+        recorder.onRequestStarted("eth_blockNumber");
+
+        final MetricsRecorder.Snapshot snapshot = recorder.snapshot();
+        assertEquals(List.of("eth_blockNumber", "eth_call", "eth_getLogs"), List.copyOf(snapshot.methods().keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.methods().clear());
+    }
+
+    private static void assertWithinPrecision(final long expected, final long actual) {
+        final double error = Math.abs(actual - expected) / (double) expected;
+        assertTrue(error <= 0.035, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class RetryBudgetTest {
+
+    @Test
+    void startsFullAndDeniesWhenEmpty() {
+        final RetryBudget budget = RetryBudget.create(3, 0.1);
+
+        assertEquals(3.0, budget.tokens());
+        assertTrue(budget.tryRetry());
+        assertTrue(budget.tryRetry());
+        assertTrue(budget.tryRetry());
+        assertFalse(budget.tryRetry());
+
+        assertEquals(0.0, budget.tokens());
+        assertEquals(3, budget.retries());
+        assertEquals(1, budget.denied());
+    }
+
+    @Test
+    void callsDepositUpToCapacity() {
+        final RetryBudget budget = RetryBudget.create(2, 0.25);
+        budget.tryRetry();
+        budget.tryRetry();
+
+        for (int i = 0; i < 3; i++) {
+            budget.onCall();
+        }
+        assertEquals(0.75, budget.tokens(), 1e-9);
+        assertFalse(budget.tryRetry());
+        budget.onCall();
+        assertTrue(budget.tryRetry());
+
+        for (int i = 0; i < 100; i++) {
+            budget.onCall();
+        }
+        assertEquals(2.0, budget.tokens());
+    }
+
+    @Test
+    void amplificationIsAttemptsPerCall() {
+        final RetryBudget budget = RetryBudget.unlimited();
+        assertEquals(1.0, budget.amplification());
+
+        for (int i = 0; i < 4; i++) {
+            budget.onCall();
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(budget.tryRetry());
+        }
+
+        assertFalse(budget.isLimited());
+        assertEquals(0, budget.denied());
+        assertEquals(251.0, budget.amplification());
+    }
+
+    @Test
+    void concurrentRetriesNeverOverdraw() throws Exception {
+        final RetryBudget budget = RetryBudget.create(50, 0.1);
+        final AtomicInteger granted = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            final List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        if (budget.tryRetry()) {
+                            granted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (final Future<?> task : tasks) {
+                task.get();
+            }
+        }
+
+        assertEquals(50, granted.get());
+        assertEquals(8_000 - 50, budget.denied());
+    }
+
+    @Test
+    void rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.create(0, 0.1));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.create(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.create(10, Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> RetryBudget.create(10, 11));
+    }
+}
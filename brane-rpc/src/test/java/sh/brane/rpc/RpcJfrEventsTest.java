@@ -0,0 +1,134 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpServer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import sh.brane.core.error.RpcException;
+
+/**
+ * Tests for the JFR events emitted by the RPC layer.
+ */
+class RpcJfrEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void httpRequestEventCarriesPhaseTimings() throws Exception {
+        final String body = "{\"jsonrpc\":\"2.0\",\"result\":\"0x1\",\"id\":\"1\"}";
+        final HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/", exchange -> {
+            final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        server.start();
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("sh.brane.rpc.Request");
+            recording.start();
+            final BraneProvider provider = HttpBraneProvider
+                    .builder("http://127.0.0.1:" + server.getAddress().getPort())
+                    .build();
+            provider.send("eth_blockNumber", List.of());
+            recording.stop();
+            events = dump(recording, "http.jfr");
+        } finally {
+            server.stop(0);
+        }
+
+        final RecordedEvent event = single(events, "sh.brane.rpc.Request");
+        assertEquals("eth_blockNumber", event.getString("method"));
+        assertEquals("http", event.getString("transport"));
+        assertEquals("success", event.getString("outcome"));
+        assertEquals(1L, event.getLong("requestId"));
+        assertTrue(event.getLong("bytesSent") > 0);
+        assertEquals(body.length(), event.getLong("bytesReceived"));
+        assertTrue(event.getDuration("networkTime").toNanos() > 0);
+        assertTrue(event.getDuration().compareTo(event.getDuration("networkTime")) >= 0);
+    }
+
+    @Test
+    void retryBackoffEventRecordsAttemptAndCause() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("sh.brane.rpc.RetryBackoff");
+            recording.start();
+            RpcRetry.run(
+                    () -> {
+                        if (calls.getAndIncrement() == 0) {
+                            throw new RuntimeException(new IOException("connection reset"));
+                        }
+                        return "ok";
+                    },
+                    3,
+                    new RpcRetryConfig(1, 1, 0.0, 0.01),
+                    "eth_call",
+                    null);
+            recording.stop();
+            events = dump(recording, "retry.jfr");
+        }
+
+        final RecordedEvent event = single(events, "sh.brane.rpc.RetryBackoff");
+        assertEquals("eth_call", event.getString("method"));
+        assertEquals(2, event.getInt("attempt"));
+        assertEquals(RuntimeException.class.getName(), event.getString("cause"));
+    }
+
+    @Test
+    void failedHttpRequestRecordsFailedOutcome() throws Exception {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("sh.brane.rpc.Request");
+            recording.start();
+            final BraneProvider provider = HttpBraneProvider
+                    .builder("http://127.0.0.1:" + server.getAddress().getPort())
+                    .build();
+            assertThrows(RpcException.class, () -> provider.send("eth_chainId", List.of()));
+            recording.stop();
+            events = dump(recording, "failed.jfr");
+        } finally {
+            server.stop(0);
+        }
+
+        assertEquals("failed", single(events, "sh.brane.rpc.Request").getString("outcome"));
+    }
+
+    private List<RecordedEvent> dump(final Recording recording, final String name) throws IOException {
+        final Path file = tempDir.resolve(name);
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static RecordedEvent single(final List<RecordedEvent> events, final String name) {
+        final List<RecordedEvent> matching = events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), "expected exactly one " + name + " event");
+        return matching.get(0);
+    }
+}
@@ -2,15 +2,24 @@
 package sh.brane.rpc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -396,4 +405,169 @@ class RpcRetryTest {
         assertThrows(IllegalArgumentException.class, () ->
                 new RpcRetryConfig(200, 5000, 0.25, 0.25));
     }
+
+    @Test
+    void reportsRetriesToMetrics() {
+        final AtomicInteger calls = new AtomicInteger();
+        final MetricsRecorder recorder = new MetricsRecorder();
+        String result =
+                RpcRetry.run(
+                        () -> {
+                            if (calls.getAndIncrement() < 2) {
+                                throw new RpcException(-32000, "header not found", null, null, null);
+                            }
+                            return "ok";
+                        },
+                        3,
+                        new RpcRetryConfig(1, 1, 0.0, 0.01),
+                        "eth_getBalance",
+                        recorder);
+
+        assertEquals("ok", result);
+        assertEquals(2, recorder.snapshot().methods().get("eth_getBalance").retries());
+    }
+
+    // ==================== classification, budget and async tests ====================
+
+    @Test
+    void classifiesByCodeBeforeMessage() {
+        // Malformed requests are never retried, whatever the message says
+        assertFalse(RpcRetry.isRetryableRpcError(new RpcException(-32602, "request timeout", null, null, null)));
+        assertFalse(RpcRetry.isRetryableRpcError(new RpcException(-32601, "method not found", null, null, null)));
+        assertFalse(RpcRetry.isRetryableRpcError(new RpcException(3, "execution reverted", "0x", null, null)));
+        // Rate limiting and internal errors are retried with any message
+        assertTrue(RpcRetry.isRetryableRpcError(new RpcException(-32005, "slow down", null, null, null)));
+        assertTrue(RpcRetry.isRetryableRpcError(new RpcException(429, "quota", null, null, null)));
+        assertTrue(RpcRetry.isRetryableRpcError(new RpcException(-32603, "oops", null, null, null)));
+        // Generic server errors fall back to case-insensitive message rules
+        assertTrue(RpcRetry.isRetryableRpcError(new RpcException(-32000, "Header Not Found", null, null, null)));
+        assertFalse(RpcRetry.isRetryableRpcError(new RpcException(-32000, "unknown account", null, null, null)));
+        assertFalse(RpcRetry.isRetryableRpcError(
+                new RpcException(-32603, "Insufficient funds for gas", null, null, null)));
+    }
+
+    @Test
+    void exhaustedBudgetFailsFastWithoutRetrying() {
+        final RetryBudget budget = RetryBudget.create(2, 0.1);
+        final RpcRetryConfig config = new RpcRetryConfig(1, 1, 0.0, 0.01, budget);
+        final MetricsRecorder recorder = new MetricsRecorder();
+        final AtomicInteger calls = new AtomicInteger();
+
+        // Brown-out: every attempt fails. The first call spends the whole budget.
+        for (int i = 0; i < 5; i++) {
+            assertThrows(RetryExhaustedException.class, () -> RpcRetry.run(() -> {
+                calls.incrementAndGet();
+                throw new RpcException(-32000, "header not found", null, null, null);
+            }, 5, config, "eth_call", recorder));
+        }
+
+        // 5 first attempts, plus 2 retries from the bucket; deposits of 0.1 per call never add up to a token
+        assertEquals(7, calls.get());
+        assertEquals(5, budget.calls());
+        assertEquals(2, budget.retries());
+        assertEquals(5, budget.denied());
+        assertEquals(7 / 5.0, budget.amplification(), 1e-9);
+        final MetricsRecorder.MethodSnapshot call = recorder.snapshot().methods().get("eth_call");
+        assertEquals(2, call.retries());
+        assertEquals(5, call.retriesDenied());
+    }
+
+    @Test
+    void budgetRefillsFromCalls() {
+        final RetryBudget budget = RetryBudget.create(1, 0.5);
+        final RpcRetryConfig config = new RpcRetryConfig(1, 1, 0.0, 0.01, budget);
+
+        assertEquals("ok", RpcRetry.run(failsOnce(), 3, config, "eth_call", null));
+        assertThrows(RetryExhaustedException.class, () -> RpcRetry.run(failsOnce(), 3, config, "eth_call", null));
+        // The next call's deposit tops the bucket back up to one token
+        assertEquals("ok", RpcRetry.run(failsOnce(), 3, config, "eth_call", null));
+        assertEquals(2, budget.retries());
+        assertEquals(1, budget.denied());
+    }
+
+    @Test
+    void runAsyncRetriesOnTimerWithoutBlockingCaller() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final MetricsRecorder recorder = new MetricsRecorder();
+        final Thread caller = Thread.currentThread();
+        final AtomicReference<Thread> retryThread = new AtomicReference<>();
+
+        final CompletableFuture<String> result = RpcRetry.runAsync(() -> {
+            if (calls.getAndIncrement() < 2) {
+                return CompletableFuture.failedFuture(
+                        new RpcException(-32000, "header not found", null, null, null));
+            }
+            retryThread.set(Thread.currentThread());
+            return CompletableFuture.completedFuture("ok");
+        }, 3, new RpcRetryConfig(50, 50, 0.0, 0.01), "eth_getBalance", recorder);
+
+        // The first attempt failed synchronously, yet the caller gets a pending future back immediately
+        assertFalse(result.isDone());
+        assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, calls.get());
+        assertNotSame(caller, retryThread.get());
+        assertEquals(2, recorder.snapshot().methods().get("eth_getBalance").retries());
+    }
+
+    @Test
+    void runAsyncPropagatesNonRetryableErrorsImmediately() {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<String> result = RpcRetry.runAsync(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.failedFuture(
+                    new RpcException(-32000, "execution reverted", "0x08c379a0deadbeef", (Long) null));
+        }, 3, RpcRetryConfig.defaults(), "eth_call", null);
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RpcException.class, e.getCause());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void runRpcAsyncExhaustsRetriesAndHonoursBudget() {
+        final RetryBudget budget = RetryBudget.create(1, 0.1);
+        final AtomicInteger calls = new AtomicInteger();
+
+        final CompletableFuture<JsonRpcResponse> result = RpcRetry.runRpcAsync(() -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(new JsonRpcResponse(
+                    "2.0", null, new JsonRpcError(-32005, "limit exceeded", null), "1"));
+        }, 5, new RpcRetryConfig(1, 1, 0.0, 0.01, budget), "eth_call", null);
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        final RetryExhaustedException exhausted = assertInstanceOf(RetryExhaustedException.class, e.getCause());
+        assertEquals(2, exhausted.getAttemptCount());
+        assertEquals(2, calls.get());
+        assertEquals(1, budget.denied());
+    }
+
+    @Test
+    void clientsGetTheirOwnBudgetUnlessOneIsShared() {
+        final BraneProvider provider = (method, params) -> new JsonRpcResponse("2.0", "0x1", null, "1");
+        final DefaultReader first = (DefaultReader) Brane.builder().provider(provider).buildReader();
+        final DefaultReader second = (DefaultReader) Brane.builder().provider(provider).buildReader();
+        final RetryBudget shared = RetryBudget.create();
+        final RpcRetryConfig config = RpcRetryConfig.builder().retryBudget(shared).build();
+        final DefaultReader third = (DefaultReader) Brane.builder().provider(provider).retryConfig(config).buildReader();
+        final DefaultReader fourth = (DefaultReader) Brane.builder().provider(provider).retryConfig(config).buildReader();
+
+        assertNotNull(first.retryConfig().retryBudget());
+        assertNotSame(first.retryConfig().retryBudget(), second.retryConfig().retryBudget());
+        assertSame(shared, third.retryConfig().retryBudget());
+        assertSame(shared, fourth.retryConfig().retryBudget());
+
+        third.chainId();
+        fourth.sendWithRetryAsync("eth_chainId", List.of()).join();
+        assertEquals(2, shared.calls());
+    }
+
+    private static Supplier<String> failsOnce() {
+        final AtomicInteger attempts = new AtomicInteger();
+        return () -> {
+            if (attempts.getAndIncrement() == 0) {
+                throw new RpcException(-32000, "timeout", null, null, null);
+            }
+            return "ok";
+        };
+    }
 }
@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -313,4 +315,33 @@ class SmartGasStrategyTest {
         assertFalse(strategy.toTxObject(nullAccessList).containsKey("accessList"));
         assertFalse(strategy.toTxObject(emptyAccessList).containsKey("accessList"));
     }
+
+    // ========== Retry Tests ==========
+
+    @Test
+    void exhaustedRetryBudgetStopsEstimateGasRetries() {
+        final AtomicInteger attempts = new AtomicInteger();
+        final BraneProvider flakyProvider = (method, params) -> attempts.getAndIncrement() == 0
+                ? new JsonRpcResponse("2.0", null, new JsonRpcError(-32603, "internal error", null), "1")
+                : new JsonRpcResponse("2.0", "0x5208", null, "2");
+        final TransactionRequest request = new TransactionRequest(
+                new Address("0x" + "f".repeat(40)), new Address("0x" + "e".repeat(40)),
+                null, null, Wei.of(1L), null, null, 1L, null, false, null);
+
+        // A budget with tokens left retries the failed estimate
+        final SmartGasStrategy funded = new SmartGasStrategy(unusedBrane, flakyProvider, profile, 4,
+                RpcRetryConfig.builder().backoffBaseMs(1).backoffMaxMs(1).retryBudget(RetryBudget.create()).build());
+        assertEquals(25_200L, funded.applyDefaults(request, request.from()).request().gasLimit());
+        assertEquals(2, attempts.get());
+
+        // An exhausted budget does not
+        attempts.set(0);
+        final RetryBudget exhausted = RetryBudget.create(1, 0.001);
+        assertTrue(exhausted.tryRetry());
+        final SmartGasStrategy throttled = new SmartGasStrategy(unusedBrane, flakyProvider, profile, 4,
+                RpcRetryConfig.builder().backoffBaseMs(1).backoffMaxMs(1).retryBudget(exhausted).build());
+        assertThrows(RuntimeException.class, () -> throttled.applyDefaults(request, request.from()));
+        assertEquals(1, attempts.get());
+        assertEquals(1, exhausted.denied());
+    }
 }
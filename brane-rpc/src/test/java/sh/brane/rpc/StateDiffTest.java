@@ -0,0 +1,296 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.Wei;
+
+class StateDiffTest {
+
+    private static final Address ALICE = new Address("0x" + "aa".repeat(20));
+    private static final Address TOKEN = new Address("0x" + "bb".repeat(20));
+    private static final Address VAULT = new Address("0x" + "cc".repeat(20));
+    private static final Hash SLOT_0 = word(0);
+    private static final Hash SLOT_1 = word(1);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recordsCheatCodeWrites() {
+        final FakeNode node = new FakeNode();
+        node.account(ALICE).nonce = 3;
+        final Brane.Tester tester = tester(node);
+
+        final StateDiff diff = StateDiff.capture(tester, t -> {
+            t.setStorageAt(TOKEN, SLOT_1, word(5));
+            t.setStorageAt(TOKEN, SLOT_1, word(6));
+            t.setBalance(ALICE, Wei.of(1_000));
+            t.setCode(TOKEN, new HexData("0x6001"));
+        });
+
+        assertEquals(List.of(
+                new StateDiff.Account(ALICE, Wei.of(1_000), 3, null, Map.of()),
+                new StateDiff.Account(TOKEN, Wei.of(0), 0, new HexData("0x6001"), Map.of(SLOT_1, word(6)))),
+                diff.accounts());
+        assertEquals(1, diff.slotCount());
+    }
+
+    @Test
+    void recordsStateChangedByMinedTransactions() {
+        final FakeNode node = new FakeNode();
+        final Brane.Tester tester = tester(node);
+
+        final StateDiff diff = StateDiff.capture(tester, t -> {
+            // A deployment mined during setup: the vault is created and seeds token storage
+            node.mine("0x" + "01".repeat(32), Map.of(
+                    "pre", Map.of(TOKEN.value(), Map.of("storage", Map.of(SLOT_0.value(), word(0).value()))),
+                    "post", Map.of(
+                            VAULT.value(), Map.of("code", "0x6002", "nonce", 1),
+                            TOKEN.value(), Map.of("storage", Map.of(SLOT_0.value(), word(9).value())))));
+            node.account(VAULT).code = "0x6002";
+            node.account(VAULT).nonce = 1;
+            node.account(TOKEN).storage.put(SLOT_0.value(), word(9).value());
+        });
+
+        assertEquals(List.of(
+                new StateDiff.Account(TOKEN, Wei.of(0), 0, null, Map.of(SLOT_0, word(9))),
+                new StateDiff.Account(VAULT, Wei.of(0), 1, new HexData("0x6002"), Map.of())),
+                diff.accounts());
+    }
+
+    @Test
+    void ignoresUnchangedCodeListedOnlyInPreState() {
+        final FakeNode node = new FakeNode();
+        node.account(TOKEN).code = "0x6001";
+        final Brane.Tester tester = tester(node);
+
+        final StateDiff diff = StateDiff.capture(tester, t -> {
+            // A call into the token: the tracer lists its code on the pre side only
+            node.mine("0x" + "02".repeat(32), Map.of(
+                    "pre", Map.of(TOKEN.value(), Map.of(
+                            "code", "0x6001", "storage", Map.of(SLOT_0.value(), word(0).value()))),
+                    "post", Map.of(TOKEN.value(), Map.of("storage", Map.of(SLOT_0.value(), word(9).value())))));
+            node.account(TOKEN).storage.put(SLOT_0.value(), word(9).value());
+        });
+
+        assertEquals(List.of(new StateDiff.Account(TOKEN, Wei.of(0), 0, null, Map.of(SLOT_0, word(9)))),
+                diff.accounts());
+    }
+
+    @Test
+    void appliesDiffInBatches() {
+        final List<StateDiff.Account> accounts = new ArrayList<>();
+        final Map<Hash, Hash> storage = new HashMap<>();
+        for (int i = 0; i < 600; i++) {
+            storage.put(word(i), word(i + 1));
+        }
+        accounts.add(new StateDiff.Account(TOKEN, Wei.of(7), 2, new HexData("0x6001"), storage));
+        accounts.add(new StateDiff.Account(ALICE, Wei.of(1_000), 0, null, Map.of()));
+        final StateDiff diff = StateDiff.of(accounts);
+        final FakeNode node = new FakeNode();
+
+        diff.applyTo(tester(node));
+
+        assertEquals(2, node.batches);
+        assertEquals(BigInteger.valueOf(7), node.account(TOKEN).balance);
+        assertEquals(2, node.account(TOKEN).nonce);
+        assertEquals("0x6001", node.account(TOKEN).code);
+        assertEquals(word(600).value(), node.account(TOKEN).storage.get(word(599).value()));
+        assertEquals(BigInteger.valueOf(1_000), node.account(ALICE).balance);
+    }
+
+    @Test
+    void recordedDiffReproducesStateOnAnotherNode() {
+        final FakeNode source = new FakeNode();
+        final StateDiff diff = StateDiff.capture(tester(source), t -> {
+            t.setBalance(ALICE, Wei.of(5));
+            t.setNonce(ALICE, 4);
+            t.setStorageAt(TOKEN, SLOT_0, word(42));
+        });
+        final FakeNode target = new FakeNode();
+        target.account(TOKEN).storage.put(SLOT_1.value(), word(8).value());
+
+        diff.applyTo(tester(target));
+
+        assertEquals(source.account(ALICE).balance, target.account(ALICE).balance);
+        assertEquals(4, target.account(ALICE).nonce);
+        assertEquals(word(42).value(), target.account(TOKEN).storage.get(SLOT_0.value()));
+        assertEquals(word(8).value(), target.account(TOKEN).storage.get(SLOT_1.value()));
+    }
+
+    @Test
+    void roundTripsThroughCompactEncoding() throws IOException {
+        final StateDiff diff = StateDiff.of(List.of(
+                new StateDiff.Account(ALICE, Wei.of(new BigInteger("1000000000000000000000")), 12, null,
+                        Map.of(SLOT_0, word(1))),
+                new StateDiff.Account(VAULT, Wei.of(0), 1, HexData.EMPTY,
+                        Map.of(new Hash("0x" + "ff".repeat(32)), word(0)))));
+
+        final byte[] bytes = diff.toBytes();
+        diff.write(dir.resolve("fixture.diff"));
+
+        assertEquals(diff, StateDiff.fromBytes(bytes));
+        assertEquals(diff, StateDiff.read(dir.resolve("fixture.diff")));
+        // Two addresses plus a handful of bytes for small quantities and one full slot key
+        assertTrue(bytes.length < 2 * 20 + 32 + 30, "encoded size " + bytes.length);
+    }
+
+    @Test
+    void rejectsMalformedEncoding() {
+        final byte[] bytes = StateDiff.of(List.of(
+                new StateDiff.Account(ALICE, Wei.of(1), 1, null, Map.of(SLOT_0, word(1))))).toBytes();
+
+        assertThrows(IllegalArgumentException.class, () -> StateDiff.fromBytes(new byte[] {1, 2, 3}));
+        assertThrows(IllegalArgumentException.class,
+                () -> StateDiff.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> StateDiff.fromBytes(Arrays.copyOf(bytes, bytes.length + 1)));
+        assertThrows(IllegalArgumentException.class, () -> StateDiff.of(List.of(
+                new StateDiff.Account(ALICE, Wei.of(1), 0, null, Map.of()),
+                new StateDiff.Account(ALICE, Wei.of(2), 0, null, Map.of()))));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StateDiff.Account(ALICE, Wei.of(1), -1, null, Map.of()));
+    }
+
+    @Test
+    void recordingIsExclusiveAndEndsOnClose() {
+        final FakeNode node = new FakeNode();
+        final Brane.Tester tester = tester(node);
+
+        final StateDiff.Recorder recorder = StateDiff.record(tester);
+        assertThrows(IllegalStateException.class, () -> StateDiff.record(tester));
+        recorder.close();
+        tester.setBalance(ALICE, Wei.of(1));
+
+        assertThrows(IllegalStateException.class, recorder::finish);
+        try (StateDiff.Recorder next = StateDiff.record(tester)) {
+            assertEquals(List.of(), next.finish().accounts());
+        }
+    }
+
+    @Test
+    void reportsMissingTracerSupport() {
+        final FakeNode node = new FakeNode();
+        node.tracing = false;
+
+        final RpcException e = assertThrows(RpcException.class, () -> StateDiff.capture(tester(node),
+                t -> node.mine("0x" + "02".repeat(32), Map.of())));
+
+        assertTrue(e.getMessage().contains("prestateTracer"), e.getMessage());
+    }
+
+    private static Hash word(final long value) {
+        return new Hash(String.format("0x%064x", value));
+    }
+
+    private static Brane.Tester tester(final FakeNode node) {
+        return Brane.builder().provider(node).signer(AnvilSigners.defaultKey()).buildTester();
+    }
+
+    /** An in-memory Anvil with just enough state, blocks and tracing for recording. */
+    private static final class FakeNode implements BraneProvider {
+        private final Map<String, Account> accounts = new HashMap<>();
+        private final Map<Long, String> blocks = new HashMap<>();
+        private final Map<String, Object> traces = new HashMap<>();
+        private long head;
+        int batches;
+        boolean tracing = true;
+
+        static final class Account {
+            BigInteger balance = BigInteger.ZERO;
+            long nonce;
+            String code = "0x";
+            final Map<String, String> storage = new HashMap<>();
+        }
+
+        Account account(final Address address) {
+            return accounts.computeIfAbsent(address.value(), a -> new Account());
+        }
+
+        void mine(final String txHash, final Object trace) {
+            head++;
+            blocks.put(head, txHash);
+            traces.put(txHash, trace);
+        }
+
+        @Override
+        public List<JsonRpcResponse> sendBatch(final List<JsonRpcRequest> requests) {
+            batches++;
+            return BraneProvider.super.sendBatch(requests);
+        }
+
+        @Override
+        public JsonRpcResponse send(final String method, final List<?> params) {
+            final Object result = switch (method) {
+                case "eth_getBlockByNumber" -> {
+                    final String tag = (String) params.get(0);
+                    final long number = "latest".equals(tag) ? head : Long.decode(tag);
+                    final Map<String, Object> block = new HashMap<>();
+                    block.put("hash", String.format("0x%064x", number + 1));
+                    block.put("parentHash", String.format("0x%064x", number));
+                    block.put("number", "0x" + Long.toHexString(number));
+                    block.put("timestamp", "0x1");
+                    block.put("transactions", blocks.containsKey(number) ? List.of(blocks.get(number)) : List.of());
+                    yield block;
+                }
+                case "debug_traceTransaction" -> {
+                    if (!tracing) {
+                        yield error("the method debug_traceTransaction does not exist");
+                    }
+                    yield traces.get((String) params.get(0));
+                }
+                case "eth_getBalance" -> "0x" + account(params).balance.toString(16);
+                case "eth_getTransactionCount" -> "0x" + Long.toHexString(account(params).nonce);
+                case "eth_getCode" -> account(params).code;
+                case "eth_getStorageAt" -> account(params).storage.getOrDefault(
+                        (String) params.get(1), word(0).value());
+                case "anvil_setBalance" -> {
+                    account(params).balance = new BigInteger(((String) params.get(1)).substring(2), 16);
+                    yield null;
+                }
+                case "anvil_setNonce" -> {
+                    account(params).nonce = Long.decode((String) params.get(1));
+                    yield null;
+                }
+                case "anvil_setCode" -> {
+                    account(params).code = (String) params.get(1);
+                    yield null;
+                }
+                case "anvil_setStorageAt" -> {
+                    account(params).storage.put((String) params.get(1), (String) params.get(2));
+                    yield null;
+                }
+                default -> throw new IllegalArgumentException(method);
+            };
+            if (result instanceof JsonRpcError err) {
+                return new JsonRpcResponse("2.0", null, err, "1");
+            }
+            return new JsonRpcResponse("2.0", result, null, "1");
+        }
+
+        private Account account(final List<?> params) {
+            return account(new Address((String) params.get(0)));
+        }
+
+        private static JsonRpcError error(final String message) {
+            return new JsonRpcError(-32601, message, null);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.rpc;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.error.RpcException;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.Wei;
+
+class TesterPoolTest {
+
+    private static final Address ALICE = new Address("0x" + "aa".repeat(20));
+    private static final HexData IMAGE = new HexData("0x1f8b");
+
+    @Test
+    void preparesEveryNodeFromStateAndSetup() {
+        final List<FakeNode> fakes = fakes(3);
+        final AtomicInteger setups = new AtomicInteger();
+
+        try (TesterPool pool = pool(fakes).state(IMAGE).setup(tester -> {
+            setups.incrementAndGet();
+            tester.setBalance(ALICE, Wei.of(100));
+        }).open()) {
+            assertEquals(3, pool.size());
+            assertEquals(3, pool.available());
+            assertEquals(3, setups.get());
+            for (final FakeNode fake : fakes) {
+                assertEquals(IMAGE.value(), fake.loaded);
+                assertEquals(1, fake.snapshots.size());
+            }
+        }
+    }
+
+    @Test
+    void leaseStartsFromBaselineAfterEarlierChanges() {
+        final List<FakeNode> fakes = fakes(1);
+        try (TesterPool pool = pool(fakes).setup(tester -> tester.setBalance(ALICE, Wei.of(100))).open()) {
+            try (TesterPool.Lease lease = pool.acquire()) {
+                lease.tester().setBalance(ALICE, Wei.of(7));
+                assertEquals(BigInteger.valueOf(7), lease.tester().getBalance(ALICE));
+            }
+
+            try (TesterPool.Lease lease = pool.acquire()) {
+                assertEquals(BigInteger.valueOf(100), lease.tester().getBalance(ALICE));
+            }
+        }
+    }
+
+    @Test
+    void leasesAreExclusive() throws Exception {
+        final List<FakeNode> fakes = fakes(4);
+        try (TesterPool pool = pool(fakes).open();
+                ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            final CountDownLatch allLeased = new CountDownLatch(4);
+            final List<Future<String>> nodes = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                nodes.add(executor.submit(() -> {
+                    try (TesterPool.Lease lease = pool.acquire()) {
+                        allLeased.countDown();
+                        assertTrue(allLeased.await(5, TimeUnit.SECONDS));
+                        return lease.node();
+                    }
+                }));
+            }
+            final Set<String> distinct = new HashSet<>();
+            for (final Future<String> node : nodes) {
+                distinct.add(node.get(5, TimeUnit.SECONDS));
+            }
+
+            assertEquals(4, distinct.size());
+            assertEquals(4, pool.available());
+        }
+    }
+
+    @Test
+    void acquireTimesOutWhenAllNodesAreLeased() {
+        try (TesterPool pool = pool(fakes(1)).open();
+                TesterPool.Lease lease = pool.acquire()) {
+            assertEquals(0, pool.available());
+            assertThrows(RpcException.class, () -> pool.acquire(Duration.ofMillis(50)));
+        }
+    }
+
+    @Test
+    void resetsNodeThatCannotRevert() {
+        final List<FakeNode> fakes = fakes(1);
+        final AtomicInteger setups = new AtomicInteger();
+        try (TesterPool pool = pool(fakes).setup(tester -> {
+            setups.incrementAndGet();
+            tester.setBalance(ALICE, Wei.of(100));
+        }).open()) {
+            try (TesterPool.Lease lease = pool.acquire()) {
+                lease.tester().setBalance(ALICE, Wei.of(7));
+                fakes.get(0).snapshots.clear();
+            }
+
+            assertEquals(1, fakes.get(0).resets);
+            assertEquals(2, setups.get());
+            assertEquals(1, pool.available());
+            assertEquals(BigInteger.valueOf(100), pool.withTester(tester -> tester.getBalance(ALICE)));
+        }
+    }
+
+    @Test
+    void retiresNodeThatCannotReset() {
+        final List<FakeNode> fakes = fakes(2);
+        try (TesterPool pool = pool(fakes).open()) {
+            final TesterPool.Lease first = pool.acquire();
+            final TesterPool.Lease second = pool.acquire();
+            fakes.forEach(fake -> fake.broken = true);
+
+            first.close();
+            assertEquals(1, pool.size());
+            second.close();
+
+            assertEquals(0, pool.size());
+            assertThrows(IllegalStateException.class, pool::acquire);
+            assertTrue(fakes.stream().allMatch(fake -> fake.closed));
+        }
+    }
+
+    @Test
+    void closeReleasesNodesAndRejectsLeases() {
+        final List<FakeNode> fakes = fakes(2);
+        final TesterPool pool = pool(fakes).open();
+        final TesterPool.Lease lease = pool.acquire();
+
+        pool.close();
+        pool.close();
+        lease.close();
+
+        assertTrue(fakes.stream().allMatch(fake -> fake.closed));
+        assertThrows(IllegalStateException.class, pool::acquire);
+        assertThrows(IllegalStateException.class, lease::tester);
+    }
+
+    @Test
+    void failedSetupClosesAllNodes() {
+        final List<FakeNode> fakes = fakes(2);
+        final TesterPool.Builder builder = pool(fakes).setup(tester -> {
+            throw new IllegalStateException("deploy failed");
+        });
+
+        assertThrows(IllegalStateException.class, builder::open);
+        assertTrue(fakes.stream().allMatch(fake -> fake.closed));
+    }
+
+    @Test
+    void builderRejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> TesterPool.builder().open());
+        assertThrows(IllegalArgumentException.class, () -> TesterPool.builder().launchAnvil(-1));
+        assertThrows(IllegalArgumentException.class, () -> TesterPool.builder().anvilCommand(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> TesterPool.builder().startupTimeout(Duration.ZERO));
+    }
+
+    private static List<FakeNode> fakes(final int count) {
+        final List<FakeNode> fakes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            fakes.add(new FakeNode());
+        }
+        return fakes;
+    }
+
+    private static TesterPool.Builder pool(final List<FakeNode> fakes) {
+        final TesterPool.Builder builder = TesterPool.builder();
+        for (final FakeNode fake : fakes) {
+            builder.tester(Brane.builder().provider(fake).signer(AnvilSigners.defaultKey()).buildTester());
+        }
+        return builder;
+    }
+
+    /**
+     * An in-memory test node holding balances, with Anvil's snapshot semantics: reverting
+     * consumes the snapshot and every later one.
+     */
+    private static final class FakeNode implements BraneProvider {
+        private Map<String, String> balances = new HashMap<>();
+        final List<Map<String, String>> snapshots = new ArrayList<>();
+        volatile String loaded;
+        volatile int resets;
+        volatile boolean broken;
+        volatile boolean closed;
+
+        @Override
+        public synchronized JsonRpcResponse send(final String method, final List<?> params) {
+            if (broken) {
+                return new JsonRpcResponse("2.0", null, new JsonRpcError(-32000, "node is down", null), "1");
+            }
+            final Object result = switch (method) {
+                case "anvil_loadState" -> {
+                    loaded = (String) params.get(0);
+                    yield true;
+                }
+                case "anvil_setBalance" -> {
+                    balances.put((String) params.get(0), (String) params.get(1));
+                    yield null;
+                }
+                case "eth_getBalance" -> balances.getOrDefault((String) params.get(0), "0x0");
+                case "evm_snapshot" -> {
+                    snapshots.add(new HashMap<>(balances));
+                    yield "0x" + Integer.toHexString(snapshots.size() - 1);
+                }
+                case "evm_revert" -> {
+                    final int id = Integer.decode((String) params.get(0));
+                    if (id >= snapshots.size()) {
+                        yield false;
+                    }
+                    balances = snapshots.get(id);
+                    snapshots.subList(id, snapshots.size()).clear();
+                    yield true;
+                }
+                case "anvil_reset" -> {
+                    resets++;
+                    balances = new HashMap<>();
+                    snapshots.clear();
+                    yield null;
+                }
+                default -> throw new IllegalArgumentException(method);
+            };
+            return new JsonRpcResponse("2.0", result, null, "1");
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
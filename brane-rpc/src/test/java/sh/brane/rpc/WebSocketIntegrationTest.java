@@ -244,6 +244,20 @@ public class WebSocketIntegrationTest {
         }
     }
 
+    @Test
+    void testCancelReleasesSlotAndReportsFailure() {
+        MetricsRecorder recorder = new MetricsRecorder();
+        wsProvider.setMetrics(recorder);
+
+        CompletableFuture<JsonRpcResponse> future = wsProvider.sendAsync("eth_blockNumber", List.of());
+        assertTrue(future.cancel(false));
+
+        assertEquals(0, wsProvider.getPendingRequestCount());
+        MetricsRecorder.MethodSnapshot stats = recorder.snapshot().methods().get("eth_blockNumber");
+        assertEquals(1, stats.failed());
+        assertEquals(0, stats.inFlight());
+    }
+
     @Test
     void testCustomSubscriptionExecutor() throws Exception {
         // Create a custom executor that tracks its thread name
@@ -0,0 +1,141 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.trie;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Objects;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.error.InvalidProofException;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.primitives.rlp.RlpReader;
+
+/**
+ * An account's state with Merkle-Patricia proofs, as returned by {@code eth_getProof}
+ * (EIP-1186).
+ *
+ * <p>{@link #verify(Hash)} checks the account proof against a block's state root and every
+ * storage proof against the proven storage root, so the fields can be trusted without
+ * trusting the node that served them.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * AccountProof proof = client.getProof(token, List.of(slot), BlockTag.FINALIZED);
+ * // Already verified against the block's state root
+ * BigInteger value = proof.storageProof().get(0).value();
+ * }</pre>
+ *
+ * @param address      the account address
+ * @param balance      the account balance in wei
+ * @param nonce        the account nonce
+ * @param codeHash     the hash of the account's code
+ * @param storageHash  the root of the account's storage trie
+ * @param accountProof the state trie nodes from the state root to the account
+ * @param storageProof proofs for the requested storage slots
+ * @since 0.3.0
+ */
+public record AccountProof(
+        Address address,
+        BigInteger balance,
+        long nonce,
+        Hash codeHash,
+        Hash storageHash,
+        List<HexData> accountProof,
+        List<StorageProof> storageProof) {
+
+    /** Code hash of an account without code: {@code keccak256("")}. */
+    public static final Hash EMPTY_CODE_HASH =
+            new Hash("0xc5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470");
+
+    /**
+     * Validates fields and makes defensive copies of the proof lists.
+     *
+     * @throws NullPointerException     if any field is null
+     * @throws IllegalArgumentException if the balance or nonce is negative
+     */
+    public AccountProof {
+        Objects.requireNonNull(address, "address cannot be null");
+        Objects.requireNonNull(balance, "balance cannot be null");
+        Objects.requireNonNull(codeHash, "codeHash cannot be null");
+        Objects.requireNonNull(storageHash, "storageHash cannot be null");
+        Objects.requireNonNull(accountProof, "accountProof cannot be null");
+        Objects.requireNonNull(storageProof, "storageProof cannot be null");
+        if (balance.signum() < 0) {
+            throw new IllegalArgumentException("balance cannot be negative");
+        }
+        if (nonce < 0) {
+            throw new IllegalArgumentException("nonce cannot be negative");
+        }
+        accountProof = List.copyOf(accountProof);
+        storageProof = List.copyOf(storageProof);
+    }
+
+    /**
+     * Verifies the account proof against a state root, then each storage proof against
+     * {@link #storageHash()}.
+     *
+     * <p>An account missing from the state trie verifies only if this record describes an
+     * empty account: zero nonce and balance, no code and empty storage.
+     *
+     * @param stateRoot the trusted state root, usually {@link sh.brane.core.model.BlockHeader#stateRoot()}
+     * @return this proof, for chaining
+     * @throws InvalidProofException if any proof is invalid or contradicts the reported fields
+     */
+    public AccountProof verify(final Hash stateRoot) {
+        Objects.requireNonNull(stateRoot, "stateRoot cannot be null");
+        final byte[] leaf = MerkleProof.verify(stateRoot, Keccak256.hash(address.toBytes()), nodes(accountProof));
+        if (leaf == null) {
+            if (nonce != 0
+                    || balance.signum() != 0
+                    || !codeHash.equals(EMPTY_CODE_HASH)
+                    || !storageHash.equals(MerklePatriciaTrie.EMPTY_ROOT)) {
+                throw new InvalidProofException(
+                        "Proof shows no account at " + address.value() + ", but the node reported one");
+            }
+        } else {
+            checkAccount(leaf);
+        }
+        for (final StorageProof slot : storageProof) {
+            slot.verify(storageHash);
+        }
+        return this;
+    }
+
+    /** Compares the proven {@code [nonce, balance, storageRoot, codeHash]} leaf with the reported fields. */
+    private void checkAccount(final byte[] leaf) {
+        final long provenNonce;
+        final BigInteger provenBalance;
+        final byte[] roots = new byte[2 * Keccak256.DIGEST_LENGTH];
+        try {
+            final RlpReader reader = RlpReader.of(leaf);
+            reader.enterList();
+            provenNonce = reader.readLong();
+            provenBalance = reader.readBigInteger();
+            reader.readFixed(Keccak256.DIGEST_LENGTH, roots, 0);
+            reader.readFixed(Keccak256.DIGEST_LENGTH, roots, Keccak256.DIGEST_LENGTH);
+            reader.exitList();
+            reader.requireEnd();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidProofException("Malformed account leaf for " + address.value(), e);
+        }
+        mismatch("nonce", provenNonce == nonce, provenNonce, nonce);
+        mismatch("balance", provenBalance.equals(balance), provenBalance, balance);
+        final Hash provenStorage = Hash.fromBytes(roots, 0);
+        mismatch("storageHash", provenStorage.equals(storageHash), provenStorage.value(), storageHash.value());
+        final Hash provenCode = Hash.fromBytes(roots, Keccak256.DIGEST_LENGTH);
+        mismatch("codeHash", provenCode.equals(codeHash), provenCode.value(), codeHash.value());
+    }
+
+    private void mismatch(final String field, final boolean equal, final Object proven, final Object reported) {
+        if (!equal) {
+            throw new InvalidProofException(String.format(
+                    "Account %s %s: proof shows %s, node reported %s", address.value(), field, proven, reported));
+        }
+    }
+
+    static List<byte[]> nodes(final List<HexData> proof) {
+        return proof.stream().map(HexData::toBytes).toList();
+    }
+}
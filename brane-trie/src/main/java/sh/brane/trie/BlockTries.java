@@ -0,0 +1,158 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.trie;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.model.LogEntry;
+import sh.brane.core.model.TransactionReceipt;
+import sh.brane.core.types.Hash;
+import sh.brane.primitives.rlp.RlpWriter;
+
+/**
+ * Computes the per-block tries committed to in a block header: {@code transactionsRoot}
+ * and {@code receiptsRoot}.
+ *
+ * <p>Both are ordered tries over the consensus encodings of the block's items. Raw
+ * transactions are already in that form; receipts are rebuilt from
+ * {@link TransactionReceipt} with {@link #encodeReceipt(int, TransactionReceipt)}.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * BlockWithReceipts block = client.getBlockWithReceipts(number);
+ * List<byte[]> receipts = new ArrayList<>();
+ * for (int i = 0; i < block.receipts().size(); i++) {
+ *     receipts.add(BlockTries.encodeReceipt(types[i], block.receipts().get(i)));
+ * }
+ * boolean valid = BlockTries.receiptsRoot(receipts).equals(block.header().receiptsRoot());
+ * }</pre>
+ *
+ * @since 0.3.0
+ */
+public final class BlockTries {
+
+    /** Size of a logs bloom filter in bytes. */
+    public static final int BLOOM_LENGTH = 256;
+
+    private static final int ADDRESS_LENGTH = 20;
+    private static final int LEGACY_TYPE = 0;
+    private static final int MAX_TYPE = 0x7f;
+
+    private BlockTries() {
+        // Utility class
+    }
+
+    /**
+     * Computes a block's transactions root.
+     *
+     * @param encodedTransactions the raw signed transactions, in block order (typed
+     *                            transactions include their type byte)
+     * @return the transactions root
+     */
+    public static Hash transactionsRoot(final List<byte[]> encodedTransactions) {
+        return MerklePatriciaTrie.orderedRoot(encodedTransactions);
+    }
+
+    /**
+     * Computes a block's receipts root.
+     *
+     * @param encodedReceipts the consensus-encoded receipts, in block order
+     * @return the receipts root
+     * @see #encodeReceipt(int, TransactionReceipt)
+     */
+    public static Hash receiptsRoot(final List<byte[]> encodedReceipts) {
+        return MerklePatriciaTrie.orderedRoot(encodedReceipts);
+    }
+
+    /**
+     * Encodes a receipt as it is stored in the receipts trie:
+     * {@code rlp([status, cumulativeGasUsed, logsBloom, logs])}, prefixed with the
+     * transaction type for typed (EIP-2718) transactions.
+     *
+     * @param type    the transaction type, {@code 0} for legacy transactions
+     * @param receipt the receipt
+     * @return the consensus encoding
+     * @throws IllegalArgumentException if {@code type} is not a valid transaction type
+     */
+    public static byte[] encodeReceipt(final int type, final TransactionReceipt receipt) {
+        Objects.requireNonNull(receipt, "receipt cannot be null");
+        if (type < LEGACY_TYPE || type > MAX_TYPE) {
+            throw new IllegalArgumentException("Invalid transaction type: " + type);
+        }
+        final List<LogEntry> logs = receipt.logs();
+        final byte[][] data = new byte[logs.size()][];
+        int logsPayload = 0;
+        for (int i = 0; i < logs.size(); i++) {
+            data[i] = logs.get(i).data().toBytes();
+            logsPayload += RlpWriter.sizeOfList(logPayload(logs.get(i), data[i]));
+        }
+        final byte[] bloom = logsBloom(logs);
+        final int payload = 1
+                + RlpWriter.sizeOfBigInteger(receipt.cumulativeGasUsed().value())
+                + RlpWriter.sizeOfString(bloom)
+                + RlpWriter.sizeOfList(logsPayload);
+
+        final int prefix = type == LEGACY_TYPE ? 0 : 1;
+        final byte[] out = new byte[prefix + RlpWriter.sizeOfList(payload)];
+        if (prefix == 1) {
+            out[0] = (byte) type;
+        }
+        final RlpWriter writer = RlpWriter.to(out, prefix)
+                .writeListHeader(payload)
+                .writeLong(receipt.status() ? 1 : 0)
+                .writeBigInteger(receipt.cumulativeGasUsed().value())
+                .writeString(bloom)
+                .writeListHeader(logsPayload);
+        for (int i = 0; i < logs.size(); i++) {
+            final LogEntry log = logs.get(i);
+            writer.writeListHeader(logPayload(log, data[i]))
+                    .writeString(log.address().toBytes())
+                    .writeListHeader(log.topics().size() * (1 + Keccak256.DIGEST_LENGTH));
+            for (final Hash topic : log.topics()) {
+                writer.writeString(topic.toBytes());
+            }
+            writer.writeString(data[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Computes the 2048-bit bloom filter over the addresses and topics of a set of logs.
+     *
+     * @param logs the logs
+     * @return the {@value #BLOOM_LENGTH}-byte bloom
+     */
+    public static byte[] logsBloom(final List<LogEntry> logs) {
+        Objects.requireNonNull(logs, "logs cannot be null");
+        final byte[] bloom = new byte[BLOOM_LENGTH];
+        final byte[] hash = new byte[Keccak256.DIGEST_LENGTH];
+        final byte[] word = new byte[Keccak256.DIGEST_LENGTH];
+        final ByteBuffer buffer = ByteBuffer.wrap(word);
+        for (final LogEntry log : logs) {
+            log.address().putTo(buffer.clear());
+            addToBloom(bloom, word, ADDRESS_LENGTH, hash);
+            for (final Hash topic : log.topics()) {
+                topic.putTo(buffer.clear());
+                addToBloom(bloom, word, Keccak256.DIGEST_LENGTH, hash);
+            }
+        }
+        return bloom;
+    }
+
+    /** Sets the three bits selected by the low 11 bits of each of the first three hash byte pairs. */
+    private static void addToBloom(final byte[] bloom, final byte[] input, final int length, final byte[] hash) {
+        Keccak256.hash(input, 0, length, hash, 0);
+        for (int i = 0; i < 6; i += 2) {
+            final int bit = (((hash[i] & 0xFF) << 8) | (hash[i + 1] & 0xFF)) & 0x7FF;
+            bloom[BLOOM_LENGTH - 1 - (bit >>> 3)] |= (byte) (1 << (bit & 7));
+        }
+    }
+
+    private static int logPayload(final LogEntry log, final byte[] data) {
+        return 1 + ADDRESS_LENGTH
+                + RlpWriter.sizeOfList(log.topics().size() * (1 + Keccak256.DIGEST_LENGTH))
+                + RlpWriter.sizeOfString(data);
+    }
+}
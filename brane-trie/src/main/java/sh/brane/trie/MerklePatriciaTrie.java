@@ -0,0 +1,489 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.trie;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.types.Hash;
+import sh.brane.primitives.rlp.RlpWriter;
+
+/**
+ * In-memory Merkle-Patricia trie, as used by Ethereum for state, storage, transaction and
+ * receipt roots.
+ *
+ * <p>Nodes are held as a tree of objects rather than in a hash-keyed database. Every node
+ * caches its RLP encoding and hash; an update clears only the caches on the path from the
+ * root to the changed key, so {@link #rootHash()} after a small change re-hashes a handful
+ * of nodes instead of the whole trie.
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * MerklePatriciaTrie trie = new MerklePatriciaTrie();
+ * trie.put(key, value);
+ * Hash root = trie.rootHash();
+ *
+ * List<byte[]> proof = trie.prove(key);
+ * byte[] proven = MerkleProof.verify(root, key, proof);   // equals value
+ *
+ * // Root of an ordered list, keyed by rlp(index)
+ * Hash transactionsRoot = MerklePatriciaTrie.orderedRoot(rawTransactions);
+ * }</pre>
+ *
+ * <p>Keys and values are not copied; they must not be modified after insertion. As in
+ * Ethereum, storing an empty value removes the key.
+ *
+ * <p>Instances are not thread-safe.
+ *
+ * @see MerkleProof
+ * @since 0.3.0
+ */
+public final class MerklePatriciaTrie {
+
+    /** Root hash of an empty trie: {@code keccak256(rlp(""))}. */
+    public static final Hash EMPTY_ROOT =
+            new Hash("0x56e81f171bcc55a6ff8345e692c0f86e5b48e01b996cadc001622fb5e363b421");
+
+    /** Encoded nodes shorter than this are embedded in their parent instead of hashed. */
+    static final int MAX_EMBEDDED_LENGTH = 31;
+
+    private static final int EMPTY_STRING = 0x80;
+    private static final int BRANCH_WIDTH = 16;
+
+    private Node root;
+    private int size;
+
+    // Set by insert/delete to report whether the key set changed
+    private boolean added;
+    private boolean removed;
+
+    /**
+     * Creates an empty trie.
+     */
+    public MerklePatriciaTrie() {
+    }
+
+    /**
+     * Computes the root of a trie mapping {@code rlp(i)} to {@code values.get(i)}, which is
+     * how a block's {@code transactionsRoot} and {@code receiptsRoot} are formed.
+     *
+     * @param values the encoded items, in order
+     * @return the root hash
+     */
+    public static Hash orderedRoot(final List<byte[]> values) {
+        Objects.requireNonNull(values, "values cannot be null");
+        final MerklePatriciaTrie trie = new MerklePatriciaTrie();
+        for (int i = 0; i < values.size(); i++) {
+            final byte[] key = new byte[RlpWriter.sizeOfLong(i)];
+            RlpWriter.to(key, 0).writeLong(i);
+            trie.put(key, values.get(i));
+        }
+        return trie.rootHash();
+    }
+
+    /**
+     * Returns the number of keys in the trie.
+     *
+     * @return the key count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the trie holds no keys.
+     *
+     * @return {@code true} if empty
+     */
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Looks up a key.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if the key is absent
+     */
+    public byte[] get(final byte[] key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        final byte[] path = Nibbles.of(key);
+        Node node = root;
+        int pos = 0;
+        while (node != null) {
+            switch (node) {
+                case Leaf leaf -> {
+                    return leaf.path.length == path.length - pos
+                                    && Nibbles.commonPrefix(leaf.path, path, pos) == leaf.path.length
+                            ? leaf.value
+                            : null;
+                }
+                case Extension extension -> {
+                    if (Nibbles.commonPrefix(extension.path, path, pos) != extension.path.length) {
+                        return null;
+                    }
+                    pos += extension.path.length;
+                    node = extension.child;
+                }
+                case Branch branch -> {
+                    if (pos == path.length) {
+                        return branch.value;
+                    }
+                    node = branch.children[path[pos++]];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stores a value under a key, replacing any previous value. An empty value removes the key.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public void put(final byte[] key, final byte[] value) {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(value, "value cannot be null");
+        if (value.length == 0) {
+            remove(key);
+            return;
+        }
+        added = false;
+        root = insert(root, Nibbles.of(key), 0, value);
+        if (added) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key
+     * @return {@code true} if the key was present
+     */
+    public boolean remove(final byte[] key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        removed = false;
+        root = delete(root, Nibbles.of(key), 0);
+        if (removed) {
+            size--;
+        }
+        return removed;
+    }
+
+    /**
+     * Returns the root hash, re-encoding only the nodes changed since the last call.
+     *
+     * @return the root hash, {@link #EMPTY_ROOT} for an empty trie
+     */
+    public Hash rootHash() {
+        if (root == null) {
+            return EMPTY_ROOT;
+        }
+        encode(root);
+        return Hash.fromBytes(hash(root));
+    }
+
+    /**
+     * Builds a proof for a key: the encoded nodes on the path from the root, omitting nodes
+     * embedded in their parent. The proof shows the key's value, or its absence, to anyone
+     * holding {@link #rootHash()}, and is the same shape as the proofs returned by
+     * {@code eth_getProof}.
+     *
+     * @param key the key
+     * @return the proof nodes, root first; empty for an empty trie
+     */
+    public List<byte[]> prove(final byte[] key) {
+        Objects.requireNonNull(key, "key cannot be null");
+        final List<byte[]> proof = new ArrayList<>();
+        if (root == null) {
+            return proof;
+        }
+        encode(root);
+        final byte[] path = Nibbles.of(key);
+        Node node = root;
+        int pos = 0;
+        while (node != null) {
+            if (node == root || node.encoded.length > MAX_EMBEDDED_LENGTH) {
+                proof.add(node.encoded.clone());
+            }
+            switch (node) {
+                case Leaf leaf -> node = null;
+                case Extension extension -> {
+                    if (Nibbles.commonPrefix(extension.path, path, pos) != extension.path.length) {
+                        node = null;
+                    } else {
+                        pos += extension.path.length;
+                        node = extension.child;
+                    }
+                }
+                case Branch branch -> node = pos == path.length ? null : branch.children[path[pos++]];
+            }
+        }
+        return proof;
+    }
+
+    // ==================== Updates ====================
+
+    private Node insert(final Node node, final byte[] path, final int pos, final byte[] value) {
+        if (node == null) {
+            added = true;
+            return new Leaf(slice(path, pos, path.length), value);
+        }
+        node.invalidate();
+        return switch (node) {
+            case Leaf leaf -> {
+                final int common = Nibbles.commonPrefix(leaf.path, path, pos);
+                if (common == leaf.path.length && pos + common == path.length) {
+                    leaf.value = value;
+                    yield leaf;
+                }
+                added = true;
+                final Branch branch = new Branch();
+                if (common == leaf.path.length) {
+                    branch.value = leaf.value;
+                } else {
+                    branch.children[leaf.path[common]] =
+                            new Leaf(slice(leaf.path, common + 1, leaf.path.length), leaf.value);
+                }
+                attach(branch, path, pos + common, value);
+                yield common == 0 ? branch : new Extension(slice(leaf.path, 0, common), branch);
+            }
+            case Extension extension -> {
+                final int common = Nibbles.commonPrefix(extension.path, path, pos);
+                if (common == extension.path.length) {
+                    extension.child = insert(extension.child, path, pos + common, value);
+                    yield extension;
+                }
+                added = true;
+                final Branch branch = new Branch();
+                branch.children[extension.path[common]] = common + 1 == extension.path.length
+                        ? extension.child
+                        : new Extension(slice(extension.path, common + 1, extension.path.length), extension.child);
+                attach(branch, path, pos + common, value);
+                yield common == 0 ? branch : new Extension(slice(extension.path, 0, common), branch);
+            }
+            case Branch branch -> {
+                if (pos == path.length) {
+                    added = branch.value == null;
+                    branch.value = value;
+                } else {
+                    branch.children[path[pos]] = insert(branch.children[path[pos]], path, pos + 1, value);
+                }
+                yield branch;
+            }
+        };
+    }
+
+    /** Places a new value in a freshly split branch, at the branch itself or in a new leaf. */
+    private static void attach(final Branch branch, final byte[] path, final int pos, final byte[] value) {
+        if (pos == path.length) {
+            branch.value = value;
+        } else {
+            branch.children[path[pos]] = new Leaf(slice(path, pos + 1, path.length), value);
+        }
+    }
+
+    private Node delete(final Node node, final byte[] path, final int pos) {
+        if (node == null) {
+            return null;
+        }
+        switch (node) {
+            case Leaf leaf -> {
+                if (leaf.path.length != path.length - pos
+                        || Nibbles.commonPrefix(leaf.path, path, pos) != leaf.path.length) {
+                    return leaf;
+                }
+                removed = true;
+                return null;
+            }
+            case Extension extension -> {
+                if (Nibbles.commonPrefix(extension.path, path, pos) != extension.path.length) {
+                    return extension;
+                }
+                final Node child = delete(extension.child, path, pos + extension.path.length);
+                if (!removed) {
+                    return extension;
+                }
+                return prefixed(extension.path, child);
+            }
+            case Branch branch -> {
+                if (pos == path.length) {
+                    if (branch.value == null) {
+                        return branch;
+                    }
+                    branch.value = null;
+                    removed = true;
+                } else {
+                    final int index = path[pos];
+                    final Node child = delete(branch.children[index], path, pos + 1);
+                    if (!removed) {
+                        return branch;
+                    }
+                    branch.children[index] = child;
+                }
+                branch.invalidate();
+                return collapse(branch);
+            }
+        }
+    }
+
+    /**
+     * Reduces a branch left with a single entry to a leaf or extension, keeping the trie in
+     * its canonical form.
+     */
+    private static Node collapse(final Branch branch) {
+        int only = -1;
+        for (int i = 0; i < BRANCH_WIDTH; i++) {
+            if (branch.children[i] != null) {
+                if (only >= 0 || branch.value != null) {
+                    return branch;
+                }
+                only = i;
+            }
+        }
+        if (only < 0) {
+            return branch.value == null ? null : new Leaf(new byte[0], branch.value);
+        }
+        return prefixed(new byte[] {(byte) only}, branch.children[only]);
+    }
+
+    /** Returns {@code child} reached through {@code prefix}, merging consecutive paths. */
+    private static Node prefixed(final byte[] prefix, final Node child) {
+        return switch (child) {
+            case null -> null;
+            case Leaf leaf -> new Leaf(concat(prefix, leaf.path), leaf.value);
+            case Extension extension -> new Extension(concat(prefix, extension.path), extension.child);
+            case Branch branch -> new Extension(prefix, branch);
+        };
+    }
+
+    // ==================== Encoding ====================
+
+    /** Returns the node's RLP encoding, computing it and any stale descendants if needed. */
+    private static byte[] encode(final Node node) {
+        if (node.encoded != null) {
+            return node.encoded;
+        }
+        final byte[] out = switch (node) {
+            case Leaf leaf -> {
+                final byte[] key = Nibbles.encode(leaf.path, 0, leaf.path.length, true);
+                final int payload = RlpWriter.sizeOfString(key) + RlpWriter.sizeOfString(leaf.value);
+                final byte[] bytes = new byte[RlpWriter.sizeOfList(payload)];
+                RlpWriter.to(bytes, 0).writeListHeader(payload).writeString(key).writeString(leaf.value);
+                yield bytes;
+            }
+            case Extension extension -> {
+                final byte[] key = Nibbles.encode(extension.path, 0, extension.path.length, false);
+                final int payload = RlpWriter.sizeOfString(key) + referenceSize(extension.child);
+                final byte[] bytes = new byte[RlpWriter.sizeOfList(payload)];
+                final RlpWriter writer = RlpWriter.to(bytes, 0).writeListHeader(payload).writeString(key);
+                writeReference(writer, extension.child);
+                yield bytes;
+            }
+            case Branch branch -> {
+                int payload = branch.value == null ? 1 : RlpWriter.sizeOfString(branch.value);
+                for (final Node child : branch.children) {
+                    payload += child == null ? 1 : referenceSize(child);
+                }
+                final byte[] bytes = new byte[RlpWriter.sizeOfList(payload)];
+                final RlpWriter writer = RlpWriter.to(bytes, 0).writeListHeader(payload);
+                for (final Node child : branch.children) {
+                    if (child == null) {
+                        writer.writeRaw(EMPTY_STRING);
+                    } else {
+                        writeReference(writer, child);
+                    }
+                }
+                if (branch.value == null) {
+                    writer.writeRaw(EMPTY_STRING);
+                } else {
+                    writer.writeString(branch.value);
+                }
+                yield bytes;
+            }
+        };
+        node.encoded = out;
+        return out;
+    }
+
+    private static int referenceSize(final Node child) {
+        final int length = encode(child).length;
+        return length > MAX_EMBEDDED_LENGTH ? 1 + Keccak256.DIGEST_LENGTH : length;
+    }
+
+    /** Writes a child reference: the child's encoding if short, otherwise its hash. */
+    private static void writeReference(final RlpWriter writer, final Node child) {
+        final byte[] encoded = child.encoded;
+        if (encoded.length > MAX_EMBEDDED_LENGTH) {
+            writer.writeString(hash(child));
+        } else {
+            for (final byte b : encoded) {
+                writer.writeRaw(b);
+            }
+        }
+    }
+
+    private static byte[] hash(final Node node) {
+        byte[] hash = node.hash;
+        if (hash == null) {
+            hash = Keccak256.hash(node.encoded);
+            node.hash = hash;
+        }
+        return hash;
+    }
+
+    private static byte[] slice(final byte[] path, final int from, final int to) {
+        final byte[] out = new byte[to - from];
+        System.arraycopy(path, from, out, 0, out.length);
+        return out;
+    }
+
+    private static byte[] concat(final byte[] a, final byte[] b) {
+        final byte[] out = new byte[a.length + b.length];
+        System.arraycopy(a, 0, out, 0, a.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
+
+    // ==================== Nodes ====================
+
+    private abstract static sealed class Node permits Leaf, Extension, Branch {
+        /** Cached RLP encoding, or {@code null} when stale. */
+        byte[] encoded;
+        /** Cached keccak256 of {@link #encoded}, or {@code null} when stale. */
+        byte[] hash;
+
+        final void invalidate() {
+            encoded = null;
+            hash = null;
+        }
+    }
+
+    private static final class Leaf extends Node {
+        final byte[] path;
+        byte[] value;
+
+        Leaf(final byte[] path, final byte[] value) {
+            this.path = path;
+            this.value = value;
+        }
+    }
+
+    private static final class Extension extends Node {
+        final byte[] path;
+        Node child;
+
+        Extension(final byte[] path, final Node child) {
+            this.path = path;
+            this.child = child;
+        }
+    }
+
+    private static final class Branch extends Node {
+        final Node[] children = new Node[BRANCH_WIDTH];
+        byte[] value;
+    }
+}
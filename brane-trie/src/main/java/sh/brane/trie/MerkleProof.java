@@ -0,0 +1,152 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.trie;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.error.InvalidProofException;
+import sh.brane.core.types.Hash;
+import sh.brane.primitives.rlp.RlpReader;
+
+/**
+ * Verifies Merkle-Patricia inclusion and exclusion proofs.
+ *
+ * <p>A proof is the list of encoded trie nodes on the path to a key, as produced by
+ * {@link MerklePatriciaTrie#prove(byte[])} or returned by {@code eth_getProof}. Verification
+ * walks the path from the trusted root, resolving each hash reference against the proof
+ * nodes, and either reaches the key's value or shows that the key is not in the trie.
+ *
+ * <p>Nodes are decoded in place with {@link RlpReader}; only the returned value is copied.
+ *
+ * @see MerklePatriciaTrie
+ * @since 0.3.0
+ */
+public final class MerkleProof {
+
+    private static final int BRANCH_ITEMS = 17;
+    private static final int SHORT_ITEMS = 2;
+
+    private MerkleProof() {
+        // Utility class
+    }
+
+    /**
+     * Verifies a proof for a key against a trusted root.
+     *
+     * @param root  the trusted trie root
+     * @param key   the key, as stored in the trie (already hashed for secure tries)
+     * @param proof the proof nodes, in any order
+     * @return the value stored under {@code key}, or {@code null} if the proof shows the key is absent
+     * @throws InvalidProofException if a node on the path is missing from the proof or malformed
+     */
+    public static byte[] verify(final Hash root, final byte[] key, final List<byte[]> proof) {
+        Objects.requireNonNull(root, "root cannot be null");
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(proof, "proof cannot be null");
+        if (root.equals(MerklePatriciaTrie.EMPTY_ROOT)) {
+            return null;
+        }
+        final Map<Hash, byte[]> nodes = new HashMap<>(proof.size() * 2);
+        for (final byte[] node : proof) {
+            nodes.put(Hash.fromBytes(Keccak256.hash(node)), node);
+        }
+        try {
+            return walk(root, Nibbles.of(key), nodes);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidProofException("Malformed proof node: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] walk(final Hash root, final byte[] path, final Map<Hash, byte[]> nodes) {
+        final int[] offsets = new int[BRANCH_ITEMS];
+        final int[] lengths = new int[BRANCH_ITEMS];
+        final boolean[] lists = new boolean[BRANCH_ITEMS];
+
+        byte[] data = resolve(nodes, root);
+        int offset = 0;
+        int length = data.length;
+        int pos = 0;
+        while (true) {
+            final RlpReader reader = RlpReader.of(data, offset, length);
+            reader.enterList();
+            int count = 0;
+            while (reader.hasNext()) {
+                if (count == BRANCH_ITEMS) {
+                    throw new InvalidProofException("Trie node has more than 17 items");
+                }
+                lists[count] = reader.isNextList();
+                reader.skip();
+                // Strings are kept as payloads, embedded nodes as whole items
+                offsets[count] = lists[count] ? reader.itemOffset() : reader.payloadOffset();
+                lengths[count] = lists[count] ? reader.itemLength() : reader.payloadLength();
+                count++;
+            }
+            reader.exitList();
+            reader.requireEnd();
+
+            final int child;
+            if (count == BRANCH_ITEMS) {
+                if (pos == path.length) {
+                    requireString(lists, BRANCH_ITEMS - 1);
+                    return lengths[BRANCH_ITEMS - 1] == 0 ? null : copy(data, offsets, lengths, BRANCH_ITEMS - 1);
+                }
+                child = path[pos++];
+            } else if (count == SHORT_ITEMS) {
+                requireString(lists, 0);
+                final int pathLength = Nibbles.pathLength(data, offsets[0], lengths[0]);
+                final boolean leaf = Nibbles.isLeaf(data, offsets[0], lengths[0]);
+                final boolean matches = pathLength <= path.length - pos
+                        && Nibbles.matches(data, offsets[0], lengths[0], path, pos);
+                if (leaf) {
+                    requireString(lists, 1);
+                    return matches && pos + pathLength == path.length ? copy(data, offsets, lengths, 1) : null;
+                }
+                if (!matches) {
+                    return null;
+                }
+                pos += pathLength;
+                child = 1;
+            } else {
+                throw new InvalidProofException("Trie node has " + count + " items, expected 2 or 17");
+            }
+
+            if (lists[child]) {
+                if (lengths[child] > MerklePatriciaTrie.MAX_EMBEDDED_LENGTH) {
+                    throw new InvalidProofException("Embedded trie node is " + lengths[child] + " bytes");
+                }
+                offset = offsets[child];
+                length = lengths[child];
+            } else if (lengths[child] == 0) {
+                return null;
+            } else if (lengths[child] == Keccak256.DIGEST_LENGTH) {
+                data = resolve(nodes, Hash.fromBytes(data, offsets[child]));
+                offset = 0;
+                length = data.length;
+            } else {
+                throw new InvalidProofException("Trie node reference is " + lengths[child] + " bytes");
+            }
+        }
+    }
+
+    private static byte[] resolve(final Map<Hash, byte[]> nodes, final Hash hash) {
+        final byte[] node = nodes.get(hash);
+        if (node == null) {
+            throw new InvalidProofException("Proof is missing node " + hash.value());
+        }
+        return node;
+    }
+
+    private static void requireString(final boolean[] lists, final int index) {
+        if (lists[index]) {
+            throw new InvalidProofException("Trie node item " + index + " must be a string");
+        }
+    }
+
+    private static byte[] copy(final byte[] data, final int[] offsets, final int[] lengths, final int index) {
+        return Arrays.copyOfRange(data, offsets[index], offsets[index] + lengths[index]);
+    }
+}
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.trie;
+
+/**
+ * Nibble paths and the hex-prefix encoding used for Merkle-Patricia node keys.
+ *
+ * <p>Paths are held one nibble per byte. Hex-prefix encoding packs a path back into bytes,
+ * with a leading flag nibble recording whether the node is a leaf and whether the path
+ * has an odd number of nibbles.
+ */
+final class Nibbles {
+
+    private static final int LEAF_FLAG = 2;
+    private static final int ODD_FLAG = 1;
+
+    private Nibbles() {
+        // Utility class
+    }
+
+    /**
+     * Expands a key into one nibble per byte, high nibble first.
+     */
+    static byte[] of(final byte[] key) {
+        final byte[] nibbles = new byte[key.length * 2];
+        for (int i = 0; i < key.length; i++) {
+            nibbles[2 * i] = (byte) ((key[i] >> 4) & 0x0F);
+            nibbles[2 * i + 1] = (byte) (key[i] & 0x0F);
+        }
+        return nibbles;
+    }
+
+    /**
+     * Returns the length of the common prefix of {@code path} and {@code key[from..]}.
+     */
+    static int commonPrefix(final byte[] path, final byte[] key, final int from) {
+        final int max = Math.min(path.length, key.length - from);
+        int i = 0;
+        while (i < max && path[i] == key[from + i]) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Hex-prefix encodes {@code nibbles[from..to)}.
+     */
+    static byte[] encode(final byte[] nibbles, final int from, final int to, final boolean leaf) {
+        final int length = to - from;
+        final int odd = length & 1;
+        final byte[] out = new byte[length / 2 + 1];
+        final int flag = (leaf ? LEAF_FLAG : 0) | odd;
+        int i = from;
+        if (odd == 1) {
+            out[0] = (byte) ((flag << 4) | nibbles[i++]);
+        } else {
+            out[0] = (byte) (flag << 4);
+        }
+        for (int j = 1; i < to; i += 2, j++) {
+            out[j] = (byte) ((nibbles[i] << 4) | nibbles[i + 1]);
+        }
+        return out;
+    }
+
+    /**
+     * Returns whether the hex-prefix encoded path at {@code encoded[offset..offset+length)}
+     * marks a leaf.
+     *
+     * @throws IllegalArgumentException if the encoding is empty or its flag is invalid
+     */
+    static boolean isLeaf(final byte[] encoded, final int offset, final int length) {
+        return (flag(encoded, offset, length) & LEAF_FLAG) != 0;
+    }
+
+    /**
+     * Returns the number of nibbles in a hex-prefix encoded path.
+     *
+     * @throws IllegalArgumentException if the encoding is empty or its flag is invalid
+     */
+    static int pathLength(final byte[] encoded, final int offset, final int length) {
+        final int odd = flag(encoded, offset, length) & ODD_FLAG;
+        return (length - 1) * 2 + odd;
+    }
+
+    /**
+     * Returns whether the hex-prefix encoded path matches {@code key[from..from+pathLength)}.
+     * The caller guarantees {@code key} has enough nibbles left.
+     */
+    static boolean matches(
+            final byte[] encoded, final int offset, final int length, final byte[] key, final int from) {
+        int k = from;
+        if ((encoded[offset] & 0x10) != 0 && key[k++] != (encoded[offset] & 0x0F)) {
+            return false;
+        }
+        for (int i = offset + 1, end = offset + length; i < end; i++) {
+            if (key[k++] != ((encoded[i] >> 4) & 0x0F) || key[k++] != (encoded[i] & 0x0F)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int flag(final byte[] encoded, final int offset, final int length) {
+        if (length == 0) {
+            throw new IllegalArgumentException("empty hex-prefix path");
+        }
+        final int flag = (encoded[offset] >> 4) & 0x0F;
+        if (flag > (LEAF_FLAG | ODD_FLAG) || ((flag & ODD_FLAG) == 0 && (encoded[offset] & 0x0F) != 0)) {
+            throw new IllegalArgumentException("invalid hex-prefix flag: " + flag);
+        }
+        return flag;
+    }
+}
@@ -0,0 +1,79 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.trie;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Objects;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.error.InvalidProofException;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.primitives.rlp.RlpReader;
+
+/**
+ * A storage slot value with its Merkle-Patricia proof against an account's storage root,
+ * as returned in the {@code storageProof} list of {@code eth_getProof}.
+ *
+ * @param key   the storage slot
+ * @param value the value the node reported for the slot
+ * @param proof the trie nodes from the storage root to the slot
+ * @since 0.3.0
+ */
+public record StorageProof(BigInteger key, BigInteger value, List<HexData> proof) {
+
+    private static final int WORD_LENGTH = 32;
+
+    /**
+     * Validates fields and makes a defensive copy of the proof.
+     *
+     * @throws NullPointerException     if any field is null
+     * @throws IllegalArgumentException if the key or value is not an unsigned 256-bit integer
+     */
+    public StorageProof {
+        Objects.requireNonNull(key, "key cannot be null");
+        Objects.requireNonNull(value, "value cannot be null");
+        Objects.requireNonNull(proof, "proof cannot be null");
+        requireWord(key, "key");
+        requireWord(value, "value");
+        proof = List.copyOf(proof);
+    }
+
+    /**
+     * Verifies the proof against a storage root and checks that it proves {@link #value()}.
+     *
+     * @param storageRoot the account's trusted storage root
+     * @throws InvalidProofException if the proof is invalid or proves a different value
+     */
+    public void verify(final Hash storageRoot) {
+        final byte[] slot = new byte[WORD_LENGTH];
+        final byte[] magnitude = key.toByteArray();
+        final int length = Math.min(magnitude.length, WORD_LENGTH);
+        System.arraycopy(magnitude, magnitude.length - length, slot, WORD_LENGTH - length, length);
+
+        final byte[] leaf = MerkleProof.verify(storageRoot, Keccak256.hash(slot), AccountProof.nodes(proof));
+        final BigInteger proven;
+        if (leaf == null) {
+            proven = BigInteger.ZERO;
+        } else {
+            try {
+                final RlpReader reader = RlpReader.of(leaf);
+                proven = reader.readBigInteger();
+                reader.requireEnd();
+            } catch (IllegalArgumentException e) {
+                throw new InvalidProofException("Malformed storage value for slot 0x" + key.toString(16), e);
+            }
+        }
+        if (!proven.equals(value)) {
+            throw new InvalidProofException(String.format(
+                    "Storage slot 0x%s: proof shows 0x%s, node reported 0x%s",
+                    key.toString(16), proven.toString(16), value.toString(16)));
+        }
+    }
+
+    private static void requireWord(final BigInteger value, final String name) {
+        if (value.signum() < 0 || value.bitLength() > 256) {
+            throw new IllegalArgumentException(name + " must be an unsigned 256-bit integer");
+        }
+    }
+}
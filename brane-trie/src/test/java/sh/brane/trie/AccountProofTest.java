@@ -0,0 +1,142 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.trie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.error.InvalidProofException;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.primitives.rlp.Rlp;
+import sh.brane.primitives.rlp.RlpItem;
+import sh.brane.primitives.rlp.RlpString;
+
+class AccountProofTest {
+
+    private static final Address ACCOUNT = new Address("0x" + "ab".repeat(20));
+    private static final Address OTHER = new Address("0x" + "cd".repeat(20));
+    private static final Address MISSING = new Address("0x" + "ef".repeat(20));
+    private static final Hash CODE_HASH = Hash.fromBytes(Keccak256.hash(new byte[] {0x60, 0x00}));
+    private static final BigInteger BALANCE = BigInteger.TEN.pow(20);
+
+    private final MerklePatriciaTrie storage = new MerklePatriciaTrie();
+    private final MerklePatriciaTrie state = new MerklePatriciaTrie();
+    private final Hash stateRoot;
+
+    AccountProofTest() {
+        for (int slot = 0; slot < 20; slot++) {
+            storage.put(slotKey(BigInteger.valueOf(slot)), Rlp.encode(RlpString.of(1000 + slot)));
+        }
+        state.put(accountKey(ACCOUNT), account(7, BALANCE, storage.rootHash(), CODE_HASH));
+        state.put(accountKey(OTHER), account(1, BigInteger.ONE, MerklePatriciaTrie.EMPTY_ROOT,
+                AccountProof.EMPTY_CODE_HASH));
+        stateRoot = state.rootHash();
+    }
+
+    @Test
+    void verifiesAccountAndStorage() {
+        final AccountProof proof = proof(ACCOUNT, 7, BALANCE, storage.rootHash(), CODE_HASH,
+                List.of(storageProof(3, 1003), storageProof(99, 0)));
+        assertSame(proof, proof.verify(stateRoot));
+    }
+
+    @Test
+    void rejectsMisreportedAccountFields() {
+        assertThrows(InvalidProofException.class, () -> proof(
+                ACCOUNT, 7, BALANCE.add(BigInteger.ONE), storage.rootHash(), CODE_HASH, List.of()).verify(stateRoot));
+        assertThrows(InvalidProofException.class, () -> proof(
+                ACCOUNT, 8, BALANCE, storage.rootHash(), CODE_HASH, List.of()).verify(stateRoot));
+        assertThrows(InvalidProofException.class, () -> proof(
+                ACCOUNT, 7, BALANCE, storage.rootHash(), AccountProof.EMPTY_CODE_HASH, List.of()).verify(stateRoot));
+    }
+
+    @Test
+    void rejectsMisreportedStorageValue() {
+        final AccountProof proof = proof(ACCOUNT, 7, BALANCE, storage.rootHash(), CODE_HASH,
+                List.of(storageProof(3, 1004)));
+        assertThrows(InvalidProofException.class, () -> proof.verify(stateRoot));
+
+        final AccountProof hidden = proof(ACCOUNT, 7, BALANCE, storage.rootHash(), CODE_HASH,
+                List.of(new StorageProof(BigInteger.valueOf(3), BigInteger.ZERO, List.of())));
+        assertThrows(InvalidProofException.class, () -> hidden.verify(stateRoot));
+    }
+
+    @Test
+    void missingAccountMustBeEmpty() {
+        proof(MISSING, 0, BigInteger.ZERO, MerklePatriciaTrie.EMPTY_ROOT, AccountProof.EMPTY_CODE_HASH, List.of())
+                .verify(stateRoot);
+
+        assertThrows(InvalidProofException.class, () -> proof(
+                MISSING, 0, BigInteger.ONE, MerklePatriciaTrie.EMPTY_ROOT, AccountProof.EMPTY_CODE_HASH, List.of())
+                .verify(stateRoot));
+    }
+
+    @Test
+    void verifiesAgainstHeaderOnly() {
+        final AccountProof proof = proof(OTHER, 1, BigInteger.ONE, MerklePatriciaTrie.EMPTY_ROOT,
+                AccountProof.EMPTY_CODE_HASH, List.of());
+        proof.verify(stateRoot);
+
+        state.put(accountKey(MISSING), account(1, BigInteger.ONE, MerklePatriciaTrie.EMPTY_ROOT,
+                AccountProof.EMPTY_CODE_HASH));
+        assertThrows(InvalidProofException.class, () -> proof.verify(state.rootHash()));
+    }
+
+    @Test
+    void validatesFields() {
+        assertThrows(IllegalArgumentException.class, () -> new StorageProof(
+                BigInteger.ONE.shiftLeft(256), BigInteger.ZERO, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> new StorageProof(
+                BigInteger.ONE, BigInteger.ONE.negate(), List.of()));
+        assertThrows(IllegalArgumentException.class, () -> proof(
+                ACCOUNT, -1, BALANCE, storage.rootHash(), CODE_HASH, List.of()));
+        assertThrows(NullPointerException.class, () -> proof(
+                ACCOUNT, 0, null, storage.rootHash(), CODE_HASH, List.of()));
+    }
+
+    private AccountProof proof(
+            final Address address,
+            final long nonce,
+            final BigInteger balance,
+            final Hash storageHash,
+            final Hash codeHash,
+            final List<StorageProof> slots) {
+        return new AccountProof(
+                address, balance, nonce, codeHash, storageHash, hex(state.prove(accountKey(address))), slots);
+    }
+
+    private StorageProof storageProof(final int slot, final int value) {
+        final BigInteger key = BigInteger.valueOf(slot);
+        return new StorageProof(key, BigInteger.valueOf(value), hex(storage.prove(slotKey(key))));
+    }
+
+    private static byte[] account(
+            final long nonce, final BigInteger balance, final Hash storageRoot, final Hash codeHash) {
+        return Rlp.encodeList(List.<RlpItem>of(
+                RlpString.of(nonce),
+                RlpString.of(balance),
+                RlpString.of(storageRoot.toBytes()),
+                RlpString.of(codeHash.toBytes())));
+    }
+
+    private static byte[] accountKey(final Address address) {
+        return Keccak256.hash(address.toBytes());
+    }
+
+    private static byte[] slotKey(final BigInteger slot) {
+        final byte[] word = new byte[32];
+        final byte[] magnitude = slot.toByteArray();
+        System.arraycopy(magnitude, 0, word, 32 - magnitude.length, magnitude.length);
+        return Keccak256.hash(word);
+    }
+
+    private static List<HexData> hex(final List<byte[]> nodes) {
+        return nodes.stream().map(HexData::fromBytes).toList();
+    }
+}
@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.trie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.model.LogEntry;
+import sh.brane.core.model.TransactionReceipt;
+import sh.brane.core.types.Address;
+import sh.brane.core.types.Hash;
+import sh.brane.core.types.HexData;
+import sh.brane.core.types.Wei;
+import sh.brane.primitives.rlp.Rlp;
+import sh.brane.primitives.rlp.RlpItem;
+import sh.brane.primitives.rlp.RlpList;
+import sh.brane.primitives.rlp.RlpString;
+
+class BlockTriesTest {
+
+    private static final Address EMITTER = new Address("0x" + "12".repeat(20));
+    private static final Hash TOPIC = new Hash("0x" + "34".repeat(32));
+    private static final Hash TX = new Hash("0x" + "56".repeat(32));
+
+    @Test
+    void emptyBlockHasEmptyRoots() {
+        assertEquals(MerklePatriciaTrie.EMPTY_ROOT, BlockTries.transactionsRoot(List.of()));
+        assertEquals(MerklePatriciaTrie.EMPTY_ROOT, BlockTries.receiptsRoot(List.of()));
+    }
+
+    @Test
+    void bloomSetsThreeBitsPerAddressAndTopic() {
+        final LogEntry log = log(HexData.EMPTY);
+        final BigInteger bloom = new BigInteger(1, BlockTries.logsBloom(List.of(log)));
+
+        BigInteger expected = BigInteger.ZERO;
+        for (final byte[] item : List.of(EMITTER.toBytes(), TOPIC.toBytes())) {
+            final byte[] hash = Keccak256.hash(item);
+            for (int i = 0; i < 6; i += 2) {
+                expected = expected.setBit(((hash[i] & 0xFF) << 8 | (hash[i + 1] & 0xFF)) % 2048);
+            }
+        }
+        assertEquals(expected, bloom);
+        assertArrayEquals(new byte[BlockTries.BLOOM_LENGTH], BlockTries.logsBloom(List.of()));
+    }
+
+    @Test
+    void encodesLegacyReceipt() {
+        final TransactionReceipt receipt = receipt(true, List.of(log(new HexData("0xcafe"))));
+
+        final RlpList decoded = (RlpList) Rlp.decode(BlockTries.encodeReceipt(0, receipt));
+
+        final List<RlpItem> fields = decoded.items();
+        assertEquals(BigInteger.ONE, ((RlpString) fields.get(0)).asBigInteger());
+        assertEquals(BigInteger.valueOf(21_000), ((RlpString) fields.get(1)).asBigInteger());
+        assertArrayEquals(BlockTries.logsBloom(receipt.logs()), ((RlpString) fields.get(2)).bytes());
+        final RlpList entry = (RlpList) ((RlpList) fields.get(3)).items().get(0);
+        assertArrayEquals(EMITTER.toBytes(), ((RlpString) entry.items().get(0)).bytes());
+        assertArrayEquals(TOPIC.toBytes(), ((RlpString) ((RlpList) entry.items().get(1)).items().get(0)).bytes());
+        assertArrayEquals(new byte[] {(byte) 0xca, (byte) 0xfe}, ((RlpString) entry.items().get(2)).bytes());
+    }
+
+    @Test
+    void typedReceiptIsPrefixedWithType() {
+        final TransactionReceipt receipt = receipt(false, List.of());
+
+        final byte[] legacy = BlockTries.encodeReceipt(0, receipt);
+        final byte[] typed = BlockTries.encodeReceipt(2, receipt);
+
+        assertEquals(2, typed[0]);
+        assertArrayEquals(legacy, Arrays.copyOfRange(typed, 1, typed.length));
+        assertEquals(0, ((RlpString) ((RlpList) Rlp.decode(legacy)).items().get(0)).bytes().length);
+        assertThrows(IllegalArgumentException.class, () -> BlockTries.encodeReceipt(0x80, receipt));
+    }
+
+    @Test
+    void receiptsRootIsOrderedTrieOfEncodings() {
+        final List<byte[]> encoded = List.of(
+                BlockTries.encodeReceipt(2, receipt(true, List.of(log(HexData.EMPTY)))),
+                BlockTries.encodeReceipt(0, receipt(false, List.of())));
+        assertEquals(MerklePatriciaTrie.orderedRoot(encoded), BlockTries.receiptsRoot(encoded));
+    }
+
+    private static LogEntry log(final HexData data) {
+        return new LogEntry(EMITTER, data, List.of(TOPIC), null, TX, 0, false);
+    }
+
+    private static TransactionReceipt receipt(final boolean status, final List<LogEntry> logs) {
+        return new TransactionReceipt(TX, TX, 1, EMITTER, EMITTER, null, logs, status, Wei.of(21_000));
+    }
+}
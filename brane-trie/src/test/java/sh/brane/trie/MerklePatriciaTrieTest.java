@@ -0,0 +1,224 @@
+// SPDX-License-Identifier: MIT OR Apache-2.0
+package sh.brane.trie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import sh.brane.core.crypto.Keccak256;
+import sh.brane.core.error.InvalidProofException;
+import sh.brane.core.types.Hash;
+import sh.brane.primitives.rlp.Rlp;
+import sh.brane.primitives.rlp.RlpString;
+
+class MerklePatriciaTrieTest {
+
+    @Test
+    void emptyTrieHasEmptyRoot() {
+        final MerklePatriciaTrie trie = new MerklePatriciaTrie();
+        assertEquals(MerklePatriciaTrie.EMPTY_ROOT, trie.rootHash());
+        assertEquals(Hash.fromBytes(Keccak256.hash(Rlp.encodeString(new byte[0]))), MerklePatriciaTrie.EMPTY_ROOT);
+        assertTrue(trie.isEmpty());
+        assertTrue(trie.prove(bytes("dog")).isEmpty());
+    }
+
+    // Vectors from ethereum/tests TrieTests/trieanyorder.json
+    @Test
+    void matchesReferenceRoots() {
+        assertRoot("0x8aad789dff2f538bca5d8ea56e8abe10f4c7ba3a5dea95fea4cd6e7c3a1168d3",
+                "doe", "reindeer", "dog", "puppy", "dogglesworth", "cat");
+        assertRoot("0x5991bb8c6514148a29db676a14ac506cd2cd5775ace63c30a4fe457715e9ac84",
+                "do", "verb", "horse", "stallion", "doge", "coin", "dog", "puppy");
+        assertRoot("0x17beaa1648bafa633cda809c90c04af50fc8aed3cb40d16efbddee6fdf63c4c3",
+                "foo", "bar", "food", "bass");
+        assertRoot("0x3f67c7a47520f79faa29255d2d3c084a7a6df0453116ed7232ff10277a8be68b",
+                "be", "e", "dog", "puppy", "bed", "d");
+        assertRoot("0x8452568af70d8d140f58d941338542f645fcca50094b20f3c3d8c3df49337928",
+                "test", "test", "te", "testy");
+    }
+
+    @Test
+    void getReturnsStoredValues() {
+        final MerklePatriciaTrie trie = trie("doe", "reindeer", "dog", "puppy", "dogglesworth", "cat");
+        assertArrayEquals(bytes("puppy"), trie.get(bytes("dog")));
+        assertArrayEquals(bytes("cat"), trie.get(bytes("dogglesworth")));
+        assertNull(trie.get(bytes("do")));
+        assertNull(trie.get(bytes("dogs")));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    void rootIsIndependentOfInsertionOrder() {
+        final List<byte[]> keys = randomKeys(500, 1);
+        final MerklePatriciaTrie forward = new MerklePatriciaTrie();
+        keys.forEach(key -> forward.put(key, value(key)));
+
+        final List<byte[]> shuffled = new ArrayList<>(keys);
+        Collections.shuffle(shuffled, new Random(2));
+        final MerklePatriciaTrie backward = new MerklePatriciaTrie();
+        shuffled.forEach(key -> backward.put(key, value(key)));
+
+        assertEquals(forward.rootHash(), backward.rootHash());
+        assertEquals(500, backward.size());
+    }
+
+    @Test
+    void incrementalRootMatchesRebuild() {
+        final List<byte[]> keys = randomKeys(300, 3);
+        final MerklePatriciaTrie trie = new MerklePatriciaTrie();
+        keys.forEach(key -> trie.put(key, value(key)));
+        trie.rootHash();
+
+        // Overwrite some values, remove others, after the caches are populated
+        final MerklePatriciaTrie rebuilt = new MerklePatriciaTrie();
+        for (int i = 0; i < keys.size(); i++) {
+            final byte[] key = keys.get(i);
+            if (i % 3 == 0) {
+                assertTrue(trie.remove(key));
+            } else if (i % 3 == 1) {
+                trie.put(key, bytes("updated"));
+                rebuilt.put(key, bytes("updated"));
+            } else {
+                rebuilt.put(key, value(key));
+            }
+        }
+
+        assertEquals(rebuilt.rootHash(), trie.rootHash());
+        assertEquals(rebuilt.size(), trie.size());
+    }
+
+    @Test
+    void removingEveryKeyRestoresEmptyRoot() {
+        final List<byte[]> keys = randomKeys(200, 4);
+        final MerklePatriciaTrie trie = new MerklePatriciaTrie();
+        keys.forEach(key -> trie.put(key, value(key)));
+        for (final byte[] key : keys) {
+            assertTrue(trie.remove(key));
+        }
+        assertFalse(trie.remove(keys.get(0)));
+        assertEquals(MerklePatriciaTrie.EMPTY_ROOT, trie.rootHash());
+        assertEquals(0, trie.size());
+    }
+
+    @Test
+    void emptyValueRemovesKey() {
+        final MerklePatriciaTrie trie = trie("foo", "bar", "food", "bass");
+        trie.put(bytes("food"), new byte[0]);
+        assertEquals(trie("foo", "bar").rootHash(), trie.rootHash());
+    }
+
+    @Test
+    void removingPrefixKeyCollapsesBranch() {
+        final MerklePatriciaTrie trie = trie("test", "test", "te", "testy", "tester", "x");
+        trie.remove(bytes("te"));
+        trie.remove(bytes("tester"));
+        assertEquals(trie("test", "test").rootHash(), trie.rootHash());
+    }
+
+    @Test
+    void orderedRootUsesRlpIndexKeys() {
+        final List<byte[]> values = new ArrayList<>();
+        final MerklePatriciaTrie expected = new MerklePatriciaTrie();
+        for (int i = 0; i < 300; i++) {
+            values.add(bytes("item-" + i));
+            expected.put(Rlp.encode(RlpString.of(i)), values.get(i));
+        }
+        assertEquals(expected.rootHash(), MerklePatriciaTrie.orderedRoot(values));
+        assertEquals(MerklePatriciaTrie.EMPTY_ROOT, MerklePatriciaTrie.orderedRoot(List.of()));
+    }
+
+    @Test
+    void proofsVerifyInclusionAndExclusion() {
+        final List<byte[]> keys = randomKeys(400, 5);
+        final MerklePatriciaTrie trie = new MerklePatriciaTrie();
+        keys.forEach(key -> trie.put(key, value(key)));
+        final Hash root = trie.rootHash();
+
+        for (final byte[] key : keys) {
+            assertArrayEquals(value(key), MerkleProof.verify(root, key, trie.prove(key)));
+        }
+        for (final byte[] key : randomKeys(50, 6)) {
+            assertNull(MerkleProof.verify(root, key, trie.prove(key)));
+        }
+    }
+
+    @Test
+    void proofsCoverEmbeddedNodesAndPrefixKeys() {
+        final MerklePatriciaTrie trie = trie("be", "e", "dog", "puppy", "bed", "d");
+        final Hash root = trie.rootHash();
+        assertArrayEquals(bytes("e"), MerkleProof.verify(root, bytes("be"), trie.prove(bytes("be"))));
+        assertArrayEquals(bytes("d"), MerkleProof.verify(root, bytes("bed"), trie.prove(bytes("bed"))));
+        assertNull(MerkleProof.verify(root, bytes("b"), trie.prove(bytes("b"))));
+        assertNull(MerkleProof.verify(root, bytes("beds"), trie.prove(bytes("beds"))));
+    }
+
+    @Test
+    void proofAgainstWrongRootOrWithMissingNodeFails() {
+        final List<byte[]> keys = randomKeys(100, 7);
+        final MerklePatriciaTrie trie = new MerklePatriciaTrie();
+        keys.forEach(key -> trie.put(key, value(key)));
+        final byte[] key = keys.get(0);
+        final List<byte[]> proof = trie.prove(key);
+        final Hash root = trie.rootHash();
+
+        trie.put(key, bytes("changed"));
+        assertThrows(InvalidProofException.class, () -> MerkleProof.verify(trie.rootHash(), key, proof));
+        assertThrows(InvalidProofException.class, () -> MerkleProof.verify(root, key, proof.subList(0, 1)));
+    }
+
+    @Test
+    void tamperedNodeIsNotAccepted() {
+        final MerklePatriciaTrie trie = trie("doe", "reindeer", "dog", "puppy", "dogglesworth", "cat");
+        final Hash root = trie.rootHash();
+        final List<byte[]> proof = new ArrayList<>(trie.prove(bytes("dog")));
+        final byte[] last = proof.get(proof.size() - 1).clone();
+        last[last.length - 1] ^= 1;
+        proof.set(proof.size() - 1, last);
+
+        assertThrows(InvalidProofException.class, () -> MerkleProof.verify(root, bytes("dog"), proof));
+    }
+
+    @Test
+    void malformedNodeIsReported() {
+        final byte[] garbage = {(byte) 0xc3, 0x01, 0x02};
+        final Hash root = Hash.fromBytes(Keccak256.hash(garbage));
+        assertThrows(InvalidProofException.class, () -> MerkleProof.verify(root, bytes("a"), List.of(garbage)));
+    }
+
+    private static void assertRoot(final String expected, final String... pairs) {
+        assertEquals(new Hash(expected), trie(pairs).rootHash());
+    }
+
+    private static MerklePatriciaTrie trie(final String... pairs) {
+        final MerklePatriciaTrie trie = new MerklePatriciaTrie();
+        for (int i = 0; i < pairs.length; i += 2) {
+            trie.put(bytes(pairs[i]), bytes(pairs[i + 1]));
+        }
+        return trie;
+    }
+
+    private static List<byte[]> randomKeys(final int count, final long seed) {
+        final Random random = new Random(seed);
+        final List<byte[]> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final byte[] key = new byte[32];
+            random.nextBytes(key);
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    private static byte[] value(final byte[] key) {
+        return Keccak256.hash(key);
+    }
+
+    private static byte[] bytes(final String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
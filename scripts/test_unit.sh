@@ -14,6 +14,8 @@ echo "🧪 [Level 1] Running Unit Tests..."
 ./gradlew \
     :brane-primitives:test \
     :brane-core:test \
+    :brane-trie:test \
+    :brane-evm:test \
     :brane-rpc:test \
     :brane-contract:test \
     -Pbrane.unit.tests=true \
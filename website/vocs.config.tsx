@@ -74,6 +74,8 @@ export default defineConfig({
         items: [
           { text: 'Reader API', link: '/docs/reader/api' },
           { text: 'Call Simulation', link: '/docs/reader/simulate' },
+          { text: 'Local Execution', link: '/docs/reader/local-evm' },
+          { text: 'Log Store', link: '/docs/reader/log-store' },
           { text: 'Subscriptions', link: '/docs/reader/subscriptions' },
         ],
       },
@@ -115,6 +117,7 @@ export default defineConfig({
         items: [
           { text: 'Type-Safe Primitives', link: '/docs/utilities/types' },
           { text: 'ABI Encoding', link: '/docs/utilities/abi' },
+          { text: 'Merkle-Patricia Tries', link: '/docs/utilities/tries' },
           { text: 'Error Handling', link: '/docs/utilities/errors' },
           { text: 'Threading Model', link: '/docs/utilities/threading' },
           { text: 'Metrics & Observability', link: '/docs/utilities/metrics' },
@@ -128,6 +131,7 @@ export default defineConfig({
           { text: 'Test Accounts', link: '/docs/testing/accounts' },
           { text: 'Impersonation', link: '/docs/testing/impersonation' },
           { text: 'State Management', link: '/docs/testing/state' },
+          { text: 'Parallel Tests', link: '/docs/testing/parallel' },
           { text: 'Mining & Time Control', link: '/docs/testing/mining-time' },
         ],
       },